@@ -0,0 +1,302 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.benchmark;
+
+import java.util.regex.Pattern;
+
+import ru.d_shap.conditionalvalues.Predicate;
+import ru.d_shap.conditionalvalues.predicate.EqualsPredicate;
+import ru.d_shap.conditionalvalues.predicate.LogicalAndPredicate;
+import ru.d_shap.conditionalvalues.predicate.LogicalNotPredicate;
+import ru.d_shap.conditionalvalues.predicate.LogicalOrPredicate;
+import ru.d_shap.conditionalvalues.predicate.LogicalXorPredicate;
+import ru.d_shap.conditionalvalues.predicate.PatternFindPredicate;
+import ru.d_shap.conditionalvalues.predicate.PatternMatchesPredicate;
+import ru.d_shap.conditionalvalues.predicate.StringContainsIgnoreCasePredicate;
+import ru.d_shap.conditionalvalues.predicate.StringContainsPredicate;
+import ru.d_shap.conditionalvalues.predicate.StringEqualsIgnoreCasePredicate;
+import ru.d_shap.conditionalvalues.predicate.ValueSetFunction;
+import ru.d_shap.conditionalvalues.predicate.ValueSetFunctionPredicate;
+
+/**
+ * Predicates of the benchmarks. Every predicate creates the values of the value sets and the values of the
+ * condition sets, so the condition set value with the same number matches the value set value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public enum BenchmarkPredicate {
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.EqualsPredicate} predicate.
+     */
+    EQUALS {
+        @Override
+        Predicate createPredicate() {
+            return new EqualsPredicate();
+        }
+
+        @Override
+        Object createValueSetValue(final int number) {
+            return createString(number);
+        }
+
+        @Override
+        Object createConditionSetValue(final int number) {
+            return createString(number);
+        }
+    },
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.StringEqualsIgnoreCasePredicate} predicate.
+     */
+    STRING_EQUALS_IGNORE_CASE {
+        @Override
+        Predicate createPredicate() {
+            return new StringEqualsIgnoreCasePredicate();
+        }
+
+        @Override
+        Object createValueSetValue(final int number) {
+            return createUpperCaseString(number);
+        }
+
+        @Override
+        Object createConditionSetValue(final int number) {
+            return createString(number);
+        }
+    },
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.StringContainsPredicate} predicate.
+     */
+    STRING_CONTAINS {
+        @Override
+        Predicate createPredicate() {
+            return new StringContainsPredicate();
+        }
+
+        @Override
+        Object createValueSetValue(final int number) {
+            return createString(number);
+        }
+
+        @Override
+        Object createConditionSetValue(final int number) {
+            return createText(number);
+        }
+    },
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.StringContainsIgnoreCasePredicate} predicate.
+     */
+    STRING_CONTAINS_IGNORE_CASE {
+        @Override
+        Predicate createPredicate() {
+            return new StringContainsIgnoreCasePredicate();
+        }
+
+        @Override
+        Object createValueSetValue(final int number) {
+            return createUpperCaseString(number);
+        }
+
+        @Override
+        Object createConditionSetValue(final int number) {
+            return createText(number);
+        }
+    },
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.PatternMatchesPredicate} predicate.
+     */
+    PATTERN_MATCHES {
+        @Override
+        Predicate createPredicate() {
+            return new PatternMatchesPredicate();
+        }
+
+        @Override
+        Object createValueSetValue(final int number) {
+            return Pattern.compile(".*" + Pattern.quote(createString(number)) + ".*");
+        }
+
+        @Override
+        Object createConditionSetValue(final int number) {
+            return createText(number);
+        }
+    },
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.PatternFindPredicate} predicate.
+     */
+    PATTERN_FIND {
+        @Override
+        Predicate createPredicate() {
+            return new PatternFindPredicate();
+        }
+
+        @Override
+        Object createValueSetValue(final int number) {
+            return Pattern.compile(Pattern.quote(createString(number)));
+        }
+
+        @Override
+        Object createConditionSetValue(final int number) {
+            return createText(number);
+        }
+    },
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.LogicalAndPredicate} predicate.
+     */
+    LOGICAL_AND {
+        @Override
+        Predicate createPredicate() {
+            return new LogicalAndPredicate(new StringContainsPredicate(), new StringContainsIgnoreCasePredicate());
+        }
+
+        @Override
+        Object createValueSetValue(final int number) {
+            return createString(number);
+        }
+
+        @Override
+        Object createConditionSetValue(final int number) {
+            return createText(number);
+        }
+    },
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.LogicalOrPredicate} predicate.
+     */
+    LOGICAL_OR {
+        @Override
+        Predicate createPredicate() {
+            return new LogicalOrPredicate(new EqualsPredicate(), new StringContainsPredicate());
+        }
+
+        @Override
+        Object createValueSetValue(final int number) {
+            return createString(number);
+        }
+
+        @Override
+        Object createConditionSetValue(final int number) {
+            return createText(number);
+        }
+    },
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.LogicalXorPredicate} predicate.
+     */
+    LOGICAL_XOR {
+        @Override
+        Predicate createPredicate() {
+            return new LogicalXorPredicate(new EqualsPredicate(), new StringContainsPredicate());
+        }
+
+        @Override
+        Object createValueSetValue(final int number) {
+            return createString(number);
+        }
+
+        @Override
+        Object createConditionSetValue(final int number) {
+            return createText(number);
+        }
+    },
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.LogicalNotPredicate} predicate.
+     */
+    LOGICAL_NOT {
+        @Override
+        Predicate createPredicate() {
+            return new LogicalNotPredicate(new LogicalNotPredicate(new EqualsPredicate()));
+        }
+
+        @Override
+        Object createValueSetValue(final int number) {
+            return createString(number);
+        }
+
+        @Override
+        Object createConditionSetValue(final int number) {
+            return createString(number);
+        }
+    },
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.ValueSetFunctionPredicate} predicate.
+     */
+    VALUE_SET_FUNCTION {
+        @Override
+        Predicate createPredicate() {
+            return new ValueSetFunctionPredicate(new ToStringValueSetFunction(), new EqualsPredicate());
+        }
+
+        @Override
+        Object createValueSetValue(final int number) {
+            return number;
+        }
+
+        @Override
+        Object createConditionSetValue(final int number) {
+            return Integer.toString(number);
+        }
+    };
+
+    abstract Predicate createPredicate();
+
+    abstract Object createValueSetValue(int number);
+
+    abstract Object createConditionSetValue(int number);
+
+    static String createString(final int number) {
+        return "value" + number + "#";
+    }
+
+    static String createUpperCaseString(final int number) {
+        return "VALUE" + number + "#";
+    }
+
+    static String createText(final int number) {
+        return "some text " + createString(number) + " some text";
+    }
+
+    /**
+     * Value set function to convert the value set value to the string.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ToStringValueSetFunction implements ValueSetFunction {
+
+        ToStringValueSetFunction() {
+            super();
+        }
+
+        @Override
+        public Object apply(final Object valueSetValue) {
+            return String.valueOf(valueSetValue);
+        }
+
+    }
+
+}
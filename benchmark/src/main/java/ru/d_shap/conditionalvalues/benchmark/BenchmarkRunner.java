@@ -0,0 +1,74 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>
+ * Runner of the {@link ru.d_shap.conditionalvalues.benchmark.LookupBenchmark} benchmarks with the GC profiler.
+ * </p>
+ * <p>
+ * The benchmarks are run with 1, 2, 4 and so on threads up to the number of the available processors.
+ * The results of every run are written to the lookup-threads-N.json file. The JMH command line options
+ * are passed to every run, so the parameters are restricted with the -p option, for example
+ * -p valueSetCount=1000 -p predicate=EQUALS.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        super();
+    }
+
+    /**
+     * Run the benchmarks.
+     *
+     * @param args the JMH command line options.
+     *
+     * @throws CommandLineOptionException if the command line options are not valid.
+     * @throws RunnerException            if the benchmarks fail.
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        int maxThreadCount = Runtime.getRuntime().availableProcessors();
+        for (int threadCount = 1; threadCount <= maxThreadCount; threadCount *= 2) {
+            Options options = new OptionsBuilder()
+                    .parent(commandLineOptions)
+                    .include(LookupBenchmark.class.getName())
+                    .threads(threadCount)
+                    .addProfiler(GCProfiler.class)
+                    .result("lookup-threads-" + threadCount + ".json")
+                    .resultFormat(ResultFormatType.JSON)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+}
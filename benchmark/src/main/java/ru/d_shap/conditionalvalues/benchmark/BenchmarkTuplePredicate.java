@@ -0,0 +1,66 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.benchmark;
+
+import ru.d_shap.conditionalvalues.TuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.AllValuesMatchTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.SomeValuesMatchTuplePredicate;
+
+/**
+ * Tuple predicates of the benchmarks.
+ *
+ * @author Dmitry Shapovalov
+ */
+public enum BenchmarkTuplePredicate {
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate} tuple predicate.
+     */
+    ANY_VALUE_MATCHES {
+        @Override
+        TuplePredicate createTuplePredicate() {
+            return new AnyValueMatchesTuplePredicate();
+        }
+    },
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.AllValuesMatchTuplePredicate} tuple predicate.
+     */
+    ALL_VALUES_MATCH {
+        @Override
+        TuplePredicate createTuplePredicate() {
+            return new AllValuesMatchTuplePredicate();
+        }
+    },
+
+    /**
+     * {@link ru.d_shap.conditionalvalues.predicate.SomeValuesMatchTuplePredicate} tuple predicate.
+     */
+    SOME_VALUES_MATCH {
+        @Override
+        TuplePredicate createTuplePredicate() {
+            return new SomeValuesMatchTuplePredicate(1, -1);
+        }
+    };
+
+    abstract TuplePredicate createTuplePredicate();
+
+}
@@ -0,0 +1,96 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ru.d_shap.conditionalvalues.ConditionSet;
+import ru.d_shap.conditionalvalues.ConditionSetBuilder;
+
+/**
+ * Benchmark state with the {@link ru.d_shap.conditionalvalues.ConditionSet} objects of the current thread.
+ * The condition sets are created before the measurement with the builder of the benchmarked
+ * {@link ru.d_shap.conditionalvalues.ConditionalValues} object, and are used in the round-robin order.
+ *
+ * @author Dmitry Shapovalov
+ */
+@State(Scope.Thread)
+public class ConditionSetState {
+
+    static final int CONDITION_SET_COUNT = 1024;
+
+    private static final int CONDITION_SET_MASK = CONDITION_SET_COUNT - 1;
+
+    private ConditionSet[] _conditionSets;
+
+    private int _index;
+
+    private BlackholeAction _action;
+
+    /**
+     * Create new object.
+     */
+    public ConditionSetState() {
+        super();
+    }
+
+    /**
+     * Create the {@link ru.d_shap.conditionalvalues.ConditionSet} objects.
+     *
+     * @param conditionalValuesState the benchmark state with the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param blackhole              the blackhole to consume the values.
+     */
+    @Setup(Level.Trial)
+    public void setUp(final ConditionalValuesState conditionalValuesState, final Blackhole blackhole) {
+        _conditionSets = new ConditionSet[CONDITION_SET_COUNT];
+        _index = 0;
+        _action = new BlackholeAction(blackhole);
+        Random random = new Random(Thread.currentThread().getId() ^ ConditionalValuesState.SEED);
+        ConditionSetBuilder conditionSetBuilder = conditionalValuesState.getConditionalValues().createConditionSetBuilder();
+        for (int i = 0; i < CONDITION_SET_COUNT; i++) {
+            for (int j = 0; j < conditionalValuesState.conditionCount; j++) {
+                Object value = conditionalValuesState.predicate.createConditionSetValue(random.nextInt(conditionalValuesState.conditionValueCardinality));
+                conditionSetBuilder.addCondition(ConditionalValuesState.CONDITION_NAME_PREFIX + j, value);
+            }
+            _conditionSets[i] = conditionSetBuilder.build();
+        }
+    }
+
+    ConditionSet nextConditionSet() {
+        ConditionSet conditionSet = _conditionSets[_index];
+        _index = _index + 1 & CONDITION_SET_MASK;
+        return conditionSet;
+    }
+
+    ConditionSet[] getConditionSets() {
+        return _conditionSets;
+    }
+
+    BlackholeAction getAction() {
+        return _action;
+    }
+
+}
@@ -0,0 +1,138 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ru.d_shap.conditionalvalues.ConditionalValues;
+import ru.d_shap.conditionalvalues.ConditionalValuesBuilder;
+import ru.d_shap.conditionalvalues.ValueSetBuilder;
+
+/**
+ * <p>
+ * Benchmark state with the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ * </p>
+ * <p>
+ * Every value set has the specified number of conditions. The value of every condition is selected
+ * randomly from the specified number of distinct values, so the condition value cardinality controls
+ * the number of the matching value sets for the lookup.
+ * </p>
+ * <p>
+ * The default parameters are the small representative matrix. Other values are set with the -p option, for
+ * example -p valueSetCount=10,1000000 -p predicate=PATTERN_FIND,LOGICAL_AND -p tuplePredicate=ALL_VALUES_MATCH
+ * -p comparator=true -p compilationThreshold=1000.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+@State(Scope.Benchmark)
+public class ConditionalValuesState {
+
+    static final String CONDITION_NAME_PREFIX = "cond";
+
+    static final long SEED = 20161017L;
+
+    /**
+     * The number of the value sets.
+     */
+    @Param({"1000", "100000"})
+    public int valueSetCount;
+
+    /**
+     * The number of the conditions of every value set.
+     */
+    @Param({"3"})
+    public int conditionCount;
+
+    /**
+     * The number of the distinct values of every condition.
+     */
+    @Param({"64"})
+    public int conditionValueCardinality;
+
+    /**
+     * The predicate.
+     */
+    @Param({"EQUALS", "STRING_CONTAINS"})
+    public BenchmarkPredicate predicate;
+
+    /**
+     * The tuple predicate.
+     */
+    @Param({"ANY_VALUE_MATCHES"})
+    public BenchmarkTuplePredicate tuplePredicate;
+
+    /**
+     * Whether the comparator is set.
+     */
+    @Param({"false"})
+    public boolean comparator;
+
+    /**
+     * The number of the lookups before the compilation of the scanned value sets, zero to disable the compilation.
+     */
+    @Param({"0"})
+    public int compilationThreshold;
+
+    private ConditionalValues<Integer> _conditionalValues;
+
+    /**
+     * Create new object.
+     */
+    public ConditionalValuesState() {
+        super();
+    }
+
+    /**
+     * Create the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConditionalValuesBuilder<Integer> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        conditionalValuesBuilder.setTuplePredicate(tuplePredicate.createTuplePredicate());
+        conditionalValuesBuilder.setPredicate(predicate.createPredicate());
+        if (comparator) {
+            conditionalValuesBuilder.setNaturalOrderComparator();
+        }
+        conditionalValuesBuilder.setCompilationThreshold(compilationThreshold);
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        Random random = new Random(SEED);
+        for (int i = 0; i < valueSetCount; i++) {
+            for (int j = 0; j < conditionCount; j++) {
+                Object value = predicate.createValueSetValue(random.nextInt(conditionValueCardinality));
+                valueSetBuilder.addCondition(CONDITION_NAME_PREFIX + j, value);
+            }
+            valueSetBuilder.addValue(i);
+            conditionalValuesBuilder.addValueSet(valueSetBuilder.build());
+        }
+        _conditionalValues = conditionalValuesBuilder.build();
+    }
+
+    ConditionalValues<Integer> getConditionalValues() {
+        return _conditionalValues;
+    }
+
+}
@@ -0,0 +1,74 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ru.d_shap.conditionalvalues.ConditionalValuesBuilder;
+import ru.d_shap.conditionalvalues.DecisionTableLoader;
+import ru.d_shap.conditionalvalues.converter.IntegerConditionConverter;
+import ru.d_shap.conditionalvalues.converter.IntegerValueConverter;
+import ru.d_shap.conditionalvalues.converter.LongConditionConverter;
+
+/**
+ * Benchmarks of the decision table loader. The decision table file is loaded into the
+ * {@link ru.d_shap.conditionalvalues.ConditionalValuesBuilder} object, the
+ * {@link ru.d_shap.conditionalvalues.ConditionalValues} object is not built.
+ *
+ * @author Dmitry Shapovalov
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DecisionTableLoaderBenchmark {
+
+    /**
+     * Create new object.
+     */
+    public DecisionTableLoaderBenchmark() {
+        super();
+    }
+
+    /**
+     * Load the decision table file.
+     *
+     * @param decisionTableState the benchmark state with the decision table file.
+     *
+     * @return the number of the loaded rows.
+     */
+    @Benchmark
+    public int load(final DecisionTableState decisionTableState) {
+        DecisionTableLoader<Integer> decisionTableLoader = DecisionTableLoader.newInstance(new IntegerValueConverter());
+        decisionTableLoader.setConditionConverter(DecisionTableState.INTEGER_CONDITION_NAME, new IntegerConditionConverter());
+        decisionTableLoader.setConditionConverter(DecisionTableState.LONG_CONDITION_NAME, new LongConditionConverter());
+        return decisionTableLoader.load(decisionTableState.getPath(), ConditionalValuesBuilder.<Integer>newInstance());
+    }
+
+}
@@ -0,0 +1,94 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmark state with the decision table file for the decision table loader.
+ *
+ * @author Dmitry Shapovalov
+ */
+@State(Scope.Benchmark)
+public class DecisionTableState {
+
+    static final String STRING_CONDITION_NAME = "cond0";
+
+    static final String INTEGER_CONDITION_NAME = "cond1";
+
+    static final String LONG_CONDITION_NAME = "cond2";
+
+    /**
+     * The number of the rows in the decision table.
+     */
+    @Param({"1000000"})
+    public int rowCount;
+
+    private Path _path;
+
+    /**
+     * Create new object.
+     */
+    public DecisionTableState() {
+        super();
+    }
+
+    /**
+     * Write the decision table file.
+     *
+     * @throws IOException IO exception.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        _path = Files.createTempFile("conditional-values", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(_path, StandardCharsets.UTF_8)) {
+            writer.write("id," + STRING_CONDITION_NAME + "," + INTEGER_CONDITION_NAME + "," + LONG_CONDITION_NAME + ",value\n");
+            for (int i = 0; i < rowCount; i++) {
+                writer.write("id" + i + ",val" + i % 1000 + "," + i % 100 + "|" + (i % 100 + 100) + "," + i + "," + i + "\n");
+            }
+        }
+    }
+
+    /**
+     * Delete the decision table file.
+     *
+     * @throws IOException IO exception.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(_path);
+    }
+
+    Path getPath() {
+        return _path;
+    }
+
+}
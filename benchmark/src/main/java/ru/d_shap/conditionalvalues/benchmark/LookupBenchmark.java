@@ -0,0 +1,104 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ru.d_shap.conditionalvalues.BatchValues;
+
+/**
+ * <p>
+ * Benchmarks of the {@link ru.d_shap.conditionalvalues.ConditionalValues} lookup.
+ * </p>
+ * <p>
+ * The throughput and the average time are measured for the lookup, that creates the
+ * {@link ru.d_shap.conditionalvalues.Values} object, for the lookup, that performs the action
+ * on the matching values, and for the batch lookup. Use the {@link ru.d_shap.conditionalvalues.benchmark.BenchmarkRunner} class to
+ * measure the allocation rate and the scaling with the number of threads.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+
+    /**
+     * Create new object.
+     */
+    public LookupBenchmark() {
+        super();
+    }
+
+    /**
+     * Lookup, that creates the {@link ru.d_shap.conditionalvalues.Values} object.
+     *
+     * @param conditionalValuesState the benchmark state with the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param conditionSetState      the benchmark state with the {@link ru.d_shap.conditionalvalues.ConditionSet} objects.
+     *
+     * @return the matching values.
+     */
+    @Benchmark
+    public List<Integer> lookup(final ConditionalValuesState conditionalValuesState, final ConditionSetState conditionSetState) {
+        return conditionalValuesState.getConditionalValues().lookup(conditionSetState.nextConditionSet()).getValues();
+    }
+
+    /**
+     * Lookup, that performs the action on the matching values.
+     *
+     * @param conditionalValuesState the benchmark state with the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param conditionSetState      the benchmark state with the {@link ru.d_shap.conditionalvalues.ConditionSet} objects.
+     *
+     * @return the number of the matching values.
+     */
+    @Benchmark
+    public int performAction(final ConditionalValuesState conditionalValuesState, final ConditionSetState conditionSetState) {
+        return conditionalValuesState.getConditionalValues().performAction(conditionSetState.nextConditionSet(), conditionSetState.getAction());
+    }
+
+    /**
+     * Batch lookup of all {@link ru.d_shap.conditionalvalues.ConditionSet} objects of the current thread.
+     * The result is measured per {@link ru.d_shap.conditionalvalues.ConditionSet} object.
+     *
+     * @param conditionalValuesState the benchmark state with the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param conditionSetState      the benchmark state with the {@link ru.d_shap.conditionalvalues.ConditionSet} objects.
+     *
+     * @return the batch lookup result.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ConditionSetState.CONDITION_SET_COUNT)
+    public BatchValues<Integer> lookupAll(final ConditionalValuesState conditionalValuesState, final ConditionSetState conditionSetState) {
+        return conditionalValuesState.getConditionalValues().lookupAll(conditionSetState.getConditionSets());
+    }
+
+}
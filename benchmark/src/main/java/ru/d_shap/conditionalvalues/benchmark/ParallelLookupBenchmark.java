@@ -0,0 +1,81 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ru.d_shap.conditionalvalues.BatchValues;
+
+/**
+ * Benchmarks of the parallel batch lookup. The scaling is measured with the parallelism of the
+ * {@link java.util.concurrent.ForkJoinPool} object from 1 to 32 on the shared
+ * {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ *
+ * @author Dmitry Shapovalov
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelLookupBenchmark {
+
+    /**
+     * Create new object.
+     */
+    public ParallelLookupBenchmark() {
+        super();
+    }
+
+    /**
+     * Sequential batch lookup, the baseline for the parallel batch lookup.
+     *
+     * @param conditionalValuesState the benchmark state with the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param parallelLookupState    the benchmark state with the batch of the {@link ru.d_shap.conditionalvalues.ConditionSet} objects.
+     *
+     * @return the batch lookup result.
+     */
+    @Benchmark
+    public BatchValues<Integer> lookupAll(final ConditionalValuesState conditionalValuesState, final ParallelLookupState parallelLookupState) {
+        return conditionalValuesState.getConditionalValues().lookupAll(parallelLookupState.getConditionSets());
+    }
+
+    /**
+     * Parallel batch lookup.
+     *
+     * @param conditionalValuesState the benchmark state with the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param parallelLookupState    the benchmark state with the batch of the {@link ru.d_shap.conditionalvalues.ConditionSet} objects.
+     *
+     * @return the batch lookup result.
+     */
+    @Benchmark
+    public BatchValues<Integer> lookupAllParallel(final ConditionalValuesState conditionalValuesState, final ParallelLookupState parallelLookupState) {
+        return conditionalValuesState.getConditionalValues().lookupAllParallel(parallelLookupState.getConditionSets(), parallelLookupState.getForkJoinPool());
+    }
+
+}
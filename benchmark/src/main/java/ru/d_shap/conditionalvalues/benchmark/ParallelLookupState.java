@@ -0,0 +1,105 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import ru.d_shap.conditionalvalues.ConditionSet;
+import ru.d_shap.conditionalvalues.ConditionSetBuilder;
+
+/**
+ * Benchmark state with the {@link java.util.concurrent.ForkJoinPool} object and the batch of the
+ * {@link ru.d_shap.conditionalvalues.ConditionSet} objects for the parallel batch lookup.
+ *
+ * @author Dmitry Shapovalov
+ */
+@State(Scope.Benchmark)
+public class ParallelLookupState {
+
+    /**
+     * The parallelism of the {@link java.util.concurrent.ForkJoinPool} object.
+     */
+    @Param({"1", "4"})
+    public int parallelism;
+
+    /**
+     * The number of the {@link ru.d_shap.conditionalvalues.ConditionSet} objects in the batch.
+     */
+    @Param({"65536"})
+    public int batchSize;
+
+    private ForkJoinPool _forkJoinPool;
+
+    private List<ConditionSet> _conditionSets;
+
+    /**
+     * Create new object.
+     */
+    public ParallelLookupState() {
+        super();
+    }
+
+    /**
+     * Create the {@link java.util.concurrent.ForkJoinPool} object and the {@link ru.d_shap.conditionalvalues.ConditionSet} objects.
+     *
+     * @param conditionalValuesState the benchmark state with the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     */
+    @Setup(Level.Trial)
+    public void setUp(final ConditionalValuesState conditionalValuesState) {
+        _forkJoinPool = new ForkJoinPool(parallelism);
+        _conditionSets = new ArrayList<>(batchSize);
+        Random random = new Random(ConditionalValuesState.SEED);
+        ConditionSetBuilder conditionSetBuilder = conditionalValuesState.getConditionalValues().createConditionSetBuilder();
+        for (int i = 0; i < batchSize; i++) {
+            for (int j = 0; j < conditionalValuesState.conditionCount; j++) {
+                Object value = conditionalValuesState.predicate.createConditionSetValue(random.nextInt(conditionalValuesState.conditionValueCardinality));
+                conditionSetBuilder.addCondition(ConditionalValuesState.CONDITION_NAME_PREFIX + j, value);
+            }
+            _conditionSets.add(conditionSetBuilder.build());
+        }
+    }
+
+    /**
+     * Shut down the {@link java.util.concurrent.ForkJoinPool} object.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        _forkJoinPool.shutdown();
+    }
+
+    ForkJoinPool getForkJoinPool() {
+        return _forkJoinPool;
+    }
+
+    List<ConditionSet> getConditionSets() {
+        return _conditionSets;
+    }
+
+}
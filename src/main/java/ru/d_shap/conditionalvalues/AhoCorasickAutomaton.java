@@ -0,0 +1,231 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Aho-Corasick automaton to find all keywords, contained in the text, with a single pass over the text.
+ * </p>
+ * <p>
+ * If the automaton ignores case, then the keywords and the text are case-folded char by char with the
+ * {@link ru.d_shap.conditionalvalues.CaseFolding} class, the same way as
+ * {@link String#regionMatches(boolean, int, String, int, int)} compares chars.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class AhoCorasickAutomaton {
+
+    private static final int ROOT = 0;
+
+    private final boolean _ignoreCase;
+
+    private final int _keywordCount;
+
+    private final char[][] _labels;
+
+    private final int[][] _targets;
+
+    private final int[][] _outputs;
+
+    private final int[] _failures;
+
+    private final int[] _outputLinks;
+
+    AhoCorasickAutomaton(final List<String> keywords, final boolean ignoreCase) {
+        super();
+        _ignoreCase = ignoreCase;
+        List<Map<Character, Integer>> transitions = new ArrayList<>();
+        List<IntList> outputs = new ArrayList<>();
+        _keywordCount = addKeywords(keywords, transitions, outputs);
+        _labels = createLabels(transitions);
+        _targets = createTargets(transitions);
+        _outputs = createOutputs(outputs);
+        _failures = new int[_labels.length];
+        _outputLinks = new int[_labels.length];
+        createFailures();
+    }
+
+    private int addKeywords(final List<String> keywords, final List<Map<Character, Integer>> transitions, final List<IntList> outputs) {
+        transitions.add(new HashMap<Character, Integer>());
+        outputs.add(new IntList());
+        if (keywords == null) {
+            return 0;
+        }
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = keywords.get(i);
+            int state = ROOT;
+            for (int j = 0; j < keyword.length(); j++) {
+                char ch = getChar(keyword, j);
+                Integer target = transitions.get(state).get(ch);
+                if (target == null) {
+                    target = transitions.size();
+                    transitions.get(state).put(ch, target);
+                    transitions.add(new HashMap<Character, Integer>());
+                    outputs.add(new IntList());
+                }
+                state = target;
+            }
+            outputs.get(state).add(i);
+        }
+        return keywords.size();
+    }
+
+    private char[][] createLabels(final List<Map<Character, Integer>> transitions) {
+        char[][] result = new char[transitions.size()][];
+        for (int i = 0; i < result.length; i++) {
+            Map<Character, Integer> stateTransitions = transitions.get(i);
+            char[] labels = new char[stateTransitions.size()];
+            int index = 0;
+            for (Character label : stateTransitions.keySet()) {
+                labels[index] = label;
+                index++;
+            }
+            Arrays.sort(labels);
+            result[i] = labels;
+        }
+        return result;
+    }
+
+    private int[][] createTargets(final List<Map<Character, Integer>> transitions) {
+        int[][] result = new int[transitions.size()][];
+        for (int i = 0; i < result.length; i++) {
+            Map<Character, Integer> stateTransitions = transitions.get(i);
+            char[] labels = _labels[i];
+            int[] targets = new int[labels.length];
+            for (int j = 0; j < labels.length; j++) {
+                targets[j] = stateTransitions.get(labels[j]);
+            }
+            result[i] = targets;
+        }
+        return result;
+    }
+
+    private int[][] createOutputs(final List<IntList> outputs) {
+        int[][] result = new int[outputs.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = outputs.get(i).toArray();
+        }
+        return result;
+    }
+
+    private void createFailures() {
+        IntList queue = new IntList();
+        _failures[ROOT] = ROOT;
+        _outputLinks[ROOT] = -1;
+        queue.add(ROOT);
+        for (int i = 0; i < queue.size(); i++) {
+            int state = queue.get(i);
+            for (int j = 0; j < _labels[state].length; j++) {
+                int target = _targets[state][j];
+                int failure = getFailureTarget(state, _labels[state][j]);
+                _failures[target] = failure;
+                if (_outputs[failure].length > 0) {
+                    _outputLinks[target] = failure;
+                } else {
+                    _outputLinks[target] = _outputLinks[failure];
+                }
+                queue.add(target);
+            }
+        }
+    }
+
+    private int getFailureTarget(final int state, final char ch) {
+        if (state == ROOT) {
+            return ROOT;
+        }
+        int failure = _failures[state];
+        int target = getTransition(failure, ch);
+        while (target < 0 && failure != ROOT) {
+            failure = _failures[failure];
+            target = getTransition(failure, ch);
+        }
+        if (target < 0) {
+            return ROOT;
+        } else {
+            return target;
+        }
+    }
+
+    private int getTransition(final int state, final char ch) {
+        int index = Arrays.binarySearch(_labels[state], ch);
+        if (index < 0) {
+            return -1;
+        } else {
+            return _targets[state][index];
+        }
+    }
+
+    private char getChar(final CharSequence charSequence, final int index) {
+        char ch = charSequence.charAt(index);
+        if (_ignoreCase) {
+            return CaseFolding.foldCase(ch);
+        } else {
+            return ch;
+        }
+    }
+
+    boolean isIgnoreCase() {
+        return _ignoreCase;
+    }
+
+    int getKeywordCount() {
+        return _keywordCount;
+    }
+
+    int getStateCount() {
+        return _labels.length;
+    }
+
+    void findKeywords(final CharSequence text, final BitSet keywordIds) {
+        addOutputs(ROOT, keywordIds);
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = getChar(text, i);
+            int target = getTransition(state, ch);
+            while (target < 0 && state != ROOT) {
+                state = _failures[state];
+                target = getTransition(state, ch);
+            }
+            if (target >= 0) {
+                state = target;
+                addOutputs(state, keywordIds);
+            }
+        }
+    }
+
+    private void addOutputs(final int state, final BitSet keywordIds) {
+        int outputState = state;
+        while (outputState >= 0) {
+            for (int keywordId : _outputs[outputState]) {
+                keywordIds.set(keywordId);
+            }
+            outputState = _outputLinks[outputState];
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.BitSet;
+
+/**
+ * <p>
+ * Scratch buffers of the batch lookup in the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ * </p>
+ * <p>
+ * The {@link ru.d_shap.conditionalvalues.ConditionSet} objects of the batch are processed in the chunks
+ * of rows. The condition set values of the chunk are stored by columns, one column for every condition
+ * name, so every condition of the {@link ru.d_shap.conditionalvalues.ValueSet} object is evaluated for
+ * all rows of the chunk in a single loop.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class BatchLookupBuffer {
+
+    static final int MAX_ROW_COUNT = 1024;
+
+    private final Object[][] _conditionSetValueColumns;
+
+    private final IntList[] _ordinals;
+
+    private final BitSet _definedRows;
+
+    private final BitSet _matchingRows;
+
+    BatchLookupBuffer(final int conditionNameCount) {
+        super();
+        _conditionSetValueColumns = new Object[conditionNameCount][MAX_ROW_COUNT];
+        _ordinals = createOrdinals();
+        _definedRows = new BitSet(MAX_ROW_COUNT);
+        _matchingRows = new BitSet(MAX_ROW_COUNT);
+    }
+
+    private static IntList[] createOrdinals() {
+        IntList[] result = new IntList[MAX_ROW_COUNT];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new IntList();
+        }
+        return result;
+    }
+
+    Object[][] getConditionSetValueColumns() {
+        return _conditionSetValueColumns;
+    }
+
+    IntList getOrdinals(final int row) {
+        return _ordinals[row];
+    }
+
+    BitSet getDefinedRows() {
+        return _definedRows;
+    }
+
+    BitSet getMatchingRows() {
+        return _matchingRows;
+    }
+
+}
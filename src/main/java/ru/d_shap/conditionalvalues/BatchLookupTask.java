@@ -0,0 +1,97 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * <p>
+ * Task of the parallel batch lookup in the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ * The task is run in the {@link java.util.concurrent.ForkJoinPool} object.
+ * </p>
+ * <p>
+ * The task is split in halves, until the part of the batch fits the single chunk of the batch lookup.
+ * Every leaf task writes the number of the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects
+ * to its own range of the shared array, and the ordinals to its own list. The ordinals are collected in the
+ * input order after all tasks are completed.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class BatchLookupTask<T> implements Runnable {
+
+    private final ConditionalValues<T> _conditionalValues;
+
+    private final ConditionSet[] _conditionSets;
+
+    private final int _fromRow;
+
+    private final int _toRow;
+
+    private final int[] _valueSetCounts;
+
+    private BatchLookupTask<T> _firstTask;
+
+    private BatchLookupTask<T> _secondTask;
+
+    private IntList _ordinals;
+
+    BatchLookupTask(final ConditionalValues<T> conditionalValues, final ConditionSet[] conditionSets, final int fromRow, final int toRow, final int[] valueSetCounts) {
+        super();
+        _conditionalValues = conditionalValues;
+        _conditionSets = conditionSets;
+        _fromRow = fromRow;
+        _toRow = toRow;
+        _valueSetCounts = valueSetCounts;
+        _firstTask = null;
+        _secondTask = null;
+        _ordinals = null;
+    }
+
+    @Override
+    public void run() {
+        if (_toRow - _fromRow <= BatchLookupBuffer.MAX_ROW_COUNT) {
+            IntList ordinals = new IntList(_toRow - _fromRow);
+            _conditionalValues.addMatchingOrdinals(_conditionSets, _fromRow, _toRow, _valueSetCounts, ordinals);
+            _ordinals = ordinals;
+        } else {
+            int middleRow = _fromRow + (_toRow - _fromRow) / 2;
+            _firstTask = new BatchLookupTask<>(_conditionalValues, _conditionSets, _fromRow, middleRow, _valueSetCounts);
+            _secondTask = new BatchLookupTask<>(_conditionalValues, _conditionSets, middleRow, _toRow, _valueSetCounts);
+            ForkJoinTask.invokeAll(ForkJoinTask.adapt(_firstTask), ForkJoinTask.adapt(_secondTask));
+        }
+    }
+
+    void addOrdinals(final IntList ordinals) {
+        if (_ordinals == null) {
+            if (_firstTask != null) {
+                _firstTask.addOrdinals(ordinals);
+                _secondTask.addOrdinals(ordinals);
+            }
+        } else {
+            for (int i = 0; i < _ordinals.size(); i++) {
+                ordinals.add(_ordinals.get(i));
+            }
+        }
+    }
+
+}
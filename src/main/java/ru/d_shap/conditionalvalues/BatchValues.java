@@ -0,0 +1,132 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * <p>
+ * The batch lookup result of the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+ * </p>
+ * <p>
+ * The result holds only the ordinals of the best matching {@link ru.d_shap.conditionalvalues.ValueSet}
+ * objects for every {@link ru.d_shap.conditionalvalues.ConditionSet} object of the batch. The
+ * {@link ru.d_shap.conditionalvalues.Values} object is created only on request, and the action is performed
+ * on the values without the {@link ru.d_shap.conditionalvalues.Values} object.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class BatchValues<T> {
+
+    private final ConditionalValues<T> _conditionalValues;
+
+    private final int[] _offsets;
+
+    private final int[] _ordinals;
+
+    BatchValues(final ConditionalValues<T> conditionalValues, final int[] offsets, final int[] ordinals) {
+        super();
+        _conditionalValues = conditionalValues;
+        _offsets = offsets;
+        _ordinals = ordinals;
+    }
+
+    /**
+     * Get the number of the {@link ru.d_shap.conditionalvalues.ConditionSet} objects in the batch.
+     *
+     * @return the number of the {@link ru.d_shap.conditionalvalues.ConditionSet} objects in the batch.
+     */
+    public int size() {
+        return _offsets.length - 1;
+    }
+
+    /**
+     * Get the number of the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects for the
+     * {@link ru.d_shap.conditionalvalues.ConditionSet} object with the specified index.
+     *
+     * @param index the index of the {@link ru.d_shap.conditionalvalues.ConditionSet} object in the batch.
+     *
+     * @return the number of the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    public int getValueSetCount(final int index) {
+        checkIndex(index);
+        return _offsets[index + 1] - _offsets[index];
+    }
+
+    /**
+     * Check if there are no best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects for the
+     * {@link ru.d_shap.conditionalvalues.ConditionSet} object with the specified index.
+     *
+     * @param index the index of the {@link ru.d_shap.conditionalvalues.ConditionSet} object in the batch.
+     *
+     * @return true if there are no best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    public boolean isEmpty(final int index) {
+        return getValueSetCount(index) == 0;
+    }
+
+    /**
+     * Get the lookup result for the {@link ru.d_shap.conditionalvalues.ConditionSet} object with the specified index.
+     *
+     * @param index the index of the {@link ru.d_shap.conditionalvalues.ConditionSet} object in the batch.
+     *
+     * @return the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    public Values<T> getValues(final int index) {
+        checkIndex(index);
+        return _conditionalValues.createValues(_ordinals, _offsets[index], _offsets[index + 1]);
+    }
+
+    /**
+     * Perform the specified action on each value of the lookup result for the
+     * {@link ru.d_shap.conditionalvalues.ConditionSet} object with the specified index.
+     *
+     * @param index  the index of the {@link ru.d_shap.conditionalvalues.ConditionSet} object in the batch.
+     * @param action the specified action.
+     *
+     * @return the number of values, the action was performed on.
+     */
+    public int performAction(final int index, final Action<T> action) {
+        checkIndex(index);
+        return _conditionalValues.performAction(_ordinals, _offsets[index], _offsets[index + 1], action);
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append('[');
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(getValues(i));
+        }
+        result.append(']');
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,47 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * Case folding to compare the strings ignoring case with the hash lookups and with the
+ * {@link ru.d_shap.conditionalvalues.AhoCorasickAutomaton} objects. Two chars have the same folded
+ * char if and only if the {@link String#equalsIgnoreCase(String)} method considers them equal.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class CaseFolding {
+
+    private CaseFolding() {
+        super();
+    }
+
+    static char foldCase(final char ch) {
+        return Character.toLowerCase(Character.toUpperCase(ch));
+    }
+
+    static String foldCase(final String str) {
+        char[] chars = str.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = foldCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+}
@@ -0,0 +1,106 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffer of the cell of the decision table. The buffer is a view of the range of the
+ * collected chars, so the parts of the multi-valued cell are passed to the converters without
+ * creating the strings.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class CellBuffer implements CharSequence {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private char[] _chars;
+
+    private int _size;
+
+    private int _offset;
+
+    private int _length;
+
+    CellBuffer() {
+        super();
+        _chars = new char[INITIAL_CAPACITY];
+        _size = 0;
+        _offset = 0;
+        _length = 0;
+    }
+
+    void append(final char ch) {
+        if (_size == _chars.length) {
+            _chars = Arrays.copyOf(_chars, _size * 2);
+        }
+        _chars[_size] = ch;
+        _size++;
+        _offset = 0;
+        _length = _size;
+    }
+
+    void clear() {
+        _size = 0;
+        _offset = 0;
+        _length = 0;
+    }
+
+    int getSize() {
+        return _size;
+    }
+
+    char getChar(final int index) {
+        return _chars[index];
+    }
+
+    void setRange(final int offset, final int length) {
+        _offset = offset;
+        _length = length;
+    }
+
+    @Override
+    public int length() {
+        return _length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= _length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + _length);
+        }
+        return _chars[_offset + index];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || end > _length || start > end) {
+            throw new IndexOutOfBoundsException("Start: " + start + ", end: " + end + ", length: " + _length);
+        }
+        return new String(_chars, _offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(_chars, _offset, _length);
+    }
+
+}
@@ -0,0 +1,40 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * Converter to add the condition from the cell of the decision table to the
+ * {@link ru.d_shap.conditionalvalues.ValueSetBuilder} object. The converter calls the typed method
+ * of the {@link ru.d_shap.conditionalvalues.ValueSetBuilder} object to add the condition.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface ConditionConverter {
+
+    /**
+     * Convert the cell and add the condition to the specified builder. The cell is valid only during the call.
+     *
+     * @param valueSetBuilder the specified builder.
+     * @param conditionName   the condition name.
+     * @param cell            the cell of the decision table.
+     */
+    void addCondition(ValueSetBuilder<?> valueSetBuilder, String conditionName, CharSequence cell);
+
+}
@@ -0,0 +1,56 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.BitSet;
+
+/**
+ * Index of the {@link ru.d_shap.conditionalvalues.ValueSet} objects for one condition, evaluated with a
+ * single pass over the {@link String} condition value of the {@link ru.d_shap.conditionalvalues.ConditionSet} object.
+ *
+ * @author Dmitry Shapovalov
+ */
+interface ConditionIndex {
+
+    /**
+     * Get the name of condition.
+     *
+     * @return the name of condition.
+     */
+    String getConditionName();
+
+    /**
+     * Check if the condition of the {@link ru.d_shap.conditionalvalues.ValueSet} object is evaluated by this index.
+     *
+     * @param ordinal the ordinal of the {@link ru.d_shap.conditionalvalues.ValueSet} object.
+     *
+     * @return true, if the condition is evaluated by this index.
+     */
+    boolean isIndexed(int ordinal);
+
+    /**
+     * Add the ordinals of the {@link ru.d_shap.conditionalvalues.ValueSet} objects, matching the condition value.
+     *
+     * @param conditionSetValue the value from the {@link ru.d_shap.conditionalvalues.ConditionSet} object.
+     * @param ordinals          the ordinals of the matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    void addMatchingOrdinals(String conditionSetValue, BitSet ordinals);
+
+}
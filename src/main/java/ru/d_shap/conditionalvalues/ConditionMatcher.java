@@ -0,0 +1,42 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * Matcher of the condition of the {@link ru.d_shap.conditionalvalues.ValueSet} object against the
+ * condition value of the {@link ru.d_shap.conditionalvalues.ConditionSet} object. The matcher is created
+ * for the {@link ru.d_shap.conditionalvalues.TuplePredicate} object and the resolved
+ * {@link ru.d_shap.conditionalvalues.Predicate} object when the {@link ru.d_shap.conditionalvalues.ConditionalValues}
+ * object is created.
+ *
+ * @author Dmitry Shapovalov
+ */
+interface ConditionMatcher {
+
+    /**
+     * Match the condition value of the {@link ru.d_shap.conditionalvalues.ConditionSet} object.
+     *
+     * @param conditionSetValue the value from the {@link ru.d_shap.conditionalvalues.ConditionSet} object.
+     *
+     * @return true, if the values match.
+     */
+    boolean isMatch(Object conditionSetValue);
+
+}
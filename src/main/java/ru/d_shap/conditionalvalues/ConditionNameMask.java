@@ -0,0 +1,149 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Arrays;
+
+/**
+ * Bitmask of the condition names. Every condition name is assigned a bit, so the condition names of
+ * the {@link ru.d_shap.conditionalvalues.ValueSet} objects are compared with the bitwise operations.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ConditionNameMask {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    private static final int BIT_INDEX_MASK = 63;
+
+    private final long[] _words;
+
+    private final int _cardinality;
+
+    ConditionNameMask(final int... bits) {
+        super();
+        _words = createWords(bits);
+        _cardinality = createCardinality();
+    }
+
+    private long[] createWords(final int... bits) {
+        int maxBit = -1;
+        if (bits != null) {
+            for (int bit : bits) {
+                maxBit = Math.max(maxBit, bit);
+            }
+        }
+        long[] result = new long[getWordIndex(maxBit) + 1];
+        if (bits != null) {
+            for (int bit : bits) {
+                if (bit >= 0) {
+                    setBit(result, bit);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int getWordIndex(final int bit) {
+        return bit >> ADDRESS_BITS_PER_WORD;
+    }
+
+    static int getWordCount(final int bitCount) {
+        return getWordIndex(bitCount + BIT_INDEX_MASK);
+    }
+
+    static void setBit(final long[] words, final int bit) {
+        words[getWordIndex(bit)] |= 1L << (bit & BIT_INDEX_MASK);
+    }
+
+    static boolean getBit(final long[] words, final int bit) {
+        return (words[getWordIndex(bit)] & 1L << (bit & BIT_INDEX_MASK)) != 0L;
+    }
+
+    private int createCardinality() {
+        int result = 0;
+        for (long word : _words) {
+            result += Long.bitCount(word);
+        }
+        return result;
+    }
+
+    int getCardinality() {
+        return _cardinality;
+    }
+
+    boolean get(final int bit) {
+        if (bit < 0) {
+            return false;
+        }
+        int wordIndex = getWordIndex(bit);
+        return wordIndex < _words.length && (_words[wordIndex] & 1L << (bit & BIT_INDEX_MASK)) != 0L;
+    }
+
+    boolean isSubsetOf(final ConditionNameMask mask) {
+        if (mask == null || _words.length > mask._words.length) {
+            return false;
+        }
+        for (int i = 0; i < _words.length; i++) {
+            if ((_words[i] & ~mask._words[i]) != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean isStrictSubsetOf(final ConditionNameMask mask) {
+        return mask != null && _cardinality < mask._cardinality && isSubsetOf(mask);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof ConditionNameMask) {
+            return Arrays.equals(_words, ((ConditionNameMask) obj)._words);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(_words);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append('{');
+        for (int i = 0; i < _words.length << ADDRESS_BITS_PER_WORD; i++) {
+            if (get(i)) {
+                if (result.length() > 1) {
+                    result.append(", ");
+                }
+                result.append(i);
+            }
+        }
+        result.append('}');
+        return result.toString();
+    }
+
+}
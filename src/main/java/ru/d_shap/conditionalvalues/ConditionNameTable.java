@@ -0,0 +1,125 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Symbol table of the condition names, defined in all {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+ * Every condition name is assigned the dense ID in the natural order of the condition names.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ConditionNameTable {
+
+    private final String[] _conditionNames;
+
+    private final Map<String, Integer> _conditionIds;
+
+    ConditionNameTable(final List<? extends ValueSet<?>> valueSets) {
+        this(createConditionNames(valueSets));
+    }
+
+    ConditionNameTable(final String[] conditionNames) {
+        super();
+        _conditionNames = conditionNames;
+        _conditionIds = createConditionIds();
+    }
+
+    private static String[] createConditionNames(final List<? extends ValueSet<?>> valueSets) {
+        Set<String> result = new TreeSet<>();
+        if (valueSets != null) {
+            for (ValueSet<?> valueSet : valueSets) {
+                result.addAll(valueSet.getAllConditionNames());
+            }
+        }
+        return result.toArray(new String[0]);
+    }
+
+    private Map<String, Integer> createConditionIds() {
+        Map<String, Integer> result = new HashMap<>();
+        for (int i = 0; i < _conditionNames.length; i++) {
+            result.put(_conditionNames[i], i);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    int getConditionNameCount() {
+        return _conditionNames.length;
+    }
+
+    int getConditionId(final String conditionName) {
+        Integer conditionId = _conditionIds.get(conditionName);
+        if (conditionId == null) {
+            return -1;
+        } else {
+            return conditionId;
+        }
+    }
+
+    String getConditionName(final int conditionId) {
+        return _conditionNames[conditionId];
+    }
+
+    Object[] getConditionValues(final ConditionSet conditionSet) {
+        return getConditionValues(conditionSet, new Object[_conditionNames.length]);
+    }
+
+    Object[] getConditionValues(final ConditionSet conditionSet, final Object[] conditionValues) {
+        if (conditionSet.isBound(this)) {
+            return conditionSet.getConditionValues();
+        }
+        Object[] result = conditionValues;
+        Arrays.fill(result, null);
+        Iterator<String> conditionNameIterator = conditionSet.nameIterator();
+        while (conditionNameIterator.hasNext()) {
+            String conditionName = conditionNameIterator.next();
+            Integer conditionId = _conditionIds.get(conditionName);
+            if (conditionId != null) {
+                result[conditionId] = conditionSet.getValue(conditionName);
+            }
+        }
+        return result;
+    }
+
+    Object[] createConditionValues(final Map<String, Object> conditions) {
+        Object[] result = new Object[_conditionNames.length];
+        for (Map.Entry<String, Object> entry : conditions.entrySet()) {
+            Integer conditionId = _conditionIds.get(entry.getKey());
+            if (conditionId != null) {
+                result[conditionId] = entry.getValue();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return _conditionIds.toString();
+    }
+
+}
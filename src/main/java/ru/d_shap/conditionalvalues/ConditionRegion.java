@@ -0,0 +1,120 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * Class represents a region of the {@link ru.d_shap.conditionalvalues.ConditionSet} objects over the finite
+ * domains of the conditions.
+ * </p>
+ * <p>
+ * The region holds the set of the condition values for every condition name, and contains every
+ * {@link ru.d_shap.conditionalvalues.ConditionSet} object with one of these values for every condition name.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ConditionRegion {
+
+    private final Map<String, Set<Object>> _conditions;
+
+    ConditionRegion(final Map<String, Set<Object>> conditions) {
+        super();
+        Map<String, Set<Object>> result = new TreeMap<>();
+        for (Map.Entry<String, Set<Object>> entry : conditions.entrySet()) {
+            result.put(entry.getKey(), Collections.unmodifiableSet(new LinkedHashSet<>(entry.getValue())));
+        }
+        _conditions = Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Get the condition values for every condition name.
+     *
+     * @return the condition values for every condition name.
+     */
+    public Map<String, Set<Object>> getConditions() {
+        return _conditions;
+    }
+
+    /**
+     * Get the number of the {@link ru.d_shap.conditionalvalues.ConditionSet} objects in the region.
+     *
+     * @return the number of the {@link ru.d_shap.conditionalvalues.ConditionSet} objects in the region.
+     */
+    public long getConditionSetCount() {
+        long result = 1L;
+        for (Set<Object> conditionValues : _conditions.values()) {
+            if (conditionValues.isEmpty()) {
+                return 0L;
+            }
+            if (result > Long.MAX_VALUE / conditionValues.size()) {
+                return Long.MAX_VALUE;
+            }
+            result *= conditionValues.size();
+        }
+        return result;
+    }
+
+    boolean isDisjoint(final ConditionRegion region) {
+        for (Map.Entry<String, Set<Object>> entry : _conditions.entrySet()) {
+            Set<Object> conditionValues = region._conditions.get(entry.getKey());
+            if (conditionValues != null && Collections.disjoint(entry.getValue(), conditionValues)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void subtract(final ConditionRegion region, final List<ConditionRegion> regions) {
+        if (isDisjoint(region)) {
+            regions.add(this);
+            return;
+        }
+        Map<String, Set<Object>> remainingConditions = new TreeMap<>(_conditions);
+        for (Map.Entry<String, Set<Object>> entry : _conditions.entrySet()) {
+            Set<Object> conditionValues = region._conditions.get(entry.getKey());
+            if (conditionValues != null) {
+                Set<Object> outsideConditionValues = new LinkedHashSet<>(entry.getValue());
+                outsideConditionValues.removeAll(conditionValues);
+                if (!outsideConditionValues.isEmpty()) {
+                    Map<String, Set<Object>> outsideConditions = new TreeMap<>(remainingConditions);
+                    outsideConditions.put(entry.getKey(), outsideConditionValues);
+                    regions.add(new ConditionRegion(outsideConditions));
+                    Set<Object> insideConditionValues = new LinkedHashSet<>(entry.getValue());
+                    insideConditionValues.retainAll(conditionValues);
+                    remainingConditions.put(entry.getKey(), insideConditionValues);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return _conditions.toString();
+    }
+
+}
@@ -21,13 +21,23 @@ package ru.d_shap.conditionalvalues;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
 
 /**
+ * <p>
  * Class represents conditions, used to lookup the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+ * </p>
+ * <p>
+ * Objects of this class are equal, if they contain the equal conditions. The hash code is computed when the
+ * object is created, so the object can be used as the key of the lookup result cache.
+ * </p>
+ * <p>
+ * The object, created with the builder, obtained from the {@link ru.d_shap.conditionalvalues.ConditionalValues}
+ * object, is bound to the condition names of this {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ * The condition values of such object are stored in the array by condition name IDs, so the lookup in this
+ * {@link ru.d_shap.conditionalvalues.ConditionalValues} object uses these values without any map lookups.
+ * </p>
  *
  * @author Dmitry Shapovalov
  */
@@ -35,12 +45,22 @@ public final class ConditionSet {
 
     private final Map<String, Object> _conditions;
 
-    private final Set<String> _conditionNames;
+    private final ConditionNameTable _conditionNameTable;
+
+    private final Object[] _conditionValues;
+
+    private final int _hashCode;
 
     ConditionSet(final Map<String, Object> conditions) {
+        this(conditions, null);
+    }
+
+    ConditionSet(final Map<String, Object> conditions, final ConditionNameTable conditionNameTable) {
         super();
         _conditions = createConditions(conditions);
-        _conditionNames = createConditionNames();
+        _conditionNameTable = conditionNameTable;
+        _conditionValues = createConditionValues();
+        _hashCode = _conditions.hashCode();
     }
 
     private Map<String, Object> createConditions(final Map<String, Object> conditions) {
@@ -57,19 +77,47 @@ public final class ConditionSet {
         return Collections.unmodifiableMap(result);
     }
 
-    private Set<String> createConditionNames() {
-        Set<String> result = new HashSet<>(_conditions.keySet());
-        return Collections.unmodifiableSet(result);
+    private Object[] createConditionValues() {
+        if (_conditionNameTable == null) {
+            return null;
+        } else {
+            return _conditionNameTable.createConditionValues(_conditions);
+        }
     }
 
     Iterator<String> nameIterator() {
-        return _conditionNames.iterator();
+        return _conditions.keySet().iterator();
     }
 
     Object getValue(final String name) {
         return _conditions.get(name);
     }
 
+    boolean isBound(final ConditionNameTable conditionNameTable) {
+        return _conditionValues != null && _conditionNameTable == conditionNameTable;
+    }
+
+    Object[] getConditionValues() {
+        return _conditionValues;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ConditionSet)) {
+            return false;
+        }
+        ConditionSet conditionSet = (ConditionSet) obj;
+        return _hashCode == conditionSet._hashCode && _conditions.equals(conditionSet._conditions);
+    }
+
+    @Override
+    public int hashCode() {
+        return _hashCode;
+    }
+
     @Override
     public String toString() {
         return _conditions.toString();
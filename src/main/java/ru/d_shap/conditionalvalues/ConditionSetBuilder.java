@@ -36,10 +36,13 @@ import java.util.Map;
  */
 public final class ConditionSetBuilder {
 
+    private final ConditionNameTable _conditionNameTable;
+
     private final Map<String, Object> _conditions;
 
-    private ConditionSetBuilder() {
+    private ConditionSetBuilder(final ConditionNameTable conditionNameTable) {
         super();
+        _conditionNameTable = conditionNameTable;
         _conditions = new HashMap<>();
     }
 
@@ -49,7 +52,11 @@ public final class ConditionSetBuilder {
      * @return new builder instance.
      */
     public static ConditionSetBuilder newInstance() {
-        return new ConditionSetBuilder();
+        return new ConditionSetBuilder(null);
+    }
+
+    static ConditionSetBuilder newInstance(final ConditionNameTable conditionNameTable) {
+        return new ConditionSetBuilder(conditionNameTable);
     }
 
     /**
@@ -374,7 +381,7 @@ public final class ConditionSetBuilder {
      * @return {@link ru.d_shap.conditionalvalues.ConditionSet} object.
      */
     public ConditionSet build(final boolean clear) {
-        ConditionSet conditionSet = new ConditionSet(_conditions);
+        ConditionSet conditionSet = new ConditionSet(_conditions, _conditionNameTable);
         if (clear) {
             clear();
         }
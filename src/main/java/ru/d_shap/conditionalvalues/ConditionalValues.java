@@ -20,17 +20,27 @@
 package ru.d_shap.conditionalvalues;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.regex.Pattern;
 
+import ru.d_shap.conditionalvalues.predicate.AllValuesMatchTuplePredicate;
 import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
 import ru.d_shap.conditionalvalues.predicate.EqualsPredicate;
+import ru.d_shap.conditionalvalues.predicate.PatternFindPredicate;
+import ru.d_shap.conditionalvalues.predicate.PatternMatchesPredicate;
+import ru.d_shap.conditionalvalues.predicate.StringContainsIgnoreCasePredicate;
+import ru.d_shap.conditionalvalues.predicate.StringContainsPredicate;
 
 /**
  * Object holds {@link ru.d_shap.conditionalvalues.ValueSet} objects and performs lookup for the best
@@ -53,16 +63,155 @@ public final class ConditionalValues<T> {
 
     private final List<ValueSet<T>> _valueSets;
 
+    private volatile List<ValueSet<T>> _liveValueSets;
+
     private final List<T> _allValues;
 
+    private final Set<T> _allUniqueValues;
+
+    private final int[] _scannedOrdinals;
+
+    private final ConditionNameTable _conditionNameTable;
+
+    private final EqualsIndex _equalsIndex;
+
+    private final List<ConditionIndex> _conditionIndexes;
+
+    private final int[] _conditionIndexIds;
+
+    private final SlotList<ValueSetMatcher> _valueSetMatchers;
+
+    private final SpecificityLattice _specificityLattice;
+
+    private final ConditionNameMask _scannedConditionNameMask;
+
+    private final LookupPlanCache _lookupPlanCache;
+
+    private final ThreadLocal<LookupBuffer> _lookupBuffers;
+
+    private final LookupCache<T> _lookupCache;
+
+    private final int _parallelScanThreshold;
+
+    private final TieredMatcher _tieredMatcher;
+
+    private final MinimizationReport<T> _minimizationReport;
+
     ConditionalValues(final TuplePredicate tuplePredicate, final Predicate predicate, final Map<String, Predicate> predicates, final Comparator<T> comparator, final List<ValueSet<T>> valueSets) {
+        this(tuplePredicate, predicate, predicates, comparator, valueSets, ConditionalValuesOptions.DEFAULT);
+    }
+
+    ConditionalValues(final TuplePredicate tuplePredicate, final Predicate predicate, final Map<String, Predicate> predicates, final Comparator<T> comparator, final List<ValueSet<T>> valueSets, final ConditionalValuesOptions options) {
+        super();
+        _tuplePredicate = createTuplePredicate(tuplePredicate);
+        _predicate = createPredicate(predicate);
+        _predicates = createPredicates(predicates);
+        _comparator = comparator;
+        ValueSetMinimizer<T> valueSetMinimizer = createValueSetMinimizer(valueSets, options);
+        _liveValueSets = createValueSets(valueSets, valueSetMinimizer);
+        _valueSets = _liveValueSets;
+        _allValues = createAllValues(valueSets);
+        _allUniqueValues = Values.createSet(_comparator, _allValues);
+        List<Integer> indexedOrdinals = new ArrayList<>();
+        _scannedOrdinals = createScannedOrdinals(indexedOrdinals);
+        _conditionNameTable = new ConditionNameTable(_valueSets);
+        _equalsIndex = new EqualsIndex(_conditionNameTable, _valueSets, indexedOrdinals);
+        _conditionIndexes = createConditionIndexes(options.isPatternPrefilter());
+        _conditionIndexIds = createConditionIndexIds();
+        _valueSetMatchers = createValueSetMatchers();
+        _specificityLattice = new SpecificityLattice(_conditionNameTable, _valueSets);
+        _scannedConditionNameMask = createScannedConditionNameMask();
+        _lookupPlanCache = new LookupPlanCache();
+        _lookupBuffers = new ThreadLocal<>();
+        _lookupCache = createLookupCache(options.getLookupCacheSize());
+        _parallelScanThreshold = options.getParallelScanThreshold();
+        _tieredMatcher = new TieredMatcher(_valueSetMatchers, _scannedOrdinals, options.getCompilationThreshold(), DefaultForkJoinPool.getInstance());
+        _minimizationReport = createMinimizationReport(valueSetMinimizer);
+    }
+
+    ConditionalValues(final ConditionalValues<T> conditionalValues, final SlotList<ValueSet<T>> valueSets, final BitSet changedOrdinals, final ConditionalValuesOptions options) {
+        super();
+        _tuplePredicate = conditionalValues._tuplePredicate;
+        _predicate = conditionalValues._predicate;
+        _predicates = conditionalValues._predicates;
+        _comparator = conditionalValues._comparator;
+        _valueSets = valueSets;
+        _liveValueSets = null;
+        _allValues = deriveAllValues(conditionalValues, changedOrdinals);
+        _allUniqueValues = null;
+        List<Integer> removedIndexedOrdinals = new ArrayList<>();
+        List<Integer> addedIndexedOrdinals = new ArrayList<>();
+        _scannedOrdinals = deriveScannedOrdinals(conditionalValues, changedOrdinals, removedIndexedOrdinals, addedIndexedOrdinals);
+        boolean scannedOrdinalChanged = isScannedOrdinalChanged(conditionalValues._scannedOrdinals, changedOrdinals) || isScannedOrdinalChanged(_scannedOrdinals, changedOrdinals);
+        _conditionNameTable = conditionalValues._conditionNameTable;
+        _equalsIndex = new EqualsIndex(conditionalValues._equalsIndex, _conditionNameTable, conditionalValues._valueSets, _valueSets, removedIndexedOrdinals, addedIndexedOrdinals);
+        _conditionIndexes = deriveConditionIndexes(conditionalValues, scannedOrdinalChanged, options.isPatternPrefilter());
+        _conditionIndexIds = createConditionIndexIds();
+        _valueSetMatchers = deriveValueSetMatchers(conditionalValues._valueSetMatchers, changedOrdinals);
+        _specificityLattice = new SpecificityLattice(conditionalValues._specificityLattice, _valueSets, changedOrdinals);
+        _scannedConditionNameMask = deriveScannedConditionNameMask(conditionalValues, scannedOrdinalChanged);
+        _lookupPlanCache = new LookupPlanCache();
+        _lookupBuffers = conditionalValues._lookupBuffers;
+        _lookupCache = createLookupCache(options.getLookupCacheSize());
+        _parallelScanThreshold = options.getParallelScanThreshold();
+        _tieredMatcher = new TieredMatcher(_valueSetMatchers, _scannedOrdinals, options.getCompilationThreshold(), DefaultForkJoinPool.getInstance());
+        _minimizationReport = deriveMinimizationReport(conditionalValues, changedOrdinals);
+    }
+
+    ConditionalValues(final TuplePredicate tuplePredicate, final Predicate predicate, final Map<String, Predicate> predicates, final Comparator<T> comparator, final SnapshotIndex<T> snapshotIndex, final ConditionalValuesOptions options) {
         super();
         _tuplePredicate = createTuplePredicate(tuplePredicate);
         _predicate = createPredicate(predicate);
         _predicates = createPredicates(predicates);
         _comparator = comparator;
-        _valueSets = createValueSets(valueSets);
-        _allValues = createAllValues();
+        _valueSets = snapshotIndex.getValueSets();
+        _liveValueSets = null;
+        _allValues = new SnapshotValueList<>(_comparator, _valueSets, snapshotIndex.getValueCount());
+        _allUniqueValues = null;
+        _scannedOrdinals = snapshotIndex.getScannedOrdinals();
+        _conditionNameTable = snapshotIndex.getConditionNameTable();
+        _equalsIndex = snapshotIndex.getEqualsIndex();
+        _conditionIndexes = createConditionIndexes(options.isPatternPrefilter());
+        _conditionIndexIds = createConditionIndexIds();
+        _valueSetMatchers = createScannedValueSetMatchers();
+        _specificityLattice = snapshotIndex.getSpecificityLattice();
+        _scannedConditionNameMask = createScannedConditionNameMask();
+        _lookupPlanCache = new LookupPlanCache();
+        _lookupBuffers = new ThreadLocal<>();
+        _lookupCache = createLookupCache(options.getLookupCacheSize());
+        _parallelScanThreshold = options.getParallelScanThreshold();
+        _tieredMatcher = new TieredMatcher(_valueSetMatchers, _scannedOrdinals, options.getCompilationThreshold(), DefaultForkJoinPool.getInstance());
+        _minimizationReport = createMinimizationReport(snapshotIndex.getValueSetCount());
+    }
+
+    private ValueSetMinimizer<T> createValueSetMinimizer(final List<ValueSet<T>> valueSets, final ConditionalValuesOptions options) {
+        if (options.isMinimization()) {
+            return new ValueSetMinimizer<>(_tuplePredicate, _predicate, _predicates, valueSets);
+        } else {
+            return null;
+        }
+    }
+
+    private MinimizationReport<T> createMinimizationReport(final ValueSetMinimizer<T> valueSetMinimizer) {
+        if (valueSetMinimizer == null) {
+            return createMinimizationReport(_valueSets.size());
+        } else {
+            return valueSetMinimizer.getMinimizationReport();
+        }
+    }
+
+    private MinimizationReport<T> createMinimizationReport(final int valueSetCount) {
+        List<ValueSet<T>> valueSets = Collections.emptyList();
+        Map<ValueSet<T>, List<ValueSet<T>>> mergedValueSets = Collections.emptyMap();
+        return new MinimizationReport<>(valueSetCount, valueSetCount, valueSets, valueSets, mergedValueSets);
+    }
+
+    private LookupCache<T> createLookupCache(final int lookupCacheSize) {
+        if (lookupCacheSize > 0) {
+            return new LookupCache<>(lookupCacheSize);
+        } else {
+            return null;
+        }
     }
 
     private TuplePredicate createTuplePredicate(final TuplePredicate tuplePredicate) {
@@ -95,30 +244,314 @@ public final class ConditionalValues<T> {
         return result;
     }
 
-    private List<ValueSet<T>> createValueSets(final List<ValueSet<T>> valueSets) {
+    private List<ValueSet<T>> createValueSets(final List<ValueSet<T>> valueSets, final ValueSetMinimizer<T> valueSetMinimizer) {
         List<ValueSet<T>> result = new ArrayList<>();
+        if (valueSetMinimizer == null) {
+            if (valueSets != null) {
+                for (ValueSet<T> valueSet : valueSets) {
+                    if (valueSet != null) {
+                        result.add(valueSet);
+                    }
+                }
+            }
+        } else {
+            result.addAll(valueSetMinimizer.getValueSets());
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private List<T> createAllValues(final List<ValueSet<T>> valueSets) {
+        List<T> result = new ArrayList<>();
         if (valueSets != null) {
             for (ValueSet<T> valueSet : valueSets) {
                 if (valueSet != null) {
-                    result.add(valueSet);
+                    result.addAll(valueSet.getValues());
                 }
             }
         }
+        if (_comparator != null) {
+            Collections.sort(result, _comparator);
+        }
         return Collections.unmodifiableList(result);
     }
 
-    private List<T> createAllValues() {
-        List<T> result = new ArrayList<>();
-        for (ValueSet<T> valueSet : _valueSets) {
-            List<T> values = valueSet.getValues();
-            result.addAll(values);
+    private int[] createScannedOrdinals(final List<Integer> indexedOrdinals) {
+        IntList result = new IntList();
+        for (int i = 0; i < _valueSets.size(); i++) {
+            if (isEqualsIndexed(_valueSets.get(i))) {
+                indexedOrdinals.add(i);
+            } else {
+                result.add(i);
+            }
         }
-        if (_comparator != null) {
+        return result.toArray();
+    }
+
+    private ConditionNameMask createScannedConditionNameMask() {
+        Set<String> conditionNames = new HashSet<>();
+        for (int ordinal : _scannedOrdinals) {
+            conditionNames.addAll(_valueSets.get(ordinal).getAllConditionNames());
+        }
+        return _specificityLattice.createConditionNameMask(conditionNames);
+    }
+
+    boolean isEqualsIndexed(final ValueSet<T> valueSet) {
+        if (!(_tuplePredicate instanceof AnyValueMatchesTuplePredicate)) {
+            return false;
+        }
+        for (String conditionName : valueSet.getAllConditionNames()) {
+            Predicate conditionPredicate = valueSet.getConditionPredicate(conditionName, _predicates, _predicate);
+            if (!(conditionPredicate instanceof EqualsPredicate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<ConditionIndex> createConditionIndexes(final boolean patternPrefilter) {
+        List<ConditionIndex> result = new ArrayList<>();
+        if (!(_tuplePredicate instanceof AnyValueMatchesTuplePredicate) && !(_tuplePredicate instanceof AllValuesMatchTuplePredicate)) {
+            return result;
+        }
+        Map<String, List<Integer>> containsOrdinals = new HashMap<>();
+        Map<String, List<Integer>> containsIgnoreCaseOrdinals = new HashMap<>();
+        Map<String, List<Integer>> patternMatchesOrdinals = new HashMap<>();
+        Map<String, List<Integer>> patternFindOrdinals = new HashMap<>();
+        for (int ordinal : _scannedOrdinals) {
+            ValueSet<T> valueSet = _valueSets.get(ordinal);
+            for (String conditionName : valueSet.getAllConditionNames()) {
+                Set<Object> conditionValues = valueSet.getAllConditionValues(conditionName);
+                Predicate conditionPredicate = valueSet.getConditionPredicate(conditionName, _predicates, _predicate);
+                if (isConditionValuesOfType(conditionValues, String.class)) {
+                    if (conditionPredicate instanceof StringContainsPredicate) {
+                        addConditionIndexedOrdinal(containsOrdinals, conditionName, ordinal);
+                    }
+                    if (conditionPredicate instanceof StringContainsIgnoreCasePredicate) {
+                        addConditionIndexedOrdinal(containsIgnoreCaseOrdinals, conditionName, ordinal);
+                    }
+                }
+                if (patternPrefilter && isConditionValuesOfType(conditionValues, Pattern.class)) {
+                    if (conditionPredicate instanceof PatternMatchesPredicate) {
+                        addConditionIndexedOrdinal(patternMatchesOrdinals, conditionName, ordinal);
+                    }
+                    if (conditionPredicate instanceof PatternFindPredicate) {
+                        addConditionIndexedOrdinal(patternFindOrdinals, conditionName, ordinal);
+                    }
+                }
+            }
+        }
+        boolean allValuesMatch = _tuplePredicate instanceof AllValuesMatchTuplePredicate;
+        for (Map.Entry<String, List<Integer>> entry : containsOrdinals.entrySet()) {
+            result.add(new ContainsIndex(entry.getKey(), false, allValuesMatch, _valueSets, entry.getValue()));
+        }
+        for (Map.Entry<String, List<Integer>> entry : containsIgnoreCaseOrdinals.entrySet()) {
+            result.add(new ContainsIndex(entry.getKey(), true, allValuesMatch, _valueSets, entry.getValue()));
+        }
+        for (Map.Entry<String, List<Integer>> entry : patternMatchesOrdinals.entrySet()) {
+            result.add(new PatternIndex(entry.getKey(), false, allValuesMatch, _valueSets, entry.getValue()));
+        }
+        for (Map.Entry<String, List<Integer>> entry : patternFindOrdinals.entrySet()) {
+            result.add(new PatternIndex(entry.getKey(), true, allValuesMatch, _valueSets, entry.getValue()));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private boolean isConditionValuesOfType(final Set<Object> conditionValues, final Class<?> type) {
+        for (Object conditionValue : conditionValues) {
+            if (!type.isInstance(conditionValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addConditionIndexedOrdinal(final Map<String, List<Integer>> ordinals, final String conditionName, final int ordinal) {
+        List<Integer> conditionNameOrdinals = ordinals.get(conditionName);
+        if (conditionNameOrdinals == null) {
+            conditionNameOrdinals = new ArrayList<>();
+            ordinals.put(conditionName, conditionNameOrdinals);
+        }
+        conditionNameOrdinals.add(ordinal);
+    }
+
+    private int[] createConditionIndexIds() {
+        int[] result = new int[_conditionIndexes.size()];
+        for (int i = 0; i < result.length; i++) {
+            String conditionName = _conditionIndexes.get(i).getConditionName();
+            result[i] = _conditionNameTable.getConditionId(conditionName);
+        }
+        return result;
+    }
+
+    private SlotList<ValueSetMatcher> createValueSetMatchers() {
+        List<ValueSetMatcher> result = new ArrayList<>(_valueSets.size());
+        for (int i = 0; i < _valueSets.size(); i++) {
+            ValueSetMatcher valueSetMatcher = createValueSetMatcher(i);
+            result.add(valueSetMatcher);
+        }
+        return new SlotList<>(result);
+    }
+
+    private SlotList<ValueSetMatcher> createScannedValueSetMatchers() {
+        List<ValueSetMatcher> result = new ArrayList<>(Collections.<ValueSetMatcher>nCopies(_valueSets.size(), null));
+        for (int ordinal : _scannedOrdinals) {
+            result.set(ordinal, createValueSetMatcher(ordinal));
+        }
+        return new SlotList<>(result);
+    }
+
+    private ValueSetMatcher createValueSetMatcher(final int ordinal) {
+        ValueSet<T> valueSet = _valueSets.get(ordinal);
+        Set<String> conditionNames = valueSet.getAllConditionNames();
+        int[] conditionIds = new int[conditionNames.size()];
+        int index = 0;
+        for (String conditionName : conditionNames) {
+            conditionIds[index] = _conditionNameTable.getConditionId(conditionName);
+            index++;
+        }
+        Arrays.sort(conditionIds);
+        ConditionMatcher[] conditionMatchers = new ConditionMatcher[conditionIds.length];
+        boolean[] conditionIndexed = new boolean[conditionIds.length];
+        for (int i = 0; i < conditionIds.length; i++) {
+            String conditionName = _conditionNameTable.getConditionName(conditionIds[i]);
+            conditionMatchers[i] = valueSet.createConditionMatcher(conditionName, _tuplePredicate, _predicates, _predicate);
+            conditionIndexed[i] = isConditionIndexed(conditionIds[i], ordinal);
+        }
+        return new ValueSetMatcher(ordinal, conditionIds, conditionMatchers, conditionIndexed);
+    }
+
+    private boolean isConditionIndexed(final int conditionId, final int ordinal) {
+        for (int i = 0; i < _conditionIndexes.size(); i++) {
+            if (_conditionIndexIds[i] == conditionId && _conditionIndexes.get(i).isIndexed(ordinal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<T> deriveAllValues(final ConditionalValues<T> conditionalValues, final BitSet changedOrdinals) {
+        List<T> result;
+        if (_comparator == null) {
+            result = new ArrayList<>(conditionalValues._allValues.size());
+            for (ValueSet<T> valueSet : _valueSets) {
+                if (valueSet != null) {
+                    result.addAll(valueSet.getValues());
+                }
+            }
+        } else {
+            result = new ArrayList<>(conditionalValues._allValues);
+            for (int ordinal = changedOrdinals.nextSetBit(0); ordinal >= 0; ordinal = changedOrdinals.nextSetBit(ordinal + 1)) {
+                removeValues(result, conditionalValues.getValueSet(ordinal));
+                ValueSet<T> valueSet = _valueSets.get(ordinal);
+                if (valueSet != null) {
+                    result.addAll(valueSet.getValues());
+                }
+            }
             Collections.sort(result, _comparator);
         }
         return Collections.unmodifiableList(result);
     }
 
+    private void removeValues(final List<T> values, final ValueSet<T> valueSet) {
+        if (valueSet != null) {
+            for (T value : valueSet.getValues()) {
+                values.remove(value);
+            }
+        }
+    }
+
+    private int[] deriveScannedOrdinals(final ConditionalValues<T> conditionalValues, final BitSet changedOrdinals, final List<Integer> removedIndexedOrdinals, final List<Integer> addedIndexedOrdinals) {
+        IntList result = new IntList();
+        for (int ordinal : conditionalValues._scannedOrdinals) {
+            if (!changedOrdinals.get(ordinal)) {
+                result.add(ordinal);
+            }
+        }
+        for (int ordinal = changedOrdinals.nextSetBit(0); ordinal >= 0; ordinal = changedOrdinals.nextSetBit(ordinal + 1)) {
+            ValueSet<T> previousValueSet = conditionalValues.getValueSet(ordinal);
+            if (previousValueSet != null && isEqualsIndexed(previousValueSet)) {
+                removedIndexedOrdinals.add(ordinal);
+            }
+            ValueSet<T> valueSet = _valueSets.get(ordinal);
+            if (valueSet != null) {
+                if (isEqualsIndexed(valueSet)) {
+                    addedIndexedOrdinals.add(ordinal);
+                } else {
+                    result.add(ordinal);
+                }
+            }
+        }
+        result.sort();
+        return result.toArray();
+    }
+
+    private boolean isScannedOrdinalChanged(final int[] scannedOrdinals, final BitSet changedOrdinals) {
+        for (int ordinal : scannedOrdinals) {
+            if (changedOrdinals.get(ordinal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<ConditionIndex> deriveConditionIndexes(final ConditionalValues<T> conditionalValues, final boolean scannedOrdinalChanged, final boolean patternPrefilter) {
+        if (scannedOrdinalChanged) {
+            return createConditionIndexes(patternPrefilter);
+        } else {
+            return conditionalValues._conditionIndexes;
+        }
+    }
+
+    private SlotList<ValueSetMatcher> deriveValueSetMatchers(final SlotList<ValueSetMatcher> valueSetMatchers, final BitSet changedOrdinals) {
+        SlotList<ValueSetMatcher> result = new SlotList<>(valueSetMatchers);
+        for (int ordinal = changedOrdinals.nextSetBit(0); ordinal >= 0; ordinal = changedOrdinals.nextSetBit(ordinal + 1)) {
+            if (_valueSets.get(ordinal) == null) {
+                result.putSlot(ordinal, null);
+            } else {
+                result.putSlot(ordinal, createValueSetMatcher(ordinal));
+            }
+        }
+        return result;
+    }
+
+    private ConditionNameMask deriveScannedConditionNameMask(final ConditionalValues<T> conditionalValues, final boolean scannedOrdinalChanged) {
+        if (scannedOrdinalChanged) {
+            return createScannedConditionNameMask();
+        } else {
+            return conditionalValues._scannedConditionNameMask;
+        }
+    }
+
+    private MinimizationReport<T> deriveMinimizationReport(final ConditionalValues<T> conditionalValues, final BitSet changedOrdinals) {
+        int valueSetCount = conditionalValues._minimizationReport.getMinimizedValueSetCount();
+        for (int ordinal = changedOrdinals.nextSetBit(0); ordinal >= 0; ordinal = changedOrdinals.nextSetBit(ordinal + 1)) {
+            if (conditionalValues.getValueSet(ordinal) != null) {
+                valueSetCount--;
+            }
+            if (_valueSets.get(ordinal) != null) {
+                valueSetCount++;
+            }
+        }
+        return createMinimizationReport(valueSetCount);
+    }
+
+    private ValueSet<T> getValueSet(final int ordinal) {
+        if (ordinal < _valueSets.size()) {
+            return _valueSets.get(ordinal);
+        } else {
+            return null;
+        }
+    }
+
+    boolean isConditionNamesDefined(final ValueSet<T> valueSet) {
+        for (String conditionName : valueSet.getAllConditionNames()) {
+            if (_conditionNameTable.getConditionId(conditionName) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Get all condition names, defined in all {@link ru.d_shap.conditionalvalues.ValueSet} objects.
      *
@@ -126,7 +559,7 @@ public final class ConditionalValues<T> {
      */
     public Set<String> getAllConditionNames() {
         Set<String> result = new HashSet<>();
-        for (ValueSet<T> valueSet : _valueSets) {
+        for (ValueSet<T> valueSet : getValueSets()) {
             Set<String> conditionNames = valueSet.getAllConditionNames();
             result.addAll(conditionNames);
         }
@@ -142,7 +575,7 @@ public final class ConditionalValues<T> {
      */
     public Set<Object> getAllConditionValues(final String conditionName) {
         Set<Object> result = new HashSet<>();
-        for (ValueSet<T> valueSet : _valueSets) {
+        for (ValueSet<T> valueSet : getValueSets()) {
             Set<Object> allConditionValues = valueSet.getAllConditionValues(conditionName);
             result.addAll(allConditionValues);
         }
@@ -156,15 +589,190 @@ public final class ConditionalValues<T> {
      */
     public List<ValueSetUniqueCondition> getAllValueSetUniqueConditions() {
         List<ValueSetUniqueCondition> result = new ArrayList<>();
-        for (ValueSet<T> valueSet : _valueSets) {
-            List<ValueSetUniqueCondition> valueSetUniqueConditions = valueSet.getValueSetUniqueConditions();
-            result.addAll(valueSetUniqueConditions);
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator = valueSetUniqueConditionIterator();
+        while (valueSetUniqueConditionIterator.hasNext()) {
+            result.add(valueSetUniqueConditionIterator.next());
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Get the lazy iterator over all unique combinations of single conditions, defined in all
+     * {@link ru.d_shap.conditionalvalues.ValueSet} objects. The combinations are created one by one, when
+     * they are requested, and the iterator can be split to process the combinations in parallel.
+     *
+     * @return the lazy iterator over all unique combinations of single conditions.
+     */
+    public ValueSetUniqueConditionIterator valueSetUniqueConditionIterator() {
+        return new ValueSetUniqueConditionIterator(getValueSets());
+    }
+
+    /**
+     * <p>
+     * Find the overlapping {@link ru.d_shap.conditionalvalues.ValueSet} objects. Two
+     * {@link ru.d_shap.conditionalvalues.ValueSet} objects overlap, if the same
+     * {@link ru.d_shap.conditionalvalues.ConditionSet} object matches both of them, and none of them is more
+     * specific than the other, so the lookup returns the values of both of them.
+     * </p>
+     * <p>
+     * Only the {@link ru.d_shap.conditionalvalues.ValueSet} objects, matched with the
+     * {@link ru.d_shap.conditionalvalues.predicate.EqualsPredicate} object for every condition and with the
+     * {@link ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate} object, are analysed. The pairs
+     * are found with the inverted index of the condition values, so the unique combinations of the conditions
+     * are not enumerated.
+     * </p>
+     *
+     * @return the overlapping {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    public List<ValueSetOverlap<T>> findOverlaps() {
+        ValueSetOverlapIndex<T> valueSetOverlapIndex = createValueSetOverlapIndex();
+        IntList ordinalPairs = new IntList();
+        valueSetOverlapIndex.addOverlappingOrdinals(0, valueSetOverlapIndex.getOrdinalCount(), ordinalPairs);
+        return createValueSetOverlaps(valueSetOverlapIndex, ordinalPairs);
+    }
+
+    /**
+     * Find the overlapping {@link ru.d_shap.conditionalvalues.ValueSet} objects in parallel with the default
+     * {@link java.util.concurrent.ForkJoinPool} object. The result is the same as the result of the
+     * {@link #findOverlaps()} method.
+     *
+     * @return the overlapping {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    public List<ValueSetOverlap<T>> findOverlapsParallel() {
+        return findOverlapsParallel(DefaultForkJoinPool.getInstance());
+    }
+
+    /**
+     * Find the overlapping {@link ru.d_shap.conditionalvalues.ValueSet} objects in parallel. The analysed
+     * {@link ru.d_shap.conditionalvalues.ValueSet} objects are split in halves recursively, and every task
+     * stores the overlapping pairs in its own list. The result is the same as the result of the
+     * {@link #findOverlaps()} method.
+     *
+     * @param forkJoinPool the pool to run the tasks.
+     *
+     * @return the overlapping {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    public List<ValueSetOverlap<T>> findOverlapsParallel(final ForkJoinPool forkJoinPool) {
+        ValueSetOverlapIndex<T> valueSetOverlapIndex = createValueSetOverlapIndex();
+        ValueSetOverlapTask<T> valueSetOverlapTask = new ValueSetOverlapTask<>(valueSetOverlapIndex, 0, valueSetOverlapIndex.getOrdinalCount());
+        if (forkJoinPool == null) {
+            DefaultForkJoinPool.getInstance().invoke(ForkJoinTask.adapt(valueSetOverlapTask));
+        } else {
+            forkJoinPool.invoke(ForkJoinTask.adapt(valueSetOverlapTask));
+        }
+        IntList ordinalPairs = new IntList();
+        valueSetOverlapTask.addOrdinalPairs(ordinalPairs);
+        return createValueSetOverlaps(valueSetOverlapIndex, ordinalPairs);
+    }
+
+    private ValueSetOverlapIndex<T> createValueSetOverlapIndex() {
+        IntList ordinals = new IntList();
+        for (int i = 0; i < _valueSets.size(); i++) {
+            ValueSet<T> valueSet = _valueSets.get(i);
+            if (valueSet != null && isEqualsIndexed(valueSet)) {
+                ordinals.add(i);
+            }
+        }
+        return new ValueSetOverlapIndex<>(_valueSets, ordinals.toArray());
+    }
+
+    private List<ValueSetOverlap<T>> createValueSetOverlaps(final ValueSetOverlapIndex<T> valueSetOverlapIndex, final IntList ordinalPairs) {
+        List<ValueSetOverlap<T>> result = new ArrayList<>(ordinalPairs.size() / 2);
+        for (int i = 0; i < ordinalPairs.size(); i += 2) {
+            int ordinal1 = ordinalPairs.get(i);
+            int ordinal2 = ordinalPairs.get(i + 1);
+            ConditionSet conditionSet = new ConditionSet(valueSetOverlapIndex.createConditions(ordinal1, ordinal2), _conditionNameTable);
+            result.add(new ValueSetOverlap<>(_valueSets.get(ordinal1), _valueSets.get(ordinal2), conditionSet));
         }
         return Collections.unmodifiableList(result);
     }
 
     /**
-     * Get all values, defined in all {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     * <p>
+     * Find the regions of the {@link ru.d_shap.conditionalvalues.ConditionSet} objects, that are not covered by
+     * any {@link ru.d_shap.conditionalvalues.ValueSet} object, so the lookup returns the empty result for them.
+     * Every {@link ru.d_shap.conditionalvalues.ConditionSet} object defines one value from the domain for every
+     * specified condition name.
+     * </p>
+     * <p>
+     * The analysis starts with the single region of all domains, and subtracts the region of every
+     * {@link ru.d_shap.conditionalvalues.ValueSet} object, so the lookups are not performed. The region of the
+     * {@link ru.d_shap.conditionalvalues.ValueSet} object holds the domain values, matched by the condition, for
+     * every condition name, so the predicates are evaluated once for every domain value. The
+     * {@link ru.d_shap.conditionalvalues.ValueSet} objects without values, and with the conditions without the
+     * domain are not taken into account.
+     * </p>
+     *
+     * @param domains the domains of the condition values for every condition name.
+     *
+     * @return the disjoint regions, that are not covered by any {@link ru.d_shap.conditionalvalues.ValueSet} object.
+     */
+    public List<ConditionRegion> findGaps(final Map<String, Set<Object>> domains) {
+        Map<String, Set<Object>> conditions = createDomains(domains);
+        ConditionRegion domainRegion = new ConditionRegion(conditions);
+        if (domainRegion.getConditionSetCount() == 0L) {
+            return Collections.emptyList();
+        }
+        List<ConditionRegion> result = new ArrayList<>();
+        result.add(domainRegion);
+        for (ValueSet<T> valueSet : getValueSets()) {
+            ConditionRegion valueSetRegion = createConditionRegion(valueSet, conditions);
+            if (valueSetRegion != null) {
+                List<ConditionRegion> regions = new ArrayList<>();
+                for (ConditionRegion region : result) {
+                    region.subtract(valueSetRegion, regions);
+                }
+                result = regions;
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private Map<String, Set<Object>> createDomains(final Map<String, Set<Object>> domains) {
+        Map<String, Set<Object>> result = new HashMap<>();
+        if (domains != null) {
+            for (Map.Entry<String, Set<Object>> entry : domains.entrySet()) {
+                if (entry.getKey() != null) {
+                    Set<Object> conditionValues = new LinkedHashSet<>();
+                    if (entry.getValue() != null) {
+                        conditionValues.addAll(entry.getValue());
+                        conditionValues.remove(null);
+                    }
+                    result.put(entry.getKey(), conditionValues);
+                }
+            }
+        }
+        return result;
+    }
+
+    private ConditionRegion createConditionRegion(final ValueSet<T> valueSet, final Map<String, Set<Object>> domains) {
+        if (valueSet.getValues().isEmpty()) {
+            return null;
+        }
+        Map<String, Set<Object>> conditions = new HashMap<>();
+        for (String conditionName : valueSet.getAllConditionNames()) {
+            Set<Object> domain = domains.get(conditionName);
+            if (domain == null) {
+                return null;
+            }
+            Set<Object> conditionValues = new LinkedHashSet<>();
+            for (Object domainValue : domain) {
+                if (valueSet.isMatchCondition(conditionName, domainValue, _tuplePredicate, _predicates, _predicate)) {
+                    conditionValues.add(domainValue);
+                }
+            }
+            if (conditionValues.isEmpty()) {
+                return null;
+            }
+            conditions.put(conditionName, conditionValues);
+        }
+        return new ConditionRegion(conditions);
+    }
+
+    /**
+     * Get all values, defined in all {@link ru.d_shap.conditionalvalues.ValueSet} objects. If the minimization
+     * mode is enabled, then the values of the source {@link ru.d_shap.conditionalvalues.ValueSet} objects are
+     * returned, so the minimization does not change these values.
      *
      * @return all values.
      */
@@ -172,17 +780,62 @@ public final class ConditionalValues<T> {
         return _allValues;
     }
 
+    /**
+     * Create new builder instance for the {@link ru.d_shap.conditionalvalues.ConditionSet} objects, bound
+     * to the condition names of this object. The lookup with such {@link ru.d_shap.conditionalvalues.ConditionSet}
+     * objects does not resolve the condition names.
+     *
+     * @return new builder instance.
+     */
+    public ConditionSetBuilder createConditionSetBuilder() {
+        return ConditionSetBuilder.newInstance(_conditionNameTable);
+    }
+
+    /**
+     * Get the statistics of the lookup result cache.
+     *
+     * @return the statistics of the lookup result cache.
+     */
+    public LookupCacheStatistics getLookupCacheStatistics() {
+        if (_lookupCache == null) {
+            return new LookupCacheStatistics(0, 0, 0L, 0L, 0L, 0L);
+        } else {
+            return _lookupCache.getStatistics();
+        }
+    }
+
+    /**
+     * Get the report of the changes, made by the minimization of the {@link ru.d_shap.conditionalvalues.ValueSet}
+     * objects. If the object is created without the minimization, then the report contains no changes.
+     *
+     * @return the report of the changes, made by the minimization.
+     */
+    public MinimizationReport<T> getMinimizationReport() {
+        return _minimizationReport;
+    }
+
     /**
      * Performs lookup for the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     * If the lookup result cache is enabled, then the cached result is reused for the equal
+     * {@link ru.d_shap.conditionalvalues.ConditionSet} objects, but every lookup returns its own
+     * {@link ru.d_shap.conditionalvalues.Values} object.
      *
      * @param conditionSet lookup conditions.
      *
      * @return the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
      */
     public Values<T> lookup(final ConditionSet conditionSet) {
-        List<ValueSet<T>> valueSets = getMatchingValueSets(conditionSet);
-        removeLessSpecificValueSets(valueSets);
-        return new Values<>(_comparator, valueSets, _allValues);
+        if (_lookupCache == null || conditionSet == null) {
+            return doLookup(conditionSet);
+        }
+        Values<T> values = _lookupCache.get(conditionSet);
+        if (values == null) {
+            values = doLookup(conditionSet);
+            _lookupCache.put(conditionSet, values);
+            return values;
+        } else {
+            return new Values<>(values);
+        }
     }
 
     /**
@@ -216,34 +869,479 @@ public final class ConditionalValues<T> {
         return values;
     }
 
-    private List<ValueSet<T>> getMatchingValueSets(final ConditionSet conditionSet) {
-        List<ValueSet<T>> result = new ArrayList<>();
+    private Values<T> doLookup(final ConditionSet conditionSet) {
+        LookupBuffer lookupBuffer = acquireLookupBuffer();
+        try {
+            IntList ordinals = getMatchingOrdinals(conditionSet, lookupBuffer);
+            List<ValueSet<T>> valueSets = getValueSets(ordinals);
+            return new Values<>(_comparator, valueSets, _allValues, _allUniqueValues);
+        } finally {
+            lookupBuffer.release();
+        }
+    }
+
+    /**
+     * <p>
+     * Performs lookup for the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects,
+     * and perform the specified action on each value without creating the {@link ru.d_shap.conditionalvalues.Values} object.
+     * </p>
+     * <p>
+     * The values are passed to the action in the same order, as they are returned by the
+     * {@link ru.d_shap.conditionalvalues.Values#getValues()} method. The lookup bookkeeping is stored in the
+     * buffers of the current thread, so the lookup with the {@link ru.d_shap.conditionalvalues.ConditionSet} object,
+     * created by the builder from the {@link #createConditionSetBuilder()} method, does not allocate memory, if the
+     * predicates do not allocate memory. The string contains, string equals ignore case and pattern predicates
+     * allocate memory.
+     * </p>
+     *
+     * @param conditionSet lookup conditions.
+     * @param action       the specified action.
+     *
+     * @return the number of values, the action was performed on.
+     */
+    public int performAction(final ConditionSet conditionSet, final Action<T> action) {
+        if (action == null) {
+            return 0;
+        }
+        LookupBuffer lookupBuffer = acquireLookupBuffer();
+        try {
+            IntList ordinals = getMatchingOrdinals(conditionSet, lookupBuffer);
+            return performAction(ordinals, action, lookupBuffer);
+        } finally {
+            lookupBuffer.release();
+        }
+    }
+
+    int performAction(final int[] ordinals, final int fromIndex, final int toIndex, final Action<T> action) {
+        if (action == null) {
+            return 0;
+        }
+        LookupBuffer lookupBuffer = acquireLookupBuffer();
+        try {
+            IntList lookupOrdinals = lookupBuffer.getOrdinals();
+            for (int i = fromIndex; i < toIndex; i++) {
+                lookupOrdinals.add(ordinals[i]);
+            }
+            return performAction(lookupOrdinals, action, lookupBuffer);
+        } finally {
+            lookupBuffer.release();
+        }
+    }
+
+    private int performAction(final IntList ordinals, final Action<T> action, final LookupBuffer lookupBuffer) {
+        if (_comparator == null) {
+            return performAction(ordinals, action);
+        } else {
+            Object[] values = lookupBuffer.getValues();
+            int valueCount = addValues(ordinals, values);
+            lookupBuffer.setValueCount(valueCount);
+            sortValues(values, valueCount);
+            for (int i = 0; i < valueCount; i++) {
+                @SuppressWarnings("unchecked")
+                T typedValue = (T) values[i];
+                action.perform(typedValue);
+            }
+            return valueCount;
+        }
+    }
+
+    private int performAction(final IntList ordinals, final Action<T> action) {
+        int result = 0;
+        for (int i = 0; i < ordinals.size(); i++) {
+            Object[] values = _valueSets.get(ordinals.get(i)).getValueArray();
+            for (Object value : values) {
+                @SuppressWarnings("unchecked")
+                T typedValue = (T) value;
+                action.perform(typedValue);
+            }
+            result += values.length;
+        }
+        return result;
+    }
+
+    /**
+     * <p>
+     * Performs lookup for the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects for every
+     * {@link ru.d_shap.conditionalvalues.ConditionSet} object of the batch.
+     * </p>
+     * <p>
+     * The batch is processed in the chunks of rows. Every condition of every {@link ru.d_shap.conditionalvalues.ValueSet}
+     * object is evaluated for all rows of the chunk in a single loop, and only the ordinals of the best matching
+     * {@link ru.d_shap.conditionalvalues.ValueSet} objects are stored for every row. The
+     * {@link ru.d_shap.conditionalvalues.Values} objects are created only on request.
+     * </p>
+     *
+     * @param conditionSets the batch of the lookup conditions.
+     *
+     * @return the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects for every lookup conditions.
+     */
+    public BatchValues<T> lookupAll(final List<ConditionSet> conditionSets) {
+        if (conditionSets == null) {
+            return lookupAll(new ConditionSet[0]);
+        } else {
+            return lookupAll(conditionSets.toArray(new ConditionSet[0]));
+        }
+    }
+
+    /**
+     * Performs lookup for the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects for every
+     * {@link ru.d_shap.conditionalvalues.ConditionSet} object of the batch.
+     *
+     * @param conditionSets the batch of the lookup conditions.
+     *
+     * @return the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects for every lookup conditions.
+     */
+    public BatchValues<T> lookupAll(final ConditionSet... conditionSets) {
+        int rowCount = 0;
+        if (conditionSets != null) {
+            rowCount = conditionSets.length;
+        }
+        int[] valueSetCounts = new int[rowCount];
+        IntList ordinals = new IntList(rowCount);
+        addMatchingOrdinals(conditionSets, 0, rowCount, valueSetCounts, ordinals);
+        return createBatchValues(valueSetCounts, ordinals.toArray());
+    }
+
+    /**
+     * <p>
+     * Performs lookup for the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects for every
+     * {@link ru.d_shap.conditionalvalues.ConditionSet} object of the batch in parallel.
+     * </p>
+     * <p>
+     * The batch is split into the tasks of the default {@link java.util.concurrent.ForkJoinPool} object, that
+     * is shared by all {@link ru.d_shap.conditionalvalues.ConditionalValues} objects. The result is the same, as
+     * the result of the {@link #lookupAll(List)} method, and holds the lookup results in the input order.
+     * </p>
+     *
+     * @param conditionSets the batch of the lookup conditions.
+     *
+     * @return the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects for every lookup conditions.
+     */
+    public BatchValues<T> lookupAllParallel(final List<ConditionSet> conditionSets) {
+        return lookupAllParallel(conditionSets, DefaultForkJoinPool.getInstance());
+    }
+
+    /**
+     * <p>
+     * Performs lookup for the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects for every
+     * {@link ru.d_shap.conditionalvalues.ConditionSet} object of the batch in parallel.
+     * </p>
+     * <p>
+     * The batch is split in halves recursively, until the part fits the single chunk of the batch lookup,
+     * so the idle threads of the specified {@link java.util.concurrent.ForkJoinPool} object steal the parts of
+     * the batch. Every task uses the lookup buffers of its own thread and stores the result in its own
+     * list, so the tasks do not share the mutable state. The result holds the lookup results in the input order.
+     * </p>
+     *
+     * @param conditionSets the batch of the lookup conditions.
+     * @param forkJoinPool  the pool to run the lookup tasks.
+     *
+     * @return the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects for every lookup conditions.
+     */
+    public BatchValues<T> lookupAllParallel(final List<ConditionSet> conditionSets, final ForkJoinPool forkJoinPool) {
+        ConditionSet[] conditionSetArray;
+        if (conditionSets == null) {
+            conditionSetArray = new ConditionSet[0];
+        } else {
+            conditionSetArray = conditionSets.toArray(new ConditionSet[0]);
+        }
+        int[] valueSetCounts = new int[conditionSetArray.length];
+        BatchLookupTask<T> batchLookupTask = new BatchLookupTask<>(this, conditionSetArray, 0, conditionSetArray.length, valueSetCounts);
+        if (forkJoinPool == null) {
+            DefaultForkJoinPool.getInstance().invoke(ForkJoinTask.adapt(batchLookupTask));
+        } else {
+            forkJoinPool.invoke(ForkJoinTask.adapt(batchLookupTask));
+        }
+        IntList ordinals = new IntList(conditionSetArray.length);
+        batchLookupTask.addOrdinals(ordinals);
+        return createBatchValues(valueSetCounts, ordinals.toArray());
+    }
+
+    private BatchValues<T> createBatchValues(final int[] valueSetCounts, final int[] ordinals) {
+        int[] offsets = new int[valueSetCounts.length + 1];
+        for (int i = 0; i < valueSetCounts.length; i++) {
+            offsets[i + 1] = offsets[i] + valueSetCounts[i];
+        }
+        return new BatchValues<>(this, offsets, ordinals);
+    }
+
+    void addMatchingOrdinals(final ConditionSet[] conditionSets, final int fromRow, final int toRow, final int[] valueSetCounts, final IntList ordinals) {
+        BatchLookupBuffer batchLookupBuffer = new BatchLookupBuffer(_conditionNameTable.getConditionNameCount());
+        LookupBuffer lookupBuffer = acquireLookupBuffer();
+        try {
+            for (int chunkFromRow = fromRow; chunkFromRow < toRow; chunkFromRow += BatchLookupBuffer.MAX_ROW_COUNT) {
+                int chunkRowCount = Math.min(toRow - chunkFromRow, BatchLookupBuffer.MAX_ROW_COUNT);
+                addMatchingOrdinals(conditionSets, chunkFromRow, chunkRowCount, batchLookupBuffer, lookupBuffer);
+                for (int row = 0; row < chunkRowCount; row++) {
+                    IntList rowOrdinals = batchLookupBuffer.getOrdinals(row);
+                    for (int i = 0; i < rowOrdinals.size(); i++) {
+                        ordinals.add(rowOrdinals.get(i));
+                    }
+                    valueSetCounts[chunkFromRow + row] = rowOrdinals.size();
+                }
+            }
+        } finally {
+            lookupBuffer.release();
+        }
+    }
+
+    private void addMatchingOrdinals(final ConditionSet[] conditionSets, final int fromRow, final int rowCount, final BatchLookupBuffer batchLookupBuffer, final LookupBuffer lookupBuffer) {
+        Object[][] conditionSetValueColumns = batchLookupBuffer.getConditionSetValueColumns();
+        BitSet definedRows = batchLookupBuffer.getDefinedRows();
+        definedRows.clear();
+        for (int row = 0; row < rowCount; row++) {
+            ConditionSet conditionSet = conditionSets[fromRow + row];
+            IntList rowOrdinals = batchLookupBuffer.getOrdinals(row);
+            rowOrdinals.clear();
+            if (conditionSet == null) {
+                for (Object[] conditionSetValueColumn : conditionSetValueColumns) {
+                    conditionSetValueColumn[row] = null;
+                }
+            } else {
+                definedRows.set(row);
+                Object[] conditionSetValues = _conditionNameTable.getConditionValues(conditionSet, lookupBuffer.getConditionSetValues());
+                for (int conditionId = 0; conditionId < conditionSetValues.length; conditionId++) {
+                    conditionSetValueColumns[conditionId][row] = conditionSetValues[conditionId];
+                }
+                _equalsIndex.addMatchingOrdinals(conditionSetValues, rowOrdinals, lookupBuffer.getPostings());
+            }
+        }
+        BitSet matchingRows = batchLookupBuffer.getMatchingRows();
+        for (int ordinal : _scannedOrdinals) {
+            matchingRows.clear();
+            matchingRows.or(definedRows);
+            _valueSetMatchers.get(ordinal).retainMatchingRows(conditionSetValueColumns, matchingRows);
+            for (int row = matchingRows.nextSetBit(0); row >= 0; row = matchingRows.nextSetBit(row + 1)) {
+                batchLookupBuffer.getOrdinals(row).add(ordinal);
+            }
+        }
+        for (int row = 0; row < rowCount; row++) {
+            IntList rowOrdinals = batchLookupBuffer.getOrdinals(row);
+            rowOrdinals.sort();
+            _specificityLattice.removeLessSpecificOrdinals(rowOrdinals, lookupBuffer.getShapeStates(), lookupBuffer.getMatchedShapeIds());
+        }
+    }
+
+    Values<T> createValues(final int[] ordinals, final int fromIndex, final int toIndex) {
+        List<ValueSet<T>> valueSets = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            valueSets.add(_valueSets.get(ordinals[i]));
+        }
+        return new Values<>(_comparator, valueSets, _allValues, _allUniqueValues);
+    }
+
+    Values<T> createLiveValues(final int[] indexes, final int fromIndex, final int toIndex) {
+        List<ValueSet<T>> liveValueSets = getValueSets();
+        List<ValueSet<T>> valueSets = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            valueSets.add(liveValueSets.get(indexes[i]));
+        }
+        return new Values<>(_comparator, valueSets, _allValues, _allUniqueValues);
+    }
+
+    private int addValues(final IntList ordinals, final Object[] values) {
+        int result = 0;
+        for (int i = 0; i < ordinals.size(); i++) {
+            Object[] valueSetValues = _valueSets.get(ordinals.get(i)).getValueArray();
+            System.arraycopy(valueSetValues, 0, values, result, valueSetValues.length);
+            result += valueSetValues.length;
+        }
+        return result;
+    }
+
+    private void sortValues(final Object[] values, final int valueCount) {
+        @SuppressWarnings("unchecked")
+        T[] typedValues = (T[]) values;
+        Arrays.sort(typedValues, 0, valueCount, _comparator);
+    }
+
+    private LookupBuffer acquireLookupBuffer() {
+        LookupBuffer lookupBuffer = _lookupBuffers.get();
+        if (lookupBuffer == null || !isLookupBufferSuitable(lookupBuffer)) {
+            lookupBuffer = createLookupBuffer();
+            _lookupBuffers.set(lookupBuffer);
+        } else if (lookupBuffer.isInUse()) {
+            lookupBuffer = createLookupBuffer();
+        }
+        lookupBuffer.acquire();
+        return lookupBuffer;
+    }
+
+    private boolean isLookupBufferSuitable(final LookupBuffer lookupBuffer) {
+        int conditionNameCount = _conditionNameTable.getConditionNameCount();
+        int postingCount = _equalsIndex.getMaxConditionNameCount();
+        int shapeCount = _specificityLattice.getShapeCount();
+        return lookupBuffer.isSuitable(conditionNameCount, _conditionIndexIds, postingCount, shapeCount, _allValues.size());
+    }
+
+    private LookupBuffer createLookupBuffer() {
+        int valueSetCount = _valueSets.size();
+        int conditionNameCount = _conditionNameTable.getConditionNameCount();
+        int postingCount = _equalsIndex.getMaxConditionNameCount();
+        int shapeCount = _specificityLattice.getShapeCount();
+        return new LookupBuffer(valueSetCount, conditionNameCount, _conditionIndexIds, postingCount, shapeCount, _allValues.size());
+    }
+
+    private IntList getMatchingOrdinals(final ConditionSet conditionSet, final LookupBuffer lookupBuffer) {
+        IntList result = lookupBuffer.getOrdinals();
         if (conditionSet != null) {
-            for (ValueSet<T> valueSet : _valueSets) {
-                if (valueSet.isMatchConditions(conditionSet, _tuplePredicate, _predicates, _predicate)) {
-                    result.add(valueSet);
+            Object[] conditionSetValues = _conditionNameTable.getConditionValues(conditionSet, lookupBuffer.getConditionSetValues());
+            LookupPlan lookupPlan = getLookupPlan(conditionSetValues, lookupBuffer.getShapeWords());
+            _equalsIndex.addMatchingOrdinals(conditionSetValues, result, lookupBuffer.getPostings());
+            int[] scannedOrdinals = lookupPlan.getScannedOrdinals();
+            if (scannedOrdinals.length > 0) {
+                BitSet[] indexedMatchingOrdinals = getIndexedMatchingOrdinals(conditionSetValues, lookupBuffer);
+                if (_parallelScanThreshold > 0 && scannedOrdinals.length >= _parallelScanThreshold) {
+                    addScannedMatchingOrdinalsParallel(scannedOrdinals, conditionSetValues, indexedMatchingOrdinals, result);
+                } else {
+                    addScannedMatchingOrdinals(scannedOrdinals, conditionSetValues, indexedMatchingOrdinals, result);
                 }
             }
+            result.sort();
+            _specificityLattice.removeLessSpecificOrdinals(result, lookupBuffer.getShapeStates(), lookupBuffer.getMatchedShapeIds(), lookupPlan.getDominatingShapeIds());
         }
         return result;
     }
 
-    private void removeLessSpecificValueSets(final List<ValueSet<T>> valueSets) {
-        Iterator<ValueSet<T>> valueSetIterator = valueSets.iterator();
-        while (valueSetIterator.hasNext()) {
-            ValueSet<T> valueSet = valueSetIterator.next();
-            for (ValueSet<T> checkValueSet : valueSets) {
-                if (checkValueSet.isMoreSpecificValueSet(valueSet)) {
-                    valueSetIterator.remove();
-                    break;
+    private void addScannedMatchingOrdinals(final int[] scannedOrdinals, final Object[] conditionSetValues, final BitSet[] indexedMatchingOrdinals, final IntList ordinals) {
+        _tieredMatcher.addMatchingOrdinals(scannedOrdinals, conditionSetValues, indexedMatchingOrdinals, ordinals);
+    }
+
+    private void addScannedMatchingOrdinalsParallel(final int[] scannedOrdinals, final Object[] conditionSetValues, final BitSet[] indexedMatchingOrdinals, final IntList ordinals) {
+        int[] matchingOrdinals = new int[scannedOrdinals.length];
+        ParallelScanTask parallelScanTask = new ParallelScanTask(_valueSetMatchers, scannedOrdinals, 0, scannedOrdinals.length, conditionSetValues, indexedMatchingOrdinals, matchingOrdinals);
+        ForkJoinTask<?> forkJoinTask = ForkJoinTask.adapt(parallelScanTask);
+        if (ForkJoinTask.inForkJoinPool()) {
+            forkJoinTask.invoke();
+        } else {
+            DefaultForkJoinPool.getInstance().invoke(forkJoinTask);
+        }
+        parallelScanTask.addMatchingOrdinals(ordinals);
+    }
+
+    private LookupPlan getLookupPlan(final Object[] conditionSetValues, final long[] shapeWords) {
+        Arrays.fill(shapeWords, 0L);
+        for (int i = 0; i < conditionSetValues.length; i++) {
+            if (conditionSetValues[i] != null && _scannedConditionNameMask.get(i)) {
+                ConditionNameMask.setBit(shapeWords, i);
+            }
+        }
+        LookupPlan lookupPlan = _lookupPlanCache.get(shapeWords);
+        if (lookupPlan == null) {
+            lookupPlan = createLookupPlan(shapeWords);
+            _lookupPlanCache.put(lookupPlan);
+        }
+        return lookupPlan;
+    }
+
+    private LookupPlan createLookupPlan(final long[] shapeWords) {
+        IntList conditionIds = new IntList();
+        for (int i = 0; i < _conditionNameTable.getConditionNameCount(); i++) {
+            if (!_scannedConditionNameMask.get(i) || ConditionNameMask.getBit(shapeWords, i)) {
+                conditionIds.add(i);
+            }
+        }
+        ConditionNameMask conditionSetMask = new ConditionNameMask(conditionIds.toArray());
+        IntList scannedOrdinals = new IntList();
+        for (int ordinal : _scannedOrdinals) {
+            int shapeId = _specificityLattice.getShapeId(ordinal);
+            if (_specificityLattice.getShapeMask(shapeId).isSubsetOf(conditionSetMask)) {
+                scannedOrdinals.add(ordinal);
+            }
+        }
+        int[][] dominatingShapeIds = _specificityLattice.createDominatingShapeIds(conditionSetMask);
+        return new LookupPlan(shapeWords, scannedOrdinals.toArray(), dominatingShapeIds);
+    }
+
+    private BitSet[] getIndexedMatchingOrdinals(final Object[] conditionSetValues, final LookupBuffer lookupBuffer) {
+        BitSet[] result = lookupBuffer.getIndexedMatchingOrdinals();
+        for (int conditionId : _conditionIndexIds) {
+            result[conditionId] = null;
+        }
+        for (int i = 0; i < _conditionIndexes.size(); i++) {
+            int conditionId = _conditionIndexIds[i];
+            Object conditionSetValue = conditionSetValues[conditionId];
+            if (conditionSetValue instanceof String) {
+                if (result[conditionId] == null) {
+                    result[conditionId] = lookupBuffer.getIndexedMatchingOrdinalBuffer(conditionId);
                 }
+                _conditionIndexes.get(i).addMatchingOrdinals((String) conditionSetValue, result[conditionId]);
             }
         }
+        return result;
+    }
+
+    TieredMatcher getTieredMatcher() {
+        return _tieredMatcher;
+    }
+
+    LookupBuffer getLookupBuffer() {
+        return _lookupBuffers.get();
+    }
+
+    List<ValueSet<T>> getValueSets() {
+        List<ValueSet<T>> liveValueSets = _liveValueSets;
+        if (liveValueSets == null) {
+            liveValueSets = createLiveValueSets();
+            _liveValueSets = liveValueSets;
+        }
+        return liveValueSets;
+    }
+
+    private List<ValueSet<T>> getValueSets(final IntList ordinals) {
+        List<ValueSet<T>> result = new ArrayList<>(ordinals.size());
+        for (int i = 0; i < ordinals.size(); i++) {
+            ValueSet<T> valueSet = _valueSets.get(ordinals.get(i));
+            result.add(valueSet);
+        }
+        return result;
+    }
+
+    private List<ValueSet<T>> createLiveValueSets() {
+        List<ValueSet<T>> result = new ArrayList<>(_valueSets.size());
+        for (ValueSet<T> valueSet : _valueSets) {
+            if (valueSet != null) {
+                result.add(valueSet);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    List<ValueSet<T>> getValueSetSlots() {
+        return _valueSets;
+    }
+
+    TuplePredicate getTuplePredicate() {
+        return _tuplePredicate;
+    }
+
+    Predicate getPredicate() {
+        return _predicate;
+    }
+
+    Map<String, Predicate> getPredicates() {
+        return _predicates;
+    }
+
+    int[] getScannedOrdinals() {
+        return _scannedOrdinals;
+    }
+
+    ConditionNameTable getConditionNameTable() {
+        return _conditionNameTable;
+    }
+
+    EqualsIndex getEqualsIndex() {
+        return _equalsIndex;
+    }
+
+    SpecificityLattice getSpecificityLattice() {
+        return _specificityLattice;
     }
 
     @Override
     public String toString() {
-        return _valueSets.toString();
+        return getValueSets().toString();
     }
 
 }
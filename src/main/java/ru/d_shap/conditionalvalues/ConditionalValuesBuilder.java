@@ -59,6 +59,16 @@ public final class ConditionalValuesBuilder<T> {
 
     private final List<ValueSet<T>> _valueSets;
 
+    private boolean _patternPrefilter;
+
+    private int _lookupCacheSize;
+
+    private int _parallelScanThreshold;
+
+    private int _compilationThreshold;
+
+    private boolean _minimization;
+
     private ConditionalValuesBuilder() {
         super();
         _tuplePredicate = null;
@@ -66,6 +76,11 @@ public final class ConditionalValuesBuilder<T> {
         _predicates = new HashMap<>();
         _comparator = null;
         _valueSets = new ArrayList<>();
+        _patternPrefilter = false;
+        _lookupCacheSize = 0;
+        _parallelScanThreshold = 0;
+        _compilationThreshold = 0;
+        _minimization = false;
     }
 
     /**
@@ -337,6 +352,98 @@ public final class ConditionalValuesBuilder<T> {
         return this;
     }
 
+    /**
+     * Set the pattern prefilter mode. If the mode is enabled, then the required literals of all
+     * {@link java.util.regex.Pattern} condition values, evaluated with the
+     * {@link ru.d_shap.conditionalvalues.predicate.PatternMatchesPredicate} object or with the
+     * {@link ru.d_shap.conditionalvalues.predicate.PatternFindPredicate} object, are compiled during the build,
+     * and the lookup evaluates only the patterns with the required literals, found in the condition value.
+     *
+     * @param patternPrefilter true to enable the pattern prefilter mode.
+     *
+     * @return current object for the method chaining.
+     */
+    public ConditionalValuesBuilder<T> setPatternPrefilter(final boolean patternPrefilter) {
+        _patternPrefilter = patternPrefilter;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of the cached lookup results. If the size is positive, then the lookup results
+     * are cached by the {@link ru.d_shap.conditionalvalues.ConditionSet} objects, and the cached lookup result
+     * is reused for the equal {@link ru.d_shap.conditionalvalues.ConditionSet} objects. If the cache is full,
+     * then the new lookup result replaces the least recently used lookup result only if the new lookup is more
+     * frequent. Every lookup returns its own {@link ru.d_shap.conditionalvalues.Values} object, so the changes of
+     * the sets, returned by this object, are not visible to the other lookups.
+     *
+     * @param lookupCacheSize the maximum number of the cached lookup results, zero to disable the cache.
+     *
+     * @return current object for the method chaining.
+     */
+    public ConditionalValuesBuilder<T> setLookupCacheSize(final int lookupCacheSize) {
+        _lookupCacheSize = Math.max(lookupCacheSize, 0);
+        return this;
+    }
+
+    /**
+     * Set the parallel scan threshold. If the threshold is positive, then the lookup evaluates the
+     * {@link ru.d_shap.conditionalvalues.ValueSet} objects, that are not resolved by the indexes, in parallel
+     * partitions of the default {@link java.util.concurrent.ForkJoinPool} object, if the number of these
+     * {@link ru.d_shap.conditionalvalues.ValueSet} objects is not less than the threshold. The parallel scan
+     * pays off for the large number of the {@link ru.d_shap.conditionalvalues.ValueSet} objects with the
+     * expensive predicates only.
+     *
+     * @param parallelScanThreshold the minimum number of the scanned value sets for the parallel scan, zero to disable the parallel scan.
+     *
+     * @return current object for the method chaining.
+     */
+    public ConditionalValuesBuilder<T> setParallelScanThreshold(final int parallelScanThreshold) {
+        _parallelScanThreshold = Math.max(parallelScanThreshold, 0);
+        return this;
+    }
+
+    /**
+     * Set the compilation threshold. If the threshold is positive, then the lookup starts with the
+     * interpretive evaluation of the {@link ru.d_shap.conditionalvalues.ValueSet} objects, that are not resolved
+     * by the indexes, and counts the lookups. When the number of the lookups reaches the threshold, these
+     * {@link ru.d_shap.conditionalvalues.ValueSet} objects are compiled into the specialised matchers in the
+     * background, and the next lookups use the compiled matchers. The predicates, that can not be specialised,
+     * are evaluated the same way as without the compilation.
+     *
+     * @param compilationThreshold the number of the lookups before the compilation, zero to disable the compilation.
+     *
+     * @return current object for the method chaining.
+     */
+    public ConditionalValuesBuilder<T> setCompilationThreshold(final int compilationThreshold) {
+        _compilationThreshold = Math.max(compilationThreshold, 0);
+        return this;
+    }
+
+    /**
+     * Set the minimization mode. If the mode is enabled, then the {@link #build()} and {@link #build(boolean)}
+     * methods replace the {@link ru.d_shap.conditionalvalues.ValueSet} objects with the equivalent smaller set
+     * of the {@link ru.d_shap.conditionalvalues.ValueSet} objects. The {@link ru.d_shap.conditionalvalues.ValueSet}
+     * objects, that never match, are removed. The {@link ru.d_shap.conditionalvalues.ValueSet} objects with the
+     * same ID, condition names, predicates and values are merged: the exact copies are folded into one
+     * {@link ru.d_shap.conditionalvalues.ValueSet} object, that repeats the values for every copy, and if the
+     * {@link ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate} object is used, then the
+     * {@link ru.d_shap.conditionalvalues.ValueSet} objects, that differ in the disjoint values of one condition
+     * with the {@link ru.d_shap.conditionalvalues.predicate.EqualsPredicate} object only, are replaced with one
+     * {@link ru.d_shap.conditionalvalues.ValueSet} object with the united condition values. The lookup returns
+     * the same values with the same multiplicity and the same IDs, but the order of the values of the
+     * {@link ru.d_shap.conditionalvalues.Values#getValues()} method may differ, if the comparator is not defined.
+     * The changes are reported by the {@link ru.d_shap.conditionalvalues.ConditionalValues#getMinimizationReport()}
+     * method.
+     *
+     * @param minimization true to enable the minimization mode.
+     *
+     * @return current object for the method chaining.
+     */
+    public ConditionalValuesBuilder<T> setMinimization(final boolean minimization) {
+        _minimization = minimization;
+        return this;
+    }
+
     /**
      * Clear the builder.
      *
@@ -348,9 +455,18 @@ public final class ConditionalValuesBuilder<T> {
         clearPredicates();
         _comparator = null;
         clearValueSets();
+        _patternPrefilter = false;
+        _lookupCacheSize = 0;
+        _parallelScanThreshold = 0;
+        _compilationThreshold = 0;
+        _minimization = false;
         return this;
     }
 
+    private ConditionalValuesOptions createOptions(final boolean minimization) {
+        return new ConditionalValuesOptions(_patternPrefilter, _lookupCacheSize, _parallelScanThreshold, _compilationThreshold, minimization);
+    }
+
     /**
      * Create new {@link ru.d_shap.conditionalvalues.ConditionalValues} object and clear the builder.
      *
@@ -368,11 +484,49 @@ public final class ConditionalValuesBuilder<T> {
      * @return {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
      */
     public ConditionalValues<T> build(final boolean clear) {
-        ConditionalValues<T> conditionalValues = new ConditionalValues<>(_tuplePredicate, _predicate, _predicates, _comparator, _valueSets);
+        ConditionalValues<T> conditionalValues = new ConditionalValues<>(_tuplePredicate, _predicate, _predicates, _comparator, _valueSets, createOptions(_minimization));
         if (clear) {
             clear();
         }
         return conditionalValues;
     }
 
+    ConditionalValues<T> build(final SnapshotIndex<T> snapshotIndex) {
+        if (_minimization || !_valueSets.isEmpty() || !snapshotIndex.isCompatible(_tuplePredicate, _predicate, _predicates)) {
+            for (ValueSet<T> valueSet : snapshotIndex.getValueSets()) {
+                if (valueSet != null) {
+                    addValueSet(valueSet);
+                }
+            }
+            return build();
+        }
+        ConditionalValues<T> conditionalValues = new ConditionalValues<>(_tuplePredicate, _predicate, _predicates, _comparator, snapshotIndex, createOptions(false));
+        clear();
+        return conditionalValues;
+    }
+
+    /**
+     * Create new {@link ru.d_shap.conditionalvalues.MutableConditionalValues} object and clear the builder.
+     *
+     * @return {@link ru.d_shap.conditionalvalues.MutableConditionalValues} object.
+     */
+    public MutableConditionalValues<T> buildMutable() {
+        return buildMutable(true);
+    }
+
+    /**
+     * Create new {@link ru.d_shap.conditionalvalues.MutableConditionalValues} object.
+     *
+     * @param clear true to clear the builder.
+     *
+     * @return {@link ru.d_shap.conditionalvalues.MutableConditionalValues} object.
+     */
+    public MutableConditionalValues<T> buildMutable(final boolean clear) {
+        MutableConditionalValues<T> mutableConditionalValues = new MutableConditionalValues<>(_tuplePredicate, _predicate, _predicates, _comparator, _valueSets, createOptions(false));
+        if (clear) {
+            clear();
+        }
+        return mutableConditionalValues;
+    }
+
 }
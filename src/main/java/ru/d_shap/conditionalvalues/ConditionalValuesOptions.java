@@ -0,0 +1,76 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * Build options of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object, defined with the
+ * {@link ru.d_shap.conditionalvalues.ConditionalValuesBuilder} object.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ConditionalValuesOptions {
+
+    static final ConditionalValuesOptions DEFAULT = new ConditionalValuesOptions(false, 0, 0, 0, false);
+
+    private final boolean _patternPrefilter;
+
+    private final int _lookupCacheSize;
+
+    private final int _parallelScanThreshold;
+
+    private final int _compilationThreshold;
+
+    private final boolean _minimization;
+
+    ConditionalValuesOptions(final boolean patternPrefilter, final int lookupCacheSize, final int parallelScanThreshold, final int compilationThreshold, final boolean minimization) {
+        super();
+        _patternPrefilter = patternPrefilter;
+        _lookupCacheSize = Math.max(lookupCacheSize, 0);
+        _parallelScanThreshold = Math.max(parallelScanThreshold, 0);
+        _compilationThreshold = Math.max(compilationThreshold, 0);
+        _minimization = minimization;
+    }
+
+    boolean isPatternPrefilter() {
+        return _patternPrefilter;
+    }
+
+    int getLookupCacheSize() {
+        return _lookupCacheSize;
+    }
+
+    int getParallelScanThreshold() {
+        return _parallelScanThreshold;
+    }
+
+    int getCompilationThreshold() {
+        return _compilationThreshold;
+    }
+
+    boolean isMinimization() {
+        return _minimization;
+    }
+
+    @Override
+    public String toString() {
+        return "patternPrefilter=" + _patternPrefilter + ", lookupCacheSize=" + _lookupCacheSize + ", parallelScanThreshold=" + _parallelScanThreshold + ", compilationThreshold=" + _compilationThreshold + ", minimization=" + _minimization;
+    }
+
+}
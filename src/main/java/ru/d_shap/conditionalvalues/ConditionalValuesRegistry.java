@@ -0,0 +1,237 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * <p>
+ * Registry of the named {@link ru.d_shap.conditionalvalues.ConditionalValues} objects with the version stamps.
+ * </p>
+ * <p>
+ * The registration swaps the {@link ru.d_shap.conditionalvalues.ConditionalValues} object with the
+ * specified name atomically and assigns new version stamp, that is greater than all previous version
+ * stamps of this registry. The read path does not take the lock: the lookup uses the
+ * {@link ru.d_shap.conditionalvalues.ConditionalValues} object, registered at the start of the lookup, so
+ * the lookup in progress is finished with the previous version after the swap.
+ * </p>
+ * <p>
+ * The changes are serialized, and the listeners are notified in the thread of the change in the order of
+ * the changes, so the caches and the indexes built over the registered objects are kept up to date.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ConditionalValuesRegistry<T> {
+
+    private final ConcurrentMap<String, VersionedConditionalValues<T>> _conditionalValues;
+
+    private final List<ConditionalValuesRegistryListener<T>> _listeners;
+
+    private final Object _lock;
+
+    private long _lastVersion;
+
+    /**
+     * Create new object.
+     */
+    public ConditionalValuesRegistry() {
+        super();
+        _conditionalValues = new ConcurrentHashMap<>();
+        _listeners = new CopyOnWriteArrayList<>();
+        _lock = new Object();
+        _lastVersion = 0L;
+    }
+
+    /**
+     * Get the names of all registered {@link ru.d_shap.conditionalvalues.ConditionalValues} objects.
+     *
+     * @return the names of all registered {@link ru.d_shap.conditionalvalues.ConditionalValues} objects.
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(new HashSet<>(_conditionalValues.keySet()));
+    }
+
+    /**
+     * Get the current version of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object with the specified name.
+     *
+     * @param name the name of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     *
+     * @return the current version, or null if the name is not registered.
+     */
+    public VersionedConditionalValues<T> get(final String name) {
+        if (name == null) {
+            return null;
+        }
+        return _conditionalValues.get(name);
+    }
+
+    /**
+     * Get the current version stamp of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object with the specified name.
+     *
+     * @param name the name of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     *
+     * @return the current version stamp, or zero if the name is not registered.
+     */
+    public long getVersion(final String name) {
+        VersionedConditionalValues<T> versionedConditionalValues = get(name);
+        if (versionedConditionalValues == null) {
+            return 0L;
+        } else {
+            return versionedConditionalValues.getVersion();
+        }
+    }
+
+    /**
+     * Get the current {@link ru.d_shap.conditionalvalues.ConditionalValues} object with the specified name.
+     * If the name is not registered, then the {@link ru.d_shap.conditionalvalues.ConditionalValuesNotRegisteredException}
+     * is thrown.
+     *
+     * @param name the name of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     *
+     * @return the current {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     */
+    public ConditionalValues<T> getConditionalValues(final String name) {
+        VersionedConditionalValues<T> versionedConditionalValues = get(name);
+        if (versionedConditionalValues == null) {
+            throw new ConditionalValuesNotRegisteredException(name);
+        }
+        return versionedConditionalValues.getConditionalValues();
+    }
+
+    /**
+     * Performs lookup for the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects in the
+     * current {@link ru.d_shap.conditionalvalues.ConditionalValues} object with the specified name.
+     * If the name is not registered, then the {@link ru.d_shap.conditionalvalues.ConditionalValuesNotRegisteredException}
+     * is thrown.
+     *
+     * @param name         the name of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param conditionSet lookup conditions.
+     *
+     * @return the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    public Values<T> lookup(final String name, final ConditionSet conditionSet) {
+        return getConditionalValues(name).lookup(conditionSet);
+    }
+
+    /**
+     * Register the {@link ru.d_shap.conditionalvalues.ConditionalValues} object with the specified name.
+     * The previously registered object with the same name is replaced.
+     *
+     * @param name              the name of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param conditionalValues the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     *
+     * @return the version stamp of the registered object, or zero if the name or the object is null.
+     */
+    public long register(final String name, final ConditionalValues<T> conditionalValues) {
+        if (name == null || conditionalValues == null) {
+            return 0L;
+        }
+        synchronized (_lock) {
+            _lastVersion++;
+            VersionedConditionalValues<T> newValues = new VersionedConditionalValues<>(name, _lastVersion, conditionalValues);
+            VersionedConditionalValues<T> oldValues = _conditionalValues.put(name, newValues);
+            notifyListeners(name, oldValues, newValues);
+            return _lastVersion;
+        }
+    }
+
+    /**
+     * Register the {@link ru.d_shap.conditionalvalues.ConditionalValues} object with the specified name,
+     * if the current version stamp is equal to the expected version stamp.
+     *
+     * @param name              the name of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param conditionalValues the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param expectedVersion   the expected version stamp, zero if the name is expected to be not registered.
+     *
+     * @return the version stamp of the registered object, or zero if the object is not registered.
+     */
+    public long register(final String name, final ConditionalValues<T> conditionalValues, final long expectedVersion) {
+        if (name == null || conditionalValues == null) {
+            return 0L;
+        }
+        synchronized (_lock) {
+            if (getVersion(name) != expectedVersion) {
+                return 0L;
+            }
+            return register(name, conditionalValues);
+        }
+    }
+
+    /**
+     * Unregister the {@link ru.d_shap.conditionalvalues.ConditionalValues} object with the specified name.
+     *
+     * @param name the name of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     *
+     * @return the unregistered version, or null if the name is not registered.
+     */
+    public VersionedConditionalValues<T> unregister(final String name) {
+        if (name == null) {
+            return null;
+        }
+        synchronized (_lock) {
+            VersionedConditionalValues<T> oldValues = _conditionalValues.remove(name);
+            if (oldValues != null) {
+                notifyListeners(name, oldValues, null);
+            }
+            return oldValues;
+        }
+    }
+
+    /**
+     * Add the listener of the version changes.
+     *
+     * @param listener the listener.
+     */
+    public void addListener(final ConditionalValuesRegistryListener<T> listener) {
+        if (listener != null) {
+            _listeners.add(listener);
+        }
+    }
+
+    /**
+     * Remove the listener of the version changes.
+     *
+     * @param listener the listener.
+     */
+    public void removeListener(final ConditionalValuesRegistryListener<T> listener) {
+        _listeners.remove(listener);
+    }
+
+    private void notifyListeners(final String name, final VersionedConditionalValues<T> oldValues, final VersionedConditionalValues<T> newValues) {
+        for (ConditionalValuesRegistryListener<T> listener : _listeners) {
+            listener.versionChanged(name, oldValues, newValues);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return _conditionalValues.toString();
+    }
+
+}
@@ -0,0 +1,41 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * Listener of the version changes in the {@link ru.d_shap.conditionalvalues.ConditionalValuesRegistry} object.
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface ConditionalValuesRegistryListener<T> {
+
+    /**
+     * Called after the version of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object
+     * with the specified name is changed.
+     *
+     * @param name      the name of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param oldValues the previous version, or null if the name was not registered.
+     * @param newValues the new version, or null if the name is unregistered.
+     */
+    void versionChanged(String name, VersionedConditionalValues<T> oldValues, VersionedConditionalValues<T> newValues);
+
+}
@@ -0,0 +1,163 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import ru.d_shap.conditionalvalues.codec.BooleanValueCodec;
+import ru.d_shap.conditionalvalues.codec.CharacterValueCodec;
+import ru.d_shap.conditionalvalues.codec.DoubleValueCodec;
+import ru.d_shap.conditionalvalues.codec.FloatValueCodec;
+import ru.d_shap.conditionalvalues.codec.IntegerValueCodec;
+import ru.d_shap.conditionalvalues.codec.LongValueCodec;
+import ru.d_shap.conditionalvalues.codec.PatternValueCodec;
+import ru.d_shap.conditionalvalues.codec.StringValueCodec;
+
+/**
+ * <p>
+ * Versioned binary snapshot of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ * </p>
+ * <p>
+ * The snapshot stores the {@link ru.d_shap.conditionalvalues.ValueSet} objects with the IDs, the condition
+ * names, the condition values, the values and the predicates of the {@link ru.d_shap.conditionalvalues.ValueSet}
+ * objects. The condition values and the values are stored with the {@link ru.d_shap.conditionalvalues.ValueCodec}
+ * objects: the first codec, that supports the class of the value, is used. The custom codecs are checked
+ * before the default codecs for the strings, the primitive wrappers and the patterns. The snapshot
+ * should be read with the same codecs, as it was written. The predicates are stored as the class names
+ * and are created with the public constructor without parameters.
+ * </p>
+ * <p>
+ * The snapshot also stores the condition name table, the equality index with the postings and the
+ * specificity lattice of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object, and the class
+ * names of its predicates. The comparator and the other settings of the
+ * {@link ru.d_shap.conditionalvalues.ConditionalValues} object are not stored, and are taken from the
+ * {@link ru.d_shap.conditionalvalues.ConditionalValuesBuilder} object.
+ * </p>
+ * <p>
+ * The snapshot file is read through the memory-mapped {@link java.nio.channels.FileChannel} object. If the
+ * builder has the same predicates, as the snapshot, no {@link ru.d_shap.conditionalvalues.ValueSet} objects
+ * and no minimization, the stored indexes are used as is, and every {@link ru.d_shap.conditionalvalues.ValueSet}
+ * object is decoded from the mapped buffer only when it is requested by the lookup. Only the
+ * {@link ru.d_shap.conditionalvalues.ValueSet} objects, that are not in the equality index, are decoded
+ * when the snapshot is read. Otherwise all {@link ru.d_shap.conditionalvalues.ValueSet} objects are decoded,
+ * and the indexes are built by the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ConditionalValuesSnapshot<T> {
+
+    private final List<ValueCodec<?>> _valueCodecs;
+
+    /**
+     * Create new object with the default codecs.
+     */
+    public ConditionalValuesSnapshot() {
+        this(null);
+    }
+
+    /**
+     * Create new object with the custom codecs and the default codecs.
+     *
+     * @param valueCodecs the custom codecs.
+     */
+    public ConditionalValuesSnapshot(final List<ValueCodec<?>> valueCodecs) {
+        super();
+        _valueCodecs = createValueCodecs(valueCodecs);
+    }
+
+    private List<ValueCodec<?>> createValueCodecs(final List<ValueCodec<?>> valueCodecs) {
+        List<ValueCodec<?>> result = new ArrayList<>();
+        if (valueCodecs != null) {
+            for (ValueCodec<?> valueCodec : valueCodecs) {
+                if (valueCodec != null) {
+                    result.add(valueCodec);
+                }
+            }
+        }
+        result.add(new StringValueCodec());
+        result.add(new BooleanValueCodec());
+        result.add(new CharacterValueCodec());
+        result.add(new IntegerValueCodec());
+        result.add(new LongValueCodec());
+        result.add(new FloatValueCodec());
+        result.add(new DoubleValueCodec());
+        result.add(new PatternValueCodec());
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Write the snapshot of the specified {@link ru.d_shap.conditionalvalues.ConditionalValues} object to the file.
+     *
+     * @param conditionalValues the specified {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param path              the path of the file.
+     */
+    public void write(final ConditionalValues<T> conditionalValues, final Path path) {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            new SnapshotWriter<T>(_valueCodecs).write(conditionalValues, output);
+        } catch (IOException ex) {
+            throw new SnapshotException(ex);
+        }
+    }
+
+    /**
+     * Read the snapshot from the file and create new {@link ru.d_shap.conditionalvalues.ConditionalValues}
+     * object with the settings of the specified builder. The stored indexes are used, if the builder is
+     * compatible with the snapshot, otherwise the {@link ru.d_shap.conditionalvalues.ValueSet} objects of the
+     * snapshot are added to the builder and the {@link ru.d_shap.conditionalvalues.ConditionalValues} object
+     * is built. The builder is cleared.
+     *
+     * @param path                     the path of the file.
+     * @param conditionalValuesBuilder the builder with the settings of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     *
+     * @return {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     */
+    public ConditionalValues<T> read(final Path path, final ConditionalValuesBuilder<T> conditionalValuesBuilder) {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0L, fileChannel.size());
+            return read(buffer, conditionalValuesBuilder);
+        } catch (IOException ex) {
+            throw new SnapshotException(ex);
+        }
+    }
+
+    ConditionalValues<T> read(final ByteBuffer buffer, final ConditionalValuesBuilder<T> conditionalValuesBuilder) {
+        try {
+            return new SnapshotReader<T>(_valueCodecs, buffer).read(conditionalValuesBuilder);
+        } catch (BufferUnderflowException | NegativeArraySizeException | IllegalArgumentException ex) {
+            throw new SnapshotException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Index of the {@link ru.d_shap.conditionalvalues.ValueSet} objects, matched with the
+ * {@link ru.d_shap.conditionalvalues.predicate.StringContainsPredicate} object or with the
+ * {@link ru.d_shap.conditionalvalues.predicate.StringContainsIgnoreCasePredicate} object for the condition.
+ * </p>
+ * <p>
+ * All condition values are compiled into one {@link ru.d_shap.conditionalvalues.AhoCorasickAutomaton} object.
+ * The lookup finds all keywords, contained in the condition value of the
+ * {@link ru.d_shap.conditionalvalues.ConditionSet} object, and counts the found keywords of every
+ * {@link ru.d_shap.conditionalvalues.ValueSet} object to evaluate any value or all values semantics.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ContainsIndex implements ConditionIndex {
+
+    private final String _conditionName;
+
+    private final boolean _allValuesMatch;
+
+    private final List<String> _keywords;
+
+    private final int[] _ordinals;
+
+    private final BitSet _indexedOrdinals;
+
+    private final int[] _requiredCounts;
+
+    private final int[][] _keywordPostings;
+
+    private final AhoCorasickAutomaton _automaton;
+
+    ContainsIndex(final String conditionName, final boolean ignoreCase, final boolean allValuesMatch, final List<? extends ValueSet<?>> valueSets, final List<Integer> ordinals) {
+        super();
+        _conditionName = conditionName;
+        _allValuesMatch = allValuesMatch;
+        _keywords = new ArrayList<>();
+        _ordinals = new int[ordinals.size()];
+        _indexedOrdinals = new BitSet();
+        _requiredCounts = new int[ordinals.size()];
+        _keywordPostings = createKeywordPostings(ignoreCase, valueSets, ordinals);
+        _automaton = new AhoCorasickAutomaton(_keywords, ignoreCase);
+    }
+
+    private int[][] createKeywordPostings(final boolean ignoreCase, final List<? extends ValueSet<?>> valueSets, final List<Integer> ordinals) {
+        Map<String, Integer> keywordIds = new HashMap<>();
+        List<IntList> keywordPostings = new ArrayList<>();
+        for (int i = 0; i < ordinals.size(); i++) {
+            int ordinal = ordinals.get(i);
+            _ordinals[i] = ordinal;
+            _indexedOrdinals.set(ordinal);
+            Set<Object> conditionValues = valueSets.get(ordinal).getAllConditionValues(_conditionName);
+            BitSet valueSetKeywordIds = new BitSet();
+            for (Object conditionValue : conditionValues) {
+                String keyword = getKeyword(ignoreCase, (String) conditionValue);
+                Integer keywordId = keywordIds.get(keyword);
+                if (keywordId == null) {
+                    keywordId = _keywords.size();
+                    keywordIds.put(keyword, keywordId);
+                    _keywords.add(keyword);
+                    keywordPostings.add(new IntList());
+                }
+                if (!valueSetKeywordIds.get(keywordId)) {
+                    valueSetKeywordIds.set(keywordId);
+                    keywordPostings.get(keywordId).add(i);
+                }
+            }
+            if (_allValuesMatch) {
+                _requiredCounts[i] = valueSetKeywordIds.cardinality();
+            } else {
+                _requiredCounts[i] = 1;
+            }
+        }
+        int[][] result = new int[keywordPostings.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = keywordPostings.get(i).toArray();
+        }
+        return result;
+    }
+
+    private static String getKeyword(final boolean ignoreCase, final String conditionValue) {
+        if (ignoreCase) {
+            return CaseFolding.foldCase(conditionValue);
+        } else {
+            return conditionValue;
+        }
+    }
+
+    @Override
+    public String getConditionName() {
+        return _conditionName;
+    }
+
+    boolean isAllValuesMatch() {
+        return _allValuesMatch;
+    }
+
+    boolean isIgnoreCase() {
+        return _automaton.isIgnoreCase();
+    }
+
+    int getKeywordCount() {
+        return _keywords.size();
+    }
+
+    @Override
+    public boolean isIndexed(final int ordinal) {
+        return _indexedOrdinals.get(ordinal);
+    }
+
+    @Override
+    public void addMatchingOrdinals(final String conditionSetValue, final BitSet ordinals) {
+        BitSet keywordIds = new BitSet(_keywords.size());
+        _automaton.findKeywords(conditionSetValue, keywordIds);
+        int[] counts = new int[_ordinals.length];
+        for (int keywordId = keywordIds.nextSetBit(0); keywordId >= 0; keywordId = keywordIds.nextSetBit(keywordId + 1)) {
+            for (int index : _keywordPostings[keywordId]) {
+                counts[index]++;
+                if (counts[index] == _requiredCounts[index]) {
+                    ordinals.set(_ordinals[index]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return _conditionName + "=" + _keywords;
+    }
+
+}
@@ -0,0 +1,59 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * Exception is thrown when the decision table cannot be read or has a wrong format.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DecisionTableException extends ConditionalValuesException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Create new object.
+     *
+     * @param message exception message.
+     */
+    public DecisionTableException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param throwable the original exception.
+     */
+    public DecisionTableException(final Throwable throwable) {
+        super(throwable);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param message   exception message.
+     * @param throwable the original exception.
+     */
+    public DecisionTableException(final String message, final Throwable throwable) {
+        super(message, throwable);
+    }
+
+}
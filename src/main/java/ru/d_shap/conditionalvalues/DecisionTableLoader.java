@@ -0,0 +1,301 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnmappableCharacterException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import ru.d_shap.conditionalvalues.converter.StringConditionConverter;
+
+/**
+ * <p>
+ * Streaming loader of the decision table in the CSV or TSV format.
+ * </p>
+ * <p>
+ * The first row of the decision table holds the column names. The ID column holds the ID of the
+ * {@link ru.d_shap.conditionalvalues.ValueSet} object, the value column holds the values of the
+ * {@link ru.d_shap.conditionalvalues.ValueSet} object, and any other column holds the condition values
+ * for the condition with the name of the column. Every next row is a {@link ru.d_shap.conditionalvalues.ValueSet}
+ * object. The empty cells are skipped, and the cell with the value separator holds multiple values.
+ * </p>
+ * <p>
+ * The decision table is read through the NIO buffers, and the rows are added to the
+ * {@link ru.d_shap.conditionalvalues.ConditionalValuesBuilder} object one by one, so the whole table is
+ * never held in memory as text. The cells are passed to the converters as the reusable
+ * {@link java.lang.CharSequence} object, and the numeric and boolean converters do not create the strings.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DecisionTableLoader<T> {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ValueConverter<T> _valueConverter;
+
+    private final Map<String, ConditionConverter> _conditionConverters;
+
+    private char _columnSeparator;
+
+    private char _valueSeparator;
+
+    private String _idColumnName;
+
+    private String _valueColumnName;
+
+    private Charset _charset;
+
+    private ConditionConverter _defaultConditionConverter;
+
+    private DecisionTableLoader(final ValueConverter<T> valueConverter) {
+        super();
+        _valueConverter = valueConverter;
+        _conditionConverters = new HashMap<>();
+        _columnSeparator = ',';
+        _valueSeparator = '|';
+        _idColumnName = "id";
+        _valueColumnName = "value";
+        _charset = StandardCharsets.UTF_8;
+        _defaultConditionConverter = new StringConditionConverter();
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param valueConverter the converter of the values.
+     * @param <T>            generic type for the value.
+     *
+     * @return new object.
+     */
+    public static <T> DecisionTableLoader<T> newInstance(final ValueConverter<T> valueConverter) {
+        return new DecisionTableLoader<>(valueConverter);
+    }
+
+    /**
+     * Set the column separator.
+     *
+     * @param columnSeparator the column separator.
+     *
+     * @return current object for the chain call.
+     */
+    public DecisionTableLoader<T> setColumnSeparator(final char columnSeparator) {
+        _columnSeparator = columnSeparator;
+        return this;
+    }
+
+    /**
+     * Set the comma as the column separator.
+     *
+     * @return current object for the chain call.
+     */
+    public DecisionTableLoader<T> setCsvColumnSeparator() {
+        return setColumnSeparator(',');
+    }
+
+    /**
+     * Set the tab as the column separator.
+     *
+     * @return current object for the chain call.
+     */
+    public DecisionTableLoader<T> setTsvColumnSeparator() {
+        return setColumnSeparator('\t');
+    }
+
+    /**
+     * Set the separator of the multiple values in the cell.
+     *
+     * @param valueSeparator the separator of the multiple values in the cell.
+     *
+     * @return current object for the chain call.
+     */
+    public DecisionTableLoader<T> setValueSeparator(final char valueSeparator) {
+        _valueSeparator = valueSeparator;
+        return this;
+    }
+
+    /**
+     * Set the name of the ID column.
+     *
+     * @param idColumnName the name of the ID column.
+     *
+     * @return current object for the chain call.
+     */
+    public DecisionTableLoader<T> setIdColumnName(final String idColumnName) {
+        _idColumnName = idColumnName;
+        return this;
+    }
+
+    /**
+     * Set the name of the value column.
+     *
+     * @param valueColumnName the name of the value column.
+     *
+     * @return current object for the chain call.
+     */
+    public DecisionTableLoader<T> setValueColumnName(final String valueColumnName) {
+        _valueColumnName = valueColumnName;
+        return this;
+    }
+
+    /**
+     * Set the charset of the decision table. The UTF-8 charset is used if the charset is null.
+     *
+     * @param charset the charset of the decision table.
+     *
+     * @return current object for the chain call.
+     */
+    public DecisionTableLoader<T> setCharset(final Charset charset) {
+        if (charset == null) {
+            _charset = StandardCharsets.UTF_8;
+        } else {
+            _charset = charset;
+        }
+        return this;
+    }
+
+    /**
+     * Set the converter for all condition columns without the specific converter.
+     *
+     * @param conditionConverter the converter.
+     *
+     * @return current object for the chain call.
+     */
+    public DecisionTableLoader<T> setConditionConverter(final ConditionConverter conditionConverter) {
+        if (conditionConverter == null) {
+            _defaultConditionConverter = new StringConditionConverter();
+        } else {
+            _defaultConditionConverter = conditionConverter;
+        }
+        return this;
+    }
+
+    /**
+     * Set the converter for the specified condition column.
+     *
+     * @param conditionName      the condition name.
+     * @param conditionConverter the converter.
+     *
+     * @return current object for the chain call.
+     */
+    public DecisionTableLoader<T> setConditionConverter(final String conditionName, final ConditionConverter conditionConverter) {
+        if (conditionName != null) {
+            if (conditionConverter == null) {
+                _conditionConverters.remove(conditionName);
+            } else {
+                _conditionConverters.put(conditionName, conditionConverter);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Load the decision table from the file and add the {@link ru.d_shap.conditionalvalues.ValueSet} objects
+     * to the specified builder.
+     *
+     * @param path                     the path of the file.
+     * @param conditionalValuesBuilder the specified builder.
+     *
+     * @return the number of the added {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    public int load(final Path path, final ConditionalValuesBuilder<T> conditionalValuesBuilder) {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return doLoad(fileChannel, conditionalValuesBuilder);
+        } catch (IOException ex) {
+            throw new DecisionTableException(ex);
+        }
+    }
+
+    /**
+     * Load the decision table from the channel and add the {@link ru.d_shap.conditionalvalues.ValueSet} objects
+     * to the specified builder. The channel is not closed.
+     *
+     * @param channel                  the channel.
+     * @param conditionalValuesBuilder the specified builder.
+     *
+     * @return the number of the added {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    public int load(final ReadableByteChannel channel, final ConditionalValuesBuilder<T> conditionalValuesBuilder) {
+        try {
+            return doLoad(channel, conditionalValuesBuilder);
+        } catch (IOException ex) {
+            throw new DecisionTableException(ex);
+        }
+    }
+
+    private int doLoad(final ReadableByteChannel channel, final ConditionalValuesBuilder<T> conditionalValuesBuilder) throws IOException {
+        DecisionTableParser<T> parser = new DecisionTableParser<>(_columnSeparator, _valueSeparator, _idColumnName, _valueColumnName, _defaultConditionConverter, new HashMap<>(_conditionConverters), _valueConverter, conditionalValuesBuilder);
+        CharsetDecoder decoder = _charset.newDecoder();
+        ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+        CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            endOfInput = channel.read(bytes) < 0;
+            bytes.flip();
+            decode(decoder, bytes, chars, endOfInput, parser);
+            bytes.compact();
+        }
+        CoderResult coderResult = decoder.flush(chars);
+        while (coderResult.isOverflow()) {
+            parseChars(chars, parser);
+            coderResult = decoder.flush(chars);
+        }
+        parseChars(chars, parser);
+        parser.finish();
+        return parser.getValueSetCount();
+    }
+
+    private void decode(final CharsetDecoder decoder, final ByteBuffer bytes, final CharBuffer chars, final boolean endOfInput, final DecisionTableParser<T> parser) throws CharacterCodingException {
+        CoderResult coderResult = decoder.decode(bytes, chars, endOfInput);
+        while (coderResult.isOverflow()) {
+            parseChars(chars, parser);
+            coderResult = decoder.decode(bytes, chars, endOfInput);
+        }
+        if (coderResult.isMalformed()) {
+            throw new MalformedInputException(coderResult.length());
+        }
+        if (coderResult.isUnmappable()) {
+            throw new UnmappableCharacterException(coderResult.length());
+        }
+        parseChars(chars, parser);
+    }
+
+    private void parseChars(final CharBuffer chars, final DecisionTableParser<T> parser) {
+        chars.flip();
+        parser.parse(chars);
+        chars.clear();
+    }
+
+}
@@ -0,0 +1,242 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Streaming parser of the decision table.
+ * </p>
+ * <p>
+ * The first row holds the column names. Every next row is converted to the
+ * {@link ru.d_shap.conditionalvalues.ValueSet} object and added to the builder as soon as the row ends, so
+ * the parser keeps only the current cell. The cell can be quoted with the double quotes, and the double quote
+ * in the quoted cell is escaped with the second double quote. The cell is split into the parts with the value
+ * separator, and every part is passed to the converter of the column.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class DecisionTableParser<T> {
+
+    private static final int STATE_CELL_START = 0;
+
+    private static final int STATE_UNQUOTED = 1;
+
+    private static final int STATE_QUOTED = 2;
+
+    private static final int STATE_QUOTE = 3;
+
+    private final char _columnSeparator;
+
+    private final char _valueSeparator;
+
+    private final String _idColumnName;
+
+    private final String _valueColumnName;
+
+    private final ConditionConverter _defaultConditionConverter;
+
+    private final Map<String, ConditionConverter> _conditionConverters;
+
+    private final ValueConverter<T> _valueConverter;
+
+    private final ConditionalValuesBuilder<T> _conditionalValuesBuilder;
+
+    private final ValueSetBuilder<T> _valueSetBuilder;
+
+    private final CellBuffer _cell;
+
+    private final List<String> _columnNames;
+
+    private ConditionConverter[] _columnConditionConverters;
+
+    private int _idColumnIndex;
+
+    private int _state;
+
+    private int _rowNumber;
+
+    private int _columnIndex;
+
+    private boolean _rowDefined;
+
+    private int _valueSetCount;
+
+    DecisionTableParser(final char columnSeparator, final char valueSeparator, final String idColumnName, final String valueColumnName, final ConditionConverter defaultConditionConverter, final Map<String, ConditionConverter> conditionConverters, final ValueConverter<T> valueConverter, final ConditionalValuesBuilder<T> conditionalValuesBuilder) {
+        super();
+        _columnSeparator = columnSeparator;
+        _valueSeparator = valueSeparator;
+        _idColumnName = idColumnName;
+        _valueColumnName = valueColumnName;
+        _defaultConditionConverter = defaultConditionConverter;
+        _conditionConverters = conditionConverters;
+        _valueConverter = valueConverter;
+        _conditionalValuesBuilder = conditionalValuesBuilder;
+        _valueSetBuilder = ValueSetBuilder.newInstance();
+        _cell = new CellBuffer();
+        _columnNames = new ArrayList<>();
+        _columnConditionConverters = null;
+        _idColumnIndex = -1;
+        _state = STATE_CELL_START;
+        _rowNumber = 1;
+        _columnIndex = 0;
+        _rowDefined = false;
+        _valueSetCount = 0;
+    }
+
+    void parse(final CharBuffer chars) {
+        while (chars.hasRemaining()) {
+            parseChar(chars.get());
+        }
+    }
+
+    private void parseChar(final char ch) {
+        if (_state == STATE_QUOTED) {
+            if (ch == '"') {
+                _state = STATE_QUOTE;
+            } else {
+                _cell.append(ch);
+            }
+        } else if (_state == STATE_QUOTE && ch == '"') {
+            _cell.append(ch);
+            _state = STATE_QUOTED;
+        } else if (ch == _columnSeparator) {
+            endCell();
+        } else if (ch == '\n') {
+            endCell();
+            endRow();
+        } else if (ch == '"' && _state == STATE_CELL_START) {
+            _state = STATE_QUOTED;
+        } else if (ch != '\r') {
+            _cell.append(ch);
+            _state = STATE_UNQUOTED;
+        }
+    }
+
+    void finish() {
+        if (_state == STATE_QUOTED) {
+            throw new DecisionTableException("Row " + _rowNumber + ": quoted cell is not closed");
+        }
+        if (_state != STATE_CELL_START || _columnIndex > 0) {
+            endCell();
+            endRow();
+        }
+    }
+
+    int getValueSetCount() {
+        return _valueSetCount;
+    }
+
+    private void endCell() {
+        if (_columnConditionConverters == null) {
+            if (_cell.getSize() == 0) {
+                throw new DecisionTableException("Row " + _rowNumber + ": column name is not defined");
+            }
+            _columnNames.add(_cell.toString());
+        } else if (_cell.getSize() > 0) {
+            if (_columnIndex >= _columnNames.size()) {
+                throw new DecisionTableException("Row " + _rowNumber + ": cell is out of the columns");
+            }
+            addCell();
+            _rowDefined = true;
+        }
+        _cell.clear();
+        _columnIndex++;
+        _state = STATE_CELL_START;
+    }
+
+    private void endRow() {
+        if (_columnConditionConverters == null) {
+            createColumns();
+        } else if (_rowDefined) {
+            _conditionalValuesBuilder.addValueSet(_valueSetBuilder.build());
+            _valueSetCount++;
+        }
+        _rowNumber++;
+        _columnIndex = 0;
+        _rowDefined = false;
+    }
+
+    private void createColumns() {
+        _columnConditionConverters = new ConditionConverter[_columnNames.size()];
+        for (int i = 0; i < _columnNames.size(); i++) {
+            String columnName = _columnNames.get(i);
+            if (columnName.equals(_idColumnName)) {
+                _idColumnIndex = i;
+            } else if (!columnName.equals(_valueColumnName)) {
+                _columnConditionConverters[i] = getConditionConverter(columnName);
+            }
+        }
+    }
+
+    private ConditionConverter getConditionConverter(final String conditionName) {
+        ConditionConverter conditionConverter = _conditionConverters.get(conditionName);
+        if (conditionConverter == null) {
+            return _defaultConditionConverter;
+        } else {
+            return conditionConverter;
+        }
+    }
+
+    private void addCell() {
+        if (_columnIndex == _idColumnIndex) {
+            _valueSetBuilder.setId(_cell.toString());
+            return;
+        }
+        int size = _cell.getSize();
+        int partStart = 0;
+        for (int i = 0; i <= size; i++) {
+            if (i == size || _cell.getChar(i) == _valueSeparator) {
+                if (i > partStart) {
+                    _cell.setRange(partStart, i - partStart);
+                    addCellPart();
+                }
+                partStart = i + 1;
+            }
+        }
+    }
+
+    private void addCellPart() {
+        ConditionConverter conditionConverter = _columnConditionConverters[_columnIndex];
+        try {
+            if (conditionConverter == null) {
+                addValue();
+            } else {
+                conditionConverter.addCondition(_valueSetBuilder, _columnNames.get(_columnIndex), _cell);
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new DecisionTableException("Row " + _rowNumber + ", column " + _columnNames.get(_columnIndex) + ": wrong value " + _cell, ex);
+        }
+    }
+
+    private void addValue() {
+        if (_valueConverter != null) {
+            _valueSetBuilder.addValue(_valueConverter.convert(_cell));
+        }
+    }
+
+}
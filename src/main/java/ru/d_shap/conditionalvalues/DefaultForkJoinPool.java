@@ -0,0 +1,42 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The default {@link java.util.concurrent.ForkJoinPool} object for the parallel lookup. The pool is
+ * created on the first request with the parallelism, equal to the number of the available processors.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class DefaultForkJoinPool {
+
+    private static final ForkJoinPool INSTANCE = new ForkJoinPool();
+
+    private DefaultForkJoinPool() {
+        super();
+    }
+
+    static ForkJoinPool getInstance() {
+        return INSTANCE;
+    }
+
+}
@@ -0,0 +1,154 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Inverted index of the {@link ru.d_shap.conditionalvalues.ValueSet} objects, matched with the
+ * {@link ru.d_shap.conditionalvalues.predicate.EqualsPredicate} object for every condition.
+ * </p>
+ * <p>
+ * The {@link ru.d_shap.conditionalvalues.ValueSet} objects are grouped by condition names. Every group
+ * maps condition values to the sorted ordinals of the {@link ru.d_shap.conditionalvalues.ValueSet} objects,
+ * so the lookup intersects these posting lists instead of evaluating the predicates.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class EqualsIndex {
+
+    private final EqualsIndexGroup[] _groups;
+
+    EqualsIndex(final ConditionNameTable conditionNameTable, final List<? extends ValueSet<?>> valueSets, final List<Integer> ordinals) {
+        super();
+        _groups = createGroups(conditionNameTable, valueSets, ordinals);
+    }
+
+    EqualsIndex(final EqualsIndex equalsIndex, final ConditionNameTable conditionNameTable, final List<? extends ValueSet<?>> previousValueSets, final List<? extends ValueSet<?>> valueSets, final List<Integer> removedOrdinals, final List<Integer> addedOrdinals) {
+        super();
+        _groups = deriveGroups(equalsIndex._groups, conditionNameTable, previousValueSets, valueSets, removedOrdinals, addedOrdinals);
+    }
+
+    EqualsIndex(final EqualsIndexGroup[] groups) {
+        super();
+        _groups = groups;
+    }
+
+    private EqualsIndexGroup[] createGroups(final ConditionNameTable conditionNameTable, final List<? extends ValueSet<?>> valueSets, final List<Integer> ordinals) {
+        Map<Set<String>, List<Integer>> groupOrdinals = createGroupOrdinals(valueSets, ordinals);
+        EqualsIndexGroup[] result = new EqualsIndexGroup[groupOrdinals.size()];
+        int index = 0;
+        for (Map.Entry<Set<String>, List<Integer>> entry : groupOrdinals.entrySet()) {
+            result[index] = new EqualsIndexGroup(conditionNameTable, entry.getKey(), valueSets, entry.getValue());
+            index++;
+        }
+        return result;
+    }
+
+    private EqualsIndexGroup[] deriveGroups(final EqualsIndexGroup[] groups, final ConditionNameTable conditionNameTable, final List<? extends ValueSet<?>> previousValueSets, final List<? extends ValueSet<?>> valueSets, final List<Integer> removedOrdinals, final List<Integer> addedOrdinals) {
+        Map<Set<String>, List<Integer>> groupRemovedOrdinals = createGroupOrdinals(previousValueSets, removedOrdinals);
+        Map<Set<String>, List<Integer>> groupAddedOrdinals = createGroupOrdinals(valueSets, addedOrdinals);
+        List<EqualsIndexGroup> result = new ArrayList<>(groups.length + groupAddedOrdinals.size());
+        for (EqualsIndexGroup group : groups) {
+            Set<String> conditionNames = group.getConditionNames();
+            List<Integer> currentRemovedOrdinals = removeGroupOrdinals(groupRemovedOrdinals, conditionNames);
+            List<Integer> currentAddedOrdinals = removeGroupOrdinals(groupAddedOrdinals, conditionNames);
+            if (currentRemovedOrdinals.isEmpty() && currentAddedOrdinals.isEmpty()) {
+                result.add(group);
+            } else {
+                EqualsIndexGroup derivedGroup = new EqualsIndexGroup(group, previousValueSets, valueSets, currentRemovedOrdinals, currentAddedOrdinals);
+                if (derivedGroup.getValueSetCount() > 0) {
+                    result.add(derivedGroup);
+                }
+            }
+        }
+        for (Map.Entry<Set<String>, List<Integer>> entry : groupAddedOrdinals.entrySet()) {
+            result.add(new EqualsIndexGroup(conditionNameTable, entry.getKey(), valueSets, entry.getValue()));
+        }
+        return result.toArray(new EqualsIndexGroup[0]);
+    }
+
+    private Map<Set<String>, List<Integer>> createGroupOrdinals(final List<? extends ValueSet<?>> valueSets, final List<Integer> ordinals) {
+        Map<Set<String>, List<Integer>> result = new LinkedHashMap<>();
+        if (ordinals != null) {
+            for (int ordinal : ordinals) {
+                Set<String> conditionNames = valueSets.get(ordinal).getAllConditionNames();
+                List<Integer> currentOrdinals = result.get(conditionNames);
+                if (currentOrdinals == null) {
+                    currentOrdinals = new ArrayList<>();
+                    result.put(conditionNames, currentOrdinals);
+                }
+                currentOrdinals.add(ordinal);
+            }
+        }
+        return result;
+    }
+
+    private List<Integer> removeGroupOrdinals(final Map<Set<String>, List<Integer>> groupOrdinals, final Set<String> conditionNames) {
+        List<Integer> ordinals = groupOrdinals.remove(conditionNames);
+        if (ordinals == null) {
+            return Collections.emptyList();
+        } else {
+            return ordinals;
+        }
+    }
+
+    EqualsIndexGroup getGroup(final int index) {
+        return _groups[index];
+    }
+
+    int getGroupCount() {
+        return _groups.length;
+    }
+
+    int getMaxConditionNameCount() {
+        int result = 0;
+        for (EqualsIndexGroup group : _groups) {
+            result = Math.max(result, group.getConditionNameCount());
+        }
+        return result;
+    }
+
+    void addMatchingOrdinals(final Object[] conditionSetValues, final IntList ordinals) {
+        addMatchingOrdinals(conditionSetValues, ordinals, new int[getMaxConditionNameCount()][]);
+    }
+
+    void addMatchingOrdinals(final Object[] conditionSetValues, final IntList ordinals, final int[][] postings) {
+        if (conditionSetValues != null) {
+            for (EqualsIndexGroup group : _groups) {
+                group.addMatchingOrdinals(conditionSetValues, ordinals, postings);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(_groups);
+    }
+
+}
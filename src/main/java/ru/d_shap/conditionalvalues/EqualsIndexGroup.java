@@ -0,0 +1,262 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Group of the {@link ru.d_shap.conditionalvalues.ValueSet} objects with the same condition names,
+ * indexed by the condition values.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class EqualsIndexGroup {
+
+    private final String[] _conditionNames;
+
+    private final int[] _conditionIds;
+
+    private final List<Map<Object, int[]>> _postings;
+
+    private final int[] _ordinals;
+
+    EqualsIndexGroup(final ConditionNameTable conditionNameTable, final Set<String> conditionNames, final List<? extends ValueSet<?>> valueSets, final List<Integer> ordinals) {
+        super();
+        _conditionNames = conditionNames.toArray(new String[0]);
+        Arrays.sort(_conditionNames);
+        _conditionIds = createConditionIds(conditionNameTable);
+        _postings = createPostings(valueSets, ordinals);
+        _ordinals = createOrdinals(ordinals);
+    }
+
+    EqualsIndexGroup(final EqualsIndexGroup group, final List<? extends ValueSet<?>> previousValueSets, final List<? extends ValueSet<?>> valueSets, final List<Integer> removedOrdinals, final List<Integer> addedOrdinals) {
+        super();
+        _conditionNames = group._conditionNames;
+        _conditionIds = group._conditionIds;
+        _postings = derivePostings(group._postings, previousValueSets, valueSets, removedOrdinals, addedOrdinals);
+        _ordinals = deriveOrdinals(group._ordinals, removedOrdinals, addedOrdinals);
+    }
+
+    EqualsIndexGroup(final ConditionNameTable conditionNameTable, final int[] conditionIds, final List<Map<Object, int[]>> postings, final int[] ordinals) {
+        super();
+        _conditionNames = createConditionNames(conditionNameTable, conditionIds);
+        _conditionIds = conditionIds;
+        _postings = postings;
+        _ordinals = ordinals;
+    }
+
+    private String[] createConditionNames(final ConditionNameTable conditionNameTable, final int[] conditionIds) {
+        String[] result = new String[conditionIds.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = conditionNameTable.getConditionName(conditionIds[i]);
+        }
+        return result;
+    }
+
+    private int[] createConditionIds(final ConditionNameTable conditionNameTable) {
+        int[] result = new int[_conditionNames.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = conditionNameTable.getConditionId(_conditionNames[i]);
+        }
+        return result;
+    }
+
+    private List<Map<Object, int[]>> createPostings(final List<? extends ValueSet<?>> valueSets, final List<Integer> ordinals) {
+        List<Map<Object, int[]>> result = new ArrayList<>(_conditionNames.length);
+        for (String conditionName : _conditionNames) {
+            Map<Object, IntList> postings = new HashMap<>();
+            for (int ordinal : ordinals) {
+                Set<Object> conditionValues = valueSets.get(ordinal).getAllConditionValues(conditionName);
+                for (Object conditionValue : conditionValues) {
+                    IntList posting = postings.get(conditionValue);
+                    if (posting == null) {
+                        posting = new IntList();
+                        postings.put(conditionValue, posting);
+                    }
+                    posting.add(ordinal);
+                }
+            }
+            Map<Object, int[]> conditionPostings = new HashMap<>();
+            for (Map.Entry<Object, IntList> entry : postings.entrySet()) {
+                conditionPostings.put(entry.getKey(), entry.getValue().toArray());
+            }
+            result.add(conditionPostings);
+        }
+        return result;
+    }
+
+    private int[] createOrdinals(final List<Integer> ordinals) {
+        int[] result = new int[ordinals.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ordinals.get(i);
+        }
+        return result;
+    }
+
+    private List<Map<Object, int[]>> derivePostings(final List<Map<Object, int[]>> postings, final List<? extends ValueSet<?>> previousValueSets, final List<? extends ValueSet<?>> valueSets, final List<Integer> removedOrdinals, final List<Integer> addedOrdinals) {
+        List<Map<Object, int[]>> result = new ArrayList<>(_conditionNames.length);
+        for (int i = 0; i < _conditionNames.length; i++) {
+            Map<Object, int[]> conditionPostings = new HashMap<>(postings.get(i));
+            for (int ordinal : removedOrdinals) {
+                removePostings(conditionPostings, previousValueSets.get(ordinal).getAllConditionValues(_conditionNames[i]), ordinal);
+            }
+            for (int ordinal : addedOrdinals) {
+                addPostings(conditionPostings, valueSets.get(ordinal).getAllConditionValues(_conditionNames[i]), ordinal);
+            }
+            result.add(conditionPostings);
+        }
+        return result;
+    }
+
+    private void removePostings(final Map<Object, int[]> conditionPostings, final Set<Object> conditionValues, final int ordinal) {
+        for (Object conditionValue : conditionValues) {
+            int[] posting = removeOrdinal(conditionPostings.get(conditionValue), ordinal);
+            if (posting.length == 0) {
+                conditionPostings.remove(conditionValue);
+            } else {
+                conditionPostings.put(conditionValue, posting);
+            }
+        }
+    }
+
+    private void addPostings(final Map<Object, int[]> conditionPostings, final Set<Object> conditionValues, final int ordinal) {
+        for (Object conditionValue : conditionValues) {
+            int[] posting = addOrdinal(conditionPostings.get(conditionValue), ordinal);
+            conditionPostings.put(conditionValue, posting);
+        }
+    }
+
+    private int[] deriveOrdinals(final int[] ordinals, final List<Integer> removedOrdinals, final List<Integer> addedOrdinals) {
+        int[] result = ordinals;
+        for (int ordinal : removedOrdinals) {
+            result = removeOrdinal(result, ordinal);
+        }
+        for (int ordinal : addedOrdinals) {
+            result = addOrdinal(result, ordinal);
+        }
+        return result;
+    }
+
+    private int[] removeOrdinal(final int[] ordinals, final int ordinal) {
+        if (ordinals == null) {
+            return new int[0];
+        }
+        int index = Arrays.binarySearch(ordinals, ordinal);
+        if (index < 0) {
+            return ordinals;
+        }
+        int[] result = new int[ordinals.length - 1];
+        System.arraycopy(ordinals, 0, result, 0, index);
+        System.arraycopy(ordinals, index + 1, result, index, result.length - index);
+        return result;
+    }
+
+    private int[] addOrdinal(final int[] ordinals, final int ordinal) {
+        if (ordinals == null) {
+            return new int[]{ordinal};
+        }
+        int index = Arrays.binarySearch(ordinals, ordinal);
+        if (index >= 0) {
+            return ordinals;
+        }
+        int insertionIndex = -index - 1;
+        int[] result = new int[ordinals.length + 1];
+        System.arraycopy(ordinals, 0, result, 0, insertionIndex);
+        result[insertionIndex] = ordinal;
+        System.arraycopy(ordinals, insertionIndex, result, insertionIndex + 1, ordinals.length - insertionIndex);
+        return result;
+    }
+
+    Set<String> getConditionNames() {
+        return new HashSet<>(Arrays.asList(_conditionNames));
+    }
+
+    int[] getConditionIds() {
+        return _conditionIds;
+    }
+
+    Map<Object, int[]> getPostings(final int index) {
+        return _postings.get(index);
+    }
+
+    int[] getOrdinals() {
+        return _ordinals;
+    }
+
+    int getConditionNameCount() {
+        return _conditionNames.length;
+    }
+
+    int getValueSetCount() {
+        return _ordinals.length;
+    }
+
+    void addMatchingOrdinals(final Object[] conditionSetValues, final IntList ordinals) {
+        addMatchingOrdinals(conditionSetValues, ordinals, new int[_conditionNames.length][]);
+    }
+
+    void addMatchingOrdinals(final Object[] conditionSetValues, final IntList ordinals, final int[][] postings) {
+        if (_conditionNames.length == 0) {
+            ordinals.addAll(_ordinals);
+            return;
+        }
+        int smallest = 0;
+        for (int i = 0; i < _conditionNames.length; i++) {
+            Object conditionSetValue = conditionSetValues[_conditionIds[i]];
+            if (conditionSetValue == null) {
+                return;
+            }
+            int[] posting = _postings.get(i).get(conditionSetValue);
+            if (posting == null) {
+                return;
+            }
+            postings[i] = posting;
+            if (posting.length < postings[smallest].length) {
+                smallest = i;
+            }
+        }
+        for (int ordinal : postings[smallest]) {
+            if (isContainedInAllPostings(postings, _conditionNames.length, smallest, ordinal)) {
+                ordinals.add(ordinal);
+            }
+        }
+    }
+
+    private boolean isContainedInAllPostings(final int[][] postings, final int postingCount, final int skipIndex, final int ordinal) {
+        for (int i = 0; i < postingCount; i++) {
+            if (i != skipIndex && Arrays.binarySearch(postings[i], ordinal) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(_conditionNames) + "=" + Arrays.toString(_ordinals);
+    }
+
+}
@@ -0,0 +1,71 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * {@link ru.d_shap.conditionalvalues.ConditionMatcher} for the
+ * {@link ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate} object with the
+ * {@link ru.d_shap.conditionalvalues.predicate.StringEqualsIgnoreCasePredicate} object. The condition value
+ * matches if the set of case-folded values contains the case-folded condition value. Non-string condition
+ * values are matched with the fallback matcher.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class FoldedValueMembershipMatcher implements ConditionMatcher {
+
+    private final Set<String> _foldedValueSetValues;
+
+    private final ConditionMatcher _fallbackMatcher;
+
+    FoldedValueMembershipMatcher(final Set<Object> valueSetValues, final ConditionMatcher fallbackMatcher) {
+        super();
+        _foldedValueSetValues = createFoldedValueSetValues(valueSetValues);
+        _fallbackMatcher = fallbackMatcher;
+    }
+
+    private Set<String> createFoldedValueSetValues(final Set<Object> valueSetValues) {
+        Set<String> result = new HashSet<>();
+        for (Object valueSetValue : valueSetValues) {
+            String foldedValueSetValue = CaseFolding.foldCase((String) valueSetValue);
+            result.add(foldedValueSetValue);
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public boolean isMatch(final Object conditionSetValue) {
+        if (conditionSetValue instanceof String) {
+            String foldedConditionSetValue = CaseFolding.foldCase((String) conditionSetValue);
+            return _foldedValueSetValues.contains(foldedConditionSetValue);
+        } else {
+            return _fallbackMatcher.isMatch(conditionSetValue);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return _foldedValueSetValues.toString();
+    }
+
+}
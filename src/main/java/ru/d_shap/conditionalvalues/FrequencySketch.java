@@ -0,0 +1,124 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * <p>
+ * Frequency sketch of the lookup cache keys.
+ * </p>
+ * <p>
+ * The sketch is the count-min sketch with the small saturating counters. When the number of the counted
+ * keys reaches the sample size, all counters are halved, so the sketch represents the recent frequencies.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+
+    private static final int MIN_WIDTH = 16;
+
+    private static final int MAX_WIDTH = 1 << 24;
+
+    private static final int MAX_FREQUENCY = 15;
+
+    private static final int SAMPLE_FACTOR = 10;
+
+    private static final int[] SEEDS = {0x97CB3127, 0x5A3C7B13, 0x2D9B4F67, 0xE2A84E5B};
+
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private static final int HASH_SHIFT = 16;
+
+    private final byte[][] _counters;
+
+    private final int _mask;
+
+    private final int _sampleSize;
+
+    private int _sampleCount;
+
+    FrequencySketch(final int maximumSize) {
+        super();
+        int width = getWidth(maximumSize);
+        _counters = new byte[DEPTH][width];
+        _mask = width - 1;
+        _sampleSize = width * SAMPLE_FACTOR;
+        _sampleCount = 0;
+    }
+
+    private static int getWidth(final int maximumSize) {
+        int width = MIN_WIDTH;
+        while (width < maximumSize && width < MAX_WIDTH) {
+            width <<= 1;
+        }
+        return width;
+    }
+
+    int getWidth() {
+        return _mask + 1;
+    }
+
+    int getSampleSize() {
+        return _sampleSize;
+    }
+
+    void increment(final int hash) {
+        boolean incremented = false;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = getIndex(hash, i);
+            if (_counters[i][index] < MAX_FREQUENCY) {
+                _counters[i][index]++;
+                incremented = true;
+            }
+        }
+        if (incremented) {
+            _sampleCount++;
+            if (_sampleCount >= _sampleSize) {
+                reset();
+            }
+        }
+    }
+
+    int getFrequency(final int hash) {
+        int result = MAX_FREQUENCY;
+        for (int i = 0; i < DEPTH; i++) {
+            result = Math.min(result, _counters[i][getIndex(hash, i)]);
+        }
+        return result;
+    }
+
+    private int getIndex(final int hash, final int row) {
+        int result = (hash ^ SEEDS[row]) * HASH_MULTIPLIER;
+        result ^= result >>> HASH_SHIFT;
+        return result & _mask;
+    }
+
+    private void reset() {
+        for (byte[] counters : _counters) {
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] >>= 1;
+            }
+        }
+        _sampleCount /= 2;
+    }
+
+}
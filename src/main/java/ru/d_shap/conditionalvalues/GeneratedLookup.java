@@ -0,0 +1,128 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Base class for the lookup classes, generated by the {@link ru.d_shap.conditionalvalues.LookupClassGenerator}
+ * object.
+ * </p>
+ * <p>
+ * The generated class matches the condition values with the hard-coded switch statements and the
+ * hard-coded conditions of the {@link ru.d_shap.conditionalvalues.ValueSet} objects, so no predicate is
+ * called during the lookup. The {@link ru.d_shap.conditionalvalues.ConditionalValues} object, the class
+ * was generated from, provides the values of the lookup result.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public abstract class GeneratedLookup<T> {
+
+    private final ConditionalValues<T> _conditionalValues;
+
+    private final String[] _conditionNames;
+
+    private final int _valueSetCount;
+
+    /**
+     * Create new object.
+     *
+     * @param conditionalValues the {@link ru.d_shap.conditionalvalues.ConditionalValues} object, the class was generated from.
+     * @param conditionNames    the condition names of the generated class.
+     * @param valueSetCount     the number of the {@link ru.d_shap.conditionalvalues.ValueSet} objects of the generated class.
+     */
+    protected GeneratedLookup(final ConditionalValues<T> conditionalValues, final String[] conditionNames, final int valueSetCount) {
+        super();
+        int actualValueSetCount = conditionalValues.getValueSets().size();
+        if (actualValueSetCount != valueSetCount) {
+            throw new GeneratedLookupException("Wrong number of the value sets, expected " + valueSetCount + ", but was " + actualValueSetCount);
+        }
+        _conditionalValues = conditionalValues;
+        _conditionNames = Arrays.copyOf(conditionNames, conditionNames.length);
+        _valueSetCount = valueSetCount;
+    }
+
+    /**
+     * Performs lookup for the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     *
+     * @param conditionSet lookup conditions.
+     *
+     * @return the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    public final Values<T> lookup(final ConditionSet conditionSet) {
+        int[] ordinals = new int[_valueSetCount];
+        int count = 0;
+        if (conditionSet != null) {
+            Object[] conditionValues = new Object[_conditionNames.length];
+            for (int i = 0; i < _conditionNames.length; i++) {
+                conditionValues[i] = conditionSet.getValue(_conditionNames[i]);
+            }
+            count = getMatchingOrdinals(conditionValues, ordinals);
+        }
+        return _conditionalValues.createLiveValues(ordinals, 0, count);
+    }
+
+    /**
+     * Performs lookup for the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects,
+     * and perform the specified action on each value.
+     *
+     * @param conditionSet lookup conditions.
+     * @param action       the specified action.
+     *
+     * @return the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    public final Values<T> lookup(final ConditionSet conditionSet, final Action<T> action) {
+        Values<T> values = lookup(conditionSet);
+        values.performAction(action);
+        return values;
+    }
+
+    /**
+     * Performs lookup for the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects,
+     * and perform the specified actions on each value.
+     *
+     * @param conditionSet lookup conditions.
+     * @param actions      the specified actions.
+     *
+     * @return the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    @SafeVarargs
+    public final Values<T> lookup(final ConditionSet conditionSet, final Action<T>... actions) {
+        Values<T> values = lookup(conditionSet);
+        values.performAction(actions);
+        return values;
+    }
+
+    /**
+     * Get the ordinals of the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects in the
+     * ascending order.
+     *
+     * @param conditionValues the condition values in the order of the condition names of the generated class.
+     * @param ordinals        the array for the ordinals.
+     *
+     * @return the number of the ordinals.
+     */
+    protected abstract int getMatchingOrdinals(Object[] conditionValues, int[] ordinals);
+
+}
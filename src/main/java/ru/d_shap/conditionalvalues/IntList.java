@@ -0,0 +1,109 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive int values, used to collect the ordinals of the
+ * {@link ru.d_shap.conditionalvalues.ValueSet} objects without boxing.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class IntList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] _values;
+
+    private int _size;
+
+    IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    IntList(final int capacity) {
+        super();
+        _values = new int[Math.max(capacity, 1)];
+        _size = 0;
+    }
+
+    void add(final int value) {
+        if (_size == _values.length) {
+            _values = Arrays.copyOf(_values, _values.length * 2);
+        }
+        _values[_size] = value;
+        _size++;
+    }
+
+    void addAll(final int[] values) {
+        if (values != null) {
+            for (int value : values) {
+                add(value);
+            }
+        }
+    }
+
+    int get(final int index) {
+        if (index >= _size) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return _values[index];
+    }
+
+    void set(final int index, final int value) {
+        if (index >= _size) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        _values[index] = value;
+    }
+
+    int size() {
+        return _size;
+    }
+
+    boolean isEmpty() {
+        return _size == 0;
+    }
+
+    void sort() {
+        Arrays.sort(_values, 0, _size);
+    }
+
+    void truncate(final int size) {
+        if (size < _size) {
+            _size = Math.max(size, 0);
+        }
+    }
+
+    void clear() {
+        _size = 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(_values, _size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
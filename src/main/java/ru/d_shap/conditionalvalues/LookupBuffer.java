@@ -0,0 +1,160 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * <p>
+ * Scratch buffers of the lookup in the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ * </p>
+ * <p>
+ * Every thread reuses its own object of this class, so the lookup does not allocate the bookkeeping
+ * structures for the matching {@link ru.d_shap.conditionalvalues.ValueSet} objects. The derived
+ * {@link ru.d_shap.conditionalvalues.ConditionalValues} objects share the objects of this class with the
+ * original object, and the object is replaced, if it is not suitable for the derived object.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class LookupBuffer {
+
+    private final IntList _ordinals;
+
+    private final Object[] _conditionSetValues;
+
+    private final BitSet[] _indexedMatchingOrdinals;
+
+    private final BitSet[] _indexedMatchingOrdinalBuffers;
+
+    private final int[][] _postings;
+
+    private final long[] _shapeWords;
+
+    private final byte[] _shapeStates;
+
+    private final IntList _matchedShapeIds;
+
+    private final Object[] _values;
+
+    private int _valueCount;
+
+    private boolean _inUse;
+
+    LookupBuffer(final int valueSetCount, final int conditionNameCount, final int[] indexedConditionIds, final int postingCount, final int shapeCount, final int valueCount) {
+        super();
+        _ordinals = new IntList(valueSetCount);
+        _conditionSetValues = new Object[conditionNameCount];
+        _indexedMatchingOrdinals = new BitSet[conditionNameCount];
+        _indexedMatchingOrdinalBuffers = createIndexedMatchingOrdinalBuffers(valueSetCount, conditionNameCount, indexedConditionIds);
+        _postings = new int[postingCount][];
+        _shapeWords = new long[ConditionNameMask.getWordCount(conditionNameCount)];
+        _shapeStates = new byte[shapeCount];
+        _matchedShapeIds = new IntList(shapeCount);
+        _values = new Object[valueCount];
+        _valueCount = 0;
+        _inUse = false;
+    }
+
+    private BitSet[] createIndexedMatchingOrdinalBuffers(final int valueSetCount, final int conditionNameCount, final int[] indexedConditionIds) {
+        BitSet[] result = new BitSet[conditionNameCount];
+        for (int conditionId : indexedConditionIds) {
+            if (result[conditionId] == null) {
+                result[conditionId] = new BitSet(valueSetCount);
+            }
+        }
+        return result;
+    }
+
+    boolean isSuitable(final int conditionNameCount, final int[] indexedConditionIds, final int postingCount, final int shapeCount, final int valueCount) {
+        if (_conditionSetValues.length != conditionNameCount || _postings.length < postingCount || _shapeStates.length < shapeCount || _values.length < valueCount) {
+            return false;
+        }
+        for (int conditionId : indexedConditionIds) {
+            if (_indexedMatchingOrdinalBuffers[conditionId] == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    IntList getOrdinals() {
+        return _ordinals;
+    }
+
+    Object[] getConditionSetValues() {
+        return _conditionSetValues;
+    }
+
+    BitSet[] getIndexedMatchingOrdinals() {
+        return _indexedMatchingOrdinals;
+    }
+
+    BitSet getIndexedMatchingOrdinalBuffer(final int conditionId) {
+        BitSet result = _indexedMatchingOrdinalBuffers[conditionId];
+        result.clear();
+        return result;
+    }
+
+    int[][] getPostings() {
+        return _postings;
+    }
+
+    long[] getShapeWords() {
+        return _shapeWords;
+    }
+
+    byte[] getShapeStates() {
+        return _shapeStates;
+    }
+
+    IntList getMatchedShapeIds() {
+        return _matchedShapeIds;
+    }
+
+    Object[] getValues() {
+        return _values;
+    }
+
+    int getValueCount() {
+        return _valueCount;
+    }
+
+    void setValueCount(final int valueCount) {
+        _valueCount = valueCount;
+    }
+
+    boolean isInUse() {
+        return _inUse;
+    }
+
+    void acquire() {
+        _inUse = true;
+        _ordinals.clear();
+    }
+
+    void release() {
+        _inUse = false;
+        Arrays.fill(_values, 0, _valueCount, null);
+        _valueCount = 0;
+    }
+
+}
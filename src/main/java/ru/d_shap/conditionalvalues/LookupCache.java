@@ -0,0 +1,117 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * Bounded cache of the lookup results, keyed by the {@link ru.d_shap.conditionalvalues.ConditionSet} objects.
+ * </p>
+ * <p>
+ * The cache is divided into the segments by the hash codes of the keys. Every segment is guarded with its own
+ * lock, and has its own part of the maximum size and its own frequency sketch for the admission of the new entries.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class LookupCache<T> {
+
+    private static final int MAX_SEGMENT_COUNT = 16;
+
+    private static final int MIN_SEGMENT_SIZE = 16;
+
+    private static final int HASH_SHIFT = 16;
+
+    private final int _maximumSize;
+
+    private final List<LookupCacheSegment<T>> _segments;
+
+    private final int _segmentMask;
+
+    LookupCache(final int maximumSize) {
+        super();
+        _maximumSize = Math.max(maximumSize, 0);
+        _segments = createSegments();
+        _segmentMask = _segments.size() - 1;
+    }
+
+    private List<LookupCacheSegment<T>> createSegments() {
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENT_COUNT && segmentCount * MIN_SEGMENT_SIZE < _maximumSize) {
+            segmentCount <<= 1;
+        }
+        List<LookupCacheSegment<T>> result = new ArrayList<>(segmentCount);
+        int segmentSize = _maximumSize / segmentCount;
+        int remainder = _maximumSize % segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            int maximumSize = segmentSize;
+            if (i < remainder) {
+                maximumSize++;
+            }
+            result.add(new LookupCacheSegment<T>(maximumSize));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    int getSegmentCount() {
+        return _segments.size();
+    }
+
+    Values<T> get(final ConditionSet conditionSet) {
+        return getSegment(conditionSet).get(conditionSet);
+    }
+
+    void put(final ConditionSet conditionSet, final Values<T> values) {
+        getSegment(conditionSet).put(conditionSet, values);
+    }
+
+    private LookupCacheSegment<T> getSegment(final ConditionSet conditionSet) {
+        int hash = conditionSet.hashCode();
+        hash ^= hash >>> HASH_SHIFT;
+        return _segments.get(hash & _segmentMask);
+    }
+
+    LookupCacheStatistics getStatistics() {
+        int size = 0;
+        long hitCount = 0L;
+        long missCount = 0L;
+        long evictionCount = 0L;
+        long rejectionCount = 0L;
+        for (LookupCacheSegment<T> segment : _segments) {
+            size += segment.getSize();
+            hitCount += segment.getHitCount();
+            missCount += segment.getMissCount();
+            evictionCount += segment.getEvictionCount();
+            rejectionCount += segment.getRejectionCount();
+        }
+        return new LookupCacheStatistics(_maximumSize, size, hitCount, missCount, evictionCount, rejectionCount);
+    }
+
+    @Override
+    public String toString() {
+        return getStatistics().toString();
+    }
+
+}
@@ -0,0 +1,140 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Segment of the lookup cache.
+ * </p>
+ * <p>
+ * The segment keeps the entries in the access order. If the segment is full, then the new entry is
+ * admitted only if the key of the new entry is requested more frequently, than the key of the least recently
+ * used entry. In this case the least recently used entry is evicted, otherwise the new entry is rejected.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class LookupCacheSegment<T> {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Object _lock;
+
+    private final int _maximumSize;
+
+    private final Map<ConditionSet, Values<T>> _entries;
+
+    private final FrequencySketch _frequencySketch;
+
+    private long _hitCount;
+
+    private long _missCount;
+
+    private long _evictionCount;
+
+    private long _rejectionCount;
+
+    LookupCacheSegment(final int maximumSize) {
+        super();
+        _lock = new Object();
+        _maximumSize = maximumSize;
+        _entries = new LinkedHashMap<>(16, LOAD_FACTOR, true);
+        _frequencySketch = new FrequencySketch(maximumSize);
+        _hitCount = 0L;
+        _missCount = 0L;
+        _evictionCount = 0L;
+        _rejectionCount = 0L;
+    }
+
+    Values<T> get(final ConditionSet conditionSet) {
+        synchronized (_lock) {
+            _frequencySketch.increment(conditionSet.hashCode());
+            Values<T> values = _entries.get(conditionSet);
+            if (values == null) {
+                _missCount++;
+            } else {
+                _hitCount++;
+            }
+            return values;
+        }
+    }
+
+    void put(final ConditionSet conditionSet, final Values<T> values) {
+        synchronized (_lock) {
+            if (_maximumSize <= 0 || _entries.containsKey(conditionSet)) {
+                return;
+            }
+            if (_entries.size() < _maximumSize) {
+                _entries.put(conditionSet, values);
+                return;
+            }
+            Iterator<ConditionSet> iterator = _entries.keySet().iterator();
+            ConditionSet victim = iterator.next();
+            if (_frequencySketch.getFrequency(conditionSet.hashCode()) > _frequencySketch.getFrequency(victim.hashCode())) {
+                iterator.remove();
+                _entries.put(conditionSet, values);
+                _evictionCount++;
+            } else {
+                _rejectionCount++;
+            }
+        }
+    }
+
+    int getMaximumSize() {
+        return _maximumSize;
+    }
+
+    int getSize() {
+        synchronized (_lock) {
+            return _entries.size();
+        }
+    }
+
+    long getHitCount() {
+        synchronized (_lock) {
+            return _hitCount;
+        }
+    }
+
+    long getMissCount() {
+        synchronized (_lock) {
+            return _missCount;
+        }
+    }
+
+    long getEvictionCount() {
+        synchronized (_lock) {
+            return _evictionCount;
+        }
+    }
+
+    long getRejectionCount() {
+        synchronized (_lock) {
+            return _rejectionCount;
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * Statistics of the lookup result cache of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class LookupCacheStatistics {
+
+    private final int _maximumSize;
+
+    private final int _size;
+
+    private final long _hitCount;
+
+    private final long _missCount;
+
+    private final long _evictionCount;
+
+    private final long _rejectionCount;
+
+    LookupCacheStatistics(final int maximumSize, final int size, final long hitCount, final long missCount, final long evictionCount, final long rejectionCount) {
+        super();
+        _maximumSize = maximumSize;
+        _size = size;
+        _hitCount = hitCount;
+        _missCount = missCount;
+        _evictionCount = evictionCount;
+        _rejectionCount = rejectionCount;
+    }
+
+    /**
+     * Get the maximum number of the cached lookup results.
+     *
+     * @return the maximum number of the cached lookup results.
+     */
+    public int getMaximumSize() {
+        return _maximumSize;
+    }
+
+    /**
+     * Get the number of the cached lookup results.
+     *
+     * @return the number of the cached lookup results.
+     */
+    public int getSize() {
+        return _size;
+    }
+
+    /**
+     * Get the number of the lookups, that returned the cached result.
+     *
+     * @return the number of the lookups, that returned the cached result.
+     */
+    public long getHitCount() {
+        return _hitCount;
+    }
+
+    /**
+     * Get the number of the lookups, that did not find the cached result.
+     *
+     * @return the number of the lookups, that did not find the cached result.
+     */
+    public long getMissCount() {
+        return _missCount;
+    }
+
+    /**
+     * Get the number of the cached lookup results, evicted in favour of the more frequent lookups.
+     *
+     * @return the number of the evicted lookup results.
+     */
+    public long getEvictionCount() {
+        return _evictionCount;
+    }
+
+    /**
+     * Get the number of the lookup results, not admitted to the full cache, because the lookups were
+     * less frequent, than the lookups of the cached results.
+     *
+     * @return the number of the rejected lookup results.
+     */
+    public long getRejectionCount() {
+        return _rejectionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + _size + "/" + _maximumSize + ", hits=" + _hitCount + ", misses=" + _missCount + ", evictions=" + _evictionCount + ", rejections=" + _rejectionCount;
+    }
+
+}
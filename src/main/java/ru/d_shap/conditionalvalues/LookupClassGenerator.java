@@ -0,0 +1,105 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * <p>
+ * Generator of the source code of the lookup class for the {@link ru.d_shap.conditionalvalues.ConditionalValues}
+ * object, that is fixed at the build time.
+ * </p>
+ * <p>
+ * The generated class extends the {@link ru.d_shap.conditionalvalues.GeneratedLookup} class, and performs the
+ * same lookup as the {@link ru.d_shap.conditionalvalues.ConditionalValues} object with the hard-coded switch
+ * statements instead of the predicates. The generated class is created with the same
+ * {@link ru.d_shap.conditionalvalues.ConditionalValues} object, that provides the values of the lookup result.
+ * </p>
+ * <p>
+ * Only the {@link ru.d_shap.conditionalvalues.ConditionalValues} object with the
+ * {@link ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate} tuple predicate and the
+ * {@link ru.d_shap.conditionalvalues.predicate.EqualsPredicate} predicate for every condition is supported.
+ * The condition values should be the strings, the primitive wrappers, except byte and short, or the characters.
+ * The generator is called during the build, for example from the generate-sources phase, and the generated
+ * source is compiled with the project.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class LookupClassGenerator<T> {
+
+    /**
+     * Create new object.
+     */
+    public LookupClassGenerator() {
+        super();
+    }
+
+    /**
+     * Generate the source code of the lookup class.
+     *
+     * @param conditionalValues the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param valueClass        the class of the value.
+     * @param className         the fully qualified name of the lookup class.
+     *
+     * @return the source code of the lookup class.
+     */
+    public String generate(final ConditionalValues<T> conditionalValues, final Class<T> valueClass, final String className) {
+        List<ValueSet<T>> valueSets = conditionalValues.getValueSets();
+        for (ValueSet<T> valueSet : valueSets) {
+            if (!conditionalValues.isEqualsIndexed(valueSet)) {
+                throw new GeneratedLookupException("Value set is not supported: " + valueSet);
+            }
+        }
+        return new LookupClassSourceWriter(className, valueClass.getCanonicalName(), valueSets).write();
+    }
+
+    /**
+     * Generate the source code of the lookup class and write it to the source directory.
+     *
+     * @param conditionalValues the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     * @param valueClass        the class of the value.
+     * @param className         the fully qualified name of the lookup class.
+     * @param sourceDirectory   the source directory.
+     *
+     * @return the path of the source file.
+     */
+    public Path write(final ConditionalValues<T> conditionalValues, final Class<T> valueClass, final String className, final Path sourceDirectory) {
+        String source = generate(conditionalValues, valueClass, className);
+        Path path = sourceDirectory.resolve(className.replace('.', '/') + ".java");
+        try {
+            Path directory = path.getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            Files.write(path, source.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ex) {
+            throw new GeneratedLookupException(ex);
+        }
+        return path;
+    }
+
+}
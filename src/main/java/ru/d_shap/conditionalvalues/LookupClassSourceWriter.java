@@ -0,0 +1,443 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Writer of the source code of the lookup class.
+ * </p>
+ * <p>
+ * Every condition value gets the ID, unique for the condition name. The generated class maps the
+ * condition value of the {@link ru.d_shap.conditionalvalues.ConditionSet} object to the ID with the
+ * switch statement on the hash code, and matches the IDs with the hard-coded conditions of every
+ * {@link ru.d_shap.conditionalvalues.ValueSet} object. The less specific {@link ru.d_shap.conditionalvalues.ValueSet}
+ * objects are removed with the hard-coded specificity relations between the sets of the condition names.
+ * The switch statements and the conditions are split into the small methods, so the methods are
+ * compiled by the JIT compiler.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class LookupClassSourceWriter {
+
+    static final int MAX_CASE_COUNT = 256;
+
+    static final int MAX_VALUE_SET_COUNT = 128;
+
+    private static final List<Class<?>> VALUE_TYPES = Collections.unmodifiableList(Arrays.<Class<?>>asList(String.class, Integer.class, Long.class, Character.class, Boolean.class, Float.class, Double.class));
+
+    private static final String INDENT = "    ";
+
+    private final String _packageName;
+
+    private final String _simpleClassName;
+
+    private final String _valueClassName;
+
+    private final List<? extends ValueSet<?>> _valueSets;
+
+    private final List<String> _conditionNames;
+
+    private final List<Map<Object, Integer>> _valueIds;
+
+    private final List<Set<String>> _shapes;
+
+    private final int[] _shapeIds;
+
+    LookupClassSourceWriter(final String className, final String valueClassName, final List<? extends ValueSet<?>> valueSets) {
+        super();
+        int index = className.lastIndexOf('.');
+        if (index < 0) {
+            _packageName = null;
+            _simpleClassName = className;
+        } else {
+            _packageName = className.substring(0, index);
+            _simpleClassName = className.substring(index + 1);
+        }
+        _valueClassName = valueClassName;
+        _valueSets = valueSets;
+        _conditionNames = createConditionNames();
+        _valueIds = createValueIds();
+        _shapes = new ArrayList<>();
+        _shapeIds = createShapeIds();
+    }
+
+    private List<String> createConditionNames() {
+        Set<String> conditionNames = new HashSet<>();
+        for (ValueSet<?> valueSet : _valueSets) {
+            conditionNames.addAll(valueSet.getAllConditionNames());
+        }
+        List<String> result = new ArrayList<>(conditionNames);
+        Collections.sort(result);
+        return result;
+    }
+
+    private List<Map<Object, Integer>> createValueIds() {
+        List<Map<Object, Integer>> result = new ArrayList<>();
+        for (String conditionName : _conditionNames) {
+            Set<Object> conditionValues = new HashSet<>();
+            for (ValueSet<?> valueSet : _valueSets) {
+                conditionValues.addAll(valueSet.getAllConditionValues(conditionName));
+            }
+            List<Object> sortedConditionValues = new ArrayList<>(conditionValues);
+            sortConditionValues(sortedConditionValues);
+            Map<Object, Integer> valueIds = new LinkedHashMap<>();
+            for (Object conditionValue : sortedConditionValues) {
+                if (!VALUE_TYPES.contains(conditionValue.getClass())) {
+                    throw new GeneratedLookupException("Condition value is not supported: " + conditionName + "=" + conditionValue);
+                }
+                valueIds.put(conditionValue, valueIds.size());
+            }
+            result.add(valueIds);
+        }
+        return result;
+    }
+
+    private static void sortConditionValues(final List<Object> conditionValues) {
+        Collections.sort(conditionValues, new Comparator<Object>() {
+
+            @Override
+            public int compare(final Object value1, final Object value2) {
+                int result = VALUE_TYPES.indexOf(value1.getClass()) - VALUE_TYPES.indexOf(value2.getClass());
+                if (result == 0) {
+                    result = value1.toString().compareTo(value2.toString());
+                }
+                return result;
+            }
+
+        });
+    }
+
+    private int[] createShapeIds() {
+        int[] result = new int[_valueSets.size()];
+        for (int i = 0; i < result.length; i++) {
+            Set<String> shape = _valueSets.get(i).getAllConditionNames();
+            int shapeId = _shapes.indexOf(shape);
+            if (shapeId < 0) {
+                shapeId = _shapes.size();
+                _shapes.add(shape);
+            }
+            result[i] = shapeId;
+        }
+        return result;
+    }
+
+    String write() {
+        StringBuilder source = new StringBuilder();
+        writeHeader(source);
+        writeGetMatchingOrdinals(source);
+        for (int i = 0; i < _conditionNames.size(); i++) {
+            writeGetValueId(source, i);
+        }
+        for (int i = 0; i < _valueSets.size(); i += MAX_VALUE_SET_COUNT) {
+            writeMatch(source, i);
+        }
+        for (int i = 0; i < _valueSets.size(); i += MAX_VALUE_SET_COUNT) {
+            writeAddOrdinals(source, i);
+        }
+        appendLine(source, 0, "}");
+        return source.toString();
+    }
+
+    private void writeHeader(final StringBuilder source) {
+        if (_packageName != null) {
+            appendLine(source, 0, "package " + _packageName + ";");
+            appendLine(source, 0, "");
+        }
+        appendLine(source, 0, "import ru.d_shap.conditionalvalues.ConditionalValues;");
+        appendLine(source, 0, "import ru.d_shap.conditionalvalues.GeneratedLookup;");
+        appendLine(source, 0, "");
+        appendLine(source, 0, "/**");
+        appendLine(source, 0, " * Lookup class, generated from the conditional values. Do not edit.");
+        appendLine(source, 0, " */");
+        appendLine(source, 0, "public final class " + _simpleClassName + " extends GeneratedLookup<" + _valueClassName + "> {");
+        appendLine(source, 0, "");
+        StringBuilder conditionNames = new StringBuilder();
+        for (String conditionName : _conditionNames) {
+            if (conditionNames.length() > 0) {
+                conditionNames.append(", ");
+            }
+            conditionNames.append(toStringLiteral(conditionName));
+        }
+        appendLine(source, 1, "private static final String[] CONDITION_NAMES = {" + conditionNames + "};");
+        appendLine(source, 0, "");
+        appendLine(source, 1, "private static final int VALUE_SET_COUNT = " + _valueSets.size() + ";");
+        appendLine(source, 0, "");
+        appendLine(source, 1, "private static final int SHAPE_COUNT = " + _shapes.size() + ";");
+        appendLine(source, 0, "");
+        appendLine(source, 1, "/**");
+        appendLine(source, 1, " * Create new object.");
+        appendLine(source, 1, " *");
+        appendLine(source, 1, " * @param conditionalValues the conditional values, the class was generated from.");
+        appendLine(source, 1, " */");
+        appendLine(source, 1, "public " + _simpleClassName + "(final ConditionalValues<" + _valueClassName + "> conditionalValues) {");
+        appendLine(source, 2, "super(conditionalValues, CONDITION_NAMES, VALUE_SET_COUNT);");
+        appendLine(source, 1, "}");
+        appendLine(source, 0, "");
+    }
+
+    private void writeGetMatchingOrdinals(final StringBuilder source) {
+        appendLine(source, 1, "@Override");
+        appendLine(source, 1, "protected int getMatchingOrdinals(final Object[] conditionValues, final int[] ordinals) {");
+        appendLine(source, 2, "int[] valueIds = new int[CONDITION_NAMES.length];");
+        for (int i = 0; i < _conditionNames.size(); i++) {
+            appendLine(source, 2, "valueIds[" + i + "] = getValueId" + i + "(conditionValues[" + i + "]);");
+        }
+        appendLine(source, 2, "boolean[] matches = new boolean[VALUE_SET_COUNT];");
+        appendLine(source, 2, "boolean[] shapeMatches = new boolean[SHAPE_COUNT];");
+        for (int i = 0; i < _valueSets.size(); i += MAX_VALUE_SET_COUNT) {
+            appendLine(source, 2, "match" + i / MAX_VALUE_SET_COUNT + "(valueIds, matches, shapeMatches);");
+        }
+        appendLine(source, 2, "boolean[] dominatedShapes = new boolean[SHAPE_COUNT];");
+        for (int i = 0; i < _shapes.size(); i++) {
+            String dominatingShapes = getDominatingShapes(i);
+            if (dominatingShapes != null) {
+                appendLine(source, 2, "dominatedShapes[" + i + "] = " + dominatingShapes + ";");
+            }
+        }
+        appendLine(source, 2, "int count = 0;");
+        for (int i = 0; i < _valueSets.size(); i += MAX_VALUE_SET_COUNT) {
+            appendLine(source, 2, "count = addOrdinals" + i / MAX_VALUE_SET_COUNT + "(matches, dominatedShapes, ordinals, count);");
+        }
+        appendLine(source, 2, "return count;");
+        appendLine(source, 1, "}");
+        appendLine(source, 0, "");
+    }
+
+    private String getDominatingShapes(final int shapeId) {
+        Set<String> shape = _shapes.get(shapeId);
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < _shapes.size(); i++) {
+            Set<String> dominatingShape = _shapes.get(i);
+            if (dominatingShape.size() > shape.size() && dominatingShape.containsAll(shape)) {
+                if (result.length() > 0) {
+                    result.append(" || ");
+                }
+                result.append("shapeMatches[").append(i).append(']');
+            }
+        }
+        if (result.length() == 0) {
+            return null;
+        } else {
+            return result.toString();
+        }
+    }
+
+    private void writeGetValueId(final StringBuilder source, final int conditionId) {
+        List<List<List<Object>>> chunks = new ArrayList<>();
+        List<Class<?>> chunkTypes = new ArrayList<>();
+        for (Class<?> valueType : VALUE_TYPES) {
+            List<List<Object>> hashCodeGroups = getHashCodeGroups(conditionId, valueType);
+            for (int i = 0; i < hashCodeGroups.size(); i += MAX_CASE_COUNT) {
+                chunks.add(hashCodeGroups.subList(i, Math.min(i + MAX_CASE_COUNT, hashCodeGroups.size())));
+                chunkTypes.add(valueType);
+            }
+        }
+        appendLine(source, 1, "private static int getValueId" + conditionId + "(final Object value) {");
+        for (int i = 0; i < chunks.size(); i++) {
+            if (i == 0 || chunkTypes.get(i) != chunkTypes.get(i - 1)) {
+                appendLine(source, 2, "if (value instanceof " + chunkTypes.get(i).getName() + ") {");
+                appendLine(source, 3, "return getValueId" + conditionId + "_" + i + "(value, value.hashCode());");
+                appendLine(source, 2, "}");
+            }
+        }
+        appendLine(source, 2, "return -1;");
+        appendLine(source, 1, "}");
+        appendLine(source, 0, "");
+        for (int i = 0; i < chunks.size(); i++) {
+            String nextChunk = "-1";
+            if (i + 1 < chunks.size() && chunkTypes.get(i + 1) == chunkTypes.get(i)) {
+                nextChunk = "getValueId" + conditionId + "_" + (i + 1) + "(value, hashCode)";
+            }
+            writeGetValueIdChunk(source, conditionId, i, chunks.get(i), nextChunk);
+        }
+    }
+
+    private List<List<Object>> getHashCodeGroups(final int conditionId, final Class<?> valueType) {
+        Map<Integer, List<Object>> hashCodeGroups = new LinkedHashMap<>();
+        for (Object conditionValue : _valueIds.get(conditionId).keySet()) {
+            if (conditionValue.getClass() == valueType) {
+                Integer hashCode = conditionValue.hashCode();
+                List<Object> hashCodeGroup = hashCodeGroups.get(hashCode);
+                if (hashCodeGroup == null) {
+                    hashCodeGroup = new ArrayList<>();
+                    hashCodeGroups.put(hashCode, hashCodeGroup);
+                }
+                hashCodeGroup.add(conditionValue);
+            }
+        }
+        return new ArrayList<>(hashCodeGroups.values());
+    }
+
+    private void writeGetValueIdChunk(final StringBuilder source, final int conditionId, final int chunkId, final List<List<Object>> hashCodeGroups, final String nextChunk) {
+        Map<Object, Integer> valueIds = _valueIds.get(conditionId);
+        appendLine(source, 1, "private static int getValueId" + conditionId + "_" + chunkId + "(final Object value, final int hashCode) {");
+        appendLine(source, 2, "switch (hashCode) {");
+        for (List<Object> hashCodeGroup : hashCodeGroups) {
+            appendLine(source, 3, "case " + hashCodeGroup.get(0).hashCode() + ":");
+            Object firstValue = hashCodeGroup.get(0);
+            if (hashCodeGroup.size() == 1 && isHashCodeUnique(firstValue)) {
+                appendLine(source, 4, "return " + valueIds.get(firstValue) + ";");
+            } else {
+                for (Object conditionValue : hashCodeGroup) {
+                    appendLine(source, 4, "if (" + getEqualsExpression(conditionValue) + ") {");
+                    appendLine(source, 5, "return " + valueIds.get(conditionValue) + ";");
+                    appendLine(source, 4, "}");
+                }
+                appendLine(source, 4, "break;");
+            }
+        }
+        appendLine(source, 3, "default:");
+        appendLine(source, 4, "break;");
+        appendLine(source, 2, "}");
+        appendLine(source, 2, "return " + nextChunk + ";");
+        appendLine(source, 1, "}");
+        appendLine(source, 0, "");
+    }
+
+    private boolean isHashCodeUnique(final Object value) {
+        return value instanceof Integer || value instanceof Character || value instanceof Boolean || value instanceof Float;
+    }
+
+    private String getEqualsExpression(final Object value) {
+        if (value instanceof Long) {
+            return "((Long) value).longValue() == " + value + "L";
+        }
+        if (value instanceof Double) {
+            return "Double.doubleToLongBits(((Double) value).doubleValue()) == 0x" + Long.toHexString(Double.doubleToLongBits((Double) value)) + "L";
+        }
+        return toStringLiteral((String) value) + ".equals(value)";
+    }
+
+    private void writeMatch(final StringBuilder source, final int fromOrdinal) {
+        int toOrdinal = Math.min(fromOrdinal + MAX_VALUE_SET_COUNT, _valueSets.size());
+        appendLine(source, 1, "private static void match" + fromOrdinal / MAX_VALUE_SET_COUNT + "(final int[] valueIds, final boolean[] matches, final boolean[] shapeMatches) {");
+        for (int i = fromOrdinal; i < toOrdinal; i++) {
+            String matchExpression = getMatchExpression(_valueSets.get(i));
+            int indent = 2;
+            if (matchExpression != null) {
+                appendLine(source, 2, "if (" + matchExpression + ") {");
+                indent = 3;
+            }
+            appendLine(source, indent, "matches[" + i + "] = true;");
+            appendLine(source, indent, "shapeMatches[" + _shapeIds[i] + "] = true;");
+            if (matchExpression != null) {
+                appendLine(source, 2, "}");
+            }
+        }
+        appendLine(source, 1, "}");
+        appendLine(source, 0, "");
+    }
+
+    private String getMatchExpression(final ValueSet<?> valueSet) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < _conditionNames.size(); i++) {
+            Set<Object> conditionValues = valueSet.getAllConditionValues(_conditionNames.get(i));
+            if (!conditionValues.isEmpty()) {
+                List<Integer> valueIds = new ArrayList<>();
+                for (Object conditionValue : conditionValues) {
+                    valueIds.add(_valueIds.get(i).get(conditionValue));
+                }
+                Collections.sort(valueIds);
+                if (result.length() > 0) {
+                    result.append(" && ");
+                }
+                if (valueIds.size() > 1) {
+                    result.append('(');
+                }
+                for (int j = 0; j < valueIds.size(); j++) {
+                    if (j > 0) {
+                        result.append(" || ");
+                    }
+                    result.append("valueIds[").append(i).append("] == ").append(valueIds.get(j));
+                }
+                if (valueIds.size() > 1) {
+                    result.append(')');
+                }
+            }
+        }
+        if (result.length() == 0) {
+            return null;
+        } else {
+            return result.toString();
+        }
+    }
+
+    private void writeAddOrdinals(final StringBuilder source, final int fromOrdinal) {
+        int toOrdinal = Math.min(fromOrdinal + MAX_VALUE_SET_COUNT, _valueSets.size());
+        appendLine(source, 1, "private static int addOrdinals" + fromOrdinal / MAX_VALUE_SET_COUNT + "(final boolean[] matches, final boolean[] dominatedShapes, final int[] ordinals, final int count) {");
+        appendLine(source, 2, "int result = count;");
+        for (int i = fromOrdinal; i < toOrdinal; i++) {
+            if (getDominatingShapes(_shapeIds[i]) == null) {
+                appendLine(source, 2, "if (matches[" + i + "]) {");
+            } else {
+                appendLine(source, 2, "if (matches[" + i + "] && !dominatedShapes[" + _shapeIds[i] + "]) {");
+            }
+            appendLine(source, 3, "ordinals[result] = " + i + ";");
+            appendLine(source, 3, "result++;");
+            appendLine(source, 2, "}");
+        }
+        appendLine(source, 2, "return result;");
+        appendLine(source, 1, "}");
+        appendLine(source, 0, "");
+    }
+
+    static String toStringLiteral(final String value) {
+        StringBuilder result = new StringBuilder(value.length() + 2);
+        result.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '"' || ch == '\\') {
+                result.append('\\').append(ch);
+            } else if (ch == '\n') {
+                result.append("\\n");
+            } else if (ch == '\r') {
+                result.append("\\r");
+            } else if (ch < ' ' || ch > '~') {
+                result.append(String.format("\\u%04x", (int) ch));
+            } else {
+                result.append(ch);
+            }
+        }
+        result.append('"');
+        return result.toString();
+    }
+
+    private void appendLine(final StringBuilder source, final int indent, final String line) {
+        if (!line.isEmpty()) {
+            for (int i = 0; i < indent; i++) {
+                source.append(INDENT);
+            }
+            source.append(line);
+        }
+        source.append('\n');
+    }
+
+}
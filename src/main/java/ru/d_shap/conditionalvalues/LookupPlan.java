@@ -0,0 +1,81 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Lookup plan for the {@link ru.d_shap.conditionalvalues.ConditionSet} objects of the same shape.
+ * </p>
+ * <p>
+ * The shape is the set of the condition names, defined in the {@link ru.d_shap.conditionalvalues.ConditionSet}
+ * object. The {@link ru.d_shap.conditionalvalues.ValueSet} object matches only if all its condition names are
+ * defined, so the plan holds only the ordinals of the {@link ru.d_shap.conditionalvalues.ValueSet} objects with
+ * the subset of the condition names of the shape. The specificity ordering is restricted to these
+ * {@link ru.d_shap.conditionalvalues.ValueSet} objects as well.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class LookupPlan {
+
+    private final long[] _shapeWords;
+
+    private final int _shapeHash;
+
+    private final int[] _scannedOrdinals;
+
+    private final int[][] _dominatingShapeIds;
+
+    LookupPlan(final long[] shapeWords, final int[] scannedOrdinals, final int[][] dominatingShapeIds) {
+        super();
+        _shapeWords = Arrays.copyOf(shapeWords, shapeWords.length);
+        _shapeHash = getShapeHash(_shapeWords);
+        _scannedOrdinals = scannedOrdinals;
+        _dominatingShapeIds = dominatingShapeIds;
+    }
+
+    static int getShapeHash(final long[] shapeWords) {
+        int hash = Arrays.hashCode(shapeWords);
+        return hash ^ hash >>> 16;
+    }
+
+    int getShapeHash() {
+        return _shapeHash;
+    }
+
+    boolean isShape(final long[] shapeWords) {
+        return Arrays.equals(_shapeWords, shapeWords);
+    }
+
+    boolean isSameShape(final LookupPlan lookupPlan) {
+        return _shapeHash == lookupPlan._shapeHash && Arrays.equals(_shapeWords, lookupPlan._shapeWords);
+    }
+
+    int[] getScannedOrdinals() {
+        return _scannedOrdinals;
+    }
+
+    int[][] getDominatingShapeIds() {
+        return _dominatingShapeIds;
+    }
+
+}
@@ -0,0 +1,115 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * Cache of the {@link ru.d_shap.conditionalvalues.LookupPlan} objects, keyed by the shape of the
+ * {@link ru.d_shap.conditionalvalues.ConditionSet} objects.
+ * </p>
+ * <p>
+ * The plans are stored in the open addressing hash table. The table is replaced with the copy on every
+ * insertion, so the lookup of the plan does not take a lock and does not allocate memory. The number of
+ * the cached plans is bounded. If the cache is full, the plans for the new shapes are not cached, and the
+ * caller creates the plan for every lookup with such shape.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class LookupPlanCache {
+
+    static final int MAX_SIZE = 1024;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Object _lock;
+
+    private final AtomicReference<LookupPlan[]> _lookupPlans;
+
+    private int _size;
+
+    LookupPlanCache() {
+        super();
+        _lock = new Object();
+        _lookupPlans = new AtomicReference<>(new LookupPlan[INITIAL_CAPACITY]);
+        _size = 0;
+    }
+
+    LookupPlan get(final long[] shapeWords) {
+        LookupPlan[] lookupPlans = _lookupPlans.get();
+        int mask = lookupPlans.length - 1;
+        int shapeHash = LookupPlan.getShapeHash(shapeWords);
+        int index = shapeHash & mask;
+        LookupPlan lookupPlan = lookupPlans[index];
+        while (lookupPlan != null) {
+            if (lookupPlan.getShapeHash() == shapeHash && lookupPlan.isShape(shapeWords)) {
+                return lookupPlan;
+            }
+            index = index + 1 & mask;
+            lookupPlan = lookupPlans[index];
+        }
+        return null;
+    }
+
+    void put(final LookupPlan lookupPlan) {
+        synchronized (_lock) {
+            if (_size >= MAX_SIZE) {
+                return;
+            }
+            LookupPlan[] lookupPlans = _lookupPlans.get();
+            int capacity = lookupPlans.length;
+            if ((_size + 1) * 2 > capacity) {
+                capacity *= 2;
+            }
+            LookupPlan[] newLookupPlans = new LookupPlan[capacity];
+            for (LookupPlan currentLookupPlan : lookupPlans) {
+                if (currentLookupPlan != null) {
+                    addLookupPlan(newLookupPlans, currentLookupPlan);
+                }
+            }
+            if (addLookupPlan(newLookupPlans, lookupPlan)) {
+                _lookupPlans.set(newLookupPlans);
+                _size++;
+            }
+        }
+    }
+
+    private static boolean addLookupPlan(final LookupPlan[] lookupPlans, final LookupPlan lookupPlan) {
+        int mask = lookupPlans.length - 1;
+        int index = lookupPlan.getShapeHash() & mask;
+        while (lookupPlans[index] != null) {
+            if (lookupPlans[index].isSameShape(lookupPlan)) {
+                return false;
+            }
+            index = index + 1 & mask;
+        }
+        lookupPlans[index] = lookupPlan;
+        return true;
+    }
+
+    int getSize() {
+        synchronized (_lock) {
+            return _size;
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Report of the changes, made by the minimization of the {@link ru.d_shap.conditionalvalues.ValueSet} objects
+ * during the build of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class MinimizationReport<T> {
+
+    private final int _valueSetCount;
+
+    private final int _minimizedValueSetCount;
+
+    private final List<ValueSet<T>> _unmatchableValueSets;
+
+    private final List<ValueSet<T>> _duplicateValueSets;
+
+    private final Map<ValueSet<T>, List<ValueSet<T>>> _mergedValueSets;
+
+    MinimizationReport(final int valueSetCount, final int minimizedValueSetCount, final List<ValueSet<T>> unmatchableValueSets, final List<ValueSet<T>> duplicateValueSets, final Map<ValueSet<T>, List<ValueSet<T>>> mergedValueSets) {
+        super();
+        _valueSetCount = valueSetCount;
+        _minimizedValueSetCount = minimizedValueSetCount;
+        _unmatchableValueSets = Collections.unmodifiableList(new ArrayList<>(unmatchableValueSets));
+        _duplicateValueSets = Collections.unmodifiableList(new ArrayList<>(duplicateValueSets));
+        _mergedValueSets = createMergedValueSets(mergedValueSets);
+    }
+
+    private Map<ValueSet<T>, List<ValueSet<T>>> createMergedValueSets(final Map<ValueSet<T>, List<ValueSet<T>>> mergedValueSets) {
+        Map<ValueSet<T>, List<ValueSet<T>>> result = new LinkedHashMap<>();
+        for (Map.Entry<ValueSet<T>, List<ValueSet<T>>> entry : mergedValueSets.entrySet()) {
+            result.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Get the number of the {@link ru.d_shap.conditionalvalues.ValueSet} objects before the minimization.
+     *
+     * @return the number of the {@link ru.d_shap.conditionalvalues.ValueSet} objects before the minimization.
+     */
+    public int getValueSetCount() {
+        return _valueSetCount;
+    }
+
+    /**
+     * Get the number of the {@link ru.d_shap.conditionalvalues.ValueSet} objects after the minimization.
+     *
+     * @return the number of the {@link ru.d_shap.conditionalvalues.ValueSet} objects after the minimization.
+     */
+    public int getMinimizedValueSetCount() {
+        return _minimizedValueSetCount;
+    }
+
+    /**
+     * Get the removed {@link ru.d_shap.conditionalvalues.ValueSet} objects, that never match any
+     * {@link ru.d_shap.conditionalvalues.ConditionSet} object.
+     *
+     * @return the removed {@link ru.d_shap.conditionalvalues.ValueSet} objects, that never match.
+     */
+    public List<ValueSet<T>> getUnmatchableValueSets() {
+        return _unmatchableValueSets;
+    }
+
+    /**
+     * Get the removed {@link ru.d_shap.conditionalvalues.ValueSet} objects, that are the exact copies of the
+     * other {@link ru.d_shap.conditionalvalues.ValueSet} objects. The values of the exact copies are repeated
+     * in the merged {@link ru.d_shap.conditionalvalues.ValueSet} object.
+     *
+     * @return the removed {@link ru.d_shap.conditionalvalues.ValueSet} objects, that are the exact copies.
+     */
+    public List<ValueSet<T>> getDuplicateValueSets() {
+        return _duplicateValueSets;
+    }
+
+    /**
+     * Get the merged {@link ru.d_shap.conditionalvalues.ValueSet} objects with the source
+     * {@link ru.d_shap.conditionalvalues.ValueSet} objects, replaced by the merged one.
+     *
+     * @return the merged {@link ru.d_shap.conditionalvalues.ValueSet} objects with the source objects.
+     */
+    public Map<ValueSet<T>, List<ValueSet<T>>> getMergedValueSets() {
+        return _mergedValueSets;
+    }
+
+    @Override
+    public String toString() {
+        return "valueSetCount=" + _valueSetCount + ", minimizedValueSetCount=" + _minimizedValueSetCount + ", unmatchable=" + _unmatchableValueSets + ", duplicate=" + _duplicateValueSets + ", merged=" + _mergedValueSets;
+    }
+
+}
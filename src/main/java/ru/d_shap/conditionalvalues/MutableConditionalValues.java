@@ -0,0 +1,333 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * Mutable table of the {@link ru.d_shap.conditionalvalues.ValueSet} objects for the live rule updates.
+ * </p>
+ * <p>
+ * The {@link ru.d_shap.conditionalvalues.ValueSet} objects are added, removed and replaced by the ID.
+ * Every change publishes new immutable {@link ru.d_shap.conditionalvalues.ConditionalValues} object, the
+ * snapshot. The snapshots share the immutable {@link ru.d_shap.conditionalvalues.ValueSet} objects, so
+ * the change does not copy the conditions and the values. The changes are serialized, and the snapshot is
+ * read without the lock, so the lookup is never blocked by the change. The lookup in the snapshot, obtained
+ * before the change, returns the result before the change.
+ * </p>
+ * <p>
+ * The {@link ru.d_shap.conditionalvalues.ValueSet} objects are found by the ID with the map of the ordinals.
+ * The new snapshot is derived from the previous snapshot for the changed ordinals only: the removed
+ * {@link ru.d_shap.conditionalvalues.ValueSet} object leaves the empty slot, and the indexes, not affected
+ * by the change, are shared with the previous snapshot. The snapshot is rebuilt from scratch, when the change
+ * defines new condition names, or when the empty slots outnumber the {@link ru.d_shap.conditionalvalues.ValueSet}
+ * objects. The ordinals are changed only after the new snapshot is published, so the failed change leaves
+ * the previous state intact.
+ * </p>
+ * <p>
+ * Several changes are published with one snapshot by the {@link #update(Collection, List)} method.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class MutableConditionalValues<T> {
+
+    private final TuplePredicate _tuplePredicate;
+
+    private final Predicate _predicate;
+
+    private final Map<String, Predicate> _predicates;
+
+    private final Comparator<T> _comparator;
+
+    private final ConditionalValuesOptions _options;
+
+    private final Object _lock;
+
+    private final Map<String, Integer> _ordinals;
+
+    private SlotList<ValueSet<T>> _valueSets;
+
+    private int _emptySlotCount;
+
+    private final AtomicReference<ConditionalValues<T>> _snapshot;
+
+    MutableConditionalValues(final TuplePredicate tuplePredicate, final Predicate predicate, final Map<String, Predicate> predicates, final Comparator<T> comparator, final List<ValueSet<T>> valueSets, final ConditionalValuesOptions options) {
+        super();
+        _tuplePredicate = tuplePredicate;
+        _predicate = predicate;
+        _predicates = createPredicates(predicates);
+        _comparator = comparator;
+        _options = options;
+        _lock = new Object();
+        _ordinals = new HashMap<>();
+        List<ValueSet<T>> initialValueSets = createValueSets(valueSets);
+        _snapshot = new AtomicReference<>(createSnapshot(initialValueSets));
+        setValueSets(initialValueSets);
+    }
+
+    private Map<String, Predicate> createPredicates(final Map<String, Predicate> predicates) {
+        if (predicates == null) {
+            return Collections.emptyMap();
+        } else {
+            return new HashMap<>(predicates);
+        }
+    }
+
+    private List<ValueSet<T>> createValueSets(final List<ValueSet<T>> valueSets) {
+        List<ValueSet<T>> result = new ArrayList<>();
+        if (valueSets != null) {
+            for (ValueSet<T> valueSet : valueSets) {
+                if (valueSet != null) {
+                    result.add(valueSet);
+                }
+            }
+        }
+        return result;
+    }
+
+    private ConditionalValues<T> createSnapshot(final List<ValueSet<T>> valueSets) {
+        return new ConditionalValues<>(_tuplePredicate, _predicate, _predicates, _comparator, valueSets, _options);
+    }
+
+    private void setValueSets(final List<ValueSet<T>> valueSets) {
+        _ordinals.clear();
+        for (int i = 0; i < valueSets.size(); i++) {
+            String id = valueSets.get(i).getId();
+            if (id != null && !_ordinals.containsKey(id)) {
+                _ordinals.put(id, i);
+            }
+        }
+        _valueSets = new SlotList<>(valueSets);
+        _emptySlotCount = 0;
+    }
+
+    /**
+     * Get the current snapshot. The snapshot is not changed by the subsequent changes.
+     *
+     * @return the current snapshot.
+     */
+    public ConditionalValues<T> getSnapshot() {
+        return _snapshot.get();
+    }
+
+    /**
+     * Performs lookup for the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects in the current snapshot.
+     *
+     * @param conditionSet lookup conditions.
+     *
+     * @return the best matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     */
+    public Values<T> lookup(final ConditionSet conditionSet) {
+        return _snapshot.get().lookup(conditionSet);
+    }
+
+    /**
+     * Add the {@link ru.d_shap.conditionalvalues.ValueSet} object and publish new snapshot. The
+     * {@link ru.d_shap.conditionalvalues.ValueSet} object is not added, if the ID is not defined, or
+     * the {@link ru.d_shap.conditionalvalues.ValueSet} object with the same ID already exists.
+     *
+     * @param valueSet the {@link ru.d_shap.conditionalvalues.ValueSet} object to add.
+     *
+     * @return true if the {@link ru.d_shap.conditionalvalues.ValueSet} object is added.
+     */
+    public boolean add(final ValueSet<T> valueSet) {
+        if (valueSet == null || valueSet.getId() == null) {
+            return false;
+        }
+        synchronized (_lock) {
+            if (_ordinals.containsKey(valueSet.getId())) {
+                return false;
+            }
+            SlotList<ValueSet<T>> valueSets = new SlotList<>(_valueSets);
+            BitSet changedOrdinals = new BitSet();
+            Map<String, Integer> ordinalChanges = new HashMap<>();
+            putValueSet(valueSets, changedOrdinals, ordinalChanges, valueSet);
+            publish(valueSets, changedOrdinals, ordinalChanges, 0);
+            return true;
+        }
+    }
+
+    /**
+     * Remove the {@link ru.d_shap.conditionalvalues.ValueSet} object with the specified ID and publish new snapshot.
+     *
+     * @param id the ID of the {@link ru.d_shap.conditionalvalues.ValueSet} object to remove.
+     *
+     * @return true if the {@link ru.d_shap.conditionalvalues.ValueSet} object is removed.
+     */
+    public boolean remove(final String id) {
+        if (id == null) {
+            return false;
+        }
+        synchronized (_lock) {
+            if (!_ordinals.containsKey(id)) {
+                return false;
+            }
+            SlotList<ValueSet<T>> valueSets = new SlotList<>(_valueSets);
+            BitSet changedOrdinals = new BitSet();
+            Map<String, Integer> ordinalChanges = new HashMap<>();
+            removeValueSet(valueSets, changedOrdinals, ordinalChanges, id);
+            publish(valueSets, changedOrdinals, ordinalChanges, 1);
+            return true;
+        }
+    }
+
+    /**
+     * Replace the {@link ru.d_shap.conditionalvalues.ValueSet} object with the same ID and publish new snapshot.
+     *
+     * @param valueSet the new {@link ru.d_shap.conditionalvalues.ValueSet} object.
+     *
+     * @return true if the {@link ru.d_shap.conditionalvalues.ValueSet} object is replaced.
+     */
+    public boolean replace(final ValueSet<T> valueSet) {
+        if (valueSet == null || valueSet.getId() == null) {
+            return false;
+        }
+        synchronized (_lock) {
+            if (!_ordinals.containsKey(valueSet.getId())) {
+                return false;
+            }
+            SlotList<ValueSet<T>> valueSets = new SlotList<>(_valueSets);
+            BitSet changedOrdinals = new BitSet();
+            Map<String, Integer> ordinalChanges = new HashMap<>();
+            putValueSet(valueSets, changedOrdinals, ordinalChanges, valueSet);
+            publish(valueSets, changedOrdinals, ordinalChanges, 0);
+            return true;
+        }
+    }
+
+    /**
+     * Remove the {@link ru.d_shap.conditionalvalues.ValueSet} objects with the specified IDs, then add or
+     * replace the specified {@link ru.d_shap.conditionalvalues.ValueSet} objects, and publish one new snapshot
+     * for all changes. The {@link ru.d_shap.conditionalvalues.ValueSet} objects without the ID are ignored.
+     *
+     * @param removedIds the IDs of the {@link ru.d_shap.conditionalvalues.ValueSet} objects to remove.
+     * @param valueSets  the {@link ru.d_shap.conditionalvalues.ValueSet} objects to add or replace.
+     *
+     * @return true if any {@link ru.d_shap.conditionalvalues.ValueSet} object is changed.
+     */
+    public boolean update(final Collection<String> removedIds, final List<ValueSet<T>> valueSets) {
+        synchronized (_lock) {
+            SlotList<ValueSet<T>> newValueSets = new SlotList<>(_valueSets);
+            BitSet changedOrdinals = new BitSet();
+            Map<String, Integer> ordinalChanges = new HashMap<>();
+            int removedCount = 0;
+            if (removedIds != null) {
+                for (String removedId : removedIds) {
+                    if (removeValueSet(newValueSets, changedOrdinals, ordinalChanges, removedId)) {
+                        removedCount++;
+                    }
+                }
+            }
+            if (valueSets != null) {
+                for (ValueSet<T> valueSet : valueSets) {
+                    if (valueSet != null && valueSet.getId() != null) {
+                        putValueSet(newValueSets, changedOrdinals, ordinalChanges, valueSet);
+                    }
+                }
+            }
+            boolean changed = !changedOrdinals.isEmpty();
+            if (changed) {
+                publish(newValueSets, changedOrdinals, ordinalChanges, removedCount);
+            }
+            return changed;
+        }
+    }
+
+    private Integer getOrdinal(final Map<String, Integer> ordinalChanges, final String id) {
+        if (ordinalChanges.containsKey(id)) {
+            return ordinalChanges.get(id);
+        } else {
+            return _ordinals.get(id);
+        }
+    }
+
+    private boolean removeValueSet(final SlotList<ValueSet<T>> valueSets, final BitSet changedOrdinals, final Map<String, Integer> ordinalChanges, final String id) {
+        Integer ordinal = getOrdinal(ordinalChanges, id);
+        if (ordinal == null) {
+            return false;
+        }
+        ordinalChanges.put(id, null);
+        valueSets.putSlot(ordinal, null);
+        changedOrdinals.set(ordinal);
+        return true;
+    }
+
+    private void putValueSet(final SlotList<ValueSet<T>> valueSets, final BitSet changedOrdinals, final Map<String, Integer> ordinalChanges, final ValueSet<T> valueSet) {
+        Integer ordinal = getOrdinal(ordinalChanges, valueSet.getId());
+        if (ordinal == null) {
+            ordinal = valueSets.size();
+            ordinalChanges.put(valueSet.getId(), ordinal);
+        }
+        valueSets.putSlot(ordinal, valueSet);
+        changedOrdinals.set(ordinal);
+    }
+
+    private void publish(final SlotList<ValueSet<T>> valueSets, final BitSet changedOrdinals, final Map<String, Integer> ordinalChanges, final int removedCount) {
+        ConditionalValues<T> snapshot = _snapshot.get();
+        int emptySlotCount = _emptySlotCount + removedCount;
+        if (isRebuildRequired(snapshot, valueSets, changedOrdinals, emptySlotCount)) {
+            List<ValueSet<T>> newValueSets = createValueSets(valueSets);
+            _snapshot.set(createSnapshot(newValueSets));
+            setValueSets(newValueSets);
+        } else {
+            _snapshot.set(new ConditionalValues<>(snapshot, valueSets, changedOrdinals, _options));
+            _valueSets = valueSets;
+            for (Map.Entry<String, Integer> entry : ordinalChanges.entrySet()) {
+                if (entry.getValue() == null) {
+                    _ordinals.remove(entry.getKey());
+                } else {
+                    _ordinals.put(entry.getKey(), entry.getValue());
+                }
+            }
+            _emptySlotCount = emptySlotCount;
+        }
+    }
+
+    private boolean isRebuildRequired(final ConditionalValues<T> snapshot, final SlotList<ValueSet<T>> valueSets, final BitSet changedOrdinals, final int emptySlotCount) {
+        if (_options.isMinimization() || emptySlotCount * 2 > valueSets.size()) {
+            return true;
+        }
+        for (int ordinal = changedOrdinals.nextSetBit(0); ordinal >= 0; ordinal = changedOrdinals.nextSetBit(ordinal + 1)) {
+            ValueSet<T> valueSet = valueSets.get(ordinal);
+            if (valueSet != null && !snapshot.isConditionNamesDefined(valueSet)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return _snapshot.get().toString();
+    }
+
+}
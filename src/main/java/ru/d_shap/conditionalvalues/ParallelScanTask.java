@@ -0,0 +1,109 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * <p>
+ * Task of the parallel scan of the {@link ru.d_shap.conditionalvalues.ValueSet} objects in the
+ * {@link ru.d_shap.conditionalvalues.ConditionalValues} object. The task is run in the
+ * {@link java.util.concurrent.ForkJoinPool} object.
+ * </p>
+ * <p>
+ * The task is split in halves, until the part of the scanned ordinals fits the single partition.
+ * Every leaf task writes the matching ordinals to its own range of the shared array. The matching
+ * ordinals are collected in the scan order after all tasks are completed.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ParallelScanTask implements Runnable {
+
+    static final int MAX_PARTITION_SIZE = 4096;
+
+    private final List<ValueSetMatcher> _valueSetMatchers;
+
+    private final int[] _scannedOrdinals;
+
+    private final int _fromIndex;
+
+    private final int _toIndex;
+
+    private final Object[] _conditionSetValues;
+
+    private final BitSet[] _indexedMatchingOrdinals;
+
+    private final int[] _matchingOrdinals;
+
+    private ParallelScanTask _firstTask;
+
+    private ParallelScanTask _secondTask;
+
+    private int _matchingOrdinalCount;
+
+    ParallelScanTask(final List<ValueSetMatcher> valueSetMatchers, final int[] scannedOrdinals, final int fromIndex, final int toIndex, final Object[] conditionSetValues, final BitSet[] indexedMatchingOrdinals, final int[] matchingOrdinals) {
+        super();
+        _valueSetMatchers = valueSetMatchers;
+        _scannedOrdinals = scannedOrdinals;
+        _fromIndex = fromIndex;
+        _toIndex = toIndex;
+        _conditionSetValues = conditionSetValues;
+        _indexedMatchingOrdinals = indexedMatchingOrdinals;
+        _matchingOrdinals = matchingOrdinals;
+        _firstTask = null;
+        _secondTask = null;
+        _matchingOrdinalCount = 0;
+    }
+
+    @Override
+    public void run() {
+        if (_toIndex - _fromIndex <= MAX_PARTITION_SIZE) {
+            int matchingOrdinalCount = 0;
+            for (int i = _fromIndex; i < _toIndex; i++) {
+                int ordinal = _scannedOrdinals[i];
+                if (_valueSetMatchers.get(ordinal).isMatchDefinedConditions(_conditionSetValues, _indexedMatchingOrdinals)) {
+                    _matchingOrdinals[_fromIndex + matchingOrdinalCount] = ordinal;
+                    matchingOrdinalCount++;
+                }
+            }
+            _matchingOrdinalCount = matchingOrdinalCount;
+        } else {
+            int middleIndex = _fromIndex + (_toIndex - _fromIndex) / 2;
+            _firstTask = new ParallelScanTask(_valueSetMatchers, _scannedOrdinals, _fromIndex, middleIndex, _conditionSetValues, _indexedMatchingOrdinals, _matchingOrdinals);
+            _secondTask = new ParallelScanTask(_valueSetMatchers, _scannedOrdinals, middleIndex, _toIndex, _conditionSetValues, _indexedMatchingOrdinals, _matchingOrdinals);
+            ForkJoinTask.invokeAll(ForkJoinTask.adapt(_firstTask), ForkJoinTask.adapt(_secondTask));
+        }
+    }
+
+    void addMatchingOrdinals(final IntList ordinals) {
+        if (_firstTask == null) {
+            for (int i = _fromIndex; i < _fromIndex + _matchingOrdinalCount; i++) {
+                ordinals.add(_matchingOrdinals[i]);
+            }
+        } else {
+            _firstTask.addMatchingOrdinals(ordinals);
+            _secondTask.addMatchingOrdinals(ordinals);
+        }
+    }
+
+}
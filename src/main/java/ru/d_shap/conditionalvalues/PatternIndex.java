@@ -0,0 +1,219 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Index of the {@link ru.d_shap.conditionalvalues.ValueSet} objects, matched with the
+ * {@link ru.d_shap.conditionalvalues.predicate.PatternMatchesPredicate} object or with the
+ * {@link ru.d_shap.conditionalvalues.predicate.PatternFindPredicate} object for the condition.
+ * </p>
+ * <p>
+ * The longest required literal of every pattern is compiled into the
+ * {@link ru.d_shap.conditionalvalues.AhoCorasickAutomaton} object. The lookup finds all required literals,
+ * contained in the condition value of the {@link ru.d_shap.conditionalvalues.ConditionSet} object, with a
+ * single pass over the condition value, and only the patterns with the found required literal (or without
+ * any required literal) are evaluated.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class PatternIndex implements ConditionIndex {
+
+    private final String _conditionName;
+
+    private final boolean _find;
+
+    private final boolean _allValuesMatch;
+
+    private final int[] _ordinals;
+
+    private final BitSet _indexedOrdinals;
+
+    private final int[] _patternOffsets;
+
+    private final List<Pattern> _patterns;
+
+    private final IntList _unfilteredPatterns;
+
+    private final List<String> _keywords;
+
+    private final List<IntList> _keywordPatterns;
+
+    private final List<String> _ignoreCaseKeywords;
+
+    private final List<IntList> _ignoreCaseKeywordPatterns;
+
+    private final AhoCorasickAutomaton _automaton;
+
+    private final AhoCorasickAutomaton _ignoreCaseAutomaton;
+
+    PatternIndex(final String conditionName, final boolean find, final boolean allValuesMatch, final List<? extends ValueSet<?>> valueSets, final List<Integer> ordinals) {
+        super();
+        _conditionName = conditionName;
+        _find = find;
+        _allValuesMatch = allValuesMatch;
+        _ordinals = new int[ordinals.size()];
+        _indexedOrdinals = new BitSet();
+        _patternOffsets = new int[ordinals.size() + 1];
+        _patterns = new ArrayList<>();
+        _unfilteredPatterns = new IntList();
+        _keywords = new ArrayList<>();
+        _keywordPatterns = new ArrayList<>();
+        _ignoreCaseKeywords = new ArrayList<>();
+        _ignoreCaseKeywordPatterns = new ArrayList<>();
+        addPatterns(valueSets, ordinals);
+        _automaton = new AhoCorasickAutomaton(_keywords, false);
+        _ignoreCaseAutomaton = new AhoCorasickAutomaton(_ignoreCaseKeywords, true);
+    }
+
+    private void addPatterns(final List<? extends ValueSet<?>> valueSets, final List<Integer> ordinals) {
+        Map<String, Integer> keywordIds = new HashMap<>();
+        Map<String, Integer> ignoreCaseKeywordIds = new HashMap<>();
+        for (int i = 0; i < ordinals.size(); i++) {
+            int ordinal = ordinals.get(i);
+            _ordinals[i] = ordinal;
+            _indexedOrdinals.set(ordinal);
+            _patternOffsets[i] = _patterns.size();
+            Set<Object> conditionValues = valueSets.get(ordinal).getAllConditionValues(_conditionName);
+            for (Object conditionValue : conditionValues) {
+                Pattern pattern = (Pattern) conditionValue;
+                int patternId = _patterns.size();
+                _patterns.add(pattern);
+                RequiredLiteral requiredLiteral = RequiredLiteralParser.getLongestRequiredLiteral(pattern);
+                if (requiredLiteral == null) {
+                    _unfilteredPatterns.add(patternId);
+                } else if (requiredLiteral.isIgnoreCase()) {
+                    String keyword = CaseFolding.foldCase(requiredLiteral.getLiteral());
+                    addKeywordPattern(keyword, patternId, ignoreCaseKeywordIds, _ignoreCaseKeywords, _ignoreCaseKeywordPatterns);
+                } else {
+                    addKeywordPattern(requiredLiteral.getLiteral(), patternId, keywordIds, _keywords, _keywordPatterns);
+                }
+            }
+        }
+        _patternOffsets[ordinals.size()] = _patterns.size();
+    }
+
+    private void addKeywordPattern(final String keyword, final int patternId, final Map<String, Integer> keywordIds, final List<String> keywords, final List<IntList> keywordPatterns) {
+        Integer keywordId = keywordIds.get(keyword);
+        if (keywordId == null) {
+            keywordId = keywords.size();
+            keywordIds.put(keyword, keywordId);
+            keywords.add(keyword);
+            keywordPatterns.add(new IntList());
+        }
+        keywordPatterns.get(keywordId).add(patternId);
+    }
+
+    @Override
+    public String getConditionName() {
+        return _conditionName;
+    }
+
+    boolean isFind() {
+        return _find;
+    }
+
+    boolean isAllValuesMatch() {
+        return _allValuesMatch;
+    }
+
+    int getPatternCount() {
+        return _patterns.size();
+    }
+
+    int getUnfilteredPatternCount() {
+        return _unfilteredPatterns.size();
+    }
+
+    @Override
+    public boolean isIndexed(final int ordinal) {
+        return _indexedOrdinals.get(ordinal);
+    }
+
+    @Override
+    public void addMatchingOrdinals(final String conditionSetValue, final BitSet ordinals) {
+        BitSet candidatePatterns = getCandidatePatterns(conditionSetValue);
+        for (int i = 0; i < _ordinals.length; i++) {
+            if (isMatchPatterns(i, conditionSetValue, candidatePatterns)) {
+                ordinals.set(_ordinals[i]);
+            }
+        }
+    }
+
+    BitSet getCandidatePatterns(final String conditionSetValue) {
+        BitSet result = new BitSet(_patterns.size());
+        for (int i = 0; i < _unfilteredPatterns.size(); i++) {
+            result.set(_unfilteredPatterns.get(i));
+        }
+        addCandidatePatterns(_automaton, _keywordPatterns, conditionSetValue, result);
+        addCandidatePatterns(_ignoreCaseAutomaton, _ignoreCaseKeywordPatterns, conditionSetValue, result);
+        return result;
+    }
+
+    private void addCandidatePatterns(final AhoCorasickAutomaton automaton, final List<IntList> keywordPatterns, final String conditionSetValue, final BitSet candidatePatterns) {
+        if (automaton.getKeywordCount() == 0) {
+            return;
+        }
+        BitSet keywordIds = new BitSet(automaton.getKeywordCount());
+        automaton.findKeywords(conditionSetValue, keywordIds);
+        for (int keywordId = keywordIds.nextSetBit(0); keywordId >= 0; keywordId = keywordIds.nextSetBit(keywordId + 1)) {
+            IntList patternIds = keywordPatterns.get(keywordId);
+            for (int i = 0; i < patternIds.size(); i++) {
+                candidatePatterns.set(patternIds.get(i));
+            }
+        }
+    }
+
+    private boolean isMatchPatterns(final int index, final String conditionSetValue, final BitSet candidatePatterns) {
+        for (int patternId = _patternOffsets[index]; patternId < _patternOffsets[index + 1]; patternId++) {
+            boolean match = candidatePatterns.get(patternId) && isMatchPattern(_patterns.get(patternId), conditionSetValue);
+            if (_allValuesMatch && !match) {
+                return false;
+            }
+            if (!_allValuesMatch && match) {
+                return true;
+            }
+        }
+        return _allValuesMatch;
+    }
+
+    private boolean isMatchPattern(final Pattern pattern, final String conditionSetValue) {
+        if (_find) {
+            return pattern.matcher(conditionSetValue).find();
+        } else {
+            return pattern.matcher(conditionSetValue).matches();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return _conditionName + "=" + _patterns;
+    }
+
+}
@@ -0,0 +1,56 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * Literal, that must occur in every string, matching the regular expression.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class RequiredLiteral {
+
+    private final String _literal;
+
+    private final boolean _ignoreCase;
+
+    RequiredLiteral(final String literal, final boolean ignoreCase) {
+        super();
+        _literal = literal;
+        _ignoreCase = ignoreCase;
+    }
+
+    String getLiteral() {
+        return _literal;
+    }
+
+    boolean isIgnoreCase() {
+        return _ignoreCase;
+    }
+
+    @Override
+    public String toString() {
+        if (_ignoreCase) {
+            return "(?i)" + _literal;
+        } else {
+            return _literal;
+        }
+    }
+
+}
@@ -0,0 +1,358 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Parser to extract the literals, that must occur in every string, matching the regular expression.
+ * </p>
+ * <p>
+ * Only the literal chars of the top level sequence are extracted. Groups, character classes, escape
+ * sequences and optional chars break the literals. If the top level sequence contains an alternation,
+ * then no literals are extracted.
+ * </p>
+ * <p>
+ * The regular expression is taken from the compiled pattern, so the groups, the character classes, the
+ * quotations and the counted quantifiers are always closed.
+ * </p>
+ * <p>
+ * The flags of the compiled pattern include the inline flags, so if the regular expression contains
+ * the inline flags, then the literals before the first inline flags are considered case insensitive.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class RequiredLiteralParser {
+
+    private static final String FLAGS = "idmsuxU-";
+
+    private final Pattern _pattern;
+
+    private final String _regex;
+
+    private final List<RequiredLiteral> _requiredLiterals;
+
+    private final char[] _literal;
+
+    private int _literalLength;
+
+    private int _position;
+
+    private boolean _ignoreCase;
+
+    private boolean _stopped;
+
+    RequiredLiteralParser(final Pattern pattern) {
+        super();
+        _pattern = pattern;
+        _regex = pattern.pattern();
+        _requiredLiterals = new ArrayList<>();
+        _literal = new char[_regex.length()];
+        _literalLength = 0;
+        _position = 0;
+        _ignoreCase = false;
+        _stopped = false;
+    }
+
+    List<RequiredLiteral> parse() {
+        int flags = _pattern.flags();
+        if ((flags & (Pattern.COMMENTS | Pattern.CANON_EQ)) != 0) {
+            return Collections.emptyList();
+        }
+        String inlineFlags = getInlineFlags();
+        if (inlineFlags.indexOf('x') >= 0) {
+            return Collections.emptyList();
+        }
+        _ignoreCase = (flags & Pattern.CASE_INSENSITIVE) != 0 || !inlineFlags.isEmpty();
+        if ((flags & Pattern.LITERAL) == 0) {
+            while (_position < _regex.length() && !_stopped) {
+                parseNext();
+            }
+        } else {
+            for (int i = 0; i < _regex.length(); i++) {
+                appendLiteral(_regex.charAt(i));
+            }
+        }
+        flushLiteral();
+        return Collections.unmodifiableList(_requiredLiterals);
+    }
+
+    private String getInlineFlags() {
+        StringBuilder result = new StringBuilder();
+        if ((_pattern.flags() & Pattern.LITERAL) != 0) {
+            return result.toString();
+        }
+        int index = _regex.indexOf("(?");
+        while (index >= 0) {
+            int position = index + 2;
+            while (position < _regex.length() && FLAGS.indexOf(_regex.charAt(position)) >= 0) {
+                position++;
+            }
+            if (position > index + 2 && position < _regex.length() && (_regex.charAt(position) == ')' || _regex.charAt(position) == ':')) {
+                result.append(_regex, index + 2, position);
+            }
+            index = _regex.indexOf("(?", position);
+        }
+        return result.toString();
+    }
+
+    static RequiredLiteral getLongestRequiredLiteral(final Pattern pattern) {
+        List<RequiredLiteral> requiredLiterals = new RequiredLiteralParser(pattern).parse();
+        RequiredLiteral result = null;
+        for (RequiredLiteral requiredLiteral : requiredLiterals) {
+            if (result == null || requiredLiteral.getLiteral().length() > result.getLiteral().length()) {
+                result = requiredLiteral;
+            }
+        }
+        return result;
+    }
+
+    private void parseNext() {
+        char ch = _regex.charAt(_position);
+        switch (ch) {
+            case '\\':
+                parseEscape();
+                break;
+            case '[':
+                flushLiteral();
+                skipCharacterClass();
+                skipQuantifier(false);
+                break;
+            case '(':
+                flushLiteral();
+                parseGroup();
+                break;
+            case '.':
+            case '^':
+            case '$':
+                flushLiteral();
+                _position++;
+                skipQuantifier(false);
+                break;
+            case '|':
+                _literalLength = 0;
+                _requiredLiterals.clear();
+                _stopped = true;
+                break;
+            default:
+                _position++;
+                skipQuantifier(appendLiteral(ch));
+                break;
+        }
+    }
+
+    private void parseEscape() {
+        char ch = _regex.charAt(_position + 1);
+        if (ch == 'Q') {
+            int end = _regex.indexOf("\\E", _position + 2);
+            if (end < 0) {
+                end = _regex.length();
+            }
+            boolean literal = false;
+            for (int i = _position + 2; i < end; i++) {
+                literal = appendLiteral(_regex.charAt(i));
+            }
+            _position = Math.min(end + 2, _regex.length());
+            skipQuantifier(literal);
+        } else if (Character.isLetterOrDigit(ch)) {
+            flushLiteral();
+            skipEscape();
+            skipQuantifier(false);
+        } else {
+            _position += 2;
+            skipQuantifier(appendLiteral(ch));
+        }
+    }
+
+    private void skipEscape() {
+        char ch = _regex.charAt(_position + 1);
+        _position += 2;
+        if (Character.isDigit(ch)) {
+            skipDigits();
+        } else if (ch == 'k') {
+            skipTo('>');
+        } else if (ch == 'c') {
+            _position++;
+        } else if (ch == 'u') {
+            _position += 4;
+        } else if (_position < _regex.length() && _regex.charAt(_position) == '{') {
+            skipTo('}');
+        } else if (ch == 'x') {
+            _position += 2;
+        } else if (ch == 'p' || ch == 'P') {
+            _position++;
+        }
+        _position = Math.min(_position, _regex.length());
+    }
+
+    private void skipDigits() {
+        while (_position < _regex.length() && Character.isDigit(_regex.charAt(_position))) {
+            _position++;
+        }
+    }
+
+    private void skipTo(final char ch) {
+        _position = _regex.indexOf(ch, _position) + 1;
+    }
+
+    private void skipCharacterClass() {
+        _position++;
+        if (_regex.charAt(_position) == '^') {
+            _position++;
+        }
+        if (_regex.charAt(_position) == ']') {
+            _position++;
+        }
+        char ch = _regex.charAt(_position);
+        while (ch != ']') {
+            if (ch == '\\') {
+                skipQuotedOrEscaped();
+            } else if (ch == '[') {
+                skipCharacterClass();
+            } else {
+                _position++;
+            }
+            ch = _regex.charAt(_position);
+        }
+        _position++;
+    }
+
+    private void skipQuotedOrEscaped() {
+        char ch = _regex.charAt(_position + 1);
+        if (ch == 'Q') {
+            _position = _regex.indexOf("\\E", _position + 2) + 2;
+        } else if (ch == 'c') {
+            _position += 3;
+        } else {
+            _position += 2;
+        }
+    }
+
+    private void parseGroup() {
+        if (parseInlineFlags()) {
+            return;
+        }
+        int depth = 0;
+        do {
+            char ch = _regex.charAt(_position);
+            if (ch == '\\') {
+                skipQuotedOrEscaped();
+            } else if (ch == '[') {
+                skipCharacterClass();
+            } else if (ch == '(') {
+                depth++;
+                _position++;
+            } else if (ch == ')') {
+                depth--;
+                _position++;
+            } else {
+                _position++;
+            }
+        } while (depth > 0);
+        skipQuantifier(false);
+    }
+
+    private boolean parseInlineFlags() {
+        if (_position + 2 >= _regex.length() || _regex.charAt(_position + 1) != '?') {
+            return false;
+        }
+        int position = _position + 2;
+        boolean enable = true;
+        boolean ignoreCase = _ignoreCase;
+        while (FLAGS.indexOf(_regex.charAt(position)) >= 0) {
+            char ch = _regex.charAt(position);
+            if (ch == '-') {
+                enable = false;
+            } else if (ch == 'i') {
+                ignoreCase = enable;
+            }
+            position++;
+        }
+        if (position == _position + 2 || _regex.charAt(position) != ')') {
+            return false;
+        }
+        _position = position + 1;
+        _ignoreCase = ignoreCase;
+        return true;
+    }
+
+    private boolean appendLiteral(final char ch) {
+        if (_ignoreCase && Character.isSurrogate(ch)) {
+            flushLiteral();
+            return false;
+        } else {
+            _literal[_literalLength] = ch;
+            _literalLength++;
+            return true;
+        }
+    }
+
+    private void skipQuantifier(final boolean literal) {
+        if (_position >= _regex.length()) {
+            return;
+        }
+        char ch = _regex.charAt(_position);
+        boolean required;
+        if (ch == '+') {
+            required = true;
+            _position++;
+        } else if (ch == '*' || ch == '?') {
+            required = false;
+            _position++;
+        } else if (ch == '{') {
+            _position++;
+            required = false;
+            while (Character.isDigit(_regex.charAt(_position))) {
+                required = required || _regex.charAt(_position) != '0';
+                _position++;
+            }
+            skipTo('}');
+        } else {
+            return;
+        }
+        if (_position < _regex.length() && (_regex.charAt(_position) == '?' || _regex.charAt(_position) == '+')) {
+            _position++;
+        }
+        if (literal && !required) {
+            removeLastChar();
+        }
+        flushLiteral();
+    }
+
+    private void removeLastChar() {
+        _literalLength--;
+        if (_literalLength > 0 && Character.isLowSurrogate(_literal[_literalLength]) && Character.isHighSurrogate(_literal[_literalLength - 1])) {
+            _literalLength--;
+        }
+    }
+
+    private void flushLiteral() {
+        if (_literalLength > 0) {
+            _requiredLiterals.add(new RequiredLiteral(new String(_literal, 0, _literalLength), _ignoreCase));
+            _literalLength = 0;
+        }
+    }
+
+}
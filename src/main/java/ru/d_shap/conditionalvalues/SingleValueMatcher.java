@@ -0,0 +1,53 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * {@link ru.d_shap.conditionalvalues.ConditionMatcher} for the
+ * {@link ru.d_shap.conditionalvalues.predicate.AllValuesMatchTuplePredicate} object with the
+ * {@link ru.d_shap.conditionalvalues.predicate.EqualsPredicate} object and the single value.
+ * The condition value matches if it is equal to the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class SingleValueMatcher implements ConditionMatcher {
+
+    private final Object _valueSetValue;
+
+    SingleValueMatcher(final Object valueSetValue) {
+        super();
+        _valueSetValue = valueSetValue;
+    }
+
+    Object getValueSetValue() {
+        return _valueSetValue;
+    }
+
+    @Override
+    public boolean isMatch(final Object conditionSetValue) {
+        return _valueSetValue.equals(conditionSetValue);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(_valueSetValue);
+    }
+
+}
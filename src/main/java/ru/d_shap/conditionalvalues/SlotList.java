@@ -0,0 +1,110 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p>
+ * List of the slots, indexed by the ordinal of the {@link ru.d_shap.conditionalvalues.ValueSet} object.
+ * </p>
+ * <p>
+ * The slots are stored in the fixed size chunks. The copy of the list shares all chunks with the
+ * original list, and the chunk is copied on the first change of the copy, so the change of one slot
+ * does not copy the whole list. The list is changed only before it is published, and then it is not
+ * modifiable.
+ * </p>
+ *
+ * @param <E> generic type for the element.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class SlotList<E> extends AbstractList<E> implements RandomAccess {
+
+    static final int CHUNK_SHIFT = 8;
+
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private Object[][] _chunks;
+
+    private boolean[] _ownedChunks;
+
+    private int _size;
+
+    SlotList(final List<? extends E> elements) {
+        super();
+        _chunks = new Object[0][];
+        _ownedChunks = new boolean[0];
+        _size = 0;
+        if (elements != null) {
+            for (E element : elements) {
+                putSlot(_size, element);
+            }
+        }
+    }
+
+    SlotList(final SlotList<E> slotList) {
+        super();
+        _chunks = Arrays.copyOf(slotList._chunks, slotList._chunks.length);
+        _ownedChunks = new boolean[_chunks.length];
+        _size = slotList._size;
+    }
+
+    @Override
+    public E get(final int index) {
+        if (index < 0 || index >= _size) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        @SuppressWarnings("unchecked")
+        E element = (E) _chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+        return element;
+    }
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    void putSlot(final int index, final E element) {
+        if (index < 0 || index > _size) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        int chunkIndex = index >>> CHUNK_SHIFT;
+        if (chunkIndex == _chunks.length) {
+            _chunks = Arrays.copyOf(_chunks, chunkIndex + 1);
+            _chunks[chunkIndex] = new Object[CHUNK_SIZE];
+            _ownedChunks = Arrays.copyOf(_ownedChunks, chunkIndex + 1);
+            _ownedChunks[chunkIndex] = true;
+        } else if (!_ownedChunks[chunkIndex]) {
+            _chunks[chunkIndex] = Arrays.copyOf(_chunks[chunkIndex], CHUNK_SIZE);
+            _ownedChunks[chunkIndex] = true;
+        }
+        _chunks[chunkIndex][index & CHUNK_MASK] = element;
+        if (index == _size) {
+            _size++;
+        }
+    }
+
+}
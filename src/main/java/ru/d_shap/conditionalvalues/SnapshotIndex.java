@@ -0,0 +1,129 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.EqualsPredicate;
+
+/**
+ * Sections of the binary snapshot of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ * The condition name table, the equality index and the specificity lattice are used as is, if the
+ * snapshot is read with the same predicates, as it was written, so the indexes are not built again and
+ * the {@link ru.d_shap.conditionalvalues.ValueSet} objects are decoded only on request.
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class SnapshotIndex<T> {
+
+    private final String _tuplePredicateClassName;
+
+    private final String _predicateClassName;
+
+    private final Map<String, String> _predicateClassNames;
+
+    private final List<ValueSet<T>> _valueSets;
+
+    private final int _valueSetCount;
+
+    private final int _valueCount;
+
+    private final int[] _scannedOrdinals;
+
+    private final ConditionNameTable _conditionNameTable;
+
+    private final EqualsIndex _equalsIndex;
+
+    private final SpecificityLattice _specificityLattice;
+
+    SnapshotIndex(final String tuplePredicateClassName, final String predicateClassName, final Map<String, String> predicateClassNames, final List<ValueSet<T>> valueSets, final int valueSetCount, final int valueCount, final int[] scannedOrdinals, final ConditionNameTable conditionNameTable, final EqualsIndex equalsIndex, final SpecificityLattice specificityLattice) {
+        super();
+        _tuplePredicateClassName = tuplePredicateClassName;
+        _predicateClassName = predicateClassName;
+        _predicateClassNames = predicateClassNames;
+        _valueSets = valueSets;
+        _valueSetCount = valueSetCount;
+        _valueCount = valueCount;
+        _scannedOrdinals = scannedOrdinals;
+        _conditionNameTable = conditionNameTable;
+        _equalsIndex = equalsIndex;
+        _specificityLattice = specificityLattice;
+    }
+
+    boolean isCompatible(final TuplePredicate tuplePredicate, final Predicate predicate, final Map<String, Predicate> predicates) {
+        if (!getClassName(tuplePredicate, AnyValueMatchesTuplePredicate.class).equals(_tuplePredicateClassName)) {
+            return false;
+        }
+        if (!getClassName(predicate, EqualsPredicate.class).equals(_predicateClassName)) {
+            return false;
+        }
+        Map<String, String> predicateClassNames = new HashMap<>();
+        if (predicates != null) {
+            for (Map.Entry<String, Predicate> entry : predicates.entrySet()) {
+                if (entry.getKey() != null && entry.getValue() != null) {
+                    predicateClassNames.put(entry.getKey(), entry.getValue().getClass().getName());
+                }
+            }
+        }
+        return predicateClassNames.equals(_predicateClassNames);
+    }
+
+    private String getClassName(final Object object, final Class<?> defaultClass) {
+        if (object == null) {
+            return defaultClass.getName();
+        } else {
+            return object.getClass().getName();
+        }
+    }
+
+    List<ValueSet<T>> getValueSets() {
+        return _valueSets;
+    }
+
+    int getValueSetCount() {
+        return _valueSetCount;
+    }
+
+    int getValueCount() {
+        return _valueCount;
+    }
+
+    int[] getScannedOrdinals() {
+        return _scannedOrdinals;
+    }
+
+    ConditionNameTable getConditionNameTable() {
+        return _conditionNameTable;
+    }
+
+    EqualsIndex getEqualsIndex() {
+        return _equalsIndex;
+    }
+
+    SpecificityLattice getSpecificityLattice() {
+        return _specificityLattice;
+    }
+
+}
@@ -0,0 +1,253 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Reader of the binary snapshot of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ * The reader decodes the {@link ru.d_shap.conditionalvalues.ValueSet} objects directly from the buffer, so
+ * the snapshot file is not copied to the heap, if the buffer is mapped to the file.
+ * </p>
+ * <p>
+ * The reader decodes the condition name table, the equality index and the specificity lattice, and
+ * the {@link ru.d_shap.conditionalvalues.ValueSet} objects are decoded only on request by the ordinal.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class SnapshotReader<T> {
+
+    private final List<ValueCodec<?>> _valueCodecs;
+
+    private final ByteBuffer _buffer;
+
+    private String[] _strings;
+
+    SnapshotReader(final List<ValueCodec<?>> valueCodecs, final ByteBuffer buffer) {
+        this(valueCodecs, buffer, new String[0]);
+    }
+
+    SnapshotReader(final List<ValueCodec<?>> valueCodecs, final ByteBuffer buffer, final String[] strings) {
+        super();
+        _valueCodecs = valueCodecs;
+        _buffer = buffer;
+        _strings = strings;
+    }
+
+    ConditionalValues<T> read(final ConditionalValuesBuilder<T> conditionalValuesBuilder) {
+        if (_buffer.remaining() < 2 * Integer.SIZE / Byte.SIZE || _buffer.getInt() != SnapshotWriter.MAGIC) {
+            throw new SnapshotException("Wrong snapshot format");
+        }
+        int formatVersion = _buffer.getInt();
+        if (formatVersion != SnapshotWriter.FORMAT_VERSION) {
+            throw new SnapshotException("Unsupported snapshot format version: " + formatVersion);
+        }
+        readValueCodecs();
+        int stringCount = _buffer.getInt();
+        _strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            _strings[i] = readString();
+        }
+        return conditionalValuesBuilder.build(readSnapshotIndex());
+    }
+
+    private void readValueCodecs() {
+        int valueCodecCount = _buffer.getInt();
+        if (valueCodecCount != _valueCodecs.size()) {
+            throw new SnapshotException("Wrong number of the value codecs, expected " + valueCodecCount + ", but was " + _valueCodecs.size());
+        }
+        for (ValueCodec<?> valueCodec : _valueCodecs) {
+            String valueCodecClassName = readString();
+            if (!valueCodecClassName.equals(valueCodec.getClass().getName())) {
+                throw new SnapshotException("Wrong value codec, expected " + valueCodecClassName + ", but was " + valueCodec.getClass().getName());
+            }
+        }
+    }
+
+    private SnapshotIndex<T> readSnapshotIndex() {
+        String tuplePredicateClassName = readStringReference();
+        String predicateClassName = readStringReference();
+        Map<String, String> predicateClassNames = new HashMap<>();
+        int predicateCount = _buffer.getInt();
+        for (int i = 0; i < predicateCount; i++) {
+            String conditionName = readStringReference();
+            predicateClassNames.put(conditionName, readStringReference());
+        }
+        int[] rowOffsets = readInts();
+        int valueSetCount = _buffer.getInt();
+        int valueCount = _buffer.getInt();
+        ConditionNameTable conditionNameTable = readConditionNameTable();
+        int[] scannedOrdinals = readInts();
+        EqualsIndex equalsIndex = readEqualsIndex(conditionNameTable);
+        SpecificityLattice specificityLattice = readSpecificityLattice(conditionNameTable);
+        int rowLength = _buffer.getInt();
+        if (rowLength < 0 || rowLength > _buffer.remaining()) {
+            throw new SnapshotException("Wrong snapshot format");
+        }
+        ByteBuffer rows = _buffer.slice();
+        rows.limit(rowLength);
+        List<ValueSet<T>> valueSets = new SnapshotValueSetList<>(_valueCodecs, rows, _strings, rowOffsets);
+        return new SnapshotIndex<>(tuplePredicateClassName, predicateClassName, predicateClassNames, valueSets, valueSetCount, valueCount, scannedOrdinals, conditionNameTable, equalsIndex, specificityLattice);
+    }
+
+    private ConditionNameTable readConditionNameTable() {
+        String[] conditionNames = new String[_buffer.getInt()];
+        for (int i = 0; i < conditionNames.length; i++) {
+            conditionNames[i] = readStringReference();
+        }
+        return new ConditionNameTable(conditionNames);
+    }
+
+    private EqualsIndex readEqualsIndex(final ConditionNameTable conditionNameTable) {
+        EqualsIndexGroup[] groups = new EqualsIndexGroup[_buffer.getInt()];
+        for (int i = 0; i < groups.length; i++) {
+            int[] conditionIds = readConditionIds(conditionNameTable);
+            int[] ordinals = readInts();
+            List<Map<Object, int[]>> postings = readPostings(conditionIds.length);
+            groups[i] = new EqualsIndexGroup(conditionNameTable, conditionIds, postings, ordinals);
+        }
+        return new EqualsIndex(groups);
+    }
+
+    private List<Map<Object, int[]>> readPostings(final int conditionNameCount) {
+        List<Map<Object, int[]>> result = new ArrayList<>(conditionNameCount);
+        for (int i = 0; i < conditionNameCount; i++) {
+            result.add(readConditionPostings());
+        }
+        return result;
+    }
+
+    private Map<Object, int[]> readConditionPostings() {
+        Map<Object, int[]> result = new HashMap<>();
+        int postingCount = _buffer.getInt();
+        for (int i = 0; i < postingCount; i++) {
+            Object conditionValue = readValue();
+            result.put(conditionValue, readInts());
+        }
+        return result;
+    }
+
+    private SpecificityLattice readSpecificityLattice(final ConditionNameTable conditionNameTable) {
+        int shapeCount = _buffer.getInt();
+        List<ConditionNameMask> shapeMasks = new ArrayList<>(shapeCount);
+        for (int i = 0; i < shapeCount; i++) {
+            shapeMasks.add(new ConditionNameMask(readConditionIds(conditionNameTable)));
+        }
+        int[] shapeIds = readInts();
+        int[][] dominatingShapeIds = new int[shapeCount][];
+        for (int i = 0; i < shapeCount; i++) {
+            dominatingShapeIds[i] = readInts();
+        }
+        return new SpecificityLattice(conditionNameTable, shapeMasks, shapeIds, dominatingShapeIds);
+    }
+
+    private int[] readConditionIds(final ConditionNameTable conditionNameTable) {
+        int[] result = readInts();
+        for (int conditionId : result) {
+            if (conditionId < 0 || conditionId >= conditionNameTable.getConditionNameCount()) {
+                throw new SnapshotException("Wrong condition ID: " + conditionId);
+            }
+        }
+        return result;
+    }
+
+    ValueSet<T> readValueSet() {
+        ValueSetBuilder<T> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.setId(readStringReference());
+        valueSetBuilder.setPredicate(readPredicate());
+        int predicateCount = _buffer.getInt();
+        for (int i = 0; i < predicateCount; i++) {
+            String conditionName = readStringReference();
+            valueSetBuilder.setPredicate(conditionName, readPredicate());
+        }
+        int conditionCount = _buffer.getInt();
+        for (int i = 0; i < conditionCount; i++) {
+            String conditionName = readStringReference();
+            int conditionValueCount = _buffer.getInt();
+            for (int j = 0; j < conditionValueCount; j++) {
+                valueSetBuilder.addCondition(conditionName, readValue());
+            }
+        }
+        int valueCount = _buffer.getInt();
+        for (int i = 0; i < valueCount; i++) {
+            @SuppressWarnings("unchecked")
+            T value = (T) readValue();
+            valueSetBuilder.addValue(value);
+        }
+        return valueSetBuilder.build();
+    }
+
+    private Predicate readPredicate() {
+        String predicateClassName = readStringReference();
+        if (predicateClassName == null) {
+            return null;
+        }
+        try {
+            return (Predicate) Class.forName(predicateClassName).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException ex) {
+            throw new SnapshotException(ex);
+        }
+    }
+
+    private Object readValue() {
+        int valueCodecIndex = _buffer.get();
+        if (valueCodecIndex < 0 || valueCodecIndex >= _valueCodecs.size()) {
+            throw new SnapshotException("Wrong value codec index: " + valueCodecIndex);
+        }
+        byte[] bytes = new byte[_buffer.getInt()];
+        _buffer.get(bytes);
+        return _valueCodecs.get(valueCodecIndex).decode(bytes);
+    }
+
+    private int[] readInts() {
+        int[] result = new int[_buffer.getInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = _buffer.getInt();
+        }
+        return result;
+    }
+
+    private String readStringReference() {
+        int stringReference = _buffer.getInt();
+        if (stringReference == SnapshotWriter.NULL_REFERENCE) {
+            return null;
+        }
+        if (stringReference < 0 || stringReference >= _strings.length) {
+            throw new SnapshotException("Wrong string reference: " + stringReference);
+        }
+        return _strings[stringReference];
+    }
+
+    private String readString() {
+        byte[] bytes = new byte[_buffer.getInt()];
+        _buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
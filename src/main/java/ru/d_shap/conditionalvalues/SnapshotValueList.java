@@ -0,0 +1,89 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List of all values of the {@link ru.d_shap.conditionalvalues.ValueSet} objects of the binary snapshot.
+ * The number of the values is stored in the snapshot, and the values are collected from the
+ * {@link ru.d_shap.conditionalvalues.ValueSet} objects on the first request of the value, so the
+ * {@link ru.d_shap.conditionalvalues.ValueSet} objects are not decoded to create the lookup buffers.
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class SnapshotValueList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final Comparator<T> _comparator;
+
+    private final List<ValueSet<T>> _valueSets;
+
+    private final int _size;
+
+    private volatile List<T> _values;
+
+    SnapshotValueList(final Comparator<T> comparator, final List<ValueSet<T>> valueSets, final int size) {
+        super();
+        _comparator = comparator;
+        _valueSets = valueSets;
+        _size = size;
+        _values = null;
+    }
+
+    @Override
+    public T get(final int index) {
+        return getValues().get(index);
+    }
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    private List<T> getValues() {
+        List<T> values = _values;
+        if (values == null) {
+            values = createValues();
+            _values = values;
+        }
+        return values;
+    }
+
+    private List<T> createValues() {
+        List<T> result = new ArrayList<>(_size);
+        for (ValueSet<T> valueSet : _valueSets) {
+            if (valueSet != null) {
+                result.addAll(valueSet.getValues());
+            }
+        }
+        if (_comparator != null) {
+            Collections.sort(result, _comparator);
+        }
+        return result;
+    }
+
+}
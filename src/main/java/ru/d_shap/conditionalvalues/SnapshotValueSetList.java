@@ -0,0 +1,89 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * List of the {@link ru.d_shap.conditionalvalues.ValueSet} objects of the binary snapshot, indexed by
+ * the ordinal of the {@link ru.d_shap.conditionalvalues.ValueSet} object. Every
+ * {@link ru.d_shap.conditionalvalues.ValueSet} object is decoded from the buffer on the first request
+ * by its offset, and then it is cached. The removed {@link ru.d_shap.conditionalvalues.ValueSet} objects
+ * are represented with null.
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class SnapshotValueSetList<T> extends AbstractList<ValueSet<T>> implements RandomAccess {
+
+    private final List<ValueCodec<?>> _valueCodecs;
+
+    private final ByteBuffer _buffer;
+
+    private final String[] _strings;
+
+    private final int[] _offsets;
+
+    private final AtomicReferenceArray<ValueSet<T>> _valueSets;
+
+    SnapshotValueSetList(final List<ValueCodec<?>> valueCodecs, final ByteBuffer buffer, final String[] strings, final int[] offsets) {
+        super();
+        _valueCodecs = valueCodecs;
+        _buffer = buffer;
+        _strings = strings;
+        _offsets = offsets;
+        _valueSets = new AtomicReferenceArray<>(offsets.length);
+    }
+
+    @Override
+    public ValueSet<T> get(final int index) {
+        if (_offsets[index] == SnapshotWriter.NULL_REFERENCE) {
+            return null;
+        }
+        ValueSet<T> valueSet = _valueSets.get(index);
+        if (valueSet == null) {
+            _valueSets.compareAndSet(index, null, readValueSet(_offsets[index]));
+            valueSet = _valueSets.get(index);
+        }
+        return valueSet;
+    }
+
+    private ValueSet<T> readValueSet(final int offset) {
+        try {
+            ByteBuffer buffer = _buffer.duplicate();
+            buffer.position(offset);
+            return new SnapshotReader<T>(_valueCodecs, buffer, _strings).readValueSet();
+        } catch (BufferUnderflowException | NegativeArraySizeException | IllegalArgumentException ex) {
+            throw new SnapshotException(ex);
+        }
+    }
+
+    @Override
+    public int size() {
+        return _offsets.length;
+    }
+
+}
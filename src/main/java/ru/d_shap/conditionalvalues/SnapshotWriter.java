@@ -0,0 +1,286 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Writer of the binary snapshot of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ * The IDs, the condition names and the predicate class names are stored once in the string table, and
+ * the {@link ru.d_shap.conditionalvalues.ValueSet} objects refer to the strings by the index.
+ * </p>
+ * <p>
+ * The predicate class names of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object, the
+ * condition name table, the ordinals of the scanned {@link ru.d_shap.conditionalvalues.ValueSet} objects,
+ * the equality index with the postings and the specificity lattice are stored before the
+ * {@link ru.d_shap.conditionalvalues.ValueSet} objects. The {@link ru.d_shap.conditionalvalues.ValueSet}
+ * objects are stored in the order of the ordinals together with the offset of every
+ * {@link ru.d_shap.conditionalvalues.ValueSet} object, so every {@link ru.d_shap.conditionalvalues.ValueSet}
+ * object can be read separately.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class SnapshotWriter<T> {
+
+    static final int MAGIC = 0x43565350;
+
+    static final int FORMAT_VERSION = 2;
+
+    static final int NULL_REFERENCE = -1;
+
+    private final List<ValueCodec<?>> _valueCodecs;
+
+    private final List<String> _strings;
+
+    private final Map<String, Integer> _stringReferences;
+
+    SnapshotWriter(final List<ValueCodec<?>> valueCodecs) {
+        super();
+        _valueCodecs = valueCodecs;
+        _strings = new ArrayList<>();
+        _stringReferences = new HashMap<>();
+    }
+
+    void write(final ConditionalValues<T> conditionalValues, final DataOutputStream output) throws IOException {
+        List<ValueSet<T>> valueSets = conditionalValues.getValueSetSlots();
+        ConditionNameTable conditionNameTable = conditionalValues.getConditionNameTable();
+        addStrings(conditionalValues, conditionNameTable);
+        for (ValueSet<T> valueSet : valueSets) {
+            if (valueSet != null) {
+                addStrings(valueSet);
+            }
+        }
+        ByteArrayOutputStream rows = new ByteArrayOutputStream();
+        DataOutputStream rowOutput = new DataOutputStream(rows);
+        int[] rowOffsets = new int[valueSets.size()];
+        int valueSetCount = 0;
+        int valueCount = 0;
+        for (int i = 0; i < rowOffsets.length; i++) {
+            ValueSet<T> valueSet = valueSets.get(i);
+            if (valueSet == null) {
+                rowOffsets[i] = NULL_REFERENCE;
+            } else {
+                rowOffsets[i] = rowOutput.size();
+                writeValueSet(valueSet, rowOutput);
+                valueSetCount++;
+                valueCount += valueSet.getValues().size();
+            }
+        }
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(_valueCodecs.size());
+        for (ValueCodec<?> valueCodec : _valueCodecs) {
+            writeString(valueCodec.getClass().getName(), output);
+        }
+        output.writeInt(_strings.size());
+        for (String string : _strings) {
+            writeString(string, output);
+        }
+        writePredicates(conditionalValues, output);
+        writeInts(rowOffsets, output);
+        output.writeInt(valueSetCount);
+        output.writeInt(valueCount);
+        writeConditionNameTable(conditionNameTable, output);
+        writeInts(conditionalValues.getScannedOrdinals(), output);
+        writeEqualsIndex(conditionalValues.getEqualsIndex(), output);
+        writeSpecificityLattice(conditionalValues.getSpecificityLattice(), conditionNameTable, valueSets.size(), output);
+        output.writeInt(rowOutput.size());
+        rows.writeTo(output);
+    }
+
+    private void addStrings(final ConditionalValues<T> conditionalValues, final ConditionNameTable conditionNameTable) {
+        addString(conditionalValues.getTuplePredicate().getClass().getName());
+        addString(conditionalValues.getPredicate().getClass().getName());
+        for (Map.Entry<String, Predicate> entry : conditionalValues.getPredicates().entrySet()) {
+            addString(entry.getKey());
+            addString(entry.getValue().getClass().getName());
+        }
+        for (int i = 0; i < conditionNameTable.getConditionNameCount(); i++) {
+            addString(conditionNameTable.getConditionName(i));
+        }
+    }
+
+    private void addStrings(final ValueSet<T> valueSet) {
+        addString(valueSet.getId());
+        addString(getPredicateClassName(valueSet.getPredicate()));
+        for (Map.Entry<String, Predicate> entry : valueSet.getPredicates().entrySet()) {
+            addString(entry.getKey());
+            addString(getPredicateClassName(entry.getValue()));
+        }
+        for (String conditionName : valueSet.getAllConditionNames()) {
+            addString(conditionName);
+        }
+    }
+
+    private void addString(final String string) {
+        if (string != null && !_stringReferences.containsKey(string)) {
+            _stringReferences.put(string, _strings.size());
+            _strings.add(string);
+        }
+    }
+
+    private String getPredicateClassName(final Predicate predicate) {
+        if (predicate == null) {
+            return null;
+        }
+        Class<?> predicateClass = predicate.getClass();
+        try {
+            predicateClass.getConstructor();
+        } catch (NoSuchMethodException ex) {
+            throw new SnapshotException("Predicate can not be restored: " + predicateClass.getName(), ex);
+        }
+        return predicateClass.getName();
+    }
+
+    private void writePredicates(final ConditionalValues<T> conditionalValues, final DataOutputStream output) throws IOException {
+        output.writeInt(getStringReference(conditionalValues.getTuplePredicate().getClass().getName()));
+        output.writeInt(getStringReference(conditionalValues.getPredicate().getClass().getName()));
+        Map<String, Predicate> predicates = conditionalValues.getPredicates();
+        output.writeInt(predicates.size());
+        for (Map.Entry<String, Predicate> entry : predicates.entrySet()) {
+            output.writeInt(getStringReference(entry.getKey()));
+            output.writeInt(getStringReference(entry.getValue().getClass().getName()));
+        }
+    }
+
+    private void writeConditionNameTable(final ConditionNameTable conditionNameTable, final DataOutputStream output) throws IOException {
+        output.writeInt(conditionNameTable.getConditionNameCount());
+        for (int i = 0; i < conditionNameTable.getConditionNameCount(); i++) {
+            output.writeInt(getStringReference(conditionNameTable.getConditionName(i)));
+        }
+    }
+
+    private void writeEqualsIndex(final EqualsIndex equalsIndex, final DataOutputStream output) throws IOException {
+        output.writeInt(equalsIndex.getGroupCount());
+        for (int i = 0; i < equalsIndex.getGroupCount(); i++) {
+            EqualsIndexGroup group = equalsIndex.getGroup(i);
+            writeInts(group.getConditionIds(), output);
+            writeInts(group.getOrdinals(), output);
+            for (int j = 0; j < group.getConditionNameCount(); j++) {
+                writePostings(group.getPostings(j), output);
+            }
+        }
+    }
+
+    private void writePostings(final Map<Object, int[]> postings, final DataOutputStream output) throws IOException {
+        output.writeInt(postings.size());
+        for (Map.Entry<Object, int[]> entry : postings.entrySet()) {
+            writeValue(entry.getKey(), output);
+            writeInts(entry.getValue(), output);
+        }
+    }
+
+    private void writeSpecificityLattice(final SpecificityLattice specificityLattice, final ConditionNameTable conditionNameTable, final int valueSetCount, final DataOutputStream output) throws IOException {
+        output.writeInt(specificityLattice.getShapeCount());
+        for (int i = 0; i < specificityLattice.getShapeCount(); i++) {
+            ConditionNameMask shapeMask = specificityLattice.getShapeMask(i);
+            IntList conditionIds = new IntList();
+            for (int j = 0; j < conditionNameTable.getConditionNameCount(); j++) {
+                if (shapeMask.get(j)) {
+                    conditionIds.add(j);
+                }
+            }
+            writeInts(conditionIds.toArray(), output);
+        }
+        output.writeInt(valueSetCount);
+        for (int i = 0; i < valueSetCount; i++) {
+            output.writeInt(specificityLattice.getShapeId(i));
+        }
+        for (int i = 0; i < specificityLattice.getShapeCount(); i++) {
+            writeInts(specificityLattice.getDominatingShapeIds(i), output);
+        }
+    }
+
+    private void writeValueSet(final ValueSet<T> valueSet, final DataOutputStream output) throws IOException {
+        output.writeInt(getStringReference(valueSet.getId()));
+        output.writeInt(getStringReference(getPredicateClassName(valueSet.getPredicate())));
+        Map<String, Predicate> predicates = valueSet.getPredicates();
+        output.writeInt(predicates.size());
+        for (Map.Entry<String, Predicate> entry : predicates.entrySet()) {
+            output.writeInt(getStringReference(entry.getKey()));
+            output.writeInt(getStringReference(getPredicateClassName(entry.getValue())));
+        }
+        Set<String> conditionNames = valueSet.getAllConditionNames();
+        output.writeInt(conditionNames.size());
+        for (String conditionName : conditionNames) {
+            output.writeInt(getStringReference(conditionName));
+            Set<Object> conditionValues = valueSet.getAllConditionValues(conditionName);
+            output.writeInt(conditionValues.size());
+            for (Object conditionValue : conditionValues) {
+                writeValue(conditionValue, output);
+            }
+        }
+        List<T> values = valueSet.getValues();
+        output.writeInt(values.size());
+        for (T value : values) {
+            writeValue(value, output);
+        }
+    }
+
+    private int getStringReference(final String string) {
+        if (string == null) {
+            return NULL_REFERENCE;
+        } else {
+            return _stringReferences.get(string);
+        }
+    }
+
+    private void writeValue(final Object value, final DataOutputStream output) throws IOException {
+        for (int i = 0; i < _valueCodecs.size(); i++) {
+            ValueCodec<?> valueCodec = _valueCodecs.get(i);
+            if (valueCodec.getValueClass().isInstance(value)) {
+                @SuppressWarnings("unchecked")
+                ValueCodec<Object> objectValueCodec = (ValueCodec<Object>) valueCodec;
+                byte[] bytes = objectValueCodec.encode(value);
+                output.writeByte(i);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+                return;
+            }
+        }
+        throw new SnapshotException("No codec for the value: " + value.getClass().getName());
+    }
+
+    private void writeInts(final int[] ints, final DataOutputStream output) throws IOException {
+        output.writeInt(ints.length);
+        for (int value : ints) {
+            output.writeInt(value);
+        }
+    }
+
+    private void writeString(final String string, final DataOutputStream output) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+}
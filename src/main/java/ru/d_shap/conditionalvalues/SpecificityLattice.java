@@ -0,0 +1,311 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Dominance lattice of the {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+ * </p>
+ * <p>
+ * Every condition name is represented with the bit of its ID in the
+ * {@link ru.d_shap.conditionalvalues.ConditionNameTable} object, and every distinct set of condition names
+ * (shape) is assigned an ID. For every shape the IDs of all shapes with the strict superset of condition
+ * names are precomputed, so the less specific {@link ru.d_shap.conditionalvalues.ValueSet} objects are
+ * removed with a single pass over the matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+ * </p>
+ * <p>
+ * The shape states are reset only for the shapes of the matching {@link ru.d_shap.conditionalvalues.ValueSet}
+ * objects, so the pass does not depend on the number of shapes.
+ * </p>
+ * <p>
+ * The lattice is derived from the previous lattice for the changed {@link ru.d_shap.conditionalvalues.ValueSet}
+ * objects. The shapes are only appended, and the dominating shape IDs are shared with the previous lattice
+ * for all shapes, not dominated by the appended shapes. The shapes without the
+ * {@link ru.d_shap.conditionalvalues.ValueSet} objects are removed and the shape IDs are reassigned, when
+ * such shapes outnumber the shapes with the {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class SpecificityLattice {
+
+    private static final byte SHAPE_MATCHED = 1;
+
+    private static final byte SHAPE_KEPT = 2;
+
+    private static final byte SHAPE_REMOVED = 3;
+
+    private final ConditionNameTable _conditionNameTable;
+
+    private final List<ConditionNameMask> _shapeMasks;
+
+    private final int[] _shapeIds;
+
+    private final int[][] _dominatingShapeIds;
+
+    SpecificityLattice(final ConditionNameTable conditionNameTable, final List<? extends ValueSet<?>> valueSets) {
+        super();
+        _conditionNameTable = conditionNameTable;
+        _shapeMasks = new ArrayList<>();
+        _shapeIds = createShapeIds(valueSets);
+        _dominatingShapeIds = createDominatingShapeIds();
+    }
+
+    SpecificityLattice(final SpecificityLattice specificityLattice, final List<? extends ValueSet<?>> valueSets, final BitSet changedOrdinals) {
+        super();
+        _conditionNameTable = specificityLattice._conditionNameTable;
+        _shapeMasks = new ArrayList<>(specificityLattice._shapeMasks);
+        int[] shapeIds = deriveShapeIds(specificityLattice._shapeIds, valueSets, changedOrdinals);
+        BitSet liveShapeIds = getLiveShapeIds(shapeIds);
+        if (liveShapeIds.cardinality() * 2 < _shapeMasks.size()) {
+            _shapeIds = compactShapeIds(shapeIds, liveShapeIds);
+            _dominatingShapeIds = createDominatingShapeIds();
+        } else {
+            _shapeIds = shapeIds;
+            _dominatingShapeIds = deriveDominatingShapeIds(specificityLattice._dominatingShapeIds);
+        }
+    }
+
+    SpecificityLattice(final ConditionNameTable conditionNameTable, final List<ConditionNameMask> shapeMasks, final int[] shapeIds, final int[][] dominatingShapeIds) {
+        super();
+        _conditionNameTable = conditionNameTable;
+        _shapeMasks = shapeMasks;
+        _shapeIds = shapeIds;
+        _dominatingShapeIds = dominatingShapeIds;
+    }
+
+    private int[] createShapeIds(final List<? extends ValueSet<?>> valueSets) {
+        if (valueSets == null) {
+            return new int[0];
+        }
+        Map<ConditionNameMask, Integer> shapeIds = new LinkedHashMap<>();
+        int[] result = new int[valueSets.size()];
+        for (int i = 0; i < result.length; i++) {
+            ConditionNameMask mask = createConditionNameMask(valueSets.get(i).getAllConditionNames());
+            Integer shapeId = shapeIds.get(mask);
+            if (shapeId == null) {
+                shapeId = _shapeMasks.size();
+                shapeIds.put(mask, shapeId);
+                _shapeMasks.add(mask);
+            }
+            result[i] = shapeId;
+        }
+        return result;
+    }
+
+    private int[] deriveShapeIds(final int[] shapeIds, final List<? extends ValueSet<?>> valueSets, final BitSet changedOrdinals) {
+        Map<ConditionNameMask, Integer> currentShapeIds = new HashMap<>();
+        for (int i = 0; i < _shapeMasks.size(); i++) {
+            currentShapeIds.put(_shapeMasks.get(i), i);
+        }
+        int[] result = Arrays.copyOf(shapeIds, valueSets.size());
+        for (int ordinal = changedOrdinals.nextSetBit(0); ordinal >= 0; ordinal = changedOrdinals.nextSetBit(ordinal + 1)) {
+            ValueSet<?> valueSet = valueSets.get(ordinal);
+            if (valueSet == null) {
+                result[ordinal] = -1;
+            } else {
+                ConditionNameMask mask = createConditionNameMask(valueSet.getAllConditionNames());
+                Integer shapeId = currentShapeIds.get(mask);
+                if (shapeId == null) {
+                    shapeId = _shapeMasks.size();
+                    currentShapeIds.put(mask, shapeId);
+                    _shapeMasks.add(mask);
+                }
+                result[ordinal] = shapeId;
+            }
+        }
+        return result;
+    }
+
+    private BitSet getLiveShapeIds(final int[] shapeIds) {
+        BitSet result = new BitSet(_shapeMasks.size());
+        for (int shapeId : shapeIds) {
+            if (shapeId >= 0) {
+                result.set(shapeId);
+            }
+        }
+        return result;
+    }
+
+    private int[] compactShapeIds(final int[] shapeIds, final BitSet liveShapeIds) {
+        List<ConditionNameMask> shapeMasks = new ArrayList<>(_shapeMasks);
+        int[] compactedShapeIds = new int[shapeMasks.size()];
+        _shapeMasks.clear();
+        for (int shapeId = liveShapeIds.nextSetBit(0); shapeId >= 0; shapeId = liveShapeIds.nextSetBit(shapeId + 1)) {
+            compactedShapeIds[shapeId] = _shapeMasks.size();
+            _shapeMasks.add(shapeMasks.get(shapeId));
+        }
+        int[] result = new int[shapeIds.length];
+        for (int i = 0; i < result.length; i++) {
+            if (shapeIds[i] >= 0) {
+                result[i] = compactedShapeIds[shapeIds[i]];
+            } else {
+                result[i] = -1;
+            }
+        }
+        return result;
+    }
+
+    private int[][] deriveDominatingShapeIds(final int[][] dominatingShapeIds) {
+        int[][] result = Arrays.copyOf(dominatingShapeIds, _shapeMasks.size());
+        for (int i = 0; i < dominatingShapeIds.length; i++) {
+            IntList appendedShapeIds = new IntList();
+            for (int j = dominatingShapeIds.length; j < result.length; j++) {
+                if (_shapeMasks.get(i).isStrictSubsetOf(_shapeMasks.get(j))) {
+                    appendedShapeIds.add(j);
+                }
+            }
+            if (!appendedShapeIds.isEmpty()) {
+                IntList currentShapeIds = new IntList();
+                currentShapeIds.addAll(dominatingShapeIds[i]);
+                currentShapeIds.addAll(appendedShapeIds.toArray());
+                result[i] = currentShapeIds.toArray();
+            }
+        }
+        for (int i = dominatingShapeIds.length; i < result.length; i++) {
+            IntList currentShapeIds = new IntList();
+            for (int j = 0; j < result.length; j++) {
+                if (_shapeMasks.get(i).isStrictSubsetOf(_shapeMasks.get(j))) {
+                    currentShapeIds.add(j);
+                }
+            }
+            result[i] = currentShapeIds.toArray();
+        }
+        return result;
+    }
+
+    private int[][] createDominatingShapeIds() {
+        int[][] result = new int[_shapeMasks.size()][];
+        for (int i = 0; i < result.length; i++) {
+            ConditionNameMask mask = _shapeMasks.get(i);
+            IntList dominatingShapeIds = new IntList();
+            for (int j = 0; j < result.length; j++) {
+                if (mask.isStrictSubsetOf(_shapeMasks.get(j))) {
+                    dominatingShapeIds.add(j);
+                }
+            }
+            result[i] = dominatingShapeIds.toArray();
+        }
+        return result;
+    }
+
+    int[][] createDominatingShapeIds(final ConditionNameMask conditionSetMask) {
+        int[][] result = new int[_shapeMasks.size()][];
+        for (int i = 0; i < result.length; i++) {
+            IntList dominatingShapeIds = new IntList();
+            if (_shapeMasks.get(i).isSubsetOf(conditionSetMask)) {
+                for (int dominatingShapeId : _dominatingShapeIds[i]) {
+                    if (_shapeMasks.get(dominatingShapeId).isSubsetOf(conditionSetMask)) {
+                        dominatingShapeIds.add(dominatingShapeId);
+                    }
+                }
+            }
+            result[i] = dominatingShapeIds.toArray();
+        }
+        return result;
+    }
+
+    ConditionNameMask createConditionNameMask(final Set<String> conditionNames) {
+        IntList bits = new IntList();
+        for (String conditionName : conditionNames) {
+            bits.add(_conditionNameTable.getConditionId(conditionName));
+        }
+        return new ConditionNameMask(bits.toArray());
+    }
+
+    int getShapeCount() {
+        return _shapeMasks.size();
+    }
+
+    int getShapeId(final int ordinal) {
+        return _shapeIds[ordinal];
+    }
+
+    ConditionNameMask getShapeMask(final int shapeId) {
+        return _shapeMasks.get(shapeId);
+    }
+
+    int[] getDominatingShapeIds(final int shapeId) {
+        return _dominatingShapeIds[shapeId];
+    }
+
+    void removeLessSpecificOrdinals(final IntList ordinals) {
+        removeLessSpecificOrdinals(ordinals, new byte[_shapeMasks.size()], new IntList());
+    }
+
+    void removeLessSpecificOrdinals(final IntList ordinals, final byte[] shapeStates, final IntList matchedShapeIds) {
+        removeLessSpecificOrdinals(ordinals, shapeStates, matchedShapeIds, _dominatingShapeIds);
+    }
+
+    void removeLessSpecificOrdinals(final IntList ordinals, final byte[] shapeStates, final IntList matchedShapeIds, final int[][] dominatingShapeIds) {
+        matchedShapeIds.clear();
+        for (int i = 0; i < ordinals.size(); i++) {
+            int shapeId = _shapeIds[ordinals.get(i)];
+            if (shapeStates[shapeId] == 0) {
+                shapeStates[shapeId] = SHAPE_MATCHED;
+                matchedShapeIds.add(shapeId);
+            }
+        }
+        int size = 0;
+        for (int i = 0; i < ordinals.size(); i++) {
+            int ordinal = ordinals.get(i);
+            int shapeId = _shapeIds[ordinal];
+            if (shapeStates[shapeId] == SHAPE_MATCHED) {
+                if (isDominated(dominatingShapeIds[shapeId], shapeStates)) {
+                    shapeStates[shapeId] = SHAPE_REMOVED;
+                } else {
+                    shapeStates[shapeId] = SHAPE_KEPT;
+                }
+            }
+            if (shapeStates[shapeId] == SHAPE_KEPT) {
+                ordinals.set(size, ordinal);
+                size++;
+            }
+        }
+        ordinals.truncate(size);
+        for (int i = 0; i < matchedShapeIds.size(); i++) {
+            shapeStates[matchedShapeIds.get(i)] = 0;
+        }
+    }
+
+    private boolean isDominated(final int[] dominatingShapeIds, final byte[] shapeStates) {
+        for (int dominatingShapeId : dominatingShapeIds) {
+            if (shapeStates[dominatingShapeId] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return _shapeMasks.toString();
+    }
+
+}
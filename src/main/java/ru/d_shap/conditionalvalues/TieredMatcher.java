@@ -0,0 +1,127 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.lang.invoke.MethodHandle;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * Tiered matcher of the scanned {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+ * </p>
+ * <p>
+ * The matcher starts with the {@link ru.d_shap.conditionalvalues.ValueSetMatcher} objects, and counts the
+ * lookups. When the number of the lookups reaches the compilation threshold, the scanned
+ * {@link ru.d_shap.conditionalvalues.ValueSetMatcher} objects are compiled by the
+ * {@link ru.d_shap.conditionalvalues.ValueSetMatcherCompiler} class in the background, and the compiled
+ * method handles are swapped in atomically. The lookups, that run during the compilation, use the
+ * {@link ru.d_shap.conditionalvalues.ValueSetMatcher} objects. If the compilation threshold is zero, then
+ * the {@link ru.d_shap.conditionalvalues.ValueSetMatcher} objects are never compiled.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class TieredMatcher {
+
+    private final List<ValueSetMatcher> _valueSetMatchers;
+
+    private final int[] _scannedOrdinals;
+
+    private final int _compilationThreshold;
+
+    private final Executor _executor;
+
+    private final AtomicInteger _lookupCount;
+
+    private final AtomicBoolean _compilationStarted;
+
+    private final AtomicReference<MethodHandle[]> _compiledMatchers;
+
+    TieredMatcher(final List<ValueSetMatcher> valueSetMatchers, final int[] scannedOrdinals, final int compilationThreshold, final Executor executor) {
+        super();
+        _valueSetMatchers = valueSetMatchers;
+        _scannedOrdinals = scannedOrdinals;
+        _compilationThreshold = compilationThreshold;
+        _executor = executor;
+        _lookupCount = new AtomicInteger();
+        _compilationStarted = new AtomicBoolean();
+        _compiledMatchers = new AtomicReference<>();
+    }
+
+    boolean isCompiled() {
+        return _compiledMatchers.get() != null;
+    }
+
+    void addMatchingOrdinals(final int[] scannedOrdinals, final Object[] conditionSetValues, final BitSet[] indexedMatchingOrdinals, final IntList ordinals) {
+        MethodHandle[] compiledMatchers = _compiledMatchers.get();
+        if (compiledMatchers == null) {
+            for (int ordinal : scannedOrdinals) {
+                if (_valueSetMatchers.get(ordinal).isMatchDefinedConditions(conditionSetValues, indexedMatchingOrdinals)) {
+                    ordinals.add(ordinal);
+                }
+            }
+            countLookup();
+        } else {
+            this.<RuntimeException>addCompiledMatchingOrdinals(compiledMatchers, scannedOrdinals, conditionSetValues, indexedMatchingOrdinals, ordinals);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "PMD.AvoidCatchingThrowable"})
+    private <E extends Throwable> void addCompiledMatchingOrdinals(final MethodHandle[] compiledMatchers, final int[] scannedOrdinals, final Object[] conditionSetValues, final BitSet[] indexedMatchingOrdinals, final IntList ordinals) throws E {
+        try {
+            for (int ordinal : scannedOrdinals) {
+                if ((boolean) compiledMatchers[ordinal].invokeExact(conditionSetValues, indexedMatchingOrdinals)) {
+                    ordinals.add(ordinal);
+                }
+            }
+        } catch (Throwable ex) {
+            throw (E) ex;
+        }
+    }
+
+    private void countLookup() {
+        if (_compilationThreshold > 0 && !_compilationStarted.get() && _lookupCount.incrementAndGet() == _compilationThreshold) {
+            _compilationStarted.set(true);
+            _executor.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    compile();
+                }
+
+            });
+        }
+    }
+
+    void compile() {
+        MethodHandle[] compiledMatchers = new MethodHandle[_valueSetMatchers.size()];
+        for (int ordinal : _scannedOrdinals) {
+            compiledMatchers[ordinal] = ValueSetMatcherCompiler.compile(_valueSetMatchers.get(ordinal));
+        }
+        _compilationStarted.set(true);
+        _compiledMatchers.set(compiledMatchers);
+    }
+
+}
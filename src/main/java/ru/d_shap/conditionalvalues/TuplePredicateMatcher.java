@@ -0,0 +1,77 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Set;
+
+/**
+ * Generic {@link ru.d_shap.conditionalvalues.ConditionMatcher}, evaluating the
+ * {@link ru.d_shap.conditionalvalues.TuplePredicate} object with the {@link ru.d_shap.conditionalvalues.Predicate} object.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class TuplePredicateMatcher implements ConditionMatcher {
+
+    private final String _conditionName;
+
+    private final TuplePredicate _tuplePredicate;
+
+    private final Predicate _predicate;
+
+    private final Set<Object> _valueSetValues;
+
+    TuplePredicateMatcher(final String conditionName, final TuplePredicate tuplePredicate, final Predicate predicate, final Set<Object> valueSetValues) {
+        super();
+        _conditionName = conditionName;
+        _tuplePredicate = tuplePredicate;
+        _predicate = predicate;
+        _valueSetValues = valueSetValues;
+    }
+
+    String getConditionName() {
+        return _conditionName;
+    }
+
+    TuplePredicate getTuplePredicate() {
+        return _tuplePredicate;
+    }
+
+    Predicate getPredicate() {
+        return _predicate;
+    }
+
+    Set<Object> getValueSetValues() {
+        return _valueSetValues;
+    }
+
+    @Override
+    public boolean isMatch(final Object conditionSetValue) {
+        if (_tuplePredicate == null || _predicate == null) {
+            return false;
+        }
+        return _tuplePredicate.evaluate(_conditionName, _predicate, conditionSetValue, _valueSetValues);
+    }
+
+    @Override
+    public String toString() {
+        return _conditionName + "=" + _valueSetValues;
+    }
+
+}
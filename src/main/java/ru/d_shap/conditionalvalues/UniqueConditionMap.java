@@ -0,0 +1,128 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <p>
+ * Unmodifiable map of the condition names to the condition values of the
+ * {@link ru.d_shap.conditionalvalues.ValueSetUniqueCondition} object.
+ * </p>
+ * <p>
+ * The sorted condition names are shared by all maps of the same {@link ru.d_shap.conditionalvalues.ValueSet}
+ * object, so every map holds only the array of the condition values. The map is iterated in the order of
+ * the condition names.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class UniqueConditionMap extends AbstractMap<String, Object> {
+
+    private final String[] _conditionNames;
+
+    private final Object[] _conditionValues;
+
+    UniqueConditionMap(final String[] conditionNames, final Object[] conditionValues) {
+        super();
+        _conditionNames = conditionNames;
+        _conditionValues = conditionValues;
+    }
+
+    @Override
+    public int size() {
+        return _conditionNames.length;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return getIndex(key) >= 0;
+    }
+
+    @Override
+    public Object get(final Object key) {
+        int index = getIndex(key);
+        if (index < 0) {
+            return null;
+        } else {
+            return _conditionValues[index];
+        }
+    }
+
+    private int getIndex(final Object key) {
+        if (key instanceof String) {
+            return Arrays.binarySearch(_conditionNames, key);
+        } else {
+            return -1;
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return createEntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return _conditionNames.length;
+            }
+
+        };
+    }
+
+    private Iterator<Map.Entry<String, Object>> createEntryIterator() {
+        return new Iterator<Map.Entry<String, Object>>() {
+
+            private int _index;
+
+            @Override
+            public boolean hasNext() {
+                return _index < _conditionNames.length;
+            }
+
+            @Override
+            public Map.Entry<String, Object> next() {
+                if (_index >= _conditionNames.length) {
+                    throw new NoSuchElementException();
+                }
+                Map.Entry<String, Object> entry = new AbstractMap.SimpleImmutableEntry<>(_conditionNames[_index], _conditionValues[_index]);
+                _index++;
+                return entry;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,57 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * Codec to store the condition values and the values of the {@link ru.d_shap.conditionalvalues.ValueSet}
+ * objects in the binary snapshot of the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+ *
+ * @param <V> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface ValueCodec<V> {
+
+    /**
+     * Get the class of the values, that are stored by this codec.
+     *
+     * @return the class of the values.
+     */
+    Class<V> getValueClass();
+
+    /**
+     * Encode the specified value.
+     *
+     * @param value the specified value.
+     *
+     * @return the encoded value.
+     */
+    byte[] encode(V value);
+
+    /**
+     * Decode the value.
+     *
+     * @param bytes the encoded value.
+     *
+     * @return the decoded value.
+     */
+    V decode(byte[] bytes);
+
+}
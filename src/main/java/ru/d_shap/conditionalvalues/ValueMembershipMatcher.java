@@ -0,0 +1,51 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Set;
+
+/**
+ * {@link ru.d_shap.conditionalvalues.ConditionMatcher} for the
+ * {@link ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate} object with the
+ * {@link ru.d_shap.conditionalvalues.predicate.EqualsPredicate} object. The condition value matches
+ * if the set of values contains it.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ValueMembershipMatcher implements ConditionMatcher {
+
+    private final Set<Object> _valueSetValues;
+
+    ValueMembershipMatcher(final Set<Object> valueSetValues) {
+        super();
+        _valueSetValues = valueSetValues;
+    }
+
+    @Override
+    public boolean isMatch(final Object conditionSetValue) {
+        return _valueSetValues.contains(conditionSetValue);
+    }
+
+    @Override
+    public String toString() {
+        return _valueSetValues.toString();
+    }
+
+}
@@ -28,6 +28,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import ru.d_shap.conditionalvalues.predicate.AllValuesMatchTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.EqualsPredicate;
+import ru.d_shap.conditionalvalues.predicate.StringEqualsIgnoreCasePredicate;
+
 /**
  * Class represents a distinct condition with a corresponding values for this condition.
  *
@@ -49,6 +54,8 @@ public final class ValueSet<T> {
 
     private final List<T> _values;
 
+    private final Object[] _valueArray;
+
     ValueSet(final String id, final Predicate predicate, final Map<String, Predicate> predicates, final Map<String, Set<Object>> conditions, final List<T> values) {
         super();
         _id = id;
@@ -57,6 +64,7 @@ public final class ValueSet<T> {
         _conditions = createConditions(conditions);
         _conditionNames = createConditionNames();
         _values = createValues(values);
+        _valueArray = _values.toArray();
     }
 
     private Map<String, Predicate> createPredicates(final Map<String, Predicate> predicates) {
@@ -150,6 +158,14 @@ public final class ValueSet<T> {
         }
     }
 
+    Predicate getPredicate() {
+        return _predicate;
+    }
+
+    Map<String, Predicate> getPredicates() {
+        return _predicates;
+    }
+
     boolean isMatchConditions(final ConditionSet conditionSet, final TuplePredicate tuplePredicate, final Map<String, Predicate> predicates, final Predicate predicate) {
         if (conditionSet == null || tuplePredicate == null) {
             return false;
@@ -158,20 +174,54 @@ public final class ValueSet<T> {
         Iterator<String> conditionNameIterator = conditionSet.nameIterator();
         while (conditionNameIterator.hasNext()) {
             String conditionName = conditionNameIterator.next();
-            Predicate conditionPredicate = getConditionPredicate(conditionName, predicates, predicate);
             Object conditionSetValue = conditionSet.getValue(conditionName);
-            Set<Object> valueSetValues = _conditions.get(conditionName);
-            if (conditionPredicate == null || valueSetValues == null) {
-                continue;
-            }
-            if (tuplePredicate.evaluate(conditionName, conditionPredicate, conditionSetValue, valueSetValues)) {
+            if (isMatchCondition(conditionName, conditionSetValue, tuplePredicate, predicates, predicate)) {
                 matchCount++;
             }
         }
         return matchCount == _conditions.size();
     }
 
-    private Predicate getConditionPredicate(final String conditionName, final Map<String, Predicate> predicates, final Predicate predicate) {
+    boolean isMatchCondition(final String conditionName, final Object conditionSetValue, final TuplePredicate tuplePredicate, final Map<String, Predicate> predicates, final Predicate predicate) {
+        Set<Object> valueSetValues = _conditions.get(conditionName);
+        if (valueSetValues == null) {
+            return false;
+        }
+        Predicate conditionPredicate = getConditionPredicate(conditionName, predicates, predicate);
+        if (conditionPredicate == null) {
+            return false;
+        }
+        return tuplePredicate.evaluate(conditionName, conditionPredicate, conditionSetValue, valueSetValues);
+    }
+
+    ConditionMatcher createConditionMatcher(final String conditionName, final TuplePredicate tuplePredicate, final Map<String, Predicate> predicates, final Predicate predicate) {
+        Set<Object> valueSetValues = getAllConditionValues(conditionName);
+        Predicate conditionPredicate = getConditionPredicate(conditionName, predicates, predicate);
+        ConditionMatcher tuplePredicateMatcher = new TuplePredicateMatcher(conditionName, tuplePredicate, conditionPredicate, valueSetValues);
+        if (tuplePredicate instanceof AnyValueMatchesTuplePredicate) {
+            if (conditionPredicate instanceof EqualsPredicate) {
+                return new ValueMembershipMatcher(valueSetValues);
+            }
+            if (conditionPredicate instanceof StringEqualsIgnoreCasePredicate && isStringValues(valueSetValues)) {
+                return new FoldedValueMembershipMatcher(valueSetValues, tuplePredicateMatcher);
+            }
+        }
+        if (tuplePredicate instanceof AllValuesMatchTuplePredicate && conditionPredicate instanceof EqualsPredicate && valueSetValues.size() == 1) {
+            return new SingleValueMatcher(valueSetValues.iterator().next());
+        }
+        return tuplePredicateMatcher;
+    }
+
+    private boolean isStringValues(final Set<Object> valueSetValues) {
+        for (Object valueSetValue : valueSetValues) {
+            if (!(valueSetValue instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Predicate getConditionPredicate(final String conditionName, final Map<String, Predicate> predicates, final Predicate predicate) {
         Predicate valueSetPredicate = _predicates.get(conditionName);
         if (valueSetPredicate != null) {
             return valueSetPredicate;
@@ -207,30 +257,23 @@ public final class ValueSet<T> {
         if (_conditions.isEmpty()) {
             return Collections.emptyList();
         } else {
-            List<ValueSetUniqueCondition> currentUniqueConditions = new ArrayList<>();
-            currentUniqueConditions.add(new ValueSetUniqueCondition(_id));
-            for (Map.Entry<String, Set<Object>> entry : _conditions.entrySet()) {
-                currentUniqueConditions = addConditionValuesToCurrentUniqueConditions(currentUniqueConditions, entry.getKey(), entry.getValue());
+            List<ValueSetUniqueCondition> result = new ArrayList<>();
+            ValueSetUniqueConditionIterator valueSetUniqueConditionIterator = new ValueSetUniqueConditionIterator(Collections.singletonList(this));
+            while (valueSetUniqueConditionIterator.hasNext()) {
+                result.add(valueSetUniqueConditionIterator.next());
             }
-            return Collections.unmodifiableList(currentUniqueConditions);
+            return Collections.unmodifiableList(result);
         }
     }
 
-    private List<ValueSetUniqueCondition> addConditionValuesToCurrentUniqueConditions(final List<ValueSetUniqueCondition> currentUniqueConditions, final String conditionName, final Set<Object> conditionValues) {
-        List<ValueSetUniqueCondition> newUniqueConditions = new ArrayList<>();
-        for (ValueSetUniqueCondition currentUniqueCondition : currentUniqueConditions) {
-            for (Object conditionValue : conditionValues) {
-                ValueSetUniqueCondition newUniqueCondition = new ValueSetUniqueCondition(currentUniqueCondition, conditionName, conditionValue);
-                newUniqueConditions.add(newUniqueCondition);
-            }
-        }
-        return newUniqueConditions;
-    }
-
     List<T> getValues() {
         return _values;
     }
 
+    Object[] getValueArray() {
+        return _valueArray;
+    }
+
     @Override
     public String toString() {
         String conditions = _conditions.toString();
@@ -0,0 +1,123 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.BitSet;
+
+/**
+ * <p>
+ * Matcher of all conditions of the {@link ru.d_shap.conditionalvalues.ValueSet} object.
+ * </p>
+ * <p>
+ * The {@link ru.d_shap.conditionalvalues.ConditionMatcher} objects are resolved when the
+ * {@link ru.d_shap.conditionalvalues.ConditionalValues} object is created, and are stored in the array
+ * together with the condition IDs, so the lookup matches the conditions without any map lookups.
+ * The conditions, evaluated by the {@link ru.d_shap.conditionalvalues.ConditionIndex} objects, are taken
+ * from the lookup results of these indexes.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ValueSetMatcher {
+
+    private final int _ordinal;
+
+    private final int[] _conditionIds;
+
+    private final ConditionMatcher[] _conditionMatchers;
+
+    private final boolean[] _conditionIndexed;
+
+    ValueSetMatcher(final int ordinal, final int[] conditionIds, final ConditionMatcher[] conditionMatchers, final boolean[] conditionIndexed) {
+        super();
+        _ordinal = ordinal;
+        _conditionIds = conditionIds;
+        _conditionMatchers = conditionMatchers;
+        _conditionIndexed = conditionIndexed;
+    }
+
+    int getOrdinal() {
+        return _ordinal;
+    }
+
+    int getConditionCount() {
+        return _conditionIds.length;
+    }
+
+    int getConditionId(final int index) {
+        return _conditionIds[index];
+    }
+
+    ConditionMatcher getConditionMatcher(final int index) {
+        return _conditionMatchers[index];
+    }
+
+    boolean isConditionIndexed(final int index) {
+        return _conditionIndexed[index];
+    }
+
+    boolean isMatch(final Object[] conditionSetValues, final BitSet[] indexedMatchingOrdinals) {
+        if (!isAllConditionsDefined(conditionSetValues)) {
+            return false;
+        }
+        return isMatchDefinedConditions(conditionSetValues, indexedMatchingOrdinals);
+    }
+
+    boolean isMatchDefinedConditions(final Object[] conditionSetValues, final BitSet[] indexedMatchingOrdinals) {
+        for (int i = 0; i < _conditionIds.length; i++) {
+            int conditionId = _conditionIds[i];
+            Object conditionSetValue = conditionSetValues[conditionId];
+            BitSet matchingOrdinals = indexedMatchingOrdinals[conditionId];
+            boolean match;
+            if (_conditionIndexed[i] && matchingOrdinals != null) {
+                match = matchingOrdinals.get(_ordinal);
+            } else {
+                match = _conditionMatchers[i].isMatch(conditionSetValue);
+            }
+            if (!match) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void retainMatchingRows(final Object[][] conditionSetValueColumns, final BitSet rows) {
+        for (int i = 0; i < _conditionIds.length && !rows.isEmpty(); i++) {
+            Object[] conditionSetValueColumn = conditionSetValueColumns[_conditionIds[i]];
+            ConditionMatcher conditionMatcher = _conditionMatchers[i];
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                Object conditionSetValue = conditionSetValueColumn[row];
+                if (conditionSetValue == null || !conditionMatcher.isMatch(conditionSetValue)) {
+                    rows.clear(row);
+                }
+            }
+        }
+    }
+
+    private boolean isAllConditionsDefined(final Object[] conditionSetValues) {
+        for (int conditionId : _conditionIds) {
+            if (conditionSetValues[conditionId] == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,165 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import ru.d_shap.conditionalvalues.predicate.AllValuesMatchTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
+
+/**
+ * <p>
+ * Compiler of the {@link ru.d_shap.conditionalvalues.ValueSetMatcher} object into the composed
+ * {@link java.lang.invoke.MethodHandle} object.
+ * </p>
+ * <p>
+ * The method handle evaluates the conditions of the {@link ru.d_shap.conditionalvalues.ValueSet} object
+ * one by one, and the {@link ru.d_shap.conditionalvalues.Predicate} object, the condition values and the
+ * condition names are bound to the method handle as the constants. The tuple predicates for any value and
+ * for all values are unrolled into the chain of the predicate calls, so the JIT compiler can inline the
+ * predicate chain of every condition. The other tuple predicates and the
+ * {@link ru.d_shap.conditionalvalues.ConditionMatcher} objects, that can not be specialised, are bound to
+ * the method handle as is, and are evaluated the same way as without the compilation.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ValueSetMatcherCompiler {
+
+    static final int MAX_UNROLLED_VALUE_COUNT = 16;
+
+    private static final MethodHandle OBJECT_EQUALS = findVirtual(Object.class, "equals", MethodType.methodType(boolean.class, Object.class));
+
+    private static final MethodHandle CONDITION_MATCHER_IS_MATCH = findVirtual(ConditionMatcher.class, "isMatch", MethodType.methodType(boolean.class, Object.class));
+
+    private static final MethodHandle PREDICATE_EVALUATE = findVirtual(Predicate.class, "evaluate", MethodType.methodType(boolean.class, String.class, Object.class, Object.class));
+
+    private static final MethodHandle IS_INDEXED_MATCH = findStatic("isIndexedMatch", MethodType.methodType(boolean.class, ConditionMatcher.class, int.class, int.class, Object[].class, BitSet[].class));
+
+    private static final MethodHandle ARRAY_ELEMENT_GETTER = MethodHandles.arrayElementGetter(Object[].class);
+
+    private ValueSetMatcherCompiler() {
+        super();
+    }
+
+    private static MethodHandle findVirtual(final Class<?> type, final String name, final MethodType methodType) {
+        try {
+            return MethodHandles.lookup().findVirtual(type, name, methodType);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static MethodHandle findStatic(final String name, final MethodType methodType) {
+        try {
+            return MethodHandles.lookup().findStatic(ValueSetMatcherCompiler.class, name, methodType);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static MethodHandle compile(final ValueSetMatcher valueSetMatcher) {
+        MethodHandle result = createConstant(true, Object[].class, BitSet[].class);
+        MethodHandle noMatch = createConstant(false, Object[].class, BitSet[].class);
+        for (int i = valueSetMatcher.getConditionCount() - 1; i >= 0; i--) {
+            MethodHandle conditionMatch = createConditionMatch(valueSetMatcher, i);
+            result = MethodHandles.guardWithTest(conditionMatch, result, noMatch);
+        }
+        return result;
+    }
+
+    private static MethodHandle createConditionMatch(final ValueSetMatcher valueSetMatcher, final int index) {
+        int conditionId = valueSetMatcher.getConditionId(index);
+        ConditionMatcher conditionMatcher = valueSetMatcher.getConditionMatcher(index);
+        if (valueSetMatcher.isConditionIndexed(index)) {
+            return MethodHandles.insertArguments(IS_INDEXED_MATCH, 0, conditionMatcher, conditionId, valueSetMatcher.getOrdinal());
+        }
+        MethodHandle conditionValueGetter = MethodHandles.insertArguments(ARRAY_ELEMENT_GETTER, 1, conditionId);
+        MethodHandle conditionValueMatch = MethodHandles.filterArguments(createConditionValueMatch(conditionMatcher), 0, conditionValueGetter);
+        return MethodHandles.dropArguments(conditionValueMatch, 1, BitSet[].class);
+    }
+
+    static MethodHandle createConditionValueMatch(final ConditionMatcher conditionMatcher) {
+        if (conditionMatcher instanceof SingleValueMatcher) {
+            return OBJECT_EQUALS.bindTo(((SingleValueMatcher) conditionMatcher).getValueSetValue());
+        }
+        if (conditionMatcher instanceof TuplePredicateMatcher) {
+            MethodHandle result = createTuplePredicateMatch((TuplePredicateMatcher) conditionMatcher);
+            if (result != null) {
+                return result;
+            }
+        }
+        return CONDITION_MATCHER_IS_MATCH.bindTo(conditionMatcher);
+    }
+
+    private static MethodHandle createTuplePredicateMatch(final TuplePredicateMatcher tuplePredicateMatcher) {
+        TuplePredicate tuplePredicate = tuplePredicateMatcher.getTuplePredicate();
+        Predicate predicate = tuplePredicateMatcher.getPredicate();
+        if (tuplePredicate == null || predicate == null) {
+            return createConstant(false, Object.class);
+        }
+        List<Object> valueSetValues = new ArrayList<>(tuplePredicateMatcher.getValueSetValues());
+        if (valueSetValues.size() > MAX_UNROLLED_VALUE_COUNT) {
+            return null;
+        }
+        MethodHandle predicateEvaluate = MethodHandles.insertArguments(PREDICATE_EVALUATE.bindTo(predicate), 0, tuplePredicateMatcher.getConditionName());
+        if (tuplePredicate instanceof AnyValueMatchesTuplePredicate) {
+            MethodHandle match = createConstant(true, Object.class);
+            MethodHandle result = createConstant(false, Object.class);
+            for (int i = valueSetValues.size() - 1; i >= 0; i--) {
+                MethodHandle valueMatch = MethodHandles.insertArguments(predicateEvaluate, 1, valueSetValues.get(i));
+                result = MethodHandles.guardWithTest(valueMatch, match, result);
+            }
+            return result;
+        }
+        if (tuplePredicate instanceof AllValuesMatchTuplePredicate) {
+            MethodHandle noMatch = createConstant(false, Object.class);
+            if (valueSetValues.isEmpty()) {
+                return noMatch;
+            }
+            MethodHandle result = createConstant(true, Object.class);
+            for (int i = valueSetValues.size() - 1; i >= 0; i--) {
+                MethodHandle valueMatch = MethodHandles.insertArguments(predicateEvaluate, 1, valueSetValues.get(i));
+                result = MethodHandles.guardWithTest(valueMatch, result, noMatch);
+            }
+            return result;
+        }
+        return null;
+    }
+
+    private static MethodHandle createConstant(final boolean value, final Class<?>... parameterTypes) {
+        return MethodHandles.dropArguments(MethodHandles.constant(boolean.class, value), 0, parameterTypes);
+    }
+
+    static boolean isIndexedMatch(final ConditionMatcher conditionMatcher, final int conditionId, final int ordinal, final Object[] conditionSetValues, final BitSet[] indexedMatchingOrdinals) {
+        BitSet matchingOrdinals = indexedMatchingOrdinals[conditionId];
+        if (matchingOrdinals == null) {
+            return conditionMatcher.isMatch(conditionSetValues[conditionId]);
+        } else {
+            return matchingOrdinals.get(ordinal);
+        }
+    }
+
+}
@@ -0,0 +1,351 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ru.d_shap.conditionalvalues.predicate.AllValuesMatchTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.EqualsPredicate;
+import ru.d_shap.conditionalvalues.predicate.PatternFindPredicate;
+import ru.d_shap.conditionalvalues.predicate.PatternMatchesPredicate;
+import ru.d_shap.conditionalvalues.predicate.StringContainsIgnoreCasePredicate;
+import ru.d_shap.conditionalvalues.predicate.StringContainsPredicate;
+import ru.d_shap.conditionalvalues.predicate.StringEqualsIgnoreCasePredicate;
+
+/**
+ * <p>
+ * Minimizer of the {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+ * </p>
+ * <p>
+ * The {@link ru.d_shap.conditionalvalues.ValueSet} objects, that never match, are removed. The
+ * {@link ru.d_shap.conditionalvalues.ValueSet} objects with the same ID, condition names, predicates and values
+ * are merged. The exact copies are folded into one {@link ru.d_shap.conditionalvalues.ValueSet} object, that
+ * repeats the values once for every copy. If the
+ * {@link ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate} object is used, and the conditions
+ * differ in the disjoint values of one condition name with the
+ * {@link ru.d_shap.conditionalvalues.predicate.EqualsPredicate} object only, then the condition values of this
+ * condition name are united: the {@link ru.d_shap.conditionalvalues.ConditionSet} object matches at most one
+ * of these {@link ru.d_shap.conditionalvalues.ValueSet} objects. So the lookup returns every value as many
+ * times as before the minimization. The merged {@link ru.d_shap.conditionalvalues.ValueSet} object takes the
+ * position of the first source {@link ru.d_shap.conditionalvalues.ValueSet} object.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ValueSetMinimizer<T> {
+
+    private final TuplePredicate _tuplePredicate;
+
+    private final Predicate _predicate;
+
+    private final Map<String, Predicate> _predicates;
+
+    private final List<ValueSet<T>> _valueSets;
+
+    private final List<ValueSet<T>> _unmatchableValueSets;
+
+    private final List<ValueSet<T>> _duplicateValueSets;
+
+    private final Map<ValueSet<T>, List<ValueSet<T>>> _sourceValueSets;
+
+    private final Map<ValueSet<T>, Integer> _multiplicities;
+
+    private final MinimizationReport<T> _minimizationReport;
+
+    ValueSetMinimizer(final TuplePredicate tuplePredicate, final Predicate predicate, final Map<String, Predicate> predicates, final List<ValueSet<T>> valueSets) {
+        super();
+        _tuplePredicate = createTuplePredicate(tuplePredicate);
+        _predicate = createPredicate(predicate);
+        _predicates = createPredicates(predicates);
+        _valueSets = new ArrayList<>();
+        _unmatchableValueSets = new ArrayList<>();
+        _duplicateValueSets = new ArrayList<>();
+        _sourceValueSets = new HashMap<>();
+        _multiplicities = new HashMap<>();
+        int valueSetCount = minimize(valueSets);
+        Map<ValueSet<T>, List<ValueSet<T>>> mergedValueSets = createMergedValueSets();
+        _minimizationReport = new MinimizationReport<>(valueSetCount, _valueSets.size(), _unmatchableValueSets, _duplicateValueSets, mergedValueSets);
+    }
+
+    private TuplePredicate createTuplePredicate(final TuplePredicate tuplePredicate) {
+        if (tuplePredicate == null) {
+            return new AnyValueMatchesTuplePredicate();
+        } else {
+            return tuplePredicate;
+        }
+    }
+
+    private Predicate createPredicate(final Predicate predicate) {
+        if (predicate == null) {
+            return new EqualsPredicate();
+        } else {
+            return predicate;
+        }
+    }
+
+    private Map<String, Predicate> createPredicates(final Map<String, Predicate> predicates) {
+        if (predicates == null) {
+            return new HashMap<>();
+        } else {
+            return new HashMap<>(predicates);
+        }
+    }
+
+    private int minimize(final List<ValueSet<T>> valueSets) {
+        int valueSetCount = 0;
+        if (valueSets != null) {
+            for (ValueSet<T> valueSet : valueSets) {
+                if (valueSet != null) {
+                    valueSetCount++;
+                    if (isUnmatchable(valueSet)) {
+                        _unmatchableValueSets.add(valueSet);
+                    } else {
+                        addValueSet(valueSet);
+                    }
+                }
+            }
+        }
+        return valueSetCount;
+    }
+
+    private boolean isUnmatchable(final ValueSet<T> valueSet) {
+        if (!(_tuplePredicate instanceof AllValuesMatchTuplePredicate)) {
+            return false;
+        }
+        for (String conditionName : valueSet.getAllConditionNames()) {
+            Predicate conditionPredicate = valueSet.getConditionPredicate(conditionName, _predicates, _predicate);
+            if (conditionPredicate instanceof EqualsPredicate && valueSet.getAllConditionValues(conditionName).size() > 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addValueSet(final ValueSet<T> valueSet) {
+        ValueSet<T> currentValueSet = valueSet;
+        int position = -1;
+        int index = getMergeableIndex(currentValueSet, position);
+        while (index >= 0) {
+            ValueSet<T> valueSetAtIndex = _valueSets.get(index);
+            String differentConditionName = getDifferentConditionName(valueSetAtIndex, currentValueSet);
+            if (differentConditionName == null) {
+                if (currentValueSet == valueSet) {
+                    _duplicateValueSets.add(currentValueSet);
+                }
+                currentValueSet = foldValueSets(valueSetAtIndex, currentValueSet);
+            } else {
+                currentValueSet = mergeValueSets(valueSetAtIndex, currentValueSet, differentConditionName);
+            }
+            if (position < 0) {
+                _valueSets.set(index, currentValueSet);
+                position = index;
+            } else {
+                _valueSets.set(Math.min(index, position), currentValueSet);
+                _valueSets.remove(Math.max(index, position));
+                position = Math.min(index, position);
+            }
+            index = getMergeableIndex(currentValueSet, position);
+        }
+        if (position < 0) {
+            _valueSets.add(currentValueSet);
+        }
+    }
+
+    private int getMergeableIndex(final ValueSet<T> valueSet, final int position) {
+        for (int i = 0; i < _valueSets.size(); i++) {
+            if (i != position && isMergeable(_valueSets.get(i), valueSet)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isMergeable(final ValueSet<T> valueSet1, final ValueSet<T> valueSet2) {
+        if (!isSameIdentity(valueSet1, valueSet2)) {
+            return false;
+        }
+        String differentConditionName = getDifferentConditionName(valueSet1, valueSet2);
+        if (differentConditionName == null) {
+            return true;
+        }
+        if (!(_tuplePredicate instanceof AnyValueMatchesTuplePredicate) || getDifferenceCount(valueSet1, valueSet2) > 1 || getMultiplicity(valueSet1) != getMultiplicity(valueSet2)) {
+            return false;
+        }
+        Predicate conditionPredicate = valueSet1.getConditionPredicate(differentConditionName, _predicates, _predicate);
+        return conditionPredicate instanceof EqualsPredicate && Collections.disjoint(valueSet1.getAllConditionValues(differentConditionName), valueSet2.getAllConditionValues(differentConditionName));
+    }
+
+    private int getDifferenceCount(final ValueSet<T> valueSet1, final ValueSet<T> valueSet2) {
+        int differenceCount = 0;
+        for (String conditionName : valueSet1.getAllConditionNames()) {
+            if (!valueSet1.getAllConditionValues(conditionName).equals(valueSet2.getAllConditionValues(conditionName))) {
+                differenceCount++;
+            }
+        }
+        return differenceCount;
+    }
+
+    private int getMultiplicity(final ValueSet<T> valueSet) {
+        Integer multiplicity = _multiplicities.get(valueSet);
+        if (multiplicity == null) {
+            return 1;
+        } else {
+            return multiplicity;
+        }
+    }
+
+    private boolean isSameIdentity(final ValueSet<T> valueSet1, final ValueSet<T> valueSet2) {
+        if (!isEqualId(valueSet1.getId(), valueSet2.getId())) {
+            return false;
+        }
+        if (!valueSet1.getAllConditionNames().equals(valueSet2.getAllConditionNames())) {
+            return false;
+        }
+        if (!valueSet1.getValues().equals(valueSet2.getValues())) {
+            return false;
+        }
+        for (String conditionName : valueSet1.getAllConditionNames()) {
+            Predicate conditionPredicate1 = valueSet1.getConditionPredicate(conditionName, _predicates, _predicate);
+            Predicate conditionPredicate2 = valueSet2.getConditionPredicate(conditionName, _predicates, _predicate);
+            if (!isEquivalentPredicate(conditionPredicate1, conditionPredicate2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isEqualId(final String id1, final String id2) {
+        if (id1 == null) {
+            return id2 == null;
+        } else {
+            return id1.equals(id2);
+        }
+    }
+
+    private boolean isEquivalentPredicate(final Predicate predicate1, final Predicate predicate2) {
+        if (predicate1 == predicate2) {
+            return true;
+        }
+        return predicate1.getClass() == predicate2.getClass() && isStatelessPredicate(predicate1);
+    }
+
+    private boolean isStatelessPredicate(final Predicate predicate) {
+        return predicate instanceof EqualsPredicate || predicate instanceof StringEqualsIgnoreCasePredicate || predicate instanceof StringContainsPredicate || predicate instanceof StringContainsIgnoreCasePredicate || predicate instanceof PatternMatchesPredicate || predicate instanceof PatternFindPredicate;
+    }
+
+    private String getDifferentConditionName(final ValueSet<T> valueSet1, final ValueSet<T> valueSet2) {
+        for (String conditionName : valueSet1.getAllConditionNames()) {
+            if (!valueSet1.getAllConditionValues(conditionName).equals(valueSet2.getAllConditionValues(conditionName))) {
+                return conditionName;
+            }
+        }
+        return null;
+    }
+
+    private ValueSet<T> foldValueSets(final ValueSet<T> valueSet1, final ValueSet<T> valueSet2) {
+        List<ValueSet<T>> sourceValueSets = new ArrayList<>();
+        addSourceValueSets(valueSet1, sourceValueSets);
+        addSourceValueSets(valueSet2, sourceValueSets);
+        _sourceValueSets.put(valueSet1, sourceValueSets);
+        int multiplicity = getMultiplicity(valueSet1) + getMultiplicity(valueSet2);
+        _multiplicities.remove(valueSet2);
+        _multiplicities.put(valueSet1, multiplicity);
+        return valueSet1;
+    }
+
+    private ValueSet<T> mergeValueSets(final ValueSet<T> valueSet1, final ValueSet<T> valueSet2, final String differentConditionName) {
+        Map<String, Set<Object>> conditions = createConditions(valueSet1);
+        conditions.get(differentConditionName).addAll(valueSet2.getAllConditionValues(differentConditionName));
+        ValueSet<T> result = new ValueSet<>(valueSet1.getId(), valueSet1.getPredicate(), valueSet1.getPredicates(), conditions, valueSet1.getValues());
+        List<ValueSet<T>> sourceValueSets = new ArrayList<>();
+        addSourceValueSets(valueSet1, sourceValueSets);
+        addSourceValueSets(valueSet2, sourceValueSets);
+        _sourceValueSets.put(result, sourceValueSets);
+        int multiplicity = getMultiplicity(valueSet1);
+        _multiplicities.remove(valueSet1);
+        _multiplicities.remove(valueSet2);
+        if (multiplicity > 1) {
+            _multiplicities.put(result, multiplicity);
+        }
+        return result;
+    }
+
+    private Map<String, Set<Object>> createConditions(final ValueSet<T> valueSet) {
+        Map<String, Set<Object>> result = new HashMap<>();
+        for (String conditionName : valueSet.getAllConditionNames()) {
+            result.put(conditionName, new HashSet<>(valueSet.getAllConditionValues(conditionName)));
+        }
+        return result;
+    }
+
+    private void addSourceValueSets(final ValueSet<T> valueSet, final List<ValueSet<T>> sourceValueSets) {
+        List<ValueSet<T>> valueSetSourceValueSets = _sourceValueSets.remove(valueSet);
+        if (valueSetSourceValueSets == null) {
+            sourceValueSets.add(valueSet);
+        } else {
+            sourceValueSets.addAll(valueSetSourceValueSets);
+        }
+    }
+
+    private Map<ValueSet<T>, List<ValueSet<T>>> createMergedValueSets() {
+        Map<ValueSet<T>, List<ValueSet<T>>> result = new LinkedHashMap<>();
+        for (int i = 0; i < _valueSets.size(); i++) {
+            ValueSet<T> valueSet = _valueSets.get(i);
+            List<ValueSet<T>> sourceValueSets = _sourceValueSets.get(valueSet);
+            if (sourceValueSets != null) {
+                ValueSet<T> repeatedValueSet = createRepeatedValueSet(valueSet, getMultiplicity(valueSet));
+                _valueSets.set(i, repeatedValueSet);
+                result.put(repeatedValueSet, sourceValueSets);
+            }
+        }
+        return result;
+    }
+
+    private ValueSet<T> createRepeatedValueSet(final ValueSet<T> valueSet, final int multiplicity) {
+        if (multiplicity == 1) {
+            return valueSet;
+        } else {
+            List<T> values = new ArrayList<>();
+            for (int i = 0; i < multiplicity; i++) {
+                values.addAll(valueSet.getValues());
+            }
+            return new ValueSet<>(valueSet.getId(), valueSet.getPredicate(), valueSet.getPredicates(), createConditions(valueSet), values);
+        }
+    }
+
+    List<ValueSet<T>> getValueSets() {
+        return _valueSets;
+    }
+
+    MinimizationReport<T> getMinimizationReport() {
+        return _minimizationReport;
+    }
+
+}
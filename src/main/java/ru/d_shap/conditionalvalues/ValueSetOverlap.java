@@ -0,0 +1,78 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * Class represents two overlapping {@link ru.d_shap.conditionalvalues.ValueSet} objects, that match the same
+ * {@link ru.d_shap.conditionalvalues.ConditionSet} object, and none of them is more specific than the other.
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueSetOverlap<T> {
+
+    private final ValueSet<T> _firstValueSet;
+
+    private final ValueSet<T> _secondValueSet;
+
+    private final ConditionSet _conditionSet;
+
+    ValueSetOverlap(final ValueSet<T> firstValueSet, final ValueSet<T> secondValueSet, final ConditionSet conditionSet) {
+        super();
+        _firstValueSet = firstValueSet;
+        _secondValueSet = secondValueSet;
+        _conditionSet = conditionSet;
+    }
+
+    /**
+     * Get the first overlapping {@link ru.d_shap.conditionalvalues.ValueSet} object.
+     *
+     * @return the first overlapping {@link ru.d_shap.conditionalvalues.ValueSet} object.
+     */
+    public ValueSet<T> getFirstValueSet() {
+        return _firstValueSet;
+    }
+
+    /**
+     * Get the second overlapping {@link ru.d_shap.conditionalvalues.ValueSet} object.
+     *
+     * @return the second overlapping {@link ru.d_shap.conditionalvalues.ValueSet} object.
+     */
+    public ValueSet<T> getSecondValueSet() {
+        return _secondValueSet;
+    }
+
+    /**
+     * Get the example {@link ru.d_shap.conditionalvalues.ConditionSet} object, that matches both overlapping
+     * {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+     *
+     * @return the example {@link ru.d_shap.conditionalvalues.ConditionSet} object.
+     */
+    public ConditionSet getConditionSet() {
+        return _conditionSet;
+    }
+
+    @Override
+    public String toString() {
+        return _firstValueSet + ", " + _secondValueSet + ": " + _conditionSet;
+    }
+
+}
@@ -0,0 +1,165 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Index to find the overlapping {@link ru.d_shap.conditionalvalues.ValueSet} objects, matched with the
+ * {@link ru.d_shap.conditionalvalues.predicate.EqualsPredicate} object for every condition.
+ * </p>
+ * <p>
+ * Two {@link ru.d_shap.conditionalvalues.ValueSet} objects overlap, if the same
+ * {@link ru.d_shap.conditionalvalues.ConditionSet} object matches both of them, and none of them is more
+ * specific than the other. The equals predicate matches the same condition set value only if the condition
+ * values of both {@link ru.d_shap.conditionalvalues.ValueSet} objects intersect for every common condition.
+ * The index maps every condition value to the ordinals of the {@link ru.d_shap.conditionalvalues.ValueSet}
+ * objects with this value, so the candidates are pruned condition by condition with the bit set
+ * intersection, and the condition values are never enumerated as the combinations.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ValueSetOverlapIndex<T> {
+
+    private final List<ValueSet<T>> _valueSets;
+
+    private final int[] _ordinals;
+
+    private final BitSet _indexedOrdinals;
+
+    private final Map<String, BitSet> _undefinedOrdinals;
+
+    private final Map<String, Map<Object, BitSet>> _conditionValueOrdinals;
+
+    ValueSetOverlapIndex(final List<ValueSet<T>> valueSets, final int[] ordinals) {
+        super();
+        _valueSets = valueSets;
+        _ordinals = ordinals;
+        _indexedOrdinals = new BitSet(valueSets.size());
+        _conditionValueOrdinals = new HashMap<>();
+        Map<String, BitSet> definedOrdinals = new HashMap<>();
+        for (int ordinal : ordinals) {
+            _indexedOrdinals.set(ordinal);
+            ValueSet<T> valueSet = valueSets.get(ordinal);
+            for (String conditionName : valueSet.getAllConditionNames()) {
+                getBitSet(definedOrdinals, conditionName).set(ordinal);
+                Map<Object, BitSet> valueOrdinals = _conditionValueOrdinals.get(conditionName);
+                if (valueOrdinals == null) {
+                    valueOrdinals = new HashMap<>();
+                    _conditionValueOrdinals.put(conditionName, valueOrdinals);
+                }
+                for (Object conditionValue : valueSet.getAllConditionValues(conditionName)) {
+                    getBitSet(valueOrdinals, conditionValue).set(ordinal);
+                }
+            }
+        }
+        _undefinedOrdinals = new HashMap<>();
+        for (Map.Entry<String, BitSet> entry : definedOrdinals.entrySet()) {
+            BitSet undefinedOrdinals = (BitSet) _indexedOrdinals.clone();
+            undefinedOrdinals.andNot(entry.getValue());
+            _undefinedOrdinals.put(entry.getKey(), undefinedOrdinals);
+        }
+    }
+
+    private static <K> BitSet getBitSet(final Map<K, BitSet> bitSets, final K key) {
+        BitSet bitSet = bitSets.get(key);
+        if (bitSet == null) {
+            bitSet = new BitSet();
+            bitSets.put(key, bitSet);
+        }
+        return bitSet;
+    }
+
+    int getOrdinalCount() {
+        return _ordinals.length;
+    }
+
+    void addOverlappingOrdinals(final int fromIndex, final int toIndex, final IntList ordinalPairs) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            int ordinal = _ordinals[i];
+            BitSet overlappingOrdinals = getOverlappingOrdinals(ordinal);
+            for (int overlappingOrdinal = overlappingOrdinals.nextSetBit(0); overlappingOrdinal >= 0; overlappingOrdinal = overlappingOrdinals.nextSetBit(overlappingOrdinal + 1)) {
+                ordinalPairs.add(ordinal);
+                ordinalPairs.add(overlappingOrdinal);
+            }
+        }
+    }
+
+    BitSet getOverlappingOrdinals(final int ordinal) {
+        BitSet result = (BitSet) _indexedOrdinals.clone();
+        result.clear(0, ordinal + 1);
+        ValueSet<T> valueSet = _valueSets.get(ordinal);
+        for (String conditionName : valueSet.getAllConditionNames()) {
+            if (result.isEmpty()) {
+                return result;
+            }
+            BitSet matchingOrdinals = new BitSet();
+            matchingOrdinals.or(_undefinedOrdinals.get(conditionName));
+            Map<Object, BitSet> valueOrdinals = _conditionValueOrdinals.get(conditionName);
+            for (Object conditionValue : valueSet.getAllConditionValues(conditionName)) {
+                matchingOrdinals.or(valueOrdinals.get(conditionValue));
+            }
+            result.and(matchingOrdinals);
+        }
+        for (int overlappingOrdinal = result.nextSetBit(0); overlappingOrdinal >= 0; overlappingOrdinal = result.nextSetBit(overlappingOrdinal + 1)) {
+            ValueSet<T> overlappingValueSet = _valueSets.get(overlappingOrdinal);
+            if (valueSet.isMoreSpecificValueSet(overlappingValueSet) || overlappingValueSet.isMoreSpecificValueSet(valueSet)) {
+                result.clear(overlappingOrdinal);
+            }
+        }
+        return result;
+    }
+
+    Map<String, Object> createConditions(final int ordinal1, final int ordinal2) {
+        ValueSet<T> valueSet1 = _valueSets.get(ordinal1);
+        ValueSet<T> valueSet2 = _valueSets.get(ordinal2);
+        Map<String, Object> result = new HashMap<>();
+        addConditions(valueSet1, valueSet2, result);
+        addConditions(valueSet2, valueSet1, result);
+        return result;
+    }
+
+    private void addConditions(final ValueSet<T> valueSet, final ValueSet<T> otherValueSet, final Map<String, Object> conditions) {
+        for (String conditionName : valueSet.getAllConditionNames()) {
+            if (!conditions.containsKey(conditionName)) {
+                Object conditionValue = getCommonConditionValue(valueSet.getAllConditionValues(conditionName), otherValueSet.getAllConditionValues(conditionName));
+                conditions.put(conditionName, conditionValue);
+            }
+        }
+    }
+
+    private Object getCommonConditionValue(final Set<Object> conditionValues, final Set<Object> otherConditionValues) {
+        for (Object conditionValue : conditionValues) {
+            if (otherConditionValues.isEmpty() || otherConditionValues.contains(conditionValue)) {
+                return conditionValue;
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,93 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * <p>
+ * Task of the parallel search of the overlapping {@link ru.d_shap.conditionalvalues.ValueSet} objects in the
+ * {@link ru.d_shap.conditionalvalues.ConditionalValues} object. The task is run in the
+ * {@link java.util.concurrent.ForkJoinPool} object.
+ * </p>
+ * <p>
+ * The task is split in halves, until the part of the indexed ordinals fits the single partition. Every leaf
+ * task writes the pairs of the overlapping ordinals to its own list. The pairs are collected in the ordinal
+ * order after all tasks are completed.
+ * </p>
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ValueSetOverlapTask<T> implements Runnable {
+
+    static final int MAX_PARTITION_SIZE = 64;
+
+    private final ValueSetOverlapIndex<T> _valueSetOverlapIndex;
+
+    private final int _fromIndex;
+
+    private final int _toIndex;
+
+    private ValueSetOverlapTask<T> _firstTask;
+
+    private ValueSetOverlapTask<T> _secondTask;
+
+    private IntList _ordinalPairs;
+
+    ValueSetOverlapTask(final ValueSetOverlapIndex<T> valueSetOverlapIndex, final int fromIndex, final int toIndex) {
+        super();
+        _valueSetOverlapIndex = valueSetOverlapIndex;
+        _fromIndex = fromIndex;
+        _toIndex = toIndex;
+        _firstTask = null;
+        _secondTask = null;
+        _ordinalPairs = null;
+    }
+
+    @Override
+    public void run() {
+        if (_toIndex - _fromIndex <= MAX_PARTITION_SIZE) {
+            IntList ordinalPairs = new IntList();
+            _valueSetOverlapIndex.addOverlappingOrdinals(_fromIndex, _toIndex, ordinalPairs);
+            _ordinalPairs = ordinalPairs;
+        } else {
+            int middleIndex = _fromIndex + (_toIndex - _fromIndex) / 2;
+            _firstTask = new ValueSetOverlapTask<>(_valueSetOverlapIndex, _fromIndex, middleIndex);
+            _secondTask = new ValueSetOverlapTask<>(_valueSetOverlapIndex, middleIndex, _toIndex);
+            ForkJoinTask.invokeAll(ForkJoinTask.adapt(_firstTask), ForkJoinTask.adapt(_secondTask));
+        }
+    }
+
+    void addOrdinalPairs(final IntList ordinalPairs) {
+        if (_ordinalPairs == null) {
+            if (_firstTask != null) {
+                _firstTask.addOrdinalPairs(ordinalPairs);
+                _secondTask.addOrdinalPairs(ordinalPairs);
+            }
+        } else {
+            for (int i = 0; i < _ordinalPairs.size(); i++) {
+                ordinalPairs.add(_ordinalPairs.get(i));
+            }
+        }
+    }
+
+}
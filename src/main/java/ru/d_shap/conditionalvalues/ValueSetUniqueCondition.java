@@ -40,6 +40,12 @@ public final class ValueSetUniqueCondition {
         _conditions = Collections.unmodifiableMap(new TreeMap<String, Object>());
     }
 
+    ValueSetUniqueCondition(final String id, final Map<String, Object> conditions) {
+        super();
+        _id = id;
+        _conditions = conditions;
+    }
+
     ValueSetUniqueCondition(final ValueSetUniqueCondition valueSetUniqueCondition, final String conditionName, final Object conditionValue) {
         super();
         _id = valueSetUniqueCondition._id;
@@ -0,0 +1,151 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * Lazy iterator over the unique combinations of single conditions, defined in the
+ * {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+ * </p>
+ * <p>
+ * The combinations are not stored, every combination is created by the iterator when it is requested, so
+ * the iteration can be stopped at any time. All combinations of all {@link ru.d_shap.conditionalvalues.ValueSet}
+ * objects form the sequence, and the iterator covers the range of this sequence. The range can be split into
+ * two halves to process the combinations in parallel.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueSetUniqueConditionIterator implements Iterator<ValueSetUniqueCondition> {
+
+    private final ValueSetUniqueConditionSpace[] _spaces;
+
+    private final long[] _spaceOffsets;
+
+    private long _position;
+
+    private long _end;
+
+    private int _spaceIndex;
+
+    private int[] _digits;
+
+    ValueSetUniqueConditionIterator(final List<? extends ValueSet<?>> valueSets) {
+        super();
+        _spaces = new ValueSetUniqueConditionSpace[valueSets.size()];
+        _spaceOffsets = new long[valueSets.size() + 1];
+        for (int i = 0; i < _spaces.length; i++) {
+            _spaces[i] = new ValueSetUniqueConditionSpace(valueSets.get(i));
+            _spaceOffsets[i + 1] = addSize(_spaceOffsets[i], _spaces[i].getSize());
+        }
+        setRange(0L, _spaceOffsets[_spaces.length]);
+    }
+
+    private ValueSetUniqueConditionIterator(final ValueSetUniqueConditionSpace[] spaces, final long[] spaceOffsets, final long position, final long end) {
+        super();
+        _spaces = spaces;
+        _spaceOffsets = spaceOffsets;
+        setRange(position, end);
+    }
+
+    private static long addSize(final long offset, final long size) {
+        if (offset > Long.MAX_VALUE - size) {
+            return Long.MAX_VALUE;
+        } else {
+            return offset + size;
+        }
+    }
+
+    private void setRange(final long position, final long end) {
+        _position = position;
+        _end = end;
+        if (position < end) {
+            int spaceIndex = Arrays.binarySearch(_spaceOffsets, position);
+            if (spaceIndex < 0) {
+                spaceIndex = -spaceIndex - 2;
+            }
+            while (_spaceOffsets[spaceIndex + 1] <= position) {
+                spaceIndex++;
+            }
+            _spaceIndex = spaceIndex;
+            _digits = new int[_spaces[spaceIndex].getDigitCount()];
+            _spaces[spaceIndex].setDigits(position - _spaceOffsets[spaceIndex], _digits);
+        }
+    }
+
+    /**
+     * Get the number of the remaining combinations.
+     *
+     * @return the number of the remaining combinations.
+     */
+    public long getRemainingCount() {
+        return _end - _position;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return _position < _end;
+    }
+
+    @Override
+    public ValueSetUniqueCondition next() {
+        if (_position >= _end) {
+            throw new NoSuchElementException();
+        }
+        ValueSetUniqueConditionSpace space = _spaces[_spaceIndex];
+        ValueSetUniqueCondition valueSetUniqueCondition = space.createValueSetUniqueCondition(_digits);
+        _position++;
+        if (_position < _end && !space.incrementDigits(_digits)) {
+            do {
+                _spaceIndex++;
+            } while (_spaces[_spaceIndex].getSize() == 0L);
+            _digits = new int[_spaces[_spaceIndex].getDigitCount()];
+        }
+        return valueSetUniqueCondition;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Split the remaining combinations into two halves. This iterator keeps the first half, and the new
+     * iterator gets the second half. The iterators can be used in the different threads.
+     *
+     * @return the iterator over the second half, or null if the remaining combinations can not be split.
+     */
+    public ValueSetUniqueConditionIterator trySplit() {
+        long remainingCount = getRemainingCount();
+        if (remainingCount < 2L) {
+            return null;
+        }
+        long middle = _position + remainingCount / 2L;
+        ValueSetUniqueConditionIterator result = new ValueSetUniqueConditionIterator(_spaces, _spaceOffsets, middle, _end);
+        _end = middle;
+        return result;
+    }
+
+}
@@ -0,0 +1,109 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Space of the unique combinations of the conditions of the {@link ru.d_shap.conditionalvalues.ValueSet} object.
+ * </p>
+ * <p>
+ * Every combination is addressed by the odometer, the array of the indexes of the condition values, one
+ * index for every condition. The conditions are sorted by the name, and the first condition is the most
+ * significant digit of the odometer. The combination can also be addressed by the index in the space, so the
+ * space can be split into the ranges.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ValueSetUniqueConditionSpace {
+
+    private final String _id;
+
+    private final String[] _conditionNames;
+
+    private final Object[][] _conditionValues;
+
+    private final long _size;
+
+    ValueSetUniqueConditionSpace(final ValueSet<?> valueSet) {
+        super();
+        _id = valueSet.getId();
+        _conditionNames = valueSet.getAllConditionNames().toArray(new String[0]);
+        Arrays.sort(_conditionNames);
+        _conditionValues = new Object[_conditionNames.length][];
+        for (int i = 0; i < _conditionNames.length; i++) {
+            _conditionValues[i] = valueSet.getAllConditionValues(_conditionNames[i]).toArray();
+        }
+        _size = createSize();
+    }
+
+    private long createSize() {
+        if (_conditionValues.length == 0) {
+            return 0L;
+        }
+        long result = 1L;
+        for (Object[] conditionValues : _conditionValues) {
+            if (result > Long.MAX_VALUE / conditionValues.length) {
+                return Long.MAX_VALUE;
+            }
+            result *= conditionValues.length;
+        }
+        return result;
+    }
+
+    long getSize() {
+        return _size;
+    }
+
+    int getDigitCount() {
+        return _conditionValues.length;
+    }
+
+    void setDigits(final long index, final int[] digits) {
+        long remainder = index;
+        for (int i = _conditionValues.length - 1; i >= 0; i--) {
+            int radix = _conditionValues[i].length;
+            digits[i] = (int) (remainder % radix);
+            remainder /= radix;
+        }
+    }
+
+    boolean incrementDigits(final int[] digits) {
+        for (int i = _conditionValues.length - 1; i >= 0; i--) {
+            digits[i]++;
+            if (digits[i] < _conditionValues[i].length) {
+                return true;
+            }
+            digits[i] = 0;
+        }
+        return false;
+    }
+
+    ValueSetUniqueCondition createValueSetUniqueCondition(final int[] digits) {
+        Object[] conditionValues = new Object[_conditionValues.length];
+        for (int i = 0; i < _conditionValues.length; i++) {
+            conditionValues[i] = _conditionValues[i][digits[i]];
+        }
+        return new ValueSetUniqueCondition(_id, new UniqueConditionMap(_conditionNames, conditionValues));
+    }
+
+}
@@ -20,6 +20,7 @@
 package ru.d_shap.conditionalvalues;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -36,6 +37,16 @@ import java.util.TreeSet;
  * {@link ru.d_shap.conditionalvalues.ValueSet} objects, then values are obtained from every
  * one {@link ru.d_shap.conditionalvalues.ValueSet} object.
  * </p>
+ * <p>
+ * All values are shared with the {@link ru.d_shap.conditionalvalues.ConditionalValues} object, and
+ * the unique values are created on the first request, so the lookup cost depends only on the
+ * matching {@link ru.d_shap.conditionalvalues.ValueSet} objects.
+ * </p>
+ * <p>
+ * The sets, returned by the {@link #getUniqueValues()} and {@link #getAllUniqueValues()} methods, are
+ * created on the first request and belong to this object only, so the changes of these sets are not visible
+ * to the other {@link ru.d_shap.conditionalvalues.Values} objects.
+ * </p>
  *
  * @param <T> generic type for the value.
  *
@@ -47,28 +58,47 @@ public final class Values<T> {
 
     private final List<ValueSet<T>> _valueSets;
 
-    private final Set<String> _ids;
-
     private final List<T> _values;
 
-    private final Set<T> _uniqueValues;
-
     private final List<T> _allValues;
 
-    private final Set<T> _allUniqueValues;
+    private volatile Set<String> _ids;
+
+    private volatile Set<T> _uniqueValues;
+
+    private volatile Set<T> _allUniqueValues;
+
+    private volatile Set<T> _modifiableAllUniqueValues;
 
     Values(final Comparator<T> comparator, final List<ValueSet<T>> valueSets, final List<T> allValues) {
+        this(comparator, createValueSets(valueSets), createAllValues(comparator, allValues), null);
+    }
+
+    Values(final Comparator<T> comparator, final List<ValueSet<T>> valueSets, final List<T> allValues, final Set<T> allUniqueValues) {
         super();
         _comparator = comparator;
-        _valueSets = createValueSets(valueSets);
-        _ids = createIds();
+        _valueSets = Collections.unmodifiableList(valueSets);
         _values = createValues();
-        _uniqueValues = createSet(_values);
-        _allValues = createAllValues(allValues);
-        _allUniqueValues = createSet(_allValues);
+        _allValues = allValues;
+        _ids = null;
+        _uniqueValues = null;
+        _allUniqueValues = allUniqueValues;
+        _modifiableAllUniqueValues = null;
+    }
+
+    Values(final Values<T> values) {
+        super();
+        _comparator = values._comparator;
+        _valueSets = values._valueSets;
+        _values = values._values;
+        _allValues = values._allValues;
+        _ids = values._ids;
+        _uniqueValues = null;
+        _allUniqueValues = values._allUniqueValues;
+        _modifiableAllUniqueValues = null;
     }
 
-    private List<ValueSet<T>> createValueSets(final List<ValueSet<T>> valueSets) {
+    private static <T> List<ValueSet<T>> createValueSets(final List<ValueSet<T>> valueSets) {
         List<ValueSet<T>> result = new ArrayList<>();
         if (valueSets != null) {
             for (ValueSet<T> valueSet : valueSets) {
@@ -77,17 +107,32 @@ public final class Values<T> {
                 }
             }
         }
-        return Collections.unmodifiableList(result);
+        return result;
     }
 
-    private Set<String> createIds() {
-        Set<String> result = new TreeSet<>();
-        for (ValueSet<T> valueSet : _valueSets) {
-            String id = valueSet.getId();
-            if (id != null) {
-                result.add(id);
+    private static <T> List<T> createAllValues(final Comparator<T> comparator, final List<T> allValues) {
+        List<T> result = new ArrayList<>();
+        if (allValues != null) {
+            for (T value : allValues) {
+                if (value != null) {
+                    result.add(value);
+                }
             }
         }
+        if (comparator != null) {
+            Collections.sort(result, comparator);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    static <T> Set<T> createSet(final Comparator<T> comparator, final List<T> values) {
+        Set<T> result;
+        if (comparator == null) {
+            result = new HashSet<>(values);
+        } else {
+            result = new TreeSet<>(comparator);
+            result.addAll(values);
+        }
         return Collections.unmodifiableSet(result);
     }
 
@@ -102,22 +147,7 @@ public final class Values<T> {
         return Collections.unmodifiableList(result);
     }
 
-    private List<T> createAllValues(final List<T> allValues) {
-        List<T> result = new ArrayList<>();
-        if (allValues != null) {
-            for (T value : allValues) {
-                if (value != null) {
-                    result.add(value);
-                }
-            }
-        }
-        if (_comparator != null) {
-            Collections.sort(result, _comparator);
-        }
-        return Collections.unmodifiableList(result);
-    }
-
-    private Set<T> createSet(final List<T> values) {
+    private Set<T> createModifiableSet(final Collection<T> values) {
         Set<T> result;
         if (_comparator == null) {
             result = new HashSet<>();
@@ -128,13 +158,29 @@ public final class Values<T> {
         return result;
     }
 
+    private Set<String> createIds() {
+        Set<String> result = new TreeSet<>();
+        for (ValueSet<T> valueSet : _valueSets) {
+            String id = valueSet.getId();
+            if (id != null) {
+                result.add(id);
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
     /**
      * Get the IDs of the {@link ru.d_shap.conditionalvalues.ValueSet} objects.
      *
      * @return the IDs of the {@link ru.d_shap.conditionalvalues.ValueSet} objects.
      */
     public Set<String> getIds() {
-        return _ids;
+        Set<String> ids = _ids;
+        if (ids == null) {
+            ids = createIds();
+            _ids = ids;
+        }
+        return ids;
     }
 
     /**
@@ -143,7 +189,7 @@ public final class Values<T> {
      * @return true, if the result contains no values.
      */
     public boolean isEmpty() {
-        return _uniqueValues.isEmpty();
+        return _values.isEmpty();
     }
 
     /**
@@ -154,7 +200,7 @@ public final class Values<T> {
      * @return true, if the result contains the specified value.
      */
     public boolean contains(final T value) {
-        return _uniqueValues.contains(value);
+        return getUniqueValues().contains(value);
     }
 
     /**
@@ -165,7 +211,7 @@ public final class Values<T> {
      * @return true, if the result does not contain the specified value.
      */
     public boolean doesNotContain(final T value) {
-        return _allUniqueValues.contains(value) && !_uniqueValues.contains(value);
+        return getAllUniqueValueSet().contains(value) && !getUniqueValues().contains(value);
     }
 
     /**
@@ -176,7 +222,7 @@ public final class Values<T> {
      * @return true, if all values contain the specified value.
      */
     public boolean allValuesContain(final T value) {
-        return _allUniqueValues.contains(value);
+        return getAllUniqueValueSet().contains(value);
     }
 
     /**
@@ -187,7 +233,7 @@ public final class Values<T> {
      * @return true, if all values does not contain the specified value.
      */
     public boolean allValuesDoesNotContain(final T value) {
-        return !_allUniqueValues.contains(value);
+        return !getAllUniqueValueSet().contains(value);
     }
 
     /**
@@ -205,7 +251,12 @@ public final class Values<T> {
      * @return the unique result values.
      */
     public Set<T> getUniqueValues() {
-        return _uniqueValues;
+        Set<T> uniqueValues = _uniqueValues;
+        if (uniqueValues == null) {
+            uniqueValues = createModifiableSet(_values);
+            _uniqueValues = uniqueValues;
+        }
+        return uniqueValues;
     }
 
     /**
@@ -223,7 +274,30 @@ public final class Values<T> {
      * @return all unique values.
      */
     public Set<T> getAllUniqueValues() {
-        return _allUniqueValues;
+        Set<T> modifiableAllUniqueValues = _modifiableAllUniqueValues;
+        if (modifiableAllUniqueValues == null) {
+            modifiableAllUniqueValues = createModifiableSet(getSharedAllUniqueValues());
+            _modifiableAllUniqueValues = modifiableAllUniqueValues;
+        }
+        return modifiableAllUniqueValues;
+    }
+
+    private Set<T> getAllUniqueValueSet() {
+        Set<T> modifiableAllUniqueValues = _modifiableAllUniqueValues;
+        if (modifiableAllUniqueValues == null) {
+            return getSharedAllUniqueValues();
+        } else {
+            return modifiableAllUniqueValues;
+        }
+    }
+
+    private Set<T> getSharedAllUniqueValues() {
+        Set<T> allUniqueValues = _allUniqueValues;
+        if (allUniqueValues == null) {
+            allUniqueValues = createSet(_comparator, _allValues);
+            _allUniqueValues = allUniqueValues;
+        }
+        return allUniqueValues;
     }
 
     /**
@@ -0,0 +1,77 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+/**
+ * The {@link ru.d_shap.conditionalvalues.ConditionalValues} object with the name and the version stamp,
+ * registered in the {@link ru.d_shap.conditionalvalues.ConditionalValuesRegistry} object.
+ *
+ * @param <T> generic type for the value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class VersionedConditionalValues<T> {
+
+    private final String _name;
+
+    private final long _version;
+
+    private final ConditionalValues<T> _conditionalValues;
+
+    VersionedConditionalValues(final String name, final long version, final ConditionalValues<T> conditionalValues) {
+        super();
+        _name = name;
+        _version = version;
+        _conditionalValues = conditionalValues;
+    }
+
+    /**
+     * Get the name.
+     *
+     * @return the name.
+     */
+    public String getName() {
+        return _name;
+    }
+
+    /**
+     * Get the version stamp. The version stamps grow with every registration.
+     *
+     * @return the version stamp.
+     */
+    public long getVersion() {
+        return _version;
+    }
+
+    /**
+     * Get the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     *
+     * @return the {@link ru.d_shap.conditionalvalues.ConditionalValues} object.
+     */
+    public ConditionalValues<T> getConditionalValues() {
+        return _conditionalValues;
+    }
+
+    @Override
+    public String toString() {
+        return _name + "@" + _version + "=" + _conditionalValues;
+    }
+
+}
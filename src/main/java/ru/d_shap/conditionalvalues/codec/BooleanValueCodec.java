@@ -0,0 +1,57 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.codec;
+
+import ru.d_shap.conditionalvalues.ValueCodec;
+
+/**
+ * Codec to store the {@link java.lang.Boolean} values.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class BooleanValueCodec implements ValueCodec<Boolean> {
+
+    /**
+     * Create new object.
+     */
+    public BooleanValueCodec() {
+        super();
+    }
+
+    @Override
+    public Class<Boolean> getValueClass() {
+        return Boolean.class;
+    }
+
+    @Override
+    public byte[] encode(final Boolean value) {
+        if (value) {
+            return new byte[]{1};
+        } else {
+            return new byte[]{0};
+        }
+    }
+
+    @Override
+    public Boolean decode(final byte[] bytes) {
+        return bytes[0] != 0;
+    }
+
+}
@@ -0,0 +1,55 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.codec;
+
+import java.nio.ByteBuffer;
+
+import ru.d_shap.conditionalvalues.ValueCodec;
+
+/**
+ * Codec to store the {@link java.lang.Character} values.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CharacterValueCodec implements ValueCodec<Character> {
+
+    /**
+     * Create new object.
+     */
+    public CharacterValueCodec() {
+        super();
+    }
+
+    @Override
+    public Class<Character> getValueClass() {
+        return Character.class;
+    }
+
+    @Override
+    public byte[] encode(final Character value) {
+        return ByteBuffer.allocate(Character.SIZE / Byte.SIZE).putChar(value).array();
+    }
+
+    @Override
+    public Character decode(final byte[] bytes) {
+        return ByteBuffer.wrap(bytes).getChar();
+    }
+
+}
@@ -0,0 +1,101 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.converter;
+
+/**
+ * Parser of the primitive values from the cells of the decision table without creating the strings.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class CharSequenceParser {
+
+    private static final int RADIX = 10;
+
+    private CharSequenceParser() {
+        super();
+    }
+
+    static long parseLong(final CharSequence cell, final long minValue, final long maxValue) {
+        int length = cell.length();
+        if (length == 0) {
+            throw new NumberFormatException("Empty number");
+        }
+        int index = 0;
+        boolean negative = false;
+        char firstChar = cell.charAt(0);
+        if (firstChar == '-' || firstChar == '+') {
+            negative = firstChar == '-';
+            index++;
+            if (length == 1) {
+                throw new NumberFormatException("Wrong number: " + cell);
+            }
+        }
+        long limit = getLimit(negative, minValue, maxValue);
+        long multiplyLimit = limit / RADIX;
+        long result = 0L;
+        for (; index < length; index++) {
+            int digit = Character.digit(cell.charAt(index), RADIX);
+            if (digit < 0 || result < multiplyLimit) {
+                throw new NumberFormatException("Wrong number: " + cell);
+            }
+            result *= RADIX;
+            if (result < limit + digit) {
+                throw new NumberFormatException("Wrong number: " + cell);
+            }
+            result -= digit;
+        }
+        if (negative) {
+            return result;
+        } else {
+            return -result;
+        }
+    }
+
+    private static long getLimit(final boolean negative, final long minValue, final long maxValue) {
+        if (negative) {
+            return minValue;
+        } else {
+            return -maxValue;
+        }
+    }
+
+    static boolean parseBoolean(final CharSequence cell) {
+        if (isEqualIgnoreCase(cell, "true")) {
+            return true;
+        }
+        if (isEqualIgnoreCase(cell, "false")) {
+            return false;
+        }
+        throw new IllegalArgumentException("Wrong boolean: " + cell);
+    }
+
+    private static boolean isEqualIgnoreCase(final CharSequence cell, final String value) {
+        if (cell.length() != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.toLowerCase(cell.charAt(i)) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
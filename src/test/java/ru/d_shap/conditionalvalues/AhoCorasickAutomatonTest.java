@@ -0,0 +1,151 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link AhoCorasickAutomaton}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class AhoCorasickAutomatonTest {
+
+    /**
+     * Test class constructor.
+     */
+    public AhoCorasickAutomatonTest() {
+        super();
+    }
+
+    /**
+     * {@link AhoCorasickAutomaton} class test.
+     */
+    @Test
+    public void createAutomatonTest() {
+        AhoCorasickAutomaton automaton1 = new AhoCorasickAutomaton(null, false);
+        Assertions.assertThat(automaton1.isIgnoreCase()).isFalse();
+        Assertions.assertThat(automaton1.getKeywordCount()).isEqualTo(0);
+        Assertions.assertThat(automaton1.getStateCount()).isEqualTo(1);
+
+        AhoCorasickAutomaton automaton2 = new AhoCorasickAutomaton(DataHelper.createArrayList("he", "she", "his", "hers"), false);
+        Assertions.assertThat(automaton2.isIgnoreCase()).isFalse();
+        Assertions.assertThat(automaton2.getKeywordCount()).isEqualTo(4);
+        Assertions.assertThat(automaton2.getStateCount()).isEqualTo(10);
+
+        AhoCorasickAutomaton automaton3 = new AhoCorasickAutomaton(DataHelper.createArrayList("he", "HE", "She"), true);
+        Assertions.assertThat(automaton3.isIgnoreCase()).isTrue();
+        Assertions.assertThat(automaton3.getKeywordCount()).isEqualTo(3);
+        Assertions.assertThat(automaton3.getStateCount()).isEqualTo(6);
+    }
+
+    /**
+     * {@link AhoCorasickAutomaton} class test.
+     */
+    @Test
+    public void findKeywordsTest() {
+        AhoCorasickAutomaton automaton1 = new AhoCorasickAutomaton(null, false);
+        Assertions.assertThat(findKeywords(automaton1, "ushers")).isEqualTo("{}");
+
+        AhoCorasickAutomaton automaton2 = new AhoCorasickAutomaton(DataHelper.createArrayList("he", "she", "his", "hers"), false);
+        Assertions.assertThat(findKeywords(automaton2, "")).isEqualTo("{}");
+        Assertions.assertThat(findKeywords(automaton2, "ushers")).isEqualTo("{0, 1, 3}");
+        Assertions.assertThat(findKeywords(automaton2, "this")).isEqualTo("{2}");
+        Assertions.assertThat(findKeywords(automaton2, "USHERS")).isEqualTo("{}");
+        Assertions.assertThat(findKeywords(automaton2, "ahishers")).isEqualTo("{0, 1, 2, 3}");
+
+        AhoCorasickAutomaton automaton3 = new AhoCorasickAutomaton(DataHelper.createArrayList("abcd", "bc", "c", "xyz"), false);
+        Assertions.assertThat(findKeywords(automaton3, "abcx")).isEqualTo("{1, 2}");
+        Assertions.assertThat(findKeywords(automaton3, "abcxyz")).isEqualTo("{1, 2, 3}");
+        Assertions.assertThat(findKeywords(automaton3, "abcabcd")).isEqualTo("{0, 1, 2}");
+
+        AhoCorasickAutomaton automaton4 = new AhoCorasickAutomaton(DataHelper.createArrayList("", "aa"), false);
+        Assertions.assertThat(findKeywords(automaton4, "")).isEqualTo("{0}");
+        Assertions.assertThat(findKeywords(automaton4, "bab")).isEqualTo("{0}");
+        Assertions.assertThat(findKeywords(automaton4, "baaab")).isEqualTo("{0, 1}");
+    }
+
+    /**
+     * {@link AhoCorasickAutomaton} class test.
+     */
+    @Test
+    public void findKeywordsIgnoreCaseTest() {
+        AhoCorasickAutomaton automaton1 = new AhoCorasickAutomaton(DataHelper.createArrayList("he", "She", "HIS", "hErS"), true);
+        Assertions.assertThat(findKeywords(automaton1, "USHERS")).isEqualTo("{0, 1, 3}");
+        Assertions.assertThat(findKeywords(automaton1, "tHis")).isEqualTo("{2}");
+
+        AhoCorasickAutomaton automaton2 = new AhoCorasickAutomaton(DataHelper.createArrayList("stra\u00dfe", "\u0130"), true);
+        Assertions.assertThat(findKeywords(automaton2, "STRASSE")).isEqualTo("{}");
+        Assertions.assertThat(findKeywords(automaton2, "STRA\u00dfE")).isEqualTo("{0}");
+        Assertions.assertThat(findKeywords(automaton2, "i")).isEqualTo(findRegionMatches(DataHelper.createArrayList("stra\u00dfe", "\u0130"), "i"));
+    }
+
+    /**
+     * {@link AhoCorasickAutomaton} class test.
+     */
+    @Test
+    public void findKeywordsRegionMatchesTest() {
+        List<String> keywords = DataHelper.createArrayList("a", "ab", "bab", "bc", "bca", "c", "caa", "Ab", "BC", "aBc");
+        List<String> texts = DataHelper.createArrayList("", "a", "abccab", "ABCCAB", "xbabcaax", "cbCaAb", "aabbcc", "bcabca", "BaBcAa");
+        AhoCorasickAutomaton automaton1 = new AhoCorasickAutomaton(keywords, false);
+        AhoCorasickAutomaton automaton2 = new AhoCorasickAutomaton(keywords, true);
+        for (String text : texts) {
+            Assertions.assertThat(findKeywords(automaton1, text)).isEqualTo(findContains(keywords, text));
+            Assertions.assertThat(findKeywords(automaton2, text)).isEqualTo(findRegionMatches(keywords, text));
+        }
+    }
+
+    private String findKeywords(final AhoCorasickAutomaton automaton, final String text) {
+        BitSet result = new BitSet();
+        automaton.findKeywords(text, result);
+        return result.toString();
+    }
+
+    private String findContains(final List<String> keywords, final String text) {
+        BitSet result = new BitSet();
+        for (int i = 0; i < keywords.size(); i++) {
+            if (text.contains(keywords.get(i))) {
+                result.set(i);
+            }
+        }
+        return result.toString();
+    }
+
+    private String findRegionMatches(final List<String> keywords, final String text) {
+        BitSet result = new BitSet();
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = keywords.get(i);
+            for (int j = text.length() - keyword.length(); j >= 0; j--) {
+                if (text.regionMatches(true, j, keyword, 0, keyword.length())) {
+                    result.set(i);
+                    break;
+                }
+            }
+        }
+        return result.toString();
+    }
+
+}
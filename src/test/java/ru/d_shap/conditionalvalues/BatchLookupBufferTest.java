@@ -0,0 +1,60 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link BatchLookupBuffer}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class BatchLookupBufferTest {
+
+    /**
+     * Test class constructor.
+     */
+    public BatchLookupBufferTest() {
+        super();
+    }
+
+    /**
+     * {@link BatchLookupBuffer} class test.
+     */
+    @Test
+    public void createBatchLookupBufferTest() {
+        BatchLookupBuffer batchLookupBuffer = new BatchLookupBuffer(3);
+        Assertions.assertThat(batchLookupBuffer.getConditionSetValueColumns()).hasLength(3);
+        Assertions.assertThat(batchLookupBuffer.getConditionSetValueColumns()[0]).hasLength(BatchLookupBuffer.MAX_ROW_COUNT);
+        Assertions.assertThat(batchLookupBuffer.getConditionSetValueColumns()[2]).hasLength(BatchLookupBuffer.MAX_ROW_COUNT);
+        Assertions.assertThat(batchLookupBuffer.getOrdinals(0).isEmpty()).isTrue();
+        Assertions.assertThat(batchLookupBuffer.getOrdinals(BatchLookupBuffer.MAX_ROW_COUNT - 1).isEmpty()).isTrue();
+        Assertions.assertThat(batchLookupBuffer.getOrdinals(0)).isNotSameAs(batchLookupBuffer.getOrdinals(1));
+        Assertions.assertThat(batchLookupBuffer.getDefinedRows().isEmpty()).isTrue();
+        Assertions.assertThat(batchLookupBuffer.getMatchingRows().isEmpty()).isTrue();
+        Assertions.assertThat(batchLookupBuffer.getMatchingRows()).isNotSameAs(batchLookupBuffer.getDefinedRows());
+
+        BatchLookupBuffer emptyBatchLookupBuffer = new BatchLookupBuffer(0);
+        Assertions.assertThat(emptyBatchLookupBuffer.getConditionSetValueColumns()).hasLength(0);
+    }
+
+}
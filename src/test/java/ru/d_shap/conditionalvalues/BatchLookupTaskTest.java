@@ -0,0 +1,129 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link BatchLookupTask}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class BatchLookupTaskTest {
+
+    /**
+     * Test class constructor.
+     */
+    public BatchLookupTaskTest() {
+        super();
+    }
+
+    /**
+     * {@link BatchLookupTask} class test.
+     */
+    @Test
+    public void runSingleChunkTest() {
+        ConditionalValues<String> conditionalValues = createConditionalValues();
+        ConditionSet[] conditionSets = createConditionSets(10);
+        int[] valueSetCounts = new int[10];
+        BatchLookupTask<String> batchLookupTask = new BatchLookupTask<>(conditionalValues, conditionSets, 2, 6, valueSetCounts);
+        batchLookupTask.run();
+        Assertions.assertThat(valueSetCounts).containsExactlyInOrder(0, 0, 0, 1, 1, 0, 0, 0, 0, 0);
+        IntList ordinals = new IntList();
+        batchLookupTask.addOrdinals(ordinals);
+        Assertions.assertThat(ordinals.toArray()).containsExactlyInOrder(0, 1);
+    }
+
+    /**
+     * {@link BatchLookupTask} class test.
+     */
+    @Test
+    public void runSplitTest() {
+        ConditionalValues<String> conditionalValues = createConditionalValues();
+        int rowCount = BatchLookupBuffer.MAX_ROW_COUNT * 5 + 3;
+        ConditionSet[] conditionSets = createConditionSets(rowCount);
+        int[] valueSetCounts = new int[rowCount];
+        BatchLookupTask<String> batchLookupTask = new BatchLookupTask<>(conditionalValues, conditionSets, 0, rowCount, valueSetCounts);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            forkJoinPool.invoke(ForkJoinTask.adapt(batchLookupTask));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+        IntList ordinals = new IntList();
+        batchLookupTask.addOrdinals(ordinals);
+        int index = 0;
+        for (int i = 0; i < rowCount; i++) {
+            if (i % 3 == 2) {
+                Assertions.assertThat(valueSetCounts[i]).isEqualTo(0);
+            } else {
+                Assertions.assertThat(valueSetCounts[i]).isEqualTo(1);
+                Assertions.assertThat(ordinals.get(index)).isEqualTo(i % 3);
+                index++;
+            }
+        }
+        Assertions.assertThat(ordinals.size()).isEqualTo(index);
+    }
+
+    /**
+     * {@link BatchLookupTask} class test.
+     */
+    @Test
+    public void addOrdinalsNotRunTest() {
+        ConditionalValues<String> conditionalValues = createConditionalValues();
+        BatchLookupTask<String> batchLookupTask = new BatchLookupTask<>(conditionalValues, new ConditionSet[0], 0, 0, new int[0]);
+        IntList ordinals = new IntList();
+        batchLookupTask.addOrdinals(ordinals);
+        Assertions.assertThat(ordinals.isEmpty()).isTrue();
+    }
+
+    private ConditionalValues<String> createConditionalValues() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.addCondition("cond1", 0);
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.setStringContainsPredicate("cond2");
+        valueSetBuilder.addCondition("cond2", "1");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        return new ConditionalValues<>(null, null, null, null, DataHelper.createArrayList(valueSet0, valueSet1));
+    }
+
+    private ConditionSet[] createConditionSets(final int count) {
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        ConditionSet[] result = new ConditionSet[count];
+        for (int i = 0; i < count; i++) {
+            if (i % 3 == 0) {
+                result[i] = conditionSetBuilder.addCondition("cond1", 0).build();
+            }
+            if (i % 3 == 1) {
+                result[i] = conditionSetBuilder.addCondition("cond2", "x1x").build();
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,162 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+import ru.d_shap.conditionalvalues.data.ConcatStringAction;
+import ru.d_shap.conditionalvalues.misc.NaturalOrderComparator;
+
+/**
+ * Tests for {@link BatchValues}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class BatchValuesTest {
+
+    /**
+     * Test class constructor.
+     */
+    public BatchValuesTest() {
+        super();
+    }
+
+    /**
+     * {@link BatchValues} class test.
+     */
+    @Test
+    public void sizeTest() {
+        ConditionalValues<String> conditionalValues = createConditionalValues(null);
+        Assertions.assertThat(new BatchValues<>(conditionalValues, new int[]{0}, new int[0]).size()).isEqualTo(0);
+        Assertions.assertThat(new BatchValues<>(conditionalValues, new int[]{0, 0, 1}, new int[]{1}).size()).isEqualTo(2);
+    }
+
+    /**
+     * {@link BatchValues} class test.
+     */
+    @Test
+    public void getValueSetCountTest() {
+        ConditionalValues<String> conditionalValues = createConditionalValues(null);
+        BatchValues<String> batchValues = new BatchValues<>(conditionalValues, new int[]{0, 0, 2, 3}, new int[]{0, 1, 2});
+        Assertions.assertThat(batchValues.getValueSetCount(0)).isEqualTo(0);
+        Assertions.assertThat(batchValues.getValueSetCount(1)).isEqualTo(2);
+        Assertions.assertThat(batchValues.getValueSetCount(2)).isEqualTo(1);
+        Assertions.assertThat(batchValues.isEmpty(0)).isTrue();
+        Assertions.assertThat(batchValues.isEmpty(1)).isFalse();
+        Assertions.assertThat(batchValues.isEmpty(2)).isFalse();
+    }
+
+    /**
+     * {@link BatchValues} class test.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getValueSetCountNegativeIndexFailTest() {
+        ConditionalValues<String> conditionalValues = createConditionalValues(null);
+        new BatchValues<>(conditionalValues, new int[]{0, 1}, new int[]{0}).getValueSetCount(-1);
+    }
+
+    /**
+     * {@link BatchValues} class test.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getValuesWrongIndexFailTest() {
+        ConditionalValues<String> conditionalValues = createConditionalValues(null);
+        new BatchValues<>(conditionalValues, new int[]{0, 1}, new int[]{0}).getValues(1);
+    }
+
+    /**
+     * {@link BatchValues} class test.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void performActionWrongIndexFailTest() {
+        ConditionalValues<String> conditionalValues = createConditionalValues(null);
+        new BatchValues<>(conditionalValues, new int[]{0, 1}, new int[]{0}).performAction(1, new ConcatStringAction("x", 1));
+    }
+
+    /**
+     * {@link BatchValues} class test.
+     */
+    @Test
+    public void getValuesTest() {
+        ConditionalValues<String> conditionalValues1 = createConditionalValues(null);
+        BatchValues<String> batchValues1 = new BatchValues<>(conditionalValues1, new int[]{0, 0, 2, 3}, new int[]{0, 1, 2});
+        Assertions.assertThat(batchValues1.getValues(0).isEmpty()).isTrue();
+        Assertions.assertThat(batchValues1.getValues(1).getValues()).containsExactlyInOrder("val2", "val1", "val3");
+        Assertions.assertThat(batchValues1.getValues(2).getValues()).containsExactlyInOrder("val4");
+        Assertions.assertThat(batchValues1.getValues(1).getAllValues()).containsExactlyInOrder("val2", "val1", "val3", "val4");
+
+        ConditionalValues<String> conditionalValues2 = createConditionalValues(new NaturalOrderComparator<String>());
+        BatchValues<String> batchValues2 = new BatchValues<>(conditionalValues2, new int[]{0, 0, 2, 3}, new int[]{0, 1, 2});
+        Assertions.assertThat(batchValues2.getValues(1).getValues()).containsExactlyInOrder("val1", "val2", "val3");
+    }
+
+    /**
+     * {@link BatchValues} class test.
+     */
+    @Test
+    public void performActionTest() {
+        ConditionalValues<String> conditionalValues1 = createConditionalValues(null);
+        BatchValues<String> batchValues1 = new BatchValues<>(conditionalValues1, new int[]{0, 0, 2, 3}, new int[]{0, 1, 2});
+        ConcatStringAction action11 = new ConcatStringAction("x", 1);
+        Assertions.assertThat(batchValues1.performAction(0, action11)).isEqualTo(0);
+        Assertions.assertThat(action11.getValues()).containsExactlyInOrder();
+        ConcatStringAction action12 = new ConcatStringAction("x", 1);
+        Assertions.assertThat(batchValues1.performAction(1, action12)).isEqualTo(3);
+        Assertions.assertThat(action12.getValues()).containsExactlyInOrder("xval2_1", "xval1_1", "xval3_1");
+        Assertions.assertThat(batchValues1.performAction(1, null)).isEqualTo(0);
+
+        ConditionalValues<String> conditionalValues2 = createConditionalValues(new NaturalOrderComparator<String>());
+        BatchValues<String> batchValues2 = new BatchValues<>(conditionalValues2, new int[]{0, 0, 2, 3}, new int[]{0, 1, 2});
+        ConcatStringAction action2 = new ConcatStringAction("x", 1);
+        Assertions.assertThat(batchValues2.performAction(1, action2)).isEqualTo(3);
+        Assertions.assertThat(action2.getValues()).containsExactlyInOrder("xval1_1", "xval2_1", "xval3_1");
+    }
+
+    /**
+     * {@link BatchValues} class test.
+     */
+    @Test
+    public void toStringTest() {
+        ConditionalValues<String> conditionalValues = createConditionalValues(null);
+        Assertions.assertThat(new BatchValues<>(conditionalValues, new int[]{0}, new int[0])).hasToString("[]");
+        Assertions.assertThat(new BatchValues<>(conditionalValues, new int[]{0, 0, 1, 2}, new int[]{1, 2})).hasToString("[[], [{cond=[val2]}], [{cond=[val3]}]]");
+    }
+
+    private ConditionalValues<String> createConditionalValues(final NaturalOrderComparator<String> comparator) {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.addCondition("cond", "val1");
+        valueSetBuilder.addValue("val2");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond", "val2");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond", "val3");
+        valueSetBuilder.addValue("val4");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3);
+        return new ConditionalValues<>(null, null, null, comparator, valueSets);
+    }
+
+}
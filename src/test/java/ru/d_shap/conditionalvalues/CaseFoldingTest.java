@@ -0,0 +1,78 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link CaseFolding}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CaseFoldingTest {
+
+    /**
+     * Test class constructor.
+     */
+    public CaseFoldingTest() {
+        super();
+    }
+
+    /**
+     * {@link CaseFolding} class test.
+     */
+    @Test
+    public void foldCaseCharTest() {
+        Assertions.assertThat(CaseFolding.foldCase('a')).isEqualTo('a');
+        Assertions.assertThat(CaseFolding.foldCase('A')).isEqualTo('a');
+        Assertions.assertThat(CaseFolding.foldCase('1')).isEqualTo('1');
+        Assertions.assertThat(CaseFolding.foldCase('\u017f')).isEqualTo('s');
+        Assertions.assertThat(CaseFolding.foldCase('\u212a')).isEqualTo('k');
+    }
+
+    /**
+     * {@link CaseFolding} class test.
+     */
+    @Test
+    public void foldCaseStringTest() {
+        Assertions.assertThat(CaseFolding.foldCase("")).isEqualTo("");
+        Assertions.assertThat(CaseFolding.foldCase("aBc1")).isEqualTo("abc1");
+        Assertions.assertThat(CaseFolding.foldCase("\u0130")).isEqualTo("i");
+    }
+
+    /**
+     * {@link CaseFolding} class test.
+     */
+    @Test
+    public void foldCaseEqualsIgnoreCaseTest() {
+        for (char ch1 = 0; ch1 < 0x600; ch1++) {
+            for (char ch2 = 0; ch2 < 0x600; ch2++) {
+                boolean equalsIgnoreCase = String.valueOf(ch1).equalsIgnoreCase(String.valueOf(ch2));
+                boolean foldedEquals = CaseFolding.foldCase(ch1) == CaseFolding.foldCase(ch2);
+                if (foldedEquals != equalsIgnoreCase) {
+                    Assertions.fail((int) ch1 + " " + (int) ch2);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link CellBuffer}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CellBufferTest {
+
+    /**
+     * Test class constructor.
+     */
+    public CellBufferTest() {
+        super();
+    }
+
+    /**
+     * {@link CellBuffer} class test.
+     */
+    @Test
+    public void appendTest() {
+        CellBuffer cellBuffer = new CellBuffer();
+        Assertions.assertThat(cellBuffer.getSize()).isEqualTo(0);
+        Assertions.assertThat(cellBuffer.length()).isEqualTo(0);
+        Assertions.assertThat(cellBuffer.toString()).isEqualTo("");
+
+        cellBuffer.append('a');
+        cellBuffer.append('b');
+        Assertions.assertThat(cellBuffer.getSize()).isEqualTo(2);
+        Assertions.assertThat(cellBuffer.length()).isEqualTo(2);
+        Assertions.assertThat(cellBuffer.getChar(0)).isEqualTo('a');
+        Assertions.assertThat(cellBuffer.getChar(1)).isEqualTo('b');
+        Assertions.assertThat(cellBuffer.toString()).isEqualTo("ab");
+
+        for (int i = 0; i < 100; i++) {
+            cellBuffer.append('c');
+        }
+        Assertions.assertThat(cellBuffer.getSize()).isEqualTo(102);
+        Assertions.assertThat(cellBuffer.charAt(101)).isEqualTo('c');
+    }
+
+    /**
+     * {@link CellBuffer} class test.
+     */
+    @Test
+    public void clearTest() {
+        CellBuffer cellBuffer = new CellBuffer();
+        cellBuffer.append('a');
+        cellBuffer.append('b');
+        cellBuffer.setRange(1, 1);
+        cellBuffer.clear();
+        Assertions.assertThat(cellBuffer.getSize()).isEqualTo(0);
+        Assertions.assertThat(cellBuffer.length()).isEqualTo(0);
+        Assertions.assertThat(cellBuffer.toString()).isEqualTo("");
+    }
+
+    /**
+     * {@link CellBuffer} class test.
+     */
+    @Test
+    public void setRangeTest() {
+        CellBuffer cellBuffer = new CellBuffer();
+        cellBuffer.append('a');
+        cellBuffer.append('|');
+        cellBuffer.append('b');
+        cellBuffer.append('c');
+        cellBuffer.setRange(2, 2);
+        Assertions.assertThat(cellBuffer.getSize()).isEqualTo(4);
+        Assertions.assertThat(cellBuffer.length()).isEqualTo(2);
+        Assertions.assertThat(cellBuffer.charAt(0)).isEqualTo('b');
+        Assertions.assertThat(cellBuffer.charAt(1)).isEqualTo('c');
+        Assertions.assertThat(cellBuffer.subSequence(1, 2).toString()).isEqualTo("c");
+        Assertions.assertThat(cellBuffer.toString()).isEqualTo("bc");
+    }
+
+    /**
+     * {@link CellBuffer} class test.
+     */
+    @Test
+    public void charAtOutOfBoundsFailTest() {
+        CellBuffer cellBuffer = new CellBuffer();
+        cellBuffer.append('a');
+        cellBuffer.append('b');
+        cellBuffer.setRange(1, 1);
+        try {
+            cellBuffer.charAt(1);
+            Assertions.fail("CellBuffer test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Index: 1, length: 1");
+        }
+        try {
+            cellBuffer.charAt(-1);
+            Assertions.fail("CellBuffer test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Index: -1, length: 1");
+        }
+    }
+
+    /**
+     * {@link CellBuffer} class test.
+     */
+    @Test
+    public void subSequenceOutOfBoundsFailTest() {
+        CellBuffer cellBuffer = new CellBuffer();
+        cellBuffer.append('a');
+        cellBuffer.append('b');
+        try {
+            cellBuffer.subSequence(1, 3);
+            Assertions.fail("CellBuffer test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Start: 1, end: 3, length: 2");
+        }
+        try {
+            cellBuffer.subSequence(2, 1);
+            Assertions.fail("CellBuffer test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Start: 2, end: 1, length: 2");
+        }
+        try {
+            cellBuffer.subSequence(-1, 1);
+            Assertions.fail("CellBuffer test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Start: -1, end: 1, length: 2");
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link ConditionNameMask}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ConditionNameMaskTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ConditionNameMaskTest() {
+        super();
+    }
+
+    /**
+     * {@link ConditionNameMask} class test.
+     */
+    @Test
+    public void getTest() {
+        ConditionNameMask mask1 = new ConditionNameMask();
+        Assertions.assertThat(mask1.getCardinality()).isEqualTo(0);
+        Assertions.assertThat(mask1.get(-1)).isFalse();
+        Assertions.assertThat(mask1.get(0)).isFalse();
+
+        ConditionNameMask mask2 = new ConditionNameMask(1, 3, 64, 130, -5);
+        Assertions.assertThat(mask2.getCardinality()).isEqualTo(4);
+        Assertions.assertThat(mask2.get(0)).isFalse();
+        Assertions.assertThat(mask2.get(1)).isTrue();
+        Assertions.assertThat(mask2.get(3)).isTrue();
+        Assertions.assertThat(mask2.get(63)).isFalse();
+        Assertions.assertThat(mask2.get(64)).isTrue();
+        Assertions.assertThat(mask2.get(130)).isTrue();
+        Assertions.assertThat(mask2.get(200)).isFalse();
+
+        ConditionNameMask mask3 = new ConditionNameMask((int[]) null);
+        Assertions.assertThat(mask3.getCardinality()).isEqualTo(0);
+    }
+
+    /**
+     * {@link ConditionNameMask} class test.
+     */
+    @Test
+    public void getWordCountTest() {
+        Assertions.assertThat(ConditionNameMask.getWordCount(0)).isEqualTo(0);
+        Assertions.assertThat(ConditionNameMask.getWordCount(1)).isEqualTo(1);
+        Assertions.assertThat(ConditionNameMask.getWordCount(64)).isEqualTo(1);
+        Assertions.assertThat(ConditionNameMask.getWordCount(65)).isEqualTo(2);
+        Assertions.assertThat(ConditionNameMask.getWordCount(128)).isEqualTo(2);
+    }
+
+    /**
+     * {@link ConditionNameMask} class test.
+     */
+    @Test
+    public void setBitTest() {
+        long[] words = new long[2];
+        ConditionNameMask.setBit(words, 0);
+        ConditionNameMask.setBit(words, 3);
+        ConditionNameMask.setBit(words, 64);
+        ConditionNameMask.setBit(words, 3);
+        Assertions.assertThat(words).containsExactlyInOrder(9L, 1L);
+    }
+
+    /**
+     * {@link ConditionNameMask} class test.
+     */
+    @Test
+    public void getBitTest() {
+        long[] words = new long[]{9L, 1L};
+        Assertions.assertThat(ConditionNameMask.getBit(words, 0)).isTrue();
+        Assertions.assertThat(ConditionNameMask.getBit(words, 1)).isFalse();
+        Assertions.assertThat(ConditionNameMask.getBit(words, 3)).isTrue();
+        Assertions.assertThat(ConditionNameMask.getBit(words, 63)).isFalse();
+        Assertions.assertThat(ConditionNameMask.getBit(words, 64)).isTrue();
+        Assertions.assertThat(ConditionNameMask.getBit(words, 65)).isFalse();
+    }
+
+    /**
+     * {@link ConditionNameMask} class test.
+     */
+    @Test
+    public void isSubsetOfTest() {
+        ConditionNameMask mask1 = new ConditionNameMask();
+        ConditionNameMask mask2 = new ConditionNameMask(1, 3);
+        ConditionNameMask mask3 = new ConditionNameMask(1, 3, 100);
+        ConditionNameMask mask4 = new ConditionNameMask(1, 100);
+
+        Assertions.assertThat(mask1.isSubsetOf(null)).isFalse();
+        Assertions.assertThat(mask1.isSubsetOf(mask1)).isTrue();
+        Assertions.assertThat(mask1.isSubsetOf(mask2)).isTrue();
+        Assertions.assertThat(mask2.isSubsetOf(mask1)).isFalse();
+        Assertions.assertThat(mask2.isSubsetOf(mask3)).isTrue();
+        Assertions.assertThat(mask3.isSubsetOf(mask2)).isFalse();
+        Assertions.assertThat(mask4.isSubsetOf(mask3)).isTrue();
+        Assertions.assertThat(mask2.isSubsetOf(mask4)).isFalse();
+
+        Assertions.assertThat(mask1.isStrictSubsetOf(null)).isFalse();
+        Assertions.assertThat(mask1.isStrictSubsetOf(mask1)).isFalse();
+        Assertions.assertThat(mask1.isStrictSubsetOf(mask2)).isTrue();
+        Assertions.assertThat(mask2.isStrictSubsetOf(mask2)).isFalse();
+        Assertions.assertThat(mask2.isStrictSubsetOf(mask3)).isTrue();
+        Assertions.assertThat(mask3.isStrictSubsetOf(mask2)).isFalse();
+        Assertions.assertThat(mask2.isStrictSubsetOf(mask4)).isFalse();
+    }
+
+    /**
+     * {@link ConditionNameMask} class test.
+     */
+    @Test
+    public void equalsTest() {
+        ConditionNameMask mask1 = new ConditionNameMask(1, 3);
+        ConditionNameMask mask2 = new ConditionNameMask(3, 1, 3);
+        ConditionNameMask mask3 = new ConditionNameMask(1, 3, 100);
+
+        Assertions.assertThat(mask1.equals(mask1)).isTrue();
+        Assertions.assertThat(mask1.equals(mask2)).isTrue();
+        Assertions.assertThat(mask1.hashCode()).isEqualTo(mask2.hashCode());
+        Assertions.assertThat(mask1.equals(mask3)).isFalse();
+        Assertions.assertThat(mask1.equals(null)).isFalse();
+        Assertions.assertThat(mask1.equals("mask")).isFalse();
+
+        ConditionNameMask mask4 = new ConditionNameMask(-1, 1, 3, -100);
+        Assertions.assertThat(mask1.equals(mask4)).isTrue();
+        Assertions.assertThat(mask1.hashCode()).isEqualTo(mask4.hashCode());
+        Assertions.assertThat(new ConditionNameMask(-1).equals(new ConditionNameMask())).isTrue();
+    }
+
+    /**
+     * {@link ConditionNameMask} class test.
+     */
+    @Test
+    public void toStringTest() {
+        Assertions.assertThat(new ConditionNameMask()).hasToString("{}");
+        Assertions.assertThat(new ConditionNameMask(1, 3, 70)).hasToString("{1, 3, 70}");
+    }
+
+}
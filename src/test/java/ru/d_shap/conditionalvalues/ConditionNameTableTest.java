@@ -0,0 +1,120 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link ConditionNameTable}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ConditionNameTableTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ConditionNameTableTest() {
+        super();
+    }
+
+    /**
+     * {@link ConditionNameTable} class test.
+     */
+    @Test
+    public void getConditionIdTest() {
+        ConditionNameTable conditionNameTable1 = new ConditionNameTable((List<ValueSet<String>>) null);
+        Assertions.assertThat(conditionNameTable1.getConditionNameCount()).isEqualTo(0);
+        Assertions.assertThat(conditionNameTable1.getConditionId("cond1")).isEqualTo(-1);
+
+        ConditionNameTable conditionNameTable2 = new ConditionNameTable(createValueSets());
+        Assertions.assertThat(conditionNameTable2.getConditionNameCount()).isEqualTo(3);
+        Assertions.assertThat(conditionNameTable2.getConditionId("cond1")).isEqualTo(0);
+        Assertions.assertThat(conditionNameTable2.getConditionId("cond2")).isEqualTo(1);
+        Assertions.assertThat(conditionNameTable2.getConditionId("cond3")).isEqualTo(2);
+        Assertions.assertThat(conditionNameTable2.getConditionId("cond4")).isEqualTo(-1);
+        Assertions.assertThat(conditionNameTable2.getConditionId(null)).isEqualTo(-1);
+        Assertions.assertThat(conditionNameTable2.getConditionName(0)).isEqualTo("cond1");
+        Assertions.assertThat(conditionNameTable2.getConditionName(1)).isEqualTo("cond2");
+        Assertions.assertThat(conditionNameTable2.getConditionName(2)).isEqualTo("cond3");
+    }
+
+    /**
+     * {@link ConditionNameTable} class test.
+     */
+    @Test
+    public void getConditionValuesTest() {
+        ConditionNameTable conditionNameTable = new ConditionNameTable(createValueSets());
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        ConditionSet conditionSet1 = conditionSetBuilder.build();
+        Assertions.assertThat(conditionNameTable.getConditionValues(conditionSet1)).containsExactlyInOrder(null, null, null);
+
+        ConditionSet conditionSet2 = conditionSetBuilder.addCondition("cond3", "val3").addCondition("cond1", 1).addCondition("cond4", "val4").build();
+        Assertions.assertThat(conditionNameTable.getConditionValues(conditionSet2)).containsExactlyInOrder(1, null, "val3");
+
+        Object[] conditionValues = new Object[]{"val1", "val2", "val3"};
+        ConditionSet conditionSet3 = conditionSetBuilder.addCondition("cond2", 2).build();
+        Assertions.assertThat(conditionNameTable.getConditionValues(conditionSet3, conditionValues)).isSameAs(conditionValues);
+        Assertions.assertThat(conditionValues).containsExactlyInOrder(null, 2, null);
+
+        ConditionSet conditionSet4 = ConditionSetBuilder.newInstance(conditionNameTable).addCondition("cond2", 2).build();
+        Assertions.assertThat(conditionNameTable.getConditionValues(conditionSet4, conditionValues)).isSameAs(conditionSet4.getConditionValues());
+    }
+
+    /**
+     * {@link ConditionNameTable} class test.
+     */
+    @Test
+    public void createConditionValuesTest() {
+        ConditionNameTable conditionNameTable = new ConditionNameTable(createValueSets());
+
+        Map<String, Object> conditions1 = DataHelper.createHashMap();
+        Assertions.assertThat(conditionNameTable.createConditionValues(conditions1)).containsExactlyInOrder(null, null, null);
+
+        Map<String, Object> conditions2 = DataHelper.createHashMap();
+        conditions2.put("cond2", "val2");
+        conditions2.put("cond4", "val4");
+        Assertions.assertThat(conditionNameTable.createConditionValues(conditions2)).containsExactlyInOrder(null, "val2", null);
+    }
+
+    /**
+     * {@link ConditionNameTable} class test.
+     */
+    @Test
+    public void toStringTest() {
+        Assertions.assertThat(new ConditionNameTable((List<ValueSet<String>>) null)).hasToString("{}");
+        Assertions.assertThat(new ConditionNameTable(createValueSets()).toString()).contains("cond1=0");
+    }
+
+    private List<ValueSet<String>> createValueSets() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.addCondition("cond3", "val").addCondition("cond1", "val").addValue("val1").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.addCondition("cond2", "val").addCondition("cond1", "val").addValue("val2").build();
+        return DataHelper.createArrayList(valueSet1, valueSet2);
+    }
+
+}
@@ -0,0 +1,172 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link ConditionRegion}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ConditionRegionTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ConditionRegionTest() {
+        super();
+    }
+
+    /**
+     * {@link ConditionRegion} class test.
+     */
+    @Test
+    public void getConditionsTest() {
+        Map<String, Set<Object>> conditions = new HashMap<>();
+        ConditionRegion conditionRegion1 = new ConditionRegion(conditions);
+        Assertions.assertThat(conditionRegion1.getConditions()).isEmpty();
+
+        conditions.put("cond2", DataHelper.<Object>createHashSet(1, 2));
+        conditions.put("cond1", DataHelper.<Object>createHashSet("a"));
+        ConditionRegion conditionRegion2 = new ConditionRegion(conditions);
+        conditions.clear();
+        Assertions.assertThat(conditionRegion2.getConditions()).hasSize(2);
+        Assertions.assertThat(conditionRegion2.getConditions().get("cond1")).containsExactly("a");
+        Assertions.assertThat(conditionRegion2.getConditions().get("cond2")).containsExactly(1, 2);
+    }
+
+    /**
+     * {@link ConditionRegion} class test.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void getConditionsUnmodifiableFailTest() {
+        Map<String, Set<Object>> conditions = new HashMap<>();
+        conditions.put("cond1", DataHelper.<Object>createHashSet("a"));
+        new ConditionRegion(conditions).getConditions().put("cond2", DataHelper.<Object>createHashSet("b"));
+    }
+
+    /**
+     * {@link ConditionRegion} class test.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void getConditionsValuesUnmodifiableFailTest() {
+        Map<String, Set<Object>> conditions = new HashMap<>();
+        conditions.put("cond1", DataHelper.<Object>createHashSet("a"));
+        new ConditionRegion(conditions).getConditions().get("cond1").add("b");
+    }
+
+    /**
+     * {@link ConditionRegion} class test.
+     */
+    @Test
+    public void getConditionSetCountTest() {
+        Map<String, Set<Object>> conditions = new HashMap<>();
+        Assertions.assertThat(new ConditionRegion(conditions).getConditionSetCount()).isEqualTo(1L);
+        conditions.put("cond1", DataHelper.<Object>createHashSet(1, 2));
+        conditions.put("cond2", DataHelper.<Object>createHashSet(1, 2, 3));
+        Assertions.assertThat(new ConditionRegion(conditions).getConditionSetCount()).isEqualTo(6L);
+        conditions.put("cond3", DataHelper.<Object>createHashSet());
+        Assertions.assertThat(new ConditionRegion(conditions).getConditionSetCount()).isEqualTo(0L);
+
+        Map<String, Set<Object>> largeConditions = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            Set<Object> conditionValues = DataHelper.createHashSet();
+            for (int j = 0; j < 10000; j++) {
+                conditionValues.add(j);
+            }
+            largeConditions.put("cond" + i, conditionValues);
+        }
+        Assertions.assertThat(new ConditionRegion(largeConditions).getConditionSetCount()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    /**
+     * {@link ConditionRegion} class test.
+     */
+    @Test
+    public void isDisjointTest() {
+        ConditionRegion conditionRegion = createConditionRegion(DataHelper.<Object>createHashSet(1, 2, 3), DataHelper.<Object>createHashSet("a", "b"));
+        Assertions.assertThat(conditionRegion.isDisjoint(createConditionRegion(DataHelper.<Object>createHashSet(3, 4), DataHelper.<Object>createHashSet("b", "c")))).isFalse();
+        Assertions.assertThat(conditionRegion.isDisjoint(createConditionRegion(DataHelper.<Object>createHashSet(4), DataHelper.<Object>createHashSet("a")))).isTrue();
+        Assertions.assertThat(conditionRegion.isDisjoint(createConditionRegion(DataHelper.<Object>createHashSet(1), DataHelper.<Object>createHashSet("c")))).isTrue();
+
+        Map<String, Set<Object>> conditions = new HashMap<>();
+        conditions.put("cond1", DataHelper.<Object>createHashSet(1));
+        Assertions.assertThat(conditionRegion.isDisjoint(new ConditionRegion(conditions))).isFalse();
+        Assertions.assertThat(conditionRegion.isDisjoint(new ConditionRegion(new HashMap<String, Set<Object>>()))).isFalse();
+    }
+
+    /**
+     * {@link ConditionRegion} class test.
+     */
+    @Test
+    public void subtractTest() {
+        ConditionRegion conditionRegion = createConditionRegion(DataHelper.<Object>createHashSet(1, 2, 3), DataHelper.<Object>createHashSet("a", "b"));
+
+        List<ConditionRegion> conditionRegions1 = new ArrayList<>();
+        conditionRegion.subtract(createConditionRegion(DataHelper.<Object>createHashSet(4), DataHelper.<Object>createHashSet("a")), conditionRegions1);
+        Assertions.assertThat(conditionRegions1).hasSize(1);
+        Assertions.assertThat(conditionRegions1.get(0)).isSameAs(conditionRegion);
+
+        List<ConditionRegion> conditionRegions2 = new ArrayList<>();
+        conditionRegion.subtract(createConditionRegion(DataHelper.<Object>createHashSet(2, 3, 4), DataHelper.<Object>createHashSet("b", "c")), conditionRegions2);
+        Assertions.assertThat(conditionRegions2).hasToString("[{cond1=[1], cond2=[a, b]}, {cond1=[2, 3], cond2=[a]}]");
+
+        List<ConditionRegion> conditionRegions3 = new ArrayList<>();
+        conditionRegion.subtract(createConditionRegion(DataHelper.<Object>createHashSet(1, 2, 3), DataHelper.<Object>createHashSet("a", "b")), conditionRegions3);
+        Assertions.assertThat(conditionRegions3).isEmpty();
+
+        Map<String, Set<Object>> conditions = new HashMap<>();
+        conditions.put("cond1", DataHelper.<Object>createHashSet(2));
+        List<ConditionRegion> conditionRegions4 = new ArrayList<>();
+        conditionRegion.subtract(new ConditionRegion(conditions), conditionRegions4);
+        Assertions.assertThat(conditionRegions4).hasToString("[{cond1=[1, 3], cond2=[a, b]}]");
+
+        List<ConditionRegion> conditionRegions5 = new ArrayList<>();
+        conditionRegion.subtract(new ConditionRegion(new HashMap<String, Set<Object>>()), conditionRegions5);
+        Assertions.assertThat(conditionRegions5).isEmpty();
+    }
+
+    /**
+     * {@link ConditionRegion} class test.
+     */
+    @Test
+    public void toStringTest() {
+        Assertions.assertThat(new ConditionRegion(new HashMap<String, Set<Object>>())).hasToString("{}");
+        Assertions.assertThat(createConditionRegion(DataHelper.<Object>createHashSet(1, 2), DataHelper.<Object>createHashSet("a"))).hasToString("{cond1=[1, 2], cond2=[a]}");
+    }
+
+    private ConditionRegion createConditionRegion(final Set<Object> conditionValues1, final Set<Object> conditionValues2) {
+        Map<String, Set<Object>> conditions = new HashMap<>();
+        conditions.put("cond2", conditionValues2);
+        conditions.put("cond1", conditionValues1);
+        return new ConditionRegion(conditions);
+    }
+
+}
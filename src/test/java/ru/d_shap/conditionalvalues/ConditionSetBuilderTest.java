@@ -23,6 +23,7 @@ import org.junit.Test;
 
 import ru.d_shap.assertions.Assertions;
 import ru.d_shap.assertions.Raw;
+import ru.d_shap.assertions.util.DataHelper;
 
 /**
  * Tests for {@link ConditionSetBuilder}.
@@ -53,6 +54,26 @@ public final class ConditionSetBuilderTest {
         Assertions.assertThat(conditionSetBuilder2).isNotSameAs(conditionSetBuilder1);
     }
 
+    /**
+     * {@link ConditionSetBuilder} class test.
+     */
+    @Test
+    public void newInstanceConditionNameTableTest() {
+        ValueSet<String> valueSet = ValueSetBuilder.<String>newInstance().addCondition("cond1", "val").addCondition("cond2", "val").addValue("val").build();
+        ConditionNameTable conditionNameTable = new ConditionNameTable(DataHelper.createArrayList(valueSet));
+
+        ConditionSetBuilder conditionSetBuilder1 = ConditionSetBuilder.newInstance(conditionNameTable);
+        ConditionSet conditionSet1 = conditionSetBuilder1.addCondition("cond2", "val2").addCondition("cond3", "val3").build();
+        Assertions.assertThat(conditionSet1.isBound(conditionNameTable)).isTrue();
+        Assertions.assertThat(conditionSet1.getConditionValues()).containsExactlyInOrder(null, "val2");
+        Assertions.assertThat(conditionSet1.nameIterator()).containsExactly("cond2", "cond3");
+
+        ConditionSetBuilder conditionSetBuilder2 = ConditionSetBuilder.newInstance(null);
+        ConditionSet conditionSet2 = conditionSetBuilder2.addCondition("cond2", "val2").build();
+        Assertions.assertThat(conditionSet2.isBound(conditionNameTable)).isFalse();
+        Assertions.assertThat(conditionSet2.getConditionValues()).isNull();
+    }
+
     /**
      * {@link ConditionSetBuilder} class test.
      */
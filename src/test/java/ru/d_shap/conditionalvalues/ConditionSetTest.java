@@ -19,6 +19,7 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.conditionalvalues;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Test;
@@ -134,6 +135,98 @@ public final class ConditionSetTest {
         Assertions.assertThat(conditionSet6.getValue("cond4")).isNull();
     }
 
+    /**
+     * {@link ConditionSet} class test.
+     */
+    @Test
+    public void getConditionValuesTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.addCondition("cond1", "val").addCondition("cond2", "val").addValue("val1").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.addCondition("cond3", "val").addValue("val2").build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2);
+        ConditionNameTable conditionNameTable1 = new ConditionNameTable(valueSets);
+        ConditionNameTable conditionNameTable2 = new ConditionNameTable(valueSets);
+
+        Map<String, Object> conditions = DataHelper.createHashMap();
+        conditions.put("cond3", "val3");
+        conditions.put("cond1", "val1");
+        conditions.put("cond4", "val4");
+        conditions.put("cond2", null);
+
+        ConditionSet conditionSet1 = new ConditionSet(conditions);
+        Assertions.assertThat(conditionSet1.isBound(conditionNameTable1)).isFalse();
+        Assertions.assertThat(conditionSet1.isBound(null)).isFalse();
+        Assertions.assertThat(conditionSet1.getConditionValues()).isNull();
+
+        ConditionSet conditionSet2 = new ConditionSet(conditions, conditionNameTable1);
+        Assertions.assertThat(conditionSet2.isBound(conditionNameTable1)).isTrue();
+        Assertions.assertThat(conditionSet2.isBound(conditionNameTable2)).isFalse();
+        Assertions.assertThat(conditionSet2.getConditionValues()).containsExactlyInOrder("val1", null, "val3");
+        Assertions.assertThat(conditionSet2.nameIterator()).containsExactly("cond1", "cond3", "cond4");
+        Assertions.assertThat(conditionSet2.getValue("cond4")).isEqualTo("val4");
+        Assertions.assertThat(conditionNameTable1.getConditionValues(conditionSet2)).isSameAs(conditionSet2.getConditionValues());
+        Assertions.assertThat(conditionNameTable2.getConditionValues(conditionSet2)).isNotSameAs(conditionSet2.getConditionValues());
+        Assertions.assertThat(conditionNameTable2.getConditionValues(conditionSet2)).containsExactlyInOrder("val1", null, "val3");
+    }
+
+    /**
+     * {@link ConditionSet} class test.
+     */
+    @Test
+    public void equalsTest() {
+        Map<String, Object> conditions1 = DataHelper.createHashMap();
+        conditions1.put("cond1", "val1");
+        conditions1.put("cond2", 2);
+        Map<String, Object> conditions2 = DataHelper.createHashMap();
+        conditions2.put("cond2", 2);
+        conditions2.put("cond1", "val1");
+        conditions2.put("cond3", null);
+        Map<String, Object> conditions3 = DataHelper.createHashMap();
+        conditions3.put("cond1", "val1");
+        conditions3.put("cond2", 3);
+
+        ConditionSet conditionSet1 = new ConditionSet(conditions1);
+        ConditionSet conditionSet2 = new ConditionSet(conditions2);
+        ConditionSet conditionSet3 = new ConditionSet(conditions3);
+        ConditionSet conditionSet4 = new ConditionSet(conditions1, new ConditionNameTable((List<ValueSet<String>>) null));
+        Assertions.assertThat(conditionSet1.equals(conditionSet1)).isTrue();
+        Assertions.assertThat(conditionSet1.equals(conditionSet2)).isTrue();
+        Assertions.assertThat(conditionSet2.equals(conditionSet1)).isTrue();
+        Assertions.assertThat(conditionSet1.equals(conditionSet4)).isTrue();
+        Assertions.assertThat(conditionSet1.equals(conditionSet3)).isFalse();
+        Assertions.assertThat(conditionSet3.equals(conditionSet1)).isFalse();
+        Assertions.assertThat(conditionSet1.equals(conditions1)).isFalse();
+        Assertions.assertThat(conditionSet1.equals(null)).isFalse();
+        Assertions.assertThat(new ConditionSet(null).equals(new ConditionSet(DataHelper.<String, Object>createHashMap()))).isTrue();
+
+        Map<String, Object> conditions5 = DataHelper.createHashMap();
+        conditions5.put("cond1", "Aa");
+        Map<String, Object> conditions6 = DataHelper.createHashMap();
+        conditions6.put("cond1", "BB");
+        ConditionSet conditionSet5 = new ConditionSet(conditions5);
+        ConditionSet conditionSet6 = new ConditionSet(conditions6);
+        Assertions.assertThat(conditionSet5.hashCode()).isEqualTo(conditionSet6.hashCode());
+        Assertions.assertThat(conditionSet5.equals(conditionSet6)).isFalse();
+    }
+
+    /**
+     * {@link ConditionSet} class test.
+     */
+    @Test
+    public void hashCodeTest() {
+        Map<String, Object> conditions1 = DataHelper.createHashMap();
+        conditions1.put("cond1", "val1");
+        conditions1.put("cond2", 2);
+        Map<String, Object> conditions2 = DataHelper.createHashMap();
+        conditions2.put("cond2", 2);
+        conditions2.put("cond1", "val1");
+        conditions2.put(null, "val3");
+
+        Assertions.assertThat(new ConditionSet(conditions1).hashCode()).isEqualTo(new ConditionSet(conditions2).hashCode());
+        Assertions.assertThat(new ConditionSet(conditions1).hashCode()).isEqualTo(conditions1.hashCode());
+        Assertions.assertThat(new ConditionSet(null).hashCode()).isEqualTo(0);
+    }
+
     /**
      * {@link ConditionSet} class test.
      */
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.junit.Test;
 
@@ -35,6 +36,7 @@ import ru.d_shap.conditionalvalues.data.StringLengthComparator;
 import ru.d_shap.conditionalvalues.misc.NaturalOrderComparator;
 import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
 import ru.d_shap.conditionalvalues.predicate.EqualsPredicate;
+import ru.d_shap.conditionalvalues.predicate.PatternFindPredicate;
 import ru.d_shap.conditionalvalues.predicate.SomeValuesMatchTuplePredicate;
 import ru.d_shap.conditionalvalues.predicate.StringContainsIgnoreCasePredicate;
 import ru.d_shap.conditionalvalues.predicate.StringContainsPredicate;
@@ -881,6 +883,204 @@ public final class ConditionalValuesBuilderTest {
         Assertions.assertThat(conditionalValues.getAllValues()).containsExactly();
     }
 
+    /**
+     * {@link ConditionalValuesBuilder} class test.
+     */
+    @Test
+    public void setPatternPrefilterTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        conditionalValuesBuilder.setPredicate(new PatternFindPredicate());
+        valueSetBuilder.addCondition("cond", Pattern.compile("/users/\\d+"));
+        valueSetBuilder.addValue("value1");
+        conditionalValuesBuilder.addValueSet(valueSetBuilder.build());
+        valueSetBuilder.addCondition("cond", Pattern.compile("/orders/\\d+"));
+        valueSetBuilder.addValue("value2");
+        conditionalValuesBuilder.addValueSet(valueSetBuilder.build());
+        ConditionalValues<String> conditionalValues1 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues1, "_conditionIndexes", Raw.listAssertion()).hasSize(0);
+        Assertions.assertThat(conditionalValues1.lookup(conditionSetBuilder.addCondition("cond", "/users/1").build()).getValues()).containsExactly("value1");
+
+        conditionalValuesBuilder = conditionalValuesBuilder.setPatternPrefilter(true);
+        ConditionalValues<String> conditionalValues2 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues2, "_conditionIndexes", Raw.listAssertion()).hasSize(1);
+        Assertions.assertThat(conditionalValues2.lookup(conditionSetBuilder.addCondition("cond", "/users/1").build()).getValues()).containsExactly("value1");
+        Assertions.assertThat(conditionalValues2.lookup(conditionSetBuilder.addCondition("cond", "/api/orders/2").build()).getValues()).containsExactly("value2");
+        Assertions.assertThat(conditionalValues2.lookup(conditionSetBuilder.addCondition("cond", "/users/x").build()).getValues()).containsExactly();
+
+        conditionalValuesBuilder = conditionalValuesBuilder.setPatternPrefilter(false);
+        ConditionalValues<String> conditionalValues3 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues3, "_conditionIndexes", Raw.listAssertion()).hasSize(0);
+
+        conditionalValuesBuilder.setPatternPrefilter(true);
+        conditionalValuesBuilder.clear();
+        conditionalValuesBuilder.setPredicate(new PatternFindPredicate());
+        valueSetBuilder.addCondition("cond", Pattern.compile("/users/\\d+"));
+        valueSetBuilder.addValue("value1");
+        conditionalValuesBuilder.addValueSet(valueSetBuilder.build());
+        ConditionalValues<String> conditionalValues4 = conditionalValuesBuilder.build();
+        Assertions.assertThat(conditionalValues4, "_conditionIndexes", Raw.listAssertion()).hasSize(0);
+    }
+
+    /**
+     * {@link ConditionalValuesBuilder} class test.
+     */
+    @Test
+    public void setLookupCacheSizeTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond", "val");
+        valueSetBuilder.addValue("value");
+        conditionalValuesBuilder.addValueSet(valueSetBuilder.build());
+        ConditionalValues<String> conditionalValues1 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues1, "_lookupCache").isNull();
+        Assertions.assertThat(conditionalValues1.getLookupCacheStatistics().getMaximumSize()).isEqualTo(0);
+
+        conditionalValuesBuilder = conditionalValuesBuilder.setLookupCacheSize(10);
+        ConditionalValues<String> conditionalValues2 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues2, "_lookupCache").isNotNull();
+        Assertions.assertThat(conditionalValues2.getLookupCacheStatistics().getMaximumSize()).isEqualTo(10);
+        Values<String> values = conditionalValues2.lookup(conditionSetBuilder.addCondition("cond", "val").build());
+        Assertions.assertThat(values.getValues()).containsExactly("value");
+        Values<String> cachedValues = conditionalValues2.lookup(conditionSetBuilder.addCondition("cond", "val").build());
+        Assertions.assertThat(cachedValues).isNotSameAs(values);
+        Assertions.assertThat(cachedValues.getValues()).isSameAs(values.getValues());
+        Assertions.assertThat(conditionalValues2.getLookupCacheStatistics().getHitCount()).isEqualTo(1L);
+
+        conditionalValuesBuilder = conditionalValuesBuilder.setLookupCacheSize(-1);
+        ConditionalValues<String> conditionalValues3 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues3, "_lookupCache").isNull();
+
+        conditionalValuesBuilder.setLookupCacheSize(10);
+        conditionalValuesBuilder.clear();
+        ConditionalValues<String> conditionalValues4 = conditionalValuesBuilder.build();
+        Assertions.assertThat(conditionalValues4, "_lookupCache").isNull();
+    }
+
+    /**
+     * {@link ConditionalValuesBuilder} class test.
+     */
+    @Test
+    public void setParallelScanThresholdTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.setStringContainsPredicate("cond");
+        valueSetBuilder.addCondition("cond", "val");
+        valueSetBuilder.addValue("value");
+        conditionalValuesBuilder.addValueSet(valueSetBuilder.build());
+        ConditionalValues<String> conditionalValues1 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues1, "_parallelScanThreshold").isEqualTo(0);
+
+        conditionalValuesBuilder = conditionalValuesBuilder.setParallelScanThreshold(1);
+        ConditionalValues<String> conditionalValues2 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues2, "_parallelScanThreshold").isEqualTo(1);
+        Assertions.assertThat(conditionalValues2.lookup(conditionSetBuilder.addCondition("cond", "xvalx").build()).getValues()).containsExactly("value");
+        Assertions.assertThat(conditionalValues2.lookup(conditionSetBuilder.addCondition("cond", "xvx").build()).isEmpty()).isTrue();
+
+        conditionalValuesBuilder = conditionalValuesBuilder.setParallelScanThreshold(-1);
+        ConditionalValues<String> conditionalValues3 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues3, "_parallelScanThreshold").isEqualTo(0);
+
+        conditionalValuesBuilder.setParallelScanThreshold(10);
+        conditionalValuesBuilder.clear();
+        ConditionalValues<String> conditionalValues4 = conditionalValuesBuilder.build();
+        Assertions.assertThat(conditionalValues4, "_parallelScanThreshold").isEqualTo(0);
+    }
+
+    /**
+     * {@link ConditionalValuesBuilder} class test.
+     */
+    @Test
+    public void setCompilationThresholdTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.setStringContainsPredicate("cond");
+        valueSetBuilder.addCondition("cond", "val");
+        valueSetBuilder.addValue("value");
+        conditionalValuesBuilder.addValueSet(valueSetBuilder.build());
+        ConditionalValues<String> conditionalValues1 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues1.getTieredMatcher(), "_compilationThreshold").isEqualTo(0);
+
+        conditionalValuesBuilder = conditionalValuesBuilder.setCompilationThreshold(1);
+        ConditionalValues<String> conditionalValues2 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues2.getTieredMatcher(), "_compilationThreshold").isEqualTo(1);
+        Assertions.assertThat(conditionalValues2.lookup(conditionSetBuilder.addCondition("cond", "xvalx").build()).getValues()).containsExactly("value");
+        Assertions.assertThat(conditionalValues2.lookup(conditionSetBuilder.addCondition("cond", "xvx").build()).isEmpty()).isTrue();
+
+        MutableConditionalValues<String> mutableConditionalValues = conditionalValuesBuilder.buildMutable(false);
+        Assertions.assertThat(mutableConditionalValues, "_options").toField("_compilationThreshold").isEqualTo(1);
+
+        conditionalValuesBuilder = conditionalValuesBuilder.setCompilationThreshold(-1);
+        ConditionalValues<String> conditionalValues3 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues3.getTieredMatcher(), "_compilationThreshold").isEqualTo(0);
+
+        conditionalValuesBuilder.setCompilationThreshold(10);
+        conditionalValuesBuilder.clear();
+        ConditionalValues<String> conditionalValues4 = conditionalValuesBuilder.build();
+        Assertions.assertThat(conditionalValues4.getTieredMatcher(), "_compilationThreshold").isEqualTo(0);
+    }
+
+    /**
+     * {@link ConditionalValuesBuilder} class test.
+     */
+    @Test
+    public void setMinimizationTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", 1);
+        valueSetBuilder.addCondition("cond2", "a");
+        valueSetBuilder.addValue("value1");
+        conditionalValuesBuilder.addValueSet(valueSetBuilder.build());
+        valueSetBuilder.addCondition("cond1", 2);
+        valueSetBuilder.addCondition("cond2", "a");
+        valueSetBuilder.addValue("value1");
+        conditionalValuesBuilder.addValueSet(valueSetBuilder.build());
+        valueSetBuilder.addCondition("cond1", 2);
+        valueSetBuilder.addCondition("cond2", "a");
+        valueSetBuilder.addValue("value1");
+        conditionalValuesBuilder.addValueSet(valueSetBuilder.build());
+        ConditionalValues<String> conditionalValues1 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues1.getValueSets()).hasSize(3);
+        Assertions.assertThat(conditionalValues1.getMinimizationReport().getMinimizedValueSetCount()).isEqualTo(3);
+        Assertions.assertThat(conditionalValues1.lookup(conditionSetBuilder.addCondition("cond1", 2).addCondition("cond2", "a").build()).getValues()).containsExactly("value1", "value1");
+
+        conditionalValuesBuilder = conditionalValuesBuilder.setMinimization(true);
+        ConditionalValues<String> conditionalValues2 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues2.getValueSets()).hasToString("[{cond2=[a], cond1=[1, 2]}, {cond2=[a], cond1=[2]}]");
+        Assertions.assertThat(conditionalValues2.getMinimizationReport().getValueSetCount()).isEqualTo(3);
+        Assertions.assertThat(conditionalValues2.getMinimizationReport().getMinimizedValueSetCount()).isEqualTo(2);
+        Assertions.assertThat(conditionalValues2.getMinimizationReport().getDuplicateValueSets()).isEmpty();
+        Assertions.assertThat(conditionalValues2.getMinimizationReport().getMergedValueSets()).hasSize(1);
+        Assertions.assertThat(conditionalValues2.lookup(conditionSetBuilder.addCondition("cond1", 1).addCondition("cond2", "a").build()).getValues()).containsExactly("value1");
+        Assertions.assertThat(conditionalValues2.lookup(conditionSetBuilder.addCondition("cond1", 2).addCondition("cond2", "a").build()).getValues()).containsExactly("value1", "value1");
+        Assertions.assertThat(conditionalValues2.getAllValues()).containsExactly("value1", "value1", "value1");
+        Assertions.assertThat(conditionalValues2.lookup(conditionSetBuilder.addCondition("cond1", 3).addCondition("cond2", "a").build()).isEmpty()).isTrue();
+
+        MutableConditionalValues<String> mutableConditionalValues = conditionalValuesBuilder.buildMutable(false);
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getValueSets()).hasSize(3);
+
+        conditionalValuesBuilder = conditionalValuesBuilder.setMinimization(false);
+        ConditionalValues<String> conditionalValues3 = conditionalValuesBuilder.build(false);
+        Assertions.assertThat(conditionalValues3.getValueSets()).hasSize(3);
+
+        conditionalValuesBuilder.setMinimization(true);
+        conditionalValuesBuilder.clear();
+        conditionalValuesBuilder.addValueSet(valueSetBuilder.addCondition("cond1", 1).addValue("value1").build());
+        conditionalValuesBuilder.addValueSet(valueSetBuilder.addCondition("cond1", 1).addValue("value1").build());
+        ConditionalValues<String> conditionalValues4 = conditionalValuesBuilder.build();
+        Assertions.assertThat(conditionalValues4.getValueSets()).hasSize(2);
+    }
+
     /**
      * {@link ConditionalValuesBuilder} class test.
      */
@@ -1079,4 +1279,37 @@ public final class ConditionalValuesBuilderTest {
         Assertions.assertThat(conditionalValues7.lookup(conditionSetBuilder.addCondition("cond5", "val5").build()).getValues()).containsExactlyInOrder();
     }
 
+    /**
+     * {@link ConditionalValuesBuilder} class test.
+     */
+    @Test
+    public void buildMutableTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        conditionalValuesBuilder.setStringEqualsIgnoreCasePredicate();
+        conditionalValuesBuilder.setNaturalOrderComparator();
+        valueSetBuilder.setId("id1");
+        valueSetBuilder.addCondition("cond1", "vAl1");
+        valueSetBuilder.addValue("value12");
+        valueSetBuilder.addValue("value11");
+        conditionalValuesBuilder.addValueSet(valueSetBuilder.build());
+        MutableConditionalValues<String> mutableConditionalValues1 = conditionalValuesBuilder.buildMutable(false);
+        Assertions.assertThat(mutableConditionalValues1.lookup(conditionSetBuilder.addCondition("cond1", "val1").build()).getValues()).containsExactlyInOrder("value11", "value12");
+
+        valueSetBuilder.setId("id2");
+        valueSetBuilder.addCondition("cond1", "VAL2");
+        valueSetBuilder.addValue("value2");
+        Assertions.assertThat(mutableConditionalValues1.add(valueSetBuilder.build())).isTrue();
+        Assertions.assertThat(mutableConditionalValues1.lookup(conditionSetBuilder.addCondition("cond1", "val2").build()).getValues()).containsExactlyInOrder("value2");
+
+        MutableConditionalValues<String> mutableConditionalValues2 = conditionalValuesBuilder.buildMutable();
+        Assertions.assertThat(mutableConditionalValues2.getSnapshot().getAllValues()).containsExactlyInOrder("value11", "value12");
+        Assertions.assertThat(mutableConditionalValues2.lookup(conditionSetBuilder.addCondition("cond1", "val2").build()).isEmpty()).isTrue();
+
+        MutableConditionalValues<String> mutableConditionalValues3 = conditionalValuesBuilder.buildMutable();
+        Assertions.assertThat(mutableConditionalValues3.getSnapshot().getAllValues()).isEmpty();
+    }
+
 }
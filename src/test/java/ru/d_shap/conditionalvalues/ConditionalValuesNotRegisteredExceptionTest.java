@@ -0,0 +1,60 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link ConditionalValuesNotRegisteredException}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ConditionalValuesNotRegisteredExceptionTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ConditionalValuesNotRegisteredExceptionTest() {
+        super();
+    }
+
+    /**
+     * {@link ConditionalValuesNotRegisteredException} class test.
+     */
+    @Test
+    public void getMessageTest() {
+        Assertions.assertThat(new ConditionalValuesNotRegisteredException(null)).hasMessage("Conditional values are not registered: null");
+        Assertions.assertThat(new ConditionalValuesNotRegisteredException("")).hasMessage("Conditional values are not registered: ");
+        Assertions.assertThat(new ConditionalValuesNotRegisteredException("table")).hasMessage("Conditional values are not registered: table");
+    }
+
+    /**
+     * {@link ConditionalValuesNotRegisteredException} class test.
+     */
+    @Test
+    public void getCauseTest() {
+        Assertions.assertThat(new ConditionalValuesNotRegisteredException(null)).causeIsNull();
+        Assertions.assertThat(new ConditionalValuesNotRegisteredException("")).causeIsNull();
+        Assertions.assertThat(new ConditionalValuesNotRegisteredException("table")).causeIsNull();
+    }
+
+}
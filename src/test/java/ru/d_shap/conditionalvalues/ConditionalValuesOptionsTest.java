@@ -0,0 +1,81 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link ConditionalValuesOptions}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ConditionalValuesOptionsTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ConditionalValuesOptionsTest() {
+        super();
+    }
+
+    /**
+     * {@link ConditionalValuesOptions} class test.
+     */
+    @Test
+    public void defaultOptionsTest() {
+        Assertions.assertThat(ConditionalValuesOptions.DEFAULT.isPatternPrefilter()).isFalse();
+        Assertions.assertThat(ConditionalValuesOptions.DEFAULT.getLookupCacheSize()).isEqualTo(0);
+        Assertions.assertThat(ConditionalValuesOptions.DEFAULT.getParallelScanThreshold()).isEqualTo(0);
+        Assertions.assertThat(ConditionalValuesOptions.DEFAULT.getCompilationThreshold()).isEqualTo(0);
+        Assertions.assertThat(ConditionalValuesOptions.DEFAULT.isMinimization()).isFalse();
+    }
+
+    /**
+     * {@link ConditionalValuesOptions} class test.
+     */
+    @Test
+    public void createOptionsTest() {
+        ConditionalValuesOptions options1 = new ConditionalValuesOptions(true, 10, 20, 30, true);
+        Assertions.assertThat(options1.isPatternPrefilter()).isTrue();
+        Assertions.assertThat(options1.getLookupCacheSize()).isEqualTo(10);
+        Assertions.assertThat(options1.getParallelScanThreshold()).isEqualTo(20);
+        Assertions.assertThat(options1.getCompilationThreshold()).isEqualTo(30);
+        Assertions.assertThat(options1.isMinimization()).isTrue();
+
+        ConditionalValuesOptions options2 = new ConditionalValuesOptions(false, -10, -20, -30, false);
+        Assertions.assertThat(options2.isPatternPrefilter()).isFalse();
+        Assertions.assertThat(options2.getLookupCacheSize()).isEqualTo(0);
+        Assertions.assertThat(options2.getParallelScanThreshold()).isEqualTo(0);
+        Assertions.assertThat(options2.getCompilationThreshold()).isEqualTo(0);
+        Assertions.assertThat(options2.isMinimization()).isFalse();
+    }
+
+    /**
+     * {@link ConditionalValuesOptions} class test.
+     */
+    @Test
+    public void toStringTest() {
+        Assertions.assertThat(ConditionalValuesOptions.DEFAULT).hasToString("patternPrefilter=false, lookupCacheSize=0, parallelScanThreshold=0, compilationThreshold=0, minimization=false");
+        Assertions.assertThat(new ConditionalValuesOptions(true, 10, 20, 30, true)).hasToString("patternPrefilter=true, lookupCacheSize=10, parallelScanThreshold=20, compilationThreshold=30, minimization=true");
+    }
+
+}
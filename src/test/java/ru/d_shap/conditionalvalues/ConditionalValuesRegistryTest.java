@@ -0,0 +1,253 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link ConditionalValuesRegistry}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ConditionalValuesRegistryTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ConditionalValuesRegistryTest() {
+        super();
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test
+    public void getNamesTest() {
+        ConditionalValuesRegistry<String> conditionalValuesRegistry = new ConditionalValuesRegistry<>();
+        Assertions.assertThat(conditionalValuesRegistry.getNames()).isEmpty();
+        conditionalValuesRegistry.register("table1", createConditionalValues("value1"));
+        conditionalValuesRegistry.register("table2", createConditionalValues("value2"));
+        Assertions.assertThat(conditionalValuesRegistry.getNames()).containsExactly("table1", "table2");
+        conditionalValuesRegistry.unregister("table1");
+        Assertions.assertThat(conditionalValuesRegistry.getNames()).containsExactly("table2");
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test
+    public void getTest() {
+        ConditionalValuesRegistry<String> conditionalValuesRegistry = new ConditionalValuesRegistry<>();
+        Assertions.assertThat(conditionalValuesRegistry.get(null)).isNull();
+        Assertions.assertThat(conditionalValuesRegistry.get("table")).isNull();
+
+        ConditionalValues<String> conditionalValues = createConditionalValues("value");
+        conditionalValuesRegistry.register("table", conditionalValues);
+        VersionedConditionalValues<String> versionedConditionalValues = conditionalValuesRegistry.get("table");
+        Assertions.assertThat(versionedConditionalValues.getName()).isEqualTo("table");
+        Assertions.assertThat(versionedConditionalValues.getVersion()).isEqualTo(1L);
+        Assertions.assertThat(versionedConditionalValues.getConditionalValues()).isSameAs(conditionalValues);
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test
+    public void getVersionTest() {
+        ConditionalValuesRegistry<String> conditionalValuesRegistry = new ConditionalValuesRegistry<>();
+        Assertions.assertThat(conditionalValuesRegistry.getVersion(null)).isEqualTo(0L);
+        Assertions.assertThat(conditionalValuesRegistry.getVersion("table1")).isEqualTo(0L);
+        conditionalValuesRegistry.register("table1", createConditionalValues("value1"));
+        conditionalValuesRegistry.register("table2", createConditionalValues("value2"));
+        conditionalValuesRegistry.register("table1", createConditionalValues("value3"));
+        Assertions.assertThat(conditionalValuesRegistry.getVersion("table1")).isEqualTo(3L);
+        Assertions.assertThat(conditionalValuesRegistry.getVersion("table2")).isEqualTo(2L);
+        conditionalValuesRegistry.unregister("table1");
+        Assertions.assertThat(conditionalValuesRegistry.getVersion("table1")).isEqualTo(0L);
+        conditionalValuesRegistry.register("table1", createConditionalValues("value4"));
+        Assertions.assertThat(conditionalValuesRegistry.getVersion("table1")).isEqualTo(4L);
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test
+    public void getConditionalValuesTest() {
+        ConditionalValuesRegistry<String> conditionalValuesRegistry = new ConditionalValuesRegistry<>();
+        ConditionalValues<String> conditionalValues = createConditionalValues("value");
+        conditionalValuesRegistry.register("table", conditionalValues);
+        Assertions.assertThat(conditionalValuesRegistry.getConditionalValues("table")).isSameAs(conditionalValues);
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test(expected = ConditionalValuesNotRegisteredException.class)
+    public void getConditionalValuesNotRegisteredFailTest() {
+        new ConditionalValuesRegistry<String>().getConditionalValues("table");
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test(expected = ConditionalValuesNotRegisteredException.class)
+    public void getConditionalValuesNullNameFailTest() {
+        new ConditionalValuesRegistry<String>().getConditionalValues(null);
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test
+    public void lookupTest() {
+        ConditionalValuesRegistry<String> conditionalValuesRegistry = new ConditionalValuesRegistry<>();
+        ConditionSet conditionSet = ConditionSetBuilder.newInstance().addCondition("cond", "val").build();
+        conditionalValuesRegistry.register("table", createConditionalValues("value1"));
+        ConditionalValues<String> conditionalValues = conditionalValuesRegistry.getConditionalValues("table");
+        Assertions.assertThat(conditionalValuesRegistry.lookup("table", conditionSet).getValues()).containsExactly("value1");
+        conditionalValuesRegistry.register("table", createConditionalValues("value2"));
+        Assertions.assertThat(conditionalValuesRegistry.lookup("table", conditionSet).getValues()).containsExactly("value2");
+        Assertions.assertThat(conditionalValues.lookup(conditionSet).getValues()).containsExactly("value1");
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test(expected = ConditionalValuesNotRegisteredException.class)
+    public void lookupNotRegisteredFailTest() {
+        ConditionSet conditionSet = ConditionSetBuilder.newInstance().addCondition("cond", "val").build();
+        new ConditionalValuesRegistry<String>().lookup("table", conditionSet);
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test
+    public void registerTest() {
+        ConditionalValuesRegistry<String> conditionalValuesRegistry = new ConditionalValuesRegistry<>();
+        Assertions.assertThat(conditionalValuesRegistry.register(null, createConditionalValues("value"))).isEqualTo(0L);
+        Assertions.assertThat(conditionalValuesRegistry.register("table", null)).isEqualTo(0L);
+        Assertions.assertThat(conditionalValuesRegistry.getNames()).isEmpty();
+
+        Assertions.assertThat(conditionalValuesRegistry.register("table", createConditionalValues("value1"))).isEqualTo(1L);
+        Assertions.assertThat(conditionalValuesRegistry.register("table", createConditionalValues("value2"))).isEqualTo(2L);
+        Assertions.assertThat(conditionalValuesRegistry.getConditionalValues("table").getAllValues()).containsExactly("value2");
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test
+    public void registerExpectedVersionTest() {
+        ConditionalValuesRegistry<String> conditionalValuesRegistry = new ConditionalValuesRegistry<>();
+        Assertions.assertThat(conditionalValuesRegistry.register(null, createConditionalValues("value"), 0L)).isEqualTo(0L);
+        Assertions.assertThat(conditionalValuesRegistry.register("table", null, 0L)).isEqualTo(0L);
+        Assertions.assertThat(conditionalValuesRegistry.register("table", createConditionalValues("value1"), 1L)).isEqualTo(0L);
+        Assertions.assertThat(conditionalValuesRegistry.getNames()).isEmpty();
+
+        Assertions.assertThat(conditionalValuesRegistry.register("table", createConditionalValues("value1"), 0L)).isEqualTo(1L);
+        Assertions.assertThat(conditionalValuesRegistry.register("table", createConditionalValues("value2"), 0L)).isEqualTo(0L);
+        Assertions.assertThat(conditionalValuesRegistry.register("table", createConditionalValues("value2"), 2L)).isEqualTo(0L);
+        Assertions.assertThat(conditionalValuesRegistry.getConditionalValues("table").getAllValues()).containsExactly("value1");
+        Assertions.assertThat(conditionalValuesRegistry.register("table", createConditionalValues("value2"), 1L)).isEqualTo(2L);
+        Assertions.assertThat(conditionalValuesRegistry.getConditionalValues("table").getAllValues()).containsExactly("value2");
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test
+    public void unregisterTest() {
+        ConditionalValuesRegistry<String> conditionalValuesRegistry = new ConditionalValuesRegistry<>();
+        Assertions.assertThat(conditionalValuesRegistry.unregister(null)).isNull();
+        Assertions.assertThat(conditionalValuesRegistry.unregister("table")).isNull();
+
+        ConditionalValues<String> conditionalValues = createConditionalValues("value");
+        conditionalValuesRegistry.register("table", conditionalValues);
+        VersionedConditionalValues<String> versionedConditionalValues = conditionalValuesRegistry.unregister("table");
+        Assertions.assertThat(versionedConditionalValues.getVersion()).isEqualTo(1L);
+        Assertions.assertThat(versionedConditionalValues.getConditionalValues()).isSameAs(conditionalValues);
+        Assertions.assertThat(conditionalValuesRegistry.get("table")).isNull();
+        Assertions.assertThat(conditionalValuesRegistry.unregister("table")).isNull();
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test
+    public void listenerTest() {
+        ConditionalValuesRegistry<String> conditionalValuesRegistry = new ConditionalValuesRegistry<>();
+        final List<String> events = new ArrayList<>();
+        ConditionalValuesRegistryListener<String> listener = new ConditionalValuesRegistryListener<String>() {
+
+            @Override
+            public void versionChanged(final String name, final VersionedConditionalValues<String> oldValues, final VersionedConditionalValues<String> newValues) {
+                events.add(name + ":" + getVersion(oldValues) + "->" + getVersion(newValues));
+            }
+
+        };
+        conditionalValuesRegistry.addListener(null);
+        conditionalValuesRegistry.addListener(listener);
+        conditionalValuesRegistry.register("table1", createConditionalValues("value1"));
+        conditionalValuesRegistry.register("table2", createConditionalValues("value2"));
+        conditionalValuesRegistry.register("table1", createConditionalValues("value3"));
+        conditionalValuesRegistry.register("table1", createConditionalValues("value4"), 1L);
+        conditionalValuesRegistry.unregister("table2");
+        conditionalValuesRegistry.unregister("table2");
+        conditionalValuesRegistry.removeListener(listener);
+        conditionalValuesRegistry.removeListener(null);
+        conditionalValuesRegistry.register("table1", createConditionalValues("value5"));
+        Assertions.assertThat(events).containsExactlyInOrder("table1:0->1", "table2:0->2", "table1:1->3", "table2:2->0");
+    }
+
+    /**
+     * {@link ConditionalValuesRegistry} class test.
+     */
+    @Test
+    public void toStringTest() {
+        ConditionalValuesRegistry<String> conditionalValuesRegistry = new ConditionalValuesRegistry<>();
+        Assertions.assertThat(conditionalValuesRegistry).hasToString("{}");
+        conditionalValuesRegistry.register("table", createConditionalValues("value"));
+        Assertions.assertThat(conditionalValuesRegistry).hasToString("{table=table@1=[{cond=[val]}]}");
+    }
+
+    private static long getVersion(final VersionedConditionalValues<String> versionedConditionalValues) {
+        if (versionedConditionalValues == null) {
+            return 0L;
+        } else {
+            return versionedConditionalValues.getVersion();
+        }
+    }
+
+    private ConditionalValues<String> createConditionalValues(final String value) {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.addCondition("cond", "val");
+        valueSetBuilder.addValue(value);
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.build());
+        return new ConditionalValues<>(null, null, null, null, valueSets);
+    }
+
+}
@@ -0,0 +1,444 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.ReflectionHelper;
+import ru.d_shap.conditionalvalues.data.Tuple;
+import ru.d_shap.conditionalvalues.data.TupleValueCodec;
+import ru.d_shap.conditionalvalues.predicate.EqualsPredicate;
+import ru.d_shap.conditionalvalues.predicate.LogicalNotPredicate;
+import ru.d_shap.conditionalvalues.predicate.PatternMatchesPredicate;
+import ru.d_shap.conditionalvalues.predicate.StringEqualsIgnoreCasePredicate;
+
+/**
+ * Tests for {@link ConditionalValuesSnapshot}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ConditionalValuesSnapshotTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ConditionalValuesSnapshotTest() {
+        super();
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeReadTest() throws IOException {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.setId("id1").addCondition("cond1", "val1").addCondition("cond1", "val2").addValue("value12").addValue("value11").build());
+        valueSets.add(valueSetBuilder.setPredicate(new StringEqualsIgnoreCasePredicate()).addCondition("cond1", "VAL3").addValue("value3").build());
+        valueSets.add(valueSetBuilder.setId("id4").setPredicate("cond2", new PatternMatchesPredicate()).addCondition("cond2", Pattern.compile("a\\d+")).addCondition("cond3", 'c').addValue("value4").build());
+        valueSets.add(valueSetBuilder.setId("id5").addCondition("cond3", true).addCondition("cond4", 5).addCondition("cond5", 5L).addValue("value5").build());
+        valueSets.add(valueSetBuilder.setId("id6").addCondition("cond6", 6.5f).addCondition("cond7", 6.5).addValue("value6").build());
+        valueSets.add(valueSetBuilder.setId("id7").addCondition("cond8", "val8").build());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+
+        Path path = Files.createTempFile("conditional-values", ".snapshot");
+        try {
+            ConditionalValuesSnapshot<String> conditionalValuesSnapshot = new ConditionalValuesSnapshot<>();
+            conditionalValuesSnapshot.write(conditionalValues, path);
+            ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+            conditionalValuesBuilder.setNaturalOrderComparator();
+            ConditionalValues<String> snapshotConditionalValues = conditionalValuesSnapshot.read(path, conditionalValuesBuilder);
+
+            Assertions.assertThat(snapshotConditionalValues.getAllConditionNames()).containsExactly("cond1", "cond2", "cond3", "cond4", "cond5", "cond6", "cond7", "cond8");
+            Assertions.assertThat(snapshotConditionalValues.getAllValues()).containsExactlyInOrder("value11", "value12", "value3", "value4", "value5", "value6");
+            Assertions.assertThat(snapshotConditionalValues.getValueSets().get(0).getId()).isEqualTo("id1");
+            Assertions.assertThat(snapshotConditionalValues.getValueSets().get(1).getId()).isNull();
+            Assertions.assertThat(snapshotConditionalValues.getValueSets().get(5).getId()).isEqualTo("id7");
+            Assertions.assertThat(snapshotConditionalValues.getValueSets().get(5).getValues()).isEmpty();
+
+            ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+            Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val2").build()).getValues()).containsExactlyInOrder("value11", "value12");
+            Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val3").build()).getValues()).containsExactlyInOrder("value3");
+            Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond2", "a12").addCondition("cond3", 'c').build()).getValues()).containsExactlyInOrder("value4");
+            Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond2", "b12").addCondition("cond3", 'c').build()).isEmpty()).isTrue();
+            Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond3", true).addCondition("cond4", 5).addCondition("cond5", 5L).build()).getValues()).containsExactlyInOrder("value5");
+            Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond6", 6.5f).addCondition("cond7", 6.5).build()).getValues()).containsExactlyInOrder("value6");
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeReadEmptyTest() throws IOException {
+        Path path = Files.createTempFile("conditional-values", ".snapshot");
+        try {
+            ConditionalValuesSnapshot<String> conditionalValuesSnapshot = new ConditionalValuesSnapshot<>();
+            conditionalValuesSnapshot.write(new ConditionalValues<>(null, null, null, null, new ArrayList<ValueSet<String>>()), path);
+            ConditionalValues<String> snapshotConditionalValues = conditionalValuesSnapshot.read(path, ConditionalValuesBuilder.<String>newInstance());
+            Assertions.assertThat(snapshotConditionalValues.getValueSets()).isEmpty();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeReadCustomValueCodecTest() throws IOException {
+        ValueSetBuilder<Tuple> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Tuple>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.setId("id1").addCondition("cond", new Tuple(1, 2)).addValue(new Tuple(1, 2, 3, 4)).build());
+        ConditionalValues<Tuple> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+
+        List<ValueCodec<?>> valueCodecs = new ArrayList<>();
+        valueCodecs.add(null);
+        valueCodecs.add(new TupleValueCodec());
+        Path path = Files.createTempFile("conditional-values", ".snapshot");
+        try {
+            ConditionalValuesSnapshot<Tuple> conditionalValuesSnapshot = new ConditionalValuesSnapshot<>(valueCodecs);
+            conditionalValuesSnapshot.write(conditionalValues, path);
+            ConditionalValues<Tuple> snapshotConditionalValues = conditionalValuesSnapshot.read(path, ConditionalValuesBuilder.<Tuple>newInstance());
+            ValueSet<Tuple> valueSet = snapshotConditionalValues.getValueSets().get(0);
+            Tuple conditionValue = (Tuple) valueSet.getAllConditionValues("cond").iterator().next();
+            Assertions.assertThat(conditionValue.getValue1()).isEqualTo(1);
+            Assertions.assertThat(conditionValue.getValue2()).isEqualTo(2);
+            Tuple value = valueSet.getValues().get(0);
+            Assertions.assertThat(value.getValue1()).isEqualTo(1);
+            Assertions.assertThat(value.getValue2()).isEqualTo(2);
+            Assertions.assertThat(value.getValue3()).isEqualTo(3);
+            Assertions.assertThat(value.getValue4()).isEqualTo(4);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeNoValueCodecFailTest() throws IOException {
+        ValueSetBuilder<Tuple> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Tuple>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.addCondition("cond", "val").addValue(new Tuple(1, 2)).build());
+        ConditionalValues<Tuple> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+
+        Path path = Files.createTempFile("conditional-values", ".snapshot");
+        try {
+            new ConditionalValuesSnapshot<Tuple>().write(conditionalValues, path);
+            Assertions.fail("ConditionalValuesSnapshot test fail");
+        } catch (SnapshotException ex) {
+            Assertions.assertThat(ex).hasMessage("No codec for the value: " + Tuple.class.getName());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeWrongPredicateFailTest() throws IOException {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.setPredicate("cond", new LogicalNotPredicate(new EqualsPredicate())).addCondition("cond", "val").addValue("value").build());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+
+        Path path = Files.createTempFile("conditional-values", ".snapshot");
+        try {
+            new ConditionalValuesSnapshot<String>().write(conditionalValues, path);
+            Assertions.fail("ConditionalValuesSnapshot test fail");
+        } catch (SnapshotException ex) {
+            Assertions.assertThat(ex).hasMessage("Predicate can not be restored: " + LogicalNotPredicate.class.getName());
+            Assertions.assertThat(ex).hasCause(NoSuchMethodException.class);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void readWrongValueCodecsFailTest() throws IOException {
+        List<ValueCodec<?>> valueCodecs = new ArrayList<>();
+        valueCodecs.add(new TupleValueCodec());
+        Path path = Files.createTempFile("conditional-values", ".snapshot");
+        try {
+            new ConditionalValuesSnapshot<String>(valueCodecs).write(new ConditionalValues<>(null, null, null, null, new ArrayList<ValueSet<String>>()), path);
+            new ConditionalValuesSnapshot<String>().read(path, ConditionalValuesBuilder.<String>newInstance());
+            Assertions.fail("ConditionalValuesSnapshot test fail");
+        } catch (SnapshotException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong number of the value codecs, expected 9, but was 8");
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     */
+    @Test
+    public void writeNoDirectoryFailTest() {
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, new ArrayList<ValueSet<String>>());
+        try {
+            new ConditionalValuesSnapshot<String>().write(conditionalValues, Paths.get("target", "no-such-directory", "file.snapshot"));
+            Assertions.fail("ConditionalValuesSnapshot test fail");
+        } catch (SnapshotException ex) {
+            Assertions.assertThat(ex).hasCause(NoSuchFileException.class);
+        }
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     */
+    @Test
+    public void readNoFileFailTest() {
+        try {
+            new ConditionalValuesSnapshot<String>().read(Paths.get("target", "no-such-file.snapshot"), ConditionalValuesBuilder.<String>newInstance());
+            Assertions.fail("ConditionalValuesSnapshot test fail");
+        } catch (SnapshotException ex) {
+            Assertions.assertThat(ex).hasCause(NoSuchFileException.class);
+        }
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeReadLazyTest() throws IOException {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.setId("id1").addCondition("cond1", "val1").addValue("value1").build());
+        valueSets.add(valueSetBuilder.setId("id2").addCondition("cond1", "val2").addValue("value2").build());
+        valueSets.add(valueSetBuilder.setId("id3").addCondition("cond1", "val1").addCondition("cond2", "val2").addValue("value3").build());
+        valueSets.add(valueSetBuilder.setId("id4").setPredicate(new StringEqualsIgnoreCasePredicate()).addCondition("cond2", "VAL4").addValue("value4").build());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+
+        Path path = Files.createTempFile("conditional-values", ".snapshot");
+        try {
+            ConditionalValuesSnapshot<String> conditionalValuesSnapshot = new ConditionalValuesSnapshot<>();
+            conditionalValuesSnapshot.write(conditionalValues, path);
+            ConditionalValues<String> snapshotConditionalValues = conditionalValuesSnapshot.read(path, ConditionalValuesBuilder.<String>newInstance());
+            Object snapshotValueSets = ReflectionHelper.getFieldValue(snapshotConditionalValues, "_valueSets");
+            Assertions.assertThat(snapshotValueSets).isInstanceOf(SnapshotValueSetList.class);
+            AtomicReferenceArray<?> decodedValueSets = (AtomicReferenceArray<?>) ReflectionHelper.getFieldValue(snapshotValueSets, "_valueSets");
+            Assertions.assertThat(decodedValueSets.get(0)).isNull();
+            Assertions.assertThat(decodedValueSets.get(1)).isNull();
+            Assertions.assertThat(decodedValueSets.get(2)).isNull();
+            Assertions.assertThat(decodedValueSets.get(3)).isNotNull();
+
+            ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+            Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", "val2").build()).getValues()).containsExactlyInOrder("value3");
+            Assertions.assertThat(decodedValueSets.get(0)).isNull();
+            Assertions.assertThat(decodedValueSets.get(1)).isNull();
+            Assertions.assertThat(decodedValueSets.get(2)).isNotNull();
+            Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond2", "val4").build()).getValues()).containsExactlyInOrder("value4");
+            Assertions.assertThat(snapshotConditionalValues.getAllValues()).hasSize(4);
+            Assertions.assertThat(decodedValueSets.get(0)).isNull();
+            Assertions.assertThat(decodedValueSets.get(1)).isNull();
+
+            Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val2").build()).getAllUniqueValues()).containsExactly("value1", "value2", "value3", "value4");
+            Assertions.assertThat(decodedValueSets.get(0)).isNotNull();
+            Assertions.assertThat(decodedValueSets.get(1)).isNotNull();
+            Assertions.assertThat(snapshotConditionalValues.getValueSets()).hasSize(4);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeReadIncompatibleTest() throws IOException {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.setId("id1").addCondition("cond1", "val1").addValue("value1").build());
+        valueSets.add(valueSetBuilder.setId("id2").addCondition("cond1", "val1").addCondition("cond2", "val2").addValue("value2").build());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+
+        Path path = Files.createTempFile("conditional-values", ".snapshot");
+        try {
+            ConditionalValuesSnapshot<String> conditionalValuesSnapshot = new ConditionalValuesSnapshot<>();
+            conditionalValuesSnapshot.write(conditionalValues, path);
+            ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+            ConditionalValuesBuilder<String> conditionalValuesBuilder1 = ConditionalValuesBuilder.newInstance();
+            conditionalValuesBuilder1.setStringEqualsIgnoreCasePredicate();
+            ConditionalValues<String> snapshotConditionalValues1 = conditionalValuesSnapshot.read(path, conditionalValuesBuilder1);
+            Assertions.assertThat(ReflectionHelper.getFieldValue(snapshotConditionalValues1, "_valueSets")).isNotInstanceOf(SnapshotValueSetList.class);
+            Assertions.assertThat(snapshotConditionalValues1.lookup(conditionSetBuilder.addCondition("cond1", "VAL1").build()).getValues()).containsExactlyInOrder("value1");
+
+            ConditionalValuesBuilder<String> conditionalValuesBuilder2 = ConditionalValuesBuilder.newInstance();
+            conditionalValuesBuilder2.addValueSet(valueSetBuilder.setId("id3").addCondition("cond3", "val3").addValue("value3").build());
+            ConditionalValues<String> snapshotConditionalValues2 = conditionalValuesSnapshot.read(path, conditionalValuesBuilder2);
+            Assertions.assertThat(ReflectionHelper.getFieldValue(snapshotConditionalValues2, "_valueSets")).isNotInstanceOf(SnapshotValueSetList.class);
+            Assertions.assertThat(snapshotConditionalValues2.getValueSets()).hasSize(3);
+            Assertions.assertThat(snapshotConditionalValues2.lookup(conditionSetBuilder.addCondition("cond3", "val3").build()).getValues()).containsExactlyInOrder("value3");
+
+            ConditionalValuesBuilder<String> conditionalValuesBuilder3 = ConditionalValuesBuilder.newInstance();
+            conditionalValuesBuilder3.setMinimization(true);
+            ConditionalValues<String> snapshotConditionalValues3 = conditionalValuesSnapshot.read(path, conditionalValuesBuilder3);
+            Assertions.assertThat(ReflectionHelper.getFieldValue(snapshotConditionalValues3, "_valueSets")).isNotInstanceOf(SnapshotValueSetList.class);
+            Assertions.assertThat(snapshotConditionalValues3.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", "val2").build()).getValues()).containsExactlyInOrder("value2");
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeReadMutableTest() throws IOException {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            valueSets.add(valueSetBuilder.setId("id" + i).addCondition("cond1", "val" + i % 3).addCondition("cond2", "val" + i % 2).addValue("value" + i).build());
+        }
+        valueSets.add(valueSetBuilder.setId("id10").setPredicate(new StringEqualsIgnoreCasePredicate()).addCondition("cond1", "VAL1").addValue("value10").build());
+        MutableConditionalValues<String> mutableConditionalValues = new MutableConditionalValues<>(null, null, null, null, valueSets, ConditionalValuesOptions.DEFAULT);
+        mutableConditionalValues.remove("id1");
+        mutableConditionalValues.remove("id4");
+        mutableConditionalValues.replace(valueSetBuilder.setId("id5").addCondition("cond1", "val1").addValue("value5").build());
+        mutableConditionalValues.add(valueSetBuilder.setId("id11").addCondition("cond2", "val1").addValue("value11").build());
+        ConditionalValues<String> conditionalValues = mutableConditionalValues.getSnapshot();
+
+        Path path = Files.createTempFile("conditional-values", ".snapshot");
+        try {
+            ConditionalValuesSnapshot<String> conditionalValuesSnapshot = new ConditionalValuesSnapshot<>();
+            conditionalValuesSnapshot.write(conditionalValues, path);
+            ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+            conditionalValuesBuilder.setNaturalOrderComparator();
+            ConditionalValues<String> snapshotConditionalValues = conditionalValuesSnapshot.read(path, conditionalValuesBuilder);
+            Assertions.assertThat(ReflectionHelper.getFieldValue(snapshotConditionalValues, "_valueSets")).isInstanceOf(SnapshotValueSetList.class);
+            Assertions.assertThat(snapshotConditionalValues.getValueSets()).hasToString(conditionalValues.getValueSets().toString());
+            Assertions.assertThat(snapshotConditionalValues.getMinimizationReport().getValueSetCount()).isEqualTo(10);
+
+            ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+            for (int i = 0; i < 3; i++) {
+                for (int j = 0; j < 2; j++) {
+                    ConditionSet conditionSet = conditionSetBuilder.addCondition("cond1", "val" + i).addCondition("cond2", "val" + j).build();
+                    Assertions.assertThat(snapshotConditionalValues.lookup(conditionSet).getValues()).containsExactly(conditionalValues.lookup(conditionSet).getValues());
+                }
+            }
+            Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "Val1").build()).getValues()).containsExactlyInOrder("value10");
+            Assertions.assertThat(snapshotConditionalValues.getAllValues()).containsExactlyInOrder("value0", "value10", "value11", "value2", "value3", "value5", "value6", "value7", "value8", "value9");
+            Assertions.assertThat(snapshotConditionalValues.getValueSetSlots().get(1)).isNull();
+            Assertions.assertThat(snapshotConditionalValues.getValueSetSlots().get(4)).isNull();
+
+            ConditionalValuesBuilder<String> incompatibleConditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+            incompatibleConditionalValuesBuilder.setNaturalOrderComparator();
+            incompatibleConditionalValuesBuilder.setStringEqualsIgnoreCasePredicate("cond2");
+            ConditionalValues<String> incompatibleSnapshotConditionalValues = conditionalValuesSnapshot.read(path, incompatibleConditionalValuesBuilder);
+            Assertions.assertThat(ReflectionHelper.getFieldValue(incompatibleSnapshotConditionalValues, "_valueSets")).isNotInstanceOf(SnapshotValueSetList.class);
+            Assertions.assertThat(incompatibleSnapshotConditionalValues.getValueSetSlots()).hasSize(10);
+            Assertions.assertThat(incompatibleSnapshotConditionalValues.getAllValues()).containsExactlyInOrder(snapshotConditionalValues.getAllValues());
+            Assertions.assertThat(incompatibleSnapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond2", "VAL1").build()).getValues()).containsExactlyInOrder("value11");
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     */
+    @Test
+    public void readTruncatedFailTest() {
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.putInt(SnapshotWriter.MAGIC).putInt(SnapshotWriter.FORMAT_VERSION).putInt(8);
+        buffer.flip();
+        try {
+            new ConditionalValuesSnapshot<String>().read(buffer, ConditionalValuesBuilder.<String>newInstance());
+            Assertions.fail("ConditionalValuesSnapshot test fail");
+        } catch (SnapshotException ex) {
+            Assertions.assertThat(ex).hasCause(BufferUnderflowException.class);
+        }
+    }
+
+    /**
+     * {@link ConditionalValuesSnapshot} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeReadConditionPredicatesTest() throws IOException {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        conditionalValuesBuilder.setStringEqualsIgnoreCasePredicate("cond1");
+        conditionalValuesBuilder.addValueSet(ValueSetBuilder.<String>newInstance().setId("id1").addCondition("cond1", "val1").addCondition("cond2", "val2").addValue("value1").build());
+        conditionalValuesBuilder.addValueSet(ValueSetBuilder.<String>newInstance().setId("id2").addCondition("cond2", "val2").addValue("value2").build());
+        ConditionalValues<String> conditionalValues = conditionalValuesBuilder.build();
+
+        Path path = Files.createTempFile("conditional-values", ".snapshot");
+        try {
+            ConditionalValuesSnapshot<String> conditionalValuesSnapshot = new ConditionalValuesSnapshot<>();
+            conditionalValuesSnapshot.write(conditionalValues, path);
+            ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+            ConditionalValuesBuilder<String> compatibleConditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+            compatibleConditionalValuesBuilder.setStringEqualsIgnoreCasePredicate("cond1");
+            ConditionalValues<String> snapshotConditionalValues1 = conditionalValuesSnapshot.read(path, compatibleConditionalValuesBuilder);
+            Assertions.assertThat(ReflectionHelper.getFieldValue(snapshotConditionalValues1, "_valueSets")).isInstanceOf(SnapshotValueSetList.class);
+            Assertions.assertThat(snapshotConditionalValues1.lookup(conditionSetBuilder.addCondition("cond1", "VAL1").addCondition("cond2", "val2").build()).getValues()).containsExactlyInOrder("value1");
+
+            ConditionalValues<String> snapshotConditionalValues2 = conditionalValuesSnapshot.read(path, ConditionalValuesBuilder.<String>newInstance());
+            Assertions.assertThat(ReflectionHelper.getFieldValue(snapshotConditionalValues2, "_valueSets")).isNotInstanceOf(SnapshotValueSetList.class);
+            Assertions.assertThat(snapshotConditionalValues2.lookup(conditionSetBuilder.addCondition("cond1", "VAL1").addCondition("cond2", "val2").build()).getValues()).containsExactlyInOrder("value2");
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+}
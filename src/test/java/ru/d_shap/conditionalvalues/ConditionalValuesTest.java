@@ -19,21 +19,41 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.conditionalvalues;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 import org.junit.Test;
 
 import ru.d_shap.assertions.Assertions;
 import ru.d_shap.assertions.Raw;
 import ru.d_shap.assertions.util.DataHelper;
+import ru.d_shap.assertions.util.ReflectionHelper;
 import ru.d_shap.conditionalvalues.data.ConcatStringAction;
+import ru.d_shap.conditionalvalues.data.IsDividedByPredicate;
+import ru.d_shap.conditionalvalues.data.NestedLookupAction;
+import ru.d_shap.conditionalvalues.data.SumAction;
 import ru.d_shap.conditionalvalues.misc.NaturalOrderComparator;
 import ru.d_shap.conditionalvalues.predicate.AllValuesMatchTuplePredicate;
 import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
 import ru.d_shap.conditionalvalues.predicate.EqualsPredicate;
+import ru.d_shap.conditionalvalues.predicate.LogicalNotPredicate;
+import ru.d_shap.conditionalvalues.predicate.PatternFindPredicate;
+import ru.d_shap.conditionalvalues.predicate.PatternMatchesPredicate;
 import ru.d_shap.conditionalvalues.predicate.StringContainsIgnoreCasePredicate;
+import ru.d_shap.conditionalvalues.predicate.StringContainsPredicate;
 import ru.d_shap.conditionalvalues.predicate.StringEqualsIgnoreCasePredicate;
+import ru.d_shap.conditionalvalues.predicate.WrongConditionSetValueException;
 
 /**
  * Tests for {@link ConditionalValues}.
@@ -912,6 +932,246 @@ public final class ConditionalValuesTest {
         Assertions.assertThat(conditionalValues4.getAllValueSetUniqueConditions()).hasSize(6);
     }
 
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void valueSetUniqueConditionIteratorTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 20; j++) {
+                valueSetBuilder.addCondition("cond" + i, "val" + j);
+            }
+        }
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val21");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+
+        ConditionalValues<String> conditionalValues1 = new ConditionalValues<>(null, null, null, null, null);
+        Assertions.assertThat(conditionalValues1.valueSetUniqueConditionIterator().hasNext()).isFalse();
+
+        ConditionalValues<String> conditionalValues2 = new ConditionalValues<>(null, null, null, null, DataHelper.createArrayList(valueSet2));
+        Assertions.assertThat(conditionalValues2.valueSetUniqueConditionIterator().getRemainingCount()).isEqualTo(2L);
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator2 = conditionalValues2.valueSetUniqueConditionIterator();
+        Assertions.assertThat(valueSetUniqueConditionIterator2.next()).hasToString(conditionalValues2.getAllValueSetUniqueConditions().get(0).toString());
+        Assertions.assertThat(valueSetUniqueConditionIterator2.next()).hasToString(conditionalValues2.getAllValueSetUniqueConditions().get(1).toString());
+        Assertions.assertThat(valueSetUniqueConditionIterator2.hasNext()).isFalse();
+
+        ConditionalValues<String> conditionalValues3 = new ConditionalValues<>(null, null, null, null, DataHelper.createArrayList(valueSet1, valueSet2));
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator3 = conditionalValues3.valueSetUniqueConditionIterator();
+        Assertions.assertThat(valueSetUniqueConditionIterator3.getRemainingCount()).isEqualTo(3200002L);
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator4 = valueSetUniqueConditionIterator3.trySplit();
+        Assertions.assertThat(valueSetUniqueConditionIterator3.getRemainingCount()).isEqualTo(1600001L);
+        Assertions.assertThat(valueSetUniqueConditionIterator3.next().getConditions()).hasSize(5);
+        for (int i = 0; i < 1599999; i++) {
+            valueSetUniqueConditionIterator4.next();
+        }
+        Assertions.assertThat(valueSetUniqueConditionIterator4.next().getConditions()).hasSize(2);
+        Assertions.assertThat(valueSetUniqueConditionIterator4.next().getConditions()).hasSize(2);
+        Assertions.assertThat(valueSetUniqueConditionIterator4.hasNext()).isFalse();
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void findOverlapsTest() {
+        List<ValueSet<String>> valueSets = ValueSetOverlapIndexTest.createValueSets();
+        ConditionalValues<String> conditionalValues1 = new ConditionalValues<>(null, null, null, null, null);
+        Assertions.assertThat(conditionalValues1.findOverlaps()).isEmpty();
+        Assertions.assertThat(conditionalValues1.findOverlapsParallel()).isEmpty();
+
+        ConditionalValues<String> conditionalValues2 = new ConditionalValues<>(null, null, null, null, valueSets);
+        List<ValueSetOverlap<String>> valueSetOverlaps = conditionalValues2.findOverlaps();
+        Assertions.assertThat(valueSetOverlaps).hasSize(7);
+        Assertions.assertThat(valueSetOverlaps.get(0).getFirstValueSet()).isSameAs(valueSets.get(0));
+        Assertions.assertThat(valueSetOverlaps.get(0).getSecondValueSet()).isSameAs(valueSets.get(1));
+        Assertions.assertThat(valueSetOverlaps.get(6).getFirstValueSet()).isSameAs(valueSets.get(3));
+        Assertions.assertThat(valueSetOverlaps.get(6).getSecondValueSet()).isSameAs(valueSets.get(4));
+        for (ValueSetOverlap<String> valueSetOverlap : valueSetOverlaps) {
+            List<String> values = conditionalValues2.lookup(valueSetOverlap.getConditionSet()).getValues();
+            Assertions.assertThat(values).containsAll(valueSetOverlap.getFirstValueSet().getValues());
+            Assertions.assertThat(values).containsAll(valueSetOverlap.getSecondValueSet().getValues());
+        }
+        Assertions.assertThat(conditionalValues2.findOverlapsParallel().toString()).isEqualTo(valueSetOverlaps.toString());
+        Assertions.assertThat(conditionalValues2.findOverlapsParallel(null).toString()).isEqualTo(valueSetOverlaps.toString());
+
+        ConditionalValues<String> conditionalValues3 = new ConditionalValues<>(new AllValuesMatchTuplePredicate(), null, null, null, valueSets);
+        Assertions.assertThat(conditionalValues3.findOverlaps()).isEmpty();
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void findOverlapsParallelTest() {
+        Random random = new Random(7L);
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Integer>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            valueSetBuilder.addCondition("cond1", random.nextInt(40));
+            valueSetBuilder.addCondition("cond1", random.nextInt(40));
+            valueSetBuilder.addCondition("cond2", random.nextInt(20));
+            valueSetBuilder.addValue(i);
+            valueSets.add(valueSetBuilder.build());
+        }
+        int overlapCount = 0;
+        for (int i = 0; i < valueSets.size(); i++) {
+            overlapCount += getOverlapCount(valueSets, i);
+        }
+        ConditionalValues<Integer> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+        List<ValueSetOverlap<Integer>> valueSetOverlaps = conditionalValues.findOverlaps();
+        Assertions.assertThat(valueSetOverlaps).hasSize(overlapCount);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            Assertions.assertThat(conditionalValues.findOverlapsParallel(forkJoinPool).toString()).isEqualTo(valueSetOverlaps.toString());
+        } finally {
+            forkJoinPool.shutdown();
+        }
+        for (ValueSetOverlap<Integer> valueSetOverlap : valueSetOverlaps) {
+            List<Integer> values = conditionalValues.lookup(valueSetOverlap.getConditionSet()).getValues();
+            Assertions.assertThat(values).containsAll(valueSetOverlap.getFirstValueSet().getValues());
+            Assertions.assertThat(values).containsAll(valueSetOverlap.getSecondValueSet().getValues());
+        }
+    }
+
+    private int getOverlapCount(final List<ValueSet<Integer>> valueSets, final int index) {
+        int result = 0;
+        ValueSet<Integer> valueSet = valueSets.get(index);
+        for (int i = index + 1; i < valueSets.size(); i++) {
+            ValueSet<Integer> otherValueSet = valueSets.get(i);
+            if (!Collections.disjoint(valueSet.getAllConditionValues("cond1"), otherValueSet.getAllConditionValues("cond1")) && !Collections.disjoint(valueSet.getAllConditionValues("cond2"), otherValueSet.getAllConditionValues("cond2"))) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void findGapsTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.addCondition("cond1", "a");
+        valueSetBuilder.addValue("value1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "b");
+        valueSetBuilder.addCondition("cond2", true);
+        valueSetBuilder.addValue("value2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "b");
+        valueSetBuilder.addCondition("cond3", "c");
+        valueSetBuilder.addValue("value3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "c");
+        ValueSet<String> valueSet4 = valueSetBuilder.build();
+        valueSetBuilder.addValue("value5");
+        ValueSet<String> valueSet5 = valueSetBuilder.build();
+
+        Map<String, Set<Object>> domains = new HashMap<>();
+        domains.put("cond1", createDomain("a", "b", "c"));
+        domains.put("cond2", createDomain(true, false));
+
+        ConditionalValues<String> conditionalValues1 = new ConditionalValues<>(null, null, null, null, null);
+        Assertions.assertThat(conditionalValues1.findGaps(domains)).hasToString("[{cond1=[a, b, c], cond2=[true, false]}]");
+        Assertions.assertThat(conditionalValues1.findGaps(null)).hasToString("[{}]");
+
+        ConditionalValues<String> conditionalValues2 = new ConditionalValues<>(null, null, null, null, DataHelper.createArrayList(valueSet1, valueSet2, valueSet3, valueSet4));
+        List<ConditionRegion> conditionRegions2 = conditionalValues2.findGaps(domains);
+        Assertions.assertThat(conditionRegions2).hasToString("[{cond1=[c], cond2=[true, false]}, {cond1=[b], cond2=[false]}]");
+        Assertions.assertThat(conditionalValues2.findGaps(null)).hasToString("[{}]");
+
+        ConditionalValues<String> conditionalValues3 = new ConditionalValues<>(null, null, null, null, DataHelper.createArrayList(valueSet1, valueSet2, valueSet5));
+        Assertions.assertThat(conditionalValues3.findGaps(domains)).isEmpty();
+        Assertions.assertThat(conditionalValues3.findGaps(null)).isEmpty();
+
+        domains.put("cond3", createDomain("c", "d"));
+        Assertions.assertThat(conditionalValues2.findGaps(domains)).hasToString("[{cond1=[c], cond2=[true, false], cond3=[c, d]}, {cond1=[b], cond2=[false], cond3=[d]}]");
+
+        domains.put("cond3", createDomain());
+        Assertions.assertThat(conditionalValues2.findGaps(domains)).isEmpty();
+        domains.put("cond3", null);
+        Assertions.assertThat(conditionalValues2.findGaps(domains)).isEmpty();
+
+        Map<String, Set<Object>> unmatchedDomains = new HashMap<>();
+        unmatchedDomains.put(null, createDomain("a"));
+        unmatchedDomains.put("cond1", createDomain("c", "d"));
+        unmatchedDomains.put("cond2", createDomain(true));
+        Assertions.assertThat(conditionalValues2.findGaps(unmatchedDomains)).hasToString("[{cond1=[c, d], cond2=[true]}]");
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void findGapsPredicateTest() {
+        Random random = new Random(11L);
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Integer>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            valueSetBuilder.setPredicate("cond1", new IsDividedByPredicate());
+            valueSetBuilder.addCondition("cond1", random.nextInt(6) + 2);
+            if (random.nextBoolean()) {
+                valueSetBuilder.addCondition("cond2", random.nextInt(5));
+                valueSetBuilder.addCondition("cond2", random.nextInt(5));
+            }
+            if (random.nextBoolean()) {
+                valueSetBuilder.setStringContainsPredicate("cond3");
+                valueSetBuilder.addCondition("cond3", "v" + random.nextInt(3));
+            }
+            valueSetBuilder.addValue(i);
+            valueSets.add(valueSetBuilder.build());
+        }
+        ConditionalValues<Integer> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+
+        Map<String, Set<Object>> domains = new HashMap<>();
+        domains.put("cond1", DataHelper.<Object>createHashSet(1, 2, 3, 5, 6, 7, 10, 11, 12, 13));
+        domains.put("cond2", DataHelper.<Object>createHashSet(0, 1, 2, 3, 4));
+        domains.put("cond3", DataHelper.<Object>createHashSet("v0", "v1", "v2", "xv1x", "v"));
+        List<ConditionRegion> conditionRegions = conditionalValues.findGaps(domains);
+
+        long gapConditionSetCount = 0L;
+        for (ConditionRegion conditionRegion : conditionRegions) {
+            gapConditionSetCount += conditionRegion.getConditionSetCount();
+            for (ConditionSet conditionSet : createConditionSets(conditionRegion.getConditions())) {
+                Assertions.assertThat(conditionalValues.lookup(conditionSet).isEmpty()).isTrue();
+            }
+        }
+        int emptyConditionSetCount = 0;
+        for (ConditionSet conditionSet : createConditionSets(domains)) {
+            if (conditionalValues.lookup(conditionSet).isEmpty()) {
+                emptyConditionSetCount++;
+            }
+        }
+        Assertions.assertThat(emptyConditionSetCount).isGreaterThan(0);
+        Assertions.assertThat(gapConditionSetCount).isEqualTo((long) emptyConditionSetCount);
+    }
+
+    private Set<Object> createDomain(final Object... values) {
+        return new LinkedHashSet<>(Arrays.asList(values));
+    }
+
+    private List<ConditionSet> createConditionSets(final Map<String, Set<Object>> conditions) {
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        for (Map.Entry<String, Set<Object>> entry : conditions.entrySet()) {
+            for (Object value : entry.getValue()) {
+                valueSetBuilder.addCondition(entry.getKey(), value);
+            }
+        }
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        List<ConditionSet> result = new ArrayList<>();
+        for (ValueSetUniqueCondition valueSetUniqueCondition : valueSetBuilder.build().getValueSetUniqueConditions()) {
+            for (Map.Entry<String, Object> entry : valueSetUniqueCondition.getConditions().entrySet()) {
+                conditionSetBuilder.addCondition(entry.getKey(), entry.getValue());
+            }
+            result.add(conditionSetBuilder.build());
+        }
+        return result;
+    }
+
     /**
      * {@link ConditionalValues} class test.
      */
@@ -998,6 +1258,52 @@ public final class ConditionalValuesTest {
         conditionalValues.getAllValues().add("value");
     }
 
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void createConditionSetBuilderTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addCondition("cond2", "val2");
+        valueSetBuilder.setStringContainsPredicate("cond2");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond3", "val3");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3);
+        ConditionalValues<String> conditionalValues1 = new ConditionalValues<>(null, null, null, null, valueSets);
+        ConditionalValues<String> conditionalValues2 = new ConditionalValues<>(null, null, null, null, valueSets);
+
+        ConditionSetBuilder conditionSetBuilder1 = conditionalValues1.createConditionSetBuilder();
+        Assertions.assertThat(conditionSetBuilder1).isNotNull();
+        Assertions.assertThat(conditionSetBuilder1).isNotSameAs(conditionalValues1.createConditionSetBuilder());
+
+        ConditionSet conditionSet11 = conditionSetBuilder1.addCondition("cond1", "val1").addCondition("cond4", "val4").build();
+        Assertions.assertThat(conditionalValues1.lookup(conditionSet11).getValues()).containsExactly("val1");
+        Assertions.assertThat(conditionalValues2.lookup(conditionSet11).getValues()).containsExactly("val1");
+
+        ConditionSet conditionSet12 = conditionSetBuilder1.addCondition("cond1", "val1").addCondition("cond2", "xval2x").build();
+        Assertions.assertThat(conditionalValues1.lookup(conditionSet12).getValues()).containsExactly("val2");
+        Assertions.assertThat(conditionalValues2.lookup(conditionSet12).getValues()).containsExactly("val2");
+
+        ConditionSet conditionSet13 = conditionSetBuilder1.addCondition("cond3", "val3").addCondition("cond2", "val2").build();
+        Assertions.assertThat(conditionalValues1.lookup(conditionSet13).getValues()).containsExactly("val3");
+        Assertions.assertThat(conditionalValues2.lookup(conditionSet13).getValues()).containsExactly("val3");
+
+        ConditionSet conditionSet14 = conditionSetBuilder1.build();
+        Assertions.assertThat(conditionalValues1.lookup(conditionSet14).getValues()).isEmpty();
+
+        ConditionSet conditionSet2 = conditionalValues2.createConditionSetBuilder().addCondition("cond1", "val1").build();
+        Assertions.assertThat(conditionalValues1.lookup(conditionSet2).getValues()).containsExactly("val1");
+        Assertions.assertThat(conditionalValues2.lookup(conditionSet2).getValues()).containsExactly("val1");
+    }
+
     /**
      * {@link ConditionalValues} class test.
      */
@@ -1969,6 +2275,1165 @@ public final class ConditionalValuesTest {
         Assertions.assertThat(action41.getValues()).containsExactly("val1_1", "val1_2", "val2_1", "val2_2", "val1_3", "val2_3");
     }
 
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupPlanTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addCondition("cond2", "val2");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond3", "val3");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(new AllValuesMatchTuplePredicate(), null, null, null, DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3));
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(0);
+
+        Values<String> values1 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond4", "val4").build());
+        Assertions.assertThat(values1.getValues()).containsExactly("val1");
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(1);
+
+        Values<String> values2 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val2").build());
+        Assertions.assertThat(values2.getValues()).containsExactly("val0");
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(1);
+
+        Values<String> values3 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", "val2").build());
+        Assertions.assertThat(values3.getValues()).containsExactly("val2");
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(2);
+
+        Values<String> values4 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond3", "val3").build());
+        Assertions.assertThat(values4.getValues()).containsExactly("val1", "val3");
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(3);
+
+        Values<String> values5 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond2", "val2").build());
+        Assertions.assertThat(values5.getValues()).containsExactly("val0");
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(4);
+
+        Values<String> values6 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond2", "val2").build());
+        Assertions.assertThat(values6.getValues()).containsExactly("val0");
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(4);
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupPlanScannedConditionNamesTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond2", "val2");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addCondition("cond3", "val3");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        Map<String, Predicate> predicates = new HashMap<>();
+        predicates.put("cond3", new StringContainsPredicate());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, predicates, null, DataHelper.createArrayList(valueSet1, valueSet2, valueSet3));
+        Assertions.assertThat(conditionalValues, "_scannedConditionNameMask").hasToString("{0, 2}");
+
+        Values<String> values1 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").build());
+        Assertions.assertThat(values1.getValues()).containsExactly("val1");
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(1);
+
+        Values<String> values2 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", "val2").build());
+        Assertions.assertThat(values2.getValues()).containsExactly("val1", "val2");
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(1);
+
+        Values<String> values3 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond2", "val2").build());
+        Assertions.assertThat(values3.getValues()).containsExactly("val2");
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(2);
+
+        Values<String> values4 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond3", "val3").build());
+        Assertions.assertThat(values4.getValues()).containsExactly("val3");
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(3);
+
+        Values<String> values5 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", "val2").addCondition("cond3", "val3").build());
+        Assertions.assertThat(values5.getValues()).containsExactly("val2", "val3");
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(3);
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupPlanCacheFullTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            valueSetBuilder.addCondition("cond" + i, "val");
+            valueSetBuilder.addValue("val" + i);
+            valueSets.add(valueSetBuilder.build());
+        }
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(new AllValuesMatchTuplePredicate(), null, null, null, valueSets);
+
+        for (int shape = 1; shape < 1 << 11; shape++) {
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 11; i++) {
+                if ((shape & 1 << i) != 0) {
+                    conditionSetBuilder.addCondition("cond" + i, "val");
+                    expected.add("val" + i);
+                }
+            }
+            Values<String> values = conditionalValues.lookup(conditionSetBuilder.build());
+            Assertions.assertThat(values.getValues()).containsExactly(expected);
+        }
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(LookupPlanCache.MAX_SIZE);
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupPlanCacheFullUndefinedConditionTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            valueSetBuilder.addCondition("cond" + i, "val");
+            valueSetBuilder.addValue("val" + i);
+            valueSets.add(valueSetBuilder.build());
+        }
+        valueSetBuilder.setPredicate("cond11", new LogicalNotPredicate(new EqualsPredicate()));
+        valueSetBuilder.addCondition("cond11", "val");
+        valueSetBuilder.addValue("val11");
+        valueSets.add(valueSetBuilder.build());
+        valueSetBuilder.setPredicate("cond12", new IsDividedByPredicate());
+        valueSetBuilder.addCondition("cond12", 2);
+        valueSetBuilder.addValue("val12");
+        valueSets.add(valueSetBuilder.build());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(new AllValuesMatchTuplePredicate(), null, null, null, valueSets);
+
+        for (int shape = 1; shape < 1 << 11; shape++) {
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 11; i++) {
+                if ((shape & 1 << i) != 0) {
+                    conditionSetBuilder.addCondition("cond" + i, "val");
+                    expected.add("val" + i);
+                }
+            }
+            Values<String> values = conditionalValues.lookup(conditionSetBuilder.build());
+            Assertions.assertThat(values.getValues()).containsExactly(expected);
+        }
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(LookupPlanCache.MAX_SIZE);
+
+        conditionSetBuilder.addCondition("cond0", "val");
+        conditionSetBuilder.addCondition("cond1", "val");
+        conditionSetBuilder.addCondition("cond2", "val");
+        conditionSetBuilder.addCondition("cond3", "val");
+        conditionSetBuilder.addCondition("cond4", "val");
+        conditionSetBuilder.addCondition("cond5", "val");
+        conditionSetBuilder.addCondition("cond6", "val");
+        conditionSetBuilder.addCondition("cond7", "val");
+        conditionSetBuilder.addCondition("cond8", "val");
+        conditionSetBuilder.addCondition("cond9", "val");
+        conditionSetBuilder.addCondition("cond10", "val");
+        conditionSetBuilder.addCondition("cond11", "value");
+        Values<String> values1 = conditionalValues.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values1.getValues()).containsExactly("val0", "val1", "val2", "val3", "val4", "val5", "val6", "val7", "val8", "val9", "val10", "val11");
+
+        conditionSetBuilder.addCondition("cond0", "val");
+        conditionSetBuilder.addCondition("cond12", 4);
+        Values<String> values2 = conditionalValues.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values2.getValues()).containsExactly("val0", "val12");
+        Assertions.assertThat(conditionalValues, "_lookupPlanCache").toField("_size").isEqualTo(LookupPlanCache.MAX_SIZE);
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupAllTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addCondition("cond2", "val2");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.setStringContainsPredicate("cond3");
+        valueSetBuilder.addCondition("cond3", "val3");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3));
+
+        ConditionSet conditionSet1 = conditionSetBuilder.addCondition("cond1", "val1").build();
+        ConditionSet conditionSet2 = conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", "val2").build();
+        ConditionSet conditionSet3 = conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond3", "xval3x").build();
+        ConditionSet conditionSet4 = conditionSetBuilder.addCondition("cond2", "val2").build();
+        ConditionSet conditionSet5 = conditionSetBuilder.build();
+        BatchValues<String> batchValues1 = conditionalValues.lookupAll(DataHelper.createArrayList(conditionSet1, conditionSet2, null, conditionSet3, conditionSet4, conditionSet5));
+        Assertions.assertThat(batchValues1.size()).isEqualTo(6);
+        Assertions.assertThat(batchValues1.getValues(0).getValues()).containsExactlyInOrder("val1");
+        Assertions.assertThat(batchValues1.getValues(1).getValues()).containsExactlyInOrder("val2");
+        Assertions.assertThat(batchValues1.getValues(2).getValues()).containsExactlyInOrder();
+        Assertions.assertThat(batchValues1.getValues(3).getValues()).containsExactlyInOrder("val1", "val3");
+        Assertions.assertThat(batchValues1.getValues(4).getValues()).containsExactlyInOrder("val0");
+        Assertions.assertThat(batchValues1.getValues(5).getValues()).containsExactlyInOrder("val0");
+
+        BatchValues<String> batchValues2 = conditionalValues.lookupAll(conditionSet4, conditionSet3);
+        Assertions.assertThat(batchValues2.size()).isEqualTo(2);
+        Assertions.assertThat(batchValues2.getValues(0).getValues()).containsExactlyInOrder("val0");
+        Assertions.assertThat(batchValues2.getValues(1).getValues()).containsExactlyInOrder("val1", "val3");
+
+        Assertions.assertThat(conditionalValues.lookupAll((List<ConditionSet>) null).size()).isEqualTo(0);
+        Assertions.assertThat(conditionalValues.lookupAll((ConditionSet[]) null).size()).isEqualTo(0);
+        Assertions.assertThat(conditionalValues.lookupAll().size()).isEqualTo(0);
+        Assertions.assertThat(new ConditionalValues<String>(null, null, null, null, null).lookupAll(conditionSet1, null).getValues(0).isEmpty()).isTrue();
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupAllRandomTest() {
+        Random random = new Random(1L);
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Integer>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            for (int j = 0; j < 4; j++) {
+                if (random.nextBoolean()) {
+                    valueSetBuilder.addCondition("cond" + j, "val" + random.nextInt(3));
+                }
+            }
+            if (random.nextInt(4) == 0) {
+                valueSetBuilder.setStringContainsPredicate("cond0");
+            }
+            valueSetBuilder.addValue(i);
+            valueSets.add(valueSetBuilder.build());
+        }
+        ConditionalValues<Integer> conditionalValues1 = new ConditionalValues<>(null, null, null, null, valueSets);
+        ConditionalValues<Integer> conditionalValues2 = new ConditionalValues<>(new AllValuesMatchTuplePredicate(), null, null, new NaturalOrderComparator<Integer>(), valueSets);
+
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        List<ConditionSet> conditionSets = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            for (int j = 0; j < 4; j++) {
+                if (random.nextInt(4) > 0) {
+                    conditionSetBuilder.addCondition("cond" + j, "val" + random.nextInt(3));
+                }
+            }
+            if (random.nextInt(100) == 0) {
+                conditionSets.add(null);
+            } else {
+                conditionSets.add(conditionSetBuilder.build());
+            }
+        }
+
+        BatchValues<Integer> batchValues1 = conditionalValues1.lookupAll(conditionSets);
+        BatchValues<Integer> batchValues2 = conditionalValues2.lookupAll(conditionSets);
+        Assertions.assertThat(batchValues1.size()).isEqualTo(conditionSets.size());
+        Assertions.assertThat(batchValues2.size()).isEqualTo(conditionSets.size());
+        for (int i = 0; i < conditionSets.size(); i++) {
+            Values<Integer> values1 = conditionalValues1.lookup(conditionSets.get(i));
+            Assertions.assertThat(batchValues1.getValues(i)).hasToString(values1.toString());
+            Assertions.assertThat(batchValues1.getValues(i).getValues()).containsExactlyInOrder(values1.getValues());
+            Values<Integer> values2 = conditionalValues2.lookup(conditionSets.get(i));
+            Assertions.assertThat(batchValues2.getValues(i).getValues()).containsExactlyInOrder(values2.getValues());
+            SumAction sumAction = new SumAction();
+            Assertions.assertThat(batchValues2.performAction(i, sumAction)).isEqualTo(values2.getValues().size());
+        }
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupAllParallelTest() {
+        Random random = new Random(2L);
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Integer>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 3; j++) {
+                if (random.nextBoolean()) {
+                    valueSetBuilder.addCondition("cond" + j, "val" + random.nextInt(3));
+                }
+            }
+            if (random.nextInt(3) == 0) {
+                valueSetBuilder.setStringContainsPredicate("cond1");
+            }
+            valueSetBuilder.addValue(i);
+            valueSets.add(valueSetBuilder.build());
+        }
+        ConditionalValues<Integer> conditionalValues = new ConditionalValues<>(null, null, null, new NaturalOrderComparator<Integer>(), valueSets);
+
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        List<ConditionSet> conditionSets = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            for (int j = 0; j < 3; j++) {
+                if (random.nextInt(4) > 0) {
+                    conditionSetBuilder.addCondition("cond" + j, "val" + random.nextInt(3));
+                }
+            }
+            if (random.nextInt(100) == 0) {
+                conditionSets.add(null);
+            } else {
+                conditionSets.add(conditionSetBuilder.build());
+            }
+        }
+
+        BatchValues<Integer> batchValues = conditionalValues.lookupAll(conditionSets);
+        BatchValues<Integer> batchValues1 = conditionalValues.lookupAllParallel(conditionSets);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(3);
+        BatchValues<Integer> batchValues2;
+        try {
+            batchValues2 = conditionalValues.lookupAllParallel(conditionSets, forkJoinPool);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+        BatchValues<Integer> batchValues3 = conditionalValues.lookupAllParallel(conditionSets, null);
+        Assertions.assertThat(batchValues1.size()).isEqualTo(conditionSets.size());
+        Assertions.assertThat(batchValues2.size()).isEqualTo(conditionSets.size());
+        Assertions.assertThat(batchValues3.size()).isEqualTo(conditionSets.size());
+        for (int i = 0; i < conditionSets.size(); i++) {
+            Assertions.assertThat(batchValues1.getValues(i)).hasToString(batchValues.getValues(i).toString());
+            Assertions.assertThat(batchValues2.getValues(i)).hasToString(batchValues.getValues(i).toString());
+            Assertions.assertThat(batchValues3.getValues(i)).hasToString(batchValues.getValues(i).toString());
+            Assertions.assertThat(batchValues2.getValues(i).getValues()).containsExactlyInOrder(conditionalValues.lookup(conditionSets.get(i)).getValues());
+        }
+
+        Assertions.assertThat(conditionalValues.lookupAllParallel(null).size()).isEqualTo(0);
+        Assertions.assertThat(conditionalValues.lookupAllParallel(new ArrayList<ConditionSet>()).size()).isEqualTo(0);
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void parallelScanTest() {
+        Random random = new Random(3L);
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Integer>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            valueSetBuilder.setPredicate("cond1", new IsDividedByPredicate());
+            valueSetBuilder.addCondition("cond1", random.nextInt(50) + 1);
+            if (random.nextInt(4) == 0) {
+                valueSetBuilder.addCondition("cond2", "val" + random.nextInt(3));
+            }
+            valueSetBuilder.addValue(i);
+            valueSets.add(valueSetBuilder.build());
+        }
+        ConditionalValues<Integer> conditionalValues1 = new ConditionalValues<>(null, null, null, new NaturalOrderComparator<Integer>(), valueSets, ConditionalValuesOptions.DEFAULT);
+        ConditionalValues<Integer> conditionalValues2 = new ConditionalValues<>(null, null, null, new NaturalOrderComparator<Integer>(), valueSets, new ConditionalValuesOptions(false, 0, 1000, 0, false));
+        ConditionalValues<Integer> conditionalValues3 = new ConditionalValues<>(null, null, null, new NaturalOrderComparator<Integer>(), valueSets, new ConditionalValuesOptions(false, 0, 100000, 0, false));
+
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        List<ConditionSet> conditionSets = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            conditionSetBuilder.addCondition("cond1", random.nextInt(1000) + 1);
+            if (random.nextBoolean()) {
+                conditionSetBuilder.addCondition("cond2", "val" + random.nextInt(3));
+            }
+            conditionSets.add(conditionSetBuilder.build());
+        }
+        for (ConditionSet conditionSet : conditionSets) {
+            Values<Integer> values = conditionalValues1.lookup(conditionSet);
+            Assertions.assertThat(values.isEmpty()).isFalse();
+            Assertions.assertThat(conditionalValues2.lookup(conditionSet).getValues()).containsExactlyInOrder(values.getValues());
+            Assertions.assertThat(conditionalValues3.lookup(conditionSet).getValues()).containsExactlyInOrder(values.getValues());
+        }
+
+        BatchValues<Integer> batchValues1 = conditionalValues1.lookupAll(conditionSets);
+        BatchValues<Integer> batchValues2 = conditionalValues2.lookupAllParallel(conditionSets);
+        Assertions.assertThat(batchValues2.toString()).isEqualTo(batchValues1.toString());
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void parallelScanInForkJoinPoolTest() {
+        Random random = new Random(3L);
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Integer>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            valueSetBuilder.setPredicate("cond1", new IsDividedByPredicate());
+            valueSetBuilder.addCondition("cond1", random.nextInt(50) + 1);
+            valueSetBuilder.addValue(i);
+            valueSets.add(valueSetBuilder.build());
+        }
+        ConditionalValues<Integer> conditionalValues1 = new ConditionalValues<>(null, null, null, new NaturalOrderComparator<Integer>(), valueSets, ConditionalValuesOptions.DEFAULT);
+        final ConditionalValues<Integer> conditionalValues2 = new ConditionalValues<>(null, null, null, new NaturalOrderComparator<Integer>(), valueSets, new ConditionalValuesOptions(false, 0, 1000, 0, false));
+
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        final List<ConditionSet> conditionSets = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            conditionSetBuilder.addCondition("cond1", random.nextInt(1000) + 1);
+            conditionSets.add(conditionSetBuilder.build());
+        }
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        List<Values<Integer>> nestedValues;
+        try {
+            nestedValues = forkJoinPool.invoke(new RecursiveTask<List<Values<Integer>>>() {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected List<Values<Integer>> compute() {
+                    List<Values<Integer>> result = new ArrayList<>();
+                    for (ConditionSet conditionSet : conditionSets) {
+                        result.add(conditionalValues2.lookup(conditionSet));
+                    }
+                    return result;
+                }
+
+            });
+        } finally {
+            forkJoinPool.shutdown();
+        }
+        Assertions.assertThat(nestedValues).hasSize(conditionSets.size());
+        for (int i = 0; i < conditionSets.size(); i++) {
+            Values<Integer> values = conditionalValues1.lookup(conditionSets.get(i));
+            Assertions.assertThat(values.isEmpty()).isFalse();
+            Assertions.assertThat(nestedValues.get(i).getValues()).containsExactlyInOrder(values.getValues());
+        }
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void compilationTest() {
+        Random random = new Random(5L);
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Integer>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            valueSetBuilder.setPredicate("cond1", new IsDividedByPredicate());
+            valueSetBuilder.addCondition("cond1", random.nextInt(50) + 1);
+            if (random.nextInt(3) == 0) {
+                valueSetBuilder.setStringContainsPredicate("cond2");
+                valueSetBuilder.addCondition("cond2", "val" + random.nextInt(3));
+                valueSetBuilder.addCondition("cond2", "lav" + random.nextInt(3));
+            }
+            if (random.nextInt(4) == 0) {
+                valueSetBuilder.addCondition("cond3", "val" + random.nextInt(3));
+            }
+            valueSetBuilder.addValue(i);
+            valueSets.add(valueSetBuilder.build());
+        }
+        ConditionalValues<Integer> conditionalValues1 = new ConditionalValues<>(null, null, null, new NaturalOrderComparator<Integer>(), valueSets, ConditionalValuesOptions.DEFAULT);
+        ConditionalValues<Integer> conditionalValues2 = new ConditionalValues<>(null, null, null, new NaturalOrderComparator<Integer>(), valueSets, new ConditionalValuesOptions(false, 0, 0, 10, false));
+
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        List<ConditionSet> conditionSets = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            conditionSetBuilder.addCondition("cond1", random.nextInt(1000) + 1);
+            if (random.nextBoolean()) {
+                conditionSetBuilder.addCondition("cond2", "xval" + random.nextInt(3) + "lav" + random.nextInt(3));
+            }
+            if (random.nextBoolean()) {
+                conditionSetBuilder.addCondition("cond3", "val" + random.nextInt(3));
+            }
+            conditionSets.add(conditionSetBuilder.build());
+        }
+        for (ConditionSet conditionSet : conditionSets) {
+            Assertions.assertThat(conditionalValues2.lookup(conditionSet).getValues()).containsExactlyInOrder(conditionalValues1.lookup(conditionSet).getValues());
+        }
+        conditionalValues2.getTieredMatcher().compile();
+        Assertions.assertThat(conditionalValues2.getTieredMatcher().isCompiled()).isTrue();
+        for (ConditionSet conditionSet : conditionSets) {
+            Values<Integer> values = conditionalValues1.lookup(conditionSet);
+            Assertions.assertThat(values.isEmpty()).isFalse();
+            Assertions.assertThat(conditionalValues2.lookup(conditionSet).getValues()).containsExactlyInOrder(values.getValues());
+        }
+        Assertions.assertThat(conditionalValues1.getTieredMatcher().isCompiled()).isFalse();
+
+        try {
+            conditionalValues2.lookup(conditionSetBuilder.addCondition("cond1", "val").build());
+            Assertions.fail("ConditionalValues test fail");
+        } catch (WrongConditionSetValueException ex) {
+            Assertions.assertThat(ex).hasMessage("Condition with name cond1 has a wrong class, expected java.lang.Integer, but was java.lang.String");
+        }
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupCacheTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addCondition("cond2", "val2");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2);
+        ConditionalValues<String> conditionalValues1 = new ConditionalValues<>(null, null, null, null, valueSets, ConditionalValuesOptions.DEFAULT);
+        ConditionalValues<String> conditionalValues2 = new ConditionalValues<>(null, null, null, null, valueSets, new ConditionalValuesOptions(false, 2, 0, 0, false));
+
+        Values<String> values11 = conditionalValues1.lookup(conditionSetBuilder.addCondition("cond1", "val1").build());
+        Values<String> values12 = conditionalValues1.lookup(conditionSetBuilder.addCondition("cond1", "val1").build());
+        Assertions.assertThat(values11).isNotSameAs(values12);
+        Assertions.assertThat(values12.getValues()).containsExactly("val1");
+        Assertions.assertThat(conditionalValues1.getLookupCacheStatistics()).hasToString("size=0/0, hits=0, misses=0, evictions=0, rejections=0");
+
+        Values<String> values21 = conditionalValues2.lookup(conditionSetBuilder.addCondition("cond1", "val1").build());
+        Values<String> values22 = conditionalValues2.lookup(conditionSetBuilder.addCondition("cond1", "val1").build());
+        Assertions.assertThat(values21).isNotSameAs(values22);
+        Assertions.assertThat(values22.getValues()).isSameAs(values21.getValues());
+        Assertions.assertThat(values22.getValues()).containsExactly("val1");
+        Values<String> values23 = conditionalValues2.lookup(conditionalValues2.createConditionSetBuilder().addCondition("cond1", "val1").build());
+        Assertions.assertThat(values23.getValues()).isSameAs(values21.getValues());
+        Values<String> values24 = conditionalValues2.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", "val2").build());
+        Assertions.assertThat(values24.getValues()).containsExactly("val2");
+        Values<String> values25 = conditionalValues2.lookup(conditionSetBuilder.addCondition("cond1", "val2").build());
+        Assertions.assertThat(values25.getValues()).isEmpty();
+        Values<String> values26 = conditionalValues2.lookup(null);
+        Assertions.assertThat(values26.getValues()).isEmpty();
+        Assertions.assertThat(conditionalValues2.getLookupCacheStatistics()).hasToString("size=2/2, hits=2, misses=3, evictions=0, rejections=1");
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupCacheModifiedValuesTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addValue("val1");
+        valueSetBuilder.setId("id1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val2");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, DataHelper.createArrayList(valueSet1, valueSet2), new ConditionalValuesOptions(false, 2, 0, 0, false));
+
+        Values<String> values1 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").build());
+        Assertions.assertThat(values1.getIds()).containsExactly("id1");
+        values1.getUniqueValues().add("injected");
+        values1.getAllUniqueValues().add("injected");
+        Assertions.assertThat(values1.contains("injected")).isTrue();
+        Assertions.assertThat(values1.allValuesContain("injected")).isTrue();
+
+        Values<String> values2 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").build());
+        Assertions.assertThat(values2.getIds()).isSameAs(values1.getIds());
+        Assertions.assertThat(values2.getUniqueValues()).containsExactly("val1");
+        Assertions.assertThat(values2.getAllUniqueValues()).containsExactly("val1", "val2");
+        Assertions.assertThat(values2.contains("injected")).isFalse();
+        Assertions.assertThat(values2.allValuesContain("injected")).isFalse();
+        values2.getUniqueValues().clear();
+
+        Values<String> values3 = conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").build());
+        Assertions.assertThat(values3.getUniqueValues()).containsExactly("val1");
+        Assertions.assertThat(values3.isEmpty()).isFalse();
+        Assertions.assertThat(conditionalValues.getLookupCacheStatistics()).hasToString("size=1/2, hits=2, misses=1, evictions=0, rejections=0");
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     *
+     * @throws InterruptedException exception in test.
+     */
+    @Test
+    public void lookupCacheModifiedValuesConcurrentTest() throws InterruptedException {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addValues("val1", "val2");
+        ValueSet<String> valueSet = valueSetBuilder.build();
+        final ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, DataHelper.createArrayList(valueSet), new ConditionalValuesOptions(false, 2, 0, 0, false));
+        final ConditionSet conditionSet = conditionSetBuilder.addCondition("cond1", "val1").build();
+        conditionalValues.lookup(conditionSet);
+
+        final AtomicInteger failureCount = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final String injectedValue = "injected" + i;
+            threads.add(new Thread() {
+
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j++) {
+                        Values<String> values = conditionalValues.lookup(conditionSet);
+                        if (values.getUniqueValues().size() != 2 || values.getAllUniqueValues().size() != 2) {
+                            failureCount.incrementAndGet();
+                        }
+                        values.getUniqueValues().add(injectedValue);
+                        values.getAllUniqueValues().add(injectedValue);
+                    }
+                }
+
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertThat(failureCount.get()).isEqualTo(0);
+        Assertions.assertThat(conditionalValues.lookup(conditionSet).getUniqueValues()).containsExactly("val1", "val2");
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void getMinimizationReportTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val2");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, null, valueSet2);
+
+        ConditionalValues<String> conditionalValues1 = new ConditionalValues<>(null, null, null, null, valueSets);
+        Assertions.assertThat(conditionalValues1.getMinimizationReport()).hasToString("valueSetCount=2, minimizedValueSetCount=2, unmatchable=[], duplicate=[], merged={}");
+
+        ConditionalValues<String> conditionalValues2 = new ConditionalValues<>(null, null, null, null, valueSets, new ConditionalValuesOptions(false, 0, 0, 0, true));
+        Assertions.assertThat(conditionalValues2.getMinimizationReport()).hasToString("valueSetCount=2, minimizedValueSetCount=1, unmatchable=[], duplicate=[], merged={" + conditionalValues2.getValueSets().get(0) + "=[" + valueSet1 + ", " + valueSet2 + "]}");
+        Assertions.assertThat(conditionalValues2.getMinimizationReport().getMinimizedValueSetCount()).isEqualTo(1);
+        Assertions.assertThat(conditionalValues2.getValueSets()).hasSize(1);
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void minimizationTest() {
+        Random random = new Random(17L);
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        for (int i = 0; i < 200; i++) {
+            valueSetBuilder.addCondition("cond1", random.nextInt(4));
+            if (random.nextBoolean()) {
+                valueSetBuilder.addCondition("cond2", random.nextInt(3));
+            }
+            if (random.nextInt(3) == 0) {
+                valueSetBuilder.setStringContainsPredicate("cond3");
+                valueSetBuilder.addCondition("cond3", "v" + random.nextInt(2));
+            }
+            if (random.nextInt(4) == 0) {
+                valueSetBuilder.setId("id" + random.nextInt(2));
+            }
+            valueSetBuilder.addValue("value" + random.nextInt(3));
+            conditionalValuesBuilder.addValueSet(valueSetBuilder.build());
+        }
+        ConditionalValues<String> conditionalValues1 = conditionalValuesBuilder.build(false);
+        ConditionalValues<String> conditionalValues2 = conditionalValuesBuilder.setMinimization(true).build();
+        MinimizationReport<String> minimizationReport = conditionalValues2.getMinimizationReport();
+        Assertions.assertThat(minimizationReport.getValueSetCount()).isEqualTo(200);
+        Assertions.assertThat(minimizationReport.getMinimizedValueSetCount()).isEqualTo(conditionalValues2.getValueSets().size());
+        Assertions.assertThat(minimizationReport.getMinimizedValueSetCount()).isLessThan(100);
+        Assertions.assertThat(minimizationReport.getDuplicateValueSets()).isNotEmpty();
+        Assertions.assertThat(minimizationReport.getMergedValueSets()).isNotEmpty();
+        Assertions.assertThat(conditionalValues2.getAllValues()).containsExactly(conditionalValues1.getAllValues());
+
+        Map<String, Set<Object>> domains = new HashMap<>();
+        domains.put("cond1", createDomain(0, 1, 2, 3, 4));
+        domains.put("cond2", createDomain(0, 1, 2, 3));
+        domains.put("cond3", createDomain("v0", "v1", "xv1", "v"));
+        for (ConditionSet conditionSet : createConditionSets(domains)) {
+            Values<String> values1 = conditionalValues1.lookup(conditionSet);
+            Values<String> values2 = conditionalValues2.lookup(conditionSet);
+            Assertions.assertThat(values2.getValues()).containsExactly(values1.getValues());
+            Assertions.assertThat(values2.getUniqueValues()).containsExactly(values1.getUniqueValues());
+            Assertions.assertThat(values2.getIds()).containsExactly(values1.getIds());
+        }
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void performActionTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addValue("val1");
+        valueSetBuilder.addValue("val4");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addCondition("cond2", "val22");
+        valueSetBuilder.setStringContainsPredicate("cond2");
+        valueSetBuilder.addValue("val3");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond3", "val31");
+        valueSetBuilder.addValue("val5");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3);
+        ConditionalValues<String> conditionalValues1 = new ConditionalValues<>(null, null, null, null, valueSets);
+        ConditionalValues<String> conditionalValues2 = new ConditionalValues<>(null, null, null, new NaturalOrderComparator<String>(), valueSets);
+
+        List<ConditionSet> conditionSets = DataHelper.createArrayList(null, conditionSetBuilder.build());
+        conditionSets.add(conditionSetBuilder.addCondition("cond1", "val11").build());
+        conditionSets.add(conditionSetBuilder.addCondition("cond1", "val12").addCondition("cond2", "xval21x").build());
+        conditionSets.add(conditionSetBuilder.addCondition("cond1", "val12").addCondition("cond3", "val31").build());
+        conditionSets.add(conditionSetBuilder.addCondition("cond1", "val13").addCondition("cond2", "val22").build());
+        conditionSets.add(conditionalValues1.createConditionSetBuilder().addCondition("cond1", "val12").addCondition("cond2", "val21").build());
+        conditionSets.add(conditionalValues2.createConditionSetBuilder().addCondition("cond1", "val12").addCondition("cond3", "val31").build());
+        for (ConditionSet conditionSet : conditionSets) {
+            for (ConditionalValues<String> conditionalValues : DataHelper.createArrayList(conditionalValues1, conditionalValues2)) {
+                List<String> expected = conditionalValues.lookup(conditionSet).getValues();
+                ConcatStringAction action = new ConcatStringAction(null, 0);
+                Assertions.assertThat(conditionalValues.performAction(conditionSet, action)).isEqualTo(expected.size());
+                Assertions.assertThat(action.getValues()).containsExactlyInOrder(expected);
+            }
+        }
+
+        ConcatStringAction action = new ConcatStringAction(null, 0);
+        Assertions.assertThat(conditionalValues1.performAction(conditionSets.get(3), action)).isEqualTo(4);
+        Assertions.assertThat(action.getValues()).containsExactlyInOrder("val1", "val4", "val3", "val2");
+        action.getValues().clear();
+        Assertions.assertThat(conditionalValues2.performAction(conditionSets.get(3), action)).isEqualTo(4);
+        Assertions.assertThat(action.getValues()).containsExactlyInOrder("val1", "val2", "val3", "val4");
+        Assertions.assertThat(conditionalValues1.performAction(conditionSets.get(3), null)).isEqualTo(0);
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void performActionNestedTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addValue("val11");
+        valueSetBuilder.addValue("val12");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond2", "val2");
+        valueSetBuilder.addValue("val21");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond3", "val3");
+        valueSetBuilder.addValue("val31");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, DataHelper.createArrayList(valueSet1, valueSet2, valueSet3));
+
+        ConditionSet conditionSet1 = conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", "val2").build();
+        ConditionSet conditionSet2 = conditionSetBuilder.addCondition("cond3", "val3").build();
+        NestedLookupAction action = new NestedLookupAction(conditionalValues, conditionSet2);
+        Assertions.assertThat(conditionalValues.performAction(conditionSet1, action)).isEqualTo(3);
+        Assertions.assertThat(action.getValues()).containsExactlyInOrder("val11", "val31", "val12", "val21");
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void performActionLookupBufferTest() throws InterruptedException {
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Integer>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            valueSetBuilder.addCondition("cond1", "val" + i % 5);
+            valueSetBuilder.addCondition("cond2", i % 4);
+            valueSetBuilder.addValue(i);
+            valueSetBuilder.addValue(i + 1);
+            valueSets.add(valueSetBuilder.build());
+        }
+        final ConditionalValues<Integer> conditionalValues = new ConditionalValues<>(null, null, null, new NaturalOrderComparator<Integer>(), valueSets);
+        final ConditionSet conditionSet = conditionalValues.createConditionSetBuilder().addCondition("cond1", "val1").addCondition("cond2", 2).build();
+        Assertions.assertThat(conditionalValues.getLookupBuffer()).isNull();
+
+        SumAction sumAction = new SumAction();
+        Assertions.assertThat(conditionalValues.performAction(conditionSet, sumAction)).isEqualTo(2);
+        Assertions.assertThat(sumAction.getSum()).isEqualTo(13);
+        final LookupBuffer lookupBuffer = conditionalValues.getLookupBuffer();
+        Assertions.assertThat(lookupBuffer).isNotNull();
+        Assertions.assertThat(lookupBuffer.isInUse()).isFalse();
+        Assertions.assertThat(lookupBuffer.getValueCount()).isEqualTo(0);
+        Assertions.assertThat(lookupBuffer.getValues()[0]).isNull();
+        Assertions.assertThat(lookupBuffer.getValues()[1]).isNull();
+
+        Assertions.assertThat(conditionalValues.performAction(conditionSet, sumAction)).isEqualTo(2);
+        Assertions.assertThat(conditionalValues.getLookupBuffer()).isSameAs(lookupBuffer);
+        Assertions.assertThat(conditionalValues.lookup(conditionSet).getValues()).containsExactlyInOrder(6, 7);
+        Assertions.assertThat(conditionalValues.getLookupBuffer()).isSameAs(lookupBuffer);
+
+        final List<Object> states = new ArrayList<>();
+        Action<Integer> nestedAction = new Action<Integer>() {
+
+            @Override
+            public void perform(final Integer value) {
+                states.add(conditionalValues.getLookupBuffer());
+                states.add(lookupBuffer.isInUse());
+                states.add(conditionalValues.performAction(conditionSet, new SumAction()));
+            }
+
+        };
+        Assertions.assertThat(conditionalValues.performAction(conditionSet, nestedAction)).isEqualTo(2);
+        Assertions.assertThat(states).containsExactlyInOrder(lookupBuffer, true, 2, lookupBuffer, true, 2);
+        Assertions.assertThat(conditionalValues.getLookupBuffer()).isSameAs(lookupBuffer);
+        Assertions.assertThat(lookupBuffer.isInUse()).isFalse();
+
+        final List<LookupBuffer> lookupBuffers = new ArrayList<>();
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                conditionalValues.performAction(conditionSet, new SumAction());
+                lookupBuffers.add(conditionalValues.getLookupBuffer());
+            }
+
+        });
+        thread.start();
+        thread.join();
+        Assertions.assertThat(lookupBuffers).hasSize(1);
+        Assertions.assertThat(lookupBuffers.get(0)).isNotNull();
+        Assertions.assertThat(lookupBuffers.get(0)).isNotSameAs(lookupBuffer);
+        Assertions.assertThat(conditionalValues.getLookupBuffer()).isSameAs(lookupBuffer);
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupEqualsIndexTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "VAL11");
+        valueSetBuilder.setStringEqualsIgnoreCasePredicate("cond1");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addCondition("cond2", "val22");
+        valueSetBuilder.addValue("val4");
+        ValueSet<String> valueSet4 = valueSetBuilder.build();
+        ConditionalValues<String> conditionalValues1 = new ConditionalValues<>(null, null, null, null, DataHelper.createArrayList(valueSet4, valueSet2, valueSet0, valueSet3, valueSet1));
+        Assertions.assertThat(conditionalValues1, "_scannedOrdinals", Raw.intArrayAssertion()).containsExactlyInOrder(1);
+
+        conditionSetBuilder.addCondition("cond3", "val31");
+        Values<String> values11 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values11.getValues()).containsExactlyInOrder("val0");
+
+        conditionSetBuilder.addCondition("cond1", "val11");
+        Values<String> values12 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values12.getValues()).containsExactlyInOrder("val2", "val1");
+
+        conditionSetBuilder.addCondition("cond1", "val12");
+        Values<String> values13 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values13.getValues()).containsExactlyInOrder("val1");
+
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val22");
+        Values<String> values14 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values14.getValues()).containsExactlyInOrder("val2", "val1");
+
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        Values<String> values15 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values15.getValues()).containsExactlyInOrder("val3");
+
+        conditionSetBuilder.addCondition("cond1", "val12");
+        conditionSetBuilder.addCondition("cond2", "val22");
+        Values<String> values16 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values16.getValues()).containsExactlyInOrder("val4");
+
+        ConditionalValues<String> conditionalValues2 = new ConditionalValues<>(new AllValuesMatchTuplePredicate(), null, null, null, DataHelper.createArrayList(valueSet4, valueSet2, valueSet0, valueSet3, valueSet1));
+        Assertions.assertThat(conditionalValues2, "_scannedOrdinals", Raw.intArrayAssertion()).containsExactlyInOrder(0, 1, 2, 3, 4);
+
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        Values<String> values21 = conditionalValues2.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values21.getValues()).containsExactlyInOrder("val3");
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupSharedAllValuesTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addValues("val3", "val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val2");
+        valueSetBuilder.addValues("val2", "val1");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, new NaturalOrderComparator<String>(), DataHelper.createArrayList(valueSet1, valueSet2));
+
+        conditionSetBuilder.addCondition("cond1", "val1");
+        Values<String> values1 = conditionalValues.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values1.getValues()).containsExactlyInOrder("val1", "val3");
+        Assertions.assertThat(values1.getAllValues()).containsExactlyInOrder("val1", "val1", "val2", "val3");
+        Assertions.assertThat(values1.getAllUniqueValues()).containsExactlyInOrder("val1", "val2", "val3");
+
+        conditionSetBuilder.addCondition("cond1", "val2");
+        Values<String> values2 = conditionalValues.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values2.getValues()).containsExactlyInOrder("val1", "val2");
+        Assertions.assertThat(values2.getAllValues()).isSameAs(values1.getAllValues());
+        Assertions.assertThat(values2.getAllValues()).isSameAs(conditionalValues.getAllValues());
+        Assertions.assertThat(ReflectionHelper.getFieldValue(values2, "_allUniqueValues")).isSameAs(ReflectionHelper.getFieldValue(values1, "_allUniqueValues"));
+        Assertions.assertThat(values2.getAllUniqueValues()).isNotSameAs(values1.getAllUniqueValues());
+        Assertions.assertThat(values2.getAllUniqueValues()).isSameAs(values2.getAllUniqueValues());
+        Assertions.assertThat(values2.getUniqueValues()).isSameAs(values2.getUniqueValues());
+        Assertions.assertThat(values2.getIds()).isSameAs(values2.getIds());
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupConditionMatcherTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val2");
+        valueSetBuilder.setStringContainsPredicate("cond2");
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "VAL11");
+        valueSetBuilder.addCondition("cond3", "val3");
+        valueSetBuilder.setStringEqualsIgnoreCasePredicate("cond1");
+        valueSetBuilder.setPredicate("cond3", new StringContainsPredicate());
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet0, valueSet1);
+
+        ConditionalValues<String> conditionalValues1 = new ConditionalValues<>(null, null, null, null, valueSets);
+        Assertions.assertThat(conditionalValues1, "_scannedOrdinals", Raw.intArrayAssertion()).containsExactlyInOrder(0, 1);
+        Assertions.assertThat(conditionalValues1, "_valueSetMatchers", Raw.listAssertion()).hasSize(2);
+
+        conditionSetBuilder.addCondition("cond1", "val12");
+        conditionSetBuilder.addCondition("cond2", "xval2x");
+        Values<String> values11 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values11.getValues()).containsExactlyInOrder("val0");
+
+        conditionSetBuilder.addCondition("cond1", "Val11");
+        conditionSetBuilder.addCondition("cond2", "val2");
+        conditionSetBuilder.addCondition("cond3", "val3");
+        Values<String> values12 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values12.getValues()).containsExactlyInOrder("val1");
+
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val2");
+        conditionSetBuilder.addCondition("cond3", "val3");
+        Values<String> values13 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values13.getValues()).containsExactlyInOrder("val0", "val1");
+
+        conditionSetBuilder.addCondition("cond1", 11);
+        conditionSetBuilder.addCondition("cond2", "val2");
+        Values<String> values14 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values14.getValues()).isEmpty();
+
+        ConditionalValues<String> conditionalValues2 = new ConditionalValues<>(new AllValuesMatchTuplePredicate(), null, null, null, valueSets);
+
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val2");
+        Values<String> values21 = conditionalValues2.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values21.getValues()).isEmpty();
+
+        conditionSetBuilder.addCondition("cond1", "vAL11");
+        conditionSetBuilder.addCondition("cond3", "val3");
+        Values<String> values22 = conditionalValues2.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values22.getValues()).containsExactlyInOrder("val1");
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test(expected = WrongConditionSetValueException.class)
+    public void lookupConditionMatcherWrongValueFailTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val1");
+        valueSetBuilder.addCondition("cond2", "val2");
+        valueSetBuilder.setStringContainsPredicate("cond2");
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, new StringEqualsIgnoreCasePredicate(), null, null, DataHelper.createArrayList(valueSet0));
+
+        conditionSetBuilder.addCondition("cond1", 1);
+        conditionSetBuilder.addCondition("cond2", "val2");
+        conditionalValues.lookup(conditionSetBuilder.build());
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupContainsIndexTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("text", "hello");
+        valueSetBuilder.addCondition("text", "world");
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("text", "bye");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("text", "Hello");
+        valueSetBuilder.addCondition("lang", "en");
+        valueSetBuilder.setStringContainsPredicate("text");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        Map<String, Predicate> predicates = DataHelper.<String, Predicate>createHashMap("text", new StringContainsIgnoreCasePredicate());
+        ConditionalValues<String> conditionalValues1 = new ConditionalValues<>(new AllValuesMatchTuplePredicate(), null, predicates, null, DataHelper.createArrayList(valueSet0, valueSet1, valueSet2));
+        Assertions.assertThat(conditionalValues1, "_scannedOrdinals", Raw.intArrayAssertion()).containsExactlyInOrder(0, 1, 2);
+
+        conditionSetBuilder.addCondition("text", "Hello, World!");
+        Values<String> values11 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values11.getValues()).containsExactlyInOrder("val0");
+
+        conditionSetBuilder.addCondition("text", "HELLO and bye");
+        Values<String> values12 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values12.getValues()).containsExactlyInOrder("val1");
+
+        conditionSetBuilder.addCondition("text", "Hello, World!");
+        conditionSetBuilder.addCondition("lang", "en");
+        Values<String> values13 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values13.getValues()).containsExactlyInOrder("val2");
+
+        conditionSetBuilder.addCondition("text", "hello, world!");
+        conditionSetBuilder.addCondition("lang", "en");
+        Values<String> values14 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values14.getValues()).containsExactlyInOrder("val0");
+
+        conditionSetBuilder.addCondition("lang", "en");
+        Values<String> values15 = conditionalValues1.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values15.getValues()).isEmpty();
+
+        ConditionalValues<String> conditionalValues2 = new ConditionalValues<>(null, new StringContainsPredicate(), null, null, DataHelper.createArrayList(valueSet0, valueSet1, valueSet2));
+
+        conditionSetBuilder.addCondition("text", "hello, bye!");
+        Values<String> values21 = conditionalValues2.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values21.getValues()).containsExactlyInOrder("val0", "val1");
+
+        conditionSetBuilder.addCondition("text", "HELLO, BYE!");
+        Values<String> values22 = conditionalValues2.lookup(conditionSetBuilder.build());
+        Assertions.assertThat(values22.getValues()).isEmpty();
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test(expected = WrongConditionSetValueException.class)
+    public void lookupContainsIndexWrongValueFailTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("text", "hello");
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, new StringContainsIgnoreCasePredicate(), null, null, DataHelper.createArrayList(valueSet0));
+
+        conditionSetBuilder.addCondition("text", 1);
+        conditionalValues.lookup(conditionSetBuilder.build());
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void lookupPatternIndexTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("path", Pattern.compile("/users/\\d+"));
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("path", Pattern.compile("/users/\\d+"));
+        valueSetBuilder.addCondition("path", Pattern.compile("(?i)/EDIT$"));
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("path", Pattern.compile("/orders(/\\d+)?"));
+        valueSetBuilder.addCondition("method", "POST");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("path", Pattern.compile("/(users|orders)/.*"));
+        valueSetBuilder.setPredicate("path", new PatternMatchesPredicate());
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3);
+        Map<String, Predicate> predicates = DataHelper.<String, Predicate>createHashMap("path", new PatternFindPredicate());
+        List<String> paths = DataHelper.createArrayList("", "/users/1", "/users/1/edit", "/users/1/EDIT", "/users/x/edit", "/api/orders", "/orders/2", "/orders/x");
+
+        ConditionalValues<String> conditionalValues11 = new ConditionalValues<>(null, null, predicates, null, valueSets, ConditionalValuesOptions.DEFAULT);
+        ConditionalValues<String> conditionalValues12 = new ConditionalValues<>(null, null, predicates, null, valueSets, new ConditionalValuesOptions(true, 0, 0, 0, false));
+        Assertions.assertThat(conditionalValues11, "_conditionIndexes", Raw.listAssertion()).hasSize(0);
+        Assertions.assertThat(conditionalValues12, "_conditionIndexes", Raw.listAssertion()).hasSize(2);
+        ConditionalValues<String> conditionalValues21 = new ConditionalValues<>(new AllValuesMatchTuplePredicate(), null, predicates, null, valueSets, ConditionalValuesOptions.DEFAULT);
+        ConditionalValues<String> conditionalValues22 = new ConditionalValues<>(new AllValuesMatchTuplePredicate(), null, predicates, null, valueSets, new ConditionalValuesOptions(true, 0, 0, 0, false));
+        for (String path : paths) {
+            ConditionSet conditionSet1 = conditionSetBuilder.addCondition("path", path).build();
+            Assertions.assertThat(conditionalValues12.lookup(conditionSet1).getValues()).containsExactlyInOrder(conditionalValues11.lookup(conditionSet1).getValues());
+            Assertions.assertThat(conditionalValues22.lookup(conditionSet1).getValues()).containsExactlyInOrder(conditionalValues21.lookup(conditionSet1).getValues());
+            ConditionSet conditionSet2 = conditionSetBuilder.addCondition("path", path).addCondition("method", "POST").build();
+            Assertions.assertThat(conditionalValues12.lookup(conditionSet2).getValues()).containsExactlyInOrder(conditionalValues11.lookup(conditionSet2).getValues());
+            Assertions.assertThat(conditionalValues22.lookup(conditionSet2).getValues()).containsExactlyInOrder(conditionalValues21.lookup(conditionSet2).getValues());
+        }
+
+        Values<String> values11 = conditionalValues12.lookup(conditionSetBuilder.addCondition("path", "/users/1/edit").build());
+        Assertions.assertThat(values11.getValues()).containsExactlyInOrder("val0", "val1", "val3");
+
+        Values<String> values12 = conditionalValues12.lookup(conditionSetBuilder.addCondition("path", "/api/orders").addCondition("method", "POST").build());
+        Assertions.assertThat(values12.getValues()).containsExactlyInOrder("val2");
+
+        Values<String> values21 = conditionalValues22.lookup(conditionSetBuilder.addCondition("path", "/users/1/edit").build());
+        Assertions.assertThat(values21.getValues()).containsExactlyInOrder("val0", "val1", "val3");
+
+        Values<String> values22 = conditionalValues22.lookup(conditionSetBuilder.addCondition("path", "/users/1").build());
+        Assertions.assertThat(values22.getValues()).containsExactlyInOrder("val0", "val3");
+    }
+
+    /**
+     * {@link ConditionalValues} class test.
+     */
+    @Test
+    public void getValueSetsTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.addCondition("cond1", "val1").addValue("value1").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.addCondition("cond2", "val2").addValue("value2").build();
+        ConditionalValues<String> conditionalValues1 = new ConditionalValues<>(null, null, null, null, null);
+        Assertions.assertThat(conditionalValues1.getValueSets()).isEmpty();
+
+        ConditionalValues<String> conditionalValues2 = new ConditionalValues<>(null, null, null, null, DataHelper.createArrayList(valueSet1, null, valueSet2));
+        Assertions.assertThat(conditionalValues2.getValueSets()).containsExactlyInOrder(valueSet1, valueSet2);
+    }
+
     /**
      * {@link ConditionalValues} class test.
      */
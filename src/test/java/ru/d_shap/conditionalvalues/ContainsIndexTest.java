@@ -0,0 +1,140 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link ContainsIndex}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ContainsIndexTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ContainsIndexTest() {
+        super();
+    }
+
+    /**
+     * {@link ContainsIndex} class test.
+     */
+    @Test
+    public void createContainsIndexTest() {
+        List<ValueSet<String>> valueSets = createValueSets();
+
+        ContainsIndex containsIndex1 = new ContainsIndex("cond", false, false, valueSets, DataHelper.<Integer>createArrayList());
+        Assertions.assertThat(containsIndex1.getConditionName()).isEqualTo("cond");
+        Assertions.assertThat(containsIndex1.isIgnoreCase()).isFalse();
+        Assertions.assertThat(containsIndex1.isAllValuesMatch()).isFalse();
+        Assertions.assertThat(containsIndex1.getKeywordCount()).isEqualTo(0);
+        Assertions.assertThat(containsIndex1).hasToString("cond=[]");
+
+        ContainsIndex containsIndex2 = new ContainsIndex("cond", false, true, valueSets, DataHelper.createArrayList(0, 1, 2));
+        Assertions.assertThat(containsIndex2.isIgnoreCase()).isFalse();
+        Assertions.assertThat(containsIndex2.isAllValuesMatch()).isTrue();
+        Assertions.assertThat(containsIndex2.getKeywordCount()).isEqualTo(3);
+        Assertions.assertThat(containsIndex2.isIndexed(0)).isTrue();
+        Assertions.assertThat(containsIndex2.isIndexed(2)).isTrue();
+        Assertions.assertThat(containsIndex2.isIndexed(3)).isFalse();
+
+        ContainsIndex containsIndex3 = new ContainsIndex("cond", true, false, valueSets, DataHelper.createArrayList(1, 3));
+        Assertions.assertThat(containsIndex3.isIgnoreCase()).isTrue();
+        Assertions.assertThat(containsIndex3.getKeywordCount()).isEqualTo(2);
+        Assertions.assertThat(containsIndex3.isIndexed(0)).isFalse();
+        Assertions.assertThat(containsIndex3.isIndexed(1)).isTrue();
+        Assertions.assertThat(containsIndex3.isIndexed(3)).isTrue();
+    }
+
+    /**
+     * {@link ContainsIndex} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsAnyValueMatchesTest() {
+        List<ValueSet<String>> valueSets = createValueSets();
+
+        ContainsIndex containsIndex1 = new ContainsIndex("cond", false, false, valueSets, DataHelper.createArrayList(0, 1, 2, 3));
+        Assertions.assertThat(addMatchingOrdinals(containsIndex1, "")).isEqualTo("{}");
+        Assertions.assertThat(addMatchingOrdinals(containsIndex1, "hello world")).isEqualTo("{0, 2}");
+        Assertions.assertThat(addMatchingOrdinals(containsIndex1, "Hello")).isEqualTo("{}");
+        Assertions.assertThat(addMatchingOrdinals(containsIndex1, "bye")).isEqualTo("{0, 1}");
+        Assertions.assertThat(addMatchingOrdinals(containsIndex1, "say hi")).isEqualTo("{3}");
+
+        ContainsIndex containsIndex2 = new ContainsIndex("cond", true, false, valueSets, DataHelper.createArrayList(0, 1, 2, 3));
+        Assertions.assertThat(addMatchingOrdinals(containsIndex2, "Hello")).isEqualTo("{0}");
+        Assertions.assertThat(addMatchingOrdinals(containsIndex2, "BYE WORLD")).isEqualTo("{0, 1, 2}");
+    }
+
+    /**
+     * {@link ContainsIndex} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsAllValuesMatchTest() {
+        List<ValueSet<String>> valueSets = createValueSets();
+
+        ContainsIndex containsIndex1 = new ContainsIndex("cond", false, true, valueSets, DataHelper.createArrayList(0, 1, 2, 3));
+        Assertions.assertThat(addMatchingOrdinals(containsIndex1, "hello")).isEqualTo("{}");
+        Assertions.assertThat(addMatchingOrdinals(containsIndex1, "hello bye")).isEqualTo("{0, 1}");
+        Assertions.assertThat(addMatchingOrdinals(containsIndex1, "hello world")).isEqualTo("{2}");
+
+        ContainsIndex containsIndex2 = new ContainsIndex("cond", true, true, valueSets, DataHelper.createArrayList(0, 1, 2, 3));
+        Assertions.assertThat(addMatchingOrdinals(containsIndex2, "hi")).isEqualTo("{3}");
+        Assertions.assertThat(addMatchingOrdinals(containsIndex2, "HELLO BYE")).isEqualTo("{0, 1}");
+
+        BitSet ordinals = new BitSet();
+        ordinals.set(5);
+        containsIndex2.addMatchingOrdinals("world", ordinals);
+        Assertions.assertThat(ordinals).hasToString("{2, 5}");
+    }
+
+    private List<ValueSet<String>> createValueSets() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.addCondition("cond", "hello");
+        valueSetBuilder.addCondition("cond", "bye");
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond", "bye");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond", "world");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond", "hi");
+        valueSetBuilder.addCondition("cond", "HI");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        return DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3);
+    }
+
+    private String addMatchingOrdinals(final ContainsIndex containsIndex, final String conditionSetValue) {
+        BitSet ordinals = new BitSet();
+        containsIndex.addMatchingOrdinals(conditionSetValue, ordinals);
+        return ordinals.toString();
+    }
+
+}
@@ -0,0 +1,226 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnmappableCharacterException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.conditionalvalues.converter.BooleanConditionConverter;
+import ru.d_shap.conditionalvalues.converter.IntegerConditionConverter;
+import ru.d_shap.conditionalvalues.converter.IntegerValueConverter;
+import ru.d_shap.conditionalvalues.converter.LongConditionConverter;
+import ru.d_shap.conditionalvalues.converter.StringValueConverter;
+import ru.d_shap.conditionalvalues.data.ExpandingCharset;
+
+/**
+ * Tests for {@link DecisionTableLoader}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DecisionTableLoaderTest {
+
+    /**
+     * Test class constructor.
+     */
+    public DecisionTableLoaderTest() {
+        super();
+    }
+
+    /**
+     * {@link DecisionTableLoader} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void loadPathTest() throws IOException {
+        Path path = Files.createTempFile("conditional-values", ".csv");
+        try {
+            Files.write(path, "id,cond1,cond2,cond3,value\nid1,val1,1|2,true,value1\nid2,val2,3,false,value2|value3\n".getBytes(StandardCharsets.UTF_8));
+            DecisionTableLoader<String> decisionTableLoader = DecisionTableLoader.newInstance(new StringValueConverter());
+            decisionTableLoader.setCsvColumnSeparator().setConditionConverter("cond2", new IntegerConditionConverter()).setConditionConverter("cond3", new BooleanConditionConverter());
+            ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+            Assertions.assertThat(decisionTableLoader.load(path, conditionalValuesBuilder)).isEqualTo(2);
+            ConditionalValues<String> conditionalValues = conditionalValuesBuilder.build();
+
+            ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+            Assertions.assertThat(conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", 2).addCondition("cond3", true).build()).getValues()).containsExactlyInOrder("value1");
+            Assertions.assertThat(conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val2").addCondition("cond2", 3).addCondition("cond3", false).build()).getValues()).containsExactlyInOrder("value2", "value3");
+            Assertions.assertThat(conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val2").addCondition("cond2", "3").addCondition("cond3", false).build()).isEmpty()).isTrue();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link DecisionTableLoader} class test.
+     */
+    @Test
+    public void loadChannelTest() {
+        DecisionTableLoader<Integer> decisionTableLoader = DecisionTableLoader.newInstance(new IntegerValueConverter());
+        decisionTableLoader.setTsvColumnSeparator().setValueSeparator(';').setIdColumnName("rule").setValueColumnName("result").setConditionConverter(new LongConditionConverter());
+        ConditionalValuesBuilder<Integer> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        ReadableByteChannel channel = createChannel("rule\tcond1\tresult\nid1\t1;2\t10;20\n", "UTF-8");
+        Assertions.assertThat(decisionTableLoader.load(channel, conditionalValuesBuilder)).isEqualTo(1);
+
+        List<ValueSet<Integer>> valueSets = conditionalValuesBuilder.build().getValueSets();
+        Assertions.assertThat(valueSets.get(0).getId()).isEqualTo("id1");
+        Assertions.assertThat(valueSets.get(0).getAllConditionValues("cond1")).containsExactly(1L, 2L);
+        Assertions.assertThat(valueSets.get(0).getValues()).containsExactlyInOrder(10, 20);
+    }
+
+    /**
+     * {@link DecisionTableLoader} class test.
+     */
+    @Test
+    public void loadCharsetTest() {
+        DecisionTableLoader<String> decisionTableLoader = DecisionTableLoader.newInstance(new StringValueConverter());
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        decisionTableLoader.setCharset(StandardCharsets.UTF_16);
+        Assertions.assertThat(decisionTableLoader.load(createChannel("cond1,value\n\u0436,value1\n", "UTF-16"), conditionalValuesBuilder)).isEqualTo(1);
+        decisionTableLoader.setCharset(null);
+        Assertions.assertThat(decisionTableLoader.load(createChannel("cond1,value\n\u0437,value2\n", "UTF-8"), conditionalValuesBuilder)).isEqualTo(1);
+
+        List<ValueSet<String>> valueSets = conditionalValuesBuilder.build().getValueSets();
+        Assertions.assertThat(valueSets.get(0).getAllConditionValues("cond1")).containsExactly("\u0436");
+        Assertions.assertThat(valueSets.get(1).getAllConditionValues("cond1")).containsExactly("\u0437");
+    }
+
+    /**
+     * {@link DecisionTableLoader} class test.
+     */
+    @Test
+    public void loadExpandingCharsetTest() {
+        StringBuilder expandedValue = new StringBuilder();
+        StringBuilder deferredValue = new StringBuilder();
+        for (int i = 0; i < 9000; i++) {
+            expandedValue.append('*');
+            deferredValue.append('+');
+        }
+        DecisionTableLoader<String> decisionTableLoader = DecisionTableLoader.newInstance(new StringValueConverter());
+        decisionTableLoader.setCharset(new ExpandingCharset());
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        Assertions.assertThat(decisionTableLoader.load(createChannel("cond1,value\nval1," + expandedValue + "\nval2,value2" + deferredValue, "US-ASCII"), conditionalValuesBuilder)).isEqualTo(2);
+
+        List<ValueSet<String>> valueSets = conditionalValuesBuilder.build().getValueSets();
+        Assertions.assertThat(valueSets.get(0).getAllConditionValues("cond1")).containsExactly("val1");
+        Assertions.assertThat(valueSets.get(0).getValues()).containsExactlyInOrder(expandedValue.toString() + expandedValue);
+        Assertions.assertThat(valueSets.get(1).getAllConditionValues("cond1")).containsExactly("val2");
+        Assertions.assertThat(valueSets.get(1).getValues()).containsExactlyInOrder("value2" + deferredValue);
+    }
+
+    /**
+     * {@link DecisionTableLoader} class test.
+     */
+    @Test
+    public void loadLargeTableTest() {
+        StringBuilder decisionTable = new StringBuilder("cond1,cond2,value\n");
+        for (int i = 0; i < 10000; i++) {
+            decisionTable.append("\u0436").append(i).append(',').append(i % 10).append(",value").append(i).append('\n');
+        }
+        DecisionTableLoader<String> decisionTableLoader = DecisionTableLoader.newInstance(new StringValueConverter());
+        decisionTableLoader.setConditionConverter("cond2", new IntegerConditionConverter());
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        Assertions.assertThat(decisionTableLoader.load(createChannel(decisionTable.toString(), "UTF-8"), conditionalValuesBuilder)).isEqualTo(10000);
+        ConditionalValues<String> conditionalValues = conditionalValuesBuilder.build();
+
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        Assertions.assertThat(conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "\u04369999").addCondition("cond2", 9).build()).getValues()).containsExactlyInOrder("value9999");
+        Assertions.assertThat(conditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "\u04364567").addCondition("cond2", 7).build()).getValues()).containsExactlyInOrder("value4567");
+    }
+
+    /**
+     * {@link DecisionTableLoader} class test.
+     */
+    @Test
+    public void setConditionConverterNullTest() {
+        DecisionTableLoader<String> decisionTableLoader = DecisionTableLoader.newInstance(new StringValueConverter());
+        decisionTableLoader.setConditionConverter(new IntegerConditionConverter()).setConditionConverter(null);
+        decisionTableLoader.setConditionConverter("cond2", new IntegerConditionConverter()).setConditionConverter("cond2", null).setConditionConverter(null, new IntegerConditionConverter());
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        Assertions.assertThat(decisionTableLoader.load(createChannel("cond1,cond2,value\n1,2,value1\n", "UTF-8"), conditionalValuesBuilder)).isEqualTo(1);
+
+        List<ValueSet<String>> valueSets = conditionalValuesBuilder.build().getValueSets();
+        Assertions.assertThat(valueSets.get(0).getAllConditionValues("cond1")).containsExactly("1");
+        Assertions.assertThat(valueSets.get(0).getAllConditionValues("cond2")).containsExactly("2");
+    }
+
+    /**
+     * {@link DecisionTableLoader} class test.
+     */
+    @Test
+    public void loadMalformedInputFailTest() {
+        DecisionTableLoader<String> decisionTableLoader = DecisionTableLoader.newInstance(new StringValueConverter());
+        ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(new byte[]{'c', ',', (byte) 0xFF, '\n'}));
+        try {
+            decisionTableLoader.load(channel, ConditionalValuesBuilder.<String>newInstance());
+            Assertions.fail("DecisionTableLoader test fail");
+        } catch (DecisionTableException ex) {
+            Assertions.assertThat(ex).hasCause(MalformedInputException.class);
+        }
+    }
+
+    /**
+     * {@link DecisionTableLoader} class test.
+     */
+    @Test
+    public void loadUnmappableInputFailTest() {
+        DecisionTableLoader<String> decisionTableLoader = DecisionTableLoader.newInstance(new StringValueConverter());
+        decisionTableLoader.setCharset(new ExpandingCharset());
+        try {
+            decisionTableLoader.load(createChannel("cond1,value\nval~1,value1\n", "US-ASCII"), ConditionalValuesBuilder.<String>newInstance());
+            Assertions.fail("DecisionTableLoader test fail");
+        } catch (DecisionTableException ex) {
+            Assertions.assertThat(ex).hasCause(UnmappableCharacterException.class);
+        }
+    }
+
+    /**
+     * {@link DecisionTableLoader} class test.
+     */
+    @Test
+    public void loadNoFileFailTest() {
+        DecisionTableLoader<String> decisionTableLoader = DecisionTableLoader.newInstance(new StringValueConverter());
+        try {
+            decisionTableLoader.load(Paths.get("target", "no-such-file.csv"), ConditionalValuesBuilder.<String>newInstance());
+            Assertions.fail("DecisionTableLoader test fail");
+        } catch (DecisionTableException ex) {
+            Assertions.assertThat(ex).hasCause(NoSuchFileException.class);
+        }
+    }
+
+    private ReadableByteChannel createChannel(final String decisionTable, final String charsetName) {
+        return Channels.newChannel(new ByteArrayInputStream(decisionTable.getBytes(Charset.forName(charsetName))));
+    }
+
+}
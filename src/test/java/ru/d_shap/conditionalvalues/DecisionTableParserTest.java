@@ -0,0 +1,237 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.nio.CharBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.conditionalvalues.converter.IntegerConditionConverter;
+import ru.d_shap.conditionalvalues.converter.StringConditionConverter;
+import ru.d_shap.conditionalvalues.converter.StringValueConverter;
+
+/**
+ * Tests for {@link DecisionTableParser}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DecisionTableParserTest {
+
+    /**
+     * Test class constructor.
+     */
+    public DecisionTableParserTest() {
+        super();
+    }
+
+    /**
+     * {@link DecisionTableParser} class test.
+     */
+    @Test
+    public void parseTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        DecisionTableParser<String> parser = createParser(conditionalValuesBuilder);
+        parser.parse(CharBuffer.wrap("id,cond1,cond2,value\r\nid1,val1,1,value1\nid2,val2|val3,2|3,value2|value3\n"));
+        parser.finish();
+        Assertions.assertThat(parser.getValueSetCount()).isEqualTo(2);
+
+        List<ValueSet<String>> valueSets = conditionalValuesBuilder.build().getValueSets();
+        Assertions.assertThat(valueSets).hasSize(2);
+        Assertions.assertThat(valueSets.get(0).getId()).isEqualTo("id1");
+        Assertions.assertThat(valueSets.get(0).getAllConditionNames()).containsExactly("cond1", "cond2");
+        Assertions.assertThat(valueSets.get(0).getAllConditionValues("cond1")).containsExactly("val1");
+        Assertions.assertThat(valueSets.get(0).getAllConditionValues("cond2")).containsExactly(1);
+        Assertions.assertThat(valueSets.get(0).getValues()).containsExactlyInOrder("value1");
+        Assertions.assertThat(valueSets.get(1).getId()).isEqualTo("id2");
+        Assertions.assertThat(valueSets.get(1).getAllConditionValues("cond1")).containsExactly("val2", "val3");
+        Assertions.assertThat(valueSets.get(1).getAllConditionValues("cond2")).containsExactly(2, 3);
+        Assertions.assertThat(valueSets.get(1).getValues()).containsExactlyInOrder("value2", "value3");
+    }
+
+    /**
+     * {@link DecisionTableParser} class test.
+     */
+    @Test
+    public void parseSplitBufferTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        DecisionTableParser<String> parser = createParser(conditionalValuesBuilder);
+        parser.parse(CharBuffer.wrap("cond1,val"));
+        parser.parse(CharBuffer.wrap("ue\nval"));
+        parser.parse(CharBuffer.wrap("1,value1"));
+        parser.finish();
+        Assertions.assertThat(parser.getValueSetCount()).isEqualTo(1);
+
+        List<ValueSet<String>> valueSets = conditionalValuesBuilder.build().getValueSets();
+        Assertions.assertThat(valueSets.get(0).getId()).isNull();
+        Assertions.assertThat(valueSets.get(0).getAllConditionValues("cond1")).containsExactly("val1");
+        Assertions.assertThat(valueSets.get(0).getValues()).containsExactlyInOrder("value1");
+    }
+
+    /**
+     * {@link DecisionTableParser} class test.
+     */
+    @Test
+    public void parseQuotedCellTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        DecisionTableParser<String> parser = createParser(conditionalValuesBuilder);
+        parser.parse(CharBuffer.wrap("\"cond,1\",value\n\"val,1\n\"\"x\"\"\",value1\n"));
+        parser.finish();
+
+        List<ValueSet<String>> valueSets = conditionalValuesBuilder.build().getValueSets();
+        Assertions.assertThat(valueSets.get(0).getAllConditionValues("cond,1")).containsExactly("val,1\n\"x\"");
+    }
+
+    /**
+     * {@link DecisionTableParser} class test.
+     */
+    @Test
+    public void parseQuoteInUnquotedCellTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        DecisionTableParser<String> parser = createParser(conditionalValuesBuilder);
+        parser.parse(CharBuffer.wrap("cond1,value\nva\"l1,value1\"\nval2,"));
+        parser.finish();
+        Assertions.assertThat(parser.getValueSetCount()).isEqualTo(2);
+
+        List<ValueSet<String>> valueSets = conditionalValuesBuilder.build().getValueSets();
+        Assertions.assertThat(valueSets.get(0).getAllConditionValues("cond1")).containsExactly("va\"l1");
+        Assertions.assertThat(valueSets.get(0).getValues()).containsExactlyInOrder("value1\"");
+        Assertions.assertThat(valueSets.get(1).getAllConditionValues("cond1")).containsExactly("val2");
+        Assertions.assertThat(valueSets.get(1).getValues()).isEmpty();
+    }
+
+    /**
+     * {@link DecisionTableParser} class test.
+     */
+    @Test
+    public void parseEmptyCellTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        DecisionTableParser<String> parser = createParser(conditionalValuesBuilder);
+        parser.parse(CharBuffer.wrap("id,cond1,cond2,value\n,val1,,value1\n\n,,,\nid3,||val3|,,\n"));
+        parser.finish();
+        Assertions.assertThat(parser.getValueSetCount()).isEqualTo(2);
+
+        List<ValueSet<String>> valueSets = conditionalValuesBuilder.build().getValueSets();
+        Assertions.assertThat(valueSets.get(0).getId()).isNull();
+        Assertions.assertThat(valueSets.get(0).getAllConditionNames()).containsExactly("cond1");
+        Assertions.assertThat(valueSets.get(1).getId()).isEqualTo("id3");
+        Assertions.assertThat(valueSets.get(1).getAllConditionValues("cond1")).containsExactly("val3");
+        Assertions.assertThat(valueSets.get(1).getValues()).isEmpty();
+    }
+
+    /**
+     * {@link DecisionTableParser} class test.
+     */
+    @Test
+    public void parseHeaderOnlyTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        DecisionTableParser<String> parser = createParser(conditionalValuesBuilder);
+        parser.parse(CharBuffer.wrap("cond1,value"));
+        parser.finish();
+        Assertions.assertThat(parser.getValueSetCount()).isEqualTo(0);
+
+        DecisionTableParser<String> emptyParser = createParser(conditionalValuesBuilder);
+        emptyParser.finish();
+        Assertions.assertThat(emptyParser.getValueSetCount()).isEqualTo(0);
+    }
+
+    /**
+     * {@link DecisionTableParser} class test.
+     */
+    @Test
+    public void parseNullValueConverterTest() {
+        ConditionalValuesBuilder<String> conditionalValuesBuilder = ConditionalValuesBuilder.newInstance();
+        DecisionTableParser<String> parser = new DecisionTableParser<>('\t', ';', "id", "value", new StringConditionConverter(), new HashMap<String, ConditionConverter>(), null, conditionalValuesBuilder);
+        parser.parse(CharBuffer.wrap("cond1\tvalue\nval1;val2\tvalue1\n"));
+        parser.finish();
+
+        List<ValueSet<String>> valueSets = conditionalValuesBuilder.build().getValueSets();
+        Assertions.assertThat(valueSets.get(0).getAllConditionValues("cond1")).containsExactly("val1", "val2");
+        Assertions.assertThat(valueSets.get(0).getValues()).isEmpty();
+    }
+
+    /**
+     * {@link DecisionTableParser} class test.
+     */
+    @Test
+    public void emptyColumnNameFailTest() {
+        DecisionTableParser<String> parser = createParser(ConditionalValuesBuilder.<String>newInstance());
+        try {
+            parser.parse(CharBuffer.wrap("cond1,,value\n"));
+            Assertions.fail("DecisionTableParser test fail");
+        } catch (DecisionTableException ex) {
+            Assertions.assertThat(ex).hasMessage("Row 1: column name is not defined");
+        }
+    }
+
+    /**
+     * {@link DecisionTableParser} class test.
+     */
+    @Test
+    public void cellOutOfColumnsFailTest() {
+        DecisionTableParser<String> parser = createParser(ConditionalValuesBuilder.<String>newInstance());
+        try {
+            parser.parse(CharBuffer.wrap("cond1,value\nval1,value1\nval2,value2,value3\n"));
+            Assertions.fail("DecisionTableParser test fail");
+        } catch (DecisionTableException ex) {
+            Assertions.assertThat(ex).hasMessage("Row 3: cell is out of the columns");
+        }
+    }
+
+    /**
+     * {@link DecisionTableParser} class test.
+     */
+    @Test
+    public void wrongValueFailTest() {
+        DecisionTableParser<String> parser = createParser(ConditionalValuesBuilder.<String>newInstance());
+        try {
+            parser.parse(CharBuffer.wrap("cond2,value\n1|x2,value1\n"));
+            Assertions.fail("DecisionTableParser test fail");
+        } catch (DecisionTableException ex) {
+            Assertions.assertThat(ex).hasMessage("Row 2, column cond2: wrong value x2");
+            Assertions.assertThat(ex).hasCause(NumberFormatException.class);
+        }
+    }
+
+    /**
+     * {@link DecisionTableParser} class test.
+     */
+    @Test
+    public void quotedCellNotClosedFailTest() {
+        DecisionTableParser<String> parser = createParser(ConditionalValuesBuilder.<String>newInstance());
+        parser.parse(CharBuffer.wrap("cond1,value\n\"val1,value1\n"));
+        try {
+            parser.finish();
+            Assertions.fail("DecisionTableParser test fail");
+        } catch (DecisionTableException ex) {
+            Assertions.assertThat(ex).hasMessage("Row 2: quoted cell is not closed");
+        }
+    }
+
+    private DecisionTableParser<String> createParser(final ConditionalValuesBuilder<String> conditionalValuesBuilder) {
+        Map<String, ConditionConverter> conditionConverters = new HashMap<>();
+        conditionConverters.put("cond2", new IntegerConditionConverter());
+        return new DecisionTableParser<>(',', '|', "id", "value", new StringConditionConverter(), conditionConverters, new StringValueConverter(), conditionalValuesBuilder);
+    }
+
+}
@@ -0,0 +1,287 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link EqualsIndexGroup}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class EqualsIndexGroupTest {
+
+    /**
+     * Test class constructor.
+     */
+    public EqualsIndexGroupTest() {
+        super();
+    }
+
+    /**
+     * {@link EqualsIndexGroup} class test.
+     */
+    @Test
+    public void createEqualsIndexGroupTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2);
+
+        EqualsIndexGroup equalsIndexGroup = new EqualsIndexGroup(new ConditionNameTable(valueSets), valueSet1.getAllConditionNames(), valueSets, DataHelper.createArrayList(0, 1));
+        Assertions.assertThat(equalsIndexGroup.getConditionNameCount()).isEqualTo(2);
+        Assertions.assertThat(equalsIndexGroup.getValueSetCount()).isEqualTo(2);
+        Assertions.assertThat(equalsIndexGroup).hasToString("[cond1, cond2]=[0, 1]");
+    }
+
+    /**
+     * {@link EqualsIndexGroup} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addCondition("cond2", "val22");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val22");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3);
+        ConditionNameTable conditionNameTable = new ConditionNameTable(valueSets);
+        EqualsIndexGroup equalsIndexGroup = new EqualsIndexGroup(conditionNameTable, valueSet1.getAllConditionNames(), valueSets, DataHelper.createArrayList(0, 1, 2));
+
+        IntList ordinals1 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals1);
+        Assertions.assertThat(ordinals1.toArray()).containsExactly();
+
+        IntList ordinals2 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals2);
+        Assertions.assertThat(ordinals2.toArray()).containsExactlyInOrder(0);
+
+        IntList ordinals3 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val12");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals3);
+        Assertions.assertThat(ordinals3.toArray()).containsExactlyInOrder(0, 1);
+
+        IntList ordinals4 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val22");
+        conditionSetBuilder.addCondition("cond3", "val31");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals4);
+        Assertions.assertThat(ordinals4.toArray()).containsExactlyInOrder(2);
+
+        IntList ordinals5 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val13");
+        conditionSetBuilder.addCondition("cond2", "val22");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals5);
+        Assertions.assertThat(ordinals5.toArray()).containsExactly();
+    }
+
+    /**
+     * {@link EqualsIndexGroup} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsSmallestPostingTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val22");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val22");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3);
+        ConditionNameTable conditionNameTable = new ConditionNameTable(valueSets);
+        EqualsIndexGroup equalsIndexGroup = new EqualsIndexGroup(conditionNameTable, valueSet1.getAllConditionNames(), valueSets, DataHelper.createArrayList(0, 1, 2));
+
+        IntList ordinals1 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals1);
+        Assertions.assertThat(ordinals1.toArray()).containsExactlyInOrder(0);
+
+        IntList ordinals2 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val22");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals2);
+        Assertions.assertThat(ordinals2.toArray()).containsExactlyInOrder(1, 2);
+
+        IntList ordinals3 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val12");
+        conditionSetBuilder.addCondition("cond2", "val22");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals3);
+        Assertions.assertThat(ordinals3.toArray()).containsExactlyInOrder(2);
+
+        IntList ordinals4 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val12");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals4);
+        Assertions.assertThat(ordinals4.toArray()).containsExactly();
+    }
+
+    /**
+     * {@link EqualsIndexGroup} class test.
+     */
+    @Test
+    public void deriveEqualsIndexGroupTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val22");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val22");
+        valueSetBuilder.addValue("val4");
+        ValueSet<String> valueSet4 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val5");
+        ValueSet<String> valueSet5 = valueSetBuilder.build();
+        List<ValueSet<String>> previousValueSets = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3);
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, null, valueSet4, valueSet5);
+        ConditionNameTable conditionNameTable = new ConditionNameTable(previousValueSets);
+        EqualsIndexGroup previousEqualsIndexGroup = new EqualsIndexGroup(conditionNameTable, valueSet1.getAllConditionNames(), previousValueSets, DataHelper.createArrayList(0, 1, 2));
+
+        EqualsIndexGroup equalsIndexGroup = new EqualsIndexGroup(previousEqualsIndexGroup, previousValueSets, valueSets, DataHelper.createArrayList(1, 2), DataHelper.createArrayList(2, 3));
+        Assertions.assertThat(equalsIndexGroup.getConditionNames()).containsExactly("cond1", "cond2");
+        Assertions.assertThat(equalsIndexGroup.getValueSetCount()).isEqualTo(3);
+        Assertions.assertThat(equalsIndexGroup).hasToString("[cond1, cond2]=[0, 2, 3]");
+        Assertions.assertThat(previousEqualsIndexGroup).hasToString("[cond1, cond2]=[0, 1, 2]");
+
+        IntList ordinals1 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals1);
+        Assertions.assertThat(ordinals1.toArray()).containsExactlyInOrder(0, 3);
+
+        IntList ordinals2 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val12");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals2);
+        Assertions.assertThat(ordinals2.toArray()).containsExactly();
+
+        IntList ordinals3 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val22");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals3);
+        Assertions.assertThat(ordinals3.toArray()).containsExactly();
+
+        IntList ordinals4 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val12");
+        conditionSetBuilder.addCondition("cond2", "val22");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals4);
+        Assertions.assertThat(ordinals4.toArray()).containsExactlyInOrder(2);
+
+        IntList ordinals5 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val12");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        previousEqualsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals5);
+        Assertions.assertThat(ordinals5.toArray()).containsExactlyInOrder(1);
+    }
+
+    /**
+     * {@link EqualsIndexGroup} class test.
+     */
+    @Test
+    public void deriveEqualsIndexGroupNotGroupedOrdinalTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val23");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        List<ValueSet<String>> previousValueSets = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3);
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2, null);
+        ConditionNameTable conditionNameTable = new ConditionNameTable(previousValueSets);
+        EqualsIndexGroup previousEqualsIndexGroup = new EqualsIndexGroup(conditionNameTable, valueSet1.getAllConditionNames(), previousValueSets, DataHelper.createArrayList(0, 1));
+
+        EqualsIndexGroup equalsIndexGroup = new EqualsIndexGroup(previousEqualsIndexGroup, previousValueSets, valueSets, DataHelper.createArrayList(2), DataHelper.createArrayList(0));
+        Assertions.assertThat(equalsIndexGroup.getValueSetCount()).isEqualTo(2);
+        Assertions.assertThat(equalsIndexGroup).hasToString("[cond1, cond2]=[0, 1]");
+        Assertions.assertThat(equalsIndexGroup.getPostings(0)).hasSize(2);
+        Assertions.assertThat(equalsIndexGroup.getPostings(1)).hasSize(1);
+
+        IntList ordinals1 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals1);
+        Assertions.assertThat(ordinals1.toArray()).containsExactlyInOrder(0);
+
+        IntList ordinals2 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val23");
+        equalsIndexGroup.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals2);
+        Assertions.assertThat(ordinals2.toArray()).containsExactly();
+    }
+
+}
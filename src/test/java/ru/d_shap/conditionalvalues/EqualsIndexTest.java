@@ -0,0 +1,202 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link EqualsIndex}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class EqualsIndexTest {
+
+    /**
+     * Test class constructor.
+     */
+    public EqualsIndexTest() {
+        super();
+    }
+
+    /**
+     * {@link EqualsIndex} class test.
+     */
+    @Test
+    public void createEqualsIndexTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+
+        EqualsIndex equalsIndex1 = new EqualsIndex(null, null, null);
+        Assertions.assertThat(equalsIndex1.getGroupCount()).isEqualTo(0);
+        Assertions.assertThat(equalsIndex1.getMaxConditionNameCount()).isEqualTo(0);
+
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3);
+
+        EqualsIndex equalsIndex2 = new EqualsIndex(new ConditionNameTable(valueSets), valueSets, DataHelper.createArrayList(0, 1, 2, 3));
+        Assertions.assertThat(equalsIndex2.getGroupCount()).isEqualTo(3);
+        Assertions.assertThat(equalsIndex2.getMaxConditionNameCount()).isEqualTo(2);
+
+        EqualsIndex equalsIndex3 = new EqualsIndex(new ConditionNameTable(valueSets), valueSets, DataHelper.createArrayList(1, 2));
+        Assertions.assertThat(equalsIndex3.getGroupCount()).isEqualTo(1);
+        Assertions.assertThat(equalsIndex3.getMaxConditionNameCount()).isEqualTo(1);
+        Assertions.assertThat(equalsIndex3).hasToString("[[cond1]=[1, 2]]");
+    }
+
+    /**
+     * {@link EqualsIndex} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3);
+        ConditionNameTable conditionNameTable = new ConditionNameTable(valueSets);
+        EqualsIndex equalsIndex = new EqualsIndex(conditionNameTable, valueSets, DataHelper.createArrayList(0, 1, 2, 3));
+
+        IntList ordinals1 = new IntList();
+        equalsIndex.addMatchingOrdinals(null, ordinals1);
+        Assertions.assertThat(ordinals1.toArray()).containsExactly();
+
+        IntList ordinals2 = new IntList();
+        equalsIndex.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals2);
+        Assertions.assertThat(ordinals2.toArray()).containsExactly(0);
+
+        IntList ordinals3 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        equalsIndex.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals3);
+        Assertions.assertThat(ordinals3.toArray()).containsExactly(0, 1);
+
+        IntList ordinals4 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val12");
+        equalsIndex.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals4);
+        Assertions.assertThat(ordinals4.toArray()).containsExactly(0, 1, 2);
+
+        IntList ordinals5 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        equalsIndex.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals5);
+        Assertions.assertThat(ordinals5.toArray()).containsExactly(0, 1, 3);
+
+        IntList ordinals6 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val12");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        equalsIndex.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals6);
+        Assertions.assertThat(ordinals6.toArray()).containsExactly(0, 1, 2);
+
+        IntList ordinals7 = new IntList();
+        conditionSetBuilder.addCondition("cond2", "val21");
+        equalsIndex.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals7);
+        Assertions.assertThat(ordinals7.toArray()).containsExactly(0);
+
+        IntList ordinals8 = new IntList();
+        int[][] postings = new int[equalsIndex.getMaxConditionNameCount()][];
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        equalsIndex.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals8, postings);
+        conditionSetBuilder.addCondition("cond1", "val12");
+        equalsIndex.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals8, postings);
+        Assertions.assertThat(ordinals8.toArray()).containsExactlyInOrder(0, 1, 3, 0, 1, 2);
+    }
+
+    /**
+     * {@link EqualsIndex} class test.
+     */
+    @Test
+    public void deriveEqualsIndexTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addValue("val4");
+        ValueSet<String> valueSet4 = valueSetBuilder.build();
+        List<ValueSet<String>> previousValueSets = DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3);
+        ConditionNameTable conditionNameTable = new ConditionNameTable(DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3, valueSet4));
+        EqualsIndex previousEqualsIndex = new EqualsIndex(conditionNameTable, previousValueSets, DataHelper.createArrayList(0, 1, 2, 3));
+        Assertions.assertThat(previousEqualsIndex).hasToString("[[]=[0], [cond1]=[1, 2], [cond1, cond2]=[3]]");
+
+        List<ValueSet<String>> valueSets1 = DataHelper.createArrayList(valueSet0, valueSet1, null, valueSet3, valueSet4);
+        EqualsIndex equalsIndex1 = new EqualsIndex(previousEqualsIndex, conditionNameTable, previousValueSets, valueSets1, DataHelper.createArrayList(2), DataHelper.createArrayList(4));
+        Assertions.assertThat(equalsIndex1).hasToString("[[]=[0], [cond1]=[1], [cond1, cond2]=[3], [cond2]=[4]]");
+        Assertions.assertThat(equalsIndex1.getGroup(0)).isSameAs(previousEqualsIndex.getGroup(0));
+        Assertions.assertThat(equalsIndex1.getGroup(1)).isNotSameAs(previousEqualsIndex.getGroup(1));
+        Assertions.assertThat(equalsIndex1.getGroup(2)).isSameAs(previousEqualsIndex.getGroup(2));
+
+        List<ValueSet<String>> valueSets2 = DataHelper.createArrayList(valueSet0, null, null, valueSet3, valueSet4);
+        EqualsIndex equalsIndex2 = new EqualsIndex(equalsIndex1, conditionNameTable, valueSets1, valueSets2, DataHelper.createArrayList(1), DataHelper.<Integer>createArrayList());
+        Assertions.assertThat(equalsIndex2).hasToString("[[]=[0], [cond1, cond2]=[3], [cond2]=[4]]");
+        Assertions.assertThat(equalsIndex2.getGroupCount()).isEqualTo(3);
+        Assertions.assertThat(equalsIndex2.getGroup(2)).isSameAs(equalsIndex1.getGroup(3));
+
+        IntList ordinals1 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        equalsIndex2.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals1);
+        Assertions.assertThat(ordinals1.toArray()).containsExactly(0, 3, 4);
+
+        IntList ordinals2 = new IntList();
+        conditionSetBuilder.addCondition("cond1", "val11");
+        conditionSetBuilder.addCondition("cond2", "val21");
+        previousEqualsIndex.addMatchingOrdinals(conditionNameTable.getConditionValues(conditionSetBuilder.build()), ordinals2);
+        Assertions.assertThat(ordinals2.toArray()).containsExactly(0, 1, 3);
+    }
+
+}
@@ -0,0 +1,99 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.EqualsPredicate;
+import ru.d_shap.conditionalvalues.predicate.StringEqualsIgnoreCasePredicate;
+import ru.d_shap.conditionalvalues.predicate.WrongConditionSetValueException;
+
+/**
+ * Tests for {@link FoldedValueMembershipMatcher}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class FoldedValueMembershipMatcherTest {
+
+    /**
+     * Test class constructor.
+     */
+    public FoldedValueMembershipMatcherTest() {
+        super();
+    }
+
+    /**
+     * {@link FoldedValueMembershipMatcher} class test.
+     */
+    @Test
+    public void isMatchTest() {
+        FoldedValueMembershipMatcher foldedValueMembershipMatcher = createFoldedValueMembershipMatcher();
+        Assertions.assertThat(foldedValueMembershipMatcher.isMatch("ab")).isTrue();
+        Assertions.assertThat(foldedValueMembershipMatcher.isMatch("AB")).isTrue();
+        Assertions.assertThat(foldedValueMembershipMatcher.isMatch("aB")).isTrue();
+        Assertions.assertThat(foldedValueMembershipMatcher.isMatch("cd")).isTrue();
+        Assertions.assertThat(foldedValueMembershipMatcher.isMatch("abc")).isFalse();
+        Assertions.assertThat(foldedValueMembershipMatcher.isMatch("")).isFalse();
+    }
+
+    /**
+     * {@link FoldedValueMembershipMatcher} class test.
+     */
+    @Test(expected = WrongConditionSetValueException.class)
+    public void isMatchWrongValueFailTest() {
+        FoldedValueMembershipMatcher foldedValueMembershipMatcher = createFoldedValueMembershipMatcher();
+        foldedValueMembershipMatcher.isMatch(1);
+    }
+
+    /**
+     * {@link FoldedValueMembershipMatcher} class test.
+     */
+    @Test
+    public void isMatchNonStringValueTest() {
+        FoldedValueMembershipMatcher foldedValueMembershipMatcher1 = createFoldedValueMembershipMatcher();
+        Assertions.assertThat(foldedValueMembershipMatcher1.isMatch(null)).isFalse();
+
+        TuplePredicateMatcher tuplePredicateMatcher = new TuplePredicateMatcher("cond", new AnyValueMatchesTuplePredicate(), new EqualsPredicate(), DataHelper.<Object>createHashSet(1, 2));
+        FoldedValueMembershipMatcher foldedValueMembershipMatcher2 = new FoldedValueMembershipMatcher(DataHelper.<Object>createHashSet("aB"), tuplePredicateMatcher);
+        Assertions.assertThat(foldedValueMembershipMatcher2.isMatch("AB")).isTrue();
+        Assertions.assertThat(foldedValueMembershipMatcher2.isMatch(1)).isTrue();
+        Assertions.assertThat(foldedValueMembershipMatcher2.isMatch(2)).isTrue();
+        Assertions.assertThat(foldedValueMembershipMatcher2.isMatch(3)).isFalse();
+        Assertions.assertThat(foldedValueMembershipMatcher2.isMatch(null)).isFalse();
+    }
+
+    /**
+     * {@link FoldedValueMembershipMatcher} class test.
+     */
+    @Test
+    public void toStringTest() {
+        FoldedValueMembershipMatcher foldedValueMembershipMatcher = new FoldedValueMembershipMatcher(DataHelper.<Object>createHashSet("aB"), null);
+        Assertions.assertThat(foldedValueMembershipMatcher).hasToString("[ab]");
+    }
+
+    private FoldedValueMembershipMatcher createFoldedValueMembershipMatcher() {
+        TuplePredicateMatcher tuplePredicateMatcher = new TuplePredicateMatcher("cond", new AnyValueMatchesTuplePredicate(), new StringEqualsIgnoreCasePredicate(), DataHelper.<Object>createHashSet("aB", "CD"));
+        return new FoldedValueMembershipMatcher(DataHelper.<Object>createHashSet("aB", "CD"), tuplePredicateMatcher);
+    }
+
+}
@@ -0,0 +1,115 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link FrequencySketch}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class FrequencySketchTest {
+
+    /**
+     * Test class constructor.
+     */
+    public FrequencySketchTest() {
+        super();
+    }
+
+    /**
+     * {@link FrequencySketch} class test.
+     */
+    @Test
+    public void createFrequencySketchTest() {
+        Assertions.assertThat(new FrequencySketch(0).getWidth()).isEqualTo(16);
+        Assertions.assertThat(new FrequencySketch(16).getWidth()).isEqualTo(16);
+        Assertions.assertThat(new FrequencySketch(17).getWidth()).isEqualTo(32);
+        Assertions.assertThat(new FrequencySketch(1000).getWidth()).isEqualTo(1024);
+        Assertions.assertThat(new FrequencySketch(1000).getSampleSize()).isEqualTo(10240);
+        Assertions.assertThat(new FrequencySketch(Integer.MAX_VALUE).getWidth()).isEqualTo(1 << 24);
+    }
+
+    /**
+     * {@link FrequencySketch} class test.
+     */
+    @Test
+    public void incrementTest() {
+        FrequencySketch frequencySketch = new FrequencySketch(100);
+        Assertions.assertThat(frequencySketch.getFrequency(1)).isEqualTo(0);
+
+        frequencySketch.increment(1);
+        Assertions.assertThat(frequencySketch.getFrequency(1)).isEqualTo(1);
+
+        frequencySketch.increment(1);
+        frequencySketch.increment(1);
+        frequencySketch.increment(2);
+        Assertions.assertThat(frequencySketch.getFrequency(1)).isEqualTo(3);
+        Assertions.assertThat(frequencySketch.getFrequency(2)).isEqualTo(1);
+
+        for (int i = 0; i < 100; i++) {
+            frequencySketch.increment(3);
+        }
+        Assertions.assertThat(frequencySketch.getFrequency(3)).isEqualTo(15);
+    }
+
+    /**
+     * {@link FrequencySketch} class test.
+     */
+    @Test
+    public void incrementResetTest() {
+        FrequencySketch frequencySketch = new FrequencySketch(16);
+        for (int i = 0; i < 10; i++) {
+            frequencySketch.increment(1);
+        }
+        Assertions.assertThat(frequencySketch.getFrequency(1)).isEqualTo(10);
+
+        for (int i = 0; i < frequencySketch.getSampleSize() - 10; i++) {
+            frequencySketch.increment(1000 + i);
+        }
+        Assertions.assertThat(frequencySketch.getFrequency(1)).isLessThanOrEqualTo(7);
+    }
+
+    /**
+     * {@link FrequencySketch} class test.
+     */
+    @Test
+    public void getFrequencyTest() {
+        FrequencySketch frequencySketch = new FrequencySketch(1000);
+        for (int i = 0; i < 500; i++) {
+            for (int j = 0; j <= i % 5; j++) {
+                frequencySketch.increment(i);
+            }
+        }
+        int exactCount = 0;
+        for (int i = 0; i < 500; i++) {
+            int frequency = frequencySketch.getFrequency(i);
+            Assertions.assertThat(frequency).isGreaterThanOrEqualTo(i % 5 + 1);
+            if (frequency == i % 5 + 1) {
+                exactCount++;
+            }
+        }
+        Assertions.assertThat(exactCount).isGreaterThan(450);
+    }
+
+}
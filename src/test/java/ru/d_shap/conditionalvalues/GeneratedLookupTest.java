@@ -0,0 +1,138 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.Raw;
+import ru.d_shap.conditionalvalues.data.ConcatStringAction;
+
+/**
+ * Tests for {@link GeneratedLookup}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class GeneratedLookupTest {
+
+    /**
+     * Test class constructor.
+     */
+    public GeneratedLookupTest() {
+        super();
+    }
+
+    /**
+     * {@link GeneratedLookup} class test.
+     */
+    @Test
+    public void newObjectTest() {
+        ConditionalValues<String> conditionalValues = createConditionalValues();
+        String[] conditionNames = {"cond1", "cond2"};
+        GeneratedLookup<String> generatedLookup = createGeneratedLookup(conditionalValues, conditionNames, 3);
+        conditionNames[0] = "cond3";
+        Assertions.assertThat(generatedLookup, "_conditionalValues").isSameAs(conditionalValues);
+        Assertions.assertThat(generatedLookup, "_conditionNames", Raw.<String>objectArrayAssertion()).containsExactlyInOrder("cond1", "cond2");
+        Assertions.assertThat(generatedLookup, "_valueSetCount").isEqualTo(3);
+    }
+
+    /**
+     * {@link GeneratedLookup} class test.
+     */
+    @Test
+    public void wrongValueSetCountFailTest() {
+        try {
+            createGeneratedLookup(createConditionalValues(), new String[]{"cond1", "cond2"}, 4);
+            Assertions.fail("GeneratedLookup test fail");
+        } catch (GeneratedLookupException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong number of the value sets, expected 4, but was 3");
+        }
+    }
+
+    /**
+     * {@link GeneratedLookup} class test.
+     */
+    @Test
+    public void lookupTest() {
+        GeneratedLookup<String> generatedLookup = createGeneratedLookup(createConditionalValues(), new String[]{"cond1", "cond2"}, 3);
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        Assertions.assertThat(generatedLookup.lookup(null).isEmpty()).isTrue();
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond3", "val3").build()).isEmpty()).isTrue();
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond1", "val1").build()).getValues()).containsExactlyInOrder("value1");
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond2", "val2").build()).getValues()).containsExactlyInOrder("value2", "value3");
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", "val2").build()).getValues()).containsExactlyInOrder("value1", "value3");
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", "val2").build()).getAllValues()).containsExactlyInOrder("value1", "value2", "value3");
+    }
+
+    /**
+     * {@link GeneratedLookup} class test.
+     */
+    @Test
+    public void lookupWithActionTest() {
+        GeneratedLookup<String> generatedLookup = createGeneratedLookup(createConditionalValues(), new String[]{"cond1", "cond2"}, 3);
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+
+        ConcatStringAction action1 = new ConcatStringAction("proc_", 0);
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", "val2").build(), action1).getValues()).containsExactlyInOrder("value1", "value3");
+        Assertions.assertThat(action1.getValues()).containsExactlyInOrder("proc_value1", "proc_value3");
+
+        ConcatStringAction action2 = new ConcatStringAction("proc_", 0);
+        ConcatStringAction action3 = new ConcatStringAction(action2, null, 1);
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond2", "val2").build(), action2, action3).getValues()).containsExactlyInOrder("value2", "value3");
+        Assertions.assertThat(action2.getValues()).containsExactly("proc_value2", "proc_value3", "value2_1", "value3_1");
+    }
+
+    private ConditionalValues<String> createConditionalValues() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.addCondition("cond1", "val1").addValue("value1").build());
+        valueSets.add(valueSetBuilder.addCondition("cond2", "val2").addValue("value2").build());
+        valueSets.add(valueSetBuilder.addCondition("cond2", "val2").addValue("value3").build());
+        return new ConditionalValues<>(null, null, null, null, valueSets);
+    }
+
+    private GeneratedLookup<String> createGeneratedLookup(final ConditionalValues<String> conditionalValues, final String[] conditionNames, final int valueSetCount) {
+        return new GeneratedLookup<String>(conditionalValues, conditionNames, valueSetCount) {
+
+            @Override
+            protected int getMatchingOrdinals(final Object[] conditionValues, final int[] ordinals) {
+                int count = 0;
+                if ("val1".equals(conditionValues[0])) {
+                    ordinals[count] = 0;
+                    count++;
+                }
+                if ("val2".equals(conditionValues[1])) {
+                    if (count == 0) {
+                        ordinals[count] = 1;
+                        count++;
+                    }
+                    ordinals[count] = 2;
+                    count++;
+                }
+                return count;
+            }
+
+        };
+    }
+
+}
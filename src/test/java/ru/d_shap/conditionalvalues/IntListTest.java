@@ -0,0 +1,155 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link IntList}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class IntListTest {
+
+    /**
+     * Test class constructor.
+     */
+    public IntListTest() {
+        super();
+    }
+
+    /**
+     * {@link IntList} class test.
+     */
+    @Test
+    public void addTest() {
+        IntList intList1 = new IntList();
+        Assertions.assertThat(intList1.size()).isEqualTo(0);
+        Assertions.assertThat(intList1.isEmpty()).isTrue();
+
+        IntList intList2 = new IntList(0);
+        for (int i = 0; i < 100; i++) {
+            intList2.add(i * 2);
+        }
+        Assertions.assertThat(intList2.size()).isEqualTo(100);
+        Assertions.assertThat(intList2.isEmpty()).isFalse();
+        Assertions.assertThat(intList2.get(0)).isEqualTo(0);
+        Assertions.assertThat(intList2.get(50)).isEqualTo(100);
+        Assertions.assertThat(intList2.get(99)).isEqualTo(198);
+
+        IntList intList3 = new IntList(1);
+        intList3.addAll(null);
+        Assertions.assertThat(intList3.size()).isEqualTo(0);
+        intList3.addAll(new int[]{5, 3, 7});
+        Assertions.assertThat(intList3.toArray()).containsExactlyInOrder(5, 3, 7);
+    }
+
+    /**
+     * {@link IntList} class test.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBoundsFailTest() {
+        IntList intList = new IntList();
+        intList.add(1);
+        intList.get(1);
+    }
+
+    /**
+     * {@link IntList} class test.
+     */
+    @Test
+    public void sortTest() {
+        IntList intList = new IntList();
+        intList.add(5);
+        intList.add(1);
+        intList.add(3);
+        intList.sort();
+        Assertions.assertThat(intList.toArray()).containsExactlyInOrder(1, 3, 5);
+    }
+
+    /**
+     * {@link IntList} class test.
+     */
+    @Test
+    public void setTest() {
+        IntList intList = new IntList();
+        intList.add(5);
+        intList.add(1);
+        intList.set(0, 7);
+        Assertions.assertThat(intList.toArray()).containsExactlyInOrder(7, 1);
+    }
+
+    /**
+     * {@link IntList} class test.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void setOutOfBoundsFailTest() {
+        IntList intList = new IntList();
+        intList.add(1);
+        intList.set(1, 2);
+    }
+
+    /**
+     * {@link IntList} class test.
+     */
+    @Test
+    public void truncateTest() {
+        IntList intList = new IntList();
+        intList.add(5);
+        intList.add(1);
+        intList.add(3);
+        intList.truncate(5);
+        Assertions.assertThat(intList.toArray()).containsExactlyInOrder(5, 1, 3);
+        intList.truncate(2);
+        Assertions.assertThat(intList.toArray()).containsExactlyInOrder(5, 1);
+        intList.truncate(-1);
+        Assertions.assertThat(intList.toArray()).containsExactlyInOrder();
+    }
+
+    /**
+     * {@link IntList} class test.
+     */
+    @Test
+    public void clearTest() {
+        IntList intList = new IntList();
+        intList.add(5);
+        intList.add(1);
+        intList.clear();
+        Assertions.assertThat(intList.size()).isEqualTo(0);
+        Assertions.assertThat(intList.toArray()).containsExactlyInOrder();
+        intList.add(2);
+        Assertions.assertThat(intList.toArray()).containsExactlyInOrder(2);
+    }
+
+    /**
+     * {@link IntList} class test.
+     */
+    @Test
+    public void toStringTest() {
+        IntList intList = new IntList();
+        Assertions.assertThat(intList).hasToString("[]");
+        intList.add(5);
+        intList.add(1);
+        Assertions.assertThat(intList).hasToString("[5, 1]");
+    }
+
+}
@@ -0,0 +1,132 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link LookupBuffer}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class LookupBufferTest {
+
+    /**
+     * Test class constructor.
+     */
+    public LookupBufferTest() {
+        super();
+    }
+
+    /**
+     * {@link LookupBuffer} class test.
+     */
+    @Test
+    public void createLookupBufferTest() {
+        LookupBuffer lookupBuffer = new LookupBuffer(5, 3, new int[]{2, 0, 2}, 4, 6, 7);
+        Assertions.assertThat(lookupBuffer.getOrdinals().isEmpty()).isTrue();
+        Assertions.assertThat(lookupBuffer.getConditionSetValues()).hasLength(3);
+        Assertions.assertThat(lookupBuffer.getIndexedMatchingOrdinals()).containsExactlyInOrder(null, null, null);
+        Assertions.assertThat(lookupBuffer.getPostings()).hasLength(4);
+        Assertions.assertThat(lookupBuffer.getShapeWords()).hasLength(1);
+        Assertions.assertThat(lookupBuffer.getShapeStates()).hasLength(6);
+        Assertions.assertThat(lookupBuffer.getMatchedShapeIds().isEmpty()).isTrue();
+        Assertions.assertThat(lookupBuffer.getValues()).hasLength(7);
+        Assertions.assertThat(lookupBuffer.getValueCount()).isEqualTo(0);
+        Assertions.assertThat(lookupBuffer.isInUse()).isFalse();
+    }
+
+    /**
+     * {@link LookupBuffer} class test.
+     */
+    @Test
+    public void getIndexedMatchingOrdinalBufferTest() {
+        LookupBuffer lookupBuffer = new LookupBuffer(5, 3, new int[]{2, 0, 2}, 4, 6, 7);
+
+        BitSet indexedMatchingOrdinals1 = lookupBuffer.getIndexedMatchingOrdinalBuffer(0);
+        Assertions.assertThat(indexedMatchingOrdinals1).isNotNull();
+        indexedMatchingOrdinals1.set(3);
+
+        BitSet indexedMatchingOrdinals2 = lookupBuffer.getIndexedMatchingOrdinalBuffer(0);
+        Assertions.assertThat(indexedMatchingOrdinals2).isSameAs(indexedMatchingOrdinals1);
+        Assertions.assertThat(indexedMatchingOrdinals2.isEmpty()).isTrue();
+
+        BitSet indexedMatchingOrdinals3 = lookupBuffer.getIndexedMatchingOrdinalBuffer(2);
+        Assertions.assertThat(indexedMatchingOrdinals3).isNotSameAs(indexedMatchingOrdinals1);
+    }
+
+    /**
+     * {@link LookupBuffer} class test.
+     */
+    @Test(expected = NullPointerException.class)
+    public void getIndexedMatchingOrdinalBufferNotIndexedFailTest() {
+        LookupBuffer lookupBuffer = new LookupBuffer(5, 3, new int[]{2, 0, 2}, 4, 6, 7);
+        lookupBuffer.getIndexedMatchingOrdinalBuffer(1);
+    }
+
+    /**
+     * {@link LookupBuffer} class test.
+     */
+    @Test
+    public void isSuitableTest() {
+        LookupBuffer lookupBuffer = new LookupBuffer(5, 3, new int[]{2, 0}, 4, 6, 7);
+        Assertions.assertThat(lookupBuffer.isSuitable(3, new int[]{2, 0}, 4, 6, 7)).isTrue();
+        Assertions.assertThat(lookupBuffer.isSuitable(3, new int[]{0}, 3, 5, 6)).isTrue();
+        Assertions.assertThat(lookupBuffer.isSuitable(3, new int[0], 4, 6, 7)).isTrue();
+
+        Assertions.assertThat(lookupBuffer.isSuitable(2, new int[]{0}, 4, 6, 7)).isFalse();
+        Assertions.assertThat(lookupBuffer.isSuitable(4, new int[]{0}, 4, 6, 7)).isFalse();
+        Assertions.assertThat(lookupBuffer.isSuitable(3, new int[]{2, 1}, 4, 6, 7)).isFalse();
+        Assertions.assertThat(lookupBuffer.isSuitable(3, new int[]{2, 0}, 5, 6, 7)).isFalse();
+        Assertions.assertThat(lookupBuffer.isSuitable(3, new int[]{2, 0}, 4, 7, 7)).isFalse();
+        Assertions.assertThat(lookupBuffer.isSuitable(3, new int[]{2, 0}, 4, 6, 8)).isFalse();
+    }
+
+    /**
+     * {@link LookupBuffer} class test.
+     */
+    @Test
+    public void acquireReleaseTest() {
+        LookupBuffer lookupBuffer = new LookupBuffer(5, 3, new int[0], 4, 6, 7);
+
+        lookupBuffer.acquire();
+        Assertions.assertThat(lookupBuffer.isInUse()).isTrue();
+        lookupBuffer.getOrdinals().add(1);
+        lookupBuffer.getValues()[0] = "val1";
+        lookupBuffer.getValues()[1] = "val2";
+        lookupBuffer.setValueCount(2);
+        Assertions.assertThat(lookupBuffer.getValueCount()).isEqualTo(2);
+
+        lookupBuffer.release();
+        Assertions.assertThat(lookupBuffer.isInUse()).isFalse();
+        Assertions.assertThat(lookupBuffer.getOrdinals().size()).isEqualTo(1);
+        Assertions.assertThat(lookupBuffer.getValues()).containsExactlyInOrder(null, null, null, null, null, null, null);
+        Assertions.assertThat(lookupBuffer.getValueCount()).isEqualTo(0);
+
+        lookupBuffer.acquire();
+        Assertions.assertThat(lookupBuffer.isInUse()).isTrue();
+        Assertions.assertThat(lookupBuffer.getOrdinals().isEmpty()).isTrue();
+    }
+
+}
@@ -0,0 +1,124 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link LookupCacheSegment}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class LookupCacheSegmentTest {
+
+    /**
+     * Test class constructor.
+     */
+    public LookupCacheSegmentTest() {
+        super();
+    }
+
+    /**
+     * {@link LookupCacheSegment} class test.
+     */
+    @Test
+    public void getTest() {
+        LookupCacheSegment<String> lookupCacheSegment = new LookupCacheSegment<>(2);
+        ConditionSet conditionSet1 = createConditionSet("val1");
+        Values<String> values1 = createValues();
+
+        Assertions.assertThat(lookupCacheSegment.getMaximumSize()).isEqualTo(2);
+        Assertions.assertThat(lookupCacheSegment.get(conditionSet1)).isNull();
+        Assertions.assertThat(lookupCacheSegment.getMissCount()).isEqualTo(1L);
+        Assertions.assertThat(lookupCacheSegment.getHitCount()).isEqualTo(0L);
+
+        lookupCacheSegment.put(conditionSet1, values1);
+        Assertions.assertThat(lookupCacheSegment.getSize()).isEqualTo(1);
+        Assertions.assertThat(lookupCacheSegment.get(conditionSet1)).isSameAs(values1);
+        Assertions.assertThat(lookupCacheSegment.get(createConditionSet("val1"))).isSameAs(values1);
+        Assertions.assertThat(lookupCacheSegment.get(createConditionSet("val2"))).isNull();
+        Assertions.assertThat(lookupCacheSegment.getMissCount()).isEqualTo(2L);
+        Assertions.assertThat(lookupCacheSegment.getHitCount()).isEqualTo(2L);
+    }
+
+    /**
+     * {@link LookupCacheSegment} class test.
+     */
+    @Test
+    public void putTest() {
+        LookupCacheSegment<String> lookupCacheSegment = new LookupCacheSegment<>(2);
+        ConditionSet conditionSet1 = createConditionSet("val1");
+        ConditionSet conditionSet2 = createConditionSet("val2");
+        ConditionSet conditionSet3 = createConditionSet("val3");
+        Values<String> values1 = createValues();
+        Values<String> values2 = createValues();
+        Values<String> values3 = createValues();
+
+        lookupCacheSegment.put(conditionSet1, values1);
+        lookupCacheSegment.put(conditionSet1, values2);
+        Assertions.assertThat(lookupCacheSegment.get(conditionSet1)).isSameAs(values1);
+        lookupCacheSegment.put(conditionSet2, values2);
+        Assertions.assertThat(lookupCacheSegment.getSize()).isEqualTo(2);
+
+        lookupCacheSegment.get(conditionSet2);
+        lookupCacheSegment.get(conditionSet3);
+        lookupCacheSegment.put(conditionSet3, values3);
+        Assertions.assertThat(lookupCacheSegment.getSize()).isEqualTo(2);
+        Assertions.assertThat(lookupCacheSegment.getRejectionCount()).isEqualTo(1L);
+        Assertions.assertThat(lookupCacheSegment.getEvictionCount()).isEqualTo(0L);
+
+        lookupCacheSegment.get(conditionSet3);
+        lookupCacheSegment.get(conditionSet3);
+        lookupCacheSegment.put(conditionSet3, values3);
+        Assertions.assertThat(lookupCacheSegment.getSize()).isEqualTo(2);
+        Assertions.assertThat(lookupCacheSegment.getRejectionCount()).isEqualTo(1L);
+        Assertions.assertThat(lookupCacheSegment.getEvictionCount()).isEqualTo(1L);
+        Assertions.assertThat(lookupCacheSegment.get(conditionSet3)).isSameAs(values3);
+        Assertions.assertThat(lookupCacheSegment.get(conditionSet2)).isSameAs(values2);
+        Assertions.assertThat(lookupCacheSegment.get(conditionSet1)).isNull();
+    }
+
+    /**
+     * {@link LookupCacheSegment} class test.
+     */
+    @Test
+    public void putZeroSizeTest() {
+        LookupCacheSegment<String> lookupCacheSegment = new LookupCacheSegment<>(0);
+        ConditionSet conditionSet = createConditionSet("val1");
+        lookupCacheSegment.get(conditionSet);
+        lookupCacheSegment.put(conditionSet, createValues());
+        Assertions.assertThat(lookupCacheSegment.getSize()).isEqualTo(0);
+        Assertions.assertThat(lookupCacheSegment.get(conditionSet)).isNull();
+        Assertions.assertThat(lookupCacheSegment.getRejectionCount()).isEqualTo(0L);
+    }
+
+    private ConditionSet createConditionSet(final String value) {
+        return ConditionSetBuilder.newInstance().addCondition("cond", value).build();
+    }
+
+    private Values<String> createValues() {
+        return new Values<>(null, Collections.<ValueSet<String>>emptyList(), null);
+    }
+
+}
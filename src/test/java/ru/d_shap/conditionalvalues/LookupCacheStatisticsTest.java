@@ -0,0 +1,63 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link LookupCacheStatistics}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class LookupCacheStatisticsTest {
+
+    /**
+     * Test class constructor.
+     */
+    public LookupCacheStatisticsTest() {
+        super();
+    }
+
+    /**
+     * {@link LookupCacheStatistics} class test.
+     */
+    @Test
+    public void getTest() {
+        LookupCacheStatistics lookupCacheStatistics = new LookupCacheStatistics(10, 5, 1L, 2L, 3L, 4L);
+        Assertions.assertThat(lookupCacheStatistics.getMaximumSize()).isEqualTo(10);
+        Assertions.assertThat(lookupCacheStatistics.getSize()).isEqualTo(5);
+        Assertions.assertThat(lookupCacheStatistics.getHitCount()).isEqualTo(1L);
+        Assertions.assertThat(lookupCacheStatistics.getMissCount()).isEqualTo(2L);
+        Assertions.assertThat(lookupCacheStatistics.getEvictionCount()).isEqualTo(3L);
+        Assertions.assertThat(lookupCacheStatistics.getRejectionCount()).isEqualTo(4L);
+    }
+
+    /**
+     * {@link LookupCacheStatistics} class test.
+     */
+    @Test
+    public void toStringTest() {
+        LookupCacheStatistics lookupCacheStatistics = new LookupCacheStatistics(10, 5, 1L, 2L, 3L, 4L);
+        Assertions.assertThat(lookupCacheStatistics).hasToString("size=5/10, hits=1, misses=2, evictions=3, rejections=4");
+    }
+
+}
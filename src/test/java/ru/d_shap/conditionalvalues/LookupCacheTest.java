@@ -0,0 +1,196 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link LookupCache}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class LookupCacheTest {
+
+    /**
+     * Test class constructor.
+     */
+    public LookupCacheTest() {
+        super();
+    }
+
+    /**
+     * {@link LookupCache} class test.
+     */
+    @Test
+    public void createLookupCacheTest() {
+        Assertions.assertThat(new LookupCache<String>(-1).getSegmentCount()).isEqualTo(1);
+        Assertions.assertThat(new LookupCache<String>(-1).getStatistics().getMaximumSize()).isEqualTo(0);
+        Assertions.assertThat(new LookupCache<String>(1).getSegmentCount()).isEqualTo(1);
+        Assertions.assertThat(new LookupCache<String>(16).getSegmentCount()).isEqualTo(1);
+        Assertions.assertThat(new LookupCache<String>(17).getSegmentCount()).isEqualTo(2);
+        Assertions.assertThat(new LookupCache<String>(100).getSegmentCount()).isEqualTo(8);
+        Assertions.assertThat(new LookupCache<String>(100).getStatistics().getMaximumSize()).isEqualTo(100);
+        Assertions.assertThat(new LookupCache<String>(100000).getSegmentCount()).isEqualTo(16);
+    }
+
+    /**
+     * {@link LookupCache} class test.
+     */
+    @Test
+    public void getTest() {
+        LookupCache<String> lookupCache = new LookupCache<>(100);
+        List<ConditionSet> conditionSets = new ArrayList<>();
+        List<Values<String>> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            conditionSets.add(createConditionSet(i));
+            values.add(createValues());
+        }
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertThat(lookupCache.get(conditionSets.get(i))).isNull();
+            lookupCache.put(conditionSets.get(i), values.get(i));
+        }
+        int hitCount = 0;
+        for (int i = 0; i < 100; i++) {
+            Values<String> cachedValues = lookupCache.get(createConditionSet(i));
+            if (cachedValues != null) {
+                Assertions.assertThat(cachedValues).isSameAs(values.get(i));
+                hitCount++;
+            }
+        }
+        LookupCacheStatistics statistics = lookupCache.getStatistics();
+        Assertions.assertThat(statistics.getSize()).isEqualTo(hitCount);
+        Assertions.assertThat(statistics.getHitCount()).isEqualTo(hitCount);
+        Assertions.assertThat(statistics.getMissCount()).isEqualTo(200L - hitCount);
+        Assertions.assertThat(statistics.getSize() + statistics.getRejectionCount()).isEqualTo(100L);
+        Assertions.assertThat(hitCount).isGreaterThan(80);
+    }
+
+    /**
+     * {@link LookupCache} class test.
+     */
+    @Test
+    public void getFrequentTest() {
+        LookupCache<String> lookupCache = new LookupCache<>(10);
+        for (int i = 0; i < 10; i++) {
+            lookupCache.get(createConditionSet(i));
+            lookupCache.put(createConditionSet(i), createValues());
+        }
+        for (int i = 0; i < 1000; i++) {
+            lookupCache.get(createConditionSet(i % 10));
+            ConditionSet conditionSet = createConditionSet(1000 + i);
+            lookupCache.get(conditionSet);
+            lookupCache.put(conditionSet, createValues());
+        }
+        int hitCount = 0;
+        for (int i = 0; i < 10; i++) {
+            if (lookupCache.get(createConditionSet(i)) != null) {
+                hitCount++;
+            }
+        }
+        Assertions.assertThat(hitCount).isGreaterThan(7);
+        Assertions.assertThat(lookupCache.getStatistics().getRejectionCount()).isGreaterThan(900L);
+
+        for (int i = 0; i < 10; i++) {
+            ConditionSet conditionSet = createConditionSet(2000 + i);
+            for (int j = 0; j < 50; j++) {
+                lookupCache.get(conditionSet);
+            }
+            lookupCache.put(conditionSet, createValues());
+            Assertions.assertThat(lookupCache.get(conditionSet)).isNotNull();
+        }
+    }
+
+    /**
+     * {@link LookupCache} class test.
+     *
+     * @throws InterruptedException exception in test.
+     */
+    @Test
+    public void getConcurrentTest() throws InterruptedException {
+        final LookupCache<String> lookupCache = new LookupCache<>(64);
+        final AtomicInteger failureCount = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final int seed = i;
+            threads.add(new Thread() {
+
+                @Override
+                public void run() {
+                    for (int j = 0; j < 10000; j++) {
+                        int key = (j * 31 + seed) % 128;
+                        ConditionSet conditionSet = createConditionSet(key);
+                        Values<String> values = lookupCache.get(conditionSet);
+                        if (values == null) {
+                            lookupCache.put(conditionSet, createValues(key));
+                        } else if (!values.getIds().contains("id" + key)) {
+                            failureCount.incrementAndGet();
+                        }
+                    }
+                }
+
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        LookupCacheStatistics statistics = lookupCache.getStatistics();
+        Assertions.assertThat(failureCount.get()).isEqualTo(0);
+        Assertions.assertThat(statistics.getHitCount() + statistics.getMissCount()).isEqualTo(80000L);
+        Assertions.assertThat(statistics.getSize()).isLessThanOrEqualTo(64);
+    }
+
+    /**
+     * {@link LookupCache} class test.
+     */
+    @Test
+    public void toStringTest() {
+        LookupCache<String> lookupCache = new LookupCache<>(10);
+        lookupCache.get(createConditionSet(1));
+        lookupCache.put(createConditionSet(1), createValues());
+        lookupCache.get(createConditionSet(1));
+        Assertions.assertThat(lookupCache).hasToString("size=1/10, hits=1, misses=1, evictions=0, rejections=0");
+    }
+
+    private static ConditionSet createConditionSet(final int value) {
+        return ConditionSetBuilder.newInstance().addCondition("cond", value).build();
+    }
+
+    private static Values<String> createValues() {
+        return new Values<>(null, Collections.<ValueSet<String>>emptyList(), null);
+    }
+
+    private static Values<String> createValues(final int key) {
+        ValueSet<String> valueSet = ValueSetBuilder.<String>newInstance().setId("id" + key).addValue("val").build();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSet);
+        return new Values<>(null, valueSets, null);
+    }
+
+}
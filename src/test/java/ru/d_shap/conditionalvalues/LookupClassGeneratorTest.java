@@ -0,0 +1,303 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.conditionalvalues.data.StringLengthComparator;
+
+/**
+ * Tests for {@link LookupClassGenerator}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class LookupClassGeneratorTest {
+
+    /**
+     * Test class constructor.
+     */
+    public LookupClassGeneratorTest() {
+        super();
+    }
+
+    /**
+     * {@link LookupClassGenerator} class test.
+     */
+    @Test
+    public void generateTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.addCondition("cond1", "val1").addValue("value1").build());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+
+        String source = new LookupClassGenerator<String>().generate(conditionalValues, String.class, "com.example.RulesLookup");
+        Assertions.assertThat(source).startsWith("package com.example;\n");
+        Assertions.assertThat(source).contains("public final class RulesLookup extends GeneratedLookup<java.lang.String> {\n");
+        Assertions.assertThat(source).contains("public RulesLookup(final ConditionalValues<java.lang.String> conditionalValues) {\n");
+        Assertions.assertThat(source).contains("private static final String[] CONDITION_NAMES = {\"cond1\"};\n");
+
+        String defaultPackageSource = new LookupClassGenerator<String>().generate(conditionalValues, String.class, "RulesLookup");
+        Assertions.assertThat(defaultPackageSource).startsWith("import ru.d_shap.conditionalvalues.ConditionalValues;\n");
+    }
+
+    /**
+     * {@link LookupClassGenerator} class test.
+     *
+     * @throws ReflectiveOperationException reflective operation exception.
+     * @throws IOException                  IO exception.
+     */
+    @Test
+    public void generatedLookupTest() throws ReflectiveOperationException, IOException {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.setId("id1").addCondition("cond1", "val1").addCondition("cond1", "Aa").addValue("value1").build());
+        valueSets.add(valueSetBuilder.setId("id2").addCondition("cond1", "BB").addCondition("cond2", 1).addValue("value2").addValue("value21").build());
+        valueSets.add(valueSetBuilder.setId("id3").addCondition("cond1", "\u00e9\n\"\\").addCondition("cond2", -5).addCondition("cond3", 0L).addValue("value3").build());
+        valueSets.add(valueSetBuilder.setId("id4").addCondition("cond3", 0x100000001L).addCondition("cond3", Long.MIN_VALUE).addValue("value4").build());
+        valueSets.add(valueSetBuilder.setId("id5").addCondition("cond4", 'a').addCondition("cond4", true).addCondition("cond4", 1.5f).addValue("value5").build());
+        valueSets.add(valueSetBuilder.setId("id6").addCondition("cond4", 2.5).addCondition("cond4", -0.0).addCondition("cond2", 2).addValue("value6").build());
+        valueSets.add(valueSetBuilder.setId("id7").addCondition("cond1", "val1").addCondition("cond2", 1).addValue("value7").build());
+        valueSets.add(valueSetBuilder.setId("id8").addValue("value8").build());
+        valueSets.add(valueSetBuilder.setId("id9").addCondition("cond1", "val2").addValue("value9").build());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+        GeneratedLookup<String> generatedLookup = createGeneratedLookup(conditionalValues, "ru.d_shap.conditionalvalues.generated.RulesLookup");
+
+        List<Object> values1 = Arrays.<Object>asList(null, "val1", "val2", "Aa", "BB", "\u00e9\n\"\\", "x", 1);
+        List<Object> values2 = Arrays.<Object>asList(null, 1, 2, -5, 3, 1L);
+        List<Object> values3 = Arrays.<Object>asList(null, 0L, 0x100000001L, Long.MIN_VALUE, 1L, 0);
+        List<Object> values4 = Arrays.<Object>asList(null, 'a', 'b', true, false, 1.5f, 1.5, 2.5, -0.0, 0.0);
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        Assertions.assertThat(generatedLookup.lookup(null).isEmpty()).isTrue();
+        for (Object value1 : values1) {
+            for (Object value2 : values2) {
+                assertLookup(conditionalValues, generatedLookup, value1, value2, values3, values4);
+            }
+        }
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond1", "Aa").build()).getValues()).containsExactlyInOrder("value1");
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", 1).build()).getValues()).containsExactlyInOrder("value7");
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond3", 0x100000001L).build()).getValues()).containsExactlyInOrder("value4");
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond3", 1L).build()).getValues()).containsExactlyInOrder("value8");
+    }
+
+    /**
+     * {@link LookupClassGenerator} class test.
+     *
+     * @throws ReflectiveOperationException reflective operation exception.
+     * @throws IOException                  IO exception.
+     */
+    @Test
+    public void generatedLookupLargeTableTest() throws ReflectiveOperationException, IOException {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            valueSetBuilder.addCondition("cond1", "val" + i % 300);
+            if (i % 3 == 0) {
+                valueSetBuilder.addCondition("cond2", i % 7);
+            }
+            valueSets.add(valueSetBuilder.addValue("value" + i).build());
+        }
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, new StringLengthComparator(), valueSets);
+        GeneratedLookup<String> generatedLookup = createGeneratedLookup(conditionalValues, "LargeRulesLookup");
+
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        for (int i = 0; i <= 300; i++) {
+            for (int j = -1; j < 7; j++) {
+                conditionSetBuilder.addCondition("cond1", "val" + i);
+                if (j >= 0) {
+                    conditionSetBuilder.addCondition("cond2", j);
+                }
+                ConditionSet conditionSet = conditionSetBuilder.build();
+                Assertions.assertThat(generatedLookup.lookup(conditionSet).getValues()).containsExactlyInOrder(conditionalValues.lookup(conditionSet).getValues());
+            }
+        }
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond1", "val3").addCondition("cond2", 3).build()).getValues()).containsExactlyInOrder("value3");
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond1", "val3").addCondition("cond2", 2).build()).getValues()).containsExactlyInOrder("value303");
+        Assertions.assertThat(generatedLookup.lookup(conditionSetBuilder.addCondition("cond1", "val3").addCondition("cond2", 4).build()).isEmpty()).isTrue();
+    }
+
+    /**
+     * {@link LookupClassGenerator} class test.
+     */
+    @Test
+    public void generateNotEqualsPredicateFailTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.addCondition("cond1", "val1").addValue("value1").build());
+        valueSets.add(valueSetBuilder.setStringContainsPredicate().addCondition("cond1", "val2").addValue("value2").build());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+        try {
+            new LookupClassGenerator<String>().generate(conditionalValues, String.class, "RulesLookup");
+            Assertions.fail("LookupClassGenerator test fail");
+        } catch (GeneratedLookupException ex) {
+            Assertions.assertThat(ex).hasMessage("Value set is not supported: {cond1=[val2]}");
+        }
+    }
+
+    /**
+     * {@link LookupClassGenerator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeTest() throws IOException {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.addCondition("cond1", "val1").addValue("value1").build());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+        LookupClassGenerator<String> lookupClassGenerator = new LookupClassGenerator<>();
+
+        Path directory = Files.createTempDirectory("conditional-values");
+        try {
+            Path path = lookupClassGenerator.write(conditionalValues, String.class, "com.example.RulesLookup", directory);
+            Assertions.assertThat(path.toString()).isEqualTo(directory.resolve("com").resolve("example").resolve("RulesLookup.java").toString());
+            Assertions.assertThat(new String(Files.readAllBytes(path), StandardCharsets.UTF_8)).isEqualTo(lookupClassGenerator.generate(conditionalValues, String.class, "com.example.RulesLookup"));
+
+            Path defaultPackagePath = lookupClassGenerator.write(conditionalValues, String.class, "RulesLookup", directory);
+            Assertions.assertThat(defaultPackagePath.toString()).isEqualTo(directory.resolve("RulesLookup.java").toString());
+        } finally {
+            delete(directory);
+        }
+    }
+
+    /**
+     * {@link LookupClassGenerator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeCurrentDirectoryTest() throws IOException {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.addCondition("cond1", "val1").addValue("value1").build());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+        LookupClassGenerator<String> lookupClassGenerator = new LookupClassGenerator<>();
+
+        Path path = lookupClassGenerator.write(conditionalValues, String.class, "CurrentDirectoryRulesLookup", Paths.get(""));
+        try {
+            Assertions.assertThat(path.toString()).isEqualTo("CurrentDirectoryRulesLookup.java");
+            Assertions.assertThat(new String(Files.readAllBytes(path), StandardCharsets.UTF_8)).isEqualTo(lookupClassGenerator.generate(conditionalValues, String.class, "CurrentDirectoryRulesLookup"));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link LookupClassGenerator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeFailTest() throws IOException {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.addCondition("cond1", "val1").addValue("value1").build());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+
+        Path file = Files.createTempFile("conditional-values", ".java");
+        try {
+            new LookupClassGenerator<String>().write(conditionalValues, String.class, "com.example.RulesLookup", file);
+            Assertions.fail("LookupClassGenerator test fail");
+        } catch (GeneratedLookupException ex) {
+            Assertions.assertThat(ex.getCause()).isInstanceOf(IOException.class);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private void assertLookup(final ConditionalValues<String> conditionalValues, final GeneratedLookup<String> generatedLookup, final Object value1, final Object value2, final List<Object> values3, final List<Object> values4) {
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        for (Object value3 : values3) {
+            for (Object value4 : values4) {
+                addCondition(conditionSetBuilder, "cond1", value1);
+                addCondition(conditionSetBuilder, "cond2", value2);
+                addCondition(conditionSetBuilder, "cond3", value3);
+                addCondition(conditionSetBuilder, "cond4", value4);
+                ConditionSet conditionSet = conditionSetBuilder.build();
+                Values<String> values = conditionalValues.lookup(conditionSet);
+                Values<String> generatedValues = generatedLookup.lookup(conditionSet);
+                Assertions.assertThat(generatedValues.getIds()).containsExactly(values.getIds());
+                Assertions.assertThat(generatedValues.getValues()).containsExactlyInOrder(values.getValues());
+            }
+        }
+    }
+
+    private void addCondition(final ConditionSetBuilder conditionSetBuilder, final String conditionName, final Object value) {
+        if (value != null) {
+            conditionSetBuilder.addCondition(conditionName, value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private GeneratedLookup<String> createGeneratedLookup(final ConditionalValues<String> conditionalValues, final String className) throws ReflectiveOperationException, IOException {
+        Path directory = Files.createTempDirectory("conditional-values");
+        try {
+            Path path = new LookupClassGenerator<String>().write(conditionalValues, String.class, className, directory);
+            JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+            int result = javaCompiler.run(null, null, null, "-d", directory.toString(), "-classpath", System.getProperty("java.class.path"), path.toString());
+            Assertions.assertThat(result).isEqualTo(0);
+            try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader())) {
+                Class<?> lookupClass = classLoader.loadClass(className);
+                return (GeneratedLookup<String>) lookupClass.getConstructor(ConditionalValues.class).newInstance(conditionalValues);
+            } catch (InvocationTargetException ex) {
+                throw new IllegalStateException(ex.getCause());
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private void delete(final Path directory) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(final Path dir, final IOException exception) throws IOException {
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+
+        });
+    }
+
+}
@@ -0,0 +1,123 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link LookupClassSourceWriter}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class LookupClassSourceWriterTest {
+
+    /**
+     * Test class constructor.
+     */
+    public LookupClassSourceWriterTest() {
+        super();
+    }
+
+    /**
+     * {@link LookupClassSourceWriter} class test.
+     */
+    @Test
+    public void writeTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.addCondition("cond1", "Aa").addCondition("cond1", "BB").addValue("value1").build());
+        valueSets.add(valueSetBuilder.addCondition("cond1", "Aa").addCondition("cond2", 5).addValue("value2").build());
+        valueSets.add(valueSetBuilder.addValue("value3").build());
+        String source = new LookupClassSourceWriter("com.example.RulesLookup", "java.lang.String", valueSets).write();
+
+        Assertions.assertThat(source).contains("private static final String[] CONDITION_NAMES = {\"cond1\", \"cond2\"};\n");
+        Assertions.assertThat(source).contains("private static final int VALUE_SET_COUNT = 3;\n");
+        Assertions.assertThat(source).contains("private static final int SHAPE_COUNT = 3;\n");
+        Assertions.assertThat(source).contains("            case 2112:\n                if (\"Aa\".equals(value)) {\n                    return 0;\n                }\n                if (\"BB\".equals(value)) {\n                    return 1;\n                }\n                break;\n");
+        Assertions.assertThat(source).contains("            case 5:\n                return 0;\n");
+        Assertions.assertThat(source).contains("        if ((valueIds[0] == 0 || valueIds[0] == 1)) {\n            matches[0] = true;\n            shapeMatches[0] = true;\n        }\n");
+        Assertions.assertThat(source).contains("        if (valueIds[0] == 0 && valueIds[1] == 0) {\n            matches[1] = true;\n            shapeMatches[1] = true;\n        }\n");
+        Assertions.assertThat(source).contains("        matches[2] = true;\n        shapeMatches[2] = true;\n");
+        Assertions.assertThat(source).contains("        dominatedShapes[0] = shapeMatches[1];\n");
+        Assertions.assertThat(source).contains("        dominatedShapes[2] = shapeMatches[0] || shapeMatches[1];\n");
+        Assertions.assertThat(source).contains("        if (matches[1]) {\n");
+        Assertions.assertThat(source).contains("        if (matches[2] && !dominatedShapes[2]) {\n");
+        Assertions.assertThat(source).doesNotContain("match1(");
+        Assertions.assertThat(source).doesNotContain("getValueId0_1(");
+    }
+
+    /**
+     * {@link LookupClassSourceWriter} class test.
+     */
+    @Test
+    public void writeChunksTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        for (int i = 0; i < LookupClassSourceWriter.MAX_CASE_COUNT + 1; i++) {
+            valueSets.add(valueSetBuilder.addCondition("cond1", i).addValue("value" + i).build());
+        }
+        valueSets.add(valueSetBuilder.addCondition("cond1", "val").addCondition("cond1", 1L).addValue("value").build());
+        String source = new LookupClassSourceWriter("RulesLookup", "java.lang.String", valueSets).write();
+
+        Assertions.assertThat(source).startsWith("import ru.d_shap.conditionalvalues.ConditionalValues;\n");
+        Assertions.assertThat(source).contains("        if (value instanceof java.lang.String) {\n            return getValueId0_0(value, value.hashCode());\n        }\n");
+        Assertions.assertThat(source).contains("        if (value instanceof java.lang.Integer) {\n            return getValueId0_1(value, value.hashCode());\n        }\n");
+        Assertions.assertThat(source).contains("        if (value instanceof java.lang.Long) {\n            return getValueId0_3(value, value.hashCode());\n        }\n");
+        Assertions.assertThat(source).contains("        return getValueId0_2(value, hashCode);\n");
+        Assertions.assertThat(source).contains("                if (((Long) value).longValue() == 1L) {\n");
+        Assertions.assertThat(source).contains("        match0(valueIds, matches, shapeMatches);\n        match1(valueIds, matches, shapeMatches);\n        match2(valueIds, matches, shapeMatches);\n");
+        Assertions.assertThat(source).doesNotContain("match3(");
+        Assertions.assertThat(source).contains("        count = addOrdinals2(matches, dominatedShapes, ordinals, count);\n");
+    }
+
+    /**
+     * {@link LookupClassSourceWriter} class test.
+     */
+    @Test
+    public void notSupportedValueFailTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.addCondition("cond1", (Object) Short.valueOf((short) 5)).addValue("value1").build());
+        try {
+            new LookupClassSourceWriter("RulesLookup", "java.lang.String", valueSets);
+            Assertions.fail("LookupClassSourceWriter test fail");
+        } catch (GeneratedLookupException ex) {
+            Assertions.assertThat(ex).hasMessage("Condition value is not supported: cond1=5");
+        }
+    }
+
+    /**
+     * {@link LookupClassSourceWriter} class test.
+     */
+    @Test
+    public void toStringLiteralTest() {
+        Assertions.assertThat(LookupClassSourceWriter.toStringLiteral("")).isEqualTo("\"\"");
+        Assertions.assertThat(LookupClassSourceWriter.toStringLiteral("abc")).isEqualTo("\"abc\"");
+        Assertions.assertThat(LookupClassSourceWriter.toStringLiteral("a\"b\\c")).isEqualTo("\"a\\\"b\\\\c\"");
+        Assertions.assertThat(LookupClassSourceWriter.toStringLiteral("a\nb\rc\td")).isEqualTo("\"a\\nb\\rc\\u0009d\"");
+        Assertions.assertThat(LookupClassSourceWriter.toStringLiteral("\u00e9\u0436")).isEqualTo("\"\\u00e9\\u0436\"");
+    }
+
+}
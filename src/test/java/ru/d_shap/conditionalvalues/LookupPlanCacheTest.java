@@ -0,0 +1,95 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link LookupPlanCache}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class LookupPlanCacheTest {
+
+    /**
+     * Test class constructor.
+     */
+    public LookupPlanCacheTest() {
+        super();
+    }
+
+    /**
+     * {@link LookupPlanCache} class test.
+     */
+    @Test
+    public void getPutTest() {
+        LookupPlanCache lookupPlanCache = new LookupPlanCache();
+        Assertions.assertThat(lookupPlanCache.getSize()).isEqualTo(0);
+        Assertions.assertThat(lookupPlanCache.get(new long[]{1L})).isNull();
+
+        LookupPlan lookupPlan1 = new LookupPlan(new long[]{1L}, new int[0], new int[0][]);
+        lookupPlanCache.put(lookupPlan1);
+        Assertions.assertThat(lookupPlanCache.getSize()).isEqualTo(1);
+        Assertions.assertThat(lookupPlanCache.get(new long[]{1L})).isSameAs(lookupPlan1);
+        Assertions.assertThat(lookupPlanCache.get(new long[]{2L})).isNull();
+
+        LookupPlan lookupPlan2 = new LookupPlan(new long[]{1L}, new int[0], new int[0][]);
+        lookupPlanCache.put(lookupPlan2);
+        Assertions.assertThat(lookupPlanCache.getSize()).isEqualTo(1);
+        Assertions.assertThat(lookupPlanCache.get(new long[]{1L})).isSameAs(lookupPlan1);
+
+        LookupPlan lookupPlan3 = new LookupPlan(new long[]{2L}, new int[0], new int[0][]);
+        lookupPlanCache.put(lookupPlan3);
+        Assertions.assertThat(lookupPlanCache.getSize()).isEqualTo(2);
+        Assertions.assertThat(lookupPlanCache.get(new long[]{1L})).isSameAs(lookupPlan1);
+        Assertions.assertThat(lookupPlanCache.get(new long[]{2L})).isSameAs(lookupPlan3);
+
+        LookupPlan lookupPlan4 = new LookupPlan(new long[]{0L}, new int[0], new int[0][]);
+        lookupPlanCache.put(lookupPlan4);
+        Assertions.assertThat(LookupPlan.getShapeHash(new long[]{0x100000001L})).isEqualTo(lookupPlan4.getShapeHash());
+        Assertions.assertThat(lookupPlanCache.get(new long[]{0x100000001L})).isNull();
+        LookupPlan lookupPlan5 = new LookupPlan(new long[]{0x100000001L}, new int[0], new int[0][]);
+        lookupPlanCache.put(lookupPlan5);
+        Assertions.assertThat(lookupPlanCache.getSize()).isEqualTo(4);
+        Assertions.assertThat(lookupPlanCache.get(new long[]{0L})).isSameAs(lookupPlan4);
+        Assertions.assertThat(lookupPlanCache.get(new long[]{0x100000001L})).isSameAs(lookupPlan5);
+    }
+
+    /**
+     * {@link LookupPlanCache} class test.
+     */
+    @Test
+    public void putManyTest() {
+        LookupPlanCache lookupPlanCache = new LookupPlanCache();
+        for (int i = 0; i < LookupPlanCache.MAX_SIZE + 10; i++) {
+            lookupPlanCache.put(new LookupPlan(new long[]{i, i % 3}, new int[]{i}, new int[0][]));
+        }
+        Assertions.assertThat(lookupPlanCache.getSize()).isEqualTo(LookupPlanCache.MAX_SIZE);
+        for (int i = 0; i < LookupPlanCache.MAX_SIZE; i++) {
+            Assertions.assertThat(lookupPlanCache.get(new long[]{i, i % 3}).getScannedOrdinals()).containsExactlyInOrder(i);
+        }
+        for (int i = LookupPlanCache.MAX_SIZE; i < LookupPlanCache.MAX_SIZE + 10; i++) {
+            Assertions.assertThat(lookupPlanCache.get(new long[]{i, i % 3})).isNull();
+        }
+    }
+
+}
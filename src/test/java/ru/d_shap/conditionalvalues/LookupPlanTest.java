@@ -0,0 +1,86 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link LookupPlan}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class LookupPlanTest {
+
+    /**
+     * Test class constructor.
+     */
+    public LookupPlanTest() {
+        super();
+    }
+
+    /**
+     * {@link LookupPlan} class test.
+     */
+    @Test
+    public void createLookupPlanTest() {
+        int[] scannedOrdinals = new int[]{1, 3};
+        int[][] dominatingShapeIds = new int[][]{{1}, {}};
+        LookupPlan lookupPlan = new LookupPlan(new long[]{5L}, scannedOrdinals, dominatingShapeIds);
+        Assertions.assertThat(lookupPlan.getScannedOrdinals()).isSameAs(scannedOrdinals);
+        Assertions.assertThat(lookupPlan.getDominatingShapeIds()).isSameAs(dominatingShapeIds);
+        Assertions.assertThat(lookupPlan.getShapeHash()).isEqualTo(LookupPlan.getShapeHash(new long[]{5L}));
+    }
+
+    /**
+     * {@link LookupPlan} class test.
+     */
+    @Test
+    public void isShapeTest() {
+        long[] shapeWords = new long[]{5L, 1L};
+        LookupPlan lookupPlan = new LookupPlan(shapeWords, new int[0], new int[0][]);
+        Assertions.assertThat(lookupPlan.isShape(new long[]{5L, 1L})).isTrue();
+        Assertions.assertThat(lookupPlan.isShape(new long[]{5L, 0L})).isFalse();
+        Assertions.assertThat(lookupPlan.isShape(new long[]{5L})).isFalse();
+
+        shapeWords[1] = 0L;
+        Assertions.assertThat(lookupPlan.isShape(new long[]{5L, 1L})).isTrue();
+    }
+
+    /**
+     * {@link LookupPlan} class test.
+     */
+    @Test
+    public void isSameShapeTest() {
+        LookupPlan lookupPlan1 = new LookupPlan(new long[]{5L}, new int[0], new int[0][]);
+        LookupPlan lookupPlan2 = new LookupPlan(new long[]{5L}, new int[]{1}, new int[0][]);
+        LookupPlan lookupPlan3 = new LookupPlan(new long[]{6L}, new int[0], new int[0][]);
+        Assertions.assertThat(lookupPlan1.isSameShape(lookupPlan1)).isTrue();
+        Assertions.assertThat(lookupPlan1.isSameShape(lookupPlan2)).isTrue();
+        Assertions.assertThat(lookupPlan1.isSameShape(lookupPlan3)).isFalse();
+
+        LookupPlan lookupPlan4 = new LookupPlan(new long[]{0L}, new int[0], new int[0][]);
+        LookupPlan lookupPlan5 = new LookupPlan(new long[]{0x100000001L}, new int[0], new int[0][]);
+        Assertions.assertThat(lookupPlan4.getShapeHash()).isEqualTo(lookupPlan5.getShapeHash());
+        Assertions.assertThat(lookupPlan4.isSameShape(lookupPlan5)).isFalse();
+    }
+
+}
@@ -0,0 +1,178 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link MinimizationReport}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class MinimizationReportTest {
+
+    /**
+     * Test class constructor.
+     */
+    public MinimizationReportTest() {
+        super();
+    }
+
+    /**
+     * {@link MinimizationReport} class test.
+     */
+    @Test
+    public void getValueSetCountTest() {
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        Map<ValueSet<String>, List<ValueSet<String>>> mergedValueSets = new HashMap<>();
+        Assertions.assertThat(new MinimizationReport<>(0, 0, valueSets, valueSets, mergedValueSets).getValueSetCount()).isEqualTo(0);
+        Assertions.assertThat(new MinimizationReport<>(5, 3, valueSets, valueSets, mergedValueSets).getValueSetCount()).isEqualTo(5);
+    }
+
+    /**
+     * {@link MinimizationReport} class test.
+     */
+    @Test
+    public void getMinimizedValueSetCountTest() {
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        Map<ValueSet<String>, List<ValueSet<String>>> mergedValueSets = new HashMap<>();
+        Assertions.assertThat(new MinimizationReport<>(0, 0, valueSets, valueSets, mergedValueSets).getMinimizedValueSetCount()).isEqualTo(0);
+        Assertions.assertThat(new MinimizationReport<>(5, 3, valueSets, valueSets, mergedValueSets).getMinimizedValueSetCount()).isEqualTo(3);
+    }
+
+    /**
+     * {@link MinimizationReport} class test.
+     */
+    @Test
+    public void getUnmatchableValueSetsTest() {
+        ValueSet<String> valueSet = ValueSetBuilder.<String>newInstance().addCondition("cond1", 1).addValue("value1").build();
+        List<ValueSet<String>> unmatchableValueSets = DataHelper.createArrayList(valueSet);
+        List<ValueSet<String>> duplicateValueSets = new ArrayList<>();
+        Map<ValueSet<String>, List<ValueSet<String>>> mergedValueSets = new HashMap<>();
+        MinimizationReport<String> minimizationReport = new MinimizationReport<>(1, 0, unmatchableValueSets, duplicateValueSets, mergedValueSets);
+        unmatchableValueSets.clear();
+        Assertions.assertThat(minimizationReport.getUnmatchableValueSets()).containsExactlyInOrder(valueSet);
+        Assertions.assertThat(minimizationReport.getDuplicateValueSets()).isEmpty();
+    }
+
+    /**
+     * {@link MinimizationReport} class test.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void getUnmatchableValueSetsUnmodifiableFailTest() {
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        Map<ValueSet<String>, List<ValueSet<String>>> mergedValueSets = new HashMap<>();
+        new MinimizationReport<>(0, 0, valueSets, valueSets, mergedValueSets).getUnmatchableValueSets().add(null);
+    }
+
+    /**
+     * {@link MinimizationReport} class test.
+     */
+    @Test
+    public void getDuplicateValueSetsTest() {
+        ValueSet<String> valueSet = ValueSetBuilder.<String>newInstance().addCondition("cond1", 1).addValue("value1").build();
+        List<ValueSet<String>> unmatchableValueSets = new ArrayList<>();
+        List<ValueSet<String>> duplicateValueSets = DataHelper.createArrayList(valueSet);
+        Map<ValueSet<String>, List<ValueSet<String>>> mergedValueSets = new HashMap<>();
+        MinimizationReport<String> minimizationReport = new MinimizationReport<>(2, 1, unmatchableValueSets, duplicateValueSets, mergedValueSets);
+        duplicateValueSets.clear();
+        Assertions.assertThat(minimizationReport.getUnmatchableValueSets()).isEmpty();
+        Assertions.assertThat(minimizationReport.getDuplicateValueSets()).containsExactlyInOrder(valueSet);
+    }
+
+    /**
+     * {@link MinimizationReport} class test.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void getDuplicateValueSetsUnmodifiableFailTest() {
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        Map<ValueSet<String>, List<ValueSet<String>>> mergedValueSets = new HashMap<>();
+        new MinimizationReport<>(0, 0, valueSets, valueSets, mergedValueSets).getDuplicateValueSets().add(null);
+    }
+
+    /**
+     * {@link MinimizationReport} class test.
+     */
+    @Test
+    public void getMergedValueSetsTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.addCondition("cond1", 1).addValue("value1").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.addCondition("cond1", 2).addValue("value1").build();
+        ValueSet<String> valueSet3 = valueSetBuilder.addCondition("cond1", 1).addCondition("cond1", 2).addValue("value1").build();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        List<ValueSet<String>> sourceValueSets = DataHelper.createArrayList(valueSet1, valueSet2);
+        Map<ValueSet<String>, List<ValueSet<String>>> mergedValueSets = new HashMap<>();
+        mergedValueSets.put(valueSet3, sourceValueSets);
+        MinimizationReport<String> minimizationReport = new MinimizationReport<>(2, 1, valueSets, valueSets, mergedValueSets);
+        sourceValueSets.clear();
+        mergedValueSets.clear();
+        Assertions.assertThat(minimizationReport.getMergedValueSets()).hasSize(1);
+        Assertions.assertThat(minimizationReport.getMergedValueSets().get(valueSet3)).containsExactlyInOrder(valueSet1, valueSet2);
+    }
+
+    /**
+     * {@link MinimizationReport} class test.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void getMergedValueSetsUnmodifiableFailTest() {
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        Map<ValueSet<String>, List<ValueSet<String>>> mergedValueSets = new HashMap<>();
+        new MinimizationReport<>(0, 0, valueSets, valueSets, mergedValueSets).getMergedValueSets().put(null, valueSets);
+    }
+
+    /**
+     * {@link MinimizationReport} class test.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void getMergedValueSetsSourcesUnmodifiableFailTest() {
+        ValueSet<String> valueSet = ValueSetBuilder.<String>newInstance().addCondition("cond1", 1).addValue("value1").build();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        Map<ValueSet<String>, List<ValueSet<String>>> mergedValueSets = new HashMap<>();
+        mergedValueSets.put(valueSet, DataHelper.createArrayList(valueSet));
+        new MinimizationReport<>(1, 1, valueSets, valueSets, mergedValueSets).getMergedValueSets().get(valueSet).add(valueSet);
+    }
+
+    /**
+     * {@link MinimizationReport} class test.
+     */
+    @Test
+    public void toStringTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.addCondition("cond1", 1).addValue("value1").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.addCondition("cond1", 2).addValue("value1").build();
+        ValueSet<String> valueSet3 = valueSetBuilder.addCondition("cond1", 1).addCondition("cond1", 2).addValue("value1").build();
+        ValueSet<String> valueSet4 = valueSetBuilder.setId("id").addCondition("cond1", 3).addValue("value2").build();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        Map<ValueSet<String>, List<ValueSet<String>>> mergedValueSets = new HashMap<>();
+        Assertions.assertThat(new MinimizationReport<>(0, 0, valueSets, valueSets, mergedValueSets)).hasToString("valueSetCount=0, minimizedValueSetCount=0, unmatchable=[], duplicate=[], merged={}");
+
+        mergedValueSets.put(valueSet3, DataHelper.createArrayList(valueSet1, valueSet2));
+        Assertions.assertThat(new MinimizationReport<>(4, 1, DataHelper.createArrayList(valueSet4), DataHelper.createArrayList(valueSet1), mergedValueSets)).hasToString("valueSetCount=4, minimizedValueSetCount=1, unmatchable=[id={cond1=[3]}], duplicate=[{cond1=[1]}], merged={{cond1=[1, 2]}=[{cond1=[1]}, {cond1=[2]}]}");
+    }
+
+}
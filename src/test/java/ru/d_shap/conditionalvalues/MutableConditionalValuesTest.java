@@ -0,0 +1,480 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+import ru.d_shap.assertions.util.ReflectionHelper;
+import ru.d_shap.conditionalvalues.data.FailingHashCodeValue;
+import ru.d_shap.conditionalvalues.misc.NaturalOrderComparator;
+import ru.d_shap.conditionalvalues.predicate.StringContainsPredicate;
+import ru.d_shap.conditionalvalues.predicate.StringEqualsIgnoreCasePredicate;
+
+/**
+ * Tests for {@link MutableConditionalValues}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class MutableConditionalValuesTest {
+
+    /**
+     * Test class constructor.
+     */
+    public MutableConditionalValuesTest() {
+        super();
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void newObjectTest() {
+        MutableConditionalValues<String> mutableConditionalValues1 = new MutableConditionalValues<>(null, null, null, null, null, ConditionalValuesOptions.DEFAULT);
+        Assertions.assertThat(mutableConditionalValues1.getSnapshot().getAllValues()).isEmpty();
+
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(createValueSet("id1", "cond1", "val1", "value1"));
+        valueSets.add(null);
+        valueSets.add(createValueSet(null, "cond2", "val2", "value2"));
+        MutableConditionalValues<String> mutableConditionalValues2 = new MutableConditionalValues<>(null, null, null, null, valueSets, ConditionalValuesOptions.DEFAULT);
+        Assertions.assertThat(mutableConditionalValues2.getSnapshot().getAllValues()).containsExactlyInOrder("value1", "value2");
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void getSnapshotTest() {
+        MutableConditionalValues<String> mutableConditionalValues = createMutableConditionalValues();
+        ConditionalValues<String> snapshot1 = mutableConditionalValues.getSnapshot();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot()).isSameAs(snapshot1);
+
+        Assertions.assertThat(mutableConditionalValues.add(createValueSet("id3", "cond1", "val3", "value3"))).isTrue();
+        ConditionalValues<String> snapshot2 = mutableConditionalValues.getSnapshot();
+        Assertions.assertThat(snapshot2).isNotSameAs(snapshot1);
+        Assertions.assertThat(snapshot1.getAllValues()).containsExactlyInOrder("value1", "value2");
+        Assertions.assertThat(snapshot2.getAllValues()).containsExactlyInOrder("value1", "value2", "value3");
+
+        Assertions.assertThat(mutableConditionalValues.add(createValueSet("id3", "cond1", "val3", "value3"))).isFalse();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot()).isSameAs(snapshot2);
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void lookupTest() {
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        MutableConditionalValues<String> mutableConditionalValues = createMutableConditionalValues();
+        Assertions.assertThat(mutableConditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "VAL1").build()).getValues()).containsExactlyInOrder("value1");
+        Assertions.assertThat(mutableConditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val3").build()).isEmpty()).isTrue();
+        Assertions.assertThat(mutableConditionalValues.lookup(null).isEmpty()).isTrue();
+
+        mutableConditionalValues.add(createValueSet("id3", "cond1", "val3", "value3"));
+        Assertions.assertThat(mutableConditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val3").build()).getValues()).containsExactlyInOrder("value3");
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void addTest() {
+        MutableConditionalValues<String> mutableConditionalValues = createMutableConditionalValues();
+        Assertions.assertThat(mutableConditionalValues.add(null)).isFalse();
+        Assertions.assertThat(mutableConditionalValues.add(createValueSet(null, "cond1", "val3", "value3"))).isFalse();
+        Assertions.assertThat(mutableConditionalValues.add(createValueSet("id1", "cond1", "val3", "value3"))).isFalse();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value1", "value2");
+
+        Assertions.assertThat(mutableConditionalValues.add(createValueSet("id3", "cond1", "val3", "value3"))).isTrue();
+        Assertions.assertThat(mutableConditionalValues.add(createValueSet("id4", "cond2", "val4", "value4"))).isTrue();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value1", "value2", "value3", "value4");
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void removeTest() {
+        MutableConditionalValues<String> mutableConditionalValues = createMutableConditionalValues();
+        Assertions.assertThat(mutableConditionalValues.remove(null)).isFalse();
+        Assertions.assertThat(mutableConditionalValues.remove("id3")).isFalse();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value1", "value2");
+
+        Assertions.assertThat(mutableConditionalValues.remove("id1")).isTrue();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value2");
+        Assertions.assertThat(mutableConditionalValues.remove("id1")).isFalse();
+        Assertions.assertThat(mutableConditionalValues.remove("id2")).isTrue();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).isEmpty();
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void replaceTest() {
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        MutableConditionalValues<String> mutableConditionalValues = createMutableConditionalValues();
+        Assertions.assertThat(mutableConditionalValues.replace(null)).isFalse();
+        Assertions.assertThat(mutableConditionalValues.replace(createValueSet(null, "cond1", "val3", "value3"))).isFalse();
+        Assertions.assertThat(mutableConditionalValues.replace(createValueSet("id3", "cond1", "val3", "value3"))).isFalse();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value1", "value2");
+
+        Assertions.assertThat(mutableConditionalValues.replace(createValueSet("id1", "cond1", "val3", "value3"))).isTrue();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value2", "value3");
+        Assertions.assertThat(mutableConditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").build()).isEmpty()).isTrue();
+        Assertions.assertThat(mutableConditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val3").build()).getValues()).containsExactlyInOrder("value3");
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void updateTest() {
+        MutableConditionalValues<String> mutableConditionalValues = createMutableConditionalValues();
+        ConditionalValues<String> snapshot1 = mutableConditionalValues.getSnapshot();
+        Assertions.assertThat(mutableConditionalValues.update(null, null)).isFalse();
+        Assertions.assertThat(mutableConditionalValues.update(DataHelper.createArrayList("id3", null), DataHelper.<ValueSet<String>>createArrayList(null, createValueSet(null, "cond1", "val3", "value3")))).isFalse();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot()).isSameAs(snapshot1);
+
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(createValueSet("id2", "cond2", "val5", "value5"));
+        valueSets.add(createValueSet("id3", "cond1", "val3", "value3"));
+        valueSets.add(createValueSet("id4", "cond1", "val4", "value4"));
+        Assertions.assertThat(mutableConditionalValues.update(DataHelper.createArrayList("id1"), valueSets)).isTrue();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value3", "value4", "value5");
+        Assertions.assertThat(snapshot1.getAllValues()).containsExactlyInOrder("value1", "value2");
+
+        Assertions.assertThat(mutableConditionalValues.update(DataHelper.createArrayList("id3", "id4"), null)).isTrue();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value5");
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     *
+     * @throws InterruptedException interrupted exception.
+     */
+    @Test
+    public void concurrentUpdateTest() throws InterruptedException {
+        final MutableConditionalValues<String> mutableConditionalValues = createMutableConditionalValues();
+        final ConditionSet conditionSet = ConditionSetBuilder.newInstance().addCondition("cond1", "val1").build();
+        final AtomicBoolean stopped = new AtomicBoolean(false);
+        final AtomicReference<String> error = new AtomicReference<>();
+        Thread reader = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                while (!stopped.get()) {
+                    List<String> values = mutableConditionalValues.lookup(conditionSet).getValues();
+                    if (values.size() != 1) {
+                        error.set(values.toString());
+                    }
+                }
+            }
+
+        });
+        reader.start();
+        for (int i = 0; i < 200; i++) {
+            mutableConditionalValues.replace(createValueSet("id1", "cond1", "val1", "value" + i));
+        }
+        stopped.set(true);
+        reader.join();
+        Assertions.assertThat(error.get()).isNull();
+        Assertions.assertThat(mutableConditionalValues.lookup(conditionSet).getValues()).containsExactlyInOrder("value199");
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void sharedIndexesTest() {
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(createValueSet("id1", "cond1", "val1", "value1"));
+        valueSets.add(createValueSet("id2", "cond2", "val2", "value2"));
+        valueSets.add(createValueSet("id3", "cond1", "val3", "value3"));
+        MutableConditionalValues<String> mutableConditionalValues = new MutableConditionalValues<>(null, null, null, null, valueSets, ConditionalValuesOptions.DEFAULT);
+        ConditionalValues<String> snapshot1 = mutableConditionalValues.getSnapshot();
+        EqualsIndex equalsIndex1 = (EqualsIndex) ReflectionHelper.getFieldValue(snapshot1, "_equalsIndex");
+        Assertions.assertThat(equalsIndex1).hasToString("[[cond1]=[0, 2], [cond2]=[1]]");
+
+        Assertions.assertThat(mutableConditionalValues.add(createValueSet("id4", "cond2", "val4", "value4"))).isTrue();
+        ConditionalValues<String> snapshot2 = mutableConditionalValues.getSnapshot();
+        EqualsIndex equalsIndex2 = (EqualsIndex) ReflectionHelper.getFieldValue(snapshot2, "_equalsIndex");
+        Assertions.assertThat(equalsIndex2).hasToString("[[cond1]=[0, 2], [cond2]=[1, 3]]");
+        Assertions.assertThat(equalsIndex2.getGroup(0)).isSameAs(equalsIndex1.getGroup(0));
+        Assertions.assertThat(ReflectionHelper.getFieldValue(snapshot2, "_conditionNameTable")).isSameAs(ReflectionHelper.getFieldValue(snapshot1, "_conditionNameTable"));
+
+        Assertions.assertThat(mutableConditionalValues.remove("id1")).isTrue();
+        ConditionalValues<String> snapshot3 = mutableConditionalValues.getSnapshot();
+        EqualsIndex equalsIndex3 = (EqualsIndex) ReflectionHelper.getFieldValue(snapshot3, "_equalsIndex");
+        Assertions.assertThat(equalsIndex3).hasToString("[[cond1]=[2], [cond2]=[1, 3]]");
+        Assertions.assertThat(equalsIndex3.getGroup(1)).isSameAs(equalsIndex2.getGroup(1));
+        Assertions.assertThat(snapshot3.getValueSetSlots()).hasSize(4);
+        Assertions.assertThat(snapshot3.getValueSets()).hasSize(3);
+        Assertions.assertThat(snapshot3).hasToString("[id2={cond2=[val2]}, id3={cond1=[val3]}, id4={cond2=[val4]}]");
+        Assertions.assertThat(snapshot2).hasToString("[id1={cond1=[val1]}, id2={cond2=[val2]}, id3={cond1=[val3]}, id4={cond2=[val4]}]");
+        Assertions.assertThat(snapshot3.getMinimizationReport().getValueSetCount()).isEqualTo(3);
+
+        Assertions.assertThat(mutableConditionalValues.replace(createValueSet("id3", "cond1", "val5", "value5"))).isTrue();
+        ConditionalValues<String> snapshot4 = mutableConditionalValues.getSnapshot();
+        Assertions.assertThat(ReflectionHelper.getFieldValue(snapshot4, "_equalsIndex")).hasToString("[[cond1]=[2], [cond2]=[1, 3]]");
+        Assertions.assertThat(snapshot4.lookup(ConditionSetBuilder.newInstance().addCondition("cond1", "val5").build()).getValues()).containsExactlyInOrder("value5");
+        Assertions.assertThat(snapshot4.lookup(ConditionSetBuilder.newInstance().addCondition("cond1", "val3").build()).isEmpty()).isTrue();
+        Assertions.assertThat(snapshot3.lookup(ConditionSetBuilder.newInstance().addCondition("cond1", "val3").build()).getValues()).containsExactlyInOrder("value3");
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void rebuildTest() {
+        MutableConditionalValues<String> mutableConditionalValues = createMutableConditionalValues();
+        ConditionalValues<String> snapshot1 = mutableConditionalValues.getSnapshot();
+
+        Assertions.assertThat(mutableConditionalValues.add(createValueSet("id3", "cond3", "val3", "value3"))).isTrue();
+        ConditionalValues<String> snapshot2 = mutableConditionalValues.getSnapshot();
+        Assertions.assertThat(ReflectionHelper.getFieldValue(snapshot2, "_conditionNameTable")).isNotSameAs(ReflectionHelper.getFieldValue(snapshot1, "_conditionNameTable"));
+        Assertions.assertThat(snapshot2.getAllConditionNames()).containsExactly("cond1", "cond2", "cond3");
+
+        Assertions.assertThat(mutableConditionalValues.remove("id1")).isTrue();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getValueSetSlots()).hasSize(3);
+        Assertions.assertThat(mutableConditionalValues.remove("id2")).isTrue();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getValueSetSlots()).hasSize(1);
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value3");
+
+        Assertions.assertThat(mutableConditionalValues.add(createValueSet("id1", "cond1", "val1", "value1"))).isTrue();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getValueSetSlots()).hasSize(2);
+        Assertions.assertThat(mutableConditionalValues.replace(createValueSet("id1", "cond1", "val4", "value4"))).isTrue();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getValueSetSlots()).hasSize(2);
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value3", "value4");
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void duplicateIdTest() {
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(createValueSet("id1", "cond1", "val1", "value1"));
+        valueSets.add(createValueSet("id1", "cond1", "val3", "value3"));
+        valueSets.add(createValueSet("id2", "cond2", "val2", "value2"));
+        MutableConditionalValues<String> mutableConditionalValues = new MutableConditionalValues<>(null, null, null, new NaturalOrderComparator<String>(), valueSets, ConditionalValuesOptions.DEFAULT);
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value1", "value2", "value3");
+
+        Assertions.assertThat(mutableConditionalValues.remove("id1")).isTrue();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value2", "value3");
+        Assertions.assertThat(mutableConditionalValues.remove("id1")).isFalse();
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void minimizationRebuildTest() {
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(createValueSet("id1", "cond1", "val1", "value1"));
+        valueSets.add(createValueSet("id2", "cond2", "val2", "value2"));
+        MutableConditionalValues<String> mutableConditionalValues = new MutableConditionalValues<>(null, null, null, new NaturalOrderComparator<String>(), valueSets, new ConditionalValuesOptions(false, 0, 0, 0, true));
+        ConditionalValues<String> snapshot1 = mutableConditionalValues.getSnapshot();
+
+        Assertions.assertThat(mutableConditionalValues.add(createValueSet("id3", "cond1", "val3", "value3"))).isTrue();
+        ConditionalValues<String> snapshot2 = mutableConditionalValues.getSnapshot();
+        Assertions.assertThat(ReflectionHelper.getFieldValue(snapshot2, "_conditionNameTable")).isNotSameAs(ReflectionHelper.getFieldValue(snapshot1, "_conditionNameTable"));
+        Assertions.assertThat(snapshot2.getAllValues()).containsExactlyInOrder("value1", "value2", "value3");
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void failedChangeTest() {
+        MutableConditionalValues<String> mutableConditionalValues = createMutableConditionalValues();
+        ConditionalValues<String> snapshot1 = mutableConditionalValues.getSnapshot();
+        FailingHashCodeValue failingValue = new FailingHashCodeValue(1);
+        ValueSet<String> failingValueSet = createValueSet("id3", "cond2", failingValue, "value3");
+        failingValue.setFailing(true);
+
+        try {
+            mutableConditionalValues.add(failingValueSet);
+            Assertions.fail("MutableConditionalValues test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash code failed: 1");
+        }
+        try {
+            mutableConditionalValues.update(DataHelper.createArrayList("id1"), DataHelper.createArrayList(failingValueSet));
+            Assertions.fail("MutableConditionalValues test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash code failed: 1");
+        }
+        Assertions.assertThat(mutableConditionalValues.getSnapshot()).isSameAs(snapshot1);
+        Assertions.assertThat(ReflectionHelper.getFieldValue(mutableConditionalValues, "_ordinals")).isEqualTo(DataHelper.createHashMap("id1", 0, "id2", 1));
+        Assertions.assertThat(ReflectionHelper.getFieldValue(mutableConditionalValues, "_emptySlotCount")).isEqualTo(0);
+
+        failingValue.setFailing(false);
+        Assertions.assertThat(mutableConditionalValues.add(failingValueSet)).isTrue();
+        Assertions.assertThat(mutableConditionalValues.remove("id1")).isTrue();
+        Assertions.assertThat(mutableConditionalValues.getSnapshot().getAllValues()).containsExactlyInOrder("value2", "value3");
+        Assertions.assertThat(ReflectionHelper.getFieldValue(mutableConditionalValues, "_ordinals")).isEqualTo(DataHelper.createHashMap("id2", 1, "id3", 2));
+        Assertions.assertThat(ReflectionHelper.getFieldValue(mutableConditionalValues, "_emptySlotCount")).isEqualTo(1);
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void sharedLookupBufferTest() {
+        MutableConditionalValues<String> mutableConditionalValues = createMutableConditionalValues();
+        ConditionSet conditionSet = ConditionSetBuilder.newInstance().addCondition("cond2", "val2").build();
+        ConditionalValues<String> snapshot1 = mutableConditionalValues.getSnapshot();
+        Assertions.assertThat(snapshot1.lookup(conditionSet).getValues()).containsExactlyInOrder("value2");
+        LookupBuffer lookupBuffer1 = snapshot1.getLookupBuffer();
+        Assertions.assertThat(lookupBuffer1).isNotNull();
+
+        Assertions.assertThat(mutableConditionalValues.replace(createValueSet("id2", "cond2", "val2", "value4"))).isTrue();
+        ConditionalValues<String> snapshot2 = mutableConditionalValues.getSnapshot();
+        Assertions.assertThat(snapshot2.getLookupBuffer()).isSameAs(lookupBuffer1);
+        Assertions.assertThat(snapshot2.lookup(conditionSet).getValues()).containsExactlyInOrder("value4");
+        Assertions.assertThat(snapshot2.getLookupBuffer()).isSameAs(lookupBuffer1);
+
+        Assertions.assertThat(mutableConditionalValues.add(createValueSet("id3", "cond2", "val2", "value3"))).isTrue();
+        ConditionalValues<String> snapshot3 = mutableConditionalValues.getSnapshot();
+        Assertions.assertThat(snapshot3.lookup(conditionSet).getValues()).containsExactlyInOrder("value3", "value4");
+        LookupBuffer lookupBuffer3 = snapshot3.getLookupBuffer();
+        Assertions.assertThat(lookupBuffer3).isNotSameAs(lookupBuffer1);
+        Assertions.assertThat(snapshot2.lookup(conditionSet).getValues()).containsExactlyInOrder("value4");
+        Assertions.assertThat(snapshot1.getLookupBuffer()).isSameAs(lookupBuffer3);
+        Assertions.assertThat(snapshot1.lookup(conditionSet).getValues()).containsExactlyInOrder("value2");
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void derivedSnapshotFindOverlapsTest() {
+        MutableConditionalValues<String> mutableConditionalValues = createMutableConditionalValues();
+        Assertions.assertThat(mutableConditionalValues.add(createValueSet("id3", "cond2", "val2", "value3"))).isTrue();
+        Assertions.assertThat(mutableConditionalValues.remove("id1")).isTrue();
+        ConditionalValues<String> snapshot = mutableConditionalValues.getSnapshot();
+        Assertions.assertThat(snapshot.getValueSetSlots()).hasSize(3);
+
+        List<ValueSetOverlap<String>> valueSetOverlaps = snapshot.findOverlaps();
+        Assertions.assertThat(valueSetOverlaps).hasSize(1);
+        Assertions.assertThat(valueSetOverlaps.get(0).getFirstValueSet().getId()).isEqualTo("id2");
+        Assertions.assertThat(valueSetOverlaps.get(0).getSecondValueSet().getId()).isEqualTo("id3");
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void derivedSnapshotRandomTest() {
+        checkDerivedSnapshots(new Random(1L), new NaturalOrderComparator<String>());
+        checkDerivedSnapshots(new Random(2L), null);
+    }
+
+    private void checkDerivedSnapshots(final Random random, final Comparator<String> comparator) {
+        Map<String, Predicate> predicates = DataHelper.<String, Predicate>createHashMap("cond1", new StringEqualsIgnoreCasePredicate(), "cond3", new StringContainsPredicate());
+        MutableConditionalValues<String> mutableConditionalValues = new MutableConditionalValues<>(null, null, predicates, comparator, null, ConditionalValuesOptions.DEFAULT);
+        for (int i = 0; i < 300; i++) {
+            int operation = random.nextInt(4);
+            String id = "id" + random.nextInt(12);
+            if (operation == 0) {
+                mutableConditionalValues.add(createRandomValueSet(random, id, "value" + i));
+            } else if (operation == 1) {
+                mutableConditionalValues.remove(id);
+            } else if (operation == 2) {
+                mutableConditionalValues.replace(createRandomValueSet(random, id, "value" + i));
+            } else {
+                List<ValueSet<String>> valueSets = DataHelper.createArrayList(createRandomValueSet(random, id, "value" + i), createRandomValueSet(random, "id" + random.nextInt(12), "value" + i + "a"));
+                mutableConditionalValues.update(DataHelper.createArrayList("id" + random.nextInt(12)), valueSets);
+            }
+            ConditionalValues<String> snapshot = mutableConditionalValues.getSnapshot();
+            ConditionalValues<String> expectedSnapshot = new ConditionalValues<>(null, null, predicates, comparator, snapshot.getValueSets());
+            Assertions.assertThat(snapshot.getAllValues()).containsExactlyInOrder(expectedSnapshot.getAllValues());
+            for (int j = 0; j < 10; j++) {
+                ConditionSet conditionSet = createRandomConditionSet(random);
+                Assertions.assertThat(snapshot.lookup(conditionSet).getValues()).containsExactlyInOrder(expectedSnapshot.lookup(conditionSet).getValues());
+                Assertions.assertThat(snapshot.lookupAll(conditionSet).getValues(0).getValues()).containsExactlyInOrder(expectedSnapshot.lookup(conditionSet).getValues());
+            }
+        }
+    }
+
+    private ValueSet<String> createRandomValueSet(final Random random, final String id, final String value) {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.setId(id);
+        for (int i = 1; i <= 4; i++) {
+            if (random.nextBoolean()) {
+                valueSetBuilder.addCondition("cond" + i, "val" + random.nextInt(3));
+            }
+        }
+        valueSetBuilder.addValue(value);
+        return valueSetBuilder.build();
+    }
+
+    private ConditionSet createRandomConditionSet(final Random random) {
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        for (int i = 1; i <= 4; i++) {
+            if (random.nextInt(4) > 0) {
+                conditionSetBuilder.addCondition("cond" + i, "xval" + random.nextInt(3));
+            }
+        }
+        if (random.nextBoolean()) {
+            conditionSetBuilder.addCondition("cond1", "VAL" + random.nextInt(3));
+            conditionSetBuilder.addCondition("cond2", "val" + random.nextInt(3));
+            conditionSetBuilder.addCondition("cond4", "val" + random.nextInt(3));
+        }
+        return conditionSetBuilder.build();
+    }
+
+    /**
+     * {@link MutableConditionalValues} class test.
+     */
+    @Test
+    public void toStringTest() {
+        Assertions.assertThat(new MutableConditionalValues<String>(null, null, null, null, null, ConditionalValuesOptions.DEFAULT)).hasToString("[]");
+        Assertions.assertThat(createMutableConditionalValues()).hasToString("[id1={cond1=[val1]}, id2={cond2=[val2]}]");
+    }
+
+    private MutableConditionalValues<String> createMutableConditionalValues() {
+        Map<String, Predicate> predicates = DataHelper.<String, Predicate>createHashMap("cond1", new StringEqualsIgnoreCasePredicate());
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(createValueSet("id1", "cond1", "val1", "value1"));
+        valueSets.add(createValueSet("id2", "cond2", "val2", "value2"));
+        return new MutableConditionalValues<>(null, null, predicates, new NaturalOrderComparator<String>(), valueSets, ConditionalValuesOptions.DEFAULT);
+    }
+
+    private ValueSet<String> createValueSet(final String id, final String conditionName, final Object conditionValue, final String value) {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.setId(id);
+        valueSetBuilder.addCondition(conditionName, conditionValue);
+        valueSetBuilder.addValue(value);
+        return valueSetBuilder.build();
+    }
+
+}
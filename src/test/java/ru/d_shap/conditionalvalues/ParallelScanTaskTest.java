@@ -0,0 +1,112 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link ParallelScanTask}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ParallelScanTaskTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ParallelScanTaskTest() {
+        super();
+    }
+
+    /**
+     * {@link ParallelScanTask} class test.
+     */
+    @Test
+    public void runSinglePartitionTest() {
+        List<ValueSetMatcher> valueSetMatchers = createValueSetMatchers(20);
+        int[] scannedOrdinals = new int[]{1, 3, 4, 8, 9, 13, 18, 19};
+        int[] matchingOrdinals = new int[scannedOrdinals.length];
+        ParallelScanTask parallelScanTask = new ParallelScanTask(valueSetMatchers, scannedOrdinals, 1, 7, new Object[]{3}, new BitSet[1], matchingOrdinals);
+        parallelScanTask.run();
+        IntList ordinals = new IntList();
+        parallelScanTask.addMatchingOrdinals(ordinals);
+        Assertions.assertThat(ordinals.toArray()).containsExactlyInOrder(3, 8, 13, 18);
+    }
+
+    /**
+     * {@link ParallelScanTask} class test.
+     */
+    @Test
+    public void runSplitTest() {
+        int valueSetCount = ParallelScanTask.MAX_PARTITION_SIZE * 5 + 3;
+        List<ValueSetMatcher> valueSetMatchers = createValueSetMatchers(valueSetCount);
+        IntList scannedOrdinalList = new IntList();
+        for (int i = 0; i < valueSetCount; i += 2) {
+            scannedOrdinalList.add(i);
+        }
+        int[] scannedOrdinals = scannedOrdinalList.toArray();
+        int[] matchingOrdinals = new int[scannedOrdinals.length];
+        ParallelScanTask parallelScanTask = new ParallelScanTask(valueSetMatchers, scannedOrdinals, 0, scannedOrdinals.length, new Object[]{4}, new BitSet[1], matchingOrdinals);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            forkJoinPool.invoke(ForkJoinTask.adapt(parallelScanTask));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+        IntList ordinals = new IntList();
+        parallelScanTask.addMatchingOrdinals(ordinals);
+        int index = 0;
+        for (int i = 4; i < valueSetCount; i += 10) {
+            Assertions.assertThat(ordinals.get(index)).isEqualTo(i);
+            index++;
+        }
+        Assertions.assertThat(ordinals.size()).isEqualTo(index);
+    }
+
+    /**
+     * {@link ParallelScanTask} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsNotRunTest() {
+        List<ValueSetMatcher> valueSetMatchers = createValueSetMatchers(5);
+        ParallelScanTask parallelScanTask = new ParallelScanTask(valueSetMatchers, new int[]{0, 1, 2}, 0, 3, new Object[]{1}, new BitSet[1], new int[3]);
+        IntList ordinals = new IntList();
+        parallelScanTask.addMatchingOrdinals(ordinals);
+        Assertions.assertThat(ordinals.isEmpty()).isTrue();
+    }
+
+    private List<ValueSetMatcher> createValueSetMatchers(final int count) {
+        List<ValueSetMatcher> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ConditionMatcher[] conditionMatchers = new ConditionMatcher[]{new SingleValueMatcher(i % 5)};
+            result.add(new ValueSetMatcher(i, new int[]{0}, conditionMatchers, new boolean[]{false}));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,153 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link PatternIndex}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class PatternIndexTest {
+
+    /**
+     * Test class constructor.
+     */
+    public PatternIndexTest() {
+        super();
+    }
+
+    /**
+     * {@link PatternIndex} class test.
+     */
+    @Test
+    public void createPatternIndexTest() {
+        List<ValueSet<String>> valueSets = createValueSets();
+
+        PatternIndex patternIndex1 = new PatternIndex("cond", false, false, valueSets, DataHelper.<Integer>createArrayList());
+        Assertions.assertThat(patternIndex1.getConditionName()).isEqualTo("cond");
+        Assertions.assertThat(patternIndex1.isFind()).isFalse();
+        Assertions.assertThat(patternIndex1.isAllValuesMatch()).isFalse();
+        Assertions.assertThat(patternIndex1.getPatternCount()).isEqualTo(0);
+        Assertions.assertThat(patternIndex1.getUnfilteredPatternCount()).isEqualTo(0);
+        Assertions.assertThat(patternIndex1).hasToString("cond=[]");
+
+        PatternIndex patternIndex2 = new PatternIndex("cond", true, true, valueSets, DataHelper.createArrayList(0, 1, 2, 3));
+        Assertions.assertThat(patternIndex2.isFind()).isTrue();
+        Assertions.assertThat(patternIndex2.isAllValuesMatch()).isTrue();
+        Assertions.assertThat(patternIndex2.getPatternCount()).isEqualTo(6);
+        Assertions.assertThat(patternIndex2.getUnfilteredPatternCount()).isEqualTo(1);
+        Assertions.assertThat(patternIndex2.isIndexed(0)).isTrue();
+        Assertions.assertThat(patternIndex2.isIndexed(3)).isTrue();
+        Assertions.assertThat(patternIndex2.isIndexed(4)).isFalse();
+
+        PatternIndex patternIndex3 = new PatternIndex("cond", false, false, valueSets, DataHelper.createArrayList(2));
+        Assertions.assertThat(patternIndex3.getPatternCount()).isEqualTo(1);
+        Assertions.assertThat(patternIndex3.isIndexed(1)).isFalse();
+        Assertions.assertThat(patternIndex3.isIndexed(2)).isTrue();
+        Assertions.assertThat(patternIndex3).hasToString("cond=[/orders/\\d+]");
+    }
+
+    /**
+     * {@link PatternIndex} class test.
+     */
+    @Test
+    public void getCandidatePatternsTest() {
+        List<ValueSet<String>> valueSets = createValueSets();
+
+        PatternIndex patternIndex = new PatternIndex("cond", true, false, valueSets, DataHelper.createArrayList(0, 1, 2, 3));
+        Assertions.assertThat(patternIndex.getCandidatePatterns("").cardinality()).isEqualTo(1);
+        Assertions.assertThat(patternIndex.getCandidatePatterns("/users/").cardinality()).isEqualTo(4);
+        Assertions.assertThat(patternIndex.getCandidatePatterns("/USERS/ADMIN").cardinality()).isEqualTo(2);
+        Assertions.assertThat(patternIndex.getCandidatePatterns("/users/admin/orders/").cardinality()).isEqualTo(6);
+    }
+
+    /**
+     * {@link PatternIndex} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsAnyValueMatchesTest() {
+        List<ValueSet<String>> valueSets = createValueSets();
+
+        PatternIndex patternIndex1 = new PatternIndex("cond", false, false, valueSets, DataHelper.createArrayList(0, 1, 2, 3));
+        Assertions.assertThat(addMatchingOrdinals(patternIndex1, "")).isEqualTo("{3}");
+        Assertions.assertThat(addMatchingOrdinals(patternIndex1, "/users/15")).isEqualTo("{0, 3}");
+        Assertions.assertThat(addMatchingOrdinals(patternIndex1, "/USERS/ADMIN")).isEqualTo("{1, 3}");
+        Assertions.assertThat(addMatchingOrdinals(patternIndex1, "/api/orders/15")).isEqualTo("{3}");
+        Assertions.assertThat(addMatchingOrdinals(patternIndex1, "/orders/15")).isEqualTo("{2, 3}");
+
+        PatternIndex patternIndex2 = new PatternIndex("cond", true, false, valueSets, DataHelper.createArrayList(0, 1, 2, 3));
+        Assertions.assertThat(addMatchingOrdinals(patternIndex2, "/api/orders/15")).isEqualTo("{2, 3}");
+        Assertions.assertThat(addMatchingOrdinals(patternIndex2, "/api/users/15/x")).isEqualTo("{0, 3}");
+        Assertions.assertThat(addMatchingOrdinals(patternIndex2, "/api/users/me")).isEqualTo("{1, 3}");
+    }
+
+    /**
+     * {@link PatternIndex} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsAllValuesMatchTest() {
+        List<ValueSet<String>> valueSets = createValueSets();
+
+        PatternIndex patternIndex1 = new PatternIndex("cond", true, true, valueSets, DataHelper.createArrayList(0, 1, 2, 3));
+        Assertions.assertThat(addMatchingOrdinals(patternIndex1, "/users/15")).isEqualTo("{3}");
+        Assertions.assertThat(addMatchingOrdinals(patternIndex1, "/users/15/users/admin")).isEqualTo("{0, 1, 3}");
+        Assertions.assertThat(addMatchingOrdinals(patternIndex1, "/users/me/orders/15")).isEqualTo("{1, 2, 3}");
+
+        BitSet ordinals = new BitSet();
+        ordinals.set(7);
+        patternIndex1.addMatchingOrdinals("/orders/1", ordinals);
+        Assertions.assertThat(ordinals).hasToString("{2, 7}");
+    }
+
+    private List<ValueSet<String>> createValueSets() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.addCondition("cond", Pattern.compile("/users/\\d+"));
+        valueSetBuilder.addCondition("cond", Pattern.compile("/users/admin"));
+        valueSetBuilder.addValue("val0");
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond", Pattern.compile("/users/(admin|me)", Pattern.CASE_INSENSITIVE));
+        valueSetBuilder.addValue("val1");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond", Pattern.compile("/orders/\\d+"));
+        valueSetBuilder.addValue("val2");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond", Pattern.compile(".*"));
+        valueSetBuilder.addCondition("cond", Pattern.compile("/users/.*"));
+        valueSetBuilder.addValue("val3");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        return DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3);
+    }
+
+    private String addMatchingOrdinals(final PatternIndex patternIndex, final String conditionSetValue) {
+        BitSet ordinals = new BitSet();
+        patternIndex.addMatchingOrdinals(conditionSetValue, ordinals);
+        return ordinals.toString();
+    }
+
+}
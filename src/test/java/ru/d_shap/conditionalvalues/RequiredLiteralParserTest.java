@@ -0,0 +1,243 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link RequiredLiteralParser}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class RequiredLiteralParserTest {
+
+    /**
+     * Test class constructor.
+     */
+    public RequiredLiteralParserTest() {
+        super();
+    }
+
+    /**
+     * {@link RequiredLiteralParser} class test.
+     */
+    @Test
+    public void parseLiteralTest() {
+        Assertions.assertThat(parse("")).isEqualTo("[]");
+        Assertions.assertThat(parse("abc")).isEqualTo("[abc]");
+        Assertions.assertThat(parse("/users/list")).isEqualTo("[/users/list]");
+        Assertions.assertThat(parse("a]b}c")).isEqualTo("[a]b}c]");
+        Assertions.assertThat(parse("a\\.b\\\\c\\/d")).isEqualTo("[a.b\\c/d]");
+        Assertions.assertThat(parse("a\\Q.*[\\Eb")).isEqualTo("[a.*[b]");
+        Assertions.assertThat(parse("a\\Q.*[")).isEqualTo("[a.*[]");
+        Assertions.assertThat(parse("ab\\Q\\E")).isEqualTo("[ab]");
+    }
+
+    /**
+     * {@link RequiredLiteralParser} class test.
+     */
+    @Test
+    public void parseMetaCharactersTest() {
+        Assertions.assertThat(parse("^abc$")).isEqualTo("[abc]");
+        Assertions.assertThat(parse("ab.cd")).isEqualTo("[ab, cd]");
+        Assertions.assertThat(parse("ab[c-e]fg")).isEqualTo("[ab, fg]");
+        Assertions.assertThat(parse("ab[^]\\]]+fg")).isEqualTo("[ab, fg]");
+        Assertions.assertThat(parse("ab[a-z&&[^c]]fg")).isEqualTo("[ab, fg]");
+        Assertions.assertThat(parse("ab[\\Q]\\E]fg")).isEqualTo("[ab, fg]");
+        Assertions.assertThat(parse("ab\\d+cd\\p{L}ef\\pLgh\\x41ij\\x{41}kl\\u0041mn\\cAop\\0101qr")).isEqualTo("[ab, cd, ef, gh, ij, kl, mn, op, qr]");
+        Assertions.assertThat(parse("(a)b\\1cd(?<name>e)fg\\k<name>hi")).isEqualTo("[b, cd, fg, hi]");
+        Assertions.assertThat(parse("(a)bc\\1")).isEqualTo("[bc]");
+        Assertions.assertThat(parse("ab\\PLcd\\P{L}ef")).isEqualTo("[ab, cd, ef]");
+        Assertions.assertThat(parse("ab[\\c]]cd")).isEqualTo("[ab, cd]");
+        Assertions.assertThat(parse("ab[^\\c]x]cd")).isEqualTo("[ab, cd]");
+        Assertions.assertThat(parse("ab(\\c))cd")).isEqualTo("[ab, cd]");
+        Assertions.assertThat(parse("ab\\c]cd")).isEqualTo("[ab, cd]");
+    }
+
+    /**
+     * {@link RequiredLiteralParser} class test.
+     */
+    @Test
+    public void parseQuantifiersTest() {
+        Assertions.assertThat(parse("abc?de")).isEqualTo("[ab, de]");
+        Assertions.assertThat(parse("abc*de")).isEqualTo("[ab, de]");
+        Assertions.assertThat(parse("abc+de")).isEqualTo("[abc, de]");
+        Assertions.assertThat(parse("abc{0,2}de")).isEqualTo("[ab, de]");
+        Assertions.assertThat(parse("abc{2}de")).isEqualTo("[abc, de]");
+        Assertions.assertThat(parse("abc{0}de")).isEqualTo("[ab, de]");
+        Assertions.assertThat(parse("abc{10}de")).isEqualTo("[abc, de]");
+        Assertions.assertThat(parse("abc{1,}?de")).isEqualTo("[abc, de]");
+        Assertions.assertThat(parse("abc??de")).isEqualTo("[ab, de]");
+        Assertions.assertThat(parse("abc*+de")).isEqualTo("[ab, de]");
+        Assertions.assertThat(parse("a?")).isEqualTo("[]");
+        Assertions.assertThat(parse("ab\\.?cd")).isEqualTo("[ab, cd]");
+        Assertions.assertThat(parse("a\\Qbc\\E?d")).isEqualTo("[ab, d]");
+        Assertions.assertThat(parse("ab[cd]?ef")).isEqualTo("[ab, ef]");
+        Assertions.assertThat(parse("ab\\ud83d\\ude00?cd")).isEqualTo("[ab, cd]");
+        Assertions.assertThat(parse("ab\ud83d\ude00?cd")).isEqualTo("[ab, cd]");
+        Assertions.assertThat(parse("ab\ud83d\ude00cd")).isEqualTo("[ab\ud83d\ude00cd]");
+        Assertions.assertThat(parse("ab\ude00?cd")).isEqualTo("[ab, cd]");
+    }
+
+    /**
+     * {@link RequiredLiteralParser} class test.
+     */
+    @Test
+    public void parseGroupsTest() {
+        Assertions.assertThat(parse("ab(cd)ef")).isEqualTo("[ab, ef]");
+        Assertions.assertThat(parse("ab(c(d)e)*fg")).isEqualTo("[ab, fg]");
+        Assertions.assertThat(parse("ab(c\\)d)ef")).isEqualTo("[ab, ef]");
+        Assertions.assertThat(parse("ab(c[)]d)ef")).isEqualTo("[ab, ef]");
+        Assertions.assertThat(parse("ab(?:cd|ef)gh")).isEqualTo("[ab, gh]");
+        Assertions.assertThat(parse("ab(?=cd)cdef")).isEqualTo("[ab, cdef]");
+        Assertions.assertThat(parse("ab(?i:cd)ef")).isEqualTo("[(?i)ab, (?i)ef]");
+        Assertions.assertThat(parse("ab()cd()")).isEqualTo("[ab, cd]");
+        Assertions.assertThat(parse("ab(c\\Q)(\\Ed)ef")).isEqualTo("[ab, ef]");
+        Assertions.assertThat(parse("ab|cd")).isEqualTo("[]");
+        Assertions.assertThat(parse("ab(cd|ef)|gh")).isEqualTo("[]");
+    }
+
+    /**
+     * {@link RequiredLiteralParser} class test.
+     */
+    @Test
+    public void parseFlagsTest() {
+        Assertions.assertThat(parse("abc", Pattern.CASE_INSENSITIVE)).isEqualTo("[(?i)abc]");
+        Assertions.assertThat(parse("a.c", Pattern.LITERAL)).isEqualTo("[a.c]");
+        Assertions.assertThat(parse("a.c", Pattern.LITERAL | Pattern.CASE_INSENSITIVE)).isEqualTo("[(?i)a.c]");
+        Assertions.assertThat(parse("abc", Pattern.COMMENTS)).isEqualTo("[]");
+        Assertions.assertThat(parse("abc", Pattern.CANON_EQ)).isEqualTo("[]");
+        Assertions.assertThat(parse("abc", Pattern.MULTILINE | Pattern.DOTALL)).isEqualTo("[abc]");
+        Assertions.assertThat(parse("ab(?i)cd(?-i)ef")).isEqualTo("[(?i)ab, (?i)cd, ef]");
+        Assertions.assertThat(parse("(?iu)abc")).isEqualTo("[(?i)abc]");
+        Assertions.assertThat(parse("ab(?x)c d")).isEqualTo("[]");
+        Assertions.assertThat(parse("ab(?-x)cd", Pattern.COMMENTS)).isEqualTo("[]");
+        Assertions.assertThat(parse("ab(?-i)cd", Pattern.CASE_INSENSITIVE)).isEqualTo("[(?i)ab, cd]");
+        Assertions.assertThat(parse("ab(?s)cd")).isEqualTo("[(?i)ab, (?i)cd]");
+        Assertions.assertThat(parse("ab\\(?")).isEqualTo("[ab]");
+        Assertions.assertThat(parse("ab\\(?i")).isEqualTo("[ab, i]");
+        Assertions.assertThat(parse("ab\\(?icd")).isEqualTo("[ab, icd]");
+        Assertions.assertThat(parse("ab\ud83d\ude00cd", Pattern.CASE_INSENSITIVE)).isEqualTo("[(?i)ab, (?i)cd]");
+    }
+
+    /**
+     * {@link RequiredLiteralParser} class test.
+     */
+    @Test
+    public void getLongestRequiredLiteralTest() {
+        Assertions.assertThat(RequiredLiteralParser.getLongestRequiredLiteral(Pattern.compile(""))).isNull();
+        Assertions.assertThat(RequiredLiteralParser.getLongestRequiredLiteral(Pattern.compile(".*"))).isNull();
+        Assertions.assertThat(RequiredLiteralParser.getLongestRequiredLiteral(Pattern.compile("ab|cd"))).isNull();
+        Assertions.assertThat(RequiredLiteralParser.getLongestRequiredLiteral(Pattern.compile("ab.cde.fgh"))).hasToString("cde");
+        Assertions.assertThat(RequiredLiteralParser.getLongestRequiredLiteral(Pattern.compile("ab.(?i)cde"))).hasToString("(?i)cde");
+    }
+
+    /**
+     * {@link RequiredLiteralParser} class test.
+     */
+    @Test
+    public void requiredLiteralsOccurInMatchesTest() {
+        String[] atoms = {"a", "b", "A", "ab", ".", "[ab]", "(a|b)", "\\.", "\\d", "(?i)", "(?-i)", "\\Qa.\\E", "x"};
+        String[] quantifiers = {"", "", "", "?", "*", "+", "{0,1}", "{2}"};
+        String[] texts = {"", "a", "ab", "aab", "ABAB", "a.b", "xa.bx", "a1b2", "abab.ab", "b.a", "xx", "aAbB1.x"};
+        Random random = new Random(1L);
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder regex = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                regex.append(atoms[random.nextInt(atoms.length)]);
+                if (!regex.toString().endsWith(")")) {
+                    regex.append(quantifiers[random.nextInt(quantifiers.length)]);
+                }
+            }
+            Pattern pattern = Pattern.compile(regex.toString(), random.nextInt(2) * Pattern.CASE_INSENSITIVE);
+            for (String text : texts) {
+                if (pattern.matcher(text).find()) {
+                    for (RequiredLiteral requiredLiteral : new RequiredLiteralParser(pattern).parse()) {
+                        Assertions.assertWithMessage(pattern + " " + text).that(contains(text, requiredLiteral)).isTrue();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link RequiredLiteralParser} class test.
+     */
+    @Test
+    public void requiredLiteralsOccurInEdgeMatchesTest() {
+        String[][] regexTexts = {
+            {"ab|cd", "cd"},
+            {"ab(cd|ef)|gh", "gh"},
+            {"ab[\\c]]cd", "ab\u001dcd"},
+            {"ab(\\c))cd", "abicd"},
+            {"ab[]x]cd", "ab]cd"},
+            {"ab[^]x]cd", "abycd"},
+            {"ab[\\Q]\\E]cd", "ab]cd"},
+            {"ab(c\\Q)(\\Ed)ef", "abc)(def"},
+            {"ab\\(?i", "abi"},
+            {"ab\\(?", "ab"},
+            {"abc{0}de", "abde"},
+            {"ab\\ude00?cd", "abcd"},
+            {"ab\ud83d\ude00?cd", "abcd"},
+            {"ab\ud83d\ude00cd", "AB\ud83d\ude00CD", "2"},
+            {"ab(?x) c", "abc"},
+            {"abc", "ABC", "2"},
+            {"a b c", "abc", "4"},
+            {"a\u030a", "\u00e5", "128"},
+        };
+        for (String[] regexText : regexTexts) {
+            int flags = 0;
+            if (regexText.length > 2) {
+                flags = Integer.parseInt(regexText[2]);
+            }
+            Pattern pattern = Pattern.compile(regexText[0], flags);
+            String text = regexText[1];
+            Assertions.assertWithMessage(pattern + " " + text).that(pattern.matcher(text).find()).isTrue();
+            for (RequiredLiteral requiredLiteral : new RequiredLiteralParser(pattern).parse()) {
+                Assertions.assertWithMessage(pattern + " " + text).that(contains(text, requiredLiteral)).isTrue();
+            }
+        }
+    }
+
+    private String parse(final String regex) {
+        return parse(regex, 0);
+    }
+
+    private String parse(final String regex, final int flags) {
+        return new RequiredLiteralParser(Pattern.compile(regex, flags)).parse().toString();
+    }
+
+    private boolean contains(final String text, final RequiredLiteral requiredLiteral) {
+        String literal = requiredLiteral.getLiteral();
+        for (int i = text.length() - literal.length(); i >= 0; i--) {
+            if (text.regionMatches(requiredLiteral.isIgnoreCase(), i, literal, 0, literal.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,73 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link SingleValueMatcher}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class SingleValueMatcherTest {
+
+    /**
+     * Test class constructor.
+     */
+    public SingleValueMatcherTest() {
+        super();
+    }
+
+    /**
+     * {@link SingleValueMatcher} class test.
+     */
+    @Test
+    public void getValueSetValueTest() {
+        Assertions.assertThat(new SingleValueMatcher("ab").getValueSetValue()).isEqualTo("ab");
+        Assertions.assertThat(new SingleValueMatcher(1).getValueSetValue()).isEqualTo(1);
+    }
+
+    /**
+     * {@link SingleValueMatcher} class test.
+     */
+    @Test
+    public void isMatchTest() {
+        SingleValueMatcher singleValueMatcher1 = new SingleValueMatcher("ab");
+        Assertions.assertThat(singleValueMatcher1.isMatch("ab")).isTrue();
+        Assertions.assertThat(singleValueMatcher1.isMatch("AB")).isFalse();
+        Assertions.assertThat(singleValueMatcher1.isMatch(null)).isFalse();
+
+        SingleValueMatcher singleValueMatcher2 = new SingleValueMatcher(1);
+        Assertions.assertThat(singleValueMatcher2.isMatch(1)).isTrue();
+        Assertions.assertThat(singleValueMatcher2.isMatch(1L)).isFalse();
+    }
+
+    /**
+     * {@link SingleValueMatcher} class test.
+     */
+    @Test
+    public void toStringTest() {
+        Assertions.assertThat(new SingleValueMatcher("ab")).hasToString("ab");
+        Assertions.assertThat(new SingleValueMatcher(1)).hasToString("1");
+    }
+
+}
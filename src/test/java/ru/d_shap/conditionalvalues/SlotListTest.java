@@ -0,0 +1,155 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+import ru.d_shap.assertions.util.ReflectionHelper;
+
+/**
+ * Tests for {@link SlotList}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class SlotListTest {
+
+    /**
+     * Test class constructor.
+     */
+    public SlotListTest() {
+        super();
+    }
+
+    /**
+     * {@link SlotList} class test.
+     */
+    @Test
+    public void createSlotListTest() {
+        SlotList<String> slotList1 = new SlotList<>((List<String>) null);
+        Assertions.assertThat(slotList1).isEmpty();
+
+        SlotList<String> slotList2 = new SlotList<>(DataHelper.createArrayList("a", null, "c"));
+        Assertions.assertThat(slotList2).containsExactlyInOrder("a", null, "c");
+        Assertions.assertThat(slotList2).hasToString("[a, null, c]");
+
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < SlotList.CHUNK_SIZE * 2 + 1; i++) {
+            elements.add(i);
+        }
+        SlotList<Integer> slotList3 = new SlotList<>(elements);
+        Assertions.assertThat(slotList3).hasSize(SlotList.CHUNK_SIZE * 2 + 1);
+        Assertions.assertThat(slotList3.get(SlotList.CHUNK_SIZE)).isEqualTo(SlotList.CHUNK_SIZE);
+        Assertions.assertThat(slotList3.get(SlotList.CHUNK_SIZE * 2)).isEqualTo(SlotList.CHUNK_SIZE * 2);
+        Assertions.assertThat(slotList3).containsExactlyInOrder(elements);
+    }
+
+    /**
+     * {@link SlotList} class test.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBoundsFailTest() {
+        SlotList<String> slotList = new SlotList<>(DataHelper.createArrayList("a"));
+        slotList.get(1);
+    }
+
+    /**
+     * {@link SlotList} class test.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void putSlotOutOfBoundsFailTest() {
+        SlotList<String> slotList = new SlotList<>(DataHelper.createArrayList("a"));
+        slotList.putSlot(2, "c");
+    }
+
+    /**
+     * {@link SlotList} class test.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getNegativeIndexFailTest() {
+        SlotList<String> slotList = new SlotList<>(DataHelper.createArrayList("a"));
+        slotList.get(-1);
+    }
+
+    /**
+     * {@link SlotList} class test.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void putSlotNegativeIndexFailTest() {
+        SlotList<String> slotList = new SlotList<>(DataHelper.createArrayList("a"));
+        slotList.putSlot(-1, "c");
+    }
+
+    /**
+     * {@link SlotList} class test.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void setFailTest() {
+        SlotList<String> slotList = new SlotList<>(DataHelper.createArrayList("a"));
+        slotList.set(0, "b");
+    }
+
+    /**
+     * {@link SlotList} class test.
+     */
+    @Test
+    public void putSlotTest() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < SlotList.CHUNK_SIZE * 2; i++) {
+            elements.add(i);
+        }
+        SlotList<Integer> slotList1 = new SlotList<>(elements);
+        Object[][] chunks1 = (Object[][]) ReflectionHelper.getFieldValue(slotList1, "_chunks");
+
+        SlotList<Integer> slotList2 = new SlotList<>(slotList1);
+        slotList2.putSlot(1, null);
+        slotList2.putSlot(2, -2);
+        slotList2.putSlot(SlotList.CHUNK_SIZE * 2, -3);
+        Object[][] chunks2 = (Object[][]) ReflectionHelper.getFieldValue(slotList2, "_chunks");
+        Assertions.assertThat(slotList2).hasSize(SlotList.CHUNK_SIZE * 2 + 1);
+        Assertions.assertThat(slotList2.get(0)).isEqualTo(0);
+        Assertions.assertThat(slotList2.get(1)).isNull();
+        Assertions.assertThat(slotList2.get(2)).isEqualTo(-2);
+        Assertions.assertThat(slotList2.get(SlotList.CHUNK_SIZE * 2)).isEqualTo(-3);
+        Assertions.assertThat(chunks2).hasLength(3);
+        Assertions.assertThat(chunks2[0]).isNotSameAs(chunks1[0]);
+        Assertions.assertThat(chunks2[1]).isSameAs(chunks1[1]);
+
+        Assertions.assertThat(slotList1).hasSize(SlotList.CHUNK_SIZE * 2);
+        Assertions.assertThat(slotList1.get(1)).isEqualTo(1);
+        Assertions.assertThat(slotList1.get(2)).isEqualTo(2);
+
+        SlotList<Integer> slotList3 = new SlotList<>(slotList2);
+        slotList3.putSlot(SlotList.CHUNK_SIZE, -4);
+        slotList3.putSlot(SlotList.CHUNK_SIZE + 1, -5);
+        Object[][] chunks3 = (Object[][]) ReflectionHelper.getFieldValue(slotList3, "_chunks");
+        Assertions.assertThat(slotList3.get(SlotList.CHUNK_SIZE)).isEqualTo(-4);
+        Assertions.assertThat(slotList3.get(SlotList.CHUNK_SIZE + 1)).isEqualTo(-5);
+        Assertions.assertThat(chunks3[0]).isSameAs(chunks2[0]);
+        Assertions.assertThat(chunks3[1]).isNotSameAs(chunks2[1]);
+        Assertions.assertThat(chunks3[2]).isSameAs(chunks2[2]);
+        Assertions.assertThat(slotList2.get(SlotList.CHUNK_SIZE)).isEqualTo(SlotList.CHUNK_SIZE);
+    }
+
+}
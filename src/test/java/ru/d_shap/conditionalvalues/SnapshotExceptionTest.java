@@ -0,0 +1,63 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link SnapshotException}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class SnapshotExceptionTest {
+
+    /**
+     * Test class constructor.
+     */
+    public SnapshotExceptionTest() {
+        super();
+    }
+
+    /**
+     * {@link SnapshotException} class test.
+     */
+    @Test
+    public void getMessageTest() {
+        Assertions.assertThat(new SnapshotException((String) null)).messageIsNull();
+        Assertions.assertThat(new SnapshotException("message")).hasMessage("message");
+        Assertions.assertThat(new SnapshotException(new IOException("io message"))).hasMessage("io message");
+        Assertions.assertThat(new SnapshotException("message", new IOException("io message"))).hasMessage("message");
+    }
+
+    /**
+     * {@link SnapshotException} class test.
+     */
+    @Test
+    public void getCauseTest() {
+        Assertions.assertThat(new SnapshotException("message")).causeIsNull();
+        Assertions.assertThat(new SnapshotException(new IOException("io message"))).hasCause(IOException.class);
+        Assertions.assertThat(new SnapshotException("message", new IOException("io message"))).hasCause(IOException.class);
+    }
+
+}
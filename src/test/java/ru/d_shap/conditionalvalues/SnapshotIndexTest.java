@@ -0,0 +1,78 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.conditionalvalues.predicate.AllValuesMatchTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.EqualsPredicate;
+import ru.d_shap.conditionalvalues.predicate.StringEqualsIgnoreCasePredicate;
+
+/**
+ * Tests for {@link SnapshotIndex}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class SnapshotIndexTest {
+
+    /**
+     * Test class constructor.
+     */
+    public SnapshotIndexTest() {
+        super();
+    }
+
+    /**
+     * {@link SnapshotIndex} class test.
+     */
+    @Test
+    public void isCompatibleTest() {
+        Map<String, String> predicateClassNames = new HashMap<>();
+        SnapshotIndex<String> snapshotIndex1 = createSnapshotIndex(AnyValueMatchesTuplePredicate.class.getName(), EqualsPredicate.class.getName(), predicateClassNames);
+        Assertions.assertThat(snapshotIndex1.isCompatible(null, null, null)).isTrue();
+        Assertions.assertThat(snapshotIndex1.isCompatible(new AnyValueMatchesTuplePredicate(), new EqualsPredicate(), new HashMap<String, Predicate>())).isTrue();
+        Assertions.assertThat(snapshotIndex1.isCompatible(new AllValuesMatchTuplePredicate(), null, null)).isFalse();
+        Assertions.assertThat(snapshotIndex1.isCompatible(null, new StringEqualsIgnoreCasePredicate(), null)).isFalse();
+
+        Map<String, Predicate> predicates = new HashMap<>();
+        predicates.put("cond1", new StringEqualsIgnoreCasePredicate());
+        predicates.put("cond2", null);
+        predicates.put(null, new EqualsPredicate());
+        Assertions.assertThat(snapshotIndex1.isCompatible(null, null, predicates)).isFalse();
+
+        predicateClassNames.put("cond1", StringEqualsIgnoreCasePredicate.class.getName());
+        SnapshotIndex<String> snapshotIndex2 = createSnapshotIndex(AnyValueMatchesTuplePredicate.class.getName(), EqualsPredicate.class.getName(), predicateClassNames);
+        Assertions.assertThat(snapshotIndex2.isCompatible(null, null, predicates)).isTrue();
+        Assertions.assertThat(snapshotIndex2.isCompatible(null, null, null)).isFalse();
+
+        SnapshotIndex<String> snapshotIndex3 = createSnapshotIndex(null, null, predicateClassNames);
+        Assertions.assertThat(snapshotIndex3.isCompatible(null, null, predicates)).isFalse();
+    }
+
+    private SnapshotIndex<String> createSnapshotIndex(final String tuplePredicateClassName, final String predicateClassName, final Map<String, String> predicateClassNames) {
+        return new SnapshotIndex<>(tuplePredicateClassName, predicateClassName, new HashMap<>(predicateClassNames), null, 0, 0, new int[0], null, null, null);
+    }
+
+}
@@ -0,0 +1,298 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.ReflectionHelper;
+import ru.d_shap.conditionalvalues.codec.IntegerValueCodec;
+import ru.d_shap.conditionalvalues.codec.StringValueCodec;
+import ru.d_shap.conditionalvalues.predicate.StringEqualsIgnoreCasePredicate;
+
+/**
+ * Tests for {@link SnapshotReader}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class SnapshotReaderTest {
+
+    /**
+     * Test class constructor.
+     */
+    public SnapshotReaderTest() {
+        super();
+    }
+
+    /**
+     * {@link SnapshotReader} class test.
+     */
+    @Test
+    public void readTest() {
+        ByteBuffer buffer = createHeader(2, StringValueCodec.class.getName(), IntegerValueCodec.class.getName(), "cond", StringEqualsIgnoreCasePredicate.class.getName(), "id");
+        ByteBuffer rows = ByteBuffer.allocate(1024);
+        rows.putInt(2).putInt(1).putInt(0).putInt(1).putInt(0).putInt(2);
+        putValue(rows, 0, "val1".getBytes(StandardCharsets.UTF_8));
+        putValue(rows, 1, ByteBuffer.allocate(4).putInt(5).array());
+        rows.putInt(1);
+        putValue(rows, 1, ByteBuffer.allocate(4).putInt(7).array());
+        putSections(buffer, rows);
+        buffer.flip();
+
+        ConditionalValues<Integer> conditionalValues = new SnapshotReader<Integer>(createValueCodecs(), buffer).read(ConditionalValuesBuilder.<Integer>newInstance());
+        Assertions.assertThat(ReflectionHelper.getFieldValue(conditionalValues, "_valueSets")).isNotInstanceOf(SnapshotValueSetList.class);
+        Assertions.assertThat(conditionalValues.getValueSets()).hasSize(1);
+        ValueSet<Integer> valueSet = conditionalValues.getValueSets().get(0);
+        Assertions.assertThat(valueSet.getId()).isEqualTo("id");
+        Assertions.assertThat(valueSet.getPredicate()).isInstanceOf(StringEqualsIgnoreCasePredicate.class);
+        Assertions.assertThat(valueSet.getPredicates()).isEmpty();
+        Assertions.assertThat(valueSet.getAllConditionValues("cond")).containsExactly("val1", 5);
+        Assertions.assertThat(valueSet.getValues()).containsExactly(7);
+    }
+
+    /**
+     * {@link SnapshotReader} class test.
+     */
+    @Test
+    public void readWrongMagicFailTest() {
+        ByteBuffer buffer = ByteBuffer.allocate(8).putInt(1).putInt(SnapshotWriter.FORMAT_VERSION);
+        buffer.flip();
+        assertReadFail(buffer, "Wrong snapshot format");
+        assertReadFail(ByteBuffer.allocate(4), "Wrong snapshot format");
+    }
+
+    /**
+     * {@link SnapshotReader} class test.
+     */
+    @Test
+    public void readWrongFormatVersionFailTest() {
+        ByteBuffer buffer = ByteBuffer.allocate(8).putInt(SnapshotWriter.MAGIC).putInt(SnapshotWriter.FORMAT_VERSION + 1);
+        buffer.flip();
+        assertReadFail(buffer, "Unsupported snapshot format version: 3");
+    }
+
+    /**
+     * {@link SnapshotReader} class test.
+     */
+    @Test
+    public void readWrongValueCodecFailTest() {
+        ByteBuffer buffer = createHeader(2, IntegerValueCodec.class.getName(), StringValueCodec.class.getName());
+        buffer.flip();
+        assertReadFail(buffer, "Wrong value codec, expected " + IntegerValueCodec.class.getName() + ", but was " + StringValueCodec.class.getName());
+    }
+
+    /**
+     * {@link SnapshotReader} class test.
+     */
+    @Test
+    public void readWrongValueCodecIndexFailTest() {
+        ByteBuffer buffer = createHeader(2, StringValueCodec.class.getName(), IntegerValueCodec.class.getName(), "cond");
+        ByteBuffer rows = ByteBuffer.allocate(1024);
+        rows.putInt(-1).putInt(-1).putInt(0).putInt(1).putInt(0).putInt(1);
+        putValue(rows, 2, new byte[0]);
+        putSections(buffer, rows);
+        buffer.flip();
+        assertReadFail(buffer, "Wrong value codec index: 2");
+
+        ByteBuffer negativeBuffer = createHeader(2, StringValueCodec.class.getName(), IntegerValueCodec.class.getName(), "cond");
+        ByteBuffer negativeRows = ByteBuffer.allocate(1024);
+        negativeRows.putInt(-1).putInt(-1).putInt(0).putInt(1).putInt(0).putInt(1);
+        putValue(negativeRows, -1, new byte[0]);
+        putSections(negativeBuffer, negativeRows);
+        negativeBuffer.flip();
+        assertReadFail(negativeBuffer, "Wrong value codec index: -1");
+    }
+
+    /**
+     * {@link SnapshotReader} class test.
+     */
+    @Test
+    public void readWrongStringReferenceFailTest() {
+        ByteBuffer buffer = createHeader(2, StringValueCodec.class.getName(), IntegerValueCodec.class.getName(), "cond");
+        ByteBuffer rows = ByteBuffer.allocate(1024);
+        rows.putInt(1);
+        putSections(buffer, rows);
+        buffer.flip();
+        assertReadFail(buffer, "Wrong string reference: 1");
+
+        ByteBuffer negativeBuffer = createHeader(2, StringValueCodec.class.getName(), IntegerValueCodec.class.getName(), "cond");
+        ByteBuffer negativeRows = ByteBuffer.allocate(1024);
+        negativeRows.putInt(-2);
+        putSections(negativeBuffer, negativeRows);
+        negativeBuffer.flip();
+        assertReadFail(negativeBuffer, "Wrong string reference: -2");
+    }
+
+    /**
+     * {@link SnapshotReader} class test.
+     */
+    @Test
+    public void readWrongPredicateFailTest() {
+        ByteBuffer buffer = createHeader(2, StringValueCodec.class.getName(), IntegerValueCodec.class.getName(), "java.lang.String", "no.such.Predicate");
+        ByteBuffer rows = ByteBuffer.allocate(1024);
+        rows.putInt(-1).putInt(0);
+        putSections(buffer, rows);
+        buffer.flip();
+        try {
+            new SnapshotReader<Integer>(createValueCodecs(), buffer).read(ConditionalValuesBuilder.<Integer>newInstance());
+            Assertions.fail("SnapshotReader test fail");
+        } catch (SnapshotException ex) {
+            Assertions.assertThat(ex).hasCause(ClassCastException.class);
+        }
+    }
+
+    /**
+     * {@link SnapshotReader} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void readIndexTest() throws IOException {
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Integer>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.setId("id1").addCondition("cond1", "val1").addValue(1).build());
+        valueSets.add(valueSetBuilder.setId("id2").addCondition("cond1", "val1").addCondition("cond2", 2).addValue(2).build());
+        valueSets.add(valueSetBuilder.setId("id3").setPredicate(new StringEqualsIgnoreCasePredicate()).addCondition("cond3", "VAL3").addValue(3).build());
+        ConditionalValues<Integer> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(byteArrayOutputStream)) {
+            new SnapshotWriter<Integer>(createValueCodecs()).write(conditionalValues, output);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(byteArrayOutputStream.toByteArray());
+
+        ConditionalValues<Integer> snapshotConditionalValues = new SnapshotReader<Integer>(createValueCodecs(), buffer).read(ConditionalValuesBuilder.<Integer>newInstance());
+        Assertions.assertThat(ReflectionHelper.getFieldValue(snapshotConditionalValues, "_valueSets")).isInstanceOf(SnapshotValueSetList.class);
+        Assertions.assertThat(snapshotConditionalValues.getConditionNameTable()).hasToString(conditionalValues.getConditionNameTable().toString());
+        Assertions.assertThat(snapshotConditionalValues.getScannedOrdinals()).containsExactlyInOrder(2);
+        Assertions.assertThat(snapshotConditionalValues.getEqualsIndex()).hasToString(conditionalValues.getEqualsIndex().toString());
+        Assertions.assertThat(snapshotConditionalValues.getSpecificityLattice()).hasToString(conditionalValues.getSpecificityLattice().toString());
+        Assertions.assertThat(snapshotConditionalValues.getMinimizationReport().getValueSetCount()).isEqualTo(3);
+
+        ConditionSetBuilder conditionSetBuilder = ConditionSetBuilder.newInstance();
+        Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").build()).getValues()).containsExactlyInOrder(1);
+        Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond1", "val1").addCondition("cond2", 2).build()).getValues()).containsExactlyInOrder(2);
+        Assertions.assertThat(snapshotConditionalValues.lookup(conditionSetBuilder.addCondition("cond3", "val3").build()).getValues()).containsExactlyInOrder(3);
+    }
+
+    /**
+     * {@link SnapshotReader} class test.
+     */
+    @Test
+    public void readWrongConditionIdFailTest() {
+        ByteBuffer buffer = createHeader(2, StringValueCodec.class.getName(), IntegerValueCodec.class.getName(), "cond");
+        buffer.putInt(-1).putInt(-1).putInt(0);
+        buffer.putInt(0).putInt(0).putInt(0);
+        buffer.putInt(1).putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(1).putInt(1).putInt(1);
+        buffer.flip();
+        assertReadFail(buffer, "Wrong condition ID: 1");
+
+        ByteBuffer negativeBuffer = createHeader(2, StringValueCodec.class.getName(), IntegerValueCodec.class.getName(), "cond");
+        negativeBuffer.putInt(-1).putInt(-1).putInt(0);
+        negativeBuffer.putInt(0).putInt(0).putInt(0);
+        negativeBuffer.putInt(1).putInt(0);
+        negativeBuffer.putInt(0);
+        negativeBuffer.putInt(1).putInt(1).putInt(-1);
+        negativeBuffer.flip();
+        assertReadFail(negativeBuffer, "Wrong condition ID: -1");
+    }
+
+    /**
+     * {@link SnapshotReader} class test.
+     */
+    @Test
+    public void readWrongRowLengthFailTest() {
+        ByteBuffer buffer = createHeader(2, StringValueCodec.class.getName(), IntegerValueCodec.class.getName());
+        putSections(buffer, ByteBuffer.allocate(0));
+        buffer.position(buffer.position() - 4);
+        buffer.putInt(4);
+        buffer.flip();
+        assertReadFail(buffer, "Wrong snapshot format");
+
+        ByteBuffer negativeBuffer = createHeader(2, StringValueCodec.class.getName(), IntegerValueCodec.class.getName());
+        putSections(negativeBuffer, ByteBuffer.allocate(0));
+        negativeBuffer.position(negativeBuffer.position() - 4);
+        negativeBuffer.putInt(-1);
+        negativeBuffer.flip();
+        assertReadFail(negativeBuffer, "Wrong snapshot format");
+    }
+
+    private ByteBuffer createHeader(final int valueCodecCount, final String... strings) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        buffer.putInt(SnapshotWriter.MAGIC).putInt(SnapshotWriter.FORMAT_VERSION);
+        buffer.putInt(valueCodecCount);
+        for (int i = 0; i < valueCodecCount; i++) {
+            putString(buffer, strings[i]);
+        }
+        buffer.putInt(strings.length - valueCodecCount);
+        for (int i = valueCodecCount; i < strings.length; i++) {
+            putString(buffer, strings[i]);
+        }
+        return buffer;
+    }
+
+    private void putSections(final ByteBuffer buffer, final ByteBuffer rows) {
+        rows.flip();
+        buffer.putInt(SnapshotWriter.NULL_REFERENCE).putInt(SnapshotWriter.NULL_REFERENCE).putInt(0);
+        buffer.putInt(1).putInt(0);
+        buffer.putInt(1).putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putInt(rows.remaining()).put(rows);
+    }
+
+    private void putString(final ByteBuffer buffer, final String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private void putValue(final ByteBuffer buffer, final int valueCodecIndex, final byte[] bytes) {
+        buffer.put((byte) valueCodecIndex).putInt(bytes.length).put(bytes);
+    }
+
+    private List<ValueCodec<?>> createValueCodecs() {
+        List<ValueCodec<?>> result = new ArrayList<>();
+        result.add(new StringValueCodec());
+        result.add(new IntegerValueCodec());
+        return result;
+    }
+
+    private void assertReadFail(final ByteBuffer buffer, final String message) {
+        try {
+            new SnapshotReader<Integer>(createValueCodecs(), buffer).read(ConditionalValuesBuilder.<Integer>newInstance());
+            Assertions.fail("SnapshotReader test fail");
+        } catch (SnapshotException ex) {
+            Assertions.assertThat(ex).hasMessage(message);
+        }
+    }
+
+}
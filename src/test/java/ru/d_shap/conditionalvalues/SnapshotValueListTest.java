@@ -0,0 +1,75 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+import ru.d_shap.assertions.util.ReflectionHelper;
+import ru.d_shap.conditionalvalues.misc.NaturalOrderComparator;
+
+/**
+ * Tests for {@link SnapshotValueList}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class SnapshotValueListTest {
+
+    /**
+     * Test class constructor.
+     */
+    public SnapshotValueListTest() {
+        super();
+    }
+
+    /**
+     * {@link SnapshotValueList} class test.
+     */
+    @Test
+    public void getTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.addCondition("cond", "val1").addValue("value3").addValue("value1").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.addCondition("cond", "val2").addValue("value2").build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, null, valueSet2);
+
+        SnapshotValueList<String> snapshotValueList1 = new SnapshotValueList<>(null, valueSets, 3);
+        Assertions.assertThat(snapshotValueList1.size()).isEqualTo(3);
+        Assertions.assertThat(ReflectionHelper.getFieldValue(snapshotValueList1, "_values")).isNull();
+        Assertions.assertThat(snapshotValueList1).containsExactlyInOrder("value3", "value1", "value2");
+        Assertions.assertThat(ReflectionHelper.getFieldValue(snapshotValueList1, "_values")).isNotNull();
+
+        SnapshotValueList<String> snapshotValueList2 = new SnapshotValueList<>(new NaturalOrderComparator<String>(), valueSets, 3);
+        Assertions.assertThat(snapshotValueList2.get(0)).isEqualTo("value1");
+        Assertions.assertThat(snapshotValueList2).containsExactlyInOrder("value1", "value2", "value3");
+    }
+
+    /**
+     * {@link SnapshotValueList} class test.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBoundsFailTest() {
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList();
+        new SnapshotValueList<>(null, valueSets, 0).get(0);
+    }
+
+}
@@ -0,0 +1,146 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.ReflectionHelper;
+import ru.d_shap.conditionalvalues.codec.StringValueCodec;
+
+/**
+ * Tests for {@link SnapshotValueSetList}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class SnapshotValueSetListTest {
+
+    /**
+     * Test class constructor.
+     */
+    public SnapshotValueSetListTest() {
+        super();
+    }
+
+    /**
+     * {@link SnapshotValueSetList} class test.
+     */
+    @Test
+    public void getTest() {
+        SnapshotValueSetList<String> snapshotValueSetList = createSnapshotValueSetList(0, SnapshotWriter.NULL_REFERENCE);
+        Assertions.assertThat(snapshotValueSetList).hasSize(2);
+        AtomicReferenceArray<?> decodedValueSets = (AtomicReferenceArray<?>) ReflectionHelper.getFieldValue(snapshotValueSetList, "_valueSets");
+        Assertions.assertThat(decodedValueSets.get(0)).isNull();
+
+        ValueSet<String> valueSet = snapshotValueSetList.get(0);
+        Assertions.assertThat(valueSet.getId()).isEqualTo("id1");
+        Assertions.assertThat(valueSet.getAllConditionValues("cond")).containsExactly("val");
+        Assertions.assertThat(valueSet.getValues()).containsExactlyInOrder("value");
+        Assertions.assertThat(decodedValueSets.get(0)).isSameAs(valueSet);
+        Assertions.assertThat(snapshotValueSetList.get(0)).isSameAs(valueSet);
+        Assertions.assertThat(snapshotValueSetList.get(1)).isNull();
+    }
+
+    /**
+     * {@link SnapshotValueSetList} class test.
+     *
+     * @throws InterruptedException exception in test.
+     */
+    @Test
+    public void getConcurrentTest() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            final SnapshotValueSetList<String> snapshotValueSetList = createSnapshotValueSetList(0);
+            final AtomicReferenceArray<ValueSet<String>> valueSets = new AtomicReferenceArray<>(4);
+            Thread[] threads = new Thread[valueSets.length()];
+            for (int j = 0; j < threads.length; j++) {
+                final int index = j;
+                threads[j] = new Thread() {
+
+                    @Override
+                    public void run() {
+                        valueSets.set(index, snapshotValueSetList.get(0));
+                    }
+
+                };
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            for (int j = 0; j < valueSets.length(); j++) {
+                Assertions.assertThat(valueSets.get(j)).isSameAs(snapshotValueSetList.get(0));
+            }
+        }
+    }
+
+    /**
+     * {@link SnapshotValueSetList} class test.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBoundsFailTest() {
+        createSnapshotValueSetList(0).get(1);
+    }
+
+    /**
+     * {@link SnapshotValueSetList} class test.
+     */
+    @Test
+    public void getWrongOffsetFailTest() {
+        try {
+            createSnapshotValueSetList(1000).get(0);
+            Assertions.fail("SnapshotValueSetList test fail");
+        } catch (SnapshotException ex) {
+            Assertions.assertThat(ex).hasCause(IllegalArgumentException.class);
+        }
+        try {
+            createSnapshotValueSetList(44).get(0);
+            Assertions.fail("SnapshotValueSetList test fail");
+        } catch (SnapshotException ex) {
+            Assertions.assertThat(ex).hasCause(BufferUnderflowException.class);
+        }
+    }
+
+    private SnapshotValueSetList<String> createSnapshotValueSetList(final int... offsets) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        buffer.putInt(0).putInt(SnapshotWriter.NULL_REFERENCE).putInt(0).putInt(1).putInt(1).putInt(1);
+        putValue(buffer, "val");
+        buffer.putInt(1);
+        putValue(buffer, "value");
+        buffer.flip();
+        List<ValueCodec<?>> valueCodecs = new ArrayList<>();
+        valueCodecs.add(new StringValueCodec());
+        return new SnapshotValueSetList<>(valueCodecs, buffer, new String[]{"id1", "cond"}, offsets);
+    }
+
+    private void putValue(final ByteBuffer buffer, final String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.put((byte) 0).putInt(bytes.length).put(bytes);
+    }
+
+}
@@ -0,0 +1,199 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.conditionalvalues.codec.IntegerValueCodec;
+import ru.d_shap.conditionalvalues.codec.StringValueCodec;
+import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.EqualsPredicate;
+
+/**
+ * Tests for {@link SnapshotWriter}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class SnapshotWriterTest {
+
+    /**
+     * Test class constructor.
+     */
+    public SnapshotWriterTest() {
+        super();
+    }
+
+    /**
+     * {@link SnapshotWriter} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeTest() throws IOException {
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Integer>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.setId("cond").addCondition("cond", "val").addValue(1).build());
+        valueSets.add(valueSetBuilder.addCondition("cond", 2).addValue(2).build());
+        ConditionalValues<Integer> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+
+        List<ValueCodec<?>> valueCodecs = new ArrayList<>();
+        valueCodecs.add(new StringValueCodec());
+        valueCodecs.add(new IntegerValueCodec());
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(byteArrayOutputStream)) {
+            new SnapshotWriter<Integer>(valueCodecs).write(conditionalValues, output);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(byteArrayOutputStream.toByteArray());
+        Assertions.assertThat(buffer.getInt()).isEqualTo(SnapshotWriter.MAGIC);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(SnapshotWriter.FORMAT_VERSION);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(2);
+        Assertions.assertThat(readString(buffer)).isEqualTo(StringValueCodec.class.getName());
+        Assertions.assertThat(readString(buffer)).isEqualTo(IntegerValueCodec.class.getName());
+        Assertions.assertThat(buffer.getInt()).isEqualTo(3);
+        Assertions.assertThat(readString(buffer)).isEqualTo(AnyValueMatchesTuplePredicate.class.getName());
+        Assertions.assertThat(readString(buffer)).isEqualTo(EqualsPredicate.class.getName());
+        Assertions.assertThat(readString(buffer)).isEqualTo("cond");
+
+        Assertions.assertThat(buffer.getInt()).isEqualTo(0);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(0);
+        Assertions.assertThat(readInts(buffer)).containsExactlyInOrder(0, 45);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(2);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(2);
+        Assertions.assertThat(readInts(buffer)).containsExactlyInOrder(2);
+        Assertions.assertThat(readInts(buffer)).isEmpty();
+
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+        Assertions.assertThat(readInts(buffer)).containsExactlyInOrder(0);
+        Assertions.assertThat(readInts(buffer)).containsExactlyInOrder(0, 1);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(2);
+        Map<Byte, int[]> postings = new HashMap<>();
+        for (int i = 0; i < 2; i++) {
+            byte valueCodecIndex = buffer.get();
+            int length = buffer.getInt();
+            buffer.position(buffer.position() + length);
+            postings.put(valueCodecIndex, readInts(buffer));
+        }
+        Assertions.assertThat(postings.get((byte) 0)).containsExactlyInOrder(0);
+        Assertions.assertThat(postings.get((byte) 1)).containsExactlyInOrder(1);
+
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+        Assertions.assertThat(readInts(buffer)).containsExactlyInOrder(0);
+        Assertions.assertThat(readInts(buffer)).containsExactlyInOrder(0, 0);
+        Assertions.assertThat(readInts(buffer)).isEmpty();
+        Assertions.assertThat(buffer.getInt()).isEqualTo(91);
+
+        Assertions.assertThat(buffer.getInt()).isEqualTo(2);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(SnapshotWriter.NULL_REFERENCE);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(0);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(2);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+        Assertions.assertThat(buffer.get()).isEqualTo((byte) 0);
+        Assertions.assertThat(readString(buffer)).isEqualTo("val");
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+        Assertions.assertThat(buffer.get()).isEqualTo((byte) 1);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(4);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+
+        Assertions.assertThat(buffer.getInt()).isEqualTo(SnapshotWriter.NULL_REFERENCE);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(SnapshotWriter.NULL_REFERENCE);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(0);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(2);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+        Assertions.assertThat(buffer.get()).isEqualTo((byte) 1);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(4);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(2);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+        Assertions.assertThat(buffer.get()).isEqualTo((byte) 1);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(4);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(2);
+        Assertions.assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    /**
+     * {@link SnapshotWriter} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeRemovedValueSetTest() throws IOException {
+        ValueSetBuilder<Integer> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<Integer>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.setId("id1").addCondition("cond", "val1").addValue(1).build());
+        valueSets.add(valueSetBuilder.setId("id2").addCondition("cond", "val2").addValue(2).build());
+        MutableConditionalValues<Integer> mutableConditionalValues = new MutableConditionalValues<>(null, null, null, null, valueSets, ConditionalValuesOptions.DEFAULT);
+        mutableConditionalValues.remove("id1");
+
+        List<ValueCodec<?>> valueCodecs = new ArrayList<>();
+        valueCodecs.add(new StringValueCodec());
+        valueCodecs.add(new IntegerValueCodec());
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(byteArrayOutputStream)) {
+            new SnapshotWriter<Integer>(valueCodecs).write(mutableConditionalValues.getSnapshot(), output);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(byteArrayOutputStream.toByteArray());
+        buffer.position(8);
+        skipStrings(buffer);
+        skipStrings(buffer);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(0);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(0);
+        Assertions.assertThat(readInts(buffer)).containsExactlyInOrder(SnapshotWriter.NULL_REFERENCE, 0);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+        Assertions.assertThat(buffer.getInt()).isEqualTo(1);
+    }
+
+    private void skipStrings(final ByteBuffer buffer) {
+        int stringCount = buffer.getInt();
+        for (int i = 0; i < stringCount; i++) {
+            int length = buffer.getInt();
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    private int[] readInts(final ByteBuffer buffer) {
+        int[] result = new int[buffer.getInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = buffer.getInt();
+        }
+        return result;
+    }
+
+    private String readString(final ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes);
+    }
+
+}
@@ -0,0 +1,318 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link SpecificityLattice}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class SpecificityLatticeTest {
+
+    /**
+     * Test class constructor.
+     */
+    public SpecificityLatticeTest() {
+        super();
+    }
+
+    /**
+     * {@link SpecificityLattice} class test.
+     */
+    @Test
+    public void createSpecificityLatticeTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+
+        SpecificityLattice specificityLattice1 = new SpecificityLattice(new ConditionNameTable((List<ValueSet<String>>) null), null);
+        Assertions.assertThat(specificityLattice1.getShapeCount()).isEqualTo(0);
+
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond2", "val21");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val22");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond3", "val31");
+        ValueSet<String> valueSet4 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3, valueSet4);
+        SpecificityLattice specificityLattice2 = new SpecificityLattice(new ConditionNameTable(valueSets), valueSets);
+        Assertions.assertThat(specificityLattice2.getShapeCount()).isEqualTo(4);
+        Assertions.assertThat(specificityLattice2.getShapeId(0)).isEqualTo(0);
+        Assertions.assertThat(specificityLattice2.getShapeId(1)).isEqualTo(1);
+        Assertions.assertThat(specificityLattice2.getShapeId(2)).isEqualTo(2);
+        Assertions.assertThat(specificityLattice2.getShapeId(3)).isEqualTo(2);
+        Assertions.assertThat(specificityLattice2.getShapeId(4)).isEqualTo(3);
+        Assertions.assertThat(specificityLattice2.getShapeMask(2)).hasToString("{0, 1}");
+        Assertions.assertThat(specificityLattice2.getDominatingShapeIds(0)).containsExactlyInOrder(1, 2, 3);
+        Assertions.assertThat(specificityLattice2.getDominatingShapeIds(1)).containsExactlyInOrder(2);
+        Assertions.assertThat(specificityLattice2.getDominatingShapeIds(2)).containsExactlyInOrder();
+        Assertions.assertThat(specificityLattice2.getDominatingShapeIds(3)).containsExactlyInOrder();
+        Assertions.assertThat(specificityLattice2).hasToString("[{}, {1}, {0, 1}, {2}]");
+    }
+
+    /**
+     * {@link SpecificityLattice} class test.
+     */
+    @Test
+    public void removeLessSpecificOrdinalsTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond2", "val21");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val22");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond3", "val31");
+        ValueSet<String> valueSet4 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3, valueSet4);
+        SpecificityLattice specificityLattice = new SpecificityLattice(new ConditionNameTable(valueSets), valueSets);
+
+        IntList ordinals1 = new IntList();
+        specificityLattice.removeLessSpecificOrdinals(ordinals1);
+        Assertions.assertThat(ordinals1.toArray()).containsExactlyInOrder();
+
+        IntList ordinals2 = new IntList();
+        ordinals2.addAll(new int[]{0, 1});
+        specificityLattice.removeLessSpecificOrdinals(ordinals2);
+        Assertions.assertThat(ordinals2.toArray()).containsExactlyInOrder(1);
+
+        IntList ordinals3 = new IntList();
+        ordinals3.addAll(new int[]{0, 1, 2, 3});
+        specificityLattice.removeLessSpecificOrdinals(ordinals3);
+        Assertions.assertThat(ordinals3.toArray()).containsExactlyInOrder(2, 3);
+
+        IntList ordinals4 = new IntList();
+        ordinals4.addAll(new int[]{0, 1, 3, 4});
+        specificityLattice.removeLessSpecificOrdinals(ordinals4);
+        Assertions.assertThat(ordinals4.toArray()).containsExactlyInOrder(3, 4);
+
+        IntList ordinals5 = new IntList();
+        ordinals5.addAll(new int[]{0, 4});
+        specificityLattice.removeLessSpecificOrdinals(ordinals5);
+        Assertions.assertThat(ordinals5.toArray()).containsExactlyInOrder(4);
+    }
+
+    /**
+     * {@link SpecificityLattice} class test.
+     */
+    @Test
+    public void createDominatingShapeIdsTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond2", "val21");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond3", "val31");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3);
+        SpecificityLattice specificityLattice = new SpecificityLattice(new ConditionNameTable(valueSets), valueSets);
+
+        int[][] dominatingShapeIds1 = specificityLattice.createDominatingShapeIds(specificityLattice.createConditionNameMask(DataHelper.createHashSet("cond1", "cond2", "cond3")));
+        Assertions.assertThat(dominatingShapeIds1).hasLength(4);
+        Assertions.assertThat(dominatingShapeIds1[0]).containsExactlyInOrder(1, 2, 3);
+        Assertions.assertThat(dominatingShapeIds1[1]).containsExactlyInOrder(2);
+        Assertions.assertThat(dominatingShapeIds1[2]).containsExactlyInOrder();
+        Assertions.assertThat(dominatingShapeIds1[3]).containsExactlyInOrder();
+
+        int[][] dominatingShapeIds2 = specificityLattice.createDominatingShapeIds(specificityLattice.createConditionNameMask(DataHelper.createHashSet("cond2", "cond3")));
+        Assertions.assertThat(dominatingShapeIds2).hasLength(4);
+        Assertions.assertThat(dominatingShapeIds2[0]).containsExactlyInOrder(1, 3);
+        Assertions.assertThat(dominatingShapeIds2[1]).containsExactlyInOrder();
+        Assertions.assertThat(dominatingShapeIds2[2]).containsExactlyInOrder();
+        Assertions.assertThat(dominatingShapeIds2[3]).containsExactlyInOrder();
+
+        int[][] dominatingShapeIds3 = specificityLattice.createDominatingShapeIds(specificityLattice.createConditionNameMask(DataHelper.<String>createHashSet()));
+        Assertions.assertThat(dominatingShapeIds3).hasLength(4);
+        Assertions.assertThat(dominatingShapeIds3[0]).containsExactlyInOrder();
+        Assertions.assertThat(dominatingShapeIds3[1]).containsExactlyInOrder();
+
+        IntList ordinals = new IntList();
+        ordinals.addAll(new int[]{0, 1, 3});
+        specificityLattice.removeLessSpecificOrdinals(ordinals, new byte[4], new IntList(), dominatingShapeIds2);
+        Assertions.assertThat(ordinals.toArray()).containsExactlyInOrder(1, 3);
+    }
+
+    /**
+     * {@link SpecificityLattice} class test.
+     */
+    @Test
+    public void removeLessSpecificOrdinalsRandomTest() {
+        Random random = new Random(1L);
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 70; j++) {
+                if (random.nextInt(20) == 0) {
+                    valueSetBuilder.addCondition("cond" + j, "val");
+                }
+            }
+            valueSets.add(valueSetBuilder.build());
+        }
+        SpecificityLattice specificityLattice = new SpecificityLattice(new ConditionNameTable(valueSets), valueSets);
+        byte[] shapeStates = new byte[specificityLattice.getShapeCount()];
+        IntList matchedShapeIds = new IntList();
+
+        for (int i = 0; i < 100; i++) {
+            IntList ordinals = new IntList();
+            for (int j = 0; j < valueSets.size(); j++) {
+                if (random.nextInt(3) == 0) {
+                    ordinals.add(j);
+                }
+            }
+            List<Integer> expected = new ArrayList<>();
+            for (int j = 0; j < ordinals.size(); j++) {
+                if (!isDominated(valueSets, ordinals, ordinals.get(j))) {
+                    expected.add(ordinals.get(j));
+                }
+            }
+            if (i % 2 == 0) {
+                specificityLattice.removeLessSpecificOrdinals(ordinals);
+            } else {
+                specificityLattice.removeLessSpecificOrdinals(ordinals, shapeStates, matchedShapeIds);
+                Assertions.assertThat(shapeStates).containsExactlyInOrder(new byte[shapeStates.length]);
+            }
+            Assertions.assertThat(ordinals.toArray()).containsExactlyInOrder(expected);
+        }
+    }
+
+    private boolean isDominated(final List<ValueSet<String>> valueSets, final IntList ordinals, final int ordinal) {
+        for (int i = 0; i < ordinals.size(); i++) {
+            if (valueSets.get(ordinals.get(i)).isMoreSpecificValueSet(valueSets.get(ordinal))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@link SpecificityLattice} class test.
+     */
+    @Test
+    public void deriveSpecificityLatticeTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond2", "val21");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond3", "val31");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond2", "val22");
+        valueSetBuilder.addCondition("cond3", "val31");
+        ValueSet<String> valueSet4 = valueSetBuilder.build();
+        List<ValueSet<String>> previousValueSets = DataHelper.createArrayList(valueSet0, valueSet1, valueSet2);
+        ConditionNameTable conditionNameTable = new ConditionNameTable(DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3, valueSet4));
+        SpecificityLattice previousSpecificityLattice = new SpecificityLattice(conditionNameTable, previousValueSets);
+        Assertions.assertThat(previousSpecificityLattice).hasToString("[{}, {1}, {0, 1}]");
+
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet0, valueSet1, null, valueSet3, valueSet4);
+        BitSet changedOrdinals = new BitSet();
+        changedOrdinals.set(2, 5);
+        SpecificityLattice specificityLattice = new SpecificityLattice(previousSpecificityLattice, valueSets, changedOrdinals);
+        Assertions.assertThat(specificityLattice.getShapeCount()).isEqualTo(5);
+        Assertions.assertThat(specificityLattice).hasToString("[{}, {1}, {0, 1}, {2}, {1, 2}]");
+        Assertions.assertThat(specificityLattice.getShapeId(0)).isEqualTo(0);
+        Assertions.assertThat(specificityLattice.getShapeId(1)).isEqualTo(1);
+        Assertions.assertThat(specificityLattice.getShapeId(2)).isEqualTo(-1);
+        Assertions.assertThat(specificityLattice.getShapeId(3)).isEqualTo(3);
+        Assertions.assertThat(specificityLattice.getShapeId(4)).isEqualTo(4);
+        Assertions.assertThat(specificityLattice.getDominatingShapeIds(0)).containsExactlyInOrder(1, 2, 3, 4);
+        Assertions.assertThat(specificityLattice.getDominatingShapeIds(1)).containsExactlyInOrder(2, 4);
+        Assertions.assertThat(specificityLattice.getDominatingShapeIds(2)).isSameAs(previousSpecificityLattice.getDominatingShapeIds(2));
+        Assertions.assertThat(specificityLattice.getDominatingShapeIds(3)).containsExactlyInOrder(4);
+        Assertions.assertThat(specificityLattice.getDominatingShapeIds(4)).containsExactlyInOrder();
+        Assertions.assertThat(previousSpecificityLattice.getShapeCount()).isEqualTo(3);
+        Assertions.assertThat(previousSpecificityLattice.getDominatingShapeIds(0)).containsExactlyInOrder(1, 2);
+
+        IntList ordinals = new IntList();
+        ordinals.addAll(new int[]{0, 1, 3, 4});
+        specificityLattice.removeLessSpecificOrdinals(ordinals);
+        Assertions.assertThat(ordinals.toArray()).containsExactlyInOrder(4);
+    }
+
+    /**
+     * {@link SpecificityLattice} class test.
+     */
+    @Test
+    public void deriveSpecificityLatticeCompactTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+
+        ValueSet<String> valueSet0 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond2", "val21");
+        ValueSet<String> valueSet1 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond2", "val21");
+        ValueSet<String> valueSet2 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond3", "val31");
+        ValueSet<String> valueSet3 = valueSetBuilder.build();
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val22");
+        valueSetBuilder.addCondition("cond3", "val31");
+        ValueSet<String> valueSet4 = valueSetBuilder.build();
+        List<ValueSet<String>> previousValueSets = DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3);
+        ConditionNameTable conditionNameTable = new ConditionNameTable(DataHelper.createArrayList(valueSet0, valueSet1, valueSet2, valueSet3, valueSet4));
+        SpecificityLattice previousSpecificityLattice = new SpecificityLattice(conditionNameTable, previousValueSets);
+        Assertions.assertThat(previousSpecificityLattice).hasToString("[{}, {1}, {0, 1}, {2}]");
+
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(null, valueSet1, null, null, valueSet4);
+        BitSet changedOrdinals = new BitSet();
+        changedOrdinals.set(0);
+        changedOrdinals.set(2, 5);
+        SpecificityLattice specificityLattice = new SpecificityLattice(previousSpecificityLattice, valueSets, changedOrdinals);
+        Assertions.assertThat(specificityLattice.getShapeCount()).isEqualTo(2);
+        Assertions.assertThat(specificityLattice).hasToString("[{1}, {0, 1, 2}]");
+        Assertions.assertThat(specificityLattice.getShapeId(0)).isEqualTo(-1);
+        Assertions.assertThat(specificityLattice.getShapeId(1)).isEqualTo(0);
+        Assertions.assertThat(specificityLattice.getShapeId(2)).isEqualTo(-1);
+        Assertions.assertThat(specificityLattice.getShapeId(3)).isEqualTo(-1);
+        Assertions.assertThat(specificityLattice.getShapeId(4)).isEqualTo(1);
+        Assertions.assertThat(specificityLattice.getDominatingShapeIds(0)).containsExactlyInOrder(1);
+        Assertions.assertThat(specificityLattice.getDominatingShapeIds(1)).containsExactlyInOrder();
+        Assertions.assertThat(previousSpecificityLattice.getShapeCount()).isEqualTo(4);
+
+        IntList ordinals = new IntList();
+        ordinals.addAll(new int[]{1, 4});
+        specificityLattice.removeLessSpecificOrdinals(ordinals);
+        Assertions.assertThat(ordinals.toArray()).containsExactlyInOrder(4);
+    }
+
+}
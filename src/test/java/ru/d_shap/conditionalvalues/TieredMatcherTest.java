@@ -0,0 +1,188 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+import ru.d_shap.conditionalvalues.data.DeferredExecutor;
+import ru.d_shap.conditionalvalues.data.DirectExecutor;
+import ru.d_shap.conditionalvalues.data.IsDividedByPredicate;
+import ru.d_shap.conditionalvalues.data.ThrowingPredicate;
+import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.WrongConditionSetValueException;
+
+/**
+ * Tests for {@link TieredMatcher}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class TieredMatcherTest {
+
+    /**
+     * Test class constructor.
+     */
+    public TieredMatcherTest() {
+        super();
+    }
+
+    /**
+     * {@link TieredMatcher} class test.
+     */
+    @Test
+    public void isCompiledTest() {
+        TieredMatcher tieredMatcher = new TieredMatcher(createValueSetMatchers(), new int[]{0, 2}, 0, new DirectExecutor());
+        Assertions.assertThat(tieredMatcher.isCompiled()).isFalse();
+        tieredMatcher.compile();
+        Assertions.assertThat(tieredMatcher.isCompiled()).isTrue();
+    }
+
+    /**
+     * {@link TieredMatcher} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsTest() {
+        DirectExecutor executor = new DirectExecutor();
+        TieredMatcher tieredMatcher = new TieredMatcher(createValueSetMatchers(), new int[]{0, 1, 2}, 3, executor);
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThat(getMatchingOrdinals(tieredMatcher, new int[]{0, 1, 2}, 6)).hasToString("[0, 1, 2]");
+        }
+        Assertions.assertThat(tieredMatcher.isCompiled()).isFalse();
+        Assertions.assertThat(executor.getExecutionCount()).isEqualTo(0);
+
+        Assertions.assertThat(getMatchingOrdinals(tieredMatcher, new int[]{0, 1, 2}, 4)).hasToString("[0]");
+        Assertions.assertThat(tieredMatcher.isCompiled()).isTrue();
+        Assertions.assertThat(executor.getExecutionCount()).isEqualTo(1);
+
+        Assertions.assertThat(getMatchingOrdinals(tieredMatcher, new int[]{0, 1, 2}, 6)).hasToString("[0, 1, 2]");
+        Assertions.assertThat(getMatchingOrdinals(tieredMatcher, new int[]{0, 1, 2}, 9)).hasToString("[1]");
+        Assertions.assertThat(getMatchingOrdinals(tieredMatcher, new int[]{1, 2}, 6)).hasToString("[1, 2]");
+        Assertions.assertThat(getMatchingOrdinals(tieredMatcher, new int[]{0, 1, 2}, 5)).hasToString("[]");
+        Assertions.assertThat(executor.getExecutionCount()).isEqualTo(1);
+    }
+
+    /**
+     * {@link TieredMatcher} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsZeroThresholdTest() {
+        DirectExecutor executor = new DirectExecutor();
+        TieredMatcher tieredMatcher = new TieredMatcher(createValueSetMatchers(), new int[]{0, 1, 2}, 0, executor);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertThat(getMatchingOrdinals(tieredMatcher, new int[]{0, 1, 2}, 6)).hasToString("[0, 1, 2]");
+        }
+        Assertions.assertThat(tieredMatcher.isCompiled()).isFalse();
+        Assertions.assertThat(executor.getExecutionCount()).isEqualTo(0);
+    }
+
+    /**
+     * {@link TieredMatcher} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsWrongValueFailTest() {
+        TieredMatcher tieredMatcher = new TieredMatcher(createValueSetMatchers(), new int[]{0, 1, 2}, 0, new DirectExecutor());
+        tieredMatcher.compile();
+        try {
+            tieredMatcher.addMatchingOrdinals(new int[]{0, 1, 2}, new Object[]{"6"}, new BitSet[1], new IntList());
+            Assertions.fail("TieredMatcher test fail");
+        } catch (WrongConditionSetValueException ex) {
+            Assertions.assertThat(ex).hasMessage("Condition with name cond has a wrong class, expected java.lang.Integer, but was java.lang.String");
+        }
+    }
+
+    /**
+     * {@link TieredMatcher} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsDeferredCompilationTest() {
+        DeferredExecutor executor = new DeferredExecutor();
+        TieredMatcher tieredMatcher = new TieredMatcher(createValueSetMatchers(), new int[]{0, 1, 2}, 1, executor);
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertThat(getMatchingOrdinals(tieredMatcher, new int[]{0, 1, 2}, 6)).hasToString("[0, 1, 2]");
+        }
+        Assertions.assertThat(tieredMatcher.isCompiled()).isFalse();
+        Assertions.assertThat(executor.getDeferredCount()).isEqualTo(1);
+
+        executor.runDeferred();
+        Assertions.assertThat(tieredMatcher.isCompiled()).isTrue();
+        Assertions.assertThat(getMatchingOrdinals(tieredMatcher, new int[]{0, 1, 2}, 6)).hasToString("[0, 1, 2]");
+        Assertions.assertThat(getMatchingOrdinals(tieredMatcher, new int[]{0, 1, 2}, 9)).hasToString("[1]");
+        Assertions.assertThat(executor.getDeferredCount()).isEqualTo(0);
+    }
+
+    /**
+     * {@link TieredMatcher} class test.
+     */
+    @Test
+    public void addMatchingOrdinalsCompiledExceptionFailTest() {
+        IllegalArgumentException uncheckedException = new IllegalArgumentException("unchecked");
+        TieredMatcher tieredMatcher1 = new TieredMatcher(createThrowingValueSetMatchers(uncheckedException), new int[]{0}, 0, new DirectExecutor());
+        tieredMatcher1.compile();
+        try {
+            getMatchingOrdinals(tieredMatcher1, new int[]{0}, 6);
+            Assertions.fail("TieredMatcher test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).isSameAs(uncheckedException);
+        }
+
+        IOException checkedException = new IOException("checked");
+        TieredMatcher tieredMatcher2 = new TieredMatcher(createThrowingValueSetMatchers(checkedException), new int[]{0}, 0, new DirectExecutor());
+        tieredMatcher2.compile();
+        try {
+            getMatchingOrdinals(tieredMatcher2, new int[]{0}, 6);
+            Assertions.fail("TieredMatcher test fail");
+        } catch (Exception ex) {
+            Assertions.assertThat(ex).isSameAs(checkedException);
+        }
+    }
+
+    private String getMatchingOrdinals(final TieredMatcher tieredMatcher, final int[] scannedOrdinals, final int conditionSetValue) {
+        IntList ordinals = new IntList();
+        tieredMatcher.addMatchingOrdinals(scannedOrdinals, new Object[]{conditionSetValue}, new BitSet[1], ordinals);
+        return ordinals.toString();
+    }
+
+    private List<ValueSetMatcher> createValueSetMatchers() {
+        List<ValueSetMatcher> valueSetMatchers = new ArrayList<>();
+        valueSetMatchers.add(createValueSetMatcher(0, 2));
+        valueSetMatchers.add(createValueSetMatcher(1, 3));
+        valueSetMatchers.add(createValueSetMatcher(2, 6));
+        return valueSetMatchers;
+    }
+
+    private List<ValueSetMatcher> createThrowingValueSetMatchers(final Exception exception) {
+        ConditionMatcher conditionMatcher = new TuplePredicateMatcher("cond", new AnyValueMatchesTuplePredicate(), new ThrowingPredicate(exception), DataHelper.<Object>createHashSet(2));
+        List<ValueSetMatcher> valueSetMatchers = new ArrayList<>();
+        valueSetMatchers.add(new ValueSetMatcher(0, new int[]{0}, new ConditionMatcher[]{conditionMatcher}, new boolean[]{false}));
+        return valueSetMatchers;
+    }
+
+    private ValueSetMatcher createValueSetMatcher(final int ordinal, final int divider) {
+        ConditionMatcher conditionMatcher = new TuplePredicateMatcher("cond", new AnyValueMatchesTuplePredicate(), new IsDividedByPredicate(), DataHelper.<Object>createHashSet(divider));
+        return new ValueSetMatcher(ordinal, new int[]{0}, new ConditionMatcher[]{conditionMatcher}, new boolean[]{false});
+    }
+
+}
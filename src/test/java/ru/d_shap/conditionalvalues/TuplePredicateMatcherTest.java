@@ -0,0 +1,117 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+import ru.d_shap.conditionalvalues.predicate.AllValuesMatchTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.StringContainsPredicate;
+
+/**
+ * Tests for {@link TuplePredicateMatcher}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class TuplePredicateMatcherTest {
+
+    /**
+     * Test class constructor.
+     */
+    public TuplePredicateMatcherTest() {
+        super();
+    }
+
+    /**
+     * {@link TuplePredicateMatcher} class test.
+     */
+    @Test
+    public void getConditionNameTest() {
+        Assertions.assertThat(new TuplePredicateMatcher("cond", null, null, null).getConditionName()).isEqualTo("cond");
+        Assertions.assertThat(new TuplePredicateMatcher(null, null, null, null).getConditionName()).isNull();
+    }
+
+    /**
+     * {@link TuplePredicateMatcher} class test.
+     */
+    @Test
+    public void getTuplePredicateTest() {
+        TuplePredicate tuplePredicate = new AnyValueMatchesTuplePredicate();
+        Assertions.assertThat(new TuplePredicateMatcher("cond", tuplePredicate, null, null).getTuplePredicate()).isSameAs(tuplePredicate);
+        Assertions.assertThat(new TuplePredicateMatcher("cond", null, null, null).getTuplePredicate()).isNull();
+    }
+
+    /**
+     * {@link TuplePredicateMatcher} class test.
+     */
+    @Test
+    public void getPredicateTest() {
+        Predicate predicate = new StringContainsPredicate();
+        Assertions.assertThat(new TuplePredicateMatcher("cond", null, predicate, null).getPredicate()).isSameAs(predicate);
+        Assertions.assertThat(new TuplePredicateMatcher("cond", null, null, null).getPredicate()).isNull();
+    }
+
+    /**
+     * {@link TuplePredicateMatcher} class test.
+     */
+    @Test
+    public void getValueSetValuesTest() {
+        Set<Object> valueSetValues = DataHelper.<Object>createHashSet("ab", "bc");
+        Assertions.assertThat(new TuplePredicateMatcher("cond", null, null, valueSetValues).getValueSetValues()).isSameAs(valueSetValues);
+        Assertions.assertThat(new TuplePredicateMatcher("cond", null, null, null).getValueSetValues()).isNull();
+    }
+
+    /**
+     * {@link TuplePredicateMatcher} class test.
+     */
+    @Test
+    public void isMatchTest() {
+        Set<Object> valueSetValues = DataHelper.<Object>createHashSet("ab", "bc");
+
+        TuplePredicateMatcher tuplePredicateMatcher1 = new TuplePredicateMatcher("cond", new AnyValueMatchesTuplePredicate(), new StringContainsPredicate(), valueSetValues);
+        Assertions.assertThat(tuplePredicateMatcher1.isMatch("abc")).isTrue();
+        Assertions.assertThat(tuplePredicateMatcher1.isMatch("xab")).isTrue();
+        Assertions.assertThat(tuplePredicateMatcher1.isMatch("acb")).isFalse();
+
+        TuplePredicateMatcher tuplePredicateMatcher2 = new TuplePredicateMatcher("cond", new AllValuesMatchTuplePredicate(), new StringContainsPredicate(), valueSetValues);
+        Assertions.assertThat(tuplePredicateMatcher2.isMatch("abc")).isTrue();
+        Assertions.assertThat(tuplePredicateMatcher2.isMatch("xab")).isFalse();
+
+        TuplePredicateMatcher tuplePredicateMatcher3 = new TuplePredicateMatcher("cond", null, new StringContainsPredicate(), valueSetValues);
+        Assertions.assertThat(tuplePredicateMatcher3.isMatch("abc")).isFalse();
+
+        TuplePredicateMatcher tuplePredicateMatcher4 = new TuplePredicateMatcher("cond", new AnyValueMatchesTuplePredicate(), null, valueSetValues);
+        Assertions.assertThat(tuplePredicateMatcher4.isMatch("abc")).isFalse();
+    }
+
+    /**
+     * {@link TuplePredicateMatcher} class test.
+     */
+    @Test
+    public void toStringTest() {
+        TuplePredicateMatcher tuplePredicateMatcher = new TuplePredicateMatcher("cond", new AnyValueMatchesTuplePredicate(), new StringContainsPredicate(), DataHelper.<Object>createHashSet("ab"));
+        Assertions.assertThat(tuplePredicateMatcher).hasToString("cond=[ab]");
+    }
+
+}
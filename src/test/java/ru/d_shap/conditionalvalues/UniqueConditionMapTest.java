@@ -0,0 +1,142 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link UniqueConditionMap}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class UniqueConditionMapTest {
+
+    /**
+     * Test class constructor.
+     */
+    public UniqueConditionMapTest() {
+        super();
+    }
+
+    /**
+     * {@link UniqueConditionMap} class test.
+     */
+    @Test
+    public void sizeTest() {
+        Assertions.assertThat(new UniqueConditionMap(new String[0], new Object[0]).size()).isEqualTo(0);
+        Assertions.assertThat(new UniqueConditionMap(new String[]{"cond1"}, new Object[]{"val1"}).size()).isEqualTo(1);
+        Assertions.assertThat(new UniqueConditionMap(new String[]{"cond1", "cond2"}, new Object[]{"val1", "val2"}).size()).isEqualTo(2);
+    }
+
+    /**
+     * {@link UniqueConditionMap} class test.
+     */
+    @Test
+    public void containsKeyTest() {
+        UniqueConditionMap uniqueConditionMap = new UniqueConditionMap(new String[]{"cond1", "cond2"}, new Object[]{"val1", "val2"});
+        Assertions.assertThat(uniqueConditionMap.containsKey("cond1")).isTrue();
+        Assertions.assertThat(uniqueConditionMap.containsKey("cond2")).isTrue();
+        Assertions.assertThat(uniqueConditionMap.containsKey("cond3")).isFalse();
+        Assertions.assertThat(uniqueConditionMap.containsKey(null)).isFalse();
+        Assertions.assertThat(uniqueConditionMap.containsKey(1)).isFalse();
+    }
+
+    /**
+     * {@link UniqueConditionMap} class test.
+     */
+    @Test
+    public void getTest() {
+        UniqueConditionMap uniqueConditionMap = new UniqueConditionMap(new String[]{"cond1", "cond2"}, new Object[]{"val1", 2});
+        Assertions.assertThat(uniqueConditionMap.get("cond1")).isEqualTo("val1");
+        Assertions.assertThat(uniqueConditionMap.get("cond2")).isEqualTo(2);
+        Assertions.assertThat(uniqueConditionMap.get("cond3")).isNull();
+        Assertions.assertThat(uniqueConditionMap.get(null)).isNull();
+    }
+
+    /**
+     * {@link UniqueConditionMap} class test.
+     */
+    @Test
+    public void entrySetTest() {
+        UniqueConditionMap uniqueConditionMap = new UniqueConditionMap(new String[]{"cond1", "cond2"}, new Object[]{"val1", "val2"});
+        Assertions.assertThat(uniqueConditionMap.entrySet()).hasSize(2);
+        Iterator<Map.Entry<String, Object>> iterator = uniqueConditionMap.entrySet().iterator();
+        Assertions.assertThat(iterator.hasNext()).isTrue();
+        Assertions.assertThat(iterator.next()).hasToString("cond1=val1");
+        Assertions.assertThat(iterator.hasNext()).isTrue();
+        Assertions.assertThat(iterator.next()).hasToString("cond2=val2");
+        Assertions.assertThat(iterator.hasNext()).isFalse();
+        try {
+            iterator.next();
+            Assertions.fail("UniqueConditionMap test fail");
+        } catch (NoSuchElementException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    /**
+     * {@link UniqueConditionMap} class test.
+     */
+    @Test
+    public void equalsTest() {
+        Map<String, Object> map = new TreeMap<>();
+        map.put("cond1", "val1");
+        map.put("cond2", "val2");
+        UniqueConditionMap uniqueConditionMap = new UniqueConditionMap(new String[]{"cond1", "cond2"}, new Object[]{"val1", "val2"});
+        Assertions.assertThat(uniqueConditionMap.equals(map)).isTrue();
+        Assertions.assertThat(map.equals(uniqueConditionMap)).isTrue();
+        Assertions.assertThat(uniqueConditionMap.hashCode()).isEqualTo(map.hashCode());
+        Assertions.assertThat(uniqueConditionMap).hasToString(map.toString());
+    }
+
+    /**
+     * {@link UniqueConditionMap} class test.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void putUnmodifiableFailTest() {
+        new UniqueConditionMap(new String[]{"cond1"}, new Object[]{"val1"}).put("cond2", "val2");
+    }
+
+    /**
+     * {@link UniqueConditionMap} class test.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void removeUnmodifiableFailTest() {
+        Iterator<Map.Entry<String, Object>> iterator = new UniqueConditionMap(new String[]{"cond1"}, new Object[]{"val1"}).entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+    }
+
+    /**
+     * {@link UniqueConditionMap} class test.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void setValueUnmodifiableFailTest() {
+        new UniqueConditionMap(new String[]{"cond1"}, new Object[]{"val1"}).entrySet().iterator().next().setValue("val2");
+    }
+
+}
@@ -0,0 +1,64 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link ValueMembershipMatcher}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueMembershipMatcherTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ValueMembershipMatcherTest() {
+        super();
+    }
+
+    /**
+     * {@link ValueMembershipMatcher} class test.
+     */
+    @Test
+    public void isMatchTest() {
+        ValueMembershipMatcher valueMembershipMatcher = new ValueMembershipMatcher(DataHelper.<Object>createHashSet("ab", 1, 'c'));
+        Assertions.assertThat(valueMembershipMatcher.isMatch("ab")).isTrue();
+        Assertions.assertThat(valueMembershipMatcher.isMatch(1)).isTrue();
+        Assertions.assertThat(valueMembershipMatcher.isMatch('c')).isTrue();
+        Assertions.assertThat(valueMembershipMatcher.isMatch("AB")).isFalse();
+        Assertions.assertThat(valueMembershipMatcher.isMatch(1L)).isFalse();
+        Assertions.assertThat(valueMembershipMatcher.isMatch("c")).isFalse();
+    }
+
+    /**
+     * {@link ValueMembershipMatcher} class test.
+     */
+    @Test
+    public void toStringTest() {
+        ValueMembershipMatcher valueMembershipMatcher = new ValueMembershipMatcher(DataHelper.<Object>createHashSet("ab"));
+        Assertions.assertThat(valueMembershipMatcher).hasToString("[ab]");
+    }
+
+}
@@ -0,0 +1,207 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+import ru.d_shap.assertions.util.ReflectionException;
+import ru.d_shap.assertions.util.ReflectionHelper;
+import ru.d_shap.conditionalvalues.data.IsDividedByPredicate;
+import ru.d_shap.conditionalvalues.predicate.AllValuesMatchTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.AnyValueMatchesTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.SomeValuesMatchTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.StringContainsPredicate;
+import ru.d_shap.conditionalvalues.predicate.WrongConditionSetValueException;
+
+/**
+ * Tests for {@link ValueSetMatcherCompiler}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueSetMatcherCompilerTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ValueSetMatcherCompilerTest() {
+        super();
+    }
+
+    /**
+     * {@link ValueSetMatcherCompiler} class test.
+     */
+    @Test
+    public void compileTest() {
+        MethodHandle methodHandle1 = ValueSetMatcherCompiler.compile(new ValueSetMatcher(0, new int[0], new ConditionMatcher[0], new boolean[0]));
+        Assertions.assertThat(isMatch(methodHandle1, new Object[]{null, null}, new BitSet[2])).isTrue();
+
+        int[] conditionIds = new int[]{0, 2};
+        ConditionMatcher[] conditionMatchers = new ConditionMatcher[]{new SingleValueMatcher("val1"), new TuplePredicateMatcher("cond3", new AnyValueMatchesTuplePredicate(), new StringContainsPredicate(), DataHelper.<Object>createHashSet("ab", "bc"))};
+        ValueSetMatcher valueSetMatcher2 = new ValueSetMatcher(1, conditionIds, conditionMatchers, new boolean[]{false, true});
+        MethodHandle methodHandle2 = ValueSetMatcherCompiler.compile(valueSetMatcher2);
+        Assertions.assertThat(isMatch(methodHandle2, new Object[]{"val1", null, "xabx"}, new BitSet[3])).isTrue();
+        Assertions.assertThat(isMatch(methodHandle2, new Object[]{"val1", "val", "xbcx"}, new BitSet[3])).isTrue();
+        Assertions.assertThat(isMatch(methodHandle2, new Object[]{"val1", null, "xacx"}, new BitSet[3])).isFalse();
+        Assertions.assertThat(isMatch(methodHandle2, new Object[]{"val2", null, "xabx"}, new BitSet[3])).isFalse();
+
+        BitSet matchingOrdinals = new BitSet();
+        Assertions.assertThat(isMatch(methodHandle2, new Object[]{"val1", null, "xabx"}, new BitSet[]{matchingOrdinals, null, null})).isTrue();
+        Assertions.assertThat(isMatch(methodHandle2, new Object[]{"val1", null, "xabx"}, new BitSet[]{null, null, matchingOrdinals})).isFalse();
+        matchingOrdinals.set(1);
+        Assertions.assertThat(isMatch(methodHandle2, new Object[]{"val1", null, "xacx"}, new BitSet[]{null, null, matchingOrdinals})).isTrue();
+        Assertions.assertThat(isMatch(methodHandle2, new Object[]{"val2", null, "xacx"}, new BitSet[]{null, null, matchingOrdinals})).isFalse();
+    }
+
+    /**
+     * {@link ValueSetMatcherCompiler} class test.
+     */
+    @Test
+    public void compileWrongValueFailTest() {
+        ConditionMatcher conditionMatcher = new TuplePredicateMatcher("cond", new AnyValueMatchesTuplePredicate(), new IsDividedByPredicate(), DataHelper.<Object>createHashSet(2, 3));
+        MethodHandle methodHandle = ValueSetMatcherCompiler.compile(new ValueSetMatcher(0, new int[]{0}, new ConditionMatcher[]{conditionMatcher}, new boolean[]{false}));
+        Assertions.assertThat(isMatch(methodHandle, new Object[]{4}, new BitSet[1])).isTrue();
+        try {
+            isMatch(methodHandle, new Object[]{"4"}, new BitSet[1]);
+            Assertions.fail("ValueSetMatcherCompiler test fail");
+        } catch (WrongConditionSetValueException ex) {
+            Assertions.assertThat(ex).hasMessage("Condition with name cond has a wrong class, expected java.lang.Integer, but was java.lang.String");
+        }
+    }
+
+    /**
+     * {@link ValueSetMatcherCompiler} class test.
+     */
+    @Test
+    public void createConditionValueMatchTest() {
+        Set<Object> valueSetValues = DataHelper.<Object>createHashSet("ab", "bc");
+
+        MethodHandle methodHandle1 = ValueSetMatcherCompiler.createConditionValueMatch(new SingleValueMatcher("ab"));
+        Assertions.assertThat(isMatch(methodHandle1, "ab")).isTrue();
+        Assertions.assertThat(isMatch(methodHandle1, "AB")).isFalse();
+
+        MethodHandle methodHandle2 = ValueSetMatcherCompiler.createConditionValueMatch(new TuplePredicateMatcher("cond", new AnyValueMatchesTuplePredicate(), new StringContainsPredicate(), valueSetValues));
+        Assertions.assertThat(isMatch(methodHandle2, "abc")).isTrue();
+        Assertions.assertThat(isMatch(methodHandle2, "xbc")).isTrue();
+        Assertions.assertThat(isMatch(methodHandle2, "acb")).isFalse();
+
+        MethodHandle methodHandle3 = ValueSetMatcherCompiler.createConditionValueMatch(new TuplePredicateMatcher("cond", new AllValuesMatchTuplePredicate(), new StringContainsPredicate(), valueSetValues));
+        Assertions.assertThat(isMatch(methodHandle3, "abc")).isTrue();
+        Assertions.assertThat(isMatch(methodHandle3, "xab")).isFalse();
+
+        MethodHandle methodHandle4 = ValueSetMatcherCompiler.createConditionValueMatch(new TuplePredicateMatcher("cond", new AllValuesMatchTuplePredicate(), new StringContainsPredicate(), new HashSet<>()));
+        Assertions.assertThat(isMatch(methodHandle4, "abc")).isFalse();
+
+        MethodHandle methodHandle5 = ValueSetMatcherCompiler.createConditionValueMatch(new TuplePredicateMatcher("cond", new SomeValuesMatchTuplePredicate(1, 2), new StringContainsPredicate(), valueSetValues));
+        Assertions.assertThat(isMatch(methodHandle5, "abc")).isTrue();
+        Assertions.assertThat(isMatch(methodHandle5, "xab")).isTrue();
+        Assertions.assertThat(isMatch(methodHandle5, "acb")).isFalse();
+
+        MethodHandle methodHandle6 = ValueSetMatcherCompiler.createConditionValueMatch(new TuplePredicateMatcher("cond", null, new StringContainsPredicate(), valueSetValues));
+        Assertions.assertThat(isMatch(methodHandle6, "abc")).isFalse();
+
+        MethodHandle methodHandle7 = ValueSetMatcherCompiler.createConditionValueMatch(new TuplePredicateMatcher("cond", new AnyValueMatchesTuplePredicate(), null, valueSetValues));
+        Assertions.assertThat(isMatch(methodHandle7, "abc")).isFalse();
+
+        MethodHandle methodHandle8 = ValueSetMatcherCompiler.createConditionValueMatch(new ValueMembershipMatcher(valueSetValues));
+        Assertions.assertThat(isMatch(methodHandle8, "ab")).isTrue();
+        Assertions.assertThat(isMatch(methodHandle8, "abc")).isFalse();
+    }
+
+    /**
+     * {@link ValueSetMatcherCompiler} class test.
+     */
+    @Test
+    public void createConditionValueMatchManyValuesTest() {
+        Set<Object> valueSetValues = new HashSet<>();
+        for (int i = 0; i <= ValueSetMatcherCompiler.MAX_UNROLLED_VALUE_COUNT; i++) {
+            valueSetValues.add(i + 2);
+        }
+        MethodHandle methodHandle1 = ValueSetMatcherCompiler.createConditionValueMatch(new TuplePredicateMatcher("cond", new AnyValueMatchesTuplePredicate(), new IsDividedByPredicate(), valueSetValues));
+        Assertions.assertThat(isMatch(methodHandle1, 18)).isTrue();
+        Assertions.assertThat(isMatch(methodHandle1, 1)).isFalse();
+
+        valueSetValues.remove(2);
+        MethodHandle methodHandle2 = ValueSetMatcherCompiler.createConditionValueMatch(new TuplePredicateMatcher("cond", new AnyValueMatchesTuplePredicate(), new IsDividedByPredicate(), valueSetValues));
+        Assertions.assertThat(isMatch(methodHandle2, 18)).isTrue();
+        Assertions.assertThat(isMatch(methodHandle2, 1)).isFalse();
+    }
+
+    /**
+     * {@link ValueSetMatcherCompiler} class test.
+     */
+    @Test
+    public void isIndexedMatchTest() {
+        ConditionMatcher conditionMatcher = new SingleValueMatcher("val");
+        BitSet matchingOrdinals = new BitSet();
+        matchingOrdinals.set(1);
+        Assertions.assertThat(ValueSetMatcherCompiler.isIndexedMatch(conditionMatcher, 1, 1, new Object[]{null, "val"}, new BitSet[2])).isTrue();
+        Assertions.assertThat(ValueSetMatcherCompiler.isIndexedMatch(conditionMatcher, 1, 1, new Object[]{null, "value"}, new BitSet[2])).isFalse();
+        Assertions.assertThat(ValueSetMatcherCompiler.isIndexedMatch(conditionMatcher, 1, 1, new Object[]{null, "value"}, new BitSet[]{null, matchingOrdinals})).isTrue();
+        Assertions.assertThat(ValueSetMatcherCompiler.isIndexedMatch(conditionMatcher, 1, 0, new Object[]{null, "val"}, new BitSet[]{null, matchingOrdinals})).isFalse();
+    }
+
+    /**
+     * {@link ValueSetMatcherCompiler} class test.
+     */
+    @Test
+    public void findVirtualFailTest() {
+        try {
+            ReflectionHelper.callMethod(ValueSetMatcherCompiler.class, null, "findVirtual", new Class<?>[]{Class.class, String.class, MethodType.class}, new Object[]{Object.class, "wrongMethod", MethodType.methodType(boolean.class)});
+            Assertions.fail("ValueSetMatcherCompiler test fail");
+        } catch (ReflectionException ex) {
+            Assertions.assertThat(ex).toCause().hasCause(IllegalStateException.class);
+            Assertions.assertThat(ex).toCause().toCause().hasCause(NoSuchMethodException.class);
+        }
+    }
+
+    /**
+     * {@link ValueSetMatcherCompiler} class test.
+     */
+    @Test
+    public void findStaticFailTest() {
+        try {
+            ReflectionHelper.callMethod(ValueSetMatcherCompiler.class, null, "findStatic", new Class<?>[]{String.class, MethodType.class}, new Object[]{"wrongMethod", MethodType.methodType(boolean.class)});
+            Assertions.fail("ValueSetMatcherCompiler test fail");
+        } catch (ReflectionException ex) {
+            Assertions.assertThat(ex).toCause().hasCause(IllegalStateException.class);
+            Assertions.assertThat(ex).toCause().toCause().hasCause(NoSuchMethodException.class);
+        }
+    }
+
+    private boolean isMatch(final MethodHandle methodHandle, final Object[] conditionSetValues, final BitSet[] indexedMatchingOrdinals) {
+        return isMatch(MethodHandles.insertArguments(methodHandle, 1, (Object) indexedMatchingOrdinals), conditionSetValues);
+    }
+
+    private boolean isMatch(final MethodHandle methodHandle, final Object conditionSetValue) {
+        MethodHandle predicateMethodHandle = MethodHandles.dropArguments(MethodHandles.dropArguments(methodHandle, 0, String.class), 2, Object.class);
+        return MethodHandleProxies.asInterfaceInstance(Predicate.class, predicateMethodHandle).evaluate(null, conditionSetValue, null);
+    }
+
+}
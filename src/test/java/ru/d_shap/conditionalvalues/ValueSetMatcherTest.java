@@ -0,0 +1,168 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link ValueSetMatcher}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueSetMatcherTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ValueSetMatcherTest() {
+        super();
+    }
+
+    /**
+     * {@link ValueSetMatcher} class test.
+     */
+    @Test
+    public void getOrdinalTest() {
+        Assertions.assertThat(new ValueSetMatcher(0, new int[0], new ConditionMatcher[0], new boolean[0]).getOrdinal()).isEqualTo(0);
+        Assertions.assertThat(new ValueSetMatcher(3, new int[0], new ConditionMatcher[0], new boolean[0]).getOrdinal()).isEqualTo(3);
+    }
+
+    /**
+     * {@link ValueSetMatcher} class test.
+     */
+    @Test
+    public void getConditionCountTest() {
+        Assertions.assertThat(new ValueSetMatcher(0, new int[0], new ConditionMatcher[0], new boolean[0]).getConditionCount()).isEqualTo(0);
+        Assertions.assertThat(createValueSetMatcher().getConditionCount()).isEqualTo(2);
+    }
+
+    /**
+     * {@link ValueSetMatcher} class test.
+     */
+    @Test
+    public void getConditionIdTest() {
+        ValueSetMatcher valueSetMatcher = createValueSetMatcher();
+        Assertions.assertThat(valueSetMatcher.getConditionId(0)).isEqualTo(0);
+        Assertions.assertThat(valueSetMatcher.getConditionId(1)).isEqualTo(2);
+    }
+
+    /**
+     * {@link ValueSetMatcher} class test.
+     */
+    @Test
+    public void getConditionMatcherTest() {
+        ValueSetMatcher valueSetMatcher = createValueSetMatcher();
+        Assertions.assertThat(valueSetMatcher.getConditionMatcher(0)).hasToString("val1");
+        Assertions.assertThat(valueSetMatcher.getConditionMatcher(1)).hasToString("val2");
+    }
+
+    /**
+     * {@link ValueSetMatcher} class test.
+     */
+    @Test
+    public void isConditionIndexedTest() {
+        ValueSetMatcher valueSetMatcher = createValueSetMatcher();
+        Assertions.assertThat(valueSetMatcher.isConditionIndexed(0)).isFalse();
+        Assertions.assertThat(valueSetMatcher.isConditionIndexed(1)).isTrue();
+    }
+
+    /**
+     * {@link ValueSetMatcher} class test.
+     */
+    @Test
+    public void isMatchTest() {
+        ValueSetMatcher valueSetMatcher1 = new ValueSetMatcher(0, new int[0], new ConditionMatcher[0], new boolean[0]);
+        Assertions.assertThat(valueSetMatcher1.isMatch(new Object[]{null, null}, new BitSet[2])).isTrue();
+
+        ValueSetMatcher valueSetMatcher2 = createValueSetMatcher();
+        Assertions.assertThat(valueSetMatcher2.isMatch(new Object[]{"val1", null, "val2"}, new BitSet[3])).isTrue();
+        Assertions.assertThat(valueSetMatcher2.isMatch(new Object[]{"val1", "val", "val2"}, new BitSet[3])).isTrue();
+        Assertions.assertThat(valueSetMatcher2.isMatch(new Object[]{"val1", null, "val3"}, new BitSet[3])).isFalse();
+        Assertions.assertThat(valueSetMatcher2.isMatch(new Object[]{"val1", null, null}, new BitSet[3])).isFalse();
+        Assertions.assertThat(valueSetMatcher2.isMatch(new Object[]{null, null, "val2"}, new BitSet[3])).isFalse();
+
+        BitSet matchingOrdinals = new BitSet();
+        Assertions.assertThat(valueSetMatcher2.isMatch(new Object[]{"val1", null, "val2"}, new BitSet[]{matchingOrdinals, null, null})).isTrue();
+        Assertions.assertThat(valueSetMatcher2.isMatch(new Object[]{"val1", null, "val2"}, new BitSet[]{null, null, matchingOrdinals})).isFalse();
+        Assertions.assertThat(valueSetMatcher2.isMatch(new Object[]{"val1", null, "val3"}, new BitSet[]{null, null, matchingOrdinals})).isFalse();
+        matchingOrdinals.set(1);
+        Assertions.assertThat(valueSetMatcher2.isMatch(new Object[]{"val1", null, "val3"}, new BitSet[]{null, null, matchingOrdinals})).isTrue();
+    }
+
+    /**
+     * {@link ValueSetMatcher} class test.
+     */
+    @Test
+    public void isMatchDefinedConditionsTest() {
+        ValueSetMatcher valueSetMatcher1 = new ValueSetMatcher(0, new int[0], new ConditionMatcher[0], new boolean[0]);
+        Assertions.assertThat(valueSetMatcher1.isMatchDefinedConditions(new Object[]{null, null}, new BitSet[2])).isTrue();
+
+        ValueSetMatcher valueSetMatcher2 = createValueSetMatcher();
+        Assertions.assertThat(valueSetMatcher2.isMatchDefinedConditions(new Object[]{"val1", null, "val2"}, new BitSet[3])).isTrue();
+        Assertions.assertThat(valueSetMatcher2.isMatchDefinedConditions(new Object[]{"val1", "val", "val2"}, new BitSet[3])).isTrue();
+        Assertions.assertThat(valueSetMatcher2.isMatchDefinedConditions(new Object[]{"val1", null, "val3"}, new BitSet[3])).isFalse();
+
+        BitSet matchingOrdinals = new BitSet();
+        matchingOrdinals.set(1);
+        Assertions.assertThat(valueSetMatcher2.isMatchDefinedConditions(new Object[]{"val1", null, "val3"}, new BitSet[]{null, null, matchingOrdinals})).isTrue();
+        Assertions.assertThat(valueSetMatcher2.isMatchDefinedConditions(new Object[]{"val2", null, "val3"}, new BitSet[]{null, null, matchingOrdinals})).isFalse();
+    }
+
+    /**
+     * {@link ValueSetMatcher} class test.
+     */
+    @Test
+    public void retainMatchingRowsTest() {
+        ValueSetMatcher valueSetMatcher1 = new ValueSetMatcher(0, new int[0], new ConditionMatcher[0], new boolean[0]);
+        BitSet rows1 = new BitSet();
+        rows1.set(0, 3);
+        valueSetMatcher1.retainMatchingRows(new Object[][]{{null, null, null}}, rows1);
+        Assertions.assertThat(rows1).hasToString("{0, 1, 2}");
+
+        ValueSetMatcher valueSetMatcher2 = createValueSetMatcher();
+        Object[][] conditionSetValueColumns = new Object[][]{{"val1", "val1", "val1", null, "val2", "val1"}, {"val", null, null, null, null, null}, {"val2", "val2", "val3", "val2", "val2", null}};
+        BitSet rows2 = new BitSet();
+        rows2.set(0, 6);
+        valueSetMatcher2.retainMatchingRows(conditionSetValueColumns, rows2);
+        Assertions.assertThat(rows2).hasToString("{0, 1}");
+
+        BitSet rows3 = new BitSet();
+        rows3.set(1);
+        rows3.set(2);
+        valueSetMatcher2.retainMatchingRows(conditionSetValueColumns, rows3);
+        Assertions.assertThat(rows3).hasToString("{1}");
+
+        BitSet rows4 = new BitSet();
+        valueSetMatcher2.retainMatchingRows(conditionSetValueColumns, rows4);
+        Assertions.assertThat(rows4.isEmpty()).isTrue();
+    }
+
+    private ValueSetMatcher createValueSetMatcher() {
+        int[] conditionIds = new int[]{0, 2};
+        ConditionMatcher[] conditionMatchers = new ConditionMatcher[]{new SingleValueMatcher("val1"), new SingleValueMatcher("val2")};
+        boolean[] conditionIndexed = new boolean[]{false, true};
+        return new ValueSetMatcher(1, conditionIds, conditionMatchers, conditionIndexed);
+    }
+
+}
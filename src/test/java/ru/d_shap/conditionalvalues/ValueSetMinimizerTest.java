@@ -0,0 +1,282 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.util.DataHelper;
+import ru.d_shap.conditionalvalues.data.IsDividedByPredicate;
+import ru.d_shap.conditionalvalues.predicate.AllValuesMatchTuplePredicate;
+import ru.d_shap.conditionalvalues.predicate.EqualsPredicate;
+import ru.d_shap.conditionalvalues.predicate.PatternFindPredicate;
+import ru.d_shap.conditionalvalues.predicate.PatternMatchesPredicate;
+import ru.d_shap.conditionalvalues.predicate.StringContainsIgnoreCasePredicate;
+import ru.d_shap.conditionalvalues.predicate.StringContainsPredicate;
+import ru.d_shap.conditionalvalues.predicate.StringEqualsIgnoreCasePredicate;
+
+/**
+ * Tests for {@link ValueSetMinimizer}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueSetMinimizerTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ValueSetMinimizerTest() {
+        super();
+    }
+
+    /**
+     * {@link ValueSetMinimizer} class test.
+     */
+    @Test
+    public void emptyValueSetsTest() {
+        ValueSetMinimizer<String> valueSetMinimizer1 = new ValueSetMinimizer<>(null, null, null, null);
+        Assertions.assertThat(valueSetMinimizer1.getValueSets()).isEmpty();
+        Assertions.assertThat(valueSetMinimizer1.getMinimizationReport()).hasToString("valueSetCount=0, minimizedValueSetCount=0, unmatchable=[], duplicate=[], merged={}");
+
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(null, null);
+        ValueSetMinimizer<String> valueSetMinimizer2 = new ValueSetMinimizer<>(null, null, null, valueSets);
+        Assertions.assertThat(valueSetMinimizer2.getValueSets()).isEmpty();
+        Assertions.assertThat(valueSetMinimizer2.getMinimizationReport()).hasToString("valueSetCount=0, minimizedValueSetCount=0, unmatchable=[], duplicate=[], merged={}");
+    }
+
+    /**
+     * {@link ValueSetMinimizer} class test.
+     */
+    @Test
+    public void unmatchableTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.addCondition("cond1", 1).addCondition("cond1", 2).addValue("value1").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.addCondition("cond1", 1).addCondition("cond2", 2).addValue("value2").build();
+        ValueSet<String> valueSet3 = valueSetBuilder.setStringContainsPredicate("cond1").addCondition("cond1", "a").addCondition("cond1", "b").addValue("value3").build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3);
+
+        ValueSetMinimizer<String> valueSetMinimizer1 = new ValueSetMinimizer<>(new AllValuesMatchTuplePredicate(), null, null, valueSets);
+        Assertions.assertThat(valueSetMinimizer1.getValueSets()).containsExactlyInOrder(valueSet2, valueSet3);
+        Assertions.assertThat(valueSetMinimizer1.getMinimizationReport().getUnmatchableValueSets()).containsExactlyInOrder(valueSet1);
+
+        Map<String, Predicate> predicates = new HashMap<>();
+        predicates.put("cond1", new StringContainsPredicate());
+        ValueSetMinimizer<String> valueSetMinimizer2 = new ValueSetMinimizer<>(new AllValuesMatchTuplePredicate(), null, predicates, valueSets);
+        Assertions.assertThat(valueSetMinimizer2.getValueSets()).containsExactlyInOrder(valueSet1, valueSet2, valueSet3);
+        Assertions.assertThat(valueSetMinimizer2.getMinimizationReport().getUnmatchableValueSets()).isEmpty();
+
+        ValueSetMinimizer<String> valueSetMinimizer3 = new ValueSetMinimizer<>(null, null, null, valueSets);
+        Assertions.assertThat(valueSetMinimizer3.getValueSets()).containsExactlyInOrder(valueSet1, valueSet2, valueSet3);
+        Assertions.assertThat(valueSetMinimizer3.getMinimizationReport().getUnmatchableValueSets()).isEmpty();
+    }
+
+    /**
+     * {@link ValueSetMinimizer} class test.
+     */
+    @Test
+    public void duplicateTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.addCondition("cond1", 1).addCondition("cond2", 2).addValue("value1").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.addCondition("cond1", 1).addCondition("cond2", 2).addValue("value1").build();
+        ValueSet<String> valueSet3 = valueSetBuilder.setId("id").addCondition("cond1", 1).addCondition("cond2", 2).addValue("value1").build();
+        ValueSet<String> valueSet4 = valueSetBuilder.setId("id").addCondition("cond1", 1).addCondition("cond2", 2).addValue("value1").build();
+        ValueSet<String> valueSet5 = valueSetBuilder.addCondition("cond1", 1).addCondition("cond2", 2).addValue("value2").build();
+        ValueSet<String> valueSet6 = valueSetBuilder.addCondition("cond1", 1).addCondition("cond2", 2).addValue("value1").addValue("value1").build();
+        ValueSet<String> valueSet7 = valueSetBuilder.setStringContainsPredicate("cond1").addCondition("cond1", 1).addCondition("cond2", 2).addValue("value1").build();
+        ValueSet<String> valueSet8 = valueSetBuilder.setEqualsPredicate("cond1").addCondition("cond1", 1).addCondition("cond2", 2).addValue("value1").build();
+        ValueSet<String> valueSet9 = valueSetBuilder.addCondition("cond1", 1).addValue("value1").build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3, valueSet4, valueSet5, valueSet6, valueSet7, valueSet8, valueSet9);
+
+        ValueSetMinimizer<String> valueSetMinimizer1 = new ValueSetMinimizer<>(null, null, null, valueSets);
+        List<ValueSet<String>> minimizedValueSets1 = valueSetMinimizer1.getValueSets();
+        Assertions.assertThat(minimizedValueSets1).hasSize(6);
+        Assertions.assertThat(minimizedValueSets1.get(0)).hasToString("{cond2=[2], cond1=[1]}");
+        Assertions.assertThat(minimizedValueSets1.get(0).getValues()).containsExactlyInOrder("value1", "value1", "value1");
+        Assertions.assertThat(minimizedValueSets1.get(1).getId()).isEqualTo("id");
+        Assertions.assertThat(minimizedValueSets1.get(1).getValues()).containsExactlyInOrder("value1", "value1");
+        Assertions.assertThat(minimizedValueSets1.subList(2, 6)).containsExactlyInOrder(valueSet5, valueSet6, valueSet7, valueSet9);
+        Assertions.assertThat(valueSetMinimizer1.getMinimizationReport().getDuplicateValueSets()).containsExactlyInOrder(valueSet2, valueSet4, valueSet8);
+        Assertions.assertThat(valueSetMinimizer1.getMinimizationReport().getMergedValueSets()).hasSize(2);
+        Assertions.assertThat(valueSetMinimizer1.getMinimizationReport().getMergedValueSets().get(minimizedValueSets1.get(0))).containsExactlyInOrder(valueSet1, valueSet2, valueSet8);
+        Assertions.assertThat(valueSetMinimizer1.getMinimizationReport().getMergedValueSets().get(minimizedValueSets1.get(1))).containsExactlyInOrder(valueSet3, valueSet4);
+
+        ValueSetMinimizer<String> valueSetMinimizer2 = new ValueSetMinimizer<>(new AllValuesMatchTuplePredicate(), null, null, valueSets);
+        List<ValueSet<String>> minimizedValueSets2 = valueSetMinimizer2.getValueSets();
+        Assertions.assertThat(minimizedValueSets2).hasSize(6);
+        Assertions.assertThat(minimizedValueSets2.get(0).getValues()).containsExactlyInOrder("value1", "value1", "value1");
+        Assertions.assertThat(minimizedValueSets2.get(1).getValues()).containsExactlyInOrder("value1", "value1");
+        Assertions.assertThat(minimizedValueSets2.subList(2, 6)).containsExactlyInOrder(valueSet5, valueSet6, valueSet7, valueSet9);
+        Assertions.assertThat(valueSetMinimizer2.getMinimizationReport().getDuplicateValueSets()).containsExactlyInOrder(valueSet2, valueSet4, valueSet8);
+
+        Map<String, Predicate> predicates = new HashMap<>();
+        predicates.put("cond1", new StringContainsPredicate());
+        ValueSetMinimizer<String> valueSetMinimizer3 = new ValueSetMinimizer<>(null, new EqualsPredicate(), predicates, valueSets);
+        List<ValueSet<String>> minimizedValueSets3 = valueSetMinimizer3.getValueSets();
+        Assertions.assertThat(minimizedValueSets3).hasSize(6);
+        Assertions.assertThat(minimizedValueSets3.get(0).getValues()).containsExactlyInOrder("value1", "value1", "value1");
+        Assertions.assertThat(minimizedValueSets3.get(1).getValues()).containsExactlyInOrder("value1", "value1");
+        Assertions.assertThat(minimizedValueSets3.subList(2, 6)).containsExactlyInOrder(valueSet5, valueSet6, valueSet8, valueSet9);
+        Assertions.assertThat(valueSetMinimizer3.getMinimizationReport().getDuplicateValueSets()).containsExactlyInOrder(valueSet2, valueSet4, valueSet7);
+        Assertions.assertThat(valueSetMinimizer3.getMinimizationReport().getMergedValueSets().get(minimizedValueSets3.get(0))).containsExactlyInOrder(valueSet1, valueSet2, valueSet7);
+    }
+
+    /**
+     * {@link ValueSetMinimizer} class test.
+     */
+    @Test
+    public void mergeTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.addCondition("cond1", 0).addValue("value0").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.addCondition("cond1", 1).addCondition("cond2", 1).addValue("value1").build();
+        ValueSet<String> valueSet3 = valueSetBuilder.addCondition("cond1", 1).addCondition("cond1", 2).addCondition("cond2", 2).addValue("value1").build();
+        ValueSet<String> valueSet4 = valueSetBuilder.addCondition("cond1", 2).addCondition("cond2", 1).addValue("value1").build();
+        ValueSet<String> valueSet5 = valueSetBuilder.addCondition("cond1", 1).addCondition("cond2", 2).addValue("value1").build();
+        ValueSet<String> valueSet6 = valueSetBuilder.addCondition("cond1", 3).addCondition("cond2", 3).addValue("value1").build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3, valueSet4, valueSet5, valueSet6);
+
+        ValueSetMinimizer<String> valueSetMinimizer1 = new ValueSetMinimizer<>(null, null, null, valueSets);
+        List<ValueSet<String>> minimizedValueSets = valueSetMinimizer1.getValueSets();
+        Assertions.assertThat(minimizedValueSets).hasSize(4);
+        Assertions.assertThat(minimizedValueSets.get(0)).isSameAs(valueSet1);
+        Assertions.assertThat(minimizedValueSets.get(1).getAllConditionValues("cond1")).containsExactly(1, 2);
+        Assertions.assertThat(minimizedValueSets.get(1).getAllConditionValues("cond2")).containsExactly(1, 2);
+        Assertions.assertThat(minimizedValueSets.get(1).getValues()).containsExactly("value1");
+        Assertions.assertThat(minimizedValueSets.get(2)).isSameAs(valueSet5);
+        Assertions.assertThat(minimizedValueSets.get(3)).isSameAs(valueSet6);
+        MinimizationReport<String> minimizationReport1 = valueSetMinimizer1.getMinimizationReport();
+        Assertions.assertThat(minimizationReport1.getValueSetCount()).isEqualTo(6);
+        Assertions.assertThat(minimizationReport1.getMinimizedValueSetCount()).isEqualTo(4);
+        Assertions.assertThat(minimizationReport1.getDuplicateValueSets()).isEmpty();
+        Assertions.assertThat(minimizationReport1.getMergedValueSets()).hasSize(1);
+        Assertions.assertThat(minimizationReport1.getMergedValueSets().get(minimizedValueSets.get(1))).containsExactlyInOrder(valueSet3, valueSet2, valueSet4);
+
+        ValueSetMinimizer<String> valueSetMinimizer2 = new ValueSetMinimizer<>(new AllValuesMatchTuplePredicate(), null, null, valueSets);
+        Assertions.assertThat(valueSetMinimizer2.getValueSets()).containsExactlyInOrder(valueSet1, valueSet2, valueSet4, valueSet5, valueSet6);
+        Assertions.assertThat(valueSetMinimizer2.getMinimizationReport().getUnmatchableValueSets()).containsExactlyInOrder(valueSet3);
+        Assertions.assertThat(valueSetMinimizer2.getMinimizationReport().getMergedValueSets()).isEmpty();
+    }
+
+    /**
+     * {@link ValueSetMinimizer} class test.
+     */
+    @Test
+    public void mergePredicateTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.setStringContainsPredicate("cond1").addCondition("cond1", "a").addValue("value1").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.setStringContainsPredicate("cond1").addCondition("cond1", "b").addValue("value1").build();
+        ValueSet<String> valueSet3 = valueSetBuilder.addCondition("cond1", "c").addValue("value1").build();
+        ValueSet<String> valueSet4 = valueSetBuilder.addCondition("cond1", "d").addValue("value1").build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3, valueSet4);
+
+        ValueSetMinimizer<String> valueSetMinimizer = new ValueSetMinimizer<>(null, null, null, valueSets);
+        List<ValueSet<String>> minimizedValueSets = valueSetMinimizer.getValueSets();
+        Assertions.assertThat(minimizedValueSets).hasSize(3);
+        Assertions.assertThat(minimizedValueSets.get(0)).isSameAs(valueSet1);
+        Assertions.assertThat(minimizedValueSets.get(1)).isSameAs(valueSet2);
+        Assertions.assertThat(minimizedValueSets.get(2).getAllConditionValues("cond1")).containsExactly("c", "d");
+    }
+
+    /**
+     * {@link ValueSetMinimizer} class test.
+     */
+    @Test
+    public void multiplicityTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.addCondition("cond1", 1).addValue("value1").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.addCondition("cond1", 1).addValue("value1").build();
+        ValueSet<String> valueSet3 = valueSetBuilder.addCondition("cond1", 2).addValue("value1").build();
+        ValueSet<String> valueSet4 = valueSetBuilder.addCondition("cond1", 3).addValue("value1").build();
+        ValueSet<String> valueSet5 = valueSetBuilder.addCondition("cond1", 2).addCondition("cond1", 3).addValue("value1").build();
+        ValueSet<String> valueSet6 = valueSetBuilder.addCondition("cond1", 4).addValue("value1").build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3, valueSet4, valueSet5, valueSet6);
+
+        ValueSetMinimizer<String> valueSetMinimizer = new ValueSetMinimizer<>(null, null, null, valueSets);
+        List<ValueSet<String>> minimizedValueSets = valueSetMinimizer.getValueSets();
+        Assertions.assertThat(minimizedValueSets).hasSize(2);
+        Assertions.assertThat(minimizedValueSets.get(0).getAllConditionValues("cond1")).containsExactly(1, 2, 3);
+        Assertions.assertThat(minimizedValueSets.get(0).getValues()).containsExactlyInOrder("value1", "value1");
+        Assertions.assertThat(minimizedValueSets.get(1)).isSameAs(valueSet6);
+        MinimizationReport<String> minimizationReport = valueSetMinimizer.getMinimizationReport();
+        Assertions.assertThat(minimizationReport.getDuplicateValueSets()).containsExactlyInOrder(valueSet2, valueSet5);
+        Assertions.assertThat(minimizationReport.getMergedValueSets()).hasSize(1);
+        Assertions.assertThat(minimizationReport.getMergedValueSets().get(minimizedValueSets.get(0))).containsExactlyInOrder(valueSet1, valueSet2, valueSet3, valueSet4, valueSet5);
+    }
+
+    /**
+     * {@link ValueSetMinimizer} class test.
+     */
+    @Test
+    public void equivalentPredicateTest() {
+        Assertions.assertThat(getMinimizedValueSetCount(new EqualsPredicate(), new EqualsPredicate())).isEqualTo(1);
+        Assertions.assertThat(getMinimizedValueSetCount(new StringEqualsIgnoreCasePredicate(), new StringEqualsIgnoreCasePredicate())).isEqualTo(1);
+        Assertions.assertThat(getMinimizedValueSetCount(new StringContainsPredicate(), new StringContainsPredicate())).isEqualTo(1);
+        Assertions.assertThat(getMinimizedValueSetCount(new StringContainsIgnoreCasePredicate(), new StringContainsIgnoreCasePredicate())).isEqualTo(1);
+        Assertions.assertThat(getMinimizedValueSetCount(new PatternMatchesPredicate(), new PatternMatchesPredicate())).isEqualTo(1);
+        Assertions.assertThat(getMinimizedValueSetCount(new PatternFindPredicate(), new PatternFindPredicate())).isEqualTo(1);
+        Assertions.assertThat(getMinimizedValueSetCount(new IsDividedByPredicate(), new IsDividedByPredicate())).isEqualTo(2);
+        Assertions.assertThat(getMinimizedValueSetCount(new PatternMatchesPredicate(), new PatternFindPredicate())).isEqualTo(2);
+        Predicate predicate = new IsDividedByPredicate();
+        Assertions.assertThat(getMinimizedValueSetCount(predicate, predicate)).isEqualTo(1);
+    }
+
+    /**
+     * {@link ValueSetMinimizer} class test.
+     */
+    @Test
+    public void mergeFoldedTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.addCondition("cond1", 1).addValue("value1").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.addCondition("cond1", 1).addValue("value1").build();
+        ValueSet<String> valueSet3 = valueSetBuilder.addCondition("cond1", 2).addValue("value1").build();
+        ValueSet<String> valueSet4 = valueSetBuilder.addCondition("cond1", 2).addValue("value1").build();
+        ValueSet<String> valueSet5 = valueSetBuilder.addCondition("cond1", 3).addValue("value1").build();
+        List<ValueSet<String>> valueSets1 = DataHelper.createArrayList(valueSet1, valueSet2, valueSet3, valueSet4);
+
+        ValueSetMinimizer<String> valueSetMinimizer1 = new ValueSetMinimizer<>(null, null, null, valueSets1);
+        List<ValueSet<String>> minimizedValueSets1 = valueSetMinimizer1.getValueSets();
+        Assertions.assertThat(minimizedValueSets1).hasSize(1);
+        Assertions.assertThat(minimizedValueSets1.get(0).getAllConditionValues("cond1")).containsExactly(1, 2);
+        Assertions.assertThat(minimizedValueSets1.get(0).getValues()).containsExactlyInOrder("value1", "value1");
+        Assertions.assertThat(valueSetMinimizer1.getMinimizationReport().getDuplicateValueSets()).containsExactlyInOrder(valueSet2, valueSet4);
+
+        List<ValueSet<String>> valueSets2 = DataHelper.createArrayList(valueSet1, valueSet2, valueSet5);
+        ValueSetMinimizer<String> valueSetMinimizer2 = new ValueSetMinimizer<>(null, null, null, valueSets2);
+        List<ValueSet<String>> minimizedValueSets2 = valueSetMinimizer2.getValueSets();
+        Assertions.assertThat(minimizedValueSets2).hasSize(2);
+        Assertions.assertThat(minimizedValueSets2.get(0).getAllConditionValues("cond1")).containsExactly(1);
+        Assertions.assertThat(minimizedValueSets2.get(0).getValues()).containsExactlyInOrder("value1", "value1");
+        Assertions.assertThat(minimizedValueSets2.get(1)).isSameAs(valueSet5);
+        Assertions.assertThat(valueSetMinimizer2.getMinimizationReport().getMergedValueSets()).hasSize(1);
+    }
+
+    private int getMinimizedValueSetCount(final Predicate predicate1, final Predicate predicate2) {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ValueSet<String> valueSet1 = valueSetBuilder.setPredicate("cond1", predicate1).addCondition("cond1", "4").addValue("value1").build();
+        ValueSet<String> valueSet2 = valueSetBuilder.setPredicate("cond1", predicate2).addCondition("cond1", "4").addValue("value1").build();
+        List<ValueSet<String>> valueSets = DataHelper.createArrayList(valueSet1, valueSet2);
+        ValueSetMinimizer<String> valueSetMinimizer = new ValueSetMinimizer<>(null, null, null, valueSets);
+        return valueSetMinimizer.getValueSets().size();
+    }
+
+}
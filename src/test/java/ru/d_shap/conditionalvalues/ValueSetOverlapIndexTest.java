@@ -0,0 +1,149 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link ValueSetOverlapIndex}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueSetOverlapIndexTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ValueSetOverlapIndexTest() {
+        super();
+    }
+
+    /**
+     * {@link ValueSetOverlapIndex} class test.
+     */
+    @Test
+    public void getOrdinalCountTest() {
+        Assertions.assertThat(new ValueSetOverlapIndex<>(createValueSets(), new int[0]).getOrdinalCount()).isEqualTo(0);
+        Assertions.assertThat(new ValueSetOverlapIndex<>(createValueSets(), new int[]{0, 1, 2, 3, 4, 5}).getOrdinalCount()).isEqualTo(6);
+    }
+
+    /**
+     * {@link ValueSetOverlapIndex} class test.
+     */
+    @Test
+    public void getOverlappingOrdinalsTest() {
+        ValueSetOverlapIndex<String> valueSetOverlapIndex1 = new ValueSetOverlapIndex<>(createValueSets(), new int[]{0, 1, 2, 3, 4, 5});
+        Assertions.assertThat(valueSetOverlapIndex1.getOverlappingOrdinals(0)).hasToString("{1, 4, 5}");
+        Assertions.assertThat(valueSetOverlapIndex1.getOverlappingOrdinals(1)).hasToString("{2, 4}");
+        Assertions.assertThat(valueSetOverlapIndex1.getOverlappingOrdinals(2)).hasToString("{4}");
+        Assertions.assertThat(valueSetOverlapIndex1.getOverlappingOrdinals(3)).hasToString("{4}");
+        Assertions.assertThat(valueSetOverlapIndex1.getOverlappingOrdinals(4)).hasToString("{}");
+        Assertions.assertThat(valueSetOverlapIndex1.getOverlappingOrdinals(5)).hasToString("{}");
+
+        ValueSetOverlapIndex<String> valueSetOverlapIndex2 = new ValueSetOverlapIndex<>(createValueSets(), new int[]{0, 2, 3, 5});
+        Assertions.assertThat(valueSetOverlapIndex2.getOverlappingOrdinals(0)).hasToString("{5}");
+        Assertions.assertThat(valueSetOverlapIndex2.getOverlappingOrdinals(2)).hasToString("{}");
+        Assertions.assertThat(valueSetOverlapIndex2.getOverlappingOrdinals(3)).hasToString("{}");
+    }
+
+    /**
+     * {@link ValueSetOverlapIndex} class test.
+     */
+    @Test
+    public void addOverlappingOrdinalsTest() {
+        ValueSetOverlapIndex<String> valueSetOverlapIndex = new ValueSetOverlapIndex<>(createValueSets(), new int[]{0, 1, 2, 3, 4, 5});
+        IntList ordinalPairs1 = new IntList();
+        valueSetOverlapIndex.addOverlappingOrdinals(0, 6, ordinalPairs1);
+        Assertions.assertThat(ordinalPairs1).hasToString("[0, 1, 0, 4, 0, 5, 1, 2, 1, 4, 2, 4, 3, 4]");
+
+        IntList ordinalPairs2 = new IntList();
+        valueSetOverlapIndex.addOverlappingOrdinals(1, 3, ordinalPairs2);
+        Assertions.assertThat(ordinalPairs2).hasToString("[1, 2, 1, 4, 2, 4]");
+
+        IntList ordinalPairs3 = new IntList();
+        valueSetOverlapIndex.addOverlappingOrdinals(4, 6, ordinalPairs3);
+        Assertions.assertThat(ordinalPairs3.isEmpty()).isTrue();
+    }
+
+    /**
+     * {@link ValueSetOverlapIndex} class test.
+     */
+    @Test
+    public void createConditionsTest() {
+        ValueSetOverlapIndex<String> valueSetOverlapIndex = new ValueSetOverlapIndex<>(createValueSets(), new int[]{0, 1, 2, 3, 4, 5});
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(0, 1)).hasSize(2);
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(0, 1)).containsEntry("cond1", 2);
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(0, 1)).containsEntry("cond2", "a");
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(1, 2)).hasSize(2);
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(1, 2)).containsEntry("cond1", 3);
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(1, 2)).containsEntry("cond2", "b");
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(3, 4)).hasSize(2);
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(3, 4)).containsEntry("cond1", 1);
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(3, 4)).containsEntry("cond3", "x");
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(0, 5)).hasSize(3);
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(0, 5)).containsEntry("cond1", 1);
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(0, 5)).containsEntry("cond2", "a");
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(0, 5)).containsEntry("cond3", "y");
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(0, 2)).hasSize(2);
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(0, 2)).containsEntry("cond1", null);
+        Assertions.assertThat(valueSetOverlapIndex.createConditions(0, 2)).containsEntry("cond2", null);
+    }
+
+    static List<ValueSet<String>> createValueSets() {
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.addCondition("cond1", 1);
+        valueSetBuilder.addCondition("cond1", 2);
+        valueSetBuilder.addCondition("cond2", "a");
+        valueSetBuilder.addValue("value0");
+        valueSets.add(valueSetBuilder.build());
+        valueSetBuilder.addCondition("cond1", 2);
+        valueSetBuilder.addCondition("cond1", 3);
+        valueSetBuilder.addCondition("cond2", "a");
+        valueSetBuilder.addCondition("cond2", "b");
+        valueSetBuilder.addValue("value1");
+        valueSets.add(valueSetBuilder.build());
+        valueSetBuilder.addCondition("cond1", 3);
+        valueSetBuilder.addCondition("cond2", "b");
+        valueSetBuilder.addValue("value2");
+        valueSets.add(valueSetBuilder.build());
+        valueSetBuilder.addCondition("cond1", 1);
+        valueSetBuilder.addValue("value3");
+        valueSets.add(valueSetBuilder.build());
+        valueSetBuilder.addCondition("cond3", "x");
+        valueSetBuilder.addValue("value4");
+        valueSets.add(valueSetBuilder.build());
+        valueSetBuilder.addCondition("cond1", 1);
+        valueSetBuilder.addCondition("cond3", "y");
+        valueSetBuilder.addValue("value5");
+        valueSets.add(valueSetBuilder.build());
+        valueSetBuilder.setStringContainsPredicate("cond4");
+        valueSetBuilder.addCondition("cond4", "1");
+        valueSetBuilder.addValue("value6");
+        valueSets.add(valueSetBuilder.build());
+        return valueSets;
+    }
+
+}
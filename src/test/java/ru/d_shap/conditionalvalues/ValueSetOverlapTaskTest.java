@@ -0,0 +1,102 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link ValueSetOverlapTask}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueSetOverlapTaskTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ValueSetOverlapTaskTest() {
+        super();
+    }
+
+    /**
+     * {@link ValueSetOverlapTask} class test.
+     */
+    @Test
+    public void runSinglePartitionTest() {
+        ValueSetOverlapIndex<String> valueSetOverlapIndex = new ValueSetOverlapIndex<>(ValueSetOverlapIndexTest.createValueSets(), new int[]{0, 1, 2, 3, 4, 5});
+        ValueSetOverlapTask<String> valueSetOverlapTask = new ValueSetOverlapTask<>(valueSetOverlapIndex, 1, 4);
+        valueSetOverlapTask.run();
+        IntList ordinalPairs = new IntList();
+        valueSetOverlapTask.addOrdinalPairs(ordinalPairs);
+        Assertions.assertThat(ordinalPairs).hasToString("[1, 2, 1, 4, 2, 4, 3, 4]");
+    }
+
+    /**
+     * {@link ValueSetOverlapTask} class test.
+     */
+    @Test
+    public void runSplitTest() {
+        int valueSetCount = ValueSetOverlapTask.MAX_PARTITION_SIZE * 5 + 3;
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        int[] ordinals = new int[valueSetCount];
+        for (int i = 0; i < valueSetCount; i++) {
+            valueSetBuilder.addCondition("cond1", i / 2);
+            valueSetBuilder.addValue("value" + i);
+            valueSets.add(valueSetBuilder.build());
+            ordinals[i] = i;
+        }
+        ValueSetOverlapIndex<String> valueSetOverlapIndex = new ValueSetOverlapIndex<>(valueSets, ordinals);
+        ValueSetOverlapTask<String> valueSetOverlapTask = new ValueSetOverlapTask<>(valueSetOverlapIndex, 0, valueSetCount);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            forkJoinPool.invoke(ForkJoinTask.adapt(valueSetOverlapTask));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+        IntList ordinalPairs = new IntList();
+        valueSetOverlapTask.addOrdinalPairs(ordinalPairs);
+        Assertions.assertThat(ordinalPairs.size()).isEqualTo(valueSetCount / 2 * 2);
+        for (int i = 0; i < ordinalPairs.size(); i += 2) {
+            Assertions.assertThat(ordinalPairs.get(i)).isEqualTo(i);
+            Assertions.assertThat(ordinalPairs.get(i + 1)).isEqualTo(i + 1);
+        }
+    }
+
+    /**
+     * {@link ValueSetOverlapTask} class test.
+     */
+    @Test
+    public void addOrdinalPairsNotRunTest() {
+        ValueSetOverlapIndex<String> valueSetOverlapIndex = new ValueSetOverlapIndex<>(ValueSetOverlapIndexTest.createValueSets(), new int[0]);
+        ValueSetOverlapTask<String> valueSetOverlapTask = new ValueSetOverlapTask<>(valueSetOverlapIndex, 0, 0);
+        IntList ordinalPairs = new IntList();
+        valueSetOverlapTask.addOrdinalPairs(ordinalPairs);
+        Assertions.assertThat(ordinalPairs.isEmpty()).isTrue();
+    }
+
+}
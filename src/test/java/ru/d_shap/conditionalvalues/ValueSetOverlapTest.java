@@ -0,0 +1,82 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link ValueSetOverlap}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueSetOverlapTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ValueSetOverlapTest() {
+        super();
+    }
+
+    /**
+     * {@link ValueSetOverlap} class test.
+     */
+    @Test
+    public void getFirstValueSetTest() {
+        ValueSet<String> valueSet = ValueSetBuilder.<String>newInstance().addCondition("cond", "val1").build();
+        ValueSetOverlap<String> valueSetOverlap = new ValueSetOverlap<>(valueSet, null, null);
+        Assertions.assertThat(valueSetOverlap.getFirstValueSet()).isSameAs(valueSet);
+    }
+
+    /**
+     * {@link ValueSetOverlap} class test.
+     */
+    @Test
+    public void getSecondValueSetTest() {
+        ValueSet<String> valueSet = ValueSetBuilder.<String>newInstance().addCondition("cond", "val1").build();
+        ValueSetOverlap<String> valueSetOverlap = new ValueSetOverlap<>(null, valueSet, null);
+        Assertions.assertThat(valueSetOverlap.getSecondValueSet()).isSameAs(valueSet);
+    }
+
+    /**
+     * {@link ValueSetOverlap} class test.
+     */
+    @Test
+    public void getConditionSetTest() {
+        ConditionSet conditionSet = ConditionSetBuilder.newInstance().addCondition("cond", "val1").build();
+        ValueSetOverlap<String> valueSetOverlap = new ValueSetOverlap<>(null, null, conditionSet);
+        Assertions.assertThat(valueSetOverlap.getConditionSet()).isSameAs(conditionSet);
+    }
+
+    /**
+     * {@link ValueSetOverlap} class test.
+     */
+    @Test
+    public void toStringTest() {
+        ValueSet<String> valueSet1 = ValueSetBuilder.<String>newInstance().setId("id1").addCondition("cond1", "val1").build();
+        ValueSet<String> valueSet2 = ValueSetBuilder.<String>newInstance().addCondition("cond2", "val2").build();
+        ConditionSet conditionSet = ConditionSetBuilder.newInstance().addCondition("cond1", "val1").build();
+        ValueSetOverlap<String> valueSetOverlap = new ValueSetOverlap<>(valueSet1, valueSet2, conditionSet);
+        Assertions.assertThat(valueSetOverlap).hasToString("id1={cond1=[val1]}, {cond2=[val2]}: {cond1=val1}");
+    }
+
+}
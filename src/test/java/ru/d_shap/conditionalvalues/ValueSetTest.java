@@ -66,6 +66,33 @@ public final class ValueSetTest {
         Assertions.assertThat(valueSet4.getId()).isEqualTo("id");
     }
 
+    /**
+     * {@link ValueSet} class test.
+     */
+    @Test
+    public void getPredicateTest() {
+        ValueSet<String> valueSet1 = new ValueSet<>(null, null, null, null, null);
+        Assertions.assertThat(valueSet1.getPredicate()).isNull();
+
+        Predicate predicate = new EqualsPredicate();
+        ValueSet<String> valueSet2 = new ValueSet<>(null, predicate, null, null, null);
+        Assertions.assertThat(valueSet2.getPredicate()).isSameAs(predicate);
+    }
+
+    /**
+     * {@link ValueSet} class test.
+     */
+    @Test
+    public void getPredicatesTest() {
+        ValueSet<String> valueSet1 = new ValueSet<>(null, null, null, null, null);
+        Assertions.assertThat(valueSet1.getPredicates()).isEmpty();
+
+        Predicate predicate = new EqualsPredicate();
+        Map<String, Predicate> predicates = DataHelper.createHashMap("cond1", predicate, "cond2", null);
+        ValueSet<String> valueSet2 = new ValueSet<>(null, null, predicates, null, null);
+        Assertions.assertThat(valueSet2.getPredicates()).containsExactly("cond1", predicate);
+    }
+
     /**
      * {@link ValueSet} class test.
      */
@@ -822,6 +849,53 @@ public final class ValueSetTest {
         Assertions.assertThat(valueSet5.isMatchConditions(new ConditionSet(conditions504), new AnyValueMatchesTuplePredicate(), predicates504, null)).isTrue();
     }
 
+    /**
+     * {@link ValueSet} class test.
+     */
+    @Test
+    public void createConditionMatcherTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+
+        valueSetBuilder.addCondition("cond1", "val11");
+        valueSetBuilder.addCondition("cond1", "val12");
+        valueSetBuilder.addCondition("cond2", "val21");
+        valueSetBuilder.addCondition("cond3", "val31");
+        valueSetBuilder.addCondition("cond3", 3);
+        valueSetBuilder.setStringEqualsIgnoreCasePredicate("cond3");
+        valueSetBuilder.addValue("val");
+        ValueSet<String> valueSet = valueSetBuilder.build();
+        Map<String, Predicate> predicates = DataHelper.<String, Predicate>createHashMap("cond2", new StringEqualsIgnoreCasePredicate());
+
+        ConditionMatcher conditionMatcher11 = valueSet.createConditionMatcher("cond1", new AnyValueMatchesTuplePredicate(), predicates, new EqualsPredicate());
+        Assertions.assertThat(conditionMatcher11).isInstanceOf(ValueMembershipMatcher.class);
+        Assertions.assertThat(conditionMatcher11.isMatch("val12")).isTrue();
+        Assertions.assertThat(conditionMatcher11.isMatch("VAL12")).isFalse();
+        ConditionMatcher conditionMatcher12 = valueSet.createConditionMatcher("cond2", new AnyValueMatchesTuplePredicate(), predicates, new EqualsPredicate());
+        Assertions.assertThat(conditionMatcher12).isInstanceOf(FoldedValueMembershipMatcher.class);
+        Assertions.assertThat(conditionMatcher12.isMatch("VAL21")).isTrue();
+        ConditionMatcher conditionMatcher13 = valueSet.createConditionMatcher("cond3", new AnyValueMatchesTuplePredicate(), predicates, new EqualsPredicate());
+        Assertions.assertThat(conditionMatcher13).isInstanceOf(TuplePredicateMatcher.class);
+        ConditionMatcher conditionMatcher14 = valueSet.createConditionMatcher("cond1", new AnyValueMatchesTuplePredicate(), predicates, new StringContainsPredicate());
+        Assertions.assertThat(conditionMatcher14).isInstanceOf(TuplePredicateMatcher.class);
+        Assertions.assertThat(conditionMatcher14.isMatch("xval11x")).isTrue();
+
+        ConditionMatcher conditionMatcher21 = valueSet.createConditionMatcher("cond1", new AllValuesMatchTuplePredicate(), predicates, new EqualsPredicate());
+        Assertions.assertThat(conditionMatcher21).isInstanceOf(TuplePredicateMatcher.class);
+        Assertions.assertThat(conditionMatcher21.isMatch("val11")).isFalse();
+        ConditionMatcher conditionMatcher22 = valueSet.createConditionMatcher("cond2", new AllValuesMatchTuplePredicate(), null, new EqualsPredicate());
+        Assertions.assertThat(conditionMatcher22).isInstanceOf(SingleValueMatcher.class);
+        Assertions.assertThat(conditionMatcher22.isMatch("val21")).isTrue();
+        Assertions.assertThat(conditionMatcher22.isMatch("VAL21")).isFalse();
+        ConditionMatcher conditionMatcher23 = valueSet.createConditionMatcher("cond2", new AllValuesMatchTuplePredicate(), predicates, new EqualsPredicate());
+        Assertions.assertThat(conditionMatcher23).isInstanceOf(TuplePredicateMatcher.class);
+        Assertions.assertThat(conditionMatcher23.isMatch("VAL21")).isTrue();
+
+        ConditionMatcher conditionMatcher31 = valueSet.createConditionMatcher("cond4", new AnyValueMatchesTuplePredicate(), predicates, new EqualsPredicate());
+        Assertions.assertThat(conditionMatcher31.isMatch("val")).isFalse();
+        ConditionMatcher conditionMatcher32 = valueSet.createConditionMatcher("cond4", new AllValuesMatchTuplePredicate(), predicates, new EqualsPredicate());
+        Assertions.assertThat(conditionMatcher32.isMatch("val")).isFalse();
+    }
+
     /**
      * {@link ValueSet} class test.
      */
@@ -0,0 +1,215 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link ValueSetUniqueConditionIterator}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueSetUniqueConditionIteratorTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ValueSetUniqueConditionIteratorTest() {
+        super();
+    }
+
+    /**
+     * {@link ValueSetUniqueConditionIterator} class test.
+     */
+    @Test
+    public void getRemainingCountTest() {
+        Assertions.assertThat(new ValueSetUniqueConditionIterator(new ArrayList<ValueSet<String>>()).getRemainingCount()).isEqualTo(0L);
+
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator = new ValueSetUniqueConditionIterator(createValueSets());
+        Assertions.assertThat(valueSetUniqueConditionIterator.getRemainingCount()).isEqualTo(9L);
+        valueSetUniqueConditionIterator.next();
+        Assertions.assertThat(valueSetUniqueConditionIterator.getRemainingCount()).isEqualTo(8L);
+    }
+
+    /**
+     * {@link ValueSetUniqueConditionIterator} class test.
+     */
+    @Test
+    public void nextTest() {
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator1 = new ValueSetUniqueConditionIterator(new ArrayList<ValueSet<String>>());
+        Assertions.assertThat(valueSetUniqueConditionIterator1.hasNext()).isFalse();
+
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator2 = new ValueSetUniqueConditionIterator(createValueSets());
+        Assertions.assertThat(getValueSetUniqueConditions(valueSetUniqueConditionIterator2)).isEqualTo("[id1={cond1=1, cond2=1}, id1={cond1=1, cond2=2}, id1={cond1=1, cond2=3}, id1={cond1=2, cond2=1}, id1={cond1=2, cond2=2}, id1={cond1=2, cond2=3}, id3={cond3=1}, id5={cond1=3}, id5={cond1=4}]");
+        Assertions.assertThat(valueSetUniqueConditionIterator2.hasNext()).isFalse();
+        try {
+            valueSetUniqueConditionIterator2.next();
+            Assertions.fail("ValueSetUniqueConditionIterator test fail");
+        } catch (NoSuchElementException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    /**
+     * {@link ValueSetUniqueConditionIterator} class test.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void removeFailTest() {
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator = new ValueSetUniqueConditionIterator(createValueSets());
+        valueSetUniqueConditionIterator.next();
+        valueSetUniqueConditionIterator.remove();
+    }
+
+    /**
+     * {@link ValueSetUniqueConditionIterator} class test.
+     */
+    @Test
+    public void trySplitTest() {
+        Assertions.assertThat(new ValueSetUniqueConditionIterator(new ArrayList<ValueSet<String>>()).trySplit()).isNull();
+
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator1 = new ValueSetUniqueConditionIterator(createValueSets());
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator2 = valueSetUniqueConditionIterator1.trySplit();
+        Assertions.assertThat(valueSetUniqueConditionIterator1.getRemainingCount()).isEqualTo(4L);
+        Assertions.assertThat(valueSetUniqueConditionIterator2.getRemainingCount()).isEqualTo(5L);
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator3 = valueSetUniqueConditionIterator2.trySplit();
+        Assertions.assertThat(valueSetUniqueConditionIterator2.getRemainingCount()).isEqualTo(2L);
+        Assertions.assertThat(valueSetUniqueConditionIterator3.getRemainingCount()).isEqualTo(3L);
+
+        valueSetUniqueConditionIterator1.next();
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator4 = valueSetUniqueConditionIterator1.trySplit();
+        Assertions.assertThat(getValueSetUniqueConditions(valueSetUniqueConditionIterator1)).isEqualTo("[id1={cond1=1, cond2=2}]");
+        Assertions.assertThat(getValueSetUniqueConditions(valueSetUniqueConditionIterator4)).isEqualTo("[id1={cond1=1, cond2=3}, id1={cond1=2, cond2=1}]");
+        Assertions.assertThat(getValueSetUniqueConditions(valueSetUniqueConditionIterator2)).isEqualTo("[id1={cond1=2, cond2=2}, id1={cond1=2, cond2=3}]");
+        Assertions.assertThat(getValueSetUniqueConditions(valueSetUniqueConditionIterator3)).isEqualTo("[id3={cond3=1}, id5={cond1=3}, id5={cond1=4}]");
+
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator5 = new ValueSetUniqueConditionIterator(createValueSets());
+        for (int i = 0; i < 8; i++) {
+            valueSetUniqueConditionIterator5.next();
+        }
+        Assertions.assertThat(valueSetUniqueConditionIterator5.trySplit()).isNull();
+        Assertions.assertThat(getValueSetUniqueConditions(valueSetUniqueConditionIterator5)).isEqualTo("[id5={cond1=4}]");
+    }
+
+    /**
+     * {@link ValueSetUniqueConditionIterator} class test.
+     */
+    @Test
+    public void trySplitEmptyValueSetsTest() {
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator1 = new ValueSetUniqueConditionIterator(createValueSets());
+        for (int i = 0; i < 5; i++) {
+            valueSetUniqueConditionIterator1.next();
+        }
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator2 = valueSetUniqueConditionIterator1.trySplit();
+        Assertions.assertThat(getValueSetUniqueConditions(valueSetUniqueConditionIterator1)).isEqualTo("[id1={cond1=2, cond2=3}, id3={cond3=1}]");
+        Assertions.assertThat(getValueSetUniqueConditions(valueSetUniqueConditionIterator2)).isEqualTo("[id5={cond1=3}, id5={cond1=4}]");
+    }
+
+    /**
+     * {@link ValueSetUniqueConditionIterator} class test.
+     */
+    @Test
+    public void trySplitBetweenEmptyValueSetsTest() {
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.setId("id1");
+        valueSetBuilder.addCondition("cond1", 1);
+        valueSetBuilder.addCondition("cond1", 2);
+        valueSets.add(valueSetBuilder.build());
+        for (int i = 2; i < 5; i++) {
+            valueSetBuilder.setId("id" + i);
+            valueSets.add(valueSetBuilder.build());
+        }
+        valueSetBuilder.setId("id5");
+        valueSetBuilder.addCondition("cond1", 3);
+        valueSetBuilder.addCondition("cond1", 4);
+        valueSets.add(valueSetBuilder.build());
+
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator1 = new ValueSetUniqueConditionIterator(valueSets);
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator2 = valueSetUniqueConditionIterator1.trySplit();
+        Assertions.assertThat(getValueSetUniqueConditions(valueSetUniqueConditionIterator1)).isEqualTo("[id1={cond1=1}, id1={cond1=2}]");
+        Assertions.assertThat(getValueSetUniqueConditions(valueSetUniqueConditionIterator2)).isEqualTo("[id5={cond1=3}, id5={cond1=4}]");
+    }
+
+    /**
+     * {@link ValueSetUniqueConditionIterator} class test.
+     */
+    @Test
+    public void trySplitOverflowTest() {
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        for (int i = 1; i < 3; i++) {
+            valueSetBuilder.setId("id" + i);
+            for (int j = 0; j < 64; j++) {
+                valueSetBuilder.addCondition("cond" + j, 1);
+                valueSetBuilder.addCondition("cond" + j, 2);
+            }
+            valueSets.add(valueSetBuilder.build());
+        }
+
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator1 = new ValueSetUniqueConditionIterator(valueSets);
+        Assertions.assertThat(valueSetUniqueConditionIterator1.getRemainingCount()).isEqualTo(Long.MAX_VALUE);
+        ValueSetUniqueConditionIterator valueSetUniqueConditionIterator2 = valueSetUniqueConditionIterator1.trySplit();
+        Assertions.assertThat(valueSetUniqueConditionIterator1.getRemainingCount()).isEqualTo(Long.MAX_VALUE / 2L);
+        Assertions.assertThat(valueSetUniqueConditionIterator2.getRemainingCount()).isEqualTo(Long.MAX_VALUE - Long.MAX_VALUE / 2L);
+        Assertions.assertThat(valueSetUniqueConditionIterator1.next().getId()).isEqualTo("id1");
+        Assertions.assertThat(valueSetUniqueConditionIterator2.next().getId()).isEqualTo("id1");
+    }
+
+    private String getValueSetUniqueConditions(final ValueSetUniqueConditionIterator valueSetUniqueConditionIterator) {
+        List<ValueSetUniqueCondition> valueSetUniqueConditions = new ArrayList<>();
+        while (valueSetUniqueConditionIterator.hasNext()) {
+            valueSetUniqueConditions.add(valueSetUniqueConditionIterator.next());
+        }
+        return valueSetUniqueConditions.toString();
+    }
+
+    private List<ValueSet<String>> createValueSets() {
+        List<ValueSet<String>> valueSets = new ArrayList<>();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.setId("id0");
+        valueSets.add(valueSetBuilder.build());
+        valueSetBuilder.setId("id1");
+        valueSetBuilder.addCondition("cond1", 1);
+        valueSetBuilder.addCondition("cond1", 2);
+        valueSetBuilder.addCondition("cond2", 1);
+        valueSetBuilder.addCondition("cond2", 2);
+        valueSetBuilder.addCondition("cond2", 3);
+        valueSets.add(valueSetBuilder.build());
+        valueSetBuilder.setId("id2");
+        valueSets.add(valueSetBuilder.build());
+        valueSetBuilder.setId("id3");
+        valueSetBuilder.addCondition("cond3", 1);
+        valueSets.add(valueSetBuilder.build());
+        valueSetBuilder.setId("id4");
+        valueSets.add(valueSetBuilder.build());
+        valueSetBuilder.setId("id5");
+        valueSetBuilder.addCondition("cond1", 3);
+        valueSetBuilder.addCondition("cond1", 4);
+        valueSets.add(valueSetBuilder.build());
+        return valueSets;
+    }
+
+}
@@ -0,0 +1,136 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link ValueSetUniqueConditionSpace}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueSetUniqueConditionSpaceTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ValueSetUniqueConditionSpaceTest() {
+        super();
+    }
+
+    /**
+     * {@link ValueSetUniqueConditionSpace} class test.
+     */
+    @Test
+    public void getSizeTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        Assertions.assertThat(new ValueSetUniqueConditionSpace(valueSetBuilder.build()).getSize()).isEqualTo(0L);
+
+        valueSetBuilder.addCondition("cond1", 1);
+        Assertions.assertThat(new ValueSetUniqueConditionSpace(valueSetBuilder.build()).getSize()).isEqualTo(1L);
+
+        valueSetBuilder.addCondition("cond1", 1);
+        valueSetBuilder.addCondition("cond1", 2);
+        valueSetBuilder.addCondition("cond2", 1);
+        valueSetBuilder.addCondition("cond2", 2);
+        valueSetBuilder.addCondition("cond2", 3);
+        Assertions.assertThat(new ValueSetUniqueConditionSpace(valueSetBuilder.build()).getSize()).isEqualTo(6L);
+
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 10000; j++) {
+                valueSetBuilder.addCondition("cond" + i, j);
+            }
+        }
+        Assertions.assertThat(new ValueSetUniqueConditionSpace(valueSetBuilder.build()).getSize()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    /**
+     * {@link ValueSetUniqueConditionSpace} class test.
+     */
+    @Test
+    public void getDigitCountTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        Assertions.assertThat(new ValueSetUniqueConditionSpace(valueSetBuilder.build()).getDigitCount()).isEqualTo(0);
+
+        valueSetBuilder.addCondition("cond1", 1);
+        valueSetBuilder.addCondition("cond1", 2);
+        valueSetBuilder.addCondition("cond2", 1);
+        Assertions.assertThat(new ValueSetUniqueConditionSpace(valueSetBuilder.build()).getDigitCount()).isEqualTo(2);
+    }
+
+    /**
+     * {@link ValueSetUniqueConditionSpace} class test.
+     */
+    @Test
+    public void setDigitsTest() {
+        ValueSetUniqueConditionSpace valueSetUniqueConditionSpace = createValueSetUniqueConditionSpace();
+        int[] digits = new int[2];
+        valueSetUniqueConditionSpace.setDigits(0L, digits);
+        Assertions.assertThat(digits).containsExactlyInOrder(0, 0);
+        valueSetUniqueConditionSpace.setDigits(1L, digits);
+        Assertions.assertThat(digits).containsExactlyInOrder(0, 1);
+        valueSetUniqueConditionSpace.setDigits(3L, digits);
+        Assertions.assertThat(digits).containsExactlyInOrder(1, 0);
+        valueSetUniqueConditionSpace.setDigits(5L, digits);
+        Assertions.assertThat(digits).containsExactlyInOrder(1, 2);
+    }
+
+    /**
+     * {@link ValueSetUniqueConditionSpace} class test.
+     */
+    @Test
+    public void incrementDigitsTest() {
+        ValueSetUniqueConditionSpace valueSetUniqueConditionSpace = createValueSetUniqueConditionSpace();
+        int[] digits = new int[2];
+        for (long i = 1L; i < valueSetUniqueConditionSpace.getSize(); i++) {
+            Assertions.assertThat(valueSetUniqueConditionSpace.incrementDigits(digits)).isTrue();
+            int[] expectedDigits = new int[2];
+            valueSetUniqueConditionSpace.setDigits(i, expectedDigits);
+            Assertions.assertThat(digits).containsExactlyInOrder(expectedDigits);
+        }
+        Assertions.assertThat(valueSetUniqueConditionSpace.incrementDigits(digits)).isFalse();
+        Assertions.assertThat(digits).containsExactlyInOrder(0, 0);
+    }
+
+    /**
+     * {@link ValueSetUniqueConditionSpace} class test.
+     */
+    @Test
+    public void createValueSetUniqueConditionTest() {
+        ValueSetUniqueConditionSpace valueSetUniqueConditionSpace = createValueSetUniqueConditionSpace();
+        Assertions.assertThat(valueSetUniqueConditionSpace.createValueSetUniqueCondition(new int[]{0, 0})).hasToString("id={cond1=1, cond2=1}");
+        Assertions.assertThat(valueSetUniqueConditionSpace.createValueSetUniqueCondition(new int[]{0, 2})).hasToString("id={cond1=1, cond2=3}");
+        Assertions.assertThat(valueSetUniqueConditionSpace.createValueSetUniqueCondition(new int[]{1, 1})).hasToString("id={cond1=2, cond2=2}");
+    }
+
+    private ValueSetUniqueConditionSpace createValueSetUniqueConditionSpace() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        valueSetBuilder.setId("id");
+        valueSetBuilder.addCondition("cond1", 1);
+        valueSetBuilder.addCondition("cond1", 2);
+        valueSetBuilder.addCondition("cond2", 1);
+        valueSetBuilder.addCondition("cond2", 2);
+        valueSetBuilder.addCondition("cond2", 3);
+        return new ValueSetUniqueConditionSpace(valueSetBuilder.build());
+    }
+
+}
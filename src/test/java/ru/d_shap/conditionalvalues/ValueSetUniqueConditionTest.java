@@ -132,6 +132,13 @@ public final class ValueSetUniqueConditionTest {
         } catch (DuplicateConditionNameException ex) {
             Assertions.assertThat(ex).hasMessage("Duplicate condition name: name1");
         }
+
+        ValueSetUniqueCondition valueSetUniqueCondition10 = new ValueSetUniqueCondition("id", new UniqueConditionMap(new String[]{"name1", "name2"}, new Object[]{"value1", "value2"}));
+        Map<String, Object> conditions10 = valueSetUniqueCondition10.getConditions();
+        Assertions.assertThat(conditions10).hasSize(2);
+        Assertions.assertThat(conditions10).containsEntry("name1", "value1");
+        Assertions.assertThat(conditions10).containsEntry("name2", "value2");
+        Assertions.assertThat(valueSetUniqueCondition10).hasToString("id={name1=value1, name2=value2}");
     }
 
     /**
@@ -21,6 +21,7 @@ package ru.d_shap.conditionalvalues;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Test;
 
@@ -895,6 +896,32 @@ public final class ValuesTest {
         values.getAllUniqueValues().add("value");
     }
 
+    /**
+     * {@link Values} class test.
+     */
+    @Test
+    public void getAllUniqueValuesSharedTest() {
+        List<String> allValues = DataHelper.createArrayList("val1", "val2", "val2");
+        Set<String> allUniqueValues = Values.createSet(null, allValues);
+        Values<String> values1 = new Values<>(null, DataHelper.<ValueSet<String>>createArrayList(), allValues, allUniqueValues);
+        Values<String> values2 = new Values<>(null, DataHelper.<ValueSet<String>>createArrayList(), allValues, allUniqueValues);
+        Assertions.assertThat(values1.allValuesContain("val3")).isFalse();
+        Assertions.assertThat(values1.getAllUniqueValues()).containsExactly("val1", "val2");
+        Assertions.assertThat(values1.getAllUniqueValues()).isSameAs(values1.getAllUniqueValues());
+        Assertions.assertThat(values1.getAllUniqueValues()).isNotSameAs(allUniqueValues);
+
+        values1.getAllUniqueValues().add("val3");
+        values1.getAllUniqueValues().remove("val1");
+        Assertions.assertThat(values1.getAllUniqueValues()).containsExactly("val2", "val3");
+        Assertions.assertThat(values1.allValuesContain("val3")).isTrue();
+        Assertions.assertThat(values1.allValuesDoesNotContain("val1")).isTrue();
+        Assertions.assertThat(values1.doesNotContain("val3")).isTrue();
+        Assertions.assertThat(allUniqueValues).containsExactly("val1", "val2");
+        Assertions.assertThat(values2.allValuesContain("val3")).isFalse();
+        Assertions.assertThat(values2.allValuesDoesNotContain("val1")).isFalse();
+        Assertions.assertThat(values2.getAllUniqueValues()).containsExactly("val1", "val2");
+    }
+
     /**
      * {@link Values} class test.
      */
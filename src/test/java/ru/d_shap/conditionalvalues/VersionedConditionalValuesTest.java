@@ -0,0 +1,84 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link VersionedConditionalValues}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class VersionedConditionalValuesTest {
+
+    /**
+     * Test class constructor.
+     */
+    public VersionedConditionalValuesTest() {
+        super();
+    }
+
+    /**
+     * {@link VersionedConditionalValues} class test.
+     */
+    @Test
+    public void getNameTest() {
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, new ArrayList<ValueSet<String>>());
+        Assertions.assertThat(new VersionedConditionalValues<>(null, 1L, conditionalValues).getName()).isNull();
+        Assertions.assertThat(new VersionedConditionalValues<>("table", 1L, conditionalValues).getName()).isEqualTo("table");
+    }
+
+    /**
+     * {@link VersionedConditionalValues} class test.
+     */
+    @Test
+    public void getVersionTest() {
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, new ArrayList<ValueSet<String>>());
+        Assertions.assertThat(new VersionedConditionalValues<>("table", 1L, conditionalValues).getVersion()).isEqualTo(1L);
+        Assertions.assertThat(new VersionedConditionalValues<>("table", 5L, conditionalValues).getVersion()).isEqualTo(5L);
+    }
+
+    /**
+     * {@link VersionedConditionalValues} class test.
+     */
+    @Test
+    public void getConditionalValuesTest() {
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, new ArrayList<ValueSet<String>>());
+        Assertions.assertThat(new VersionedConditionalValues<>("table", 1L, conditionalValues).getConditionalValues()).isSameAs(conditionalValues);
+        Assertions.assertThat(new VersionedConditionalValues<String>("table", 1L, null).getConditionalValues()).isNull();
+    }
+
+    /**
+     * {@link VersionedConditionalValues} class test.
+     */
+    @Test
+    public void toStringTest() {
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        ArrayList<ValueSet<String>> valueSets = new ArrayList<>();
+        valueSets.add(valueSetBuilder.setId("id").addCondition("cond", "val").addValue("value").build());
+        ConditionalValues<String> conditionalValues = new ConditionalValues<>(null, null, null, null, valueSets);
+        Assertions.assertThat(new VersionedConditionalValues<>("table", 3L, conditionalValues)).hasToString("table@3=[id={cond=[val]}]");
+    }
+
+}
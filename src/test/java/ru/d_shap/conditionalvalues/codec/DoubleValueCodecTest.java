@@ -0,0 +1,59 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.codec;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link DoubleValueCodec}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DoubleValueCodecTest {
+
+    /**
+     * Test class constructor.
+     */
+    public DoubleValueCodecTest() {
+        super();
+    }
+
+    /**
+     * {@link DoubleValueCodec} class test.
+     */
+    @Test
+    public void getValueClassTest() {
+        Assertions.assertThat(new DoubleValueCodec().getValueClass()).isEqualTo(Double.class);
+    }
+
+    /**
+     * {@link DoubleValueCodec} class test.
+     */
+    @Test
+    public void encodeDecodeTest() {
+        DoubleValueCodec valueCodec = new DoubleValueCodec();
+        Assertions.assertThat(valueCodec.decode(valueCodec.encode(0.0))).isEqualTo(0.0);
+        Assertions.assertThat(valueCodec.decode(valueCodec.encode(-1.5))).isEqualTo(-1.5);
+        Assertions.assertThat(valueCodec.decode(valueCodec.encode(Double.MAX_VALUE))).isEqualTo(Double.MAX_VALUE);
+    }
+
+}
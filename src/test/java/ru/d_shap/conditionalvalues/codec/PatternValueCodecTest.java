@@ -0,0 +1,70 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.codec;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link PatternValueCodec}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class PatternValueCodecTest {
+
+    /**
+     * Test class constructor.
+     */
+    public PatternValueCodecTest() {
+        super();
+    }
+
+    /**
+     * {@link PatternValueCodec} class test.
+     */
+    @Test
+    public void getValueClassTest() {
+        Assertions.assertThat(new PatternValueCodec().getValueClass()).isEqualTo(Pattern.class);
+    }
+
+    /**
+     * {@link PatternValueCodec} class test.
+     */
+    @Test
+    public void encodeDecodeTest() {
+        PatternValueCodec valueCodec = new PatternValueCodec();
+        Pattern pattern1 = valueCodec.decode(valueCodec.encode(Pattern.compile("")));
+        Assertions.assertThat(pattern1.pattern()).isEqualTo("");
+        Assertions.assertThat(pattern1.flags()).isEqualTo(0);
+
+        Pattern pattern2 = valueCodec.decode(valueCodec.encode(Pattern.compile("a.*b\\d+")));
+        Assertions.assertThat(pattern2.pattern()).isEqualTo("a.*b\\d+");
+        Assertions.assertThat(pattern2.flags()).isEqualTo(0);
+        Assertions.assertThat(pattern2.matcher("axxb12").matches()).isTrue();
+
+        Pattern pattern3 = valueCodec.decode(valueCodec.encode(Pattern.compile("\u0437\u043d\u0430\u0447", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)));
+        Assertions.assertThat(pattern3.pattern()).isEqualTo("\u0437\u043d\u0430\u0447");
+        Assertions.assertThat(pattern3.flags()).isEqualTo(Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+}
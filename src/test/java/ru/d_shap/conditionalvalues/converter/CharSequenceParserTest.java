@@ -0,0 +1,152 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.converter;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link CharSequenceParser}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CharSequenceParserTest {
+
+    /**
+     * Test class constructor.
+     */
+    public CharSequenceParserTest() {
+        super();
+    }
+
+    /**
+     * {@link CharSequenceParser} class test.
+     */
+    @Test
+    public void parseLongTest() {
+        Assertions.assertThat(CharSequenceParser.parseLong("0", Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(0L);
+        Assertions.assertThat(CharSequenceParser.parseLong("-0", Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(0L);
+        Assertions.assertThat(CharSequenceParser.parseLong("+12", Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(12L);
+        Assertions.assertThat(CharSequenceParser.parseLong("-12", Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(-12L);
+        Assertions.assertThat(CharSequenceParser.parseLong("127", Byte.MIN_VALUE, Byte.MAX_VALUE)).isEqualTo(127L);
+        Assertions.assertThat(CharSequenceParser.parseLong("-128", Byte.MIN_VALUE, Byte.MAX_VALUE)).isEqualTo(-128L);
+        Assertions.assertThat(CharSequenceParser.parseLong("9223372036854775807", Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(Long.MAX_VALUE);
+        Assertions.assertThat(CharSequenceParser.parseLong("-9223372036854775808", Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(Long.MIN_VALUE);
+    }
+
+    /**
+     * {@link CharSequenceParser} class test.
+     */
+    @Test
+    public void parseLongWrongValueFailTest() {
+        try {
+            CharSequenceParser.parseLong("", Long.MIN_VALUE, Long.MAX_VALUE);
+            Assertions.fail("CharSequenceParser test fail");
+        } catch (NumberFormatException ex) {
+            Assertions.assertThat(ex).hasMessage("Empty number");
+        }
+        try {
+            CharSequenceParser.parseLong("-", Long.MIN_VALUE, Long.MAX_VALUE);
+            Assertions.fail("CharSequenceParser test fail");
+        } catch (NumberFormatException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong number: -");
+        }
+        try {
+            CharSequenceParser.parseLong("1 2", Long.MIN_VALUE, Long.MAX_VALUE);
+            Assertions.fail("CharSequenceParser test fail");
+        } catch (NumberFormatException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong number: 1 2");
+        }
+        try {
+            CharSequenceParser.parseLong("128", Byte.MIN_VALUE, Byte.MAX_VALUE);
+            Assertions.fail("CharSequenceParser test fail");
+        } catch (NumberFormatException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong number: 128");
+        }
+        try {
+            CharSequenceParser.parseLong("-129", Byte.MIN_VALUE, Byte.MAX_VALUE);
+            Assertions.fail("CharSequenceParser test fail");
+        } catch (NumberFormatException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong number: -129");
+        }
+        try {
+            CharSequenceParser.parseLong("1000", Byte.MIN_VALUE, Byte.MAX_VALUE);
+            Assertions.fail("CharSequenceParser test fail");
+        } catch (NumberFormatException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong number: 1000");
+        }
+        try {
+            CharSequenceParser.parseLong("9223372036854775808", Long.MIN_VALUE, Long.MAX_VALUE);
+            Assertions.fail("CharSequenceParser test fail");
+        } catch (NumberFormatException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong number: 9223372036854775808");
+        }
+        try {
+            CharSequenceParser.parseLong("-9223372036854775809", Long.MIN_VALUE, Long.MAX_VALUE);
+            Assertions.fail("CharSequenceParser test fail");
+        } catch (NumberFormatException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong number: -9223372036854775809");
+        }
+    }
+
+    /**
+     * {@link CharSequenceParser} class test.
+     */
+    @Test
+    public void parseBooleanTest() {
+        Assertions.assertThat(CharSequenceParser.parseBoolean("true")).isTrue();
+        Assertions.assertThat(CharSequenceParser.parseBoolean("True")).isTrue();
+        Assertions.assertThat(CharSequenceParser.parseBoolean("false")).isFalse();
+        Assertions.assertThat(CharSequenceParser.parseBoolean("FALSE")).isFalse();
+    }
+
+    /**
+     * {@link CharSequenceParser} class test.
+     */
+    @Test
+    public void parseBooleanWrongValueFailTest() {
+        try {
+            CharSequenceParser.parseBoolean("");
+            Assertions.fail("CharSequenceParser test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong boolean: ");
+        }
+        try {
+            CharSequenceParser.parseBoolean("tru");
+            Assertions.fail("CharSequenceParser test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong boolean: tru");
+        }
+        try {
+            CharSequenceParser.parseBoolean("truee");
+            Assertions.fail("CharSequenceParser test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong boolean: truee");
+        }
+        try {
+            CharSequenceParser.parseBoolean("yes");
+            Assertions.fail("CharSequenceParser test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong boolean: yes");
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.converter;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.conditionalvalues.ValueSet;
+import ru.d_shap.conditionalvalues.ValueSetBuilder;
+
+/**
+ * Tests for {@link IntegerConditionConverter}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class IntegerConditionConverterTest {
+
+    /**
+     * Test class constructor.
+     */
+    public IntegerConditionConverterTest() {
+        super();
+    }
+
+    /**
+     * {@link IntegerConditionConverter} class test.
+     */
+    @Test
+    public void addConditionTest() {
+        IntegerConditionConverter conditionConverter = new IntegerConditionConverter();
+        ValueSetBuilder<String> valueSetBuilder = ValueSetBuilder.newInstance();
+        conditionConverter.addCondition(valueSetBuilder, "cond", "1");
+        conditionConverter.addCondition(valueSetBuilder, "cond", "-2");
+        conditionConverter.addCondition(valueSetBuilder, "cond", "+3");
+        conditionConverter.addCondition(valueSetBuilder, "cond", "2147483647");
+        conditionConverter.addCondition(valueSetBuilder, "cond", "-2147483648");
+        ValueSet<String> valueSet = valueSetBuilder.build();
+        Assertions.assertThat(valueSet.getAllConditionValues("cond")).containsExactly(1, -2, 3, Integer.MAX_VALUE, Integer.MIN_VALUE);
+    }
+
+    /**
+     * {@link IntegerConditionConverter} class test.
+     */
+    @Test
+    public void addConditionWrongValueFailTest() {
+        try {
+            new IntegerConditionConverter().addCondition(ValueSetBuilder.<String>newInstance(), "cond", "2147483648");
+            Assertions.fail("IntegerConditionConverter test fail");
+        } catch (NumberFormatException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong number: 2147483648");
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.converter;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link StringValueConverter}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class StringValueConverterTest {
+
+    /**
+     * Test class constructor.
+     */
+    public StringValueConverterTest() {
+        super();
+    }
+
+    /**
+     * {@link StringValueConverter} class test.
+     */
+    @Test
+    public void convertTest() {
+        Assertions.assertThat(new StringValueConverter().convert("value")).isEqualTo("value");
+        Assertions.assertThat(new StringValueConverter().convert(new StringBuilder("value"))).isEqualTo("value");
+    }
+
+}
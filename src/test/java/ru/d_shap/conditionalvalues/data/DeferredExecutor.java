@@ -0,0 +1,67 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Executor to defer the tasks until they are run explicitly.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DeferredExecutor implements Executor {
+
+    private final List<Runnable> _commands;
+
+    /**
+     * Create new object.
+     */
+    public DeferredExecutor() {
+        super();
+        _commands = new ArrayList<>();
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        _commands.add(command);
+    }
+
+    /**
+     * Get the number of the deferred tasks.
+     *
+     * @return the number of the deferred tasks.
+     */
+    public int getDeferredCount() {
+        return _commands.size();
+    }
+
+    /**
+     * Run the deferred tasks in the calling thread.
+     */
+    public void runDeferred() {
+        for (Runnable command : _commands) {
+            command.run();
+        }
+        _commands.clear();
+    }
+
+}
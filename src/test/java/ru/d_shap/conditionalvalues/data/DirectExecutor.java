@@ -0,0 +1,56 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.data;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executor to run the task in the calling thread.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DirectExecutor implements Executor {
+
+    private int _executionCount;
+
+    /**
+     * Create new object.
+     */
+    public DirectExecutor() {
+        super();
+        _executionCount = 0;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        _executionCount++;
+        command.run();
+    }
+
+    /**
+     * Get the number of the executed tasks.
+     *
+     * @return the number of the executed tasks.
+     */
+    public int getExecutionCount() {
+        return _executionCount;
+    }
+
+}
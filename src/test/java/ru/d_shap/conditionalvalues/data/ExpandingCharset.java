@@ -0,0 +1,62 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.data;
+
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+
+/**
+ * ASCII charset with the expanding and the deferred characters. The '*' byte is decoded to two '*'
+ * characters, the '+' bytes are decoded to the '+' characters only when the decoder is flushed, and the
+ * '~' byte is not mappable.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ExpandingCharset extends Charset {
+
+    /**
+     * Create new object.
+     */
+    public ExpandingCharset() {
+        super("X-EXPANDING", new String[0]);
+    }
+
+    @Override
+    public boolean contains(final Charset charset) {
+        return charset instanceof ExpandingCharset;
+    }
+
+    @Override
+    public CharsetDecoder newDecoder() {
+        return new ExpandingCharsetDecoder(this);
+    }
+
+    @Override
+    public CharsetEncoder newEncoder() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean canEncode() {
+        return false;
+    }
+
+}
@@ -0,0 +1,89 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.data;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * Decoder of the {@link ru.d_shap.conditionalvalues.data.ExpandingCharset} charset.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ExpandingCharsetDecoder extends CharsetDecoder {
+
+    private int _deferredCount;
+
+    /**
+     * Create new object.
+     *
+     * @param charset the charset.
+     */
+    public ExpandingCharsetDecoder(final Charset charset) {
+        super(charset, 2.0f, 2.0f);
+        _deferredCount = 0;
+    }
+
+    @Override
+    protected CoderResult decodeLoop(final ByteBuffer in, final CharBuffer out) {
+        while (in.hasRemaining()) {
+            byte b = in.get(in.position());
+            if (b == '~') {
+                return CoderResult.unmappableForLength(1);
+            }
+            if (b == '*') {
+                if (out.remaining() < 2) {
+                    return CoderResult.OVERFLOW;
+                }
+                out.put('*').put('*');
+            } else if (b == '+') {
+                _deferredCount++;
+            } else {
+                if (!out.hasRemaining()) {
+                    return CoderResult.OVERFLOW;
+                }
+                out.put((char) b);
+            }
+            in.get();
+        }
+        return CoderResult.UNDERFLOW;
+    }
+
+    @Override
+    protected CoderResult implFlush(final CharBuffer out) {
+        while (_deferredCount > 0) {
+            if (!out.hasRemaining()) {
+                return CoderResult.OVERFLOW;
+            }
+            out.put('+');
+            _deferredCount--;
+        }
+        return CoderResult.UNDERFLOW;
+    }
+
+    @Override
+    protected void implReset() {
+        _deferredCount = 0;
+    }
+
+}
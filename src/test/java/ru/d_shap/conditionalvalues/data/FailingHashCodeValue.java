@@ -0,0 +1,73 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.data;
+
+/**
+ * Value, that fails to compute the hash code on demand.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class FailingHashCodeValue {
+
+    private final int _value;
+
+    private boolean _failing;
+
+    /**
+     * Create new object.
+     *
+     * @param value the value.
+     */
+    public FailingHashCodeValue(final int value) {
+        super();
+        _value = value;
+        _failing = false;
+    }
+
+    /**
+     * Define if the hash code computation fails.
+     *
+     * @param failing true if the hash code computation fails.
+     */
+    public void setFailing(final boolean failing) {
+        _failing = failing;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof FailingHashCodeValue) {
+            return _value == ((FailingHashCodeValue) obj)._value;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        if (_failing) {
+            throw new IllegalStateException("Hash code failed: " + _value);
+        }
+        return _value;
+    }
+
+}
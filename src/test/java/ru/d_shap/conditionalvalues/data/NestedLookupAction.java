@@ -0,0 +1,74 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ru.d_shap.conditionalvalues.Action;
+import ru.d_shap.conditionalvalues.ConditionSet;
+import ru.d_shap.conditionalvalues.ConditionalValues;
+
+/**
+ * Action to perform the nested lookup on the first value.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class NestedLookupAction implements Action<String> {
+
+    private final List<String> _values;
+
+    private final ConditionSet _conditionSet;
+
+    private ConditionalValues<String> _conditionalValues;
+
+    /**
+     * Create new object.
+     *
+     * @param conditionalValues the object to perform the nested lookup.
+     * @param conditionSet      the nested lookup conditions.
+     */
+    public NestedLookupAction(final ConditionalValues<String> conditionalValues, final ConditionSet conditionSet) {
+        super();
+        _values = new ArrayList<>();
+        _conditionSet = conditionSet;
+        _conditionalValues = conditionalValues;
+    }
+
+    @Override
+    public void perform(final String value) {
+        _values.add(value);
+        ConditionalValues<String> conditionalValues = _conditionalValues;
+        if (conditionalValues != null) {
+            _conditionalValues = null;
+            conditionalValues.performAction(_conditionSet, this);
+        }
+    }
+
+    /**
+     * Get the values.
+     *
+     * @return the values.
+     */
+    public List<String> getValues() {
+        return _values;
+    }
+
+}
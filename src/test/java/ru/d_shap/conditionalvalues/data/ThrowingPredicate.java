@@ -0,0 +1,53 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.data;
+
+import ru.d_shap.conditionalvalues.Predicate;
+
+/**
+ * Predicate to throw the specified exception, either checked or unchecked.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ThrowingPredicate implements Predicate {
+
+    private final Exception _exception;
+
+    /**
+     * Create new object.
+     *
+     * @param exception the exception to throw.
+     */
+    public ThrowingPredicate(final Exception exception) {
+        super();
+        _exception = exception;
+    }
+
+    @Override
+    public boolean evaluate(final String conditionName, final Object conditionSetValue, final Object valueSetValue) {
+        return ThrowingPredicate.<RuntimeException>throwException(_exception);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Exception> boolean throwException(final Exception exception) throws E {
+        throw (E) exception;
+    }
+
+}
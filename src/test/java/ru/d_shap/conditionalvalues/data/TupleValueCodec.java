@@ -0,0 +1,56 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Conditional values simplify conditional logic and get rid of if-statements in the code.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of conditional values.
+//
+// Conditional values is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Conditional values is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.conditionalvalues.data;
+
+import java.nio.ByteBuffer;
+
+import ru.d_shap.conditionalvalues.ValueCodec;
+
+/**
+ * Codec to store the {@link ru.d_shap.conditionalvalues.data.Tuple} values.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class TupleValueCodec implements ValueCodec<Tuple> {
+
+    /**
+     * Create new object.
+     */
+    public TupleValueCodec() {
+        super();
+    }
+
+    @Override
+    public Class<Tuple> getValueClass() {
+        return Tuple.class;
+    }
+
+    @Override
+    public byte[] encode(final Tuple value) {
+        return ByteBuffer.allocate(4 * Integer.SIZE / Byte.SIZE).putInt(value.getValue1()).putInt(value.getValue2()).putInt(value.getValue3()).putInt(value.getValue4()).array();
+    }
+
+    @Override
+    public Tuple decode(final byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new Tuple(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+    }
+
+}